@@ -0,0 +1,19 @@
+-- 지연 재처리 큐 테이블 생성 (복구 가능한 수집 실패의 (종목, 기간) 단위 저장)
+
+CREATE TABLE deferred_price_task (
+    id                 BIGINT       NOT NULL AUTO_INCREMENT,
+    watchlist_stock_id BIGINT       NOT NULL,
+    stock_code         VARCHAR(20)  NOT NULL,
+    task_type          VARCHAR(20)  NOT NULL,
+    start_date         DATE         NOT NULL,
+    end_date           DATE         NOT NULL,
+    status             VARCHAR(20)  NOT NULL,
+    attempts           INT          NOT NULL,
+    next_attempt_at    DATETIME(6)  NOT NULL,
+    last_error         VARCHAR(500) NULL,
+    created_at         DATETIME(6)  NOT NULL,
+    updated_at         DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_deferred_price_task_stock_type UNIQUE (watchlist_stock_id, task_type),
+    INDEX idx_deferred_price_task_status_next (status, next_attempt_at)
+);
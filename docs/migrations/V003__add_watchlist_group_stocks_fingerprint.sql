@@ -0,0 +1,4 @@
+-- WatchlistGroup 종목 목록 지문 컬럼 추가 (변경 없는 그룹 동기화 생략용)
+
+-- NULL = 아직 지문이 없는 그룹 → 다음 동기화에서 전체 diff 후 지문 저장
+ALTER TABLE watchlist_group ADD COLUMN stocks_fingerprint VARCHAR(64) NULL;
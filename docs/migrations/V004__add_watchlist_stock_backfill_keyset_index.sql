@@ -0,0 +1,4 @@
+-- WatchlistStock Keyset 페이징용 인덱스 (일간 수집/백필 순회)
+
+-- WHERE backfill_completed = ? AND id > ? ORDER BY id LIMIT ? → 인덱스 범위 스캔, filesort 없음
+CREATE INDEX idx_watchlist_stock_backfill_id ON watchlist_stock (backfill_completed, id);
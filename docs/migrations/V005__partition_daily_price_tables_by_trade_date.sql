@@ -0,0 +1,195 @@
+-- 일별 가격 테이블 trade_date 연 단위 RANGE 파티셔닝 (선택 적용)
+
+-- MySQL 파티션 테이블의 모든 UNIQUE 키(PK 포함)는 파티션 컬럼을 포함해야 함
+--   → PK를 (id, trade_date)로 변경. (코드, trade_date) UNIQUE 제약은 이미 trade_date 포함
+-- 파티션 구성: p_legacy(1990년 이전) + 연도별 p1990 ~ p2028 + p_max(MAXVALUE)
+--   → 미래 연도 파티션은 DailyPricePartitionService가 매월 p_max를 분할하여 2년 앞까지 미리 생성
+-- 주의: 테이블 전체를 재구성하므로 백필/일간 수집이 없는 시간에 실행
+
+-- domestic_stock_daily_price
+ALTER TABLE domestic_stock_daily_price DROP PRIMARY KEY, ADD PRIMARY KEY (id, trade_date);
+ALTER TABLE domestic_stock_daily_price
+    PARTITION BY RANGE COLUMNS (trade_date) (
+        PARTITION p_legacy VALUES LESS THAN ('1990-01-01'),
+        PARTITION p1990 VALUES LESS THAN ('1991-01-01'),
+        PARTITION p1991 VALUES LESS THAN ('1992-01-01'),
+        PARTITION p1992 VALUES LESS THAN ('1993-01-01'),
+        PARTITION p1993 VALUES LESS THAN ('1994-01-01'),
+        PARTITION p1994 VALUES LESS THAN ('1995-01-01'),
+        PARTITION p1995 VALUES LESS THAN ('1996-01-01'),
+        PARTITION p1996 VALUES LESS THAN ('1997-01-01'),
+        PARTITION p1997 VALUES LESS THAN ('1998-01-01'),
+        PARTITION p1998 VALUES LESS THAN ('1999-01-01'),
+        PARTITION p1999 VALUES LESS THAN ('2000-01-01'),
+        PARTITION p2000 VALUES LESS THAN ('2001-01-01'),
+        PARTITION p2001 VALUES LESS THAN ('2002-01-01'),
+        PARTITION p2002 VALUES LESS THAN ('2003-01-01'),
+        PARTITION p2003 VALUES LESS THAN ('2004-01-01'),
+        PARTITION p2004 VALUES LESS THAN ('2005-01-01'),
+        PARTITION p2005 VALUES LESS THAN ('2006-01-01'),
+        PARTITION p2006 VALUES LESS THAN ('2007-01-01'),
+        PARTITION p2007 VALUES LESS THAN ('2008-01-01'),
+        PARTITION p2008 VALUES LESS THAN ('2009-01-01'),
+        PARTITION p2009 VALUES LESS THAN ('2010-01-01'),
+        PARTITION p2010 VALUES LESS THAN ('2011-01-01'),
+        PARTITION p2011 VALUES LESS THAN ('2012-01-01'),
+        PARTITION p2012 VALUES LESS THAN ('2013-01-01'),
+        PARTITION p2013 VALUES LESS THAN ('2014-01-01'),
+        PARTITION p2014 VALUES LESS THAN ('2015-01-01'),
+        PARTITION p2015 VALUES LESS THAN ('2016-01-01'),
+        PARTITION p2016 VALUES LESS THAN ('2017-01-01'),
+        PARTITION p2017 VALUES LESS THAN ('2018-01-01'),
+        PARTITION p2018 VALUES LESS THAN ('2019-01-01'),
+        PARTITION p2019 VALUES LESS THAN ('2020-01-01'),
+        PARTITION p2020 VALUES LESS THAN ('2021-01-01'),
+        PARTITION p2021 VALUES LESS THAN ('2022-01-01'),
+        PARTITION p2022 VALUES LESS THAN ('2023-01-01'),
+        PARTITION p2023 VALUES LESS THAN ('2024-01-01'),
+        PARTITION p2024 VALUES LESS THAN ('2025-01-01'),
+        PARTITION p2025 VALUES LESS THAN ('2026-01-01'),
+        PARTITION p2026 VALUES LESS THAN ('2027-01-01'),
+        PARTITION p2027 VALUES LESS THAN ('2028-01-01'),
+        PARTITION p2028 VALUES LESS THAN ('2029-01-01'),
+        PARTITION p_max VALUES LESS THAN (MAXVALUE)
+    );
+
+-- domestic_index_daily_price
+ALTER TABLE domestic_index_daily_price DROP PRIMARY KEY, ADD PRIMARY KEY (id, trade_date);
+ALTER TABLE domestic_index_daily_price
+    PARTITION BY RANGE COLUMNS (trade_date) (
+        PARTITION p_legacy VALUES LESS THAN ('1990-01-01'),
+        PARTITION p1990 VALUES LESS THAN ('1991-01-01'),
+        PARTITION p1991 VALUES LESS THAN ('1992-01-01'),
+        PARTITION p1992 VALUES LESS THAN ('1993-01-01'),
+        PARTITION p1993 VALUES LESS THAN ('1994-01-01'),
+        PARTITION p1994 VALUES LESS THAN ('1995-01-01'),
+        PARTITION p1995 VALUES LESS THAN ('1996-01-01'),
+        PARTITION p1996 VALUES LESS THAN ('1997-01-01'),
+        PARTITION p1997 VALUES LESS THAN ('1998-01-01'),
+        PARTITION p1998 VALUES LESS THAN ('1999-01-01'),
+        PARTITION p1999 VALUES LESS THAN ('2000-01-01'),
+        PARTITION p2000 VALUES LESS THAN ('2001-01-01'),
+        PARTITION p2001 VALUES LESS THAN ('2002-01-01'),
+        PARTITION p2002 VALUES LESS THAN ('2003-01-01'),
+        PARTITION p2003 VALUES LESS THAN ('2004-01-01'),
+        PARTITION p2004 VALUES LESS THAN ('2005-01-01'),
+        PARTITION p2005 VALUES LESS THAN ('2006-01-01'),
+        PARTITION p2006 VALUES LESS THAN ('2007-01-01'),
+        PARTITION p2007 VALUES LESS THAN ('2008-01-01'),
+        PARTITION p2008 VALUES LESS THAN ('2009-01-01'),
+        PARTITION p2009 VALUES LESS THAN ('2010-01-01'),
+        PARTITION p2010 VALUES LESS THAN ('2011-01-01'),
+        PARTITION p2011 VALUES LESS THAN ('2012-01-01'),
+        PARTITION p2012 VALUES LESS THAN ('2013-01-01'),
+        PARTITION p2013 VALUES LESS THAN ('2014-01-01'),
+        PARTITION p2014 VALUES LESS THAN ('2015-01-01'),
+        PARTITION p2015 VALUES LESS THAN ('2016-01-01'),
+        PARTITION p2016 VALUES LESS THAN ('2017-01-01'),
+        PARTITION p2017 VALUES LESS THAN ('2018-01-01'),
+        PARTITION p2018 VALUES LESS THAN ('2019-01-01'),
+        PARTITION p2019 VALUES LESS THAN ('2020-01-01'),
+        PARTITION p2020 VALUES LESS THAN ('2021-01-01'),
+        PARTITION p2021 VALUES LESS THAN ('2022-01-01'),
+        PARTITION p2022 VALUES LESS THAN ('2023-01-01'),
+        PARTITION p2023 VALUES LESS THAN ('2024-01-01'),
+        PARTITION p2024 VALUES LESS THAN ('2025-01-01'),
+        PARTITION p2025 VALUES LESS THAN ('2026-01-01'),
+        PARTITION p2026 VALUES LESS THAN ('2027-01-01'),
+        PARTITION p2027 VALUES LESS THAN ('2028-01-01'),
+        PARTITION p2028 VALUES LESS THAN ('2029-01-01'),
+        PARTITION p_max VALUES LESS THAN (MAXVALUE)
+    );
+
+-- overseas_stock_daily_price
+ALTER TABLE overseas_stock_daily_price DROP PRIMARY KEY, ADD PRIMARY KEY (id, trade_date);
+ALTER TABLE overseas_stock_daily_price
+    PARTITION BY RANGE COLUMNS (trade_date) (
+        PARTITION p_legacy VALUES LESS THAN ('1990-01-01'),
+        PARTITION p1990 VALUES LESS THAN ('1991-01-01'),
+        PARTITION p1991 VALUES LESS THAN ('1992-01-01'),
+        PARTITION p1992 VALUES LESS THAN ('1993-01-01'),
+        PARTITION p1993 VALUES LESS THAN ('1994-01-01'),
+        PARTITION p1994 VALUES LESS THAN ('1995-01-01'),
+        PARTITION p1995 VALUES LESS THAN ('1996-01-01'),
+        PARTITION p1996 VALUES LESS THAN ('1997-01-01'),
+        PARTITION p1997 VALUES LESS THAN ('1998-01-01'),
+        PARTITION p1998 VALUES LESS THAN ('1999-01-01'),
+        PARTITION p1999 VALUES LESS THAN ('2000-01-01'),
+        PARTITION p2000 VALUES LESS THAN ('2001-01-01'),
+        PARTITION p2001 VALUES LESS THAN ('2002-01-01'),
+        PARTITION p2002 VALUES LESS THAN ('2003-01-01'),
+        PARTITION p2003 VALUES LESS THAN ('2004-01-01'),
+        PARTITION p2004 VALUES LESS THAN ('2005-01-01'),
+        PARTITION p2005 VALUES LESS THAN ('2006-01-01'),
+        PARTITION p2006 VALUES LESS THAN ('2007-01-01'),
+        PARTITION p2007 VALUES LESS THAN ('2008-01-01'),
+        PARTITION p2008 VALUES LESS THAN ('2009-01-01'),
+        PARTITION p2009 VALUES LESS THAN ('2010-01-01'),
+        PARTITION p2010 VALUES LESS THAN ('2011-01-01'),
+        PARTITION p2011 VALUES LESS THAN ('2012-01-01'),
+        PARTITION p2012 VALUES LESS THAN ('2013-01-01'),
+        PARTITION p2013 VALUES LESS THAN ('2014-01-01'),
+        PARTITION p2014 VALUES LESS THAN ('2015-01-01'),
+        PARTITION p2015 VALUES LESS THAN ('2016-01-01'),
+        PARTITION p2016 VALUES LESS THAN ('2017-01-01'),
+        PARTITION p2017 VALUES LESS THAN ('2018-01-01'),
+        PARTITION p2018 VALUES LESS THAN ('2019-01-01'),
+        PARTITION p2019 VALUES LESS THAN ('2020-01-01'),
+        PARTITION p2020 VALUES LESS THAN ('2021-01-01'),
+        PARTITION p2021 VALUES LESS THAN ('2022-01-01'),
+        PARTITION p2022 VALUES LESS THAN ('2023-01-01'),
+        PARTITION p2023 VALUES LESS THAN ('2024-01-01'),
+        PARTITION p2024 VALUES LESS THAN ('2025-01-01'),
+        PARTITION p2025 VALUES LESS THAN ('2026-01-01'),
+        PARTITION p2026 VALUES LESS THAN ('2027-01-01'),
+        PARTITION p2027 VALUES LESS THAN ('2028-01-01'),
+        PARTITION p2028 VALUES LESS THAN ('2029-01-01'),
+        PARTITION p_max VALUES LESS THAN (MAXVALUE)
+    );
+
+-- overseas_index_daily_price
+ALTER TABLE overseas_index_daily_price DROP PRIMARY KEY, ADD PRIMARY KEY (id, trade_date);
+ALTER TABLE overseas_index_daily_price
+    PARTITION BY RANGE COLUMNS (trade_date) (
+        PARTITION p_legacy VALUES LESS THAN ('1990-01-01'),
+        PARTITION p1990 VALUES LESS THAN ('1991-01-01'),
+        PARTITION p1991 VALUES LESS THAN ('1992-01-01'),
+        PARTITION p1992 VALUES LESS THAN ('1993-01-01'),
+        PARTITION p1993 VALUES LESS THAN ('1994-01-01'),
+        PARTITION p1994 VALUES LESS THAN ('1995-01-01'),
+        PARTITION p1995 VALUES LESS THAN ('1996-01-01'),
+        PARTITION p1996 VALUES LESS THAN ('1997-01-01'),
+        PARTITION p1997 VALUES LESS THAN ('1998-01-01'),
+        PARTITION p1998 VALUES LESS THAN ('1999-01-01'),
+        PARTITION p1999 VALUES LESS THAN ('2000-01-01'),
+        PARTITION p2000 VALUES LESS THAN ('2001-01-01'),
+        PARTITION p2001 VALUES LESS THAN ('2002-01-01'),
+        PARTITION p2002 VALUES LESS THAN ('2003-01-01'),
+        PARTITION p2003 VALUES LESS THAN ('2004-01-01'),
+        PARTITION p2004 VALUES LESS THAN ('2005-01-01'),
+        PARTITION p2005 VALUES LESS THAN ('2006-01-01'),
+        PARTITION p2006 VALUES LESS THAN ('2007-01-01'),
+        PARTITION p2007 VALUES LESS THAN ('2008-01-01'),
+        PARTITION p2008 VALUES LESS THAN ('2009-01-01'),
+        PARTITION p2009 VALUES LESS THAN ('2010-01-01'),
+        PARTITION p2010 VALUES LESS THAN ('2011-01-01'),
+        PARTITION p2011 VALUES LESS THAN ('2012-01-01'),
+        PARTITION p2012 VALUES LESS THAN ('2013-01-01'),
+        PARTITION p2013 VALUES LESS THAN ('2014-01-01'),
+        PARTITION p2014 VALUES LESS THAN ('2015-01-01'),
+        PARTITION p2015 VALUES LESS THAN ('2016-01-01'),
+        PARTITION p2016 VALUES LESS THAN ('2017-01-01'),
+        PARTITION p2017 VALUES LESS THAN ('2018-01-01'),
+        PARTITION p2018 VALUES LESS THAN ('2019-01-01'),
+        PARTITION p2019 VALUES LESS THAN ('2020-01-01'),
+        PARTITION p2020 VALUES LESS THAN ('2021-01-01'),
+        PARTITION p2021 VALUES LESS THAN ('2022-01-01'),
+        PARTITION p2022 VALUES LESS THAN ('2023-01-01'),
+        PARTITION p2023 VALUES LESS THAN ('2024-01-01'),
+        PARTITION p2024 VALUES LESS THAN ('2025-01-01'),
+        PARTITION p2025 VALUES LESS THAN ('2026-01-01'),
+        PARTITION p2026 VALUES LESS THAN ('2027-01-01'),
+        PARTITION p2027 VALUES LESS THAN ('2028-01-01'),
+        PARTITION p2028 VALUES LESS THAN ('2029-01-01'),
+        PARTITION p_max VALUES LESS THAN (MAXVALUE)
+    );
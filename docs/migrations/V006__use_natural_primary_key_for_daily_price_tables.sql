@@ -0,0 +1,66 @@
+-- 일별 가격 테이블 PK를 대리 키(id)에서 자연 키(코드[, 거래소], trade_date)로 변경
+
+-- InnoDB 클러스터드 인덱스 = PK → 종목별 기간 조회가 PK 범위 스캔, 보조 인덱스 → PK 재조회(bookmark lookup) 제거
+-- 기존 (코드, trade_date) UNIQUE 제약과 (코드, trade_date DESC) 인덱스는 PK와 중복되므로 삭제
+-- V005(파티셔닝) 적용 여부와 무관하게 적용 가능 (새 PK도 trade_date 포함)
+-- 주의: 테이블 전체를 재구성하므로 백필/일간 수집이 없는 시간에 실행
+
+-- domestic_stock_daily_price
+-- UNIQUE 제약 이름은 Hibernate가 생성하므로 information_schema에서 조회하여 삭제
+SET @uk_name = (SELECT INDEX_NAME FROM information_schema.STATISTICS
+                 WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'domestic_stock_daily_price'
+                   AND NON_UNIQUE = 0 AND INDEX_NAME <> 'PRIMARY' LIMIT 1);
+SET @ddl = IF(@uk_name IS NULL, 'DO 0', CONCAT('ALTER TABLE domestic_stock_daily_price DROP INDEX ', @uk_name));
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+ALTER TABLE domestic_stock_daily_price
+    DROP PRIMARY KEY,
+    DROP COLUMN id,
+    ADD PRIMARY KEY (stock_code, trade_date),
+    DROP INDEX idx_domestic_stock_daily_price_code_date;
+
+-- domestic_index_daily_price
+-- UNIQUE 제약 이름은 Hibernate가 생성하므로 information_schema에서 조회하여 삭제
+SET @uk_name = (SELECT INDEX_NAME FROM information_schema.STATISTICS
+                 WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'domestic_index_daily_price'
+                   AND NON_UNIQUE = 0 AND INDEX_NAME <> 'PRIMARY' LIMIT 1);
+SET @ddl = IF(@uk_name IS NULL, 'DO 0', CONCAT('ALTER TABLE domestic_index_daily_price DROP INDEX ', @uk_name));
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+ALTER TABLE domestic_index_daily_price
+    DROP PRIMARY KEY,
+    DROP COLUMN id,
+    ADD PRIMARY KEY (index_code, trade_date),
+    DROP INDEX idx_domestic_index_daily_price_code_date;
+
+-- overseas_stock_daily_price
+-- UNIQUE 제약 이름은 Hibernate가 생성하므로 information_schema에서 조회하여 삭제
+SET @uk_name = (SELECT INDEX_NAME FROM information_schema.STATISTICS
+                 WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'overseas_stock_daily_price'
+                   AND NON_UNIQUE = 0 AND INDEX_NAME <> 'PRIMARY' LIMIT 1);
+SET @ddl = IF(@uk_name IS NULL, 'DO 0', CONCAT('ALTER TABLE overseas_stock_daily_price DROP INDEX ', @uk_name));
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+ALTER TABLE overseas_stock_daily_price
+    DROP PRIMARY KEY,
+    DROP COLUMN id,
+    ADD PRIMARY KEY (stock_code, exchange_code, trade_date),
+    DROP INDEX idx_overseas_stock_daily_price_code_date;
+
+-- overseas_index_daily_price
+-- UNIQUE 제약 이름은 Hibernate가 생성하므로 information_schema에서 조회하여 삭제
+SET @uk_name = (SELECT INDEX_NAME FROM information_schema.STATISTICS
+                 WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'overseas_index_daily_price'
+                   AND NON_UNIQUE = 0 AND INDEX_NAME <> 'PRIMARY' LIMIT 1);
+SET @ddl = IF(@uk_name IS NULL, 'DO 0', CONCAT('ALTER TABLE overseas_index_daily_price DROP INDEX ', @uk_name));
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+ALTER TABLE overseas_index_daily_price
+    DROP PRIMARY KEY,
+    DROP COLUMN id,
+    ADD PRIMARY KEY (index_code, exchange_code, trade_date),
+    DROP INDEX idx_overseas_index_daily_price_code_date;
@@ -0,0 +1,95 @@
+-- 종목 차원 테이블(instrument) 생성 및 일별 가격 테이블 키를 (instrument_id, trade_date)로 변경
+
+-- 가격 테이블은 코드 문자열(VARCHAR 20 + 거래소 VARCHAR 10) 대신 INT instrument_id를 키로 사용 → PK/행 크기 감소
+-- asset_type/market_code는 AssetType/MarketCode의 정수 코드 (AssetTypeConverter/MarketCodeConverter와 동일)
+-- 파티션 테이블(V005)은 외래 키를 지원하지 않으므로 instrument_id에 FK를 두지 않음 (InstrumentRegistry가 등록 보장)
+-- 주의: 테이블 전체를 재구성하므로 백필/일간 수집이 없는 시간에 실행 (V006 이후 적용)
+
+CREATE TABLE instrument (
+    id          INT          NOT NULL AUTO_INCREMENT,
+    asset_type  INT          NOT NULL,
+    market_code INT          NOT NULL,
+    code        VARCHAR(20)  NOT NULL,
+    created_at  DATETIME(6)  NOT NULL,
+    updated_at  DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_instrument_asset_market_code UNIQUE (asset_type, market_code, code)
+);
+
+-- Step 1: 기존 가격 데이터의 종목 등록 (국내 = KRX(1))
+INSERT IGNORE INTO instrument (asset_type, market_code, code, created_at, updated_at)
+SELECT DISTINCT 1, 1, stock_code, NOW(6), NOW(6) FROM domestic_stock_daily_price;
+
+INSERT IGNORE INTO instrument (asset_type, market_code, code, created_at, updated_at)
+SELECT DISTINCT 2, 1, index_code, NOW(6), NOW(6) FROM domestic_index_daily_price;
+
+INSERT IGNORE INTO instrument (asset_type, market_code, code, created_at, updated_at)
+SELECT DISTINCT 3,
+       CASE exchange_code
+           WHEN 'NYS' THEN 10 WHEN 'NAS' THEN 11 WHEN 'AMS' THEN 12 WHEN 'TSE' THEN 13 WHEN 'HKS' THEN 14
+           WHEN 'SHS' THEN 15 WHEN 'SZS' THEN 16 WHEN 'HSX' THEN 17 WHEN 'HNX' THEN 18 END,
+       stock_code, NOW(6), NOW(6)
+  FROM overseas_stock_daily_price;
+
+INSERT IGNORE INTO instrument (asset_type, market_code, code, created_at, updated_at)
+SELECT DISTINCT 4,
+       CASE exchange_code
+           WHEN 'NYS' THEN 10 WHEN 'NAS' THEN 11 WHEN 'AMS' THEN 12 WHEN 'TSE' THEN 13 WHEN 'HKS' THEN 14
+           WHEN 'SHS' THEN 15 WHEN 'SZS' THEN 16 WHEN 'HSX' THEN 17 WHEN 'HNX' THEN 18 END,
+       index_code, NOW(6), NOW(6)
+  FROM overseas_index_daily_price;
+
+-- Step 2: instrument_id 컬럼 추가 및 채우기
+ALTER TABLE domestic_stock_daily_price ADD COLUMN instrument_id INT NULL FIRST;
+UPDATE domestic_stock_daily_price p
+  JOIN instrument i ON i.asset_type = 1 AND i.market_code = 1 AND i.code = p.stock_code
+   SET p.instrument_id = i.id;
+
+ALTER TABLE domestic_index_daily_price ADD COLUMN instrument_id INT NULL FIRST;
+UPDATE domestic_index_daily_price p
+  JOIN instrument i ON i.asset_type = 2 AND i.market_code = 1 AND i.code = p.index_code
+   SET p.instrument_id = i.id;
+
+ALTER TABLE overseas_stock_daily_price ADD COLUMN instrument_id INT NULL FIRST;
+UPDATE overseas_stock_daily_price p
+  JOIN instrument i ON i.asset_type = 3 AND i.code = p.stock_code
+   AND i.market_code = CASE p.exchange_code
+           WHEN 'NYS' THEN 10 WHEN 'NAS' THEN 11 WHEN 'AMS' THEN 12 WHEN 'TSE' THEN 13 WHEN 'HKS' THEN 14
+           WHEN 'SHS' THEN 15 WHEN 'SZS' THEN 16 WHEN 'HSX' THEN 17 WHEN 'HNX' THEN 18 END
+   SET p.instrument_id = i.id;
+
+ALTER TABLE overseas_index_daily_price ADD COLUMN instrument_id INT NULL FIRST;
+UPDATE overseas_index_daily_price p
+  JOIN instrument i ON i.asset_type = 4 AND i.code = p.index_code
+   AND i.market_code = CASE p.exchange_code
+           WHEN 'NYS' THEN 10 WHEN 'NAS' THEN 11 WHEN 'AMS' THEN 12 WHEN 'TSE' THEN 13 WHEN 'HKS' THEN 14
+           WHEN 'SHS' THEN 15 WHEN 'SZS' THEN 16 WHEN 'HSX' THEN 17 WHEN 'HNX' THEN 18 END
+   SET p.instrument_id = i.id;
+
+-- Step 3: PK 교체 및 코드 컬럼 삭제
+-- 알 수 없는 거래소 코드로 instrument_id가 NULL인 행이 있으면 NOT NULL 변경이 실패하므로 먼저 확인
+ALTER TABLE domestic_stock_daily_price
+    MODIFY COLUMN instrument_id INT NOT NULL,
+    DROP PRIMARY KEY,
+    DROP COLUMN stock_code,
+    ADD PRIMARY KEY (instrument_id, trade_date);
+
+ALTER TABLE domestic_index_daily_price
+    MODIFY COLUMN instrument_id INT NOT NULL,
+    DROP PRIMARY KEY,
+    DROP COLUMN index_code,
+    ADD PRIMARY KEY (instrument_id, trade_date);
+
+ALTER TABLE overseas_stock_daily_price
+    MODIFY COLUMN instrument_id INT NOT NULL,
+    DROP PRIMARY KEY,
+    DROP COLUMN stock_code,
+    DROP COLUMN exchange_code,
+    ADD PRIMARY KEY (instrument_id, trade_date);
+
+ALTER TABLE overseas_index_daily_price
+    MODIFY COLUMN instrument_id INT NOT NULL,
+    DROP PRIMARY KEY,
+    DROP COLUMN index_code,
+    DROP COLUMN exchange_code,
+    ADD PRIMARY KEY (instrument_id, trade_date);
@@ -0,0 +1,201 @@
+-- 주/월 OHLCV 롤업 테이블 생성 및 기존 일별 가격으로 초기 적재 (ADR-0032)
+
+-- 이후에는 PriceRollupService가 저장 경로에서 증분 갱신하고, 백필 종료 시 종목 단위로 재구성
+-- period_type: 'WEEK'(월요일 시작) / 'MONTH'(1일 시작), RollupPeriod enum 이름
+-- first/last_trade_date: 기간 안 첫/마지막 거래일 (증분 병합 시 시가/종가 교체 기준)
+-- 가격 소수 자릿수는 국내(2)/해외(4)를 모두 담도록 4자리
+-- 주의: 초기 적재는 일별 테이블 전체를 읽으므로 백필/일간 수집이 없는 시간에 실행 (V007 이후 적용)
+
+CREATE TABLE domestic_stock_price_rollup (
+    instrument_id    INT            NOT NULL,
+    period_type      VARCHAR(5)     NOT NULL,
+    period_start     DATE           NOT NULL,
+    first_trade_date DATE           NOT NULL,
+    last_trade_date  DATE           NOT NULL,
+    open_price       DECIMAL(15, 4) NOT NULL,
+    high_price       DECIMAL(15, 4) NOT NULL,
+    low_price        DECIMAL(15, 4) NOT NULL,
+    close_price      DECIMAL(15, 4) NOT NULL,
+    volume           BIGINT         NOT NULL,
+    trading_value    DECIMAL(22, 4) NULL,
+    trade_days       INT            NOT NULL,
+    created_at       DATETIME(6)    NOT NULL,
+    updated_at       DATETIME(6)    NOT NULL,
+    PRIMARY KEY (instrument_id, period_type, period_start)
+);
+
+CREATE TABLE domestic_index_price_rollup (
+    instrument_id    INT            NOT NULL,
+    period_type      VARCHAR(5)     NOT NULL,
+    period_start     DATE           NOT NULL,
+    first_trade_date DATE           NOT NULL,
+    last_trade_date  DATE           NOT NULL,
+    open_price       DECIMAL(15, 4) NOT NULL,
+    high_price       DECIMAL(15, 4) NOT NULL,
+    low_price        DECIMAL(15, 4) NOT NULL,
+    close_price      DECIMAL(15, 4) NOT NULL,
+    volume           BIGINT         NOT NULL,
+    trading_value    DECIMAL(22, 4) NULL,
+    trade_days       INT            NOT NULL,
+    created_at       DATETIME(6)    NOT NULL,
+    updated_at       DATETIME(6)    NOT NULL,
+    PRIMARY KEY (instrument_id, period_type, period_start)
+);
+
+CREATE TABLE overseas_stock_price_rollup (
+    instrument_id    INT            NOT NULL,
+    period_type      VARCHAR(5)     NOT NULL,
+    period_start     DATE           NOT NULL,
+    first_trade_date DATE           NOT NULL,
+    last_trade_date  DATE           NOT NULL,
+    open_price       DECIMAL(15, 4) NOT NULL,
+    high_price       DECIMAL(15, 4) NOT NULL,
+    low_price        DECIMAL(15, 4) NOT NULL,
+    close_price      DECIMAL(15, 4) NOT NULL,
+    volume           BIGINT         NOT NULL,
+    trading_value    DECIMAL(22, 4) NULL,
+    trade_days       INT            NOT NULL,
+    created_at       DATETIME(6)    NOT NULL,
+    updated_at       DATETIME(6)    NOT NULL,
+    PRIMARY KEY (instrument_id, period_type, period_start)
+);
+
+CREATE TABLE overseas_index_price_rollup (
+    instrument_id    INT            NOT NULL,
+    period_type      VARCHAR(5)     NOT NULL,
+    period_start     DATE           NOT NULL,
+    first_trade_date DATE           NOT NULL,
+    last_trade_date  DATE           NOT NULL,
+    open_price       DECIMAL(15, 4) NOT NULL,
+    high_price       DECIMAL(15, 4) NOT NULL,
+    low_price        DECIMAL(15, 4) NOT NULL,
+    close_price      DECIMAL(15, 4) NOT NULL,
+    volume           BIGINT         NOT NULL,
+    trading_value    DECIMAL(22, 4) NULL,
+    trade_days       INT            NOT NULL,
+    created_at       DATETIME(6)    NOT NULL,
+    updated_at       DATETIME(6)    NOT NULL,
+    PRIMARY KEY (instrument_id, period_type, period_start)
+);
+
+-- 초기 적재: 기간별 첫 거래일의 시가, 마지막 거래일의 종가 (ROW_NUMBER로 선택)
+
+INSERT INTO domestic_stock_price_rollup
+SELECT instrument_id, 'WEEK', period_start, MIN(trade_date), MAX(trade_date),
+       MAX(CASE WHEN first_rank = 1 THEN open_price END), MAX(high_price), MIN(low_price),
+       MAX(CASE WHEN last_rank = 1 THEN close_price END), SUM(volume), SUM(trading_value), COUNT(*),
+       NOW(6), NOW(6)
+  FROM (SELECT p.*,
+               ROW_NUMBER() OVER w_asc AS first_rank,
+               ROW_NUMBER() OVER w_desc AS last_rank
+          FROM (SELECT instrument_id, trade_date, open_price, high_price, low_price, close_price, volume, trading_value,
+                       DATE_SUB(trade_date, INTERVAL WEEKDAY(trade_date) DAY) AS period_start
+                  FROM domestic_stock_daily_price) p
+        WINDOW w_asc AS (PARTITION BY instrument_id, period_start ORDER BY trade_date),
+               w_desc AS (PARTITION BY instrument_id, period_start ORDER BY trade_date DESC)) ranked
+ GROUP BY instrument_id, period_start;
+
+INSERT INTO domestic_stock_price_rollup
+SELECT instrument_id, 'MONTH', period_start, MIN(trade_date), MAX(trade_date),
+       MAX(CASE WHEN first_rank = 1 THEN open_price END), MAX(high_price), MIN(low_price),
+       MAX(CASE WHEN last_rank = 1 THEN close_price END), SUM(volume), SUM(trading_value), COUNT(*),
+       NOW(6), NOW(6)
+  FROM (SELECT p.*,
+               ROW_NUMBER() OVER w_asc AS first_rank,
+               ROW_NUMBER() OVER w_desc AS last_rank
+          FROM (SELECT instrument_id, trade_date, open_price, high_price, low_price, close_price, volume, trading_value,
+                       DATE_SUB(trade_date, INTERVAL DAYOFMONTH(trade_date) - 1 DAY) AS period_start
+                  FROM domestic_stock_daily_price) p
+        WINDOW w_asc AS (PARTITION BY instrument_id, period_start ORDER BY trade_date),
+               w_desc AS (PARTITION BY instrument_id, period_start ORDER BY trade_date DESC)) ranked
+ GROUP BY instrument_id, period_start;
+
+INSERT INTO domestic_index_price_rollup
+SELECT instrument_id, 'WEEK', period_start, MIN(trade_date), MAX(trade_date),
+       MAX(CASE WHEN first_rank = 1 THEN open_price END), MAX(high_price), MIN(low_price),
+       MAX(CASE WHEN last_rank = 1 THEN close_price END), SUM(volume), SUM(trading_value), COUNT(*),
+       NOW(6), NOW(6)
+  FROM (SELECT p.*,
+               ROW_NUMBER() OVER w_asc AS first_rank,
+               ROW_NUMBER() OVER w_desc AS last_rank
+          FROM (SELECT instrument_id, trade_date, open_price, high_price, low_price, close_price, volume, trading_value,
+                       DATE_SUB(trade_date, INTERVAL WEEKDAY(trade_date) DAY) AS period_start
+                  FROM domestic_index_daily_price) p
+        WINDOW w_asc AS (PARTITION BY instrument_id, period_start ORDER BY trade_date),
+               w_desc AS (PARTITION BY instrument_id, period_start ORDER BY trade_date DESC)) ranked
+ GROUP BY instrument_id, period_start;
+
+INSERT INTO domestic_index_price_rollup
+SELECT instrument_id, 'MONTH', period_start, MIN(trade_date), MAX(trade_date),
+       MAX(CASE WHEN first_rank = 1 THEN open_price END), MAX(high_price), MIN(low_price),
+       MAX(CASE WHEN last_rank = 1 THEN close_price END), SUM(volume), SUM(trading_value), COUNT(*),
+       NOW(6), NOW(6)
+  FROM (SELECT p.*,
+               ROW_NUMBER() OVER w_asc AS first_rank,
+               ROW_NUMBER() OVER w_desc AS last_rank
+          FROM (SELECT instrument_id, trade_date, open_price, high_price, low_price, close_price, volume, trading_value,
+                       DATE_SUB(trade_date, INTERVAL DAYOFMONTH(trade_date) - 1 DAY) AS period_start
+                  FROM domestic_index_daily_price) p
+        WINDOW w_asc AS (PARTITION BY instrument_id, period_start ORDER BY trade_date),
+               w_desc AS (PARTITION BY instrument_id, period_start ORDER BY trade_date DESC)) ranked
+ GROUP BY instrument_id, period_start;
+
+INSERT INTO overseas_stock_price_rollup
+SELECT instrument_id, 'WEEK', period_start, MIN(trade_date), MAX(trade_date),
+       MAX(CASE WHEN first_rank = 1 THEN open_price END), MAX(high_price), MIN(low_price),
+       MAX(CASE WHEN last_rank = 1 THEN close_price END), SUM(volume), SUM(trading_value), COUNT(*),
+       NOW(6), NOW(6)
+  FROM (SELECT p.*,
+               ROW_NUMBER() OVER w_asc AS first_rank,
+               ROW_NUMBER() OVER w_desc AS last_rank
+          FROM (SELECT instrument_id, trade_date, open_price, high_price, low_price, close_price, volume, trading_value,
+                       DATE_SUB(trade_date, INTERVAL WEEKDAY(trade_date) DAY) AS period_start
+                  FROM overseas_stock_daily_price) p
+        WINDOW w_asc AS (PARTITION BY instrument_id, period_start ORDER BY trade_date),
+               w_desc AS (PARTITION BY instrument_id, period_start ORDER BY trade_date DESC)) ranked
+ GROUP BY instrument_id, period_start;
+
+INSERT INTO overseas_stock_price_rollup
+SELECT instrument_id, 'MONTH', period_start, MIN(trade_date), MAX(trade_date),
+       MAX(CASE WHEN first_rank = 1 THEN open_price END), MAX(high_price), MIN(low_price),
+       MAX(CASE WHEN last_rank = 1 THEN close_price END), SUM(volume), SUM(trading_value), COUNT(*),
+       NOW(6), NOW(6)
+  FROM (SELECT p.*,
+               ROW_NUMBER() OVER w_asc AS first_rank,
+               ROW_NUMBER() OVER w_desc AS last_rank
+          FROM (SELECT instrument_id, trade_date, open_price, high_price, low_price, close_price, volume, trading_value,
+                       DATE_SUB(trade_date, INTERVAL DAYOFMONTH(trade_date) - 1 DAY) AS period_start
+                  FROM overseas_stock_daily_price) p
+        WINDOW w_asc AS (PARTITION BY instrument_id, period_start ORDER BY trade_date),
+               w_desc AS (PARTITION BY instrument_id, period_start ORDER BY trade_date DESC)) ranked
+ GROUP BY instrument_id, period_start;
+
+INSERT INTO overseas_index_price_rollup
+SELECT instrument_id, 'WEEK', period_start, MIN(trade_date), MAX(trade_date),
+       MAX(CASE WHEN first_rank = 1 THEN open_price END), MAX(high_price), MIN(low_price),
+       MAX(CASE WHEN last_rank = 1 THEN close_price END), SUM(volume), SUM(trading_value), COUNT(*),
+       NOW(6), NOW(6)
+  FROM (SELECT p.*,
+               ROW_NUMBER() OVER w_asc AS first_rank,
+               ROW_NUMBER() OVER w_desc AS last_rank
+          FROM (SELECT instrument_id, trade_date, open_price, high_price, low_price, close_price, volume, trading_value,
+                       DATE_SUB(trade_date, INTERVAL WEEKDAY(trade_date) DAY) AS period_start
+                  FROM overseas_index_daily_price) p
+        WINDOW w_asc AS (PARTITION BY instrument_id, period_start ORDER BY trade_date),
+               w_desc AS (PARTITION BY instrument_id, period_start ORDER BY trade_date DESC)) ranked
+ GROUP BY instrument_id, period_start;
+
+INSERT INTO overseas_index_price_rollup
+SELECT instrument_id, 'MONTH', period_start, MIN(trade_date), MAX(trade_date),
+       MAX(CASE WHEN first_rank = 1 THEN open_price END), MAX(high_price), MIN(low_price),
+       MAX(CASE WHEN last_rank = 1 THEN close_price END), SUM(volume), SUM(trading_value), COUNT(*),
+       NOW(6), NOW(6)
+  FROM (SELECT p.*,
+               ROW_NUMBER() OVER w_asc AS first_rank,
+               ROW_NUMBER() OVER w_desc AS last_rank
+          FROM (SELECT instrument_id, trade_date, open_price, high_price, low_price, close_price, volume, trading_value,
+                       DATE_SUB(trade_date, INTERVAL DAYOFMONTH(trade_date) - 1 DAY) AS period_start
+                  FROM overseas_index_daily_price) p
+        WINDOW w_asc AS (PARTITION BY instrument_id, period_start ORDER BY trade_date),
+               w_desc AS (PARTITION BY instrument_id, period_start ORDER BY trade_date DESC)) ranked
+ GROUP BY instrument_id, period_start;
@@ -0,0 +1,24 @@
+-- 일봉 기술적 지표 테이블 생성 (ADR-0033)
+
+-- instrument_id는 자산 유형과 무관하게 고유하므로 4개 일별 가격 테이블의 지표를 한 테이블에 저장
+-- 행은 TechnicalIndicatorService가 저장 경로에서 증분 계산하고, 백필 종료 시 종목 단위로 재계산
+-- bar_count: 종목 첫 일봉부터의 순번, ema_*/atr_14/rsi_avg_*: 다음 일봉 계산 상태 (워밍업 구간은 단순 평균)
+-- sma_*/rsi_14: 창이 찬 뒤에만 값이 있고 워밍업 구간은 NULL
+-- 초기 적재 없음: 지표가 없는 종목은 다음 일간 수집 때 저장된 이력 전체로 따라잡음 (종목당 1회)
+
+CREATE TABLE daily_price_indicator (
+    instrument_id INT         NOT NULL,
+    trade_date    DATE        NOT NULL,
+    bar_count     INT         NOT NULL,
+    sma_20        DOUBLE      NULL,
+    sma_60        DOUBLE      NULL,
+    ema_12        DOUBLE      NOT NULL,
+    ema_26        DOUBLE      NOT NULL,
+    rsi_14        DOUBLE      NULL,
+    rsi_avg_gain  DOUBLE      NOT NULL,
+    rsi_avg_loss  DOUBLE      NOT NULL,
+    atr_14        DOUBLE      NOT NULL,
+    created_at    DATETIME(6) NOT NULL,
+    updated_at    DATETIME(6) NOT NULL,
+    PRIMARY KEY (instrument_id, trade_date)
+);
@@ -0,0 +1,21 @@
+-- 수정 계수 사건 테이블 생성 (ADR-0034)
+
+-- 일별 가격 테이블은 처음 저장한 시점의 가격 기준을 유지하고, 분할/병합 등으로 기준이 바뀐 사건만 기록
+-- effective_date 이전 거래일의 저장 가격 × factor = 탐지 시점 기준 가격 (여러 사건은 누적곱)
+-- reference_date/expected_close/fetched_close: 탐지 근거 (마지막으로 어긋난 거래일, 기존 이력 환산 종가, 새로 내려온 종가)
+-- 주식(국내/해외)만 기록, 지수는 대상 아님
+-- 초기 적재 없음: 배포 이후 일간 수집에서 겹친 거래일로 탐지
+
+CREATE TABLE price_adjustment (
+    id             BIGINT          NOT NULL AUTO_INCREMENT,
+    instrument_id  INT             NOT NULL,
+    effective_date DATE            NOT NULL,
+    factor         DECIMAL(20, 10) NOT NULL,
+    reference_date DATE            NOT NULL,
+    expected_close DECIMAL(15, 4)  NOT NULL,
+    fetched_close  DECIMAL(15, 4)  NOT NULL,
+    created_at     DATETIME(6)     NOT NULL,
+    updated_at     DATETIME(6)     NOT NULL,
+    PRIMARY KEY (id),
+    INDEX idx_price_adjustment_instrument_effective (instrument_id, effective_date)
+);
@@ -0,0 +1,33 @@
+-- 시장 휴장일 달력과 누락 복구 빈 기간 테이블 생성 (ADR-0031 개정)
+
+-- market_calendar_day: 시장별 일자 개장 여부
+--   source = 'KIS': KIS 국내 휴장일 조회 응답 (KRX, 개장일/휴장일 모두 저장 → 최대 일자까지 동기화됨)
+--   source = 'OBSERVED': 휴장일 API가 없는 해외 시장에서 어느 종목에도 없고 2개 이상 종목의 복구 요청에도 빈 평일
+-- market_code는 MarketCode의 정수 코드 (MarketCodeConverter와 동일)
+-- 초기 적재 없음: 다음 누락 복구 실행에서 calendar-horizon 기간을 동기화
+
+CREATE TABLE market_calendar_day (
+    id          BIGINT       NOT NULL AUTO_INCREMENT,
+    market_code INT          NOT NULL,
+    trade_date  DATE         NOT NULL,
+    is_open     BOOLEAN      NOT NULL,
+    source      VARCHAR(10)  NOT NULL,
+    created_at  DATETIME(6)  NOT NULL,
+    updated_at  DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_market_calendar_day_market_date UNIQUE (market_code, trade_date)
+);
+
+-- price_gap_empty_range: 누락 복구 요청에도 가격이 오지 않은 종목별 기간 (거래정지, 상장폐지, 해외 휴장일)
+-- 이후 탐지에서 기대 거래일에서 제외해 같은 구간을 매주 다시 요청하지 않음
+
+CREATE TABLE price_gap_empty_range (
+    id            BIGINT       NOT NULL AUTO_INCREMENT,
+    instrument_id INT          NOT NULL,
+    start_date    DATE         NOT NULL,
+    end_date      DATE         NOT NULL,
+    created_at    DATETIME(6)  NOT NULL,
+    updated_at    DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id),
+    INDEX idx_price_gap_empty_range_instrument (instrument_id, start_date)
+);
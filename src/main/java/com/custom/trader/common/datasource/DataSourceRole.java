@@ -0,0 +1,9 @@
+package com.custom.trader.common.datasource;
+
+/**
+ * 라우팅 대상 데이터소스 구분.
+ */
+public enum DataSourceRole {
+    PRIMARY,
+    REPLICA
+}
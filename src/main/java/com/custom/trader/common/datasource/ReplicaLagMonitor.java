@@ -0,0 +1,123 @@
+package com.custom.trader.common.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 복제본의 복제 지연을 주기적으로 확인하여 읽기 라우팅 가능 여부를 판단합니다.
+ *
+ * <p>판단 기준 ({@code SHOW REPLICA STATUS}의 {@code Seconds_Behind_Source}):
+ * <ul>
+ *   <li>허용 지연 이하 → 사용 가능</li>
+ *   <li>허용 지연 초과, 복제 중단(NULL), 조회 실패 → 사용 불가 (primary로 라우팅)</li>
+ *   <li>결과 행 없음 → 사용 불가. 복제가 설정되지 않은 서버(예: 잘못 지정한 primary)와 구분할 수 없기 때문이며,
+ *       복제 상태를 노출하지 않는 관리형 읽기 엔드포인트는 {@code datasource.replica.assume-in-sync=true}일 때만 지연 0으로 보고 사용 가능</li>
+ * </ul>
+ * 첫 확인 전에는 사용 불가로 시작하므로, 기동 직후 읽기는 primary로 갑니다.</p>
+ *
+ * <p>메트릭 ({@link MeterBinder}로 자동 등록):
+ * <ul>
+ *   <li>{@code datasource.replica.lag}: 마지막으로 확인한 복제 지연 (초, 확인 실패 시 -1)</li>
+ *   <li>{@code datasource.replica.usable}: 읽기 라우팅 가능 여부 (1/0)</li>
+ * </ul>
+ * </p>
+ *
+ * @see ReplicaRoutingDataSource
+ */
+@Slf4j
+public class ReplicaLagMonitor implements MeterBinder {
+
+    static final String REPLICA_STATUS_SQL = "SHOW REPLICA STATUS";
+
+    private static final long UNKNOWN_LAG = -1;
+
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final Duration maxLag;
+    private final boolean assumeInSync;
+
+    private volatile boolean replicaUsable;
+    private volatile long lagSeconds = UNKNOWN_LAG;
+
+    /**
+     * @param replicaJdbcTemplate 복제본 데이터소스로 만든 JdbcTemplate (라우팅 데이터소스 아님)
+     * @param maxLag 읽기를 보낼 수 있는 최대 복제 지연
+     * @param assumeInSync 복제 상태 조회 결과가 없을 때 동기화된 것으로 볼지 여부
+     */
+    public ReplicaLagMonitor(JdbcTemplate replicaJdbcTemplate, Duration maxLag, boolean assumeInSync) {
+        this.replicaJdbcTemplate = replicaJdbcTemplate;
+        this.maxLag = maxLag;
+        this.assumeInSync = assumeInSync;
+    }
+
+    public boolean isReplicaUsable() {
+        return replicaUsable;
+    }
+
+    public long getLagSeconds() {
+        return lagSeconds;
+    }
+
+    /**
+     * 복제 지연을 확인하고 라우팅 가능 여부를 갱신합니다.
+     */
+    @Scheduled(fixedDelayString = "${datasource.replica.lag-check-interval:PT10S}")
+    public void check() {
+        List<Long> lags;
+        try {
+            lags = replicaJdbcTemplate.query(REPLICA_STATUS_SQL, (rs, rowNum) -> {
+                long lag = rs.getLong("Seconds_Behind_Source");
+                return rs.wasNull() ? null : lag;
+            });
+        } catch (DataAccessException e) {
+            update(false, UNKNOWN_LAG, "status query failed: " + e.getMessage());
+            return;
+        }
+
+        if (lags.isEmpty()) {
+            if (assumeInSync) {
+                update(true, 0, "no replication status, assumed in sync");
+            } else {
+                update(false, UNKNOWN_LAG, "no replication status (set assume-in-sync for managed read endpoints)");
+            }
+            return;
+        }
+        Long lag = lags.get(0);
+        if (lag == null) {
+            update(false, UNKNOWN_LAG, "replication is not running");
+            return;
+        }
+        update(lag <= maxLag.toSeconds(), lag, "lag " + lag + "s (max " + maxLag.toSeconds() + "s)");
+    }
+
+    private void update(boolean usable, long lag, String reason) {
+        lagSeconds = lag;
+        if (usable == replicaUsable) {
+            return;
+        }
+        replicaUsable = usable;
+        if (usable) {
+            log.info("Read replica enabled for read-only transactions: {}", reason);
+        } else {
+            log.warn("Read replica disabled, routing read-only transactions to primary: {}", reason);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("datasource.replica.lag", this, ReplicaLagMonitor::getLagSeconds)
+                .description("Last observed replication lag of the read replica in seconds (-1 if unknown)")
+                .baseUnit("seconds")
+                .register(registry);
+        Gauge.builder("datasource.replica.usable", this, monitor -> monitor.isReplicaUsable() ? 1 : 0)
+                .description("Whether read-only transactions are currently routed to the read replica")
+                .register(registry);
+    }
+}
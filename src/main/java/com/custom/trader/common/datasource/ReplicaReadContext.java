@@ -0,0 +1,60 @@
+package com.custom.trader.common.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * 현재 스레드의 복제본 읽기 허용 표시.
+ *
+ * <p>{@link ReplicaRoutingDataSource}는 이 표시가 있는 읽기 전용 트랜잭션만 복제본으로 보냅니다.
+ * 표시 없이 실행되는 읽기 전용 트랜잭션(Spring Data 조회 메서드의 기본 트랜잭션 포함)은 primary에서 읽으므로,
+ * 수집/복구/지연 재처리 경로가 방금 쓴 값을 복제 지연 때문에 놓치지 않습니다.
+ * 복제 지연을 허용하는 분석/내보내기 조회만 {@link #call}로 감쌉니다. 새 스레드에는 전파되지 않습니다.</p>
+ *
+ * <p>연결은 첫 쿼리 시점에 고르므로({@code LazyConnectionDataSourceProxy}), 읽기 전용 트랜잭션 안에서
+ * 첫 쿼리 전에 표시하면 됩니다.</p>
+ *
+ * <pre>{@code
+ * @Transactional(readOnly = true)
+ * public List<AdjustedDailyPrice> getAdjustedDailyPrices(...) {
+ *     return ReplicaReadContext.call(() -> ...);
+ * }
+ * }</pre>
+ */
+public final class ReplicaReadContext {
+
+    private static final ThreadLocal<Boolean> ALLOWED = new ThreadLocal<>();
+
+    private ReplicaReadContext() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * 현재 스레드에서 복제본 읽기가 허용되었는지 반환합니다.
+     *
+     * @return {@link #call} 실행 중이면 true
+     */
+    public static boolean isAllowed() {
+        return Boolean.TRUE.equals(ALLOWED.get());
+    }
+
+    /**
+     * 복제본 읽기를 허용한 상태로 작업을 실행하고 결과를 반환합니다. 끝나면 이전 상태로 복원합니다.
+     *
+     * @param task 실행할 작업
+     * @param <T> 결과 타입
+     * @return 작업 결과
+     */
+    public static <T> T call(Supplier<T> task) {
+        Boolean previous = ALLOWED.get();
+        ALLOWED.set(Boolean.TRUE);
+        try {
+            return task.get();
+        } finally {
+            if (previous != null) {
+                ALLOWED.set(previous);
+            } else {
+                ALLOWED.remove();
+            }
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.custom.trader.common.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * 복제본 읽기를 명시한 읽기 전용 트랜잭션을 복제본으로 보내는 라우팅 데이터소스.
+ *
+ * <p>라우팅 규칙:
+ * <ul>
+ *   <li>{@code @Transactional(readOnly = true)} 트랜잭션 + {@link ReplicaReadContext} 표시 + 복제 지연 허용 범위 이내
+ *       → {@link DataSourceRole#REPLICA}</li>
+ *   <li>그 외(쓰기 트랜잭션, 트랜잭션 없음, 표시 없는 읽기 전용 트랜잭션, 복제본 지연/장애) → {@link DataSourceRole#PRIMARY}</li>
+ * </ul>
+ * </p>
+ *
+ * <p>트랜잭션의 읽기 전용 여부는 트랜잭션 시작 후에 설정되므로, 반드시
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}로 감싸 첫 쿼리 시점에 연결을 고르게 해야 합니다.</p>
+ *
+ * @see ReplicaLagMonitor
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final ReplicaLagMonitor lagMonitor;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, ReplicaLagMonitor lagMonitor) {
+        this.lagMonitor = lagMonitor;
+        setTargetDataSources(Map.of(DataSourceRole.PRIMARY, primary, DataSourceRole.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly() && ReplicaReadContext.isAllowed()
+                && lagMonitor.isReplicaUsable()) {
+            return DataSourceRole.REPLICA;
+        }
+        return DataSourceRole.PRIMARY;
+    }
+}
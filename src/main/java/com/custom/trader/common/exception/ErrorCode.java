@@ -15,6 +15,8 @@ public enum ErrorCode {
     // KIS API
     KIS_API_ERROR(HttpStatus.BAD_GATEWAY, "한국투자증권 API 호출 중 오류가 발생했습니다."),
     KIS_AUTH_ERROR(HttpStatus.UNAUTHORIZED, "한국투자증권 인증에 실패했습니다."),
+    KIS_RATE_LIMIT_EXCEEDED(HttpStatus.TOO_MANY_REQUESTS, "한국투자증권 API 초당 거래건수를 초과했습니다."),
+    KIS_CIRCUIT_OPEN(HttpStatus.SERVICE_UNAVAILABLE, "한국투자증권 API 장애로 호출이 일시 차단되었습니다."),
     KIS_NO_ACCOUNT(HttpStatus.BAD_REQUEST, "설정된 계좌가 없습니다.");
 
     private final HttpStatus status;
@@ -0,0 +1,26 @@
+package com.custom.trader.config;
+
+import com.custom.trader.kis.client.KisCircuitBreakerRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * KIS API Circuit Breaker 설정.
+ *
+ * <p>연속 5회 일시적 장애 시 1분간 OPEN, 이후 탐색 요청 1건으로 복구 여부를 확인합니다.</p>
+ *
+ * @see KisCircuitBreakerRegistry
+ */
+@Configuration
+public class KisCircuitBreakerConfig {
+
+    private static final int FAILURE_THRESHOLD = 5;
+    private static final Duration OPEN_DURATION = Duration.ofMinutes(1);
+
+    @Bean
+    public KisCircuitBreakerRegistry kisCircuitBreakerRegistry() {
+        return new KisCircuitBreakerRegistry(FAILURE_THRESHOLD, OPEN_DURATION);
+    }
+}
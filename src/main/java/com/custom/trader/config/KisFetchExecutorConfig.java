@@ -0,0 +1,56 @@
+package com.custom.trader.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * KIS 동시 조회 공용 스레드 풀 설정.
+ *
+ * <p>백필 구간 조회({@code DateWindowBackfiller})와 관심종목 그룹별 종목 조회({@code WatchlistService})가
+ * 호출마다 풀을 만들지 않고 이 풀을 함께 사용합니다.</p>
+ *
+ * <ul>
+ *   <li>스레드 수 고정, 대기열 크기 제한: 동시에 여러 작업이 몰려도 스레드/대기 작업이 무한히 늘지 않음</li>
+ *   <li>대기열이 가득 차면 제출한 스레드가 직접 실행 ({@link ThreadPoolExecutor.CallerRunsPolicy}).
+ *       호출 스레드는 어차피 결과를 기다리므로 거절 대신 자연스럽게 속도가 조절됨</li>
+ *   <li>스레드 이름 {@code kis-fetch-N}: 로그/스레드 덤프에서 구분</li>
+ * </ul>
+ *
+ * <p>ThreadLocal 문맥(우선순위, 재시도 예산)은 전파되지 않으므로 제출하는 쪽에서 호출 스레드 값을 다시 지정합니다.
+ * 초당 한도는 Rate Limiter가 지키므로 풀 크기는 응답 대기를 겹치는 정도만 정합니다.
+ * 작업 안에서 이 풀에 다시 제출하고 결과를 기다리면 풀이 가득 찼을 때 교착될 수 있으므로 중첩 제출은 하지 않습니다.</p>
+ */
+@Configuration
+public class KisFetchExecutorConfig {
+
+    public static final String KIS_FETCH_EXECUTOR = "kisFetchExecutor";
+
+    static final int POOL_SIZE = 8;
+    static final int QUEUE_CAPACITY = 64;
+
+    /**
+     * 종료 시 진행 중인 조회는 중단합니다 (백필/동기화는 다음 실행에서 이어서 처리).
+     */
+    @Bean(name = KIS_FETCH_EXECUTOR, destroyMethod = "shutdownNow")
+    public ExecutorService kisFetchExecutor() {
+        return new ThreadPoolExecutor(POOL_SIZE, POOL_SIZE, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(QUEUE_CAPACITY), threadFactory(),
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    private static ThreadFactory threadFactory() {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "kis-fetch-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,26 @@
+package com.custom.trader.config;
+
+import com.custom.trader.kis.service.KisRequestCoalescer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * KIS 조회 요청 합치기(Single-Flight) 설정.
+ *
+ * <p>일간 시세는 장 마감 후 변하지 않으므로 30초 캐시로도 데이터 신선도 문제가 없습니다.</p>
+ *
+ * @see KisRequestCoalescer
+ */
+@Configuration
+public class KisRequestCoalescerConfig {
+
+    private static final Duration CACHE_TTL = Duration.ofSeconds(30);
+    private static final long CACHE_MAX_SIZE = 1_000;
+
+    @Bean
+    public KisRequestCoalescer kisRequestCoalescer() {
+        return new KisRequestCoalescer(CACHE_TTL, CACHE_MAX_SIZE);
+    }
+}
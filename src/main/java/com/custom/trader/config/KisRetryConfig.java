@@ -0,0 +1,29 @@
+package com.custom.trader.config;
+
+import com.custom.trader.kis.client.KisRetryPolicy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * KIS API 재시도 정책 설정.
+ *
+ * <p>ADR-0019의 재시도 계획(최대 3회, 1초/2초 지수 백오프)을 따르며,
+ * 지터와 실행당 재시도 예산을 추가로 적용합니다.</p>
+ *
+ * @see KisRetryPolicy
+ */
+@Configuration
+public class KisRetryConfig {
+
+    private static final int MAX_ATTEMPTS = 3;
+    private static final Duration BASE_DELAY = Duration.ofSeconds(1);
+    private static final Duration MAX_DELAY = Duration.ofSeconds(8);
+    private static final int RETRY_BUDGET_PER_RUN = 100;
+
+    @Bean
+    public KisRetryPolicy kisRetryPolicy() {
+        return new KisRetryPolicy(MAX_ATTEMPTS, BASE_DELAY, MAX_DELAY, RETRY_BUDGET_PER_RUN);
+    }
+}
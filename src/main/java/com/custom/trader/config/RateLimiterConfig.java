@@ -1,5 +1,7 @@
 package com.custom.trader.config;
 
+import com.custom.trader.kis.client.KisAdaptiveRateLimiter;
+import com.custom.trader.kis.client.KisPriorityDispatcher;
 import com.google.common.util.concurrent.RateLimiter;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -9,9 +11,37 @@ import org.springframework.context.annotation.Configuration;
 public class RateLimiterConfig {
 
     private static final double PERMITS_PER_SECOND = 20.0;
+    private static final double MIN_PERMITS_PER_SECOND = 2.0;
 
     @Bean
     public RateLimiter kisApiRateLimiter() {
         return RateLimiter.create(PERMITS_PER_SECOND);
     }
+
+    /**
+     * KIS Throttling 응답에 따라 {@link #kisApiRateLimiter()}의 속도를 조절하는 AIMD Rate Limiter.
+     *
+     * <p>{@link io.micrometer.core.instrument.binder.MeterBinder}를 구현하므로
+     * 유효 속도 게이지가 MeterRegistry에 자동 등록됩니다.</p>
+     *
+     * @param kisApiRateLimiter 실제 permit을 발급하는 Guava RateLimiter
+     * @return KisAdaptiveRateLimiter 인스턴스
+     */
+    @Bean
+    public KisAdaptiveRateLimiter kisAdaptiveRateLimiter(RateLimiter kisApiRateLimiter) {
+        return new KisAdaptiveRateLimiter(kisApiRateLimiter, MIN_PERMITS_PER_SECOND, PERMITS_PER_SECOND);
+    }
+
+    /**
+     * 요청 우선순위 클래스별로 {@link #kisAdaptiveRateLimiter(RateLimiter)}의 permit을 배분하는 디스패처.
+     *
+     * <p>클래스별 대기 요청 수/대기 시간 메트릭이 MeterRegistry에 자동 등록됩니다.</p>
+     *
+     * @param kisAdaptiveRateLimiter 초당 한도를 지키는 Rate Limiter
+     * @return KisPriorityDispatcher 인스턴스
+     */
+    @Bean
+    public KisPriorityDispatcher kisPriorityDispatcher(KisAdaptiveRateLimiter kisAdaptiveRateLimiter) {
+        return new KisPriorityDispatcher(kisAdaptiveRateLimiter);
+    }
 }
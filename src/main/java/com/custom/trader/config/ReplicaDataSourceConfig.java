@@ -0,0 +1,77 @@
+package com.custom.trader.config;
+
+import com.custom.trader.common.datasource.ReplicaLagMonitor;
+import com.custom.trader.common.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * 읽기 복제본 라우팅 데이터소스 설정.
+ *
+ * <p>{@code datasource.replica.enabled=true}일 때만 활성화되며, 기본값(false)에서는 Spring Boot 자동 설정의
+ * 단일 데이터소스를 그대로 사용합니다.</p>
+ *
+ * <p><b>구성:</b></p>
+ * <ul>
+ *   <li>primary: 기존 {@code spring.datasource.*} (풀 설정은 {@code spring.datasource.hikari.*})</li>
+ *   <li>replica: {@code datasource.replica.*}, 읽기 전용 연결</li>
+ *   <li>{@code dataSource}(@Primary): {@link LazyConnectionDataSourceProxy} → {@link ReplicaRoutingDataSource}.
+ *       JPA/JdbcTemplate이 모두 이 빈을 사용하며, {@code ReplicaReadContext}로 표시한 읽기 전용 트랜잭션만 복제본으로 감</li>
+ * </ul>
+ *
+ * @see ReplicaLagMonitor 복제 지연 확인 (지연 초과/장애 시 primary로 되돌림)
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "datasource.replica", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(ReplicaDataSourceProperties.class)
+public class ReplicaDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public HikariDataSource replicaDataSource(ReplicaDataSourceProperties properties) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(properties.url());
+        dataSource.setUsername(properties.username());
+        dataSource.setPassword(properties.password());
+        dataSource.setMaximumPoolSize(properties.maximumPoolSize());
+        dataSource.setReadOnly(true);
+        dataSource.setPoolName("replica");
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                               ReplicaDataSourceProperties properties) {
+        return new ReplicaLagMonitor(new JdbcTemplate(replicaDataSource), properties.maxLag(),
+                properties.assumeInSync());
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                 ReplicaLagMonitor replicaLagMonitor) {
+        ReplicaRoutingDataSource routingDataSource =
+                new ReplicaRoutingDataSource(primaryDataSource, replicaDataSource, replicaLagMonitor);
+        routingDataSource.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+}
@@ -0,0 +1,29 @@
+package com.custom.trader.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 읽기 복제본 데이터소스 설정 ({@code datasource.replica.*}).
+ *
+ * @param enabled 복제본 라우팅 사용 여부 (false면 기존 단일 데이터소스)
+ * @param url 복제본 JDBC URL
+ * @param username 복제본 사용자 (REPLICATION CLIENT 권한 필요: 지연 확인)
+ * @param password 복제본 비밀번호
+ * @param maximumPoolSize 복제본 커넥션 풀 최대 크기
+ * @param maxLag 읽기를 복제본으로 보낼 수 있는 최대 복제 지연
+ * @param assumeInSync 복제 상태 조회 결과가 없을 때 동기화된 것으로 볼지 여부
+ *                     (복제 상태를 노출하지 않는 관리형 읽기 엔드포인트에서만 true)
+ */
+@ConfigurationProperties(prefix = "datasource.replica")
+public record ReplicaDataSourceProperties(
+    boolean enabled,
+    String url,
+    String username,
+    String password,
+    @DefaultValue("5") int maximumPoolSize,
+    @DefaultValue("PT5S") Duration maxLag,
+    @DefaultValue("false") boolean assumeInSync
+) {}
@@ -0,0 +1,150 @@
+package com.custom.trader.kis.client;
+
+import com.google.common.util.concurrent.RateLimiter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * KIS 초당 거래건수 초과 응답에 반응하는 AIMD(Additive Increase / Multiplicative Decrease) Rate Limiter.
+ *
+ * <p>고정 20/s {@link RateLimiter}를 감싸서, KIS가 Throttling 응답을 보내면 허용 속도를 줄이고
+ * 이후 정상 응답이 이어지면 다시 상한까지 점진적으로 올립니다.</p>
+ *
+ * <p>동작 방식:
+ * <ul>
+ *   <li><b>Multiplicative Decrease</b>: Throttling 응답 시 현재 속도 × {@value #DECREASE_FACTOR} (하한: minRate)</li>
+ *   <li><b>Additive Increase</b>: 현재 속도만큼(약 1초 분량)의 연속 성공마다 +{@value #ADDITIVE_INCREASE} permits/s (상한: maxRate)</li>
+ *   <li><b>Cooldown</b>: 감소 직후 {@link #DECREASE_COOLDOWN} 동안 추가 Throttling 신호는 무시
+ *       (같은 구간에 이미 전송된 요청들이 연쇄적으로 속도를 깎는 것을 방지)</li>
+ * </ul>
+ * </p>
+ *
+ * <p>메트릭 ({@link MeterBinder}로 자동 등록):
+ * <ul>
+ *   <li>{@code kis.api.rate_limit.effective}: 현재 유효 허용 속도 (permits/s)</li>
+ *   <li>{@code kis.api.rate_limit.throttled}: 누적 Throttling 응답 수</li>
+ * </ul>
+ * </p>
+ *
+ * @see KisRestClient
+ */
+@Slf4j
+@SuppressWarnings("UnstableApiUsage")
+public class KisAdaptiveRateLimiter implements MeterBinder {
+
+    static final double DECREASE_FACTOR = 0.5;
+    static final double ADDITIVE_INCREASE = 1.0;
+    static final Duration DECREASE_COOLDOWN = Duration.ofSeconds(1);
+
+    private final RateLimiter delegate;
+    private final double minRate;
+    private final double maxRate;
+    private final LongSupplier nanoClock;
+    private final AtomicLong throttledCount = new AtomicLong();
+
+    private double currentRate;
+    private int successesSinceAdjust;
+    private long lastDecreaseNanos;
+    private boolean decreasedOnce;
+
+    /**
+     * Adaptive Rate Limiter를 생성합니다.
+     *
+     * @param delegate 실제 permit을 발급하는 Guava RateLimiter (maxRate로 생성되어 있어야 함)
+     * @param minRate 하한 속도 (permits/s)
+     * @param maxRate 상한 속도 (permits/s, KIS 공식 한도)
+     */
+    public KisAdaptiveRateLimiter(RateLimiter delegate, double minRate, double maxRate) {
+        this(delegate, minRate, maxRate, System::nanoTime);
+    }
+
+    KisAdaptiveRateLimiter(RateLimiter delegate, double minRate, double maxRate, LongSupplier nanoClock) {
+        if (minRate <= 0 || maxRate < minRate) {
+            throw new IllegalArgumentException(
+                    "Invalid rate bounds: minRate=" + minRate + ", maxRate=" + maxRate);
+        }
+        this.delegate = delegate;
+        this.minRate = minRate;
+        this.maxRate = maxRate;
+        this.nanoClock = nanoClock;
+        this.currentRate = maxRate;
+    }
+
+    /**
+     * permit 1개를 획득할 때까지 대기합니다.
+     */
+    public void acquire() {
+        delegate.acquire();
+    }
+
+    /**
+     * Throttling 되지 않은 응답을 기록합니다 (Additive Increase).
+     */
+    public synchronized void onSuccess() {
+        if (currentRate >= maxRate) {
+            return;
+        }
+        successesSinceAdjust++;
+        if (successesSinceAdjust >= currentRate) {
+            applyRate(Math.min(maxRate, currentRate + ADDITIVE_INCREASE));
+            log.debug("KIS rate limiter probing upward: {} permits/s", currentRate);
+        }
+    }
+
+    /**
+     * Throttling 응답을 기록합니다 (Multiplicative Decrease).
+     */
+    public synchronized void onThrottled() {
+        throttledCount.incrementAndGet();
+
+        long now = nanoClock.getAsLong();
+        if (decreasedOnce && now - lastDecreaseNanos < DECREASE_COOLDOWN.toNanos()) {
+            return;
+        }
+        decreasedOnce = true;
+        lastDecreaseNanos = now;
+
+        double previous = currentRate;
+        applyRate(Math.max(minRate, currentRate * DECREASE_FACTOR));
+        log.warn("KIS throttling detected, backing off rate: {} -> {} permits/s", previous, currentRate);
+    }
+
+    /**
+     * 현재 유효 허용 속도를 반환합니다.
+     *
+     * @return permits/s
+     */
+    public synchronized double getEffectiveRate() {
+        return currentRate;
+    }
+
+    public long getThrottledCount() {
+        return throttledCount.get();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("kis.api.rate_limit.effective", this, KisAdaptiveRateLimiter::getEffectiveRate)
+                .description("Current effective KIS API permit rate")
+                .baseUnit("permits/s")
+                .register(registry);
+        FunctionCounter.builder("kis.api.rate_limit.throttled", throttledCount, AtomicLong::get)
+                .description("KIS API responses classified as throttling")
+                .register(registry);
+    }
+
+    private void applyRate(double newRate) {
+        successesSinceAdjust = 0;
+        if (newRate != currentRate) {
+            currentRate = newRate;
+            delegate.setRate(newRate);
+        }
+    }
+}
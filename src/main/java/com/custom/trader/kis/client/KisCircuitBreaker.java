@@ -0,0 +1,108 @@
+package com.custom.trader.kis.client;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * KIS 엔드포인트/계정 단위 Circuit Breaker.
+ *
+ * <p>상태 전이:
+ * <ul>
+ *   <li><b>CLOSED</b>: 정상. 연속 일시적 장애가 {@code failureThreshold}에 도달하면 OPEN</li>
+ *   <li><b>OPEN</b>: 네트워크 호출 없이 즉시 거부. {@code openDuration} 경과 후 HALF_OPEN</li>
+ *   <li><b>HALF_OPEN</b>: 단 하나의 탐색(probe) 요청만 허용. 성공 시 CLOSED, 실패 시 다시 OPEN</li>
+ * </ul>
+ * </p>
+ *
+ * <p>KIS 장애 시 남은 종목마다 연결/읽기 타임아웃(10초/30초)을 순차적으로 기다리지 않도록
+ * 빠르게 실패시키는 것이 목적입니다.</p>
+ *
+ * @see KisCircuitBreakerRegistry
+ */
+@Slf4j
+public class KisCircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    @Getter
+    private final String name;
+    private final int failureThreshold;
+    private final Duration openDuration;
+    private final LongSupplier nanoClock;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAtNanos;
+    private boolean probeInFlight;
+
+    KisCircuitBreaker(String name, int failureThreshold, Duration openDuration, LongSupplier nanoClock) {
+        this.name = name;
+        this.failureThreshold = failureThreshold;
+        this.openDuration = openDuration;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * 호출 허용 여부를 확인합니다.
+     *
+     * <p>OPEN 상태에서 대기 시간이 지났으면 HALF_OPEN으로 전환하고 탐색 요청 1건을 허용합니다.</p>
+     *
+     * @return 호출 가능하면 true
+     */
+    public synchronized boolean tryAcquirePermission() {
+        if (state == State.OPEN && nanoClock.getAsLong() - openedAtNanos >= openDuration.toNanos()) {
+            state = State.HALF_OPEN;
+            log.info("Circuit '{}' half-open, allowing probe request", name);
+        }
+        return switch (state) {
+            case CLOSED -> true;
+            case OPEN -> false;
+            case HALF_OPEN -> {
+                if (probeInFlight) {
+                    yield false;
+                }
+                probeInFlight = true;
+                yield true;
+            }
+        };
+    }
+
+    /**
+     * KIS 서버가 응답한 호출을 기록합니다 (비즈니스 오류 응답 포함).
+     */
+    public synchronized void onSuccess() {
+        probeInFlight = false;
+        consecutiveFailures = 0;
+        if (state != State.CLOSED) {
+            log.info("Circuit '{}' closed after successful probe", name);
+            state = State.CLOSED;
+        }
+    }
+
+    /**
+     * 일시적 장애(I/O 오류, 5xx)를 기록합니다.
+     */
+    public synchronized void onFailure() {
+        probeInFlight = false;
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            open();
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    private void open() {
+        if (state != State.OPEN) {
+            log.warn("Circuit '{}' opened after {} consecutive failures, failing fast for {}",
+                    name, consecutiveFailures, openDuration);
+        }
+        state = State.OPEN;
+        openedAtNanos = nanoClock.getAsLong();
+    }
+}
@@ -0,0 +1,41 @@
+package com.custom.trader.kis.client;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * KIS Circuit Breaker 상태를 Actuator health에 노출합니다 ({@code components.kisCircuitBreaker}).
+ *
+ * <p>Circuit이 OPEN이어도 상태는 항상 UP으로 보고합니다.
+ * KIS 장애는 애플리케이션 장애가 아니며, DOWN으로 보고하면 Healthcheck Sidecar가
+ * 컨테이너를 재시작하여 오히려 복구를 방해하기 때문입니다. 대신 details에 Circuit별 상태와
+ * OPEN/HALF_OPEN 개수를 포함합니다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class KisCircuitBreakerHealthIndicator implements HealthIndicator {
+
+    private final KisCircuitBreakerRegistry kisCircuitBreakerRegistry;
+
+    @Override
+    public Health health() {
+        Map<String, String> circuits = new TreeMap<>();
+        long notClosed = 0;
+        for (KisCircuitBreaker breaker : kisCircuitBreakerRegistry.getAll()) {
+            KisCircuitBreaker.State state = breaker.getState();
+            circuits.put(breaker.getName(), state.name());
+            if (state != KisCircuitBreaker.State.CLOSED) {
+                notClosed++;
+            }
+        }
+        return Health.up()
+                .withDetail("openCircuits", notClosed)
+                .withDetail("circuits", circuits)
+                .build();
+    }
+}
@@ -0,0 +1,62 @@
+package com.custom.trader.kis.client;
+
+import com.custom.trader.kis.config.KisAccountProperties;
+import com.custom.trader.kis.config.KisApiEndpoint;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * 엔드포인트 × 계정 조합별 {@link KisCircuitBreaker}를 관리하는 레지스트리.
+ *
+ * <p>맵 크기는 엔드포인트 수(6) × 계정 수(2)로 제한되므로 별도 만료 정책이 필요 없습니다.</p>
+ *
+ * <p>Circuit 이름에는 계좌번호 대신 계정 별칭(name)을 사용하여 민감 정보가
+ * 로그/Actuator health에 노출되지 않도록 합니다.</p>
+ */
+public class KisCircuitBreakerRegistry {
+
+    private final ConcurrentHashMap<String, KisCircuitBreaker> breakers = new ConcurrentHashMap<>();
+    private final int failureThreshold;
+    private final Duration openDuration;
+    private final LongSupplier nanoClock;
+
+    /**
+     * 레지스트리를 생성합니다.
+     *
+     * @param failureThreshold OPEN으로 전환되는 연속 장애 횟수
+     * @param openDuration OPEN 유지 시간 (이후 HALF_OPEN 탐색)
+     */
+    public KisCircuitBreakerRegistry(int failureThreshold, Duration openDuration) {
+        this(failureThreshold, openDuration, System::nanoTime);
+    }
+
+    KisCircuitBreakerRegistry(int failureThreshold, Duration openDuration, LongSupplier nanoClock) {
+        if (failureThreshold < 1) {
+            throw new IllegalArgumentException("failureThreshold must be positive: " + failureThreshold);
+        }
+        this.failureThreshold = failureThreshold;
+        this.openDuration = openDuration;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * 엔드포인트/계정 조합의 Circuit Breaker를 반환합니다 (없으면 생성).
+     *
+     * @param endpoint KIS API 엔드포인트
+     * @param account 호출 계정
+     * @return Circuit Breaker
+     */
+    public KisCircuitBreaker get(KisApiEndpoint endpoint, KisAccountProperties account) {
+        String name = endpoint.name() + ":" + account.name();
+        return breakers.computeIfAbsent(name,
+                key -> new KisCircuitBreaker(key, failureThreshold, openDuration, nanoClock));
+    }
+
+    public Collection<KisCircuitBreaker> getAll() {
+        return Collections.unmodifiableCollection(breakers.values());
+    }
+}
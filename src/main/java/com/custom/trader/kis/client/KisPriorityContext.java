@@ -0,0 +1,69 @@
+package com.custom.trader.kis.client;
+
+import java.util.function.Supplier;
+
+/**
+ * 현재 스레드의 KIS 요청 우선순위.
+ *
+ * <p>우선순위는 호출 경로(스케줄러, 워커)에서 정하고, {@link KisRestClient}는 요청 시점에 이 값을 읽습니다.
+ * 서비스/전략 계층의 메서드 시그니처를 바꾸지 않기 위해 ThreadLocal로 전달합니다.
+ * 새 스레드에는 전파되지 않으며, 지정하지 않으면 {@link KisRequestPriority#WATCHLIST}입니다.</p>
+ *
+ * <pre>{@code
+ * KisPriorityContext.run(KisRequestPriority.BACKFILL, stockPriceCollectionService::backfillHistoricalPrices);
+ * }</pre>
+ */
+public final class KisPriorityContext {
+
+    private static final KisRequestPriority DEFAULT_PRIORITY = KisRequestPriority.WATCHLIST;
+    private static final ThreadLocal<KisRequestPriority> CURRENT = new ThreadLocal<>();
+
+    private KisPriorityContext() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * 현재 스레드의 우선순위를 반환합니다.
+     *
+     * @return 지정된 우선순위, 없으면 {@link KisRequestPriority#WATCHLIST}
+     */
+    public static KisRequestPriority current() {
+        KisRequestPriority priority = CURRENT.get();
+        return priority != null ? priority : DEFAULT_PRIORITY;
+    }
+
+    /**
+     * 지정한 우선순위로 작업을 실행하고, 끝나면 이전 우선순위로 복원합니다.
+     *
+     * @param priority 우선순위
+     * @param task 실행할 작업
+     */
+    public static void run(KisRequestPriority priority, Runnable task) {
+        call(priority, () -> {
+            task.run();
+            return null;
+        });
+    }
+
+    /**
+     * 지정한 우선순위로 작업을 실행하고 결과를 반환합니다. 끝나면 이전 우선순위로 복원합니다.
+     *
+     * @param priority 우선순위
+     * @param task 실행할 작업
+     * @param <T> 결과 타입
+     * @return 작업 결과
+     */
+    public static <T> T call(KisRequestPriority priority, Supplier<T> task) {
+        KisRequestPriority previous = CURRENT.get();
+        CURRENT.set(priority);
+        try {
+            return task.get();
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package com.custom.trader.kis.client;
+
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.ArrayDeque;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * 우선순위 클래스별 가중치 공정 배분으로 KIS permit을 발급하는 디스패처.
+ *
+ * <p>{@link KisAdaptiveRateLimiter}의 FIFO 대기 대신, 클래스별 대기열에서 다음 permit을 받을 요청을 고릅니다.
+ * 수 시간짜리 백필이 18:30 일간 수집이나 관심종목 동기화의 permit을 독점하지 않도록 하기 위함입니다.</p>
+ *
+ * <p>동작 방식:
+ * <ul>
+ *   <li><b>단일 게이트</b>: 한 번에 한 요청만 {@link KisAdaptiveRateLimiter#acquire()}를 호출 (초당 한도는 그대로)</li>
+ *   <li><b>가중치 공정 배분</b>: 게이트가 비면 대기자가 있는 클래스 중 Smooth Weighted Round-Robin으로 선택
+ *       ({@link KisRequestPriority#getWeight()} 비율, 같은 클래스 안에서는 FIFO)</li>
+ *   <li><b>선점</b>: 다음 대상은 도착 순서가 아니라 게이트가 빌 때마다 결정되므로,
+ *       나중에 도착한 상위 클래스 요청이 먼저 대기 중인 하위 클래스 요청보다 앞서 permit을 받음</li>
+ *   <li><b>기아 방지</b>: 하위 클래스도 가중치만큼은 순번을 받음 (모든 클래스가 바쁠 때 BACKFILL ≈ 1/15)</li>
+ * </ul>
+ * </p>
+ *
+ * <p>메트릭 ({@link MeterBinder}로 자동 등록):
+ * <ul>
+ *   <li>{@code kis.api.dispatch.queue_depth{priority}}: 클래스별 현재 대기 요청 수</li>
+ *   <li>{@code kis.api.dispatch.wait{priority}}: 클래스별 permit 대기 시간 (게이트 + Rate Limiter 대기 포함)</li>
+ * </ul>
+ * </p>
+ *
+ * @see KisPriorityContext
+ */
+public class KisPriorityDispatcher implements MeterBinder {
+
+    private final KisAdaptiveRateLimiter rateLimiter;
+    private final LongSupplier nanoClock;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+    private final Map<KisRequestPriority, ArrayDeque<Waiter>> queues = new EnumMap<>(KisRequestPriority.class);
+    private final Map<KisRequestPriority, Integer> currentWeights = new EnumMap<>(KisRequestPriority.class);
+    private final Map<KisRequestPriority, ClassStats> stats = new EnumMap<>(KisRequestPriority.class);
+
+    private boolean gateBusy;
+    private Waiter granted;
+
+    public KisPriorityDispatcher(KisAdaptiveRateLimiter rateLimiter) {
+        this(rateLimiter, System::nanoTime);
+    }
+
+    KisPriorityDispatcher(KisAdaptiveRateLimiter rateLimiter, LongSupplier nanoClock) {
+        this.rateLimiter = rateLimiter;
+        this.nanoClock = nanoClock;
+        for (KisRequestPriority priority : KisRequestPriority.values()) {
+            queues.put(priority, new ArrayDeque<>());
+            currentWeights.put(priority, 0);
+            stats.put(priority, new ClassStats());
+        }
+    }
+
+    /**
+     * 현재 스레드의 우선순위({@link KisPriorityContext#current()})로 permit을 획득합니다.
+     */
+    public void acquire() {
+        acquire(KisPriorityContext.current());
+    }
+
+    /**
+     * 지정한 우선순위로 permit 1개를 획득할 때까지 대기합니다.
+     *
+     * <p>Rate Limiter와 같이 인터럽트에 반응하지 않습니다 (인터럽트 상태는 유지).</p>
+     *
+     * @param priority 요청 우선순위
+     */
+    public void acquire(KisRequestPriority priority) {
+        long startNanos = nanoClock.getAsLong();
+        Waiter waiter = new Waiter();
+
+        lock.lock();
+        try {
+            queues.get(priority).addLast(waiter);
+            grantNextIfIdle();
+            while (granted != waiter) {
+                changed.awaitUninterruptibly();
+            }
+            granted = null;
+            gateBusy = true;
+        } finally {
+            lock.unlock();
+        }
+
+        try {
+            rateLimiter.acquire();
+        } finally {
+            lock.lock();
+            try {
+                gateBusy = false;
+                grantNextIfIdle();
+            } finally {
+                lock.unlock();
+            }
+            stats.get(priority).record(nanoClock.getAsLong() - startNanos);
+        }
+    }
+
+    /**
+     * 클래스별 현재 대기 요청 수를 반환합니다.
+     *
+     * @param priority 우선순위 클래스
+     * @return 대기 요청 수
+     */
+    public int getQueueDepth(KisRequestPriority priority) {
+        lock.lock();
+        try {
+            return queues.get(priority).size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    long getAcquiredCount(KisRequestPriority priority) {
+        return stats.get(priority).count.get();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (KisRequestPriority priority : KisRequestPriority.values()) {
+            Gauge.builder("kis.api.dispatch.queue_depth", this, dispatcher -> dispatcher.getQueueDepth(priority))
+                    .description("KIS requests waiting for a permit per priority class")
+                    .tag("priority", priority.name())
+                    .register(registry);
+            ClassStats classStats = stats.get(priority);
+            FunctionTimer.builder("kis.api.dispatch.wait", classStats,
+                            s -> s.count.get(), s -> s.totalWaitNanos.get(), TimeUnit.NANOSECONDS)
+                    .description("Time KIS requests waited for a permit per priority class")
+                    .tag("priority", priority.name())
+                    .register(registry);
+        }
+    }
+
+    /**
+     * 게이트가 비어 있고 아직 지정된 대상이 없으면 다음 permit 대상을 선택합니다 (lock 보유 상태에서 호출).
+     */
+    private void grantNextIfIdle() {
+        if (gateBusy || granted != null) {
+            return;
+        }
+        KisRequestPriority selected = selectClass();
+        if (selected == null) {
+            return;
+        }
+        ArrayDeque<Waiter> queue = queues.get(selected);
+        granted = queue.pollFirst();
+        if (queue.isEmpty()) {
+            // 대기열이 비면 누적 가중치를 초기화하여, 다시 대기자가 생겼을 때 이전 이력으로 몰아서 받거나 밀리지 않도록 함
+            currentWeights.put(selected, 0);
+        }
+        changed.signalAll();
+    }
+
+    /**
+     * Smooth Weighted Round-Robin: 대기자가 있는 클래스만 가중치를 누적하고, 가장 큰 클래스를 선택한 뒤 총합만큼 차감.
+     */
+    private KisRequestPriority selectClass() {
+        KisRequestPriority best = null;
+        int totalWeight = 0;
+        for (KisRequestPriority priority : KisRequestPriority.values()) {
+            if (queues.get(priority).isEmpty()) {
+                continue;
+            }
+            int current = currentWeights.get(priority) + priority.getWeight();
+            currentWeights.put(priority, current);
+            totalWeight += priority.getWeight();
+            if (best == null || current > currentWeights.get(best)) {
+                best = priority;
+            }
+        }
+        if (best != null) {
+            currentWeights.put(best, currentWeights.get(best) - totalWeight);
+        }
+        return best;
+    }
+
+    private static final class Waiter {
+    }
+
+    private static final class ClassStats {
+        private final AtomicLong count = new AtomicLong();
+        private final AtomicLong totalWaitNanos = new AtomicLong();
+
+        void record(long waitNanos) {
+            count.incrementAndGet();
+            totalWaitNanos.addAndGet(waitNanos);
+        }
+    }
+}
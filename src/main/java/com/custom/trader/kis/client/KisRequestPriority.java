@@ -0,0 +1,29 @@
+package com.custom.trader.kis.client;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * KIS API 요청 우선순위 클래스.
+ *
+ * <p>{@link KisPriorityDispatcher}가 permit을 배분할 때 사용하는 가중치를 가집니다.
+ * 모든 클래스에 대기자가 있으면 permit은 가중치 비율(8:4:2:1)로 배분되고,
+ * 가장 낮은 클래스도 가중치만큼은 permit을 받으므로 무기한 대기하지 않습니다.</p>
+ *
+ * @see KisPriorityContext
+ */
+@Getter
+@RequiredArgsConstructor
+public enum KisRequestPriority {
+
+    /** 실시간/주문 등 대화형 요청 */
+    REALTIME(8),
+    /** 18:30 일간 수집, 지연 재처리 */
+    DAILY(4),
+    /** 관심종목 동기화 (우선순위를 지정하지 않은 요청의 기본값) */
+    WATCHLIST(2),
+    /** 과거 가격 백필 */
+    BACKFILL(1);
+
+    private final int weight;
+}
@@ -4,11 +4,15 @@ import com.custom.trader.kis.config.KisAccountProperties;
 import com.custom.trader.kis.config.KisApiEndpoint;
 import com.custom.trader.kis.dto.KisApiResponse;
 import com.custom.trader.kis.exception.KisApiException;
-import com.google.common.util.concurrent.RateLimiter;
+import com.custom.trader.kis.exception.KisCircuitOpenException;
+import com.custom.trader.kis.exception.KisRateLimitExceededException;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpStatusCodeException;
 import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
 import org.springframework.web.util.UriBuilder;
 
 import java.net.URI;
@@ -19,7 +23,7 @@ import java.util.function.Function;
  *
  * <p>KIS API에 대한 모든 HTTP GET 요청을 처리하며, 다음 기능을 제공합니다:
  * <ul>
- *   <li>Rate Limiting: 초당 20회 요청 제한 (자동 적용)</li>
+ *   <li>Rate Limiting: 초당 20회 요청 제한 (자동 적용, Throttling 응답 시 적응형 감속)</li>
  *   <li>인증 헤더 자동 추가 (Bearer Token, AppKey, AppSecret)</li>
  *   <li>응답 검증 (성공 코드 확인, 에러 처리)</li>
  * </ul>
@@ -27,9 +31,28 @@ import java.util.function.Function;
  *
  * <p>Rate Limiting:
  * <ul>
- *   <li>모든 {@link #get} 호출은 자동으로 {@link RateLimiter#acquire()}를 통해 제한됨</li>
+ *   <li>모든 {@link #get} 호출은 자동으로 {@link KisPriorityDispatcher}를 거쳐 {@link KisAdaptiveRateLimiter}로 제한됨</li>
+ *   <li>대기 중인 요청은 호출 스레드의 {@link KisPriorityContext} 우선순위에 따라 가중치 공정 배분</li>
  *   <li>호출자는 Rate Limiting을 신경 쓸 필요 없음</li>
  *   <li>초당 20회 제한을 넘어가면 자동으로 대기</li>
+ *   <li>KIS가 "초당 거래건수 초과"(EGW00201)로 응답하면 속도를 낮추고 같은 요청을 재대기열에 넣음
+ *       (최대 {@value #MAX_THROTTLE_ATTEMPTS}회 시도)</li>
+ * </ul>
+ * </p>
+ *
+ * <p>Retry:
+ * <ul>
+ *   <li>I/O 오류와 5xx 응답은 {@link KisRetryPolicy}에 따라 지터 지수 백오프 후 재시도</li>
+ *   <li>재시도 요청도 Rate Limiter를 다시 거침</li>
+ *   <li>실행당 전역 재시도 예산이 소진되면 즉시 실패</li>
+ * </ul>
+ * </p>
+ *
+ * <p>Circuit Breaker:
+ * <ul>
+ *   <li>엔드포인트 × 계정별 {@link KisCircuitBreaker}가 연속 일시적 장애를 집계</li>
+ *   <li>OPEN 상태에서는 네트워크 호출 없이 {@link KisCircuitOpenException}으로 즉시 실패</li>
+ *   <li>재시도 중 Circuit이 열리면 남은 재시도도 중단</li>
  * </ul>
  * </p>
  *
@@ -45,19 +68,25 @@ import java.util.function.Function;
  * }</pre>
  * </p>
  *
- * @see RateLimiter
+ * @see KisAdaptiveRateLimiter
  * @see KisApiEndpoint
  */
+@Slf4j
 @Component
 @RequiredArgsConstructor
-@SuppressWarnings("UnstableApiUsage")
 public class KisRestClient {
 
     private static final String CUSTTYPE = "P";
     private static final String SUCCESS_CODE = "0";
+    private static final String THROTTLE_MSG_CODE = "EGW00201";
+    private static final String THROTTLE_MSG_KEYWORD = "초당 거래건수";
+    static final int MAX_THROTTLE_ATTEMPTS = 3;
 
     private final RestClient kisApiRestClient;
-    private final RateLimiter kisApiRateLimiter;
+    private final KisAdaptiveRateLimiter kisAdaptiveRateLimiter;
+    private final KisPriorityDispatcher kisPriorityDispatcher;
+    private final KisRetryPolicy kisRetryPolicy;
+    private final KisCircuitBreakerRegistry kisCircuitBreakerRegistry;
 
     /**
      * KIS API에 HTTP GET 요청을 보냅니다.
@@ -65,6 +94,9 @@ public class KisRestClient {
      * <p>Rate Limiter를 통해 초당 20회로 요청을 제한합니다.
      * 호출자는 Rate Limiting을 신경 쓸 필요가 없습니다.</p>
      *
+     * <p>Throttling 응답은 비즈니스 오류와 별도로 분류되어, 속도를 낮춘 뒤 같은 요청을 다시 보냅니다.
+     * 일시적 장애(I/O 오류, 5xx)는 {@link KisRetryPolicy}에 따라 백오프 후 재시도합니다.</p>
+     *
      * @param endpoint API 엔드포인트 (TR ID 포함)
      * @param uriFunction URI 빌더 함수 (쿼리 파라미터 설정)
      * @param accessToken OAuth 2.0 액세스 토큰
@@ -73,6 +105,8 @@ public class KisRestClient {
      * @param <T> 응답 타입 (KisApiResponse 구현체)
      * @return API 응답 객체
      * @throws KisApiException API 호출 실패 시 (응답 코드가 "0"이 아닌 경우)
+     * @throws KisRateLimitExceededException Throttling이 최대 시도 횟수 동안 지속된 경우
+     * @throws KisCircuitOpenException 해당 엔드포인트/계정의 Circuit이 OPEN인 경우
      */
     public <T extends KisApiResponse> T get(
             KisApiEndpoint endpoint,
@@ -81,9 +115,78 @@ public class KisRestClient {
             KisAccountProperties account,
             Class<T> responseType
     ) {
-        kisApiRateLimiter.acquire();
+        var circuitBreaker = kisCircuitBreakerRegistry.get(endpoint, account);
+
+        for (int attempt = 1; ; attempt++) {
+            if (!circuitBreaker.tryAcquirePermission()) {
+                throw new KisCircuitOpenException(circuitBreaker.getName());
+            }
+            try {
+                T response = getWithThrottleHandling(endpoint, uriFunction, accessToken, account, responseType);
+                circuitBreaker.onSuccess();
+                return response;
+            } catch (RestClientException e) {
+                if (kisRetryPolicy.isTransient(e)) {
+                    circuitBreaker.onFailure();
+                } else {
+                    circuitBreaker.onSuccess();
+                }
+                if (!kisRetryPolicy.shouldRetry(endpoint, e, attempt) || !kisRetryPolicy.backoff(attempt)) {
+                    throw e;
+                }
+            } catch (RuntimeException e) {
+                // KIS가 응답한 비즈니스 오류/Throttling: 서버는 살아 있으므로 장애로 집계하지 않음
+                circuitBreaker.onSuccess();
+                throw e;
+            }
+        }
+    }
+
+    private <T extends KisApiResponse> T getWithThrottleHandling(
+            KisApiEndpoint endpoint,
+            Function<UriBuilder, URI> uriFunction,
+            String accessToken,
+            KisAccountProperties account,
+            Class<T> responseType
+    ) {
+        for (int attempt = 1; ; attempt++) {
+            kisPriorityDispatcher.acquire();
+
+            T response;
+            try {
+                response = execute(endpoint, uriFunction, accessToken, account, responseType);
+            } catch (HttpStatusCodeException e) {
+                if (!isThrottled(e.getResponseBodyAsString())) {
+                    throw e;
+                }
+                handleThrottled(endpoint, attempt, e.getStatusCode().toString());
+                continue;
+            }
 
-        var response = kisApiRestClient.get()
+            if (response != null && isThrottled(response)) {
+                handleThrottled(endpoint, attempt, response.msg1());
+                continue;
+            }
+
+            kisAdaptiveRateLimiter.onSuccess();
+
+            if (response == null || !SUCCESS_CODE.equals(response.rtCd())) {
+                var errorMsg = response != null ? response.msg1() : "Unknown error";
+                throw new KisApiException(errorMsg);
+            }
+
+            return response;
+        }
+    }
+
+    private <T extends KisApiResponse> T execute(
+            KisApiEndpoint endpoint,
+            Function<UriBuilder, URI> uriFunction,
+            String accessToken,
+            KisAccountProperties account,
+            Class<T> responseType
+    ) {
+        return kisApiRestClient.get()
                 .uri(uriFunction)
                 .headers(headers -> {
                     headers.set("authorization", "Bearer " + accessToken);
@@ -95,12 +198,33 @@ public class KisRestClient {
                 .accept(MediaType.APPLICATION_JSON)
                 .retrieve()
                 .body(responseType);
+    }
 
-        if (response == null || !SUCCESS_CODE.equals(response.rtCd())) {
-            var errorMsg = response != null ? response.msg1() : "Unknown error";
-            throw new KisApiException(errorMsg);
+    /**
+     * Throttling 응답을 처리합니다.
+     *
+     * <p>Rate Limiter 속도를 낮추고, 재시도 가능 횟수가 남아 있으면 반환하여
+     * 호출자가 낮아진 속도로 다시 permit을 기다리게 합니다.</p>
+     *
+     * @throws KisRateLimitExceededException 최대 시도 횟수를 초과한 경우
+     */
+    private void handleThrottled(KisApiEndpoint endpoint, int attempt, String detail) {
+        kisAdaptiveRateLimiter.onThrottled();
+        if (attempt >= MAX_THROTTLE_ATTEMPTS) {
+            throw new KisRateLimitExceededException(
+                    "KIS throttling persisted after " + attempt + " attempts: " + detail);
         }
+        log.info("KIS throttled request to {} (attempt {}/{}), re-queueing",
+                endpoint.name(), attempt, MAX_THROTTLE_ATTEMPTS);
+    }
+
+    private boolean isThrottled(KisApiResponse response) {
+        return THROTTLE_MSG_CODE.equals(response.msgCd())
+                || (response.msg1() != null && response.msg1().contains(THROTTLE_MSG_KEYWORD));
+    }
 
-        return response;
+    private boolean isThrottled(String responseBody) {
+        return responseBody != null
+                && (responseBody.contains(THROTTLE_MSG_CODE) || responseBody.contains(THROTTLE_MSG_KEYWORD));
     }
 }
@@ -0,0 +1,51 @@
+package com.custom.trader.kis.client;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 실행(스케줄 1회, 워커 작업 1건) 하나의 KIS 재시도 예산.
+ *
+ * <p>{@link KisRetryPolicy#runWithBudget}이 실행마다 새로 만들고 {@link KisRetryBudgetContext}로 전달합니다.
+ * 실행마다 별도 객체이므로 다른 실행이 시작되어도 진행 중인 실행의 예산이 다시 채워지지 않습니다.</p>
+ */
+public final class KisRetryBudget {
+
+    /**
+     * 실행 밖의 호출(수동 호출 등)에 쓰는 예산. 시도 횟수 제한만 적용합니다.
+     */
+    static final KisRetryBudget UNLIMITED = new KisRetryBudget("unscoped", Integer.MAX_VALUE);
+
+    private final String runName;
+    private final int initial;
+    private final AtomicInteger remaining;
+
+    KisRetryBudget(String runName, int initial) {
+        this.runName = runName;
+        this.initial = initial;
+        this.remaining = new AtomicInteger(initial);
+    }
+
+    /**
+     * 예산을 1 소비합니다.
+     *
+     * @return 소비했으면 true, 이미 소진되었으면 false
+     */
+    boolean tryConsume() {
+        if (this == UNLIMITED) {
+            return true;
+        }
+        return remaining.getAndUpdate(budget -> budget > 0 ? budget - 1 : 0) > 0;
+    }
+
+    public String getRunName() {
+        return runName;
+    }
+
+    public int getRemaining() {
+        return remaining.get();
+    }
+
+    public int getUsed() {
+        return initial - remaining.get();
+    }
+}
@@ -0,0 +1,65 @@
+package com.custom.trader.kis.client;
+
+import java.util.function.Supplier;
+
+/**
+ * 현재 스레드가 속한 실행의 KIS 재시도 예산.
+ *
+ * <p>{@link KisPriorityContext}와 같은 방식으로, 실행 진입점({@link KisRetryPolicy#runWithBudget})에서 정하고
+ * {@link KisRetryPolicy}가 재시도 시점에 읽습니다. 새 스레드에는 전파되지 않으므로 작업을 다른 스레드로 넘기는 곳은
+ * 호출 스레드의 {@link #current()}를 받아 {@link #call}로 다시 지정해야 합니다.
+ * 지정하지 않으면 {@link KisRetryBudget#UNLIMITED}입니다.</p>
+ */
+public final class KisRetryBudgetContext {
+
+    private static final ThreadLocal<KisRetryBudget> CURRENT = new ThreadLocal<>();
+
+    private KisRetryBudgetContext() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * 현재 스레드의 재시도 예산을 반환합니다.
+     *
+     * @return 지정된 예산, 없으면 {@link KisRetryBudget#UNLIMITED}
+     */
+    public static KisRetryBudget current() {
+        KisRetryBudget budget = CURRENT.get();
+        return budget != null ? budget : KisRetryBudget.UNLIMITED;
+    }
+
+    /**
+     * 지정한 예산으로 작업을 실행하고, 끝나면 이전 예산으로 복원합니다.
+     *
+     * @param budget 재시도 예산
+     * @param task 실행할 작업
+     */
+    public static void run(KisRetryBudget budget, Runnable task) {
+        call(budget, () -> {
+            task.run();
+            return null;
+        });
+    }
+
+    /**
+     * 지정한 예산으로 작업을 실행하고 결과를 반환합니다. 끝나면 이전 예산으로 복원합니다.
+     *
+     * @param budget 재시도 예산
+     * @param task 실행할 작업
+     * @param <T> 결과 타입
+     * @return 작업 결과
+     */
+    public static <T> T call(KisRetryBudget budget, Supplier<T> task) {
+        KisRetryBudget previous = CURRENT.get();
+        CURRENT.set(budget);
+        try {
+            return task.get();
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package com.custom.trader.kis.client;
+
+import com.custom.trader.kis.config.KisApiEndpoint;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * KIS API 일시적 장애에 대한 재시도 정책.
+ *
+ * <p>재시도 대상:
+ * <ul>
+ *   <li>{@link ResourceAccessException}: 연결 실패, 타임아웃 등 I/O 오류</li>
+ *   <li>{@link HttpServerErrorException}: KIS 5xx 응답</li>
+ * </ul>
+ * 비즈니스 오류({@code KisApiException})와 4xx 응답은 재시도해도 결과가 같으므로 제외합니다.
+ * </p>
+ *
+ * <p>Backoff: Full Jitter 지수 백오프 — {@code random(0, min(maxDelay, baseDelay × 2^(attempt-1)))}.
+ * 재시도 요청도 {@link KisRestClient}의 Rate Limiter를 다시 거치므로 초당 한도를 넘지 않습니다.</p>
+ *
+ * <p>재시도 예산 (Retry Budget):
+ * <ul>
+ *   <li>실행(스케줄 1회, 워커 작업 1건)마다 재시도 횟수를 {@code runBudget}으로 제한</li>
+ *   <li>KIS 장애 시 재시도가 부하를 증폭시키는 것을 방지 (예산 소진 후에는 즉시 실패)</li>
+ *   <li>실행 진입점이 {@link #runWithBudget}으로 실행 전용 {@link KisRetryBudget}을 만들고
+ *       {@link KisRetryBudgetContext}로 전달. 실행이 겹쳐도 서로의 예산을 채우거나 소비하지 않음</li>
+ * </ul>
+ * </p>
+ *
+ * <p>메트릭 ({@link MeterBinder}로 자동 등록):
+ * <ul>
+ *   <li>{@code kis.api.retries{endpoint}}: 엔드포인트별 재시도 횟수</li>
+ *   <li>{@code kis.api.retry_budget.remaining}: 진행 중인 실행들의 남은 재시도 예산 합계</li>
+ *   <li>{@code kis.api.retry_budget.exhausted}: 예산 소진으로 재시도하지 못한 횟수</li>
+ * </ul>
+ * </p>
+ */
+@Slf4j
+public class KisRetryPolicy implements MeterBinder {
+
+    private final int maxAttempts;
+    private final Duration baseDelay;
+    private final Duration maxDelay;
+    private final int runBudget;
+
+    private final Set<KisRetryBudget> activeBudgets = ConcurrentHashMap.newKeySet();
+    private final AtomicLong budgetExhaustedCount = new AtomicLong();
+    private final Map<KisApiEndpoint, AtomicLong> retryCounts = new EnumMap<>(KisApiEndpoint.class);
+
+    /**
+     * 재시도 정책을 생성합니다.
+     *
+     * @param maxAttempts 최초 호출을 포함한 최대 시도 횟수
+     * @param baseDelay 첫 재시도 백오프 상한
+     * @param maxDelay 백오프 상한
+     * @param runBudget 실행당 전역 재시도 예산
+     */
+    public KisRetryPolicy(int maxAttempts, Duration baseDelay, Duration maxDelay, int runBudget) {
+        if (maxAttempts < 1 || runBudget < 0) {
+            throw new IllegalArgumentException(
+                    "Invalid retry policy: maxAttempts=" + maxAttempts + ", runBudget=" + runBudget);
+        }
+        this.maxAttempts = maxAttempts;
+        this.baseDelay = baseDelay;
+        this.maxDelay = maxDelay;
+        this.runBudget = runBudget;
+        for (KisApiEndpoint endpoint : KisApiEndpoint.values()) {
+            retryCounts.put(endpoint, new AtomicLong());
+        }
+    }
+
+    /**
+     * 실패한 시도를 재시도할지 결정합니다.
+     *
+     * <p>재시도 가능한 예외이고 시도 횟수와 현재 실행의 예산({@link KisRetryBudgetContext#current()})이 남아 있으면
+     * 예산을 1 소비하고 true를 반환합니다.</p>
+     *
+     * @param endpoint 호출한 엔드포인트
+     * @param exception 발생한 예외
+     * @param attempt 방금 실패한 시도 번호 (1부터 시작)
+     * @return 재시도 여부
+     */
+    public boolean shouldRetry(KisApiEndpoint endpoint, RuntimeException exception, int attempt) {
+        if (!isTransient(exception) || attempt >= maxAttempts) {
+            return false;
+        }
+        KisRetryBudget budget = KisRetryBudgetContext.current();
+        if (!budget.tryConsume()) {
+            budgetExhaustedCount.incrementAndGet();
+            log.warn("KIS retry budget of run {} exhausted, not retrying {}: {}",
+                    budget.getRunName(), endpoint.name(), exception.getMessage());
+            return false;
+        }
+        retryCounts.get(endpoint).incrementAndGet();
+        log.info("Retrying KIS request to {} (attempt {}/{}): {}",
+                endpoint.name(), attempt + 1, maxAttempts, exception.getMessage());
+        return true;
+    }
+
+    /**
+     * 재시도 전 지터가 적용된 지수 백오프만큼 대기합니다.
+     *
+     * @param attempt 방금 실패한 시도 번호 (1부터 시작)
+     * @return 중단(interrupt) 없이 대기를 마쳤으면 true
+     */
+    public boolean backoff(int attempt) {
+        long delayMillis = computeDelay(attempt).toMillis();
+        if (delayMillis <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(delayMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Full Jitter 지수 백오프 대기 시간을 계산합니다.
+     *
+     * @param attempt 방금 실패한 시도 번호 (1부터 시작)
+     * @return 0 이상 상한 이하의 대기 시간
+     */
+    Duration computeDelay(int attempt) {
+        long cap = Math.min(maxDelay.toMillis(), baseDelay.toMillis() << Math.min(attempt - 1, 20));
+        if (cap <= 0) {
+            return Duration.ZERO;
+        }
+        return Duration.ofMillis(ThreadLocalRandom.current().nextLong(cap + 1));
+    }
+
+    /**
+     * 실행 전용 재시도 예산으로 작업을 실행합니다.
+     *
+     * @param runName 실행 이름 (로그용)
+     * @param task 실행할 작업
+     */
+    public void runWithBudget(String runName, Runnable task) {
+        callWithBudget(runName, () -> {
+            task.run();
+            return null;
+        });
+    }
+
+    /**
+     * 실행 전용 재시도 예산으로 작업을 실행하고 결과를 반환합니다.
+     *
+     * @param runName 실행 이름 (로그용)
+     * @param task 실행할 작업
+     * @param <T> 결과 타입
+     * @return 작업 결과
+     */
+    public <T> T callWithBudget(String runName, Supplier<T> task) {
+        KisRetryBudget budget = new KisRetryBudget(runName, runBudget);
+        activeBudgets.add(budget);
+        try {
+            return KisRetryBudgetContext.call(budget, task);
+        } finally {
+            activeBudgets.remove(budget);
+            if (budget.getUsed() > 0) {
+                log.info("Run {} used {}/{} KIS retries", runName, budget.getUsed(), runBudget);
+            }
+        }
+    }
+
+    /**
+     * 진행 중인 실행들의 남은 재시도 예산 합계.
+     */
+    public int getRemainingBudget() {
+        return activeBudgets.stream().mapToInt(KisRetryBudget::getRemaining).sum();
+    }
+
+    public long getRetryCount(KisApiEndpoint endpoint) {
+        return retryCounts.get(endpoint).get();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        retryCounts.forEach((endpoint, count) ->
+                FunctionCounter.builder("kis.api.retries", count, AtomicLong::get)
+                        .description("KIS API retries per endpoint")
+                        .tag("endpoint", endpoint.name())
+                        .register(registry));
+        Gauge.builder("kis.api.retry_budget.remaining", this, KisRetryPolicy::getRemainingBudget)
+                .description("Remaining KIS retry budget summed over running runs")
+                .register(registry);
+        FunctionCounter.builder("kis.api.retry_budget.exhausted", budgetExhaustedCount, AtomicLong::get)
+                .description("KIS retries skipped because the run budget was exhausted")
+                .register(registry);
+    }
+
+    /**
+     * 일시적 장애(I/O 오류, 5xx) 여부를 판단합니다.
+     *
+     * @param exception 발생한 예외
+     * @return 재시도/Circuit Breaker 집계 대상이면 true
+     */
+    public boolean isTransient(RuntimeException exception) {
+        return exception instanceof ResourceAccessException
+                || exception instanceof HttpServerErrorException;
+    }
+}
@@ -30,6 +30,10 @@ public enum KisApiEndpoint {
     OVERSEAS_INDEX_DAILY_PRICE(
         "/uapi/overseas-price/v1/quotations/inquire-daily-chartprice",
         "FHKST03030100"
+    ),
+    DOMESTIC_HOLIDAY(
+        "/uapi/domestic-stock/v1/quotations/chk-holiday",
+        "CTCA0903R"
     );
 
     private final String path;
@@ -3,4 +3,16 @@ package com.custom.trader.kis.dto;
 public interface KisApiResponse {
     String rtCd();
     String msg1();
+
+    /**
+     * KIS 메시지 코드 (예: "EGW00201" 초당 거래건수 초과).
+     *
+     * <p>모든 응답 DTO가 msg_cd를 포함하지는 않으므로 기본값은 null입니다.
+     * record 컴포넌트로 {@code msgCd}를 선언한 응답은 자동으로 이 메서드를 구현합니다.</p>
+     *
+     * @return 메시지 코드 (없으면 null)
+     */
+    default String msgCd() {
+        return null;
+    }
 }
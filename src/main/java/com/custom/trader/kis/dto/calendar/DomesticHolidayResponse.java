@@ -0,0 +1,29 @@
+package com.custom.trader.kis.dto.calendar;
+
+import com.custom.trader.kis.dto.KisApiResponse;
+
+import java.util.List;
+
+public record DomesticHolidayResponse(
+    String rtCd,
+    String msgCd,
+    String msg1,
+    String ctxAreaNk,
+    String ctxAreaFk,
+    List<DayItem> output
+) implements KisApiResponse {
+
+    /**
+     * 기준일 이후 일자별 영업일/거래일/개장일/결제일 여부.
+     *
+     * <p>{@code opndYn}(개장일 여부)이 "Y"인 날만 주식 시장이 열립니다.</p>
+     */
+    public record DayItem(
+        String bassDt,
+        String wdayDvsnCd,
+        String bzdyYn,
+        String trDayYn,
+        String opndYn,
+        String sttlDayYn
+    ) {}
+}
@@ -0,0 +1,15 @@
+package com.custom.trader.kis.exception;
+
+import com.custom.trader.common.exception.ErrorCode;
+
+/**
+ * KIS Circuit Breaker가 OPEN 상태여서 네트워크 호출 없이 즉시 거부되었을 때 발생하는 예외.
+ *
+ * <p>{@link KisApiException}을 상속하므로 배치 처리에서는 복구 가능한 실패로 집계됩니다.</p>
+ */
+public class KisCircuitOpenException extends KisApiException {
+
+    public KisCircuitOpenException(String circuitName) {
+        super(ErrorCode.KIS_CIRCUIT_OPEN, "KIS circuit open: " + circuitName);
+    }
+}
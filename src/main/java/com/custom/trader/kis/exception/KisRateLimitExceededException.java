@@ -0,0 +1,16 @@
+package com.custom.trader.kis.exception;
+
+import com.custom.trader.common.exception.ErrorCode;
+
+/**
+ * KIS API가 초당 거래건수 초과(Throttling)로 요청을 거부했을 때 발생하는 예외.
+ *
+ * <p>일반 비즈니스 오류와 구분하기 위해 별도 타입으로 분리되었으며,
+ * {@link KisApiException}을 상속하므로 기존 호출부에서는 복구 가능한 실패로 집계됩니다.</p>
+ */
+public class KisRateLimitExceededException extends KisApiException {
+
+    public KisRateLimitExceededException(String message) {
+        super(ErrorCode.KIS_RATE_LIMIT_EXCEEDED, message);
+    }
+}
@@ -0,0 +1,58 @@
+package com.custom.trader.kis.service;
+
+import static com.custom.trader.common.constant.DateFormatConstants.DATE_FORMATTER;
+
+import com.custom.trader.kis.client.KisRestClient;
+import com.custom.trader.kis.config.KisApiEndpoint;
+import com.custom.trader.kis.dto.calendar.DomesticHolidayResponse;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * KIS 국내 휴장일 조회 서비스.
+ *
+ * <p>기준일부터 이어지는 일자별 개장 여부를 반환합니다. KIS는 하루 1회 수준의 호출을 권장하므로
+ * 결과는 호출 측에서 저장해 다시 조회하지 않습니다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class KisMarketCalendarService {
+
+    private final KisRestClient kisRestClient;
+    private final KisAuthService kisAuthService;
+
+    /**
+     * 기준일(포함)부터 이어지는 국내 시장 일자 정보를 조회합니다.
+     *
+     * @param baseDate 기준일
+     * @return 일자 목록 (기준일부터 오름차순, 없으면 빈 리스트)
+     */
+    public List<DomesticHolidayResponse.DayItem> getDomesticMarketDays(LocalDate baseDate) {
+        var account = kisAuthService.getDefaultAccount();
+        var accessToken = kisAuthService.getAccessToken(account.name());
+
+        log.info("Fetching domestic market days from: {}", baseDate);
+
+        var response = kisRestClient.get(
+                KisApiEndpoint.DOMESTIC_HOLIDAY,
+                uriBuilder -> uriBuilder
+                        .path(KisApiEndpoint.DOMESTIC_HOLIDAY.getPath())
+                        .queryParam("BASS_DT", baseDate.format(DATE_FORMATTER))
+                        .queryParam("CTX_AREA_NK", "")
+                        .queryParam("CTX_AREA_FK", "")
+                        .build(),
+                accessToken,
+                account,
+                DomesticHolidayResponse.class
+        );
+
+        var days = response.output() != null ? response.output() : Collections.<DomesticHolidayResponse.DayItem>emptyList();
+        log.info("Fetched {} domestic market days from {}", days.size(), baseDate);
+        return days;
+    }
+}
@@ -0,0 +1,142 @@
+package com.custom.trader.kis.service;
+
+import com.google.common.base.Ticker;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 동일한 KIS 조회 요청을 하나로 합치는 Single-Flight 계층.
+ *
+ * <p>동작 방식:
+ * <ul>
+ *   <li><b>In-flight 합치기</b>: 같은 키의 요청이 진행 중이면 새 API 호출 없이 진행 중인
+ *       {@link CompletableFuture}의 결과(또는 예외)를 공유</li>
+ *   <li><b>짧은 TTL 캐시</b>: 성공한 응답을 {@code cacheTtl} 동안 보관하여 직후의 같은 요청도 재사용
+ *       ({@code cacheTtl}이 0이면 비활성화). 실패 응답은 캐시하지 않음</li>
+ * </ul>
+ * </p>
+ *
+ * <p>첫 요청자가 자기 스레드에서 직접 API를 호출하므로 별도 Executor가 필요 없고,
+ * Rate Limiter/재시도/Circuit Breaker는 기존과 동일하게 한 번만 적용됩니다.</p>
+ *
+ * <p>반환값은 여러 호출자가 공유하므로 호출자는 결과를 수정하지 않아야 합니다.</p>
+ *
+ * <p>메트릭 ({@link MeterBinder}로 자동 등록):
+ * <ul>
+ *   <li>{@code kis.api.coalesced{source=inflight}}: 진행 중 요청에 합류하여 절약한 호출 수</li>
+ *   <li>{@code kis.api.coalesced{source=cache}}: TTL 캐시로 절약한 호출 수</li>
+ * </ul>
+ * </p>
+ *
+ * @see KisStockPriceService
+ */
+@Slf4j
+public class KisRequestCoalescer implements MeterBinder {
+
+    private final ConcurrentHashMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final Cache<String, Object> cache;
+    private final AtomicLong inFlightSaved = new AtomicLong();
+    private final AtomicLong cacheSaved = new AtomicLong();
+
+    /**
+     * Coalescer를 생성합니다.
+     *
+     * @param cacheTtl 성공 응답 캐시 유지 시간 (0이면 캐시 비활성화)
+     * @param cacheMaxSize 캐시 최대 항목 수
+     */
+    public KisRequestCoalescer(Duration cacheTtl, long cacheMaxSize) {
+        this(cacheTtl, cacheMaxSize, Ticker.systemTicker());
+    }
+
+    KisRequestCoalescer(Duration cacheTtl, long cacheMaxSize, Ticker ticker) {
+        this.cache = cacheTtl.isZero() ? null : CacheBuilder.newBuilder()
+                .expireAfterWrite(cacheTtl)
+                .maximumSize(cacheMaxSize)
+                .ticker(ticker)
+                .build();
+    }
+
+    /**
+     * 같은 키의 요청을 합쳐서 실행합니다.
+     *
+     * @param <V> 응답 타입
+     * @param key 요청 식별 키 (엔드포인트 + 실제 쿼리 파라미터)
+     * @param loader 실제 API 호출
+     * @return 응답 (다른 호출자와 공유될 수 있음)
+     */
+    @SuppressWarnings("unchecked")
+    public <V> V execute(String key, Supplier<V> loader) {
+        if (cache != null) {
+            Object cached = cache.getIfPresent(key);
+            if (cached != null) {
+                cacheSaved.incrementAndGet();
+                log.debug("KIS request served from cache: {}", key);
+                return (V) cached;
+            }
+        }
+
+        var future = new CompletableFuture<Object>();
+        var existing = inFlight.putIfAbsent(key, future);
+        if (existing != null) {
+            inFlightSaved.incrementAndGet();
+            log.debug("KIS request joined in-flight call: {}", key);
+            return (V) await(existing);
+        }
+
+        try {
+            V value = loader.get();
+            if (cache != null && value != null) {
+                cache.put(key, value);
+            }
+            future.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    public long getInFlightSavedCount() {
+        return inFlightSaved.get();
+    }
+
+    public long getCacheSavedCount() {
+        return cacheSaved.get();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("kis.api.coalesced", inFlightSaved, AtomicLong::get)
+                .description("KIS API calls saved by joining an identical in-flight request")
+                .tag("source", "inflight")
+                .register(registry);
+        FunctionCounter.builder("kis.api.coalesced", cacheSaved, AtomicLong::get)
+                .description("KIS API calls saved by the short-TTL response cache")
+                .tag("source", "cache")
+                .register(registry);
+    }
+
+    private static Object await(CompletableFuture<Object> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
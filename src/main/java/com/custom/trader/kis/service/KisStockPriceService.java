@@ -22,6 +22,12 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.web.util.UriBuilder;
 
+/**
+ * KIS 일간 시세 조회 서비스.
+ *
+ * <p>동일한 (엔드포인트, 코드, 기간) 요청은 {@link KisRequestCoalescer}로 합쳐져
+ * 동시에 들어와도 KIS API는 한 번만 호출됩니다.</p>
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -30,6 +36,7 @@ public class KisStockPriceService {
     private final KisRestClient kisRestClient;
     private final KisAuthService kisAuthService;
     private final KisProperties kisProperties;
+    private final KisRequestCoalescer kisRequestCoalescer;
 
     /**
      * API 응답에서 output2를 안전하게 추출합니다.
@@ -62,9 +69,22 @@ public class KisStockPriceService {
      * @param outputExtractor output2 추출 함수 (null-safe)
      * @param assetTypeDescription 자산 타입 설명 (로그 출력용)
      * @param code 종목/지수 코드
+     * @param requestKey 요청 합치기 키 (실제 쿼리 파라미터만 포함)
      * @return 시세 데이터 리스트 (빈 리스트는 Collections.emptyList())
      */
     private <T extends KisApiResponse, I> List<I> fetchDailyPrices(
+            KisApiEndpoint endpoint,
+            Function<UriBuilder, URI> uriBuilderFunction,
+            Class<T> responseType,
+            Function<T, List<I>> outputExtractor,
+            String assetTypeDescription,
+            String code,
+            String requestKey) {
+        return kisRequestCoalescer.execute(requestKey, () -> callDailyPriceApi(
+                endpoint, uriBuilderFunction, responseType, outputExtractor, assetTypeDescription, code));
+    }
+
+    private <T extends KisApiResponse, I> List<I> callDailyPriceApi(
             KisApiEndpoint endpoint,
             Function<UriBuilder, URI> uriBuilderFunction,
             Class<T> responseType,
@@ -109,12 +129,14 @@ public class KisStockPriceService {
                         .queryParam("FID_INPUT_DATE_1", startDate.format(DATE_FORMATTER))
                         .queryParam("FID_INPUT_DATE_2", endDate.format(DATE_FORMATTER))
                         .queryParam("FID_PERIOD_DIV_CODE", "D")
+                        // 0: 수정주가 (해외 MODP=1과 같은 기준, 분할/병합은 수정 계수로 추적 - ADR-0034)
                         .queryParam("FID_ORG_ADJ_PRC", "0")
                         .build(),
                 DomesticStockDailyPriceResponse.class,
                 response -> safeExtractOutput(response, DomesticStockDailyPriceResponse::output2),
                 "domestic stock",
-                stockCode
+                stockCode,
+                requestKey(KisApiEndpoint.DOMESTIC_STOCK_DAILY_PRICE, stockCode, startDate, endDate)
         );
     }
 
@@ -133,7 +155,8 @@ public class KisStockPriceService {
                 DomesticIndexDailyPriceResponse.class,
                 response -> safeExtractOutput(response, DomesticIndexDailyPriceResponse::output2),
                 "domestic index",
-                indexCode
+                indexCode,
+                requestKey(KisApiEndpoint.DOMESTIC_INDEX_DAILY_PRICE, indexCode, startDate, endDate)
         );
     }
 
@@ -147,12 +170,15 @@ public class KisStockPriceService {
                         .queryParam("SYMB", stockCode)
                         .queryParam("GUBN", "0")
                         .queryParam("BYMD", endDate.format(DATE_FORMATTER))
+                        // 1: 수정주가 반영
                         .queryParam("MODP", "1")
                         .build(),
                 OverseasStockDailyPriceResponse.class,
                 response -> safeExtractOutput(response, OverseasStockDailyPriceResponse::output2),
                 "overseas stock",
-                stockCode
+                stockCode,
+                // 해외 주식 API는 종료일(BYMD)만 사용하므로 시작일은 키에서 제외
+                requestKey(KisApiEndpoint.OVERSEAS_STOCK_DAILY_PRICE, exchangeCode, stockCode, endDate)
         );
     }
 
@@ -171,8 +197,16 @@ public class KisStockPriceService {
                 OverseasIndexDailyPriceResponse.class,
                 response -> safeExtractOutput(response, OverseasIndexDailyPriceResponse::output2),
                 "overseas index",
-                indexCode
+                indexCode,
+                requestKey(KisApiEndpoint.OVERSEAS_INDEX_DAILY_PRICE, exchangeCode, indexCode, startDate, endDate)
         );
     }
 
+    private static String requestKey(KisApiEndpoint endpoint, Object... params) {
+        var key = new StringBuilder(endpoint.name());
+        for (Object param : params) {
+            key.append(':').append(param);
+        }
+        return key.toString();
+    }
 }
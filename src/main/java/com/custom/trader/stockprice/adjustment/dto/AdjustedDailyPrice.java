@@ -0,0 +1,21 @@
+package com.custom.trader.stockprice.adjustment.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 수정 계수를 곱한 일봉 (조회 시점 기준 가격).
+ *
+ * @param adjustmentFactor 저장 가격에 곱한 누적 계수 (사건 이후 거래일은 1)
+ */
+public record AdjustedDailyPrice(
+        LocalDate tradeDate,
+        BigDecimal openPrice,
+        BigDecimal highPrice,
+        BigDecimal lowPrice,
+        BigDecimal closePrice,
+        Long volume,
+        BigDecimal tradingValue,
+        BigDecimal adjustmentFactor
+) {
+}
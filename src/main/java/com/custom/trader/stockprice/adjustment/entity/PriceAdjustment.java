@@ -0,0 +1,61 @@
+package com.custom.trader.stockprice.adjustment.entity;
+
+import com.custom.trader.common.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 종목의 수정 계수 변화 (액면분할/병합, 무상증자 등으로 과거 가격 기준이 바뀐 사건).
+ *
+ * <p>{@code effective_date} 이전 거래일의 저장 가격에 {@code factor}를 곱하면 탐지 시점 기준 가격이 됩니다.
+ * 여러 사건이 있으면 거래일보다 늦은 사건의 계수를 모두 곱합니다 ({@code AdjustmentSchedule}).</p>
+ *
+ * <p>탐지 근거로 비교한 거래일과 두 종가(기존 이력을 직전 기준으로 환산한 값, 새로 내려온 값)를 함께 남깁니다.</p>
+ */
+@Entity
+@Table(name = "price_adjustment", indexes = {
+    @Index(name = "idx_price_adjustment_instrument_effective", columnList = "instrument_id, effective_date")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PriceAdjustment extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "instrument_id", nullable = false)
+    private Integer instrumentId;
+
+    @Column(name = "effective_date", nullable = false)
+    private LocalDate effectiveDate;
+
+    @Column(name = "factor", nullable = false, precision = 20, scale = 10)
+    private BigDecimal factor;
+
+    @Column(name = "reference_date", nullable = false)
+    private LocalDate referenceDate;
+
+    @Column(name = "expected_close", nullable = false, precision = 15, scale = 4)
+    private BigDecimal expectedClose;
+
+    @Column(name = "fetched_close", nullable = false, precision = 15, scale = 4)
+    private BigDecimal fetchedClose;
+
+    @Builder
+    public PriceAdjustment(Integer instrumentId, LocalDate effectiveDate, BigDecimal factor,
+                           LocalDate referenceDate, BigDecimal expectedClose, BigDecimal fetchedClose) {
+        this.instrumentId = instrumentId;
+        this.effectiveDate = effectiveDate;
+        this.factor = factor;
+        this.referenceDate = referenceDate;
+        this.expectedClose = expectedClose;
+        this.fetchedClose = fetchedClose;
+    }
+}
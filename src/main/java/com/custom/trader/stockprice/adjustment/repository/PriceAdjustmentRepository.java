@@ -0,0 +1,11 @@
+package com.custom.trader.stockprice.adjustment.repository;
+
+import com.custom.trader.stockprice.adjustment.entity.PriceAdjustment;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface PriceAdjustmentRepository extends JpaRepository<PriceAdjustment, Long> {
+
+    List<PriceAdjustment> findByInstrumentIdOrderByEffectiveDateAsc(Integer instrumentId);
+}
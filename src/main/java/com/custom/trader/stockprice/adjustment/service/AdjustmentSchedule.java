@@ -0,0 +1,71 @@
+package com.custom.trader.stockprice.adjustment.service;
+
+import com.custom.trader.stockprice.adjustment.entity.PriceAdjustment;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 종목의 수정 계수 사건을 거래일별 누적 계수로 조회하는 불변 객체.
+ *
+ * <p>거래일 d의 누적 계수는 {@code effective_date > d}인 사건 계수의 곱입니다.
+ * 사건을 시행일 오름차순으로 두고 뒤에서부터 누적곱을 미리 계산하므로, 조회는 사건 수에만 비례합니다
+ * (종목당 사건은 보통 0~수 건).</p>
+ */
+public final class AdjustmentSchedule {
+
+    private static final AdjustmentSchedule NONE = new AdjustmentSchedule(new LocalDate[0], new BigDecimal[0]);
+
+    private final LocalDate[] effectiveDates;
+    private final BigDecimal[] cumulativeFactors;
+
+    private AdjustmentSchedule(LocalDate[] effectiveDates, BigDecimal[] cumulativeFactors) {
+        this.effectiveDates = effectiveDates;
+        this.cumulativeFactors = cumulativeFactors;
+    }
+
+    public static AdjustmentSchedule none() {
+        return NONE;
+    }
+
+    /**
+     * @param adjustments 종목의 사건 (시행일 오름차순)
+     */
+    public static AdjustmentSchedule of(List<PriceAdjustment> adjustments) {
+        if (adjustments.isEmpty()) {
+            return NONE;
+        }
+        int size = adjustments.size();
+        LocalDate[] effectiveDates = new LocalDate[size];
+        BigDecimal[] cumulativeFactors = new BigDecimal[size];
+        BigDecimal cumulative = BigDecimal.ONE;
+        for (int i = size - 1; i >= 0; i--) {
+            PriceAdjustment adjustment = adjustments.get(i);
+            cumulative = cumulative.multiply(adjustment.getFactor(), MathContext.DECIMAL64);
+            effectiveDates[i] = adjustment.getEffectiveDate();
+            cumulativeFactors[i] = cumulative;
+        }
+        return new AdjustmentSchedule(effectiveDates, cumulativeFactors);
+    }
+
+    public boolean isEmpty() {
+        return effectiveDates.length == 0;
+    }
+
+    /**
+     * 거래일의 저장 가격을 현재 기준으로 바꾸는 누적 계수를 반환합니다.
+     *
+     * @param tradeDate 거래일
+     * @return 누적 계수 (이후 사건이 없으면 1)
+     */
+    public BigDecimal factorAt(LocalDate tradeDate) {
+        for (int i = 0; i < effectiveDates.length; i++) {
+            if (effectiveDates[i].isAfter(tradeDate)) {
+                return cumulativeFactors[i];
+            }
+        }
+        return BigDecimal.ONE;
+    }
+}
@@ -0,0 +1,309 @@
+package com.custom.trader.stockprice.adjustment.service;
+
+import com.custom.trader.common.datasource.ReplicaReadContext;
+import com.custom.trader.common.enums.AssetType;
+import com.custom.trader.stockprice.adjustment.dto.AdjustedDailyPrice;
+import com.custom.trader.stockprice.adjustment.entity.PriceAdjustment;
+import com.custom.trader.stockprice.adjustment.repository.PriceAdjustmentRepository;
+import com.custom.trader.stockprice.constant.DailyPriceTable;
+import com.custom.trader.stockprice.instrument.entity.DailyPriceBar;
+import com.custom.trader.stockprice.instrument.service.InstrumentRegistry;
+import com.custom.trader.stockprice.util.TradeDateBitmap;
+import com.custom.trader.watchlist.entity.WatchlistStockRef;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 액면분할/무상증자 등으로 바뀐 가격 기준을 수정 계수로 관리하는 서비스.
+ *
+ * <p>KIS 일봉은 수정주가 기준이라, 사건이 생기면 이미 저장한 과거 가격과 새로 내려온 같은 거래일 가격이 달라집니다.
+ * 이력을 다시 받거나 고쳐 쓰지 않고 다음과 같이 처리합니다:
+ * <ul>
+ *   <li><b>탐지</b>: 저장 경로에서 이미 저장된 거래일이 다시 내려오면 최근 {@value #CHECK_DAYS}개 거래일의 종가를 비교하여,
+ *       같은 비율로 어긋난 거래일이 {@value #MIN_MISMATCHES}개 이상이면 사건({@link PriceAdjustment})으로 기록</li>
+ *   <li><b>저장 기준 유지</b>: 사건 이후 과거 거래일을 새로 저장할 때(백필/공백 복구) 누적 계수로 나눠 기존 이력과 같은 기준으로 저장</li>
+ *   <li><b>조회</b>: 저장 가격에 거래일 이후 사건의 누적 계수를 곱해 현재 기준 일봉을 반환</li>
+ * </ul>
+ * </p>
+ *
+ * <p>지수는 기업 행위가 없으므로 주식(국내/해외)만 대상입니다.</p>
+ */
+@Slf4j
+@Service
+public class PriceAdjustmentService {
+
+    /**
+     * 탐지에 사용하는 최근 중복 거래일 수.
+     */
+    static final int CHECK_DAYS = 5;
+
+    /**
+     * 사건으로 인정할 최소 불일치 거래일 수 (하루짜리 정정은 무시).
+     */
+    static final int MIN_MISMATCHES = 2;
+
+    /**
+     * 조회 결과 가격 소수 자릿수 (국내 2, 해외 4를 모두 담음).
+     */
+    static final int ADJUSTED_PRICE_SCALE = 4;
+
+    private static final int FACTOR_SCALE = 10;
+    private static final Set<AssetType> ADJUSTABLE_TYPES = EnumSet.of(AssetType.DOMESTIC_STOCK, AssetType.OVERSEAS_STOCK);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PriceAdjustmentRepository adjustmentRepository;
+    private final InstrumentRegistry instrumentRegistry;
+    private final BigDecimal tolerance;
+
+    public PriceAdjustmentService(JdbcTemplate jdbcTemplate,
+                                  PriceAdjustmentRepository adjustmentRepository,
+                                  InstrumentRegistry instrumentRegistry,
+                                  @Value("${stockprice.adjustment.tolerance:0.005}") BigDecimal tolerance) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.adjustmentRepository = adjustmentRepository;
+        this.instrumentRegistry = instrumentRegistry;
+        this.tolerance = tolerance;
+    }
+
+    /**
+     * 종목의 수정 계수 사건을 조회합니다.
+     *
+     * @param instrumentId 종목 id
+     * @return 누적 계수 조회 객체 (사건이 없으면 {@link AdjustmentSchedule#none()})
+     */
+    public AdjustmentSchedule scheduleOf(Integer instrumentId) {
+        return AdjustmentSchedule.of(adjustmentRepository.findByInstrumentIdOrderByEffectiveDateAsc(instrumentId));
+    }
+
+    /**
+     * 자산 유형을 고려하여 종목의 수정 계수 사건을 조회합니다 (지수는 조회 없이 {@link AdjustmentSchedule#none()}).
+     *
+     * @param assetType 자산 유형
+     * @param instrumentId 종목 id
+     * @return 누적 계수 조회 객체
+     */
+    public AdjustmentSchedule scheduleOf(AssetType assetType, Integer instrumentId) {
+        return ADJUSTABLE_TYPES.contains(assetType) ? scheduleOf(instrumentId) : AdjustmentSchedule.none();
+    }
+
+    /**
+     * 새로 조회한 페이지와 저장된 이력을 비교하여 수정 계수 변화를 탐지하고 기록합니다.
+     *
+     * <p>시행일은 마지막으로 어긋난 거래일 다음의 페이지 거래일입니다 (페이지에 없으면 그다음 날).</p>
+     *
+     * @param assetType 자산 유형 (지수는 탐지하지 않음)
+     * @param instrumentId 종목 id
+     * @param observations 이번 페이지의 거래일별 종가 전체
+     * @param storedDates 이번 저장 전의 저장 거래일
+     * @return 새로 기록한 사건 (없으면 empty)
+     */
+    public Optional<PriceAdjustment> detect(AssetType assetType, Integer instrumentId,
+                                            List<PriceObservation> observations, TradeDateBitmap storedDates) {
+        if (!ADJUSTABLE_TYPES.contains(assetType)) {
+            return Optional.empty();
+        }
+        List<PriceObservation> overlap = observations.stream()
+                .filter(o -> storedDates.contains(o.tradeDate()))
+                .filter(o -> o.closePrice() != null && o.closePrice().signum() > 0)
+                .sorted(Comparator.comparing(PriceObservation::tradeDate).reversed())
+                .limit(CHECK_DAYS)
+                .toList();
+        if (overlap.size() < MIN_MISMATCHES) {
+            return Optional.empty();
+        }
+
+        Map<LocalDate, BigDecimal> storedCloses = loadCloses(DailyPriceTable.of(assetType), instrumentId,
+                overlap.get(overlap.size() - 1).tradeDate(), overlap.get(0).tradeDate());
+        AdjustmentSchedule schedule = scheduleOf(instrumentId);
+
+        PriceObservation lastMismatch = null;
+        BigDecimal expectedClose = null;
+        BigDecimal ratio = null;
+        int mismatches = 0;
+        for (PriceObservation observation : overlap) {
+            BigDecimal storedClose = storedCloses.get(observation.tradeDate());
+            if (storedClose == null || storedClose.signum() <= 0) {
+                continue;
+            }
+            BigDecimal expected = storedClose.multiply(schedule.factorAt(observation.tradeDate()), MathContext.DECIMAL64);
+            BigDecimal observedRatio = observation.closePrice().divide(expected, MathContext.DECIMAL64);
+            if (isWithinTolerance(observedRatio, BigDecimal.ONE)) {
+                continue;
+            }
+            if (ratio == null) {
+                lastMismatch = observation;
+                expectedClose = expected;
+                ratio = observedRatio;
+            } else if (!isWithinTolerance(observedRatio, ratio)) {
+                log.warn("Inconsistent price ratios for instrument {} ({} vs {}), skipping adjustment detection",
+                        instrumentId, ratio, observedRatio);
+                return Optional.empty();
+            }
+            mismatches++;
+        }
+        if (mismatches < MIN_MISMATCHES) {
+            if (mismatches > 0) {
+                log.debug("Single-day price mismatch for instrument {} on {}, ignored",
+                        instrumentId, lastMismatch.tradeDate());
+            }
+            return Optional.empty();
+        }
+
+        LocalDate referenceDate = lastMismatch.tradeDate();
+        LocalDate effectiveDate = observations.stream()
+                .map(PriceObservation::tradeDate)
+                .filter(date -> date.isAfter(referenceDate))
+                .min(Comparator.naturalOrder())
+                .orElse(referenceDate.plusDays(1));
+        PriceAdjustment adjustment = adjustmentRepository.save(PriceAdjustment.builder()
+                .instrumentId(instrumentId)
+                .effectiveDate(effectiveDate)
+                .factor(ratio.setScale(FACTOR_SCALE, RoundingMode.HALF_UP))
+                .referenceDate(referenceDate)
+                .expectedClose(expectedClose.setScale(ADJUSTED_PRICE_SCALE, RoundingMode.HALF_UP))
+                .fetchedClose(lastMismatch.closePrice())
+                .build());
+        log.info("Detected price adjustment for instrument {}: factor {} effective {} ({} mismatched days)",
+                instrumentId, adjustment.getFactor(), effectiveDate, mismatches);
+        return Optional.of(adjustment);
+    }
+
+    /**
+     * 저장 전 엔티티 중 기존 마지막 거래일 이전 일봉을 저장 기준 가격으로 되돌립니다.
+     *
+     * <p>마지막 거래일 이후 일봉은 모든 사건의 시행일 이후이므로 계수가 1이라 조회하지 않습니다.</p>
+     *
+     * @param assetType 자산 유형 (지수는 대상 아님)
+     * @param instrumentId 종목 id
+     * @param lastStoredDate 이번 저장 전 마지막 거래일
+     * @param bars 저장할 엔티티 (값이 바뀜)
+     * @return 되돌린 일봉 수
+     */
+    public int rebaseToStoredBasis(AssetType assetType, Integer instrumentId, Optional<LocalDate> lastStoredDate,
+                                   List<? extends DailyPriceBar> bars) {
+        if (lastStoredDate.isEmpty()
+                || bars.stream().noneMatch(bar -> !bar.getTradeDate().isAfter(lastStoredDate.get()))) {
+            return 0;
+        }
+        return rebaseToStoredBasis(assetType, instrumentId, bars);
+    }
+
+    /**
+     * 저장 전 엔티티 전체를 저장 기준 가격으로 되돌립니다.
+     *
+     * <p>저장된 거래일을 모르는 경로(대량 적재 스풀)에서 사용합니다. 시행일 이후 일봉은 계수가 1이라 그대로 둡니다.</p>
+     *
+     * @param assetType 자산 유형 (지수는 대상 아님)
+     * @param instrumentId 종목 id
+     * @param bars 저장할 엔티티 (값이 바뀜)
+     * @return 되돌린 일봉 수
+     */
+    public int rebaseToStoredBasis(AssetType assetType, Integer instrumentId, List<? extends DailyPriceBar> bars) {
+        if (!ADJUSTABLE_TYPES.contains(assetType) || bars.isEmpty()) {
+            return 0;
+        }
+        AdjustmentSchedule schedule = scheduleOf(instrumentId);
+        if (schedule.isEmpty()) {
+            return 0;
+        }
+        int rebased = 0;
+        for (DailyPriceBar bar : bars) {
+            BigDecimal factor = schedule.factorAt(bar.getTradeDate());
+            if (factor.compareTo(BigDecimal.ONE) != 0) {
+                bar.rebase(factor);
+                rebased++;
+            }
+        }
+        return rebased;
+    }
+
+    /**
+     * 관심종목의 수정 일봉을 조회합니다.
+     *
+     * <p>대량 이력 조회이므로 복제본에서 읽습니다 ({@link ReplicaReadContext}, 복제 지연 허용).</p>
+     *
+     * @param stock 대상 종목
+     * @param startDate 시작일 (포함)
+     * @param endDate 종료일 (포함)
+     * @return 거래일 오름차순 수정 일봉
+     */
+    @Transactional(readOnly = true)
+    public List<AdjustedDailyPrice> getAdjustedDailyPrices(WatchlistStockRef stock, LocalDate startDate, LocalDate endDate) {
+        return ReplicaReadContext.call(() ->
+                getAdjustedDailyPrices(stock.getAssetType(), instrumentRegistry.resolveId(stock), startDate, endDate));
+    }
+
+    /**
+     * 종목의 저장 가격에 누적 수정 계수를 곱한 일봉을 조회합니다.
+     *
+     * <p>대량 이력 조회이므로 복제본에서 읽습니다 ({@link ReplicaReadContext}, 복제 지연 허용).</p>
+     *
+     * @param assetType 자산 유형
+     * @param instrumentId 종목 id
+     * @param startDate 시작일 (포함)
+     * @param endDate 종료일 (포함)
+     * @return 거래일 오름차순 수정 일봉
+     */
+    @Transactional(readOnly = true)
+    public List<AdjustedDailyPrice> getAdjustedDailyPrices(AssetType assetType, int instrumentId,
+                                                           LocalDate startDate, LocalDate endDate) {
+        return ReplicaReadContext.call(() -> loadAdjustedDailyPrices(assetType, instrumentId, startDate, endDate));
+    }
+
+    private List<AdjustedDailyPrice> loadAdjustedDailyPrices(AssetType assetType, int instrumentId,
+                                                             LocalDate startDate, LocalDate endDate) {
+        AdjustmentSchedule schedule = scheduleOf(assetType, instrumentId);
+        return jdbcTemplate.query("SELECT trade_date, open_price, high_price, low_price, close_price, volume, trading_value"
+                        + " FROM " + DailyPriceTable.of(assetType).tableName()
+                        + " WHERE instrument_id = ? AND trade_date BETWEEN ? AND ? ORDER BY trade_date",
+                (rs, rowNum) -> {
+                    LocalDate tradeDate = rs.getObject("trade_date", LocalDate.class);
+                    BigDecimal factor = schedule.factorAt(tradeDate);
+                    return new AdjustedDailyPrice(tradeDate,
+                            adjust(rs.getBigDecimal("open_price"), factor),
+                            adjust(rs.getBigDecimal("high_price"), factor),
+                            adjust(rs.getBigDecimal("low_price"), factor),
+                            adjust(rs.getBigDecimal("close_price"), factor),
+                            rs.getLong("volume"),
+                            rs.getBigDecimal("trading_value"),
+                            factor);
+                },
+                instrumentId, Date.valueOf(startDate), Date.valueOf(endDate));
+    }
+
+    private Map<LocalDate, BigDecimal> loadCloses(DailyPriceTable table, Integer instrumentId,
+                                                  LocalDate startDate, LocalDate endDate) {
+        Map<LocalDate, BigDecimal> closes = new HashMap<>();
+        jdbcTemplate.query("SELECT trade_date, close_price FROM " + table.tableName()
+                        + " WHERE instrument_id = ? AND trade_date BETWEEN ? AND ?",
+                (RowCallbackHandler) rs -> closes.put(rs.getObject("trade_date", LocalDate.class),
+                        rs.getBigDecimal("close_price")),
+                instrumentId, Date.valueOf(startDate), Date.valueOf(endDate));
+        return closes;
+    }
+
+    private boolean isWithinTolerance(BigDecimal ratio, BigDecimal reference) {
+        return ratio.divide(reference, MathContext.DECIMAL64).subtract(BigDecimal.ONE).abs().compareTo(tolerance) <= 0;
+    }
+
+    private static BigDecimal adjust(BigDecimal price, BigDecimal factor) {
+        return price.multiply(factor).setScale(ADJUSTED_PRICE_SCALE, RoundingMode.HALF_UP);
+    }
+}
@@ -0,0 +1,10 @@
+package com.custom.trader.stockprice.adjustment.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 새로 조회한 페이지의 거래일별 종가 (수정 계수 변화 탐지 입력).
+ */
+public record PriceObservation(LocalDate tradeDate, BigDecimal closePrice) {
+}
@@ -0,0 +1,66 @@
+package com.custom.trader.stockprice.calendar.entity;
+
+import com.custom.trader.common.converter.MarketCodeConverter;
+import com.custom.trader.common.entity.BaseEntity;
+import com.custom.trader.common.enums.MarketCode;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 시장의 일자별 개장 여부.
+ *
+ * <p>누락 구간 탐지(ADR-0031)의 거래일 달력은 평일에서 이 테이블의 휴장일({@code is_open = false})을 뺀 날입니다.
+ * 출처는 두 가지입니다.
+ * <ul>
+ *   <li>{@link Source#KIS}: KIS 국내 휴장일 조회 응답 (KRX, 개장일/휴장일 모두 저장하므로 최대 일자까지 동기화된 것)</li>
+ *   <li>{@link Source#OBSERVED}: 휴장일 API가 없는 해외 시장에서 어느 종목에도 없고 복구 요청에도 빈 응답이 온 평일</li>
+ * </ul>
+ * </p>
+ */
+@Entity
+@Table(name = "market_calendar_day", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_market_calendar_day_market_date", columnNames = {"market_code", "trade_date"})
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MarketCalendarDay extends BaseEntity {
+
+    /**
+     * 개장 여부의 출처.
+     */
+    public enum Source {
+        KIS,
+        OBSERVED
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Convert(converter = MarketCodeConverter.class)
+    @Column(name = "market_code", nullable = false)
+    private MarketCode marketCode;
+
+    @Column(name = "trade_date", nullable = false)
+    private LocalDate tradeDate;
+
+    @Column(name = "is_open", nullable = false)
+    private boolean open;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "source", nullable = false, length = 10)
+    private Source source;
+
+    @Builder
+    public MarketCalendarDay(MarketCode marketCode, LocalDate tradeDate, boolean open, Source source) {
+        this.marketCode = marketCode;
+        this.tradeDate = tradeDate;
+        this.open = open;
+        this.source = source;
+    }
+}
@@ -0,0 +1,19 @@
+package com.custom.trader.stockprice.calendar.repository;
+
+import com.custom.trader.common.enums.MarketCode;
+import com.custom.trader.stockprice.calendar.entity.MarketCalendarDay;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+public interface MarketCalendarDayRepository extends JpaRepository<MarketCalendarDay, Long> {
+
+    List<MarketCalendarDay> findByOpenFalseAndTradeDateBetween(LocalDate startDate, LocalDate endDate);
+
+    Optional<MarketCalendarDay> findTopByMarketCodeAndSourceOrderByTradeDateDesc(
+            MarketCode marketCode, MarketCalendarDay.Source source);
+
+    boolean existsByMarketCodeAndTradeDate(MarketCode marketCode, LocalDate tradeDate);
+}
@@ -0,0 +1,141 @@
+package com.custom.trader.stockprice.calendar.service;
+
+import com.custom.trader.common.constant.DateFormatConstants;
+import com.custom.trader.common.enums.MarketCode;
+import com.custom.trader.kis.dto.calendar.DomesticHolidayResponse;
+import com.custom.trader.kis.service.KisMarketCalendarService;
+import com.custom.trader.stockprice.calendar.entity.MarketCalendarDay;
+import com.custom.trader.stockprice.calendar.entity.MarketCalendarDay.Source;
+import com.custom.trader.stockprice.calendar.repository.MarketCalendarDayRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 시장 휴장일 달력 서비스.
+ *
+ * <p>KRX는 KIS 국내 휴장일 조회로 일자별 개장 여부를 받아 저장하고, 저장된 마지막 일자 다음 날부터만 이어서 조회합니다
+ * (KIS 권장 호출 빈도가 하루 1회 수준). 휴장일 API가 없는 해외 시장은 누락 복구에서 관찰한 휴장일만 기록합니다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MarketCalendarService {
+
+    private static final String OPEN = "Y";
+
+    /**
+     * 동기화 1회의 최대 조회 횟수 (응답이 진행하지 않는 경우의 안전장치).
+     */
+    static final int MAX_REQUESTS_PER_SYNC = 60;
+
+    private final KisMarketCalendarService kisMarketCalendarService;
+    private final MarketCalendarDayRepository marketCalendarDayRepository;
+
+    /**
+     * KRX 일자별 개장 여부를 종료일까지 동기화합니다.
+     *
+     * @param startDate 저장된 일자가 없을 때의 시작일
+     * @param endDate 종료일
+     * @return 동기화된 마지막 일자 (없으면 empty)
+     */
+    @Transactional
+    public Optional<LocalDate> syncDomesticCalendar(LocalDate startDate, LocalDate endDate) {
+        Optional<LocalDate> syncedThrough = syncedThrough(MarketCode.KRX);
+        LocalDate baseDate = syncedThrough.map(date -> date.plusDays(1))
+                .filter(date -> !date.isBefore(startDate))
+                .orElse(startDate);
+
+        int saved = 0;
+        for (int request = 0; request < MAX_REQUESTS_PER_SYNC && !baseDate.isAfter(endDate); request++) {
+            List<DomesticHolidayResponse.DayItem> days = kisMarketCalendarService.getDomesticMarketDays(baseDate);
+            LocalDate lastDate = null;
+            for (DomesticHolidayResponse.DayItem day : days) {
+                LocalDate tradeDate = DateFormatConstants.parseDate(day.bassDt());
+                if (tradeDate.isBefore(baseDate)) {
+                    continue;
+                }
+                marketCalendarDayRepository.save(MarketCalendarDay.builder()
+                        .marketCode(MarketCode.KRX)
+                        .tradeDate(tradeDate)
+                        .open(OPEN.equals(day.opndYn()))
+                        .source(Source.KIS)
+                        .build());
+                saved++;
+                lastDate = tradeDate;
+            }
+            if (lastDate == null) {
+                break;
+            }
+            syncedThrough = Optional.of(lastDate);
+            baseDate = lastDate.plusDays(1);
+        }
+        if (saved > 0) {
+            log.info("Synced {} KRX market days through {}", saved, syncedThrough.orElse(null));
+        }
+        return syncedThrough;
+    }
+
+    /**
+     * KIS에서 받은 개장 여부가 저장된 마지막 일자.
+     *
+     * @param marketCode 시장
+     * @return 마지막 일자 (휴장일 API가 없는 시장이거나 동기화 전이면 empty)
+     */
+    @Transactional(readOnly = true)
+    public Optional<LocalDate> syncedThrough(MarketCode marketCode) {
+        return marketCalendarDayRepository.findTopByMarketCodeAndSourceOrderByTradeDateDesc(marketCode, Source.KIS)
+                .map(MarketCalendarDay::getTradeDate);
+    }
+
+    /**
+     * 기간 안의 시장별 휴장일.
+     *
+     * @param startDate 시작일
+     * @param endDate 종료일
+     * @return 시장별 휴장일 (휴장일이 없는 시장은 키 없음)
+     */
+    @Transactional(readOnly = true)
+    public Map<MarketCode, Set<LocalDate>> closedDays(LocalDate startDate, LocalDate endDate) {
+        Map<MarketCode, Set<LocalDate>> closed = new EnumMap<>(MarketCode.class);
+        for (MarketCalendarDay day : marketCalendarDayRepository.findByOpenFalseAndTradeDateBetween(startDate, endDate)) {
+            closed.computeIfAbsent(day.getMarketCode(), market -> new HashSet<>()).add(day.getTradeDate());
+        }
+        return closed;
+    }
+
+    /**
+     * 복구 요청으로 확인한 휴장일을 기록합니다.
+     *
+     * @param marketCode 시장
+     * @param dates 휴장일
+     */
+    @Transactional
+    public void markObservedClosed(MarketCode marketCode, List<LocalDate> dates) {
+        List<MarketCalendarDay> days = new ArrayList<>();
+        for (LocalDate date : dates) {
+            if (!marketCalendarDayRepository.existsByMarketCodeAndTradeDate(marketCode, date)) {
+                days.add(MarketCalendarDay.builder()
+                        .marketCode(marketCode)
+                        .tradeDate(date)
+                        .open(false)
+                        .source(Source.OBSERVED)
+                        .build());
+            }
+        }
+        marketCalendarDayRepository.saveAll(days);
+        if (!days.isEmpty()) {
+            log.info("Recorded {} observed closed days for market: {}", days.size(), marketCode);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.custom.trader.stockprice.constant;
+
+import com.custom.trader.common.enums.AssetType;
+
+/**
+ * 자산 유형별 일별 가격 테이블 이름.
+ *
+ * <p>일별 이력을 JDBC로 직접 스트리밍하는 서비스(롤업/지표 재계산)가 같은 매핑을 공유합니다.</p>
+ */
+public enum DailyPriceTable {
+    DOMESTIC_STOCK("domestic_stock_daily_price"),
+    DOMESTIC_INDEX("domestic_index_daily_price"),
+    OVERSEAS_STOCK("overseas_stock_daily_price"),
+    OVERSEAS_INDEX("overseas_index_daily_price");
+
+    private final String tableName;
+
+    DailyPriceTable(String tableName) {
+        this.tableName = tableName;
+    }
+
+    public String tableName() {
+        return tableName;
+    }
+
+    public static DailyPriceTable of(AssetType assetType) {
+        return switch (assetType) {
+            case DOMESTIC_STOCK -> DOMESTIC_STOCK;
+            case DOMESTIC_INDEX -> DOMESTIC_INDEX;
+            case OVERSEAS_STOCK -> OVERSEAS_STOCK;
+            case OVERSEAS_INDEX -> OVERSEAS_INDEX;
+        };
+    }
+}
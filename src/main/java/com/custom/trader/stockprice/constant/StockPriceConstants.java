@@ -15,4 +15,12 @@ public final class StockPriceConstants {
      * 페이징 크기 (KIS API는 최대 100개 반환).
      */
     public static final int PAGE_SIZE = 100;
+
+    /**
+     * 국내 주식 일간 수집 시 시작일 앞으로 더 조회하는 달력 일수.
+     *
+     * <p>이미 저장된 최근 거래일을 함께 받아 분할/병합으로 바뀐 가격 기준을 탐지합니다 (ADR-0034).
+     * 해외 일봉 API는 시작일 없이 한 페이지를 반환하므로 이미 겹칩니다.</p>
+     */
+    public static final int ADJUSTMENT_LOOKBACK_DAYS = 7;
 }
@@ -0,0 +1,137 @@
+package com.custom.trader.stockprice.deferred.entity;
+
+import com.custom.trader.common.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 지연 재처리 대상 가격 수집 작업 엔티티.
+ *
+ * <p>배치에서 복구 가능한 실패(KisApiException)로 끝난 (종목, 기간) 단위를 저장하고,
+ * Sweeper가 백오프를 두고 같은 날 다시 수집합니다.</p>
+ *
+ * <p>라이프사이클:
+ * <ul>
+ *   <li><b>PENDING</b>: {@code nextAttemptAt} 이후 재처리 대상. 성공 시 행 삭제</li>
+ *   <li><b>DEAD</b>: 최대 시도 횟수 초과 (Dead Letter). 같은 종목이 다시 실패하면 기간을 합쳐 PENDING으로 복귀</li>
+ * </ul>
+ * </p>
+ */
+@Entity
+@Table(name = "deferred_price_task", uniqueConstraints = {
+    @UniqueConstraint(columnNames = {"watchlist_stock_id", "task_type"})
+}, indexes = {
+    @Index(name = "idx_deferred_price_task_status_next", columnList = "status, next_attempt_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DeferredPriceTask extends BaseEntity {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    public enum TaskType { DAILY, BACKFILL }
+
+    public enum Status { PENDING, DEAD }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "watchlist_stock_id", nullable = false)
+    private Long watchlistStockId;
+
+    @Column(name = "stock_code", nullable = false, length = 20)
+    private String stockCode;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "task_type", nullable = false, length = 20)
+    private TaskType taskType;
+
+    @Column(name = "start_date", nullable = false)
+    private LocalDate startDate;
+
+    @Column(name = "end_date", nullable = false)
+    private LocalDate endDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private Status status = Status.PENDING;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    @Builder
+    public DeferredPriceTask(Long watchlistStockId, String stockCode, TaskType taskType,
+                             LocalDate startDate, LocalDate endDate,
+                             LocalDateTime nextAttemptAt, String lastError) {
+        this.watchlistStockId = watchlistStockId;
+        this.stockCode = stockCode;
+        this.taskType = taskType;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.nextAttemptAt = nextAttemptAt;
+        this.lastError = truncate(lastError);
+    }
+
+    /**
+     * 같은 종목/작업 유형의 새 실패를 병합합니다.
+     *
+     * <p>기간은 기존 기간과 합집합으로 넓히고, DEAD 상태였다면 시도 횟수를 초기화하여 PENDING으로 되돌립니다.</p>
+     */
+    public void merge(LocalDate startDate, LocalDate endDate, LocalDateTime nextAttemptAt, String error) {
+        if (startDate.isBefore(this.startDate)) {
+            this.startDate = startDate;
+        }
+        if (endDate.isAfter(this.endDate)) {
+            this.endDate = endDate;
+        }
+        if (status == Status.DEAD) {
+            this.status = Status.PENDING;
+            this.attempts = 0;
+            this.nextAttemptAt = nextAttemptAt;
+        }
+        this.lastError = truncate(error);
+    }
+
+    /**
+     * 재처리 실패를 기록하고 다음 시도 시각을 예약합니다.
+     */
+    public void recordFailure(String error, LocalDateTime nextAttemptAt) {
+        this.attempts++;
+        this.lastError = truncate(error);
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    /**
+     * 실패가 아닌 이유로 처리하지 못한 작업의 다음 시도 시각만 미룹니다 (시도 횟수 유지).
+     */
+    public void postpone(LocalDateTime nextAttemptAt) {
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    /**
+     * 더 이상 자동 재처리하지 않도록 Dead Letter로 표시합니다.
+     */
+    public void markDead() {
+        this.status = Status.DEAD;
+    }
+
+    private static String truncate(String error) {
+        if (error == null || error.length() <= MAX_ERROR_LENGTH) {
+            return error;
+        }
+        return error.substring(0, MAX_ERROR_LENGTH);
+    }
+}
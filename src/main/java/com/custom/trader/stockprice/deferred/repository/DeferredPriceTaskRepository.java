@@ -0,0 +1,21 @@
+package com.custom.trader.stockprice.deferred.repository;
+
+import com.custom.trader.stockprice.deferred.entity.DeferredPriceTask;
+import com.custom.trader.stockprice.deferred.entity.DeferredPriceTask.Status;
+import com.custom.trader.stockprice.deferred.entity.DeferredPriceTask.TaskType;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface DeferredPriceTaskRepository extends JpaRepository<DeferredPriceTask, Long> {
+
+    Optional<DeferredPriceTask> findByWatchlistStockIdAndTaskType(Long watchlistStockId, TaskType taskType);
+
+    List<DeferredPriceTask> findByStatusAndTaskTypeAndNextAttemptAtLessThanEqualOrderByNextAttemptAtAsc(
+            Status status, TaskType taskType, LocalDateTime now, Limit limit);
+
+    long countByStatus(Status status);
+}
@@ -0,0 +1,7 @@
+package com.custom.trader.stockprice.domestic.repository;
+
+import com.custom.trader.stockprice.domestic.entity.DomesticStockPriceRollup;
+import com.custom.trader.stockprice.rollup.repository.PriceRollupRepository;
+
+public interface DomesticStockPriceRollupRepository extends PriceRollupRepository<DomesticStockPriceRollup> {
+}
@@ -0,0 +1,52 @@
+package com.custom.trader.stockprice.gap.entity;
+
+import com.custom.trader.common.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 누락 구간 복구 요청에 빈 응답이 온 종목의 기간.
+ *
+ * <p>거래정지, 상장폐지, 해외 시장 휴장일처럼 KIS에도 가격이 없는 기간입니다. 이후 탐지에서 이 기간의 거래일은
+ * 기대 거래일에서 빼므로, 같은 구간을 매 실행 다시 요청해 복구 예산을 쓰지 않습니다.</p>
+ */
+@Entity
+@Table(name = "price_gap_empty_range", indexes = {
+    @Index(name = "idx_price_gap_empty_range_instrument", columnList = "instrument_id, start_date")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PriceGapEmptyRange extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "instrument_id", nullable = false)
+    private Integer instrumentId;
+
+    @Column(name = "start_date", nullable = false)
+    private LocalDate startDate;
+
+    @Column(name = "end_date", nullable = false)
+    private LocalDate endDate;
+
+    @Builder
+    public PriceGapEmptyRange(Integer instrumentId, LocalDate startDate, LocalDate endDate) {
+        this.instrumentId = instrumentId;
+        this.startDate = startDate;
+        this.endDate = endDate;
+    }
+
+    /**
+     * 날짜가 기간 안(양 끝 포함)인지 여부.
+     */
+    public boolean contains(LocalDate date) {
+        return !date.isBefore(startDate) && !date.isAfter(endDate);
+    }
+}
@@ -0,0 +1,7 @@
+package com.custom.trader.stockprice.gap.repository;
+
+import com.custom.trader.stockprice.gap.entity.PriceGapEmptyRange;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface PriceGapEmptyRangeRepository extends JpaRepository<PriceGapEmptyRange, Long> {
+}
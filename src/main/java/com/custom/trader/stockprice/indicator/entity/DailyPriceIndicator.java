@@ -0,0 +1,72 @@
+package com.custom.trader.stockprice.indicator.entity;
+
+import com.custom.trader.common.entity.BaseEntity;
+import com.custom.trader.stockprice.instrument.entity.DailyPriceId;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 일봉 기준 기술적 지표 (SMA/EMA/RSI/ATR).
+ *
+ * <p>행은 {@code TechnicalIndicatorService}가 JDBC로 유지하고, 엔티티는 조회 전용입니다.
+ * {@code instrument_id}가 자산 유형과 무관하게 고유하므로 4개 일별 가격 테이블의 지표를 한 테이블에 저장합니다.</p>
+ *
+ * <p>각 행은 다음 일봉을 O(1)로 계산하기 위한 상태도 겸합니다:
+ * <ul>
+ *   <li>{@code bar_count}: 종목 첫 일봉부터의 순번 (1부터)</li>
+ *   <li>{@code ema_*}, {@code atr_14}, {@code rsi_avg_*}: 다음 일봉의 지수/Wilder 평활 입력값.
+ *       {@code bar_count}가 기간보다 작은 워밍업 구간에는 지금까지의 단순 평균</li>
+ *   <li>{@code sma_*}, {@code rsi_14}: 창이 찬 뒤에만 값이 있고 워밍업 구간은 null</li>
+ * </ul>
+ * </p>
+ */
+@Entity
+@IdClass(DailyPriceId.class)
+@Table(name = "daily_price_indicator")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DailyPriceIndicator extends BaseEntity {
+
+    @Id
+    @Column(name = "instrument_id", nullable = false)
+    private Integer instrumentId;
+
+    @Id
+    @Column(name = "trade_date", nullable = false)
+    private LocalDate tradeDate;
+
+    @Column(name = "bar_count", nullable = false)
+    private Integer barCount;
+
+    @Column(name = "sma_20")
+    private Double sma20;
+
+    @Column(name = "sma_60")
+    private Double sma60;
+
+    @Column(name = "ema_12", nullable = false)
+    private Double ema12;
+
+    @Column(name = "ema_26", nullable = false)
+    private Double ema26;
+
+    @Column(name = "rsi_14")
+    private Double rsi14;
+
+    @Column(name = "rsi_avg_gain", nullable = false)
+    private Double rsiAvgGain;
+
+    @Column(name = "rsi_avg_loss", nullable = false)
+    private Double rsiAvgLoss;
+
+    @Column(name = "atr_14", nullable = false)
+    private Double atr14;
+}
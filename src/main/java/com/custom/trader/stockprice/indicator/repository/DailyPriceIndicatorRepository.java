@@ -0,0 +1,20 @@
+package com.custom.trader.stockprice.indicator.repository;
+
+import com.custom.trader.stockprice.indicator.entity.DailyPriceIndicator;
+import com.custom.trader.stockprice.instrument.entity.DailyPriceId;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+public interface DailyPriceIndicatorRepository extends JpaRepository<DailyPriceIndicator, DailyPriceId> {
+
+    /**
+     * 종목의 마지막 지표 행 (증분 계산의 시작 상태).
+     */
+    Optional<DailyPriceIndicator> findTopByInstrumentIdOrderByTradeDateDesc(Integer instrumentId);
+
+    List<DailyPriceIndicator> findByInstrumentIdAndTradeDateBetweenOrderByTradeDateAsc(
+            Integer instrumentId, LocalDate startDate, LocalDate endDate);
+}
@@ -0,0 +1,29 @@
+package com.custom.trader.stockprice.indicator.service;
+
+import com.custom.trader.stockprice.indicator.entity.DailyPriceIndicator;
+
+import java.time.LocalDate;
+
+/**
+ * 계산한 일봉 하나의 지표 ({@code daily_price_indicator} 행).
+ */
+record IndicatorRow(
+        Integer instrumentId,
+        LocalDate tradeDate,
+        int barCount,
+        Double sma20,
+        Double sma60,
+        double ema12,
+        double ema26,
+        Double rsi14,
+        double rsiAvgGain,
+        double rsiAvgLoss,
+        double atr14
+) {
+
+    static IndicatorRow from(DailyPriceIndicator indicator) {
+        return new IndicatorRow(indicator.getInstrumentId(), indicator.getTradeDate(), indicator.getBarCount(),
+                indicator.getSma20(), indicator.getSma60(), indicator.getEma12(), indicator.getEma26(),
+                indicator.getRsi14(), indicator.getRsiAvgGain(), indicator.getRsiAvgLoss(), indicator.getAtr14());
+    }
+}
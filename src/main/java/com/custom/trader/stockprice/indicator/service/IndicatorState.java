@@ -0,0 +1,152 @@
+package com.custom.trader.stockprice.indicator.service;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 종목 하나의 지표 계산 상태.
+ *
+ * <p>일봉을 거래일 순서로 {@link #next}에 넣으면 일봉마다 O(1)로 지표를 갱신합니다:
+ * <ul>
+ *   <li>SMA: 최근 {@value #SMA_LONG}개 종가 링 버퍼와 창별 합계 (새 종가를 더하고 창을 벗어난 종가를 뺌)</li>
+ *   <li>EMA: 기간까지는 단순 평균(SMA 시드), 이후 {@code ema += 2 / (n + 1) * (close - ema)}</li>
+ *   <li>RSI/ATR: 기간까지는 단순 평균, 이후 Wilder 평활 {@code avg = (avg * (n - 1) + x) / n}</li>
+ * </ul>
+ * </p>
+ *
+ * <p>상태는 마지막 지표 행과 최근 종가만으로 복원되므로({@link #resume}) 별도 상태 테이블이 없습니다.</p>
+ */
+final class IndicatorState {
+
+    static final int SMA_SHORT = 20;
+    static final int SMA_LONG = 60;
+    static final int EMA_FAST = 12;
+    static final int EMA_SLOW = 26;
+    static final int RSI_PERIOD = 14;
+    static final int ATR_PERIOD = 14;
+
+    private final Integer instrumentId;
+    private final double[] closes = new double[SMA_LONG];
+    private int head;
+    private int barCount;
+    private double sumShort;
+    private double sumLong;
+    private double emaFast;
+    private double emaSlow;
+    private double avgGain;
+    private double avgLoss;
+    private double atr;
+    private double prevClose;
+
+    private IndicatorState(Integer instrumentId) {
+        this.instrumentId = instrumentId;
+    }
+
+    /**
+     * 종목 첫 일봉부터 계산하는 빈 상태.
+     */
+    static IndicatorState fresh(Integer instrumentId) {
+        return new IndicatorState(instrumentId);
+    }
+
+    /**
+     * 마지막 지표 행과 그 거래일까지의 최근 종가로 상태를 복원합니다.
+     *
+     * @param last 종목의 마지막 지표 행
+     * @param recentCloses {@code last} 거래일까지의 종가 (오름차순, 최근 {@code min(barCount, SMA_LONG)}개)
+     * @return 복원한 상태
+     * @throws IllegalArgumentException 종가 개수가 {@code bar_count}와 맞지 않을 때
+     */
+    static IndicatorState resume(IndicatorRow last, List<Double> recentCloses) {
+        int expected = Math.min(last.barCount(), SMA_LONG);
+        if (recentCloses.size() != expected) {
+            throw new IllegalArgumentException("Expected " + expected + " closes for bar_count "
+                    + last.barCount() + " but got " + recentCloses.size());
+        }
+        IndicatorState state = new IndicatorState(last.instrumentId());
+        for (int i = 0; i < expected; i++) {
+            double close = recentCloses.get(i);
+            state.closes[state.head] = close;
+            state.head = (state.head + 1) % SMA_LONG;
+            state.sumLong += close;
+            if (i >= expected - SMA_SHORT) {
+                state.sumShort += close;
+            }
+        }
+        state.barCount = last.barCount();
+        state.emaFast = last.ema12();
+        state.emaSlow = last.ema26();
+        state.avgGain = last.rsiAvgGain();
+        state.avgLoss = last.rsiAvgLoss();
+        state.atr = last.atr14();
+        state.prevClose = recentCloses.get(expected - 1);
+        return state;
+    }
+
+    /**
+     * 다음 일봉을 반영하고 그 거래일의 지표를 반환합니다.
+     *
+     * @param tradeDate 거래일 (직전 호출보다 늦어야 함)
+     * @param high 고가
+     * @param low 저가
+     * @param close 종가
+     * @return 지표 행
+     */
+    IndicatorRow next(LocalDate tradeDate, double high, double low, double close) {
+        double trueRange = barCount == 0
+                ? high - low
+                : Math.max(high - low, Math.max(Math.abs(high - prevClose), Math.abs(low - prevClose)));
+        double change = barCount == 0 ? 0 : close - prevClose;
+
+        // head는 가장 오래된 종가(SMA_LONG개 전) 위치, 창을 벗어나는 값을 먼저 뺀 뒤 덮어씀
+        if (barCount >= SMA_LONG) {
+            sumLong -= closes[head];
+        }
+        if (barCount >= SMA_SHORT) {
+            sumShort -= closes[(head + SMA_LONG - SMA_SHORT) % SMA_LONG];
+        }
+        closes[head] = close;
+        head = (head + 1) % SMA_LONG;
+        sumShort += close;
+        sumLong += close;
+        barCount++;
+
+        emaFast = ema(emaFast, close, EMA_FAST);
+        emaSlow = ema(emaSlow, close, EMA_SLOW);
+        atr = wilder(atr, trueRange, barCount, ATR_PERIOD);
+        if (barCount > 1) {
+            int changes = barCount - 1;
+            avgGain = wilder(avgGain, Math.max(change, 0), changes, RSI_PERIOD);
+            avgLoss = wilder(avgLoss, Math.max(-change, 0), changes, RSI_PERIOD);
+        }
+        prevClose = close;
+
+        return new IndicatorRow(instrumentId, tradeDate, barCount,
+                barCount >= SMA_SHORT ? sumShort / SMA_SHORT : null,
+                barCount >= SMA_LONG ? sumLong / SMA_LONG : null,
+                emaFast, emaSlow,
+                barCount > RSI_PERIOD ? rsi() : null,
+                avgGain, avgLoss, atr);
+    }
+
+    private double ema(double previous, double value, int period) {
+        if (barCount <= period) {
+            return previous + (value - previous) / barCount;
+        }
+        return previous + 2.0 / (period + 1) * (value - previous);
+    }
+
+    private static double wilder(double previous, double value, int count, int period) {
+        if (count <= period) {
+            return previous + (value - previous) / count;
+        }
+        return (previous * (period - 1) + value) / period;
+    }
+
+    private double rsi() {
+        if (avgLoss == 0) {
+            return avgGain == 0 ? 50 : 100;
+        }
+        return 100 - 100 / (1 + avgGain / avgLoss);
+    }
+}
@@ -0,0 +1,223 @@
+package com.custom.trader.stockprice.indicator.service;
+
+import com.custom.trader.common.constant.DateFormatConstants;
+import com.custom.trader.common.enums.AssetType;
+import com.custom.trader.stockprice.adjustment.service.AdjustmentSchedule;
+import com.custom.trader.stockprice.adjustment.service.PriceAdjustmentService;
+import com.custom.trader.stockprice.constant.DailyPriceTable;
+import com.custom.trader.stockprice.indicator.repository.DailyPriceIndicatorRepository;
+import com.custom.trader.stockprice.instrument.entity.DailyPriceBar;
+import com.custom.trader.stockprice.instrument.service.InstrumentRegistry;
+import com.custom.trader.watchlist.entity.WatchlistStockRef;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 일봉 기술적 지표(SMA/EMA/RSI/ATR)를 {@code daily_price_indicator}에 미리 계산해 두는 서비스.
+ *
+ * <p>유지 방식:
+ * <ul>
+ *   <li><b>증분</b>: {@link #apply}가 새로 저장한 일봉이 종목의 마지막 거래일 이후면, 마지막 지표 행과 최근
+ *       {@value IndicatorState#SMA_LONG}개 종가로 상태를 복원한 뒤 일봉마다 O(1)로 이어서 계산</li>
+ *   <li><b>무효화</b>: 마지막 거래일 이전 일봉(백필/공백 복구)이 들어오면 이후 지표가 모두 바뀌므로 종목의 지표를 삭제</li>
+ *   <li><b>재계산</b>: {@link #recompute}가 일별 이력 전체를 거래일 순서로 한 번 읽어 다시 계산.
+ *       백필 종료 시 호출하고, 지표가 없거나 뒤처진 종목에 새 일봉이 들어올 때도 같은 경로로 따라잡음</li>
+ * </ul>
+ * </p>
+ *
+ * <p>지표는 수정 계수({@link PriceAdjustmentService})를 곱한 현재 기준 가격으로 계산합니다. 분할/병합이 새로 탐지되면
+ * 저장 경로가 {@link #invalidate}로 지표를 지우고, 다음 저장에서 전체 이력으로 따라잡습니다.</p>
+ *
+ * <p>일별 저장과 같은 트랜잭션에서 실행되므로 일별 INSERT가 실패하면 지표 변경도 함께 롤백됩니다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TechnicalIndicatorService {
+
+    /**
+     * 지표 INSERT 배치 크기 (재계산은 종목당 수만 행).
+     */
+    static final int INSERT_BATCH_SIZE = 1_000;
+
+    private static final String INSERT_SQL = "INSERT INTO daily_price_indicator"
+            + " (instrument_id, trade_date, bar_count, sma_20, sma_60, ema_12, ema_26, rsi_14,"
+            + " rsi_avg_gain, rsi_avg_loss, atr_14, created_at, updated_at)"
+            + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String DELETE_SQL = "DELETE FROM daily_price_indicator WHERE instrument_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DailyPriceIndicatorRepository indicatorRepository;
+    private final InstrumentRegistry instrumentRegistry;
+    private final PriceAdjustmentService priceAdjustmentService;
+
+    /**
+     * 새로 저장한 일봉의 지표를 계산해 저장합니다.
+     *
+     * @param assetType 자산 유형 (일별 가격 테이블)
+     * @param instrumentId 종목 id
+     * @param lastStoredDate 이번 저장 전 종목의 마지막 거래일 (없으면 종목의 첫 저장)
+     * @param bars 새로 저장한 일봉 (순서 무관)
+     * @return 저장한 지표 행 수 (무효화한 경우 0)
+     */
+    public int apply(AssetType assetType, Integer instrumentId, Optional<LocalDate> lastStoredDate,
+                     Collection<? extends DailyPriceBar> bars) {
+        if (bars.isEmpty()) {
+            return 0;
+        }
+        List<DailyPriceBar> sorted = new ArrayList<>(bars);
+        sorted.sort(Comparator.comparing(DailyPriceBar::getTradeDate));
+
+        if (lastStoredDate.isEmpty()) {
+            return insert(compute(IndicatorState.fresh(instrumentId), sorted, AdjustmentSchedule.none()));
+        }
+        LocalDate lastStored = lastStoredDate.get();
+        if (!sorted.get(0).getTradeDate().isAfter(lastStored)) {
+            int invalidated = invalidate(instrumentId);
+            log.debug("Invalidated {} indicator rows for instrument {} (bars before {})",
+                    invalidated, instrumentId, lastStored);
+            return 0;
+        }
+
+        AdjustmentSchedule schedule = priceAdjustmentService.scheduleOf(assetType, instrumentId);
+        Optional<IndicatorState> state = indicatorRepository.findTopByInstrumentIdOrderByTradeDateDesc(instrumentId)
+                .map(IndicatorRow::from)
+                .filter(last -> last.tradeDate().equals(lastStored))
+                .flatMap(last -> resume(DailyPriceTable.of(assetType), last, schedule));
+        if (state.isEmpty()) {
+            return recompute(DailyPriceTable.of(assetType), instrumentId, lastStored, sorted, schedule);
+        }
+        return insert(compute(state.get(), sorted, schedule));
+    }
+
+    /**
+     * 종목의 지표를 모두 삭제합니다. 다음 저장 시 일별 이력 전체로 다시 계산됩니다.
+     *
+     * @param instrumentId 종목 id
+     * @return 삭제한 지표 행 수
+     */
+    public int invalidate(Integer instrumentId) {
+        return jdbcTemplate.update(DELETE_SQL, instrumentId);
+    }
+
+    /**
+     * 관심종목의 지표를 일별 이력 전체로 다시 계산합니다.
+     *
+     * @param stock 대상 종목
+     * @return 저장한 지표 행 수
+     */
+    @Transactional
+    public int recompute(WatchlistStockRef stock) {
+        return recompute(stock.getAssetType(), instrumentRegistry.resolveId(stock));
+    }
+
+    /**
+     * 종목의 지표를 일별 이력 전체로 다시 계산합니다.
+     *
+     * @param assetType 자산 유형
+     * @param instrumentId 종목 id
+     * @return 저장한 지표 행 수
+     */
+    @Transactional
+    public int recompute(AssetType assetType, int instrumentId) {
+        return recompute(DailyPriceTable.of(assetType), instrumentId, null, List.of(),
+                priceAdjustmentService.scheduleOf(assetType, instrumentId));
+    }
+
+    /**
+     * 기존 지표를 삭제하고 저장된 일봉({@code upTo}까지, null이면 전체)과 아직 저장 전인 일봉을 이어서 계산합니다.
+     */
+    private int recompute(DailyPriceTable table, Integer instrumentId, LocalDate upTo, List<DailyPriceBar> pending,
+                          AdjustmentSchedule schedule) {
+        long startNanos = System.nanoTime();
+        invalidate(instrumentId);
+
+        IndicatorState state = IndicatorState.fresh(instrumentId);
+        List<IndicatorRow> rows = new ArrayList<>();
+        RowCallbackHandler handler = rs -> {
+            LocalDate tradeDate = rs.getObject("trade_date", LocalDate.class);
+            double factor = schedule.factorAt(tradeDate).doubleValue();
+            rows.add(state.next(tradeDate, rs.getDouble("high_price") * factor,
+                    rs.getDouble("low_price") * factor, rs.getDouble("close_price") * factor));
+        };
+        String sql = "SELECT trade_date, high_price, low_price, close_price FROM " + table.tableName()
+                + " WHERE instrument_id = ?";
+        if (upTo == null) {
+            jdbcTemplate.query(sql + " ORDER BY trade_date", handler, instrumentId);
+        } else {
+            jdbcTemplate.query(sql + " AND trade_date <= ? ORDER BY trade_date", handler, instrumentId, Date.valueOf(upTo));
+        }
+        rows.addAll(compute(state, pending, schedule));
+
+        int inserted = insert(rows);
+        log.info("Recomputed {} indicator rows for instrument {} from {} ({} ms)", inserted, instrumentId,
+                table.tableName(), (System.nanoTime() - startNanos) / 1_000_000);
+        return inserted;
+    }
+
+    /**
+     * 마지막 지표 행의 거래일까지 최근 종가(수정 계수 적용)를 읽어 상태를 복원합니다. 종가 개수가 맞지 않으면 empty (재계산).
+     */
+    private Optional<IndicatorState> resume(DailyPriceTable table, IndicatorRow last, AdjustmentSchedule schedule) {
+        List<Double> recentCloses = jdbcTemplate.query("SELECT trade_date, close_price FROM " + table.tableName()
+                        + " WHERE instrument_id = ? AND trade_date <= ? ORDER BY trade_date DESC LIMIT " + IndicatorState.SMA_LONG,
+                (rs, rowNum) -> rs.getDouble("close_price")
+                        * schedule.factorAt(rs.getObject("trade_date", LocalDate.class)).doubleValue(),
+                last.instrumentId(), Date.valueOf(last.tradeDate()));
+        try {
+            return Optional.of(IndicatorState.resume(last, recentCloses.reversed()));
+        } catch (IllegalArgumentException e) {
+            log.warn("Indicator state for instrument {} is inconsistent, recomputing: {}",
+                    last.instrumentId(), e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private static List<IndicatorRow> compute(IndicatorState state, List<DailyPriceBar> bars, AdjustmentSchedule schedule) {
+        List<IndicatorRow> rows = new ArrayList<>(bars.size());
+        for (DailyPriceBar bar : bars) {
+            double factor = schedule.factorAt(bar.getTradeDate()).doubleValue();
+            rows.add(state.next(bar.getTradeDate(), bar.getHighPrice().doubleValue() * factor,
+                    bar.getLowPrice().doubleValue() * factor, bar.getClosePrice().doubleValue() * factor));
+        }
+        return rows;
+    }
+
+    private int insert(List<IndicatorRow> rows) {
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now(DateFormatConstants.KST_ZONE_ID));
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows, INSERT_BATCH_SIZE, (ps, row) -> {
+            ps.setInt(1, row.instrumentId());
+            ps.setDate(2, Date.valueOf(row.tradeDate()));
+            ps.setInt(3, row.barCount());
+            ps.setObject(4, row.sma20(), Types.DOUBLE);
+            ps.setObject(5, row.sma60(), Types.DOUBLE);
+            ps.setDouble(6, row.ema12());
+            ps.setDouble(7, row.ema26());
+            ps.setObject(8, row.rsi14(), Types.DOUBLE);
+            ps.setDouble(9, row.rsiAvgGain());
+            ps.setDouble(10, row.rsiAvgLoss());
+            ps.setDouble(11, row.atr14());
+            ps.setTimestamp(12, now);
+            ps.setTimestamp(13, now);
+        });
+        return rows.size();
+    }
+}
@@ -0,0 +1,41 @@
+package com.custom.trader.stockprice.instrument.entity;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 일별 가격 엔티티 4종의 공통 OHLCV 조회 인터페이스.
+ *
+ * <p>주/월 롤업처럼 자산 유형과 무관하게 일봉 값만 필요한 처리에서 사용합니다.</p>
+ */
+public interface DailyPriceBar {
+
+    Integer getInstrumentId();
+
+    LocalDate getTradeDate();
+
+    BigDecimal getOpenPrice();
+
+    BigDecimal getHighPrice();
+
+    BigDecimal getLowPrice();
+
+    BigDecimal getClosePrice();
+
+    Long getVolume();
+
+    /**
+     * 거래대금. 해외 가격은 응답에 없을 수 있습니다.
+     */
+    BigDecimal getTradingValue();
+
+    /**
+     * 시가/고가/저가/종가를 {@code divisor}로 나눠 저장 기준 가격으로 되돌립니다 (저장 전 엔티티 전용).
+     *
+     * <p>수정 계수가 기록된 뒤 과거 거래일을 새로 저장할 때, 현재 기준으로 내려온 가격을
+     * 기존 이력과 같은 기준으로 맞추는 데 사용합니다. 거래량/거래대금은 바꾸지 않습니다.</p>
+     *
+     * @param divisor 해당 거래일의 누적 수정 계수
+     */
+    void rebase(BigDecimal divisor);
+}
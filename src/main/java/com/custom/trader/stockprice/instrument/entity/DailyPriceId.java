@@ -0,0 +1,22 @@
+package com.custom.trader.stockprice.instrument.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * 일별 가격 엔티티 공통 복합 키 {@code (instrument_id, trade_date)}.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class DailyPriceId implements Serializable {
+
+    private Integer instrumentId;
+    private LocalDate tradeDate;
+}
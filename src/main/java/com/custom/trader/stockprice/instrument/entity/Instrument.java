@@ -0,0 +1,63 @@
+package com.custom.trader.stockprice.instrument.entity;
+
+import com.custom.trader.common.converter.AssetTypeConverter;
+import com.custom.trader.common.converter.MarketCodeConverter;
+import com.custom.trader.common.entity.BaseEntity;
+import com.custom.trader.common.enums.AssetType;
+import com.custom.trader.common.enums.MarketCode;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.Objects;
+
+/**
+ * 종목/지수 차원 엔티티.
+ *
+ * <p>일별 가격 테이블은 코드 문자열 대신 이 테이블의 INT {@code id}({@code instrument_id})를 참조합니다.
+ * (자산 유형, 시장, 코드) 조합당 1행이며, 한 번 부여된 id는 바뀌지 않습니다.</p>
+ */
+@Entity
+@Table(name = "instrument", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_instrument_asset_market_code", columnNames = {"asset_type", "market_code", "code"})
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class Instrument extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer id;
+
+    @Convert(converter = AssetTypeConverter.class)
+    @Column(name = "asset_type", nullable = false)
+    private AssetType assetType;
+
+    @Convert(converter = MarketCodeConverter.class)
+    @Column(name = "market_code", nullable = false)
+    private MarketCode marketCode;
+
+    @Column(name = "code", nullable = false, length = 20)
+    private String code;
+
+    @Builder
+    public Instrument(AssetType assetType, MarketCode marketCode, String code) {
+        this.assetType = assetType;
+        this.marketCode = marketCode;
+        this.code = code;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Instrument that)) return false;
+        return id != null && Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+}
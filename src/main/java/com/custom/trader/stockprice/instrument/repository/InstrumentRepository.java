@@ -0,0 +1,13 @@
+package com.custom.trader.stockprice.instrument.repository;
+
+import com.custom.trader.common.enums.AssetType;
+import com.custom.trader.common.enums.MarketCode;
+import com.custom.trader.stockprice.instrument.entity.Instrument;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+public interface InstrumentRepository extends JpaRepository<Instrument, Integer> {
+
+    Optional<Instrument> findByAssetTypeAndMarketCodeAndCode(AssetType assetType, MarketCode marketCode, String code);
+}
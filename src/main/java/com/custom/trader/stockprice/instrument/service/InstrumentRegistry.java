@@ -0,0 +1,135 @@
+package com.custom.trader.stockprice.instrument.service;
+
+import com.custom.trader.common.constant.DateFormatConstants;
+import com.custom.trader.common.enums.AssetType;
+import com.custom.trader.common.enums.MarketCode;
+import com.custom.trader.stockprice.instrument.entity.Instrument;
+import com.custom.trader.stockprice.instrument.repository.InstrumentRepository;
+import com.custom.trader.watchlist.entity.WatchlistStockRef;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * (자산 유형, 시장, 코드) → {@code instrument_id} 변환 서비스 (메모리 캐시).
+ *
+ * <p>동작 방식:
+ * <ul>
+ *   <li>캐시 적중: DB 조회 없이 반환 (id는 바뀌지 않으므로 만료 없음, 종목 수천 개 규모)</li>
+ *   <li>캐시 미스: 독립 트랜잭션에서 조회 후 없으면 {@code INSERT ... ON DUPLICATE KEY UPDATE id = LAST_INSERT_ID(id)}로
+ *       등록하고 {@code LAST_INSERT_ID()}로 id를 받음 → 다른 스레드/인스턴스가 먼저 커밋했어도 트랜잭션 스냅숏(REPEATABLE READ)과
+ *       무관하게 기존 행의 id를 받으므로 동시에 등록해도 같은 id</li>
+ *   <li>독립 트랜잭션: 호출한 가격 저장 트랜잭션이 롤백되어도 등록한 id는 남으므로 캐시와 DB가 어긋나지 않음</li>
+ * </ul>
+ * </p>
+ */
+@Slf4j
+@Service
+public class InstrumentRegistry {
+
+    private static final String UPSERT = """
+            INSERT INTO instrument (asset_type, market_code, code, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?)
+            ON DUPLICATE KEY UPDATE id = LAST_INSERT_ID(id)""";
+    private static final String LAST_INSERT_ID = "SELECT LAST_INSERT_ID()";
+
+    private final InstrumentRepository instrumentRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate requiresNew;
+
+    private final Map<InstrumentKey, Integer> cache = new ConcurrentHashMap<>();
+
+    public InstrumentRegistry(InstrumentRepository instrumentRepository, JdbcTemplate jdbcTemplate,
+                              PlatformTransactionManager transactionManager) {
+        this.instrumentRepository = instrumentRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 캐시 키.
+     */
+    record InstrumentKey(AssetType assetType, MarketCode marketCode, String code) {
+    }
+
+    /**
+     * 종목의 {@code instrument_id}를 반환합니다. 없으면 등록합니다.
+     *
+     * @param assetType 자산 유형
+     * @param marketCode 시장 코드 (국내는 {@link MarketCode#KRX})
+     * @param code 종목/지수 코드
+     * @return instrument_id
+     */
+    public int resolveId(AssetType assetType, MarketCode marketCode, String code) {
+        InstrumentKey key = new InstrumentKey(assetType, marketCode, code);
+        Integer cached = cache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        Integer id = requiresNew.execute(status -> findOrRegister(key));
+        if (id == null) {
+            throw new IllegalStateException("Failed to resolve instrument id: " + key);
+        }
+        cache.putIfAbsent(key, id);
+        return id;
+    }
+
+    /**
+     * 관심종목의 {@code instrument_id}를 반환합니다. 국내는 {@link MarketCode#KRX}, 해외는 종목의 거래소로 식별합니다.
+     *
+     * @param stock 관심종목
+     * @return instrument_id
+     */
+    public int resolveId(WatchlistStockRef stock) {
+        return resolveId(stock.getAssetType(), marketOf(stock), stock.getStockCode());
+    }
+
+    /**
+     * 관심종목이 속한 시장. 국내는 {@link MarketCode#KRX}, 해외는 종목의 거래소입니다.
+     *
+     * @param stock 관심종목
+     * @return 시장 코드
+     */
+    public static MarketCode marketOf(WatchlistStockRef stock) {
+        return switch (stock.getAssetType()) {
+            case DOMESTIC_STOCK, DOMESTIC_INDEX -> MarketCode.KRX;
+            case OVERSEAS_STOCK, OVERSEAS_INDEX -> stock.getMarketCode();
+        };
+    }
+
+    int cacheSize() {
+        return cache.size();
+    }
+
+    private Integer findOrRegister(InstrumentKey key) {
+        return instrumentRepository.findByAssetTypeAndMarketCodeAndCode(key.assetType(), key.marketCode(), key.code())
+                .map(Instrument::getId)
+                .orElseGet(() -> register(key));
+    }
+
+    /**
+     * 종목을 등록하고 id를 반환합니다. 이미 있으면 기존 행의 id를 반환합니다.
+     *
+     * <p>중복 키일 때 {@code LAST_INSERT_ID(id)}가 기존 id를 세션 값으로 설정하므로, 스냅숏 읽기로 다시 조회하지 않습니다
+     * (REPEATABLE READ에서는 첫 조회 이후 다른 트랜잭션이 커밋한 행이 보이지 않음).</p>
+     */
+    private Integer register(InstrumentKey key) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now(DateFormatConstants.KST_ZONE_ID));
+        jdbcTemplate.update(UPSERT, key.assetType().getCode(), key.marketCode().getCode(), key.code(), now, now);
+        Integer id = jdbcTemplate.queryForObject(LAST_INSERT_ID, Integer.class);
+        if (id == null || id == 0) {
+            return null;
+        }
+        log.info("Registered instrument: {} -> {}", key, id);
+        return id;
+    }
+}
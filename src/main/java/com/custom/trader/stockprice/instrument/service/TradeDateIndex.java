@@ -0,0 +1,170 @@
+package com.custom.trader.stockprice.instrument.service;
+
+import com.custom.trader.stockprice.util.TradeDateBitmap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * 종목별 저장된 거래일 인덱스 (메모리, {@link TradeDateBitmap}).
+ *
+ * <p>가격 저장 시 페이지마다 기존 거래일을 DB에서 조회하던 중복 체크를 메모리 비트맵 조회로 대체하고,
+ * 누락 거래일 탐지에도 같은 구조를 사용합니다.</p>
+ *
+ * <p>정합성:
+ * <ul>
+ *   <li>지연 로드: 종목을 처음 조회할 때 저장된 거래일 전체를 한 번 읽어 비트맵 생성</li>
+ *   <li>범위 조회: {@link #runBounded} 안(일간 수집)에서는 캐시에 없는 종목의 전체 이력을 읽지 않고,
+ *       저장할 페이지 이후 거래일만 조회해 캐시하지 않고 사용. 전체 로드는 백필/누락 복구가 필요할 때만 수행</li>
+ *   <li>쓰기 반영: 저장 트랜잭션이 커밋되면 저장한 거래일을 추가, 롤백되면 해당 종목 인덱스를 폐기 (다음 조회 시 재로드)</li>
+ *   <li>만료: 다른 인스턴스의 저장이나 대량 적재를 놓치지 않도록 {@code stockprice.trade-date-index.ttl}마다 재로드</li>
+ * </ul>
+ * </p>
+ */
+@Slf4j
+@Service
+public class TradeDateIndex {
+
+    private static final ThreadLocal<Boolean> BOUNDED = new ThreadLocal<>();
+
+    private final long ttlNanos;
+    private final LongSupplier nanoClock;
+    private final Map<Integer, Entry> entries = new ConcurrentHashMap<>();
+
+    @Autowired
+    public TradeDateIndex(@Value("${stockprice.trade-date-index.ttl:PT6H}") Duration ttl) {
+        this(ttl, System::nanoTime);
+    }
+
+    TradeDateIndex(Duration ttl, LongSupplier nanoClock) {
+        this.ttlNanos = ttl.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    private record Entry(TradeDateBitmap bitmap, long loadedAtNanos) {
+    }
+
+    /**
+     * 종목의 저장된 거래일 비트맵을 반환합니다. 없거나 만료되었으면 로드합니다.
+     *
+     * @param instrumentId 종목 id
+     * @param loader 저장된 거래일 전체 조회 함수
+     * @return 저장된 거래일 비트맵
+     */
+    public TradeDateBitmap get(Integer instrumentId, Function<Integer, ? extends Collection<LocalDate>> loader) {
+        Entry entry = entries.get(instrumentId);
+        if (entry != null && !isExpired(entry)) {
+            return entry.bitmap();
+        }
+        return entries.compute(instrumentId, (id, current) ->
+                current != null && !isExpired(current) ? current : load(id, loader)).bitmap();
+    }
+
+    /**
+     * 저장 경로용 조회. 캐시된 비트맵이 있으면 반환하고, 없으면 {@link #runBounded} 안에서는 범위 조회 결과를
+     * 캐시하지 않고 반환합니다. 그 밖에서는 {@link #get(Integer, Function)}과 같이 전체를 로드합니다.
+     *
+     * <p>일간 수집은 종목당 하루 한 번 최근 며칠만 저장하므로, TTL이 수집 주기보다 짧아도 매일 전체 이력을 다시 읽지 않습니다.</p>
+     *
+     * @param instrumentId 종목 id
+     * @param loader 저장된 거래일 전체 조회 함수
+     * @param boundedLoader 저장할 구간의 거래일과 종목의 마지막 거래일을 포함하는 범위 조회 함수
+     * @return 저장된 거래일 비트맵 (범위 조회 시 구간 밖 거래일은 포함하지 않음)
+     */
+    public TradeDateBitmap get(Integer instrumentId, Function<Integer, ? extends Collection<LocalDate>> loader,
+                               Supplier<? extends Collection<LocalDate>> boundedLoader) {
+        Entry entry = entries.get(instrumentId);
+        if (entry != null && !isExpired(entry)) {
+            return entry.bitmap();
+        }
+        if (Boolean.TRUE.equals(BOUNDED.get())) {
+            return TradeDateBitmap.of(boundedLoader.get());
+        }
+        return get(instrumentId, loader);
+    }
+
+    /**
+     * 작업 안의 저장이 캐시에 없는 종목을 범위 조회로 처리하도록 실행합니다 (일간 수집).
+     *
+     * @param task 가격 저장을 포함한 작업
+     */
+    public static void runBounded(Runnable task) {
+        Boolean previous = BOUNDED.get();
+        BOUNDED.set(Boolean.TRUE);
+        try {
+            task.run();
+        } finally {
+            if (previous == null) {
+                BOUNDED.remove();
+            } else {
+                BOUNDED.set(previous);
+            }
+        }
+    }
+
+    /**
+     * 저장한 거래일을 인덱스에 반영합니다.
+     *
+     * <p>트랜잭션 안이면 커밋 후 반영하고 롤백 시 인덱스를 폐기합니다. 트랜잭션 밖이면 즉시 반영합니다.</p>
+     *
+     * @param instrumentId 종목 id
+     * @param tradeDates 저장한 거래일
+     */
+    public void record(Integer instrumentId, List<LocalDate> tradeDates) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(instrumentId, tradeDates);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    apply(instrumentId, tradeDates);
+                } else {
+                    invalidate(instrumentId);
+                }
+            }
+        });
+    }
+
+    /**
+     * 종목 인덱스를 폐기합니다. 다음 조회 시 DB에서 다시 로드합니다.
+     */
+    public void invalidate(Integer instrumentId) {
+        entries.remove(instrumentId);
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private void apply(Integer instrumentId, List<LocalDate> tradeDates) {
+        Entry entry = entries.get(instrumentId);
+        if (entry != null) {
+            entry.bitmap().addAll(tradeDates);
+        }
+    }
+
+    private Entry load(Integer instrumentId, Function<Integer, ? extends Collection<LocalDate>> loader) {
+        TradeDateBitmap bitmap = TradeDateBitmap.of(loader.apply(instrumentId));
+        log.debug("Loaded trade date index for instrument {}: {} dates", instrumentId, bitmap.size());
+        return new Entry(bitmap, nanoClock.getAsLong());
+    }
+
+    private boolean isExpired(Entry entry) {
+        return nanoClock.getAsLong() - entry.loadedAtNanos() >= ttlNanos;
+    }
+}
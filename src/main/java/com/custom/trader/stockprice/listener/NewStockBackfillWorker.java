@@ -0,0 +1,167 @@
+package com.custom.trader.stockprice.listener;
+
+import com.custom.trader.kis.client.KisPriorityContext;
+import com.custom.trader.kis.client.KisRequestPriority;
+import com.custom.trader.kis.client.KisRetryPolicy;
+import com.custom.trader.stockprice.deferred.entity.DeferredPriceTask.TaskType;
+import com.custom.trader.stockprice.service.StockPriceCollectionService;
+import com.custom.trader.watchlist.dto.WatchlistStockSummary;
+import com.custom.trader.watchlist.event.WatchlistStocksAddedEvent;
+import com.custom.trader.watchlist.repository.WatchlistStockRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 새로 추가된 관심종목을 즉시 백필하는 백그라운드 워커.
+ *
+ * <p>관심종목 동기화가 커밋되면 {@link WatchlistStocksAddedEvent}를 받아 전용 스레드에서 백필합니다.
+ * 새 종목이 03:00 정기 백필까지 최대 하루 가까이 데이터 없이 남는 것을 방지하며,
+ * 정기 백필은 이 워커가 실패/누락한 종목을 처리하는 안전망으로 남습니다.</p>
+ *
+ * <p>지연 재처리 Sweep도 백필 작업을 직접 실행하지 않고 이 워커에 넘깁니다 ({@link #submitDeferredBackfills}).
+ * 종목 하나의 백필이 Sweep 주기와 락 시간을 넘길 수 있고, 백필은 BACKFILL 우선순위로 실행되어야 하기 때문입니다.</p>
+ *
+ * <p><b>낮은 우선순위:</b>
+ * <ul>
+ *   <li>단일 스레드 + {@link Thread#MIN_PRIORITY}: 이벤트가 몰려도 백필은 한 번에 한 종목씩 순차 처리</li>
+ *   <li>KIS 호출은 BACKFILL 우선순위로 디스패처를 거치므로 일간 수집/동기화 요청에 permit을 양보</li>
+ *   <li>작업 1건마다 별도 재시도 예산을 사용 ({@link KisRetryPolicy#runWithBudget})</li>
+ * </ul>
+ * </p>
+ *
+ * <p><b>중복 방지:</b>
+ * <ul>
+ *   <li>이벤트의 종목 코드를 커밋 직후 해당 사용자의 백필 미완료 관심종목 행 id로 바꿔 접수하고,
+ *       대기/진행 중인 id는 다시 접수하지 않음</li>
+ *   <li>같은 종목이 여러 그룹에 있으면 {@link StockPriceCollectionService#backfillNewStocks}가 한 번만 백필</li>
+ *   <li>03:00 정기 백필/지연 재처리가 같은 종목을 백필 중이면 종목 점유({@code StockBackfillClaims})에서 건너뜀.
+ *       정기 백필 락과 달리 다른 종목의 백필은 막지 않음</li>
+ * </ul>
+ * </p>
+ */
+@Slf4j
+@Component
+public class NewStockBackfillWorker {
+
+    private final StockPriceCollectionService stockPriceCollectionService;
+    private final WatchlistStockRepository watchlistStockRepository;
+    private final KisRetryPolicy kisRetryPolicy;
+    private final ExecutorService executor;
+    private final Set<Long> pendingStockIds = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean deferredBackfillQueued = new AtomicBoolean();
+
+    @Autowired
+    public NewStockBackfillWorker(StockPriceCollectionService stockPriceCollectionService,
+                                  WatchlistStockRepository watchlistStockRepository,
+                                  KisRetryPolicy kisRetryPolicy) {
+        this(stockPriceCollectionService, watchlistStockRepository, kisRetryPolicy,
+                Executors.newSingleThreadExecutor(runnable -> {
+                    Thread thread = new Thread(runnable, "new-stock-backfill");
+                    thread.setDaemon(true);
+                    thread.setPriority(Thread.MIN_PRIORITY);
+                    return thread;
+                }));
+    }
+
+    NewStockBackfillWorker(StockPriceCollectionService stockPriceCollectionService,
+                           WatchlistStockRepository watchlistStockRepository,
+                           KisRetryPolicy kisRetryPolicy,
+                           ExecutorService executor) {
+        this.stockPriceCollectionService = stockPriceCollectionService;
+        this.watchlistStockRepository = watchlistStockRepository;
+        this.kisRetryPolicy = kisRetryPolicy;
+        this.executor = executor;
+    }
+
+    /**
+     * 동기화 커밋 후 추가된 종목의 백필을 접수합니다 (호출 스레드는 대기하지 않음).
+     *
+     * @param event 종목 추가 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onStocksAdded(WatchlistStocksAddedEvent event) {
+        List<WatchlistStockSummary> stocks;
+        try {
+            stocks = watchlistStockRepository.findBackfillPendingSummaries(event.userId(), event.stockCodes());
+        } catch (DataAccessException e) {
+            log.warn("New stock lookup failed, leaving {} stocks to scheduled backfill: {}",
+                    event.stockCodes().size(), e.getMessage());
+            return;
+        }
+        List<Long> accepted = stocks.stream()
+                .map(WatchlistStockSummary::getId)
+                .filter(pendingStockIds::add)
+                .toList();
+        if (accepted.isEmpty()) {
+            return;
+        }
+        try {
+            executor.execute(() -> backfill(accepted));
+            log.info("Queued backfill for {} newly added watchlist stocks", accepted.size());
+        } catch (RejectedExecutionException e) {
+            accepted.forEach(pendingStockIds::remove);
+            log.warn("New stock backfill rejected, leaving {} stocks to scheduled backfill", accepted.size());
+        }
+    }
+
+    /**
+     * 지연 재처리 큐의 백필 작업 재처리를 접수합니다 (호출 스레드는 대기하지 않음).
+     *
+     * <p>이미 대기/진행 중이면 다시 접수하지 않습니다. 진행 중에 도래한 작업은 다음 Sweep에서 접수됩니다.</p>
+     */
+    public void submitDeferredBackfills() {
+        if (!deferredBackfillQueued.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            executor.execute(this::retryDeferredBackfills);
+        } catch (RejectedExecutionException e) {
+            deferredBackfillQueued.set(false);
+            log.warn("Deferred backfill retry rejected, leaving tasks to the next sweep");
+        }
+    }
+
+    int getPendingCount() {
+        return pendingStockIds.size();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void backfill(List<Long> watchlistStockIds) {
+        try {
+            kisRetryPolicy.runWithBudget("newStockBackfill", () -> KisPriorityContext.run(KisRequestPriority.BACKFILL,
+                    () -> stockPriceCollectionService.backfillNewStocks(watchlistStockIds)));
+        } catch (Exception e) {
+            log.error("New stock backfill failed, leaving {} stocks to scheduled backfill", watchlistStockIds.size(), e);
+        } finally {
+            watchlistStockIds.forEach(pendingStockIds::remove);
+        }
+    }
+
+    private void retryDeferredBackfills() {
+        try {
+            kisRetryPolicy.runWithBudget("deferredBackfillRetry", () -> KisPriorityContext.run(KisRequestPriority.BACKFILL,
+                    () -> stockPriceCollectionService.retryDeferredTasks(TaskType.BACKFILL)));
+        } catch (Exception e) {
+            log.error("Deferred backfill retry failed, leaving tasks to the next sweep", e);
+        } finally {
+            deferredBackfillQueued.set(false);
+        }
+    }
+}
@@ -20,6 +20,8 @@ import java.time.LocalDate;
  *
  * <p>컴파일 타임에 구현체가 자동 생성되며, Spring Bean으로 등록됩니다.</p>
  *
+ * <p>종목 식별자는 코드 대신 {@code instrument_id}를 받습니다 (InstrumentRegistry에서 변환).</p>
+ *
  * <p>변환 대상:
  * <ul>
  *   <li>국내 주식 일간 가격: {@link DomesticStockDailyPriceResponse.PriceItem} → {@link DomesticStockDailyPrice}</li>
@@ -35,7 +37,7 @@ public interface StockPriceMapper {
     /**
      * 국내 주식 DTO를 Entity로 변환합니다.
      *
-     * @param stockCode 종목 코드 (예: "005930")
+     * @param instrumentId 종목 id ({@code instrument.id})
      * @param dto KIS API 응답 DTO
      * @return 변환된 Entity
      */
@@ -47,14 +49,14 @@ public interface StockPriceMapper {
     @Mapping(target = "volume", expression = "java(parseLong(dto.acmlVol()))")
     @Mapping(target = "tradingValue", expression = "java(parseBigDecimal(dto.acmlTrPbmn()))")
     DomesticStockDailyPrice toDomesticStock(
-            String stockCode,
+            Integer instrumentId,
             DomesticStockDailyPriceResponse.PriceItem dto
     );
 
     /**
      * 국내 지수 DTO를 Entity로 변환합니다.
      *
-     * @param indexCode 지수 코드 (예: "0001")
+     * @param instrumentId 종목 id ({@code instrument.id})
      * @param dto KIS API 응답 DTO
      * @return 변환된 Entity
      */
@@ -66,15 +68,14 @@ public interface StockPriceMapper {
     @Mapping(target = "volume", expression = "java(parseLong(dto.acmlVol()))")
     @Mapping(target = "tradingValue", expression = "java(parseBigDecimal(dto.acmlTrPbmn()))")
     DomesticIndexDailyPrice toDomesticIndex(
-            String indexCode,
+            Integer instrumentId,
             DomesticIndexDailyPriceResponse.PriceItem dto
     );
 
     /**
      * 해외 주식 DTO를 Entity로 변환합니다.
      *
-     * @param stockCode 종목 코드 (예: "AAPL")
-     * @param exchangeCode 거래소 코드 (예: "NAS")
+     * @param instrumentId 종목 id ({@code instrument.id})
      * @param dto KIS API 응답 DTO
      * @return 변환된 Entity
      */
@@ -86,16 +87,14 @@ public interface StockPriceMapper {
     @Mapping(target = "volume", expression = "java(parseLong(dto.tvol()))")
     @Mapping(target = "tradingValue", expression = "java(parseBigDecimal(dto.tamt()))")
     OverseasStockDailyPrice toOverseasStock(
-            String stockCode,
-            String exchangeCode,
+            Integer instrumentId,
             OverseasStockDailyPriceResponse.PriceItem dto
     );
 
     /**
      * 해외 지수 DTO를 Entity로 변환합니다.
      *
-     * @param indexCode 지수 코드 (예: "COMP")
-     * @param exchangeCode 거래소 코드 (예: "NAS")
+     * @param instrumentId 종목 id ({@code instrument.id})
      * @param dto KIS API 응답 DTO
      * @return 변환된 Entity
      */
@@ -107,8 +106,7 @@ public interface StockPriceMapper {
     @Mapping(target = "volume", expression = "java(parseLong(dto.acmlVol()))")
     @Mapping(target = "tradingValue", expression = "java(java.math.BigDecimal.ZERO)")
     OverseasIndexDailyPrice toOverseasIndex(
-            String indexCode,
-            String exchangeCode,
+            Integer instrumentId,
             OverseasIndexDailyPriceResponse.PriceItem dto
     );
 
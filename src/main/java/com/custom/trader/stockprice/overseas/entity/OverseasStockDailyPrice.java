@@ -1,36 +1,43 @@
 package com.custom.trader.stockprice.overseas.entity;
 
 import com.custom.trader.common.entity.BaseEntity;
+import com.custom.trader.stockprice.instrument.entity.DailyPriceBar;
+import com.custom.trader.stockprice.instrument.entity.DailyPriceId;
+import com.custom.trader.stockprice.instrument.entity.Instrument;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.util.Objects;
 
+/**
+ * {@code (instrument_id, trade_date)} 복합 키를 클러스터드 PK로 사용합니다.
+ *
+ * <p>InnoDB는 PK 순서로 행을 저장하므로 한 종목의 기간 조회가 PK 범위 스캔(순차 읽기)으로 끝나고,
+ * 별도 UNIQUE 인덱스 없이 PK 하나만 유지합니다. 종목은 {@link Instrument}의 INT id로 참조하므로
+ * 키가 코드 문자열보다 작고 비교가 빠릅니다. 키를 직접 지정하므로 {@link Persistable#isNew()}로
+ * 신규 여부를 알려 {@code save()}가 merge(SELECT) 대신 persist하도록 합니다.</p>
+ */
 @Entity
-@Table(name = "overseas_stock_daily_price", uniqueConstraints = {
-    @UniqueConstraint(columnNames = {"stock_code", "exchange_code", "trade_date"})
-}, indexes = {
-    @Index(name = "idx_overseas_stock_daily_price_code_date", columnList = "stock_code, exchange_code, trade_date DESC")
-})
+@IdClass(DailyPriceId.class)
+@Table(name = "overseas_stock_daily_price")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-public class OverseasStockDailyPrice extends BaseEntity {
+public class OverseasStockDailyPrice extends BaseEntity implements Persistable<DailyPriceId>, DailyPriceBar {
 
-    @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    private Long id;
-
-    @Column(name = "stock_code", nullable = false, length = 20)
-    private String stockCode;
+    private static final int PRICE_SCALE = 4;
 
-    @Column(name = "exchange_code", nullable = false, length = 10)
-    private String exchangeCode;
+    @Id
+    @Column(name = "instrument_id", nullable = false)
+    private Integer instrumentId;
 
+    @Id
     @Column(name = "trade_date", nullable = false)
     private LocalDate tradeDate;
 
@@ -52,13 +59,16 @@ public class OverseasStockDailyPrice extends BaseEntity {
     @Column(name = "trading_value", precision = 20, scale = 4)
     private BigDecimal tradingValue;
 
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private boolean newEntity = true;
+
     @Builder
-    public OverseasStockDailyPrice(String stockCode, String exchangeCode, LocalDate tradeDate,
+    public OverseasStockDailyPrice(Integer instrumentId, LocalDate tradeDate,
                                     BigDecimal openPrice, BigDecimal highPrice,
                                     BigDecimal lowPrice, BigDecimal closePrice,
                                     Long volume, BigDecimal tradingValue) {
-        this.stockCode = stockCode;
-        this.exchangeCode = exchangeCode;
+        this.instrumentId = instrumentId;
         this.tradeDate = tradeDate;
         this.openPrice = openPrice;
         this.highPrice = highPrice;
@@ -68,15 +78,41 @@ public class OverseasStockDailyPrice extends BaseEntity {
         this.tradingValue = tradingValue;
     }
 
+    @Override
+    public void rebase(BigDecimal divisor) {
+        this.openPrice = openPrice.divide(divisor, PRICE_SCALE, RoundingMode.HALF_UP);
+        this.highPrice = highPrice.divide(divisor, PRICE_SCALE, RoundingMode.HALF_UP);
+        this.lowPrice = lowPrice.divide(divisor, PRICE_SCALE, RoundingMode.HALF_UP);
+        this.closePrice = closePrice.divide(divisor, PRICE_SCALE, RoundingMode.HALF_UP);
+    }
+
+    @Override
+    public DailyPriceId getId() {
+        return new DailyPriceId(instrumentId, tradeDate);
+    }
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newEntity = false;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
         if (!(o instanceof OverseasStockDailyPrice that)) return false;
-        return id != null && Objects.equals(id, that.id);
+        return instrumentId != null
+                && Objects.equals(instrumentId, that.instrumentId)
+                && Objects.equals(tradeDate, that.tradeDate);
     }
 
     @Override
     public int hashCode() {
-        return getClass().hashCode();
+        return Objects.hash(instrumentId, tradeDate);
     }
 }
@@ -0,0 +1,19 @@
+package com.custom.trader.stockprice.overseas.entity;
+
+import com.custom.trader.stockprice.rollup.entity.PriceRollup;
+import com.custom.trader.stockprice.rollup.entity.PriceRollupId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * 해외 주식 주/월 롤업 ({@link OverseasStockDailyPrice} 집계).
+ */
+@Entity
+@IdClass(PriceRollupId.class)
+@Table(name = "overseas_stock_price_rollup")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OverseasStockPriceRollup extends PriceRollup {
+}
@@ -1,20 +1,44 @@
 package com.custom.trader.stockprice.overseas.repository;
 
+import com.custom.trader.stockprice.instrument.entity.DailyPriceId;
 import com.custom.trader.stockprice.overseas.entity.OverseasIndexDailyPrice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 
-public interface OverseasIndexDailyPriceRepository extends JpaRepository<OverseasIndexDailyPrice, Long> {
+/**
+ * 모든 조회는 {@code trade_date} 조건(등호/범위)을 포함하여, 연 단위 RANGE 파티션 테이블
+ * (V005 마이그레이션)에서 해당 연도 파티션만 읽도록(partition pruning) 합니다.
+ * 예외: {@link #findTradeDatesByInstrumentId}는 종목 전체 이력을 읽습니다 (거래일 인덱스 로드, 종목당 1회).
+ */
+public interface OverseasIndexDailyPriceRepository extends JpaRepository<OverseasIndexDailyPrice, DailyPriceId> {
 
-    Optional<OverseasIndexDailyPrice> findTopByIndexCodeAndExchangeCodeOrderByTradeDateDesc(String indexCode, String exchangeCode);
+    /**
+     * 기준일 이후(포함) 가장 최근 가격. 하한을 두어 파티션 테이블에서 오래된 연도 파티션을 읽지 않도록 합니다.
+     */
+    Optional<OverseasIndexDailyPrice> findTopByInstrumentIdAndTradeDateGreaterThanEqualOrderByTradeDateDesc(Integer instrumentId, LocalDate since);
 
-    boolean existsByIndexCodeAndExchangeCodeAndTradeDate(String indexCode, String exchangeCode, LocalDate tradeDate);
+    boolean existsByInstrumentIdAndTradeDate(Integer instrumentId, LocalDate tradeDate);
 
-    @Query("SELECT o.tradeDate FROM OverseasIndexDailyPrice o WHERE o.indexCode = :indexCode AND o.exchangeCode = :exchangeCode AND o.tradeDate BETWEEN :startDate AND :endDate")
-    Set<LocalDate> findTradeDatesByIndexCodeAndExchangeCodeAndTradeDateBetween(@Param("indexCode") String indexCode, @Param("exchangeCode") String exchangeCode, @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+    @Query("SELECT o.tradeDate FROM OverseasIndexDailyPrice o WHERE o.instrumentId = :instrumentId AND o.tradeDate BETWEEN :startDate AND :endDate")
+    Set<LocalDate> findTradeDatesByInstrumentIdAndTradeDateBetween(@Param("instrumentId") Integer instrumentId, @Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    /**
+     * 종목의 저장된 거래일 전체. 메모리 거래일 인덱스(TradeDateIndex) 로드용이며 PK 선두 범위 스캔으로 읽습니다.
+     */
+    @Query("SELECT o.tradeDate FROM OverseasIndexDailyPrice o WHERE o.instrumentId = :instrumentId")
+    List<LocalDate> findTradeDatesByInstrumentId(@Param("instrumentId") Integer instrumentId);
+
+    /**
+     * 기준일 이후(포함) 거래일과 기준일 직전 마지막 거래일. 일간 수집의 범위 중복 체크용으로,
+     * 전체 이력을 읽지 않으면서 종목의 마지막 거래일을 결과에 포함합니다.
+     */
+    @Query("SELECT d.tradeDate FROM OverseasIndexDailyPrice d WHERE d.instrumentId = :instrumentId AND d.tradeDate >= COALESCE("
+            + "(SELECT MAX(p.tradeDate) FROM OverseasIndexDailyPrice p WHERE p.instrumentId = :instrumentId AND p.tradeDate < :since), :since)")
+    List<LocalDate> findTradeDatesFromLastBefore(@Param("instrumentId") Integer instrumentId, @Param("since") LocalDate since);
 }
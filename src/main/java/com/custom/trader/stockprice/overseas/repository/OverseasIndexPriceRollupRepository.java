@@ -0,0 +1,7 @@
+package com.custom.trader.stockprice.overseas.repository;
+
+import com.custom.trader.stockprice.overseas.entity.OverseasIndexPriceRollup;
+import com.custom.trader.stockprice.rollup.repository.PriceRollupRepository;
+
+public interface OverseasIndexPriceRollupRepository extends PriceRollupRepository<OverseasIndexPriceRollup> {
+}
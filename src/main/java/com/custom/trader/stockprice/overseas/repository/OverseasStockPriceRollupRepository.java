@@ -0,0 +1,7 @@
+package com.custom.trader.stockprice.overseas.repository;
+
+import com.custom.trader.stockprice.overseas.entity.OverseasStockPriceRollup;
+import com.custom.trader.stockprice.rollup.repository.PriceRollupRepository;
+
+public interface OverseasStockPriceRollupRepository extends PriceRollupRepository<OverseasStockPriceRollup> {
+}
@@ -0,0 +1,69 @@
+package com.custom.trader.stockprice.rollup.entity;
+
+import com.custom.trader.common.entity.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.MappedSuperclass;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 주/월 OHLCV 롤업 공통 매핑.
+ *
+ * <p>행은 {@code PriceRollupService}가 JDBC upsert로 유지하고, 엔티티는 조회 전용입니다.
+ * 기간 안의 첫/마지막 거래일을 함께 저장하므로 새 일봉을 기간 전체 재조회 없이 병합할 수 있습니다
+ * (더 이른 날이면 시가, 더 늦은 날이면 종가 교체).</p>
+ *
+ * <p>가격 소수 자릿수는 국내(2)/해외(4)를 모두 담도록 4자리입니다.</p>
+ */
+@MappedSuperclass
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public abstract class PriceRollup extends BaseEntity {
+
+    @Id
+    @Column(name = "instrument_id", nullable = false)
+    private Integer instrumentId;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "period_type", nullable = false, length = 5)
+    private RollupPeriod periodType;
+
+    @Id
+    @Column(name = "period_start", nullable = false)
+    private LocalDate periodStart;
+
+    @Column(name = "first_trade_date", nullable = false)
+    private LocalDate firstTradeDate;
+
+    @Column(name = "last_trade_date", nullable = false)
+    private LocalDate lastTradeDate;
+
+    @Column(name = "open_price", nullable = false, precision = 15, scale = 4)
+    private BigDecimal openPrice;
+
+    @Column(name = "high_price", nullable = false, precision = 15, scale = 4)
+    private BigDecimal highPrice;
+
+    @Column(name = "low_price", nullable = false, precision = 15, scale = 4)
+    private BigDecimal lowPrice;
+
+    @Column(name = "close_price", nullable = false, precision = 15, scale = 4)
+    private BigDecimal closePrice;
+
+    @Column(name = "volume", nullable = false)
+    private Long volume;
+
+    @Column(name = "trading_value", precision = 22, scale = 4)
+    private BigDecimal tradingValue;
+
+    @Column(name = "trade_days", nullable = false)
+    private Integer tradeDays;
+}
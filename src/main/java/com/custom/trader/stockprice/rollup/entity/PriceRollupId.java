@@ -0,0 +1,23 @@
+package com.custom.trader.stockprice.rollup.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * 롤업 엔티티 공통 복합 키 {@code (instrument_id, period_type, period_start)}.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@EqualsAndHashCode
+public class PriceRollupId implements Serializable {
+
+    private Integer instrumentId;
+    private RollupPeriod periodType;
+    private LocalDate periodStart;
+}
@@ -0,0 +1,36 @@
+package com.custom.trader.stockprice.rollup.entity;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * 롤업 기간 단위.
+ */
+public enum RollupPeriod {
+
+    /**
+     * 주봉 (월요일 시작, ISO 주).
+     */
+    WEEK {
+        @Override
+        public LocalDate startOf(LocalDate date) {
+            return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        }
+    },
+
+    /**
+     * 월봉 (1일 시작).
+     */
+    MONTH {
+        @Override
+        public LocalDate startOf(LocalDate date) {
+            return date.withDayOfMonth(1);
+        }
+    };
+
+    /**
+     * 날짜가 속한 기간의 시작일.
+     */
+    public abstract LocalDate startOf(LocalDate date);
+}
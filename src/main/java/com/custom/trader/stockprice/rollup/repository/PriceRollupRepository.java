@@ -0,0 +1,22 @@
+package com.custom.trader.stockprice.rollup.repository;
+
+import com.custom.trader.stockprice.rollup.entity.PriceRollup;
+import com.custom.trader.stockprice.rollup.entity.PriceRollupId;
+import com.custom.trader.stockprice.rollup.entity.RollupPeriod;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.repository.NoRepositoryBean;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 롤업 테이블 공통 조회. PK {@code (instrument_id, period_type, period_start)} 범위 스캔으로 읽습니다.
+ *
+ * @param <T> 자산 유형별 롤업 엔티티
+ */
+@NoRepositoryBean
+public interface PriceRollupRepository<T extends PriceRollup> extends JpaRepository<T, PriceRollupId> {
+
+    List<T> findByInstrumentIdAndPeriodTypeAndPeriodStartBetweenOrderByPeriodStartAsc(
+            Integer instrumentId, RollupPeriod periodType, LocalDate startDate, LocalDate endDate);
+}
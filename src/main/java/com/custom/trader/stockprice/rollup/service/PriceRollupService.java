@@ -0,0 +1,279 @@
+package com.custom.trader.stockprice.rollup.service;
+
+import com.custom.trader.common.constant.DateFormatConstants;
+import com.custom.trader.common.enums.AssetType;
+import com.custom.trader.stockprice.adjustment.service.AdjustmentSchedule;
+import com.custom.trader.stockprice.adjustment.service.PriceAdjustmentService;
+import com.custom.trader.stockprice.constant.DailyPriceTable;
+import com.custom.trader.stockprice.instrument.entity.DailyPriceBar;
+import com.custom.trader.stockprice.instrument.service.InstrumentRegistry;
+import com.custom.trader.stockprice.rollup.entity.RollupPeriod;
+import com.custom.trader.watchlist.entity.WatchlistStockRef;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 일별 가격을 주/월 OHLCV 롤업 테이블로 유지하는 서비스.
+ *
+ * <p>유지 방식:
+ * <ul>
+ *   <li><b>증분</b>: {@link #apply}가 새로 저장한 일봉을 기간별로 묶어 해당 주/월 행에만 upsert.
+ *       기존 행과는 첫/마지막 거래일 비교로 병합하므로 일별 테이블을 다시 읽지 않음</li>
+ *   <li><b>재구성</b>: {@link #rebuild}가 종목의 일별 이력 전체를 PK 순서로 읽어 롤업을 다시 만듦.
+ *       대량 적재(ADR-0028)처럼 증분 경로를 거치지 않은 백필 후 사용</li>
+ * </ul>
+ * </p>
+ *
+ * <p>가격(OHLC)은 수정 계수({@link PriceAdjustmentService})를 곱한 현재 기준으로 집계하므로, 분할/병합 시행일이 걸친 주/월도
+ * {@code getAdjustedDailyPrices}의 일봉과 같은 기준입니다 (거래량/거래대금은 그대로). 증분 병합은 저장 기준으로 되돌린 일봉에
+ * 계수를 다시 곱해 반영하고, 새 사건이 기록되면 이전 기간이 모두 바뀌므로 저장 경로가 {@link #rebuild}로 다시 만듭니다.</p>
+ *
+ * <p>증분 병합은 같은 거래일이 두 번 들어오지 않는다는 전제(저장 경로의 중복 체크)에 의존합니다.
+ * 일별 저장과 같은 트랜잭션에서 실행되므로 일별 INSERT가 실패하면 롤업 변경도 함께 롤백됩니다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PriceRollupService {
+
+    /**
+     * 롤업 가격 컬럼 소수 자릿수 ({@code DECIMAL(15, 4)}).
+     */
+    static final int PRICE_SCALE = 4;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final InstrumentRegistry instrumentRegistry;
+    private final PriceAdjustmentService priceAdjustmentService;
+
+    /**
+     * 자산 유형별 일별 가격 테이블과 롤업 테이블.
+     */
+    enum RollupTable {
+        DOMESTIC_STOCK(DailyPriceTable.DOMESTIC_STOCK, "domestic_stock_price_rollup"),
+        DOMESTIC_INDEX(DailyPriceTable.DOMESTIC_INDEX, "domestic_index_price_rollup"),
+        OVERSEAS_STOCK(DailyPriceTable.OVERSEAS_STOCK, "overseas_stock_price_rollup"),
+        OVERSEAS_INDEX(DailyPriceTable.OVERSEAS_INDEX, "overseas_index_price_rollup");
+
+        private final DailyPriceTable dailyTable;
+        private final String rollupTable;
+
+        RollupTable(DailyPriceTable dailyTable, String rollupTable) {
+            this.dailyTable = dailyTable;
+            this.rollupTable = rollupTable;
+        }
+
+        static RollupTable of(AssetType assetType) {
+            return switch (assetType) {
+                case DOMESTIC_STOCK -> DOMESTIC_STOCK;
+                case DOMESTIC_INDEX -> DOMESTIC_INDEX;
+                case OVERSEAS_STOCK -> OVERSEAS_STOCK;
+                case OVERSEAS_INDEX -> OVERSEAS_INDEX;
+            };
+        }
+
+        /**
+         * 기간 집계를 기존 행과 병합하는 upsert.
+         *
+         * <p>MySQL은 {@code ON DUPLICATE KEY UPDATE}의 대입을 왼쪽부터 적용하고 뒤의 식은 바뀐 값을 보므로,
+         * 시가/종가를 첫/마지막 거래일보다 먼저 갱신합니다.</p>
+         */
+        String upsertSql() {
+            String t = rollupTable;
+            return "INSERT INTO " + t + " (instrument_id, period_type, period_start, first_trade_date, last_trade_date,"
+                    + " open_price, high_price, low_price, close_price, volume, trading_value, trade_days,"
+                    + " created_at, updated_at)"
+                    + " VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?) AS incoming"
+                    + " ON DUPLICATE KEY UPDATE"
+                    + " open_price = IF(incoming.first_trade_date < " + t + ".first_trade_date,"
+                    + " incoming.open_price, " + t + ".open_price),"
+                    + " close_price = IF(incoming.last_trade_date > " + t + ".last_trade_date,"
+                    + " incoming.close_price, " + t + ".close_price),"
+                    + " first_trade_date = LEAST(" + t + ".first_trade_date, incoming.first_trade_date),"
+                    + " last_trade_date = GREATEST(" + t + ".last_trade_date, incoming.last_trade_date),"
+                    + " high_price = GREATEST(" + t + ".high_price, incoming.high_price),"
+                    + " low_price = LEAST(" + t + ".low_price, incoming.low_price),"
+                    + " volume = " + t + ".volume + incoming.volume,"
+                    + " trading_value = COALESCE(" + t + ".trading_value + incoming.trading_value,"
+                    + " " + t + ".trading_value, incoming.trading_value),"
+                    + " trade_days = " + t + ".trade_days + incoming.trade_days,"
+                    + " updated_at = incoming.updated_at";
+        }
+    }
+
+    /**
+     * 새로 저장한 일봉을 해당 주/월 롤업에 병합합니다.
+     *
+     * @param assetType 자산 유형 (롤업 테이블)
+     * @param bars 새로 저장한 일봉 (저장 기준 가격, 순서 무관, 이미 롤업에 반영된 거래일은 포함하지 않아야 함)
+     * @return upsert한 기간 수 (주 + 월)
+     */
+    public int apply(AssetType assetType, Collection<? extends DailyPriceBar> bars) {
+        if (bars.isEmpty()) {
+            return 0;
+        }
+        Map<Integer, AdjustmentSchedule> schedules = new HashMap<>();
+        Map<PeriodKey, Aggregate> aggregates = new LinkedHashMap<>();
+        for (DailyPriceBar bar : bars) {
+            AdjustmentSchedule schedule = schedules.computeIfAbsent(bar.getInstrumentId(),
+                    instrumentId -> priceAdjustmentService.scheduleOf(assetType, instrumentId));
+            add(aggregates, bar.getInstrumentId(), bar.getTradeDate(), schedule.factorAt(bar.getTradeDate()),
+                    bar.getOpenPrice(), bar.getHighPrice(), bar.getLowPrice(), bar.getClosePrice(),
+                    bar.getVolume(), bar.getTradingValue());
+        }
+        return upsert(RollupTable.of(assetType), aggregates.values());
+    }
+
+    /**
+     * 관심종목의 롤업을 일별 이력 전체로 다시 만듭니다.
+     *
+     * @param stock 대상 종목
+     * @return 생성한 기간 수 (주 + 월)
+     */
+    @Transactional
+    public int rebuild(WatchlistStockRef stock) {
+        return rebuild(stock.getAssetType(), instrumentRegistry.resolveId(stock));
+    }
+
+    /**
+     * 종목의 롤업을 일별 이력 전체로 다시 만듭니다.
+     *
+     * <p>기존 롤업을 삭제하고, 일별 행을 PK 순서로 한 번 읽어 현재 수정 계수로 모든 주/월을 집계합니다.</p>
+     *
+     * @param assetType 자산 유형
+     * @param instrumentId 종목 id
+     * @return 생성한 기간 수 (주 + 월)
+     */
+    @Transactional
+    public int rebuild(AssetType assetType, int instrumentId) {
+        RollupTable table = RollupTable.of(assetType);
+        AdjustmentSchedule schedule = priceAdjustmentService.scheduleOf(assetType, instrumentId);
+        long startNanos = System.nanoTime();
+        jdbcTemplate.update("DELETE FROM " + table.rollupTable + " WHERE instrument_id = ?", instrumentId);
+
+        Map<PeriodKey, Aggregate> aggregates = new LinkedHashMap<>();
+        jdbcTemplate.query("SELECT trade_date, open_price, high_price, low_price, close_price, volume, trading_value"
+                        + " FROM " + table.dailyTable.tableName() + " WHERE instrument_id = ? ORDER BY trade_date",
+                (RowCallbackHandler) rs -> {
+                    LocalDate tradeDate = rs.getObject("trade_date", LocalDate.class);
+                    add(aggregates, instrumentId, tradeDate, schedule.factorAt(tradeDate),
+                            rs.getBigDecimal("open_price"), rs.getBigDecimal("high_price"),
+                            rs.getBigDecimal("low_price"), rs.getBigDecimal("close_price"),
+                            rs.getLong("volume"), rs.getBigDecimal("trading_value"));
+                },
+                instrumentId);
+
+        int periods = upsert(table, aggregates.values());
+        log.info("Rebuilt {} rollup periods for instrument {} in {} ({} ms)", periods, instrumentId,
+                table.rollupTable, (System.nanoTime() - startNanos) / 1_000_000);
+        return periods;
+    }
+
+    /**
+     * 저장 기준 일봉에 거래일의 누적 수정 계수를 곱해 주/월 집계에 더합니다.
+     */
+    private static void add(Map<PeriodKey, Aggregate> aggregates, Integer instrumentId, LocalDate tradeDate,
+                            BigDecimal factor, BigDecimal open, BigDecimal high, BigDecimal low, BigDecimal close,
+                            long volume, BigDecimal tradingValue) {
+        BigDecimal adjustedOpen = adjust(open, factor);
+        BigDecimal adjustedHigh = adjust(high, factor);
+        BigDecimal adjustedLow = adjust(low, factor);
+        BigDecimal adjustedClose = adjust(close, factor);
+        for (RollupPeriod period : RollupPeriod.values()) {
+            aggregates.computeIfAbsent(new PeriodKey(instrumentId, period, period.startOf(tradeDate)), Aggregate::new)
+                    .add(tradeDate, adjustedOpen, adjustedHigh, adjustedLow, adjustedClose, volume, tradingValue);
+        }
+    }
+
+    private static BigDecimal adjust(BigDecimal price, BigDecimal factor) {
+        if (factor.compareTo(BigDecimal.ONE) == 0) {
+            return price;
+        }
+        return price.multiply(factor).setScale(PRICE_SCALE, RoundingMode.HALF_UP);
+    }
+
+    private int upsert(RollupTable table, Collection<Aggregate> aggregates) {
+        if (aggregates.isEmpty()) {
+            return 0;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now(DateFormatConstants.KST_ZONE_ID));
+        List<Aggregate> rows = new ArrayList<>(aggregates);
+        jdbcTemplate.batchUpdate(table.upsertSql(), rows, rows.size(), (ps, aggregate) -> {
+            PeriodKey key = aggregate.key;
+            ps.setInt(1, key.instrumentId());
+            ps.setString(2, key.period().name());
+            ps.setDate(3, Date.valueOf(key.periodStart()));
+            ps.setDate(4, Date.valueOf(aggregate.firstTradeDate));
+            ps.setDate(5, Date.valueOf(aggregate.lastTradeDate));
+            ps.setBigDecimal(6, aggregate.open);
+            ps.setBigDecimal(7, aggregate.high);
+            ps.setBigDecimal(8, aggregate.low);
+            ps.setBigDecimal(9, aggregate.close);
+            ps.setLong(10, aggregate.volume);
+            ps.setBigDecimal(11, aggregate.tradingValue);
+            ps.setInt(12, aggregate.tradeDays);
+            ps.setTimestamp(13, now);
+            ps.setTimestamp(14, now);
+        });
+        return rows.size();
+    }
+
+    private record PeriodKey(Integer instrumentId, RollupPeriod period, LocalDate periodStart) {
+    }
+
+    /**
+     * 기간 하나의 OHLCV 집계. 일봉 순서와 무관하게 첫/마지막 거래일로 시가/종가를 정합니다.
+     */
+    private static final class Aggregate {
+
+        private final PeriodKey key;
+        private LocalDate firstTradeDate;
+        private LocalDate lastTradeDate;
+        private BigDecimal open;
+        private BigDecimal high;
+        private BigDecimal low;
+        private BigDecimal close;
+        private long volume;
+        private BigDecimal tradingValue;
+        private int tradeDays;
+
+        Aggregate(PeriodKey key) {
+            this.key = key;
+        }
+
+        void add(LocalDate tradeDate, BigDecimal open, BigDecimal high, BigDecimal low, BigDecimal close,
+                 long volume, BigDecimal tradingValue) {
+            if (tradeDays == 0 || tradeDate.isBefore(firstTradeDate)) {
+                firstTradeDate = tradeDate;
+                this.open = open;
+            }
+            if (tradeDays == 0 || tradeDate.isAfter(lastTradeDate)) {
+                lastTradeDate = tradeDate;
+                this.close = close;
+            }
+            this.high = this.high == null ? high : this.high.max(high);
+            this.low = this.low == null ? low : this.low.min(low);
+            this.volume += volume;
+            if (tradingValue != null) {
+                this.tradingValue = this.tradingValue == null ? tradingValue : this.tradingValue.add(tradingValue);
+            }
+            tradeDays++;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.custom.trader.stockprice.scheduler;
+
+import com.custom.trader.stockprice.service.DailyPricePartitionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import static com.custom.trader.common.constant.DateFormatConstants.KST_ZONE;
+
+/**
+ * 일별 가격 테이블 파티션 유지보수 스케줄러.
+ *
+ * <p><b>정기 실행 일정:</b> 매월 1일 04:00 (KST) — 백필(03:00 시작) 중이라도 {@code p_max}는 비어 있으므로
+ * 파티션 분할이 짧게 끝남</p>
+ *
+ * <p>파티셔닝을 적용하지 않은 테이블은 {@link DailyPricePartitionService}가 건너뜁니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DailyPricePartitionScheduler {
+
+    private final DailyPricePartitionService dailyPricePartitionService;
+
+    @Scheduled(cron = "0 0 4 1 * ?", zone = KST_ZONE)
+    @SchedulerLock(name = "ensureDailyPricePartitions", lockAtMostFor = "PT30M", lockAtLeastFor = "PT5M")
+    public void ensureFuturePartitions() {
+        try {
+            int created = dailyPricePartitionService.ensureFuturePartitions();
+            log.info("Daily price partition maintenance completed, created: {}", created);
+        } catch (Exception e) {
+            log.error("Daily price partition maintenance failed", e);
+        }
+    }
+}
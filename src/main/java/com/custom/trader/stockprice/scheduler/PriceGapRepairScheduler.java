@@ -0,0 +1,45 @@
+package com.custom.trader.stockprice.scheduler;
+
+import com.custom.trader.common.constant.DateFormatConstants;
+import com.custom.trader.kis.client.KisPriorityContext;
+import com.custom.trader.kis.client.KisRequestPriority;
+import com.custom.trader.kis.client.KisRetryPolicy;
+import com.custom.trader.stockprice.service.PriceGapRepairService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+import static com.custom.trader.common.constant.DateFormatConstants.KST_ZONE;
+
+/**
+ * 가격 이력 누락 구간 복구 스케줄러.
+ *
+ * <p><b>정기 실행 일정:</b> 매주 일요일 10:00 (KST) — 03:00 백필이 끝난 뒤, 장이 열리지 않는 날</p>
+ *
+ * <p>KIS 요청은 BACKFILL 우선순위와 실행 전용 재시도 예산으로 실행합니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PriceGapRepairScheduler {
+
+    private final PriceGapRepairService priceGapRepairService;
+    private final KisRetryPolicy kisRetryPolicy;
+
+    @Scheduled(cron = "0 0 10 * * SUN", zone = KST_ZONE)
+    @SchedulerLock(name = "repairPriceGaps", lockAtMostFor = "PT3H", lockAtLeastFor = "PT10M")
+    public void repairPriceGaps() {
+        log.info("Starting scheduled price gap repair");
+        try {
+            LocalDate asOf = LocalDate.now(DateFormatConstants.KST_ZONE_ID);
+            kisRetryPolicy.runWithBudget("repairPriceGaps", () -> KisPriorityContext.run(
+                    KisRequestPriority.BACKFILL, () -> priceGapRepairService.repairGaps(asOf)));
+        } catch (Exception e) {
+            log.error("Scheduled price gap repair failed", e);
+        }
+    }
+}
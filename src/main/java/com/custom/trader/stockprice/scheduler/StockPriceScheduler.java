@@ -1,5 +1,10 @@
 package com.custom.trader.stockprice.scheduler;
 
+import com.custom.trader.kis.client.KisPriorityContext;
+import com.custom.trader.kis.client.KisRequestPriority;
+import com.custom.trader.kis.client.KisRetryPolicy;
+import com.custom.trader.stockprice.deferred.entity.DeferredPriceTask.TaskType;
+import com.custom.trader.stockprice.listener.NewStockBackfillWorker;
 import com.custom.trader.stockprice.service.StockPriceCollectionService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -16,6 +21,8 @@ import static com.custom.trader.common.constant.DateFormatConstants.KST_ZONE;
  * <ul>
  *   <li><b>03:00 (KST)</b>: 백필 (Backfill) - 새로 추가된 종목의 과거 데이터 수집</li>
  *   <li><b>18:30 (KST)</b>: 일간 수집 - 기존 종목의 당일 종가 데이터 수집</li>
+ *   <li><b>10분마다</b>: 지연 재처리 - 위 두 작업에서 복구 가능한 실패로 끝난 종목 재수집
+ *       (일간 작업은 Sweep에서 바로, 백필 작업은 {@link NewStockBackfillWorker}에 넘김)</li>
  * </ul>
  *
  * <p><b>백필 (Backfill) 상세:</b></p>
@@ -24,6 +31,8 @@ import static com.custom.trader.common.constant.DateFormatConstants.KST_ZONE;
  *   <li>기간: 가능한한 모든 과거 데이터 수집 (API에서 제공하는 모든 히스토리 데이터)</li>
  *   <li>방식: 페이징 처리 (100일 단위 반복 조회, API 응답 데이터 모두 소진할 때까지)</li>
  *   <li>완료 시: backfillCompleted=true로 마크하여 이후 일간 수집에만 포함</li>
+ *   <li>신규 종목은 동기화 커밋 직후 {@code NewStockBackfillWorker}가 먼저 백필하므로,
+ *       정기 백필은 실패/누락 종목을 처리하는 안전망</li>
  * </ul>
  *
  * <p><b>일간 수집 (Daily Collection) 상세:</b></p>
@@ -38,11 +47,19 @@ import static com.custom.trader.common.constant.DateFormatConstants.KST_ZONE;
  *   <li>ShedLock을 사용하여 다중 인스턴스에서 중복 수집 방지</li>
  *   <li>백필: 최대 6시간 동안 추가 실행 금지 (장시간 대량 API 호출)</li>
  *   <li>일간 수집: 최대 30분 동안 추가 실행 금지</li>
+ *   <li>지연 재처리: 최대 9분 동안 추가 실행 금지 (다음 Sweep과 겹치지 않도록)</li>
+ * </ul>
+ *
+ * <p><b>KIS 요청 우선순위 ({@link KisPriorityContext}):</b></p>
+ * <ul>
+ *   <li>일간 수집, 지연 재처리(일간 작업): DAILY</li>
+ *   <li>백필, 지연 재처리(백필 작업): BACKFILL (가장 낮음, 다른 작업과 겹치면 permit을 양보)</li>
  * </ul>
  *
  * <p><b>예외 처리:</b></p>
  * <ul>
- *   <li>KIS API 오류: 로깅하고 계속 진행 (다음 스케줄 재시도)</li>
+ *   <li>KIS API 일시적 오류: {@link KisRetryPolicy}에 따라 재시도 (실행마다 별도 재시도 예산)</li>
+ *   <li>KIS API 오류: 로깅 후 지연 재처리 큐에 등록하고 계속 진행 (10분 주기 Sweep에서 재시도)</li>
  *   <li>DB 오류: 로깅하고 스케줄 중단 (심각한 오류)</li>
  *   <li>부분 성공: 일부 종목 수집 실패해도 나머지는 계속 진행</li>
  * </ul>
@@ -56,13 +73,16 @@ import static com.custom.trader.common.constant.DateFormatConstants.KST_ZONE;
 public class StockPriceScheduler {
 
     private final StockPriceCollectionService stockPriceCollectionService;
+    private final KisRetryPolicy kisRetryPolicy;
+    private final NewStockBackfillWorker newStockBackfillWorker;
 
     @Scheduled(cron = "0 0 3 * * ?", zone = KST_ZONE)
     @SchedulerLock(name = "backfillHistoricalPrices", lockAtMostFor = "PT6H", lockAtLeastFor = "PT3H")
     public void backfillHistoricalPrices() {
         log.info("Starting scheduled backfill of historical prices");
         try {
-            stockPriceCollectionService.backfillHistoricalPrices();
+            kisRetryPolicy.runWithBudget("backfillHistoricalPrices", () -> KisPriorityContext.run(
+                    KisRequestPriority.BACKFILL, stockPriceCollectionService::backfillHistoricalPrices));
             log.info("Scheduled backfill completed successfully");
         } catch (Exception e) {
             log.error("Scheduled backfill failed", e);
@@ -74,10 +94,31 @@ public class StockPriceScheduler {
     public void collectDailyPrices() {
         log.info("Starting scheduled daily price collection");
         try {
-            stockPriceCollectionService.collectDailyPrices();
+            kisRetryPolicy.runWithBudget("collectDailyPrices", () -> KisPriorityContext.run(
+                    KisRequestPriority.DAILY, stockPriceCollectionService::collectDailyPrices));
             log.info("Scheduled daily price collection completed successfully");
         } catch (Exception e) {
             log.error("Scheduled daily price collection failed", e);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 지연 재처리 큐 Sweep.
+     *
+     * <p>Sweep도 자체 재시도 예산으로 실행하므로 진행 중인 백필/일간 수집의 예산을 쓰거나 다시 채우지 않습니다.</p>
+     *
+     * <p>락 안에서는 짧은 일간 작업만 실행하고, 백필 작업은 백필 워커에 넘겨 락 시간({@code PT9M})과 무관하게
+     * BACKFILL 우선순위로 처리합니다.</p>
+     */
+    @Scheduled(cron = "0 */10 * * * ?", zone = KST_ZONE)
+    @SchedulerLock(name = "retryDeferredPriceTasks", lockAtMostFor = "PT9M", lockAtLeastFor = "PT1M")
+    public void retryDeferredPriceTasks() {
+        try {
+            kisRetryPolicy.runWithBudget("retryDeferredPriceTasks", () -> KisPriorityContext.run(
+                    KisRequestPriority.DAILY, () -> stockPriceCollectionService.retryDeferredTasks(TaskType.DAILY)));
+        } catch (Exception e) {
+            log.error("Scheduled deferred price task retry failed", e);
+        }
+        newStockBackfillWorker.submitDeferredBackfills();
+    }
+}
@@ -0,0 +1,121 @@
+package com.custom.trader.stockprice.service;
+
+import com.custom.trader.common.constant.DateFormatConstants;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 일별 가격 테이블의 미래 연도 파티션을 미리 생성하는 서비스.
+ *
+ * <p>{@code docs/migrations/V005__partition_daily_price_tables_by_trade_date.sql}을 적용한 테이블은
+ * {@code trade_date} 연 단위 RANGE 파티션({@code pYYYY})과 마지막 {@code p_max}(MAXVALUE) 파티션으로 구성됩니다.
+ * 새 연도 데이터가 {@code p_max}에 쌓이지 않도록, 현재 연도 + {@value #YEARS_AHEAD}년까지 파티션이 없으면
+ * {@code p_max}를 분할합니다.</p>
+ *
+ * <p>동작 방식:
+ * <ul>
+ *   <li>{@code information_schema.PARTITIONS}로 테이블별 마지막 연도 파티션 확인</li>
+ *   <li>파티션이 없는 테이블(마이그레이션 미적용)은 건너뜀 → 파티셔닝은 선택 사항</li>
+ *   <li>부족한 연도를 {@code REORGANIZE PARTITION p_max INTO (...)} 1문장으로 추가
+ *       (미리 생성하므로 {@code p_max}는 비어 있어 데이터 이동 없음)</li>
+ * </ul>
+ * </p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DailyPricePartitionService {
+
+    /**
+     * 현재 연도 이후로 미리 만들어 둘 연도 파티션 수.
+     */
+    static final int YEARS_AHEAD = 2;
+
+    static final List<String> PARTITIONED_TABLES = List.of(
+            "domestic_stock_daily_price",
+            "domestic_index_daily_price",
+            "overseas_stock_daily_price",
+            "overseas_index_daily_price"
+    );
+
+    private static final String MAX_PARTITION = "p_max";
+    private static final String YEAR_PARTITION_PREFIX = "p";
+    private static final String SELECT_PARTITION_NAMES = """
+            SELECT PARTITION_NAME
+              FROM information_schema.PARTITIONS
+             WHERE TABLE_SCHEMA = DATABASE()
+               AND TABLE_NAME = ?
+               AND PARTITION_NAME IS NOT NULL
+             ORDER BY PARTITION_ORDINAL_POSITION""";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 모든 일별 가격 테이블에 현재 연도 + {@value #YEARS_AHEAD}년까지의 파티션을 보장합니다.
+     *
+     * @return 새로 생성한 파티션 수 (전체 테이블 합계)
+     */
+    public int ensureFuturePartitions() {
+        return ensureFuturePartitions(Year.now(DateFormatConstants.KST_ZONE_ID).getValue());
+    }
+
+    int ensureFuturePartitions(int currentYear) {
+        int created = 0;
+        for (String table : PARTITIONED_TABLES) {
+            created += ensureFuturePartitions(table, currentYear + YEARS_AHEAD);
+        }
+        return created;
+    }
+
+    private int ensureFuturePartitions(String table, int targetYear) {
+        List<String> partitionNames = jdbcTemplate.queryForList(SELECT_PARTITION_NAMES, String.class, table);
+        if (partitionNames.isEmpty()) {
+            log.debug("Table {} is not partitioned, skipping", table);
+            return 0;
+        }
+        if (!partitionNames.contains(MAX_PARTITION)) {
+            log.warn("Table {} has no {} partition, cannot add future partitions", table, MAX_PARTITION);
+            return 0;
+        }
+
+        // 연도 파티션이 하나도 없으면 현재 연도부터 생성
+        int lastYear = partitionNames.stream()
+                .mapToInt(DailyPricePartitionService::yearOf)
+                .filter(year -> year != Integer.MIN_VALUE)
+                .max()
+                .orElse(targetYear - YEARS_AHEAD - 1);
+        if (lastYear >= targetYear) {
+            return 0;
+        }
+
+        List<String> definitions = new ArrayList<>();
+        for (int year = lastYear + 1; year <= targetYear; year++) {
+            definitions.add("PARTITION " + YEAR_PARTITION_PREFIX + year
+                    + " VALUES LESS THAN ('" + (year + 1) + "-01-01')");
+        }
+        definitions.add("PARTITION " + MAX_PARTITION + " VALUES LESS THAN (MAXVALUE)");
+        jdbcTemplate.execute("ALTER TABLE " + table + " REORGANIZE PARTITION " + MAX_PARTITION
+                + " INTO (" + String.join(", ", definitions) + ")");
+
+        int created = targetYear - lastYear;
+        log.info("Added {} yearly partitions to {} ({} ~ {})", created, table, lastYear + 1, targetYear);
+        return created;
+    }
+
+    /**
+     * {@code pYYYY} 형식이면 연도, 아니면({@code p_legacy}, {@code p_max}) {@link Integer#MIN_VALUE}.
+     */
+    private static int yearOf(String partitionName) {
+        String suffix = partitionName.substring(YEAR_PARTITION_PREFIX.length());
+        if (suffix.length() != 4 || !suffix.chars().allMatch(Character::isDigit)) {
+            return Integer.MIN_VALUE;
+        }
+        return Integer.parseInt(suffix);
+    }
+}
@@ -0,0 +1,146 @@
+package com.custom.trader.stockprice.service;
+
+import com.custom.trader.common.constant.DateFormatConstants;
+import com.custom.trader.stockprice.deferred.entity.DeferredPriceTask;
+import com.custom.trader.stockprice.deferred.entity.DeferredPriceTask.Status;
+import com.custom.trader.stockprice.deferred.entity.DeferredPriceTask.TaskType;
+import com.custom.trader.stockprice.deferred.repository.DeferredPriceTaskRepository;
+import com.custom.trader.watchlist.entity.WatchlistStockRef;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 복구 가능한 수집 실패를 저장하는 지연 재처리 큐 서비스.
+ *
+ * <p>큐 상태 전이만 담당하며, 실제 재수집은 {@link StockPriceCollectionService#retryDeferredTasks(TaskType)}가 수행합니다.</p>
+ *
+ * <p>재처리 정책:
+ * <ul>
+ *   <li>최초 등록 후 {@link #BASE_BACKOFF} 뒤부터 재처리</li>
+ *   <li>실패할 때마다 대기 시간 2배 (상한 {@link #MAX_BACKOFF})</li>
+ *   <li>{@value #MAX_ATTEMPTS}회 재처리 실패 시 Dead Letter(DEAD)로 전환</li>
+ * </ul>
+ * 18:30 일간 수집 실패 건은 18:40 ~ 21:00 사이에 재처리되고, 그래도 실패하면 DEAD로 남습니다.
+ * </p>
+ *
+ * <p>MySQL 테이블을 큐로 사용하므로 재시작/배포 후에도 작업이 유지됩니다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DeferredPriceTaskService {
+
+    static final int MAX_ATTEMPTS = 5;
+    static final Duration BASE_BACKOFF = Duration.ofMinutes(5);
+    static final Duration MAX_BACKOFF = Duration.ofHours(1);
+    private static final int SWEEP_BATCH_SIZE = 100;
+
+    private final DeferredPriceTaskRepository deferredPriceTaskRepository;
+
+    /**
+     * 실패한 (종목, 기간) 단위를 큐에 등록합니다.
+     *
+     * <p>같은 종목/작업 유형의 작업이 이미 있으면 기간을 병합합니다.</p>
+     *
+     * @param stock 대상 종목
+     * @param taskType 일간 수집/백필 구분
+     * @param startDate 시작 날짜
+     * @param endDate 종료 날짜
+     * @param error 실패 사유
+     */
+    @Transactional
+    public void enqueue(WatchlistStockRef stock, TaskType taskType, LocalDate startDate, LocalDate endDate, String error) {
+        LocalDateTime nextAttemptAt = now().plus(BASE_BACKOFF);
+        deferredPriceTaskRepository.findByWatchlistStockIdAndTaskType(stock.getId(), taskType)
+                .ifPresentOrElse(
+                        task -> task.merge(startDate, endDate, nextAttemptAt, error),
+                        () -> deferredPriceTaskRepository.save(DeferredPriceTask.builder()
+                                .watchlistStockId(stock.getId())
+                                .stockCode(stock.getStockCode())
+                                .taskType(taskType)
+                                .startDate(startDate)
+                                .endDate(endDate)
+                                .nextAttemptAt(nextAttemptAt)
+                                .lastError(error)
+                                .build())
+                );
+        log.info("Deferred {} task for stock: {} ({} ~ {})", taskType, stock.getStockCode(), startDate, endDate);
+    }
+
+    /**
+     * 재처리 시각이 도래한 PENDING 작업을 조회합니다.
+     *
+     * <p>처리 직후 삭제/갱신하는 큐이므로 복제본이 아닌 primary에서 읽습니다 (ADR-0035).
+     * 일간 작업과 백필 작업은 실행 경로가 달라 유형별로 조회합니다.</p>
+     *
+     * @param taskType 일간 수집/백필 구분
+     * @return 오래된 순으로 최대 {@value #SWEEP_BATCH_SIZE}건
+     */
+    @Transactional
+    public List<DeferredPriceTask> findDueTasks(TaskType taskType) {
+        return deferredPriceTaskRepository.findByStatusAndTaskTypeAndNextAttemptAtLessThanEqualOrderByNextAttemptAtAsc(
+                Status.PENDING, taskType, now(), Limit.of(SWEEP_BATCH_SIZE));
+    }
+
+    /**
+     * 재처리에 성공했거나 대상 종목이 사라진 작업을 큐에서 제거합니다.
+     */
+    @Transactional
+    public void complete(DeferredPriceTask task) {
+        deferredPriceTaskRepository.deleteById(task.getId());
+    }
+
+    /**
+     * 재처리 실패를 기록합니다. 최대 시도 횟수에 도달하면 Dead Letter로 전환합니다.
+     *
+     * @param task 실패한 작업
+     * @param error 실패 사유
+     */
+    @Transactional
+    public void reschedule(DeferredPriceTask task, String error) {
+        int attempt = task.getAttempts() + 1;
+        task.recordFailure(error, now().plus(backoff(attempt)));
+        if (attempt >= MAX_ATTEMPTS) {
+            task.markDead();
+            log.error("Dead-lettered {} task for stock: {} after {} attempts - {}",
+                    task.getTaskType(), task.getStockCode(), attempt, error);
+        }
+        deferredPriceTaskRepository.save(task);
+    }
+
+    /**
+     * 다른 실행이 종목을 점유 중이라 건너뛴 작업을 {@link #BASE_BACKOFF} 뒤로 미룹니다.
+     *
+     * <p>실패가 아니므로 시도 횟수는 늘리지 않습니다.</p>
+     *
+     * @param task 건너뛴 작업
+     */
+    @Transactional
+    public void postpone(DeferredPriceTask task) {
+        task.postpone(now().plus(BASE_BACKOFF));
+        deferredPriceTaskRepository.save(task);
+    }
+
+    /**
+     * 재처리 대기 시간을 계산합니다: {@code min(MAX_BACKOFF, BASE_BACKOFF × 2^attempt)}.
+     *
+     * @param attempt 방금 실패한 재처리 횟수 (1부터 시작)
+     * @return 다음 재처리까지 대기 시간
+     */
+    static Duration backoff(int attempt) {
+        Duration delay = BASE_BACKOFF.multipliedBy(1L << Math.min(attempt, 10));
+        return delay.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : delay;
+    }
+
+    private LocalDateTime now() {
+        return LocalDateTime.now(DateFormatConstants.KST_ZONE_ID);
+    }
+}
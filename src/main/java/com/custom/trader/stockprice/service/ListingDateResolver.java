@@ -0,0 +1,156 @@
+package com.custom.trader.stockprice.service;
+
+import com.custom.trader.stockprice.strategy.StockPriceStrategy;
+import com.custom.trader.watchlist.entity.WatchlistStockRef;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+
+import static com.custom.trader.common.constant.DateFormatConstants.DEFAULT_START_DATE;
+import static com.custom.trader.stockprice.constant.StockPriceConstants.PAGE_SIZE;
+
+/**
+ * 종목의 첫 거래일(상장일)을 확인해 캐시하는 서비스.
+ *
+ * <p>백필은 {@code DEFAULT_START_DATE}(1900-01-01)부터 요청하므로, 상장일을 알면 그 이전 기간에 대한 요청
+ * (빈 구간 조회, 해외 주식의 마지막 빈 페이지 등)을 보내지 않을 수 있습니다.</p>
+ *
+ * <p>확인 방식: {@link StockPriceStrategy#backfillLatestPage}(종료일 이전 최근 최대 PAGE_SIZE건, 저장함) 1회
+ * <ul>
+ *   <li>탐침 페이지는 백필의 첫 페이지로 저장되므로, 백필은 페이지의 가장 이른 날짜 이전만 이어서 조회 → 추가 호출 없음</li>
+ *   <li>응답이 PAGE_SIZE개 미만이면 기간 안의 거래를 모두 받은 것 → 가장 이른 날짜가 첫 거래일, 백필 종료</li>
+ *   <li>가득 차면 첫 거래일은 알 수 없음 → 백필이 빈 응답에서 스스로 멈춤. 과거 방향 탐색(gallop/이분)은 하지 않음
+ *       (탐침 15~20회가 절약하는 호출은 마지막 빈 배치 최대 {@code WINDOW_CONCURRENCY}회뿐)</li>
+ *   <li>빈 응답은 {@value #CONFIRM_STEP_DAYS}일 이전 종료일로 한 번 더 조회해 확인 (거래정지 기간 응답 등으로
+ *       이력을 잘라내지 않도록 두 번 연속 비어야 이력 없음)</li>
+ * </ul>
+ * </p>
+ *
+ * <p>캐시: Redis {@code stockprice:listing-date:{자산유형}:{시장}:{코드}}
+ * <ul>
+ *   <li>시작일이 {@code DEFAULT_START_DATE}인 조회에서 확인한 경우만 저장 (좁은 기간의 최소 날짜는 상장일이 아님)</li>
+ *   <li>첫 거래일은 바뀌지 않으므로 {@value #LISTING_DATE_TTL_DAYS}일 보관 (코드 재사용 대비 만료)</li>
+ *   <li>거래 이력이 없는 종목은 {@value #NO_HISTORY_TTL_DAYS}일만 보관 (신규 상장 예정 종목)</li>
+ *   <li>Redis 장애 시 캐시 없이 조회 (백필을 중단하지 않음)</li>
+ * </ul>
+ * </p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ListingDateResolver {
+
+    private static final String REDIS_KEY_PREFIX = "stockprice:listing-date:";
+    private static final String NO_HISTORY = "NONE";
+    private static final long LISTING_DATE_TTL_DAYS = 30;
+    private static final long NO_HISTORY_TTL_DAYS = 1;
+
+    /**
+     * 빈 응답 확인 조회의 종료일 간격 (달력 일수): 한 번의 응답이 덮는 PAGE_SIZE 거래일 ≈ 146일.
+     */
+    static final long CONFIRM_STEP_DAYS = PAGE_SIZE * 365L / 250L;
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 기간 안의 첫 거래일을 확인하고, 확인하면서 저장한 구간을 함께 반환합니다.
+     *
+     * @param stock 대상 종목
+     * @param strategy 종목 자산 유형의 전략 (첫 페이지 조회/저장 제공)
+     * @param startDate 백필 시작일
+     * @param endDate 백필 종료일
+     * @return 확인 결과
+     */
+    public Resolution resolve(WatchlistStockRef stock, StockPriceStrategy strategy,
+                              LocalDate startDate, LocalDate endDate) {
+        String cacheKey = cacheKey(stock);
+        String cached = readCache(cacheKey);
+        if (cached != null) {
+            if (NO_HISTORY.equals(cached)) {
+                return Resolution.NO_HISTORY;
+            }
+            LocalDate listingDate = LocalDate.parse(cached);
+            return listingDate.isAfter(endDate) ? Resolution.NO_HISTORY : new Resolution(listingDate, null);
+        }
+
+        Resolution resolution = probe(stock, strategy, startDate, endDate);
+        if (!startDate.isAfter(DEFAULT_START_DATE)) {
+            if (!resolution.hasHistory()) {
+                writeCache(cacheKey, NO_HISTORY, NO_HISTORY_TTL_DAYS);
+            } else if (resolution.listingDate() != null) {
+                writeCache(cacheKey, resolution.listingDate().toString(), LISTING_DATE_TTL_DAYS);
+            }
+        }
+        log.info("Resolved listing date for stock: {} -> {}", stock.getStockCode(), resolution);
+        return resolution;
+    }
+
+    /**
+     * 첫 페이지를 조회/저장하고, 비어 있으면 더 이른 종료일로 한 번 더 확인합니다.
+     */
+    private Resolution probe(WatchlistStockRef stock, StockPriceStrategy strategy,
+                             LocalDate startDate, LocalDate endDate) {
+        List<LocalDate> page = strategy.backfillLatestPage(stock, startDate, endDate);
+        if (page.isEmpty()) {
+            LocalDate confirmEndDate = endDate.minusDays(CONFIRM_STEP_DAYS);
+            if (confirmEndDate.isBefore(startDate)) {
+                return Resolution.NO_HISTORY;
+            }
+            page = strategy.backfillLatestPage(stock, startDate, confirmEndDate);
+            if (page.isEmpty()) {
+                return Resolution.NO_HISTORY;
+            }
+            log.warn("Empty latest page but history found before {} for stock: {}", confirmEndDate, stock.getStockCode());
+        }
+        LocalDate earliest = Collections.min(page);
+        return new Resolution(page.size() < PAGE_SIZE ? earliest : null, earliest);
+    }
+
+    private String readCache(String cacheKey) {
+        try {
+            return redisTemplate.opsForValue().get(cacheKey);
+        } catch (DataAccessException e) {
+            log.warn("Listing date cache read failed, resolving without cache: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeCache(String cacheKey, String value, long ttlDays) {
+        try {
+            redisTemplate.opsForValue().set(cacheKey, value, Duration.ofDays(ttlDays));
+        } catch (DataAccessException e) {
+            log.warn("Listing date cache write failed: {}", e.getMessage());
+        }
+    }
+
+    private static String cacheKey(WatchlistStockRef stock) {
+        return REDIS_KEY_PREFIX + stock.getAssetType().name() + ":"
+                + (stock.getMarketCode() != null ? stock.getMarketCode().name() : "-") + ":"
+                + stock.getStockCode();
+    }
+
+    /**
+     * 상장일 확인 결과.
+     *
+     * @param listingDate 기간 안의 첫 거래일 (확인하지 못했으면 null)
+     * @param fetchedFrom 확인 중 저장한 페이지의 가장 이른 날짜 (이 날짜부터 종료일까지는 저장됨, 조회하지 않았으면 null)
+     */
+    public record Resolution(LocalDate listingDate, LocalDate fetchedFrom) {
+
+        static final Resolution NO_HISTORY = new Resolution(null, null);
+
+        /**
+         * 기간 안에 거래 이력이 있는지 여부.
+         */
+        public boolean hasHistory() {
+            return listingDate != null || fetchedFrom != null;
+        }
+    }
+}
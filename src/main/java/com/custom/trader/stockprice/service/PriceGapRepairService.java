@@ -0,0 +1,402 @@
+package com.custom.trader.stockprice.service;
+
+import com.custom.trader.common.enums.AssetType;
+import com.custom.trader.common.enums.MarketCode;
+import com.custom.trader.kis.exception.KisApiException;
+import com.custom.trader.stockprice.calendar.service.MarketCalendarService;
+import com.custom.trader.stockprice.gap.entity.PriceGapEmptyRange;
+import com.custom.trader.stockprice.gap.repository.PriceGapEmptyRangeRepository;
+import com.custom.trader.stockprice.instrument.service.InstrumentRegistry;
+import com.custom.trader.stockprice.service.PriceGapReport.RepairWindow;
+import com.custom.trader.stockprice.strategy.StockPriceStrategyFactory;
+import com.custom.trader.stockprice.util.KeysetPageIterator;
+import com.custom.trader.stockprice.util.TradeDateBitmap;
+import com.custom.trader.watchlist.dto.WatchlistStockSummary;
+import com.custom.trader.watchlist.entity.WatchlistStockRef;
+import com.custom.trader.watchlist.repository.WatchlistStockRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static com.custom.trader.stockprice.constant.StockPriceConstants.PAGE_SIZE;
+
+/**
+ * 가격 이력의 누락 거래일을 찾아 해당 구간만 다시 수집하는 서비스.
+ *
+ * <p>동작 방식:
+ * <ul>
+ *   <li><b>달력</b>: 기준일 이전 {@code calendar-horizon} 기간은 평일에서 시장 휴장일({@link MarketCalendarService})을 뺀 날.
+ *       KRX는 KIS 휴장일 조회로 동기화된 날까지만 이 방식을 쓰고, 그 밖의 기간은 저장된 거래일 비트맵을 합친 달력
+ *       ({@value #MIN_CALENDAR_SUPPORT}개 이상 종목에 있는 날, 종목이 1개뿐인 시장은 그 종목의 거래일).
+ *       평일 달력은 시장 전 종목이 같은 날을 놓친 경우도 탐지함</li>
+ *   <li><b>탐지</b>: 종목마다 첫 저장일 ~ 기준일의 달력 거래일 중 저장되지 않은 날을 비트 조회로 계산.
+ *       이전 복구에서 빈 응답이 온 기간({@link PriceGapEmptyRange})은 제외</li>
+ *   <li><b>병합</b>: 누락 거래일을 KIS 요청 1회({@code PAGE_SIZE} 거래일)에 들어가는 구간으로 묶음</li>
+ *   <li><b>복구</b>: 구간마다 전략의 첫 페이지 조회/저장을 호출 (실행당 {@code max-windows-per-run}개까지).
+ *       지난 실행에서 예산이 끝난 종목 다음부터 시작해, 앞쪽 종목이 매번 예산을 먼저 쓰지 않음</li>
+ *   <li><b>빈 응답 기록</b>: 복구 후에도 비어 있는 날은 종목별 빈 기간으로 저장. 해외 시장에서 어느 종목에도 없고
+ *       {@value #MIN_CALENDAR_SUPPORT}개 이상 종목의 복구에서 빈 날은 시장 휴장일로 기록</li>
+ * </ul>
+ * </p>
+ *
+ * <p>백필 완료 종목만 대상입니다. 백필 중인 종목의 빈 구간은 누락이 아니라 아직 받지 않은 기간입니다.</p>
+ */
+@Slf4j
+@Service
+public class PriceGapRepairService {
+
+    /**
+     * 시장 달력에서 거래일로 인정할 최소 종목 수 (관찰 휴장일 기록에도 사용).
+     */
+    static final int MIN_CALENDAR_SUPPORT = 2;
+
+    static final String CURSOR_KEY = "stockprice:gap-repair:cursor";
+
+    private final WatchlistStockRepository watchlistStockRepository;
+    private final InstrumentRegistry instrumentRegistry;
+    private final StockPricePersistenceService persistenceService;
+    private final StockPriceStrategyFactory strategyFactory;
+    private final MarketCalendarService marketCalendarService;
+    private final PriceGapEmptyRangeRepository emptyRangeRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final int maxWindowsPerRun;
+    private final Period calendarHorizon;
+
+    public PriceGapRepairService(WatchlistStockRepository watchlistStockRepository,
+                                 InstrumentRegistry instrumentRegistry,
+                                 StockPricePersistenceService persistenceService,
+                                 StockPriceStrategyFactory strategyFactory,
+                                 MarketCalendarService marketCalendarService,
+                                 PriceGapEmptyRangeRepository emptyRangeRepository,
+                                 StringRedisTemplate redisTemplate,
+                                 @Value("${stockprice.gap-repair.max-windows-per-run:200}") int maxWindowsPerRun,
+                                 @Value("${stockprice.gap-repair.calendar-horizon:P1Y}") Period calendarHorizon) {
+        this.watchlistStockRepository = watchlistStockRepository;
+        this.instrumentRegistry = instrumentRegistry;
+        this.persistenceService = persistenceService;
+        this.strategyFactory = strategyFactory;
+        this.marketCalendarService = marketCalendarService;
+        this.emptyRangeRepository = emptyRangeRepository;
+        this.redisTemplate = redisTemplate;
+        this.maxWindowsPerRun = maxWindowsPerRun;
+        this.calendarHorizon = calendarHorizon;
+    }
+
+    /**
+     * 백필 완료 종목의 누락 구간을 탐지하고 복구합니다.
+     *
+     * @param asOf 기준일 (이 날짜까지의 달력 거래일을 기대)
+     * @return 종목별 완전성 리포트 (복구 전 기준, 지난 실행에서 예산이 끝난 종목 다음부터의 순서)
+     */
+    public List<PriceGapReport> repairGaps(LocalDate asOf) {
+        LocalDate horizonStart = asOf.minus(calendarHorizon);
+        Optional<LocalDate> krxSyncedThrough = syncDomesticCalendar(horizonStart, asOf);
+        List<Target> targets = loadTargets();
+        Map<MarketCode, Calendar> calendars = buildCalendars(targets, horizonStart, asOf, krxSyncedThrough,
+                marketCalendarService.closedDays(horizonStart, asOf));
+        Map<Integer, List<PriceGapEmptyRange>> emptyRanges = emptyRangeRepository.findAll().stream()
+                .collect(Collectors.groupingBy(PriceGapEmptyRange::getInstrumentId));
+
+        List<PriceGapReport> reports = new ArrayList<>();
+        BatchStatistics stats = new BatchStatistics();
+        int budget = maxWindowsPerRun;
+        int start = rotationStart(targets);
+        Long lastRepairedId = null;
+        for (int i = 0; i < targets.size(); i++) {
+            Target target = targets.get((start + i) % targets.size());
+            Calendar calendar = calendars.get(target.marketCode());
+            List<PriceGapEmptyRange> ranges = emptyRanges.getOrDefault(target.instrumentId(), List.of());
+            PriceGapReport report = detect(target, calendar, ranges, asOf);
+            reports.add(report);
+            for (RepairWindow window : report.windows()) {
+                if (budget == 0) {
+                    break;
+                }
+                budget--;
+                lastRepairedId = target.stock().getId();
+                repair(target, window, calendar, ranges, stats);
+            }
+        }
+        if (lastRepairedId != null) {
+            writeCursor(lastRepairedId);
+        }
+
+        long incomplete = reports.stream().filter(report -> report.missingDays() > 0).count();
+        double averageCompleteness = reports.stream()
+                .mapToDouble(PriceGapReport::completenessPercent)
+                .average()
+                .orElse(100.0);
+        log.info("Price gap repair completed. instruments: {}, incomplete: {}, avg completeness: {}%, windows: {}",
+                reports.size(), incomplete, String.format("%.2f", averageCompleteness), stats.getSummary());
+        if (budget == 0) {
+            log.warn("Gap repair window budget ({}) exhausted, remaining gaps deferred to next run", maxWindowsPerRun);
+        }
+        return reports;
+    }
+
+    /**
+     * 누락 거래일을 KIS 요청 단위 구간으로 묶습니다.
+     *
+     * <p>구간 시작일부터 다음 누락일까지의 달력 거래일이 {@code maxTradingDaysPerRequest} 이하이면
+     * 같은 구간으로 확장합니다. 구간 사이의 저장된 거래일도 다시 받지만 중복 체크로 저장되지 않으며,
+     * 흩어진 누락일마다 요청하는 것보다 요청 수가 적습니다.</p>
+     *
+     * @param missing 누락 거래일 (오름차순)
+     * @param calendar 시장 거래일 달력
+     * @param maxTradingDaysPerRequest 요청 1회가 반환하는 최대 거래일 수
+     * @return 복구 구간 (오름차순)
+     */
+    static List<RepairWindow> coalesce(List<LocalDate> missing, TradeDateBitmap calendar, int maxTradingDaysPerRequest) {
+        List<RepairWindow> windows = new ArrayList<>();
+        if (missing.isEmpty()) {
+            return windows;
+        }
+        LocalDate windowStart = missing.get(0);
+        LocalDate windowEnd = windowStart;
+        int windowMissing = 1;
+        for (LocalDate date : missing.subList(1, missing.size())) {
+            if (calendar.countBetween(windowStart, date) <= maxTradingDaysPerRequest) {
+                windowEnd = date;
+                windowMissing++;
+                continue;
+            }
+            windows.add(new RepairWindow(windowStart, windowEnd, windowMissing));
+            windowStart = date;
+            windowEnd = date;
+            windowMissing = 1;
+        }
+        windows.add(new RepairWindow(windowStart, windowEnd, windowMissing));
+        return windows;
+    }
+
+    private Optional<LocalDate> syncDomesticCalendar(LocalDate horizonStart, LocalDate asOf) {
+        try {
+            return marketCalendarService.syncDomesticCalendar(horizonStart, asOf);
+        } catch (RuntimeException e) {
+            log.warn("KRX holiday sync failed, using stored calendar: {}", e.getMessage());
+            return marketCalendarService.syncedThrough(MarketCode.KRX);
+        }
+    }
+
+    private List<Target> loadTargets() {
+        List<Target> targets = new ArrayList<>();
+        Iterator<List<WatchlistStockSummary>> pages = new KeysetPageIterator<>(PAGE_SIZE,
+                (lastId, limit) -> watchlistStockRepository.findSummariesByBackfillCompletedAfterId(
+                        true, lastId, Limit.of(limit)),
+                WatchlistStockSummary::getId);
+        while (pages.hasNext()) {
+            for (WatchlistStockSummary stock : pages.next()) {
+                AssetType assetType = stock.getAssetType();
+                if (assetType == null) {
+                    log.warn("AssetType is null for stock: {}, skipping", stock.getStockCode());
+                    continue;
+                }
+                int instrumentId = instrumentRegistry.resolveId(stock);
+                TradeDateBitmap stored = persistenceService.getStoredTradeDates(assetType, instrumentId);
+                if (stored.size() == 0) {
+                    continue;
+                }
+                targets.add(new Target(stock, instrumentId, InstrumentRegistry.marketOf(stock), stored));
+            }
+        }
+        return targets;
+    }
+
+    /**
+     * 시장별 거래일 달력.
+     *
+     * <p>저장 거래일 합의 달력: 한 번 이상 본 날({@code once})과 두 번 이상 본 날({@code twice})을 비트맵 연산으로 누적합니다.
+     * 평일 구간(기준일 이전 horizon, KRX는 휴장일 동기화 범위까지)은 평일에서 휴장일을 뺀 날로 대체합니다.</p>
+     */
+    private static Map<MarketCode, Calendar> buildCalendars(List<Target> targets, LocalDate horizonStart, LocalDate asOf,
+                                                            Optional<LocalDate> krxSyncedThrough,
+                                                            Map<MarketCode, Set<LocalDate>> closedDays) {
+        Map<MarketCode, TradeDateBitmap> once = new EnumMap<>(MarketCode.class);
+        Map<MarketCode, TradeDateBitmap> twice = new EnumMap<>(MarketCode.class);
+        Map<MarketCode, Integer> instrumentCounts = new EnumMap<>(MarketCode.class);
+        for (Target target : targets) {
+            TradeDateBitmap seen = once.computeIfAbsent(target.marketCode(), market -> new TradeDateBitmap());
+            twice.computeIfAbsent(target.marketCode(), market -> new TradeDateBitmap())
+                    .addCommon(seen, target.stored());
+            seen.addAll(target.stored());
+            instrumentCounts.merge(target.marketCode(), 1, Integer::sum);
+        }
+
+        Map<MarketCode, Calendar> calendars = new EnumMap<>(MarketCode.class);
+        instrumentCounts.forEach((market, count) -> {
+            TradeDateBitmap consensus = count >= MIN_CALENDAR_SUPPORT ? twice.get(market) : once.get(market);
+            LocalDate weekdayEnd = market != MarketCode.KRX ? asOf
+                    : krxSyncedThrough.map(date -> date.isBefore(asOf) ? date : asOf).orElse(horizonStart.minusDays(1));
+            Set<LocalDate> closed = closedDays.getOrDefault(market, Set.of());
+
+            TradeDateBitmap days = new TradeDateBitmap();
+            consensus.first().ifPresent(first -> days.addAll(consensus.datesBetween(first, horizonStart.minusDays(1))));
+            for (LocalDate date = horizonStart; !date.isAfter(weekdayEnd); date = date.plusDays(1)) {
+                if (isWeekday(date) && !closed.contains(date)) {
+                    days.add(date);
+                }
+            }
+            LocalDate consensusStart = weekdayEnd.isBefore(horizonStart) ? horizonStart : weekdayEnd.plusDays(1);
+            days.addAll(consensus.datesBetween(consensusStart, asOf));
+            calendars.put(market, new Calendar(days, once.get(market), new HashSet<>(), new HashMap<>()));
+        });
+        return calendars;
+    }
+
+    private static PriceGapReport detect(Target target, Calendar calendar, List<PriceGapEmptyRange> emptyRanges,
+                                         LocalDate asOf) {
+        TradeDateBitmap stored = target.stored();
+        LocalDate firstStored = stored.first().orElseThrow();
+        List<LocalDate> expected = calendar.days().datesBetween(firstStored, asOf).stream()
+                .filter(date -> !calendar.observedClosed().contains(date) && !isEmptyRange(date, emptyRanges))
+                .toList();
+        List<LocalDate> missing = stored.missingFrom(expected);
+        WatchlistStockRef stock = target.stock();
+        return new PriceGapReport(stock.getStockCode(), stock.getAssetType(), target.marketCode(),
+                expected.size(), missing.size(), coalesce(missing, calendar.days(), PAGE_SIZE));
+    }
+
+    /**
+     * 구간의 첫 페이지를 다시 받아 저장하고, 받은 범위 안에서 여전히 비어 있는 날을 기록합니다.
+     *
+     * <p>응답이 가득 차면 가장 이른 날짜 이전은 확인하지 못한 것이므로 기록하지 않고 다음 실행에서 다시 탐지합니다.</p>
+     */
+    private void repair(Target target, RepairWindow window, Calendar calendar, List<PriceGapEmptyRange> emptyRanges,
+                        BatchStatistics stats) {
+        WatchlistStockRef stock = target.stock();
+        stats.incrementTotal();
+        try {
+            List<LocalDate> fetched = strategyFactory.getStrategy(stock.getAssetType())
+                    .backfillLatestPage(stock, window.startDate(), window.endDate());
+            LocalDate checkedFrom = fetched.size() >= PAGE_SIZE ? Collections.min(fetched) : window.startDate();
+            Set<LocalDate> fetchedDates = new HashSet<>(fetched);
+            List<LocalDate> stillMissing = target.stored().missingFrom(
+                    calendar.days().datesBetween(checkedFrom, window.endDate())).stream()
+                    .filter(date -> !fetchedDates.contains(date) && !isEmptyRange(date, emptyRanges))
+                    .toList();
+            if (!stillMissing.isEmpty()) {
+                recordEmpty(target, stillMissing, calendar);
+            }
+            stats.incrementSuccess();
+        } catch (KisApiException e) {
+            stats.incrementRecoverableFailure();
+            log.warn("Recoverable failure repairing gap {} ~ {} for stock: {} - {}",
+                    window.startDate(), window.endDate(), stock.getStockCode(), e.getMessage());
+        } catch (DataAccessException e) {
+            stats.incrementCriticalFailure();
+            log.error("Critical DB failure repairing gap for stock: {}", stock.getStockCode(), e);
+        } catch (Exception e) {
+            stats.incrementUnexpectedFailure();
+            log.error("Unexpected failure repairing gap for stock: {}", stock.getStockCode(), e);
+        }
+    }
+
+    /**
+     * 복구 후에도 비어 있는 날을 종목의 빈 기간으로 저장합니다. 해외 시장에서 어느 종목에도 없는 날은
+     * {@value #MIN_CALENDAR_SUPPORT}개 종목에서 비면 시장 휴장일로 기록해 남은 종목의 탐지에서 바로 뺍니다.
+     */
+    private void recordEmpty(Target target, List<LocalDate> stillMissing, Calendar calendar) {
+        emptyRangeRepository.save(PriceGapEmptyRange.builder()
+                .instrumentId(target.instrumentId())
+                .startDate(stillMissing.get(0))
+                .endDate(stillMissing.get(stillMissing.size() - 1))
+                .build());
+        log.info("Recorded empty range {} ~ {} ({} days) for stock: {}", stillMissing.get(0),
+                stillMissing.get(stillMissing.size() - 1), stillMissing.size(), target.stock().getStockCode());
+
+        if (target.marketCode() == MarketCode.KRX) {
+            return;
+        }
+        List<LocalDate> closed = new ArrayList<>();
+        for (LocalDate date : stillMissing) {
+            if (!calendar.seen().contains(date)
+                    && calendar.emptyCounts().merge(date, 1, Integer::sum) == MIN_CALENDAR_SUPPORT) {
+                closed.add(date);
+            }
+        }
+        if (!closed.isEmpty()) {
+            marketCalendarService.markObservedClosed(target.marketCode(), closed);
+            calendar.observedClosed().addAll(closed);
+        }
+    }
+
+    /**
+     * 지난 실행에서 마지막으로 복구한 종목 다음 위치. 커서가 없거나 읽을 수 없으면 처음부터.
+     */
+    private int rotationStart(List<Target> targets) {
+        Long cursor = readCursor();
+        if (cursor == null) {
+            return 0;
+        }
+        for (int i = 0; i < targets.size(); i++) {
+            if (targets.get(i).stock().getId() > cursor) {
+                return i;
+            }
+        }
+        return 0;
+    }
+
+    private Long readCursor() {
+        try {
+            String value = redisTemplate.opsForValue().get(CURSOR_KEY);
+            return value != null ? Long.valueOf(value) : null;
+        } catch (DataAccessException | NumberFormatException e) {
+            log.warn("Gap repair cursor read failed, starting from first instrument: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeCursor(Long watchlistStockId) {
+        try {
+            redisTemplate.opsForValue().set(CURSOR_KEY, watchlistStockId.toString());
+        } catch (DataAccessException e) {
+            log.warn("Gap repair cursor write failed: {}", e.getMessage());
+        }
+    }
+
+    private static boolean isEmptyRange(LocalDate date, List<PriceGapEmptyRange> emptyRanges) {
+        for (PriceGapEmptyRange range : emptyRanges) {
+            if (range.contains(date)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isWeekday(LocalDate date) {
+        return date.getDayOfWeek() != DayOfWeek.SATURDAY && date.getDayOfWeek() != DayOfWeek.SUNDAY;
+    }
+
+    private record Target(WatchlistStockRef stock, int instrumentId, MarketCode marketCode, TradeDateBitmap stored) {
+    }
+
+    /**
+     * 시장 달력과 실행 중 누적 상태.
+     *
+     * @param days 기대 거래일
+     * @param seen 시장 종목 중 하나라도 저장한 날
+     * @param observedClosed 이번 실행에서 휴장일로 기록한 날
+     * @param emptyCounts 어느 종목에도 없는 날별로 복구 후에도 빈 종목 수
+     */
+    private record Calendar(TradeDateBitmap days, TradeDateBitmap seen, Set<LocalDate> observedClosed,
+                            Map<LocalDate, Integer> emptyCounts) {
+    }
+}
@@ -0,0 +1,44 @@
+package com.custom.trader.stockprice.service;
+
+import com.custom.trader.common.enums.AssetType;
+import com.custom.trader.common.enums.MarketCode;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 종목 하나의 가격 이력 완전성과 복구 구간.
+ *
+ * @param stockCode 종목 코드
+ * @param assetType 자산 유형
+ * @param marketCode 시장 (거래일 달력 기준)
+ * @param expectedDays 첫 저장일부터 기준일까지 시장 거래일 수
+ * @param missingDays 그중 저장되지 않은 거래일 수
+ * @param windows 누락 거래일을 KIS 요청 단위로 묶은 복구 구간
+ */
+public record PriceGapReport(
+        String stockCode,
+        AssetType assetType,
+        MarketCode marketCode,
+        int expectedDays,
+        int missingDays,
+        List<RepairWindow> windows
+) {
+
+    /**
+     * KIS 요청 1회(최대 {@code PAGE_SIZE} 거래일)로 다시 받을 구간.
+     *
+     * @param startDate 시작일 (누락 거래일)
+     * @param endDate 종료일 (누락 거래일)
+     * @param missingDays 구간 안의 누락 거래일 수
+     */
+    public record RepairWindow(LocalDate startDate, LocalDate endDate, int missingDays) {
+    }
+
+    /**
+     * 완전성 (%). 기대 거래일이 없으면 100.
+     */
+    public double completenessPercent() {
+        return expectedDays == 0 ? 100.0 : (double) (expectedDays - missingDays) / expectedDays * 100;
+    }
+}
@@ -0,0 +1,86 @@
+package com.custom.trader.stockprice.service;
+
+import com.custom.trader.stockprice.instrument.service.InstrumentRegistry;
+import com.custom.trader.watchlist.entity.WatchlistStockRef;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 종목 단위 백필 점유(claim).
+ *
+ * <p>03:00 정기 백필(ShedLock), 신규 종목 워커, 지연 재처리 Sweep은 서로 다른 실행이라 같은 종목을 동시에 백필할 수 있습니다.
+ * 백필 전에 종목(instrument) 키를 Redis {@code SET NX}로 점유하고, 다른 실행이 점유 중인 종목은 건너뜁니다.
+ * 실행 전체를 막는 락과 달리 서로 다른 종목은 겹쳐서 진행할 수 있어, 정기 백필이 락을 잡고 있는 동안에도
+ * 신규 종목은 바로 백필됩니다.</p>
+ *
+ * <p>점유는 TTL 후 자동 해제되므로 실행이 비정상 종료되어도 다음 실행이 다시 백필합니다.
+ * Redis 오류 시에는 점유 없이 백필합니다 (중복 백필은 중복 체크로 저장되지 않고 요청 비용만 늘어남).</p>
+ */
+@Slf4j
+@Component
+public class StockBackfillClaims {
+
+    static final String KEY_PREFIX = "stockprice:backfill:claim:";
+
+    /**
+     * Redis 오류로 점유 없이 진행할 때의 토큰 (해제하지 않음).
+     */
+    static final String UNCLAIMED = "";
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration ttl;
+
+    public StockBackfillClaims(StringRedisTemplate redisTemplate,
+                               @Value("${stockprice.backfill.claim-ttl:PT2H}") Duration ttl) {
+        this.redisTemplate = redisTemplate;
+        this.ttl = ttl;
+    }
+
+    /**
+     * 종목 백필을 점유합니다.
+     *
+     * @param stock 백필 대상 종목
+     * @return 해제에 쓸 토큰, 다른 실행이 점유 중이면 empty
+     */
+    public Optional<String> tryClaim(WatchlistStockRef stock) {
+        String token = UUID.randomUUID().toString();
+        try {
+            Boolean claimed = redisTemplate.opsForValue().setIfAbsent(key(stock), token, ttl);
+            return Boolean.TRUE.equals(claimed) ? Optional.of(token) : Optional.empty();
+        } catch (DataAccessException e) {
+            log.warn("Backfill claim failed for stock: {}, proceeding unclaimed - {}", stock.getStockCode(), e.getMessage());
+            return Optional.of(UNCLAIMED);
+        }
+    }
+
+    /**
+     * 점유를 해제합니다. TTL 만료 후 다른 실행이 다시 점유한 경우에는 해제하지 않습니다.
+     *
+     * @param stock 백필 대상 종목
+     * @param token {@link #tryClaim}이 반환한 토큰
+     */
+    public void release(WatchlistStockRef stock, String token) {
+        if (UNCLAIMED.equals(token)) {
+            return;
+        }
+        String key = key(stock);
+        try {
+            if (token.equals(redisTemplate.opsForValue().get(key))) {
+                redisTemplate.delete(key);
+            }
+        } catch (DataAccessException e) {
+            log.warn("Backfill claim release failed for stock: {} - {}", stock.getStockCode(), e.getMessage());
+        }
+    }
+
+    static String key(WatchlistStockRef stock) {
+        return KEY_PREFIX + stock.getAssetType() + ":" + InstrumentRegistry.marketOf(stock) + ":" + stock.getStockCode();
+    }
+}
@@ -1,17 +1,22 @@
 package com.custom.trader.stockprice.service;
 
+import com.custom.trader.common.constant.DateFormatConstants;
 import com.custom.trader.common.enums.AssetType;
+import com.custom.trader.common.enums.MarketCode;
+import com.custom.trader.stockprice.instrument.service.InstrumentRegistry;
+import com.custom.trader.stockprice.indicator.service.TechnicalIndicatorService;
+import com.custom.trader.stockprice.rollup.service.PriceRollupService;
 import com.custom.trader.stockprice.strategy.StockPriceStrategy;
 import com.custom.trader.stockprice.strategy.StockPriceStrategyFactory;
-import com.custom.trader.watchlist.entity.WatchlistStock;
+import com.custom.trader.watchlist.entity.WatchlistStockRef;
 import com.custom.trader.watchlist.repository.WatchlistStockRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
 
 @Slf4j
 @Service
@@ -20,37 +25,95 @@ public class StockBackfillService {
 
     private final StockPriceStrategyFactory strategyFactory;
     private final WatchlistStockRepository watchlistStockRepository;
+    private final ListingDateResolver listingDateResolver;
+    private final StockPriceBulkLoader bulkLoader;
+    private final PriceRollupService priceRollupService;
+    private final TechnicalIndicatorService technicalIndicatorService;
+    private final StockBackfillClaims backfillClaims;
 
     /**
      * 단일 종목의 과거 가격 데이터를 백필합니다.
      *
-     * <p>트랜잭션 전파: {@link Propagation#REQUIRES_NEW}
+     * <p>트랜잭션:
      * <ul>
-     *   <li>독립적인 트랜잭션으로 실행 (부모 트랜잭션과 분리)</li>
-     *   <li>백필 실패 시 해당 종목만 롤백 (다른 종목에 영향 없음)</li>
-     *   <li>백필 완료 후 {@code backfillCompleted} 플래그를 명시적으로 저장</li>
+     *   <li>메서드 전체를 감싸는 트랜잭션 없음: 가격 저장은 페이지마다
+     *       {@link StockPricePersistenceService}의 독립 트랜잭션으로 커밋되어 영속성 컨텍스트가 페이지 단위로 비워짐</li>
+     *   <li>수 시간짜리 백필 동안 커넥션/영속성 컨텍스트를 붙잡는 바깥 트랜잭션을 두지 않음</li>
+     *   <li>모든 페이지 저장 후 {@code backfillCompleted} 플래그만 UPDATE 1문장으로 설정
+     *       (분리된 엔티티 merge 없음)</li>
      * </ul>
      * </p>
      *
      * <p>Strategy Pattern을 사용하여 AssetType에 맞는 백필 로직을 위임합니다.</p>
      *
-     * @param stock 백필 대상 종목
+     * <p>{@link ListingDateResolver}가 첫 페이지를 조회/저장하며 첫 거래일을 확인하므로, 백필은 그 페이지 이전 구간만
+     * 이어서 조회합니다. 캐시된 첫 거래일이 있으면 시작일을 그 이후로 좁혀 상장 이전 기간은 요청하지 않습니다.
+     * 기간 안에 거래 이력이 없으면 가격 조회 없이 백필 완료로 표시합니다.</p>
+     *
+     * <p>가격 저장은 {@link StockPriceBulkLoader} 세션 안에서 실행되어, 대량 적재가 활성화되어 있으면
+     * 종목 단위로 모아 {@code LOAD DATA LOCAL INFILE}로 반영합니다.</p>
+     *
+     * <p>정기 백필, 신규 종목 워커, 지연 재처리가 같은 종목을 겹쳐 백필하지 않도록 {@link StockBackfillClaims}로
+     * 종목을 점유하고, 다른 실행이 점유 중이면 건너뜁니다. 완료 표시는 같은 종목(instrument)의 다른 그룹 행에도 적용해
+     * 여러 그룹에 있는 종목을 행마다 다시 백필하지 않습니다.</p>
+     *
+     * <p>백필 후 종목의 주/월 롤업과 기술적 지표를 일별 이력 전체로 다시 만듭니다
+     * ({@link PriceRollupService#rebuild}, {@link TechnicalIndicatorService#recompute}).
+     * 대량 적재는 증분 경로를 거치지 않고, 과거 방향으로 저장되는 백필 페이지는 지표를 무효화하기 때문입니다.</p>
+     *
+     * @param stock 백필 대상 종목 (엔티티 또는 조회 Projection)
      * @param startDate 시작 날짜
      * @param endDate 종료 날짜
+     * @return 다른 실행이 점유 중이라 건너뛰었으면 false (자산 유형이 없어 백필 대상이 아닌 경우는 true)
      */
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public void backfillSingleStock(WatchlistStock stock, LocalDate startDate, LocalDate endDate) {
+    public boolean backfillSingleStock(WatchlistStockRef stock, LocalDate startDate, LocalDate endDate) {
         AssetType assetType = stock.getAssetType();
         if (assetType == null) {
             log.warn("AssetType is null for stock: {}, skipping", stock.getStockCode());
-            return;
+            return true;
         }
 
+        Optional<String> claim = backfillClaims.tryClaim(stock);
+        if (claim.isEmpty()) {
+            log.info("Skipping backfill for stock: {}, claimed by another run", stock.getStockCode());
+            return false;
+        }
+        try {
+            backfillClaimed(stock, assetType, startDate, endDate);
+        } finally {
+            backfillClaims.release(stock, claim.get());
+        }
+        return true;
+    }
+
+    private void backfillClaimed(WatchlistStockRef stock, AssetType assetType, LocalDate startDate, LocalDate endDate) {
         StockPriceStrategy strategy = strategyFactory.getStrategy(assetType);
-        strategy.backfillHistoricalPrices(stock, startDate, endDate);
+        ListingDateResolver.Resolution resolution = listingDateResolver.resolve(stock, strategy, startDate, endDate);
+        if (resolution.hasHistory()) {
+            LocalDate listingDate = resolution.listingDate();
+            LocalDate effectiveStartDate = listingDate != null && listingDate.isAfter(startDate) ? listingDate : startDate;
+            LocalDate remainingEndDate = resolution.fetchedFrom() != null ? resolution.fetchedFrom().minusDays(1) : endDate;
+            if (!remainingEndDate.isBefore(effectiveStartDate)) {
+                bulkLoader.runInSession(() -> strategy.backfillHistoricalPrices(stock, effectiveStartDate, remainingEndDate));
+            }
+            priceRollupService.rebuild(stock);
+            technicalIndicatorService.recompute(stock);
+        } else {
+            log.info("No price history before {} for stock: {}", endDate, stock.getStockCode());
+        }
 
-        stock.markBackfillCompleted();
-        watchlistStockRepository.save(stock);
+        LocalDateTime now = LocalDateTime.now(DateFormatConstants.KST_ZONE_ID);
+        watchlistStockRepository.markBackfillCompleted(stock.getId(), now);
+        watchlistStockRepository.markSiblingsBackfillCompleted(stock.getId(), assetType, domesticMarketOrNull(stock),
+                stock.getStockCode(), now);
         log.info("Backfill completed for stock: {}", stock.getStockCode());
     }
+
+    /**
+     * 같은 종목 행을 찾을 시장 조건. 국내는 행마다 시장 코드가 다를 수 있어 조건 없이(null) 종목 코드로만 찾습니다.
+     */
+    private static MarketCode domesticMarketOrNull(WatchlistStockRef stock) {
+        MarketCode market = InstrumentRegistry.marketOf(stock);
+        return market == MarketCode.KRX ? null : market;
+    }
 }
@@ -0,0 +1,323 @@
+package com.custom.trader.stockprice.service;
+
+import com.custom.trader.common.constant.DateFormatConstants;
+import com.custom.trader.stockprice.domestic.entity.DomesticIndexDailyPrice;
+import com.custom.trader.stockprice.domestic.entity.DomesticStockDailyPrice;
+import com.custom.trader.stockprice.overseas.entity.OverseasIndexDailyPrice;
+import com.custom.trader.stockprice.overseas.entity.OverseasStockDailyPrice;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 백필 가격 데이터를 {@code LOAD DATA LOCAL INFILE}로 적재하는 대량 적재기.
+ *
+ * <p>백필은 페이지(100건)마다 JPA로 저장하므로 수백만 행을 적재할 때 행 단위 INSERT 비용이 지배적입니다.
+ * 적재 세션 안에서는 {@link StockPricePersistenceService}가 저장 대신 이 적재기에 행을 넘기고,
+ * 적재기는 다음 순서로 반영합니다:
+ * <ul>
+ *   <li><b>스풀</b>: 전용 스풀 디렉터리의 테이블별 임시 TSV 파일에 행을 기록</li>
+ *   <li><b>적재</b>: {@value #FLUSH_ROWS}행마다(그리고 세션 종료 시) 세션 전용 임시 스테이징 테이블에 {@code LOAD DATA LOCAL INFILE}</li>
+ *   <li><b>병합</b>: {@code INSERT ... SELECT ... ON DUPLICATE KEY UPDATE}(no-op) 1문장으로 대상 테이블에 반영
+ *       → 이미 있는 (instrument_id, 거래일) 행은 유지 (기존 중복 체크와 같은 결과)</li>
+ * </ul>
+ * </p>
+ *
+ * <p>설정:
+ * <ul>
+ *   <li>{@code stockprice.bulk-load.enabled=true}일 때만 사용 (기본 false → 기존 JPA 저장)</li>
+ *   <li>JDBC URL에 {@code allowLoadLocalInfileInPath=<스풀 디렉터리>}, MySQL 서버에 {@code local_infile=ON} 필요</li>
+ * </ul>
+ * </p>
+ *
+ * <p>보안: {@code allowLoadLocalInfile=true}는 서버가 요청하는 임의의 클라이언트 파일을 드라이버가 읽어 보내므로,
+ * 공유 커넥션 URL에 켜면 악의적인/탈취된 DB 서버가 애플리케이션 호스트의 파일을 가져갈 수 있습니다.
+ * 스풀 파일은 {@code stockprice.bulk-load.spool-dir} 전용 디렉터리에만 만들고, 드라이버는
+ * {@code allowLoadLocalInfileInPath}로 그 디렉터리 아래 파일만 읽도록 제한합니다 ({@code allowLoadLocalInfile}은 기본값 false 유지).</p>
+ *
+ * <p>세션은 스레드 단위({@link ThreadLocal})입니다. 백필의 저장은 호출 스레드에서 실행되므로
+ * ({@code DateWindowBackfiller}도 조회만 병렬) 세션을 연 스레드의 저장이 모두 스풀됩니다.</p>
+ */
+@Slf4j
+@Service
+public class StockPriceBulkLoader {
+
+    /**
+     * 스테이징 적재/병합 단위 (행 수).
+     */
+    static final int FLUSH_ROWS = 50_000;
+
+    private static final ThreadLocal<Session> CURRENT_SESSION = new ThreadLocal<>();
+    private static final String NULL_FIELD = "\\N";
+    private static final DateTimeFormatter TIMESTAMP_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSSSSS");
+    private static final List<String> VALUE_COLUMNS = List.of(
+            "trade_date", "open_price", "high_price", "low_price", "close_price",
+            "volume", "trading_value", "created_at", "updated_at");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final Path spoolDir;
+
+    public StockPriceBulkLoader(JdbcTemplate jdbcTemplate,
+                                @Value("${stockprice.bulk-load.enabled:false}") boolean enabled,
+                                @Value("${stockprice.bulk-load.spool-dir:${java.io.tmpdir}/stockprice-bulk}") Path spoolDir) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+        this.spoolDir = spoolDir.toAbsolutePath().normalize();
+    }
+
+    /**
+     * 대량 적재 대상 테이블.
+     */
+    enum PriceTable {
+        DOMESTIC_STOCK("domestic_stock_daily_price"),
+        DOMESTIC_INDEX("domestic_index_daily_price"),
+        OVERSEAS_STOCK("overseas_stock_daily_price"),
+        OVERSEAS_INDEX("overseas_index_daily_price");
+
+        private final String tableName;
+        private final String columns;
+
+        PriceTable(String tableName) {
+            this.tableName = tableName;
+            this.columns = "instrument_id, " + String.join(", ", VALUE_COLUMNS);
+        }
+    }
+
+    /**
+     * 대량 적재가 활성화되어 있으면 작업을 적재 세션 안에서 실행하고, 종료 시 남은 행을 반영합니다.
+     *
+     * <p>작업이 예외로 끝나도 그 전까지 스풀한 행은 반영합니다 (페이지마다 커밋하던 기존 동작과 동일).</p>
+     *
+     * @param task 가격 저장을 포함한 작업 (예: 한 종목의 백필)
+     */
+    public void runInSession(Runnable task) {
+        if (!enabled || CURRENT_SESSION.get() != null) {
+            task.run();
+            return;
+        }
+        Session session = new Session();
+        CURRENT_SESSION.set(session);
+        RuntimeException failure = null;
+        try {
+            task.run();
+        } catch (RuntimeException e) {
+            failure = e;
+            throw e;
+        } finally {
+            CURRENT_SESSION.remove();
+            try {
+                session.flushAll();
+            } catch (RuntimeException e) {
+                if (failure == null) {
+                    throw e;
+                }
+                failure.addSuppressed(e);
+            } finally {
+                session.close();
+            }
+        }
+    }
+
+    /**
+     * 현재 스레드에 열린 적재 세션이 있는지 반환합니다.
+     *
+     * @return 세션이 있으면 true
+     */
+    public boolean isSpooling() {
+        return CURRENT_SESSION.get() != null;
+    }
+
+    public int spoolDomesticStock(List<DomesticStockDailyPrice> prices) {
+        return spool(PriceTable.DOMESTIC_STOCK, prices, p -> new Object[]{
+                p.getInstrumentId(), p.getTradeDate(), p.getOpenPrice(), p.getHighPrice(), p.getLowPrice(),
+                p.getClosePrice(), p.getVolume(), p.getTradingValue()});
+    }
+
+    public int spoolDomesticIndex(List<DomesticIndexDailyPrice> prices) {
+        return spool(PriceTable.DOMESTIC_INDEX, prices, p -> new Object[]{
+                p.getInstrumentId(), p.getTradeDate(), p.getOpenPrice(), p.getHighPrice(), p.getLowPrice(),
+                p.getClosePrice(), p.getVolume(), p.getTradingValue()});
+    }
+
+    public int spoolOverseasStock(List<OverseasStockDailyPrice> prices) {
+        return spool(PriceTable.OVERSEAS_STOCK, prices, p -> new Object[]{
+                p.getInstrumentId(), p.getTradeDate(), p.getOpenPrice(), p.getHighPrice(),
+                p.getLowPrice(), p.getClosePrice(), p.getVolume(), p.getTradingValue()});
+    }
+
+    public int spoolOverseasIndex(List<OverseasIndexDailyPrice> prices) {
+        return spool(PriceTable.OVERSEAS_INDEX, prices, p -> new Object[]{
+                p.getInstrumentId(), p.getTradeDate(), p.getOpenPrice(), p.getHighPrice(),
+                p.getLowPrice(), p.getClosePrice(), p.getVolume(), p.getTradingValue()});
+    }
+
+    /**
+     * 현재 세션의 테이블별 스풀 파일에 행을 기록합니다.
+     *
+     * @return 스풀한 행 수
+     */
+    private <E> int spool(PriceTable table, List<E> prices, Function<E, Object[]> rowMapper) {
+        Session session = CURRENT_SESSION.get();
+        if (session == null) {
+            throw new IllegalStateException("No bulk load session on current thread");
+        }
+        String timestamp = LocalDateTime.now(DateFormatConstants.KST_ZONE_ID).format(TIMESTAMP_FORMAT);
+        Spool spool = session.spool(table);
+        for (E price : prices) {
+            spool.write(rowMapper.apply(price), timestamp);
+        }
+        if (spool.rows >= FLUSH_ROWS) {
+            flush(table, spool);
+        }
+        return prices.size();
+    }
+
+    private void flush(PriceTable table, Spool spool) {
+        if (spool.rows == 0) {
+            return;
+        }
+        spool.closeWriter();
+        int rows = spool.rows;
+        long startNanos = System.nanoTime();
+        Integer merged = jdbcTemplate.execute((ConnectionCallback<Integer>) connection -> {
+            String staging = "tmp_bulk_" + table.tableName;
+            try (Statement statement = connection.createStatement()) {
+                // 임시 테이블은 세션(커넥션) 단위이므로 같은 커넥션에서 생성/적재/병합/삭제
+                statement.execute("CREATE TEMPORARY TABLE " + staging
+                        + " AS SELECT " + table.columns + " FROM " + table.tableName + " WHERE 1 = 0");
+                try {
+                    statement.execute("LOAD DATA LOCAL INFILE '" + sqlPath(spool.file) + "' INTO TABLE " + staging
+                            + " CHARACTER SET utf8mb4 FIELDS TERMINATED BY '\\t' LINES TERMINATED BY '\\n'"
+                            + " (" + table.columns + ")");
+                    return statement.executeUpdate("INSERT INTO " + table.tableName + " (" + table.columns + ")"
+                            + " SELECT " + table.columns + " FROM " + staging
+                            + " ON DUPLICATE KEY UPDATE updated_at = " + table.tableName + ".updated_at");
+                } finally {
+                    statement.execute("DROP TEMPORARY TABLE IF EXISTS " + staging);
+                }
+            }
+        });
+        log.info("Bulk loaded {} rows into {} (merged: {}, {} ms)", rows, table.tableName, merged,
+                (System.nanoTime() - startNanos) / 1_000_000);
+        spool.reset();
+    }
+
+    private static String sqlPath(Path file) {
+        return file.toAbsolutePath().toString().replace('\\', '/').replace("'", "''");
+    }
+
+    /**
+     * 스레드 하나의 적재 세션: 테이블별 스풀 파일.
+     */
+    private final class Session {
+
+        private final Map<PriceTable, Spool> spools = new EnumMap<>(PriceTable.class);
+
+        Spool spool(PriceTable table) {
+            return spools.computeIfAbsent(table, t -> new Spool(spoolDir));
+        }
+
+        void flushAll() {
+            spools.forEach(StockPriceBulkLoader.this::flush);
+        }
+
+        void close() {
+            spools.values().forEach(Spool::delete);
+        }
+    }
+
+    /**
+     * 테이블 하나의 TSV 스풀 파일.
+     */
+    private static final class Spool {
+
+        private final Path directory;
+        private Path file;
+        private BufferedWriter writer;
+        private int rows;
+
+        Spool(Path directory) {
+            this.directory = directory;
+        }
+
+        void write(Object[] values, String timestamp) {
+            try {
+                if (writer == null) {
+                    // 드라이버는 allowLoadLocalInfileInPath 아래 파일만 읽으므로 전용 디렉터리에 생성
+                    Files.createDirectories(directory);
+                    file = Files.createTempFile(directory, "stockprice-bulk-", ".tsv");
+                    writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+                }
+                for (Object value : values) {
+                    writer.write(format(value));
+                    writer.write('\t');
+                }
+                writer.write(timestamp);
+                writer.write('\t');
+                writer.write(timestamp);
+                writer.write('\n');
+                rows++;
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to spool bulk load row", e);
+            }
+        }
+
+        private static String format(Object value) {
+            if (value == null) {
+                return NULL_FIELD;
+            }
+            // BigDecimal.toString()은 지수 표기(1E+3)를 쓸 수 있으므로 일반 표기로 기록
+            return value instanceof BigDecimal decimal ? decimal.toPlainString() : value.toString();
+        }
+
+        void closeWriter() {
+            try {
+                if (writer != null) {
+                    writer.close();
+                    writer = null;
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to close bulk load spool file", e);
+            }
+        }
+
+        void reset() {
+            delete();
+            rows = 0;
+        }
+
+        void delete() {
+            try {
+                closeWriter();
+            } catch (UncheckedIOException e) {
+                log.warn("Failed to close bulk load spool file: {}", e.getMessage());
+            }
+            if (file != null) {
+                try {
+                    Files.deleteIfExists(file);
+                } catch (IOException e) {
+                    log.warn("Failed to delete bulk load spool file {}: {}", file, e.getMessage());
+                }
+                file = null;
+            }
+        }
+    }
+}
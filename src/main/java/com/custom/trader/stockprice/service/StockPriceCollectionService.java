@@ -3,19 +3,29 @@ package com.custom.trader.stockprice.service;
 import com.custom.trader.common.constant.DateFormatConstants;
 import com.custom.trader.common.enums.AssetType;
 import com.custom.trader.kis.exception.KisApiException;
+import com.custom.trader.stockprice.deferred.entity.DeferredPriceTask;
+import com.custom.trader.stockprice.deferred.entity.DeferredPriceTask.TaskType;
+import com.custom.trader.stockprice.instrument.service.InstrumentRegistry;
+import com.custom.trader.stockprice.instrument.service.TradeDateIndex;
 import com.custom.trader.stockprice.strategy.StockPriceStrategy;
 import com.custom.trader.stockprice.strategy.StockPriceStrategyFactory;
+import com.custom.trader.stockprice.util.KeysetPageIterator;
+import com.custom.trader.watchlist.dto.WatchlistStockSummary;
 import com.custom.trader.watchlist.entity.WatchlistStock;
+import com.custom.trader.watchlist.entity.WatchlistStockRef;
 import com.custom.trader.watchlist.repository.WatchlistStockRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataAccessException;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
 
 import static com.custom.trader.common.constant.DateFormatConstants.DEFAULT_START_DATE;
 import static com.custom.trader.stockprice.constant.StockPriceConstants.PAGE_SIZE;
@@ -25,7 +35,7 @@ import static com.custom.trader.stockprice.constant.StockPriceConstants.PAGE_SIZ
  *
  * <p>책임:
  * <ul>
- *   <li>페이징 처리 및 예외 처리</li>
+ *   <li>Keyset 페이징 처리 및 예외 처리</li>
  *   <li>Fetch/Persistence 계층 조합</li>
  *   <li>오케스트레이션 (워크플로우 관리)</li>
  * </ul>
@@ -37,6 +47,13 @@ import static com.custom.trader.stockprice.constant.StockPriceConstants.PAGE_SIZ
  *   <li>트랜잭션은 Persistence 계층에서 종목별로 관리</li>
  * </ul>
  * </p>
+ *
+ * <p>지연 재처리:
+ * <ul>
+ *   <li>복구 가능한 실패(KisApiException)는 {@link DeferredPriceTaskService} 큐에 (종목, 기간) 단위로 등록</li>
+ *   <li>{@link #retryDeferredTasks(TaskType)}가 백오프를 두고 같은 날 재수집</li>
+ * </ul>
+ * </p>
  */
 @Slf4j
 @Service
@@ -46,11 +63,13 @@ public class StockPriceCollectionService {
     private final WatchlistStockRepository watchlistStockRepository;
     private final StockBackfillService stockBackfillService;
     private final StockPriceStrategyFactory strategyFactory;
+    private final DeferredPriceTaskService deferredPriceTaskService;
 
     /**
      * 일간 가격 수집 (백필 완료된 종목 대상).
      *
-     * <p>페이징 처리를 통해 대량 종목을 안전하게 처리합니다.</p>
+     * <p>id 기준 Keyset 페이징으로 대량 종목을 페이지당 일정한 비용으로 처리합니다.
+     * 종목은 관리 엔티티가 아닌 {@link WatchlistStockSummary} Projection으로 조회합니다.</p>
      *
      * <p><strong>설계 노트:</strong> 이 메서드는 {@link #backfillHistoricalPrices()}와
      * 페이징/예외처리 로직을 공유하지만, 의도적으로 분리되었습니다.
@@ -58,24 +77,24 @@ public class StockPriceCollectionService {
      * Rule of Three 원칙에 따라 3번째 유사 메서드 추가 시 리팩토링을 고려하세요.</p>
      */
     public void collectDailyPrices() {
-        Pageable pageable = PageRequest.of(0, PAGE_SIZE);
-        Slice<WatchlistStock> slice;
         BatchStatistics stats = new BatchStatistics();
+        Iterator<List<WatchlistStockSummary>> pages = pagesByBackfillCompleted(true);
+        int pageNumber = 0;
 
-        do {
-            slice = watchlistStockRepository.findByBackfillCompleted(true, pageable);
-            log.info("Collecting daily prices for {} stocks (page {})",
-                    slice.getNumberOfElements(), slice.getNumber() + 1);
+        while (pages.hasNext()) {
+            List<WatchlistStockSummary> page = pages.next();
+            log.info("Collecting daily prices for {} stocks (page {})", page.size(), ++pageNumber);
 
-            slice.getContent().forEach(stock -> {
+            page.forEach(stock -> {
                 stats.incrementTotal();
+                var today = LocalDate.now(DateFormatConstants.KST_ZONE_ID);
                 try {
-                    var today = LocalDate.now(DateFormatConstants.KST_ZONE_ID);
                     collectDailyPriceByAssetType(stock, today, today);
                     stats.incrementSuccess();
                 } catch (KisApiException e) {
                     stats.incrementRecoverableFailure();
                     log.warn("Recoverable failure for stock: {} - {}", stock.getStockCode(), e.getMessage());
+                    defer(stock, TaskType.DAILY, today, today, e);
                 } catch (DataAccessException e) {
                     stats.incrementCriticalFailure();
                     log.error("Critical DB failure for stock: {}", stock.getStockCode(), e);
@@ -84,9 +103,7 @@ public class StockPriceCollectionService {
                     log.error("Unexpected failure for stock: {}", stock.getStockCode(), e);
                 }
             });
-
-            pageable = slice.nextPageable();
-        } while (slice.hasNext());
+        }
 
         log.info("Daily price collection completed. {}", stats.getSummary());
 
@@ -98,7 +115,10 @@ public class StockPriceCollectionService {
     /**
      * 과거 가격 백필 (백필 미완료 종목 대상).
      *
-     * <p>백필 작업은 {@link StockBackfillService}에 위임합니다.</p>
+     * <p>백필 작업은 {@link StockBackfillService}에 위임합니다. 같은 종목이 여러 그룹에 있으면 실행 안에서 첫 행만 백필합니다.</p>
+     *
+     * <p>메모리: 한 번에 한 페이지(최대 PAGE_SIZE + 1건)의 Projection만 참조하고,
+     * 가격 저장은 페이지마다 독립 트랜잭션으로 커밋되므로 종목 수가 늘어도 힙 사용량이 일정합니다.</p>
      *
      * <p><strong>설계 노트:</strong> 이 메서드는 {@link #collectDailyPrices()}와
      * 페이징/예외처리 로직을 공유하지만, 의도적으로 분리되었습니다.
@@ -106,35 +126,19 @@ public class StockPriceCollectionService {
      * Rule of Three 원칙에 따라 3번째 유사 메서드 추가 시 리팩토링을 고려하세요.</p>
      */
     public void backfillHistoricalPrices() {
-        Pageable pageable = PageRequest.of(0, PAGE_SIZE);
-        Slice<WatchlistStock> slice;
         BatchStatistics stats = new BatchStatistics();
+        Iterator<List<WatchlistStockSummary>> pages = pagesByBackfillCompleted(false);
+        Set<String> instruments = new HashSet<>();
+        int pageNumber = 0;
 
-        do {
-            slice = watchlistStockRepository.findByBackfillCompleted(false, pageable);
-            log.info("Backfilling historical prices for {} stocks (page {})",
-                    slice.getNumberOfElements(), slice.getNumber() + 1);
+        while (pages.hasNext()) {
+            List<WatchlistStockSummary> page = pages.next();
+            log.info("Backfilling historical prices for {} stocks (page {})", page.size(), ++pageNumber);
 
-            slice.getContent().forEach(stock -> {
-                stats.incrementTotal();
-                try {
-                    var endDate = LocalDate.now(DateFormatConstants.KST_ZONE_ID);
-                    stockBackfillService.backfillSingleStock(stock, DEFAULT_START_DATE, endDate);
-                    stats.incrementSuccess();
-                } catch (KisApiException e) {
-                    stats.incrementRecoverableFailure();
-                    log.warn("Recoverable failure for stock: {} - {}", stock.getStockCode(), e.getMessage());
-                } catch (DataAccessException e) {
-                    stats.incrementCriticalFailure();
-                    log.error("Critical DB failure for stock: {}", stock.getStockCode(), e);
-                } catch (Exception e) {
-                    stats.incrementUnexpectedFailure();
-                    log.error("Unexpected failure for stock: {}", stock.getStockCode(), e);
-                }
-            });
-
-            pageable = slice.nextPageable();
-        } while (slice.hasNext());
+            page.stream()
+                    .filter(stock -> firstOfInstrument(stock, instruments))
+                    .forEach(stock -> backfillStock(stock, stats));
+        }
 
         log.info("Historical price backfill completed. {}", stats.getSummary());
 
@@ -143,16 +147,200 @@ public class StockPriceCollectionService {
         }
     }
 
+    /**
+     * 새로 추가된 종목의 과거 가격을 즉시 백필합니다.
+     *
+     * <p>관심종목 동기화 커밋 직후 {@code NewStockBackfillWorker}가 관심종목 행 id로 호출합니다.
+     * 백필 미완료 상태인 행만 대상으로 하므로, 그 사이 다른 실행(03:00 백필, 지연 재처리)이
+     * 이미 완료한 종목은 건너뜁니다. 같은 종목이 여러 그룹에 있으면 한 번만 백필하고
+     * ({@link StockBackfillService}가 나머지 행도 완료 처리), 다른 실행이 백필 중인 종목은 점유 확인에서 건너뜁니다.
+     * 예외 처리는 {@link #backfillHistoricalPrices()}와 같습니다.</p>
+     *
+     * @param watchlistStockIds 추가된 관심종목 행 id
+     */
+    public void backfillNewStocks(Collection<Long> watchlistStockIds) {
+        List<WatchlistStockSummary> stocks = watchlistStockRepository.findBackfillPendingSummariesByIdIn(watchlistStockIds);
+        if (stocks.isEmpty()) {
+            return;
+        }
+        BatchStatistics stats = new BatchStatistics();
+        Set<String> instruments = new HashSet<>();
+        stocks.stream()
+                .filter(stock -> firstOfInstrument(stock, instruments))
+                .forEach(stock -> backfillStock(stock, stats));
+        log.info("New stock backfill completed. {}", stats.getSummary());
+    }
+
+    /**
+     * 지연 재처리 큐에서 재처리 시각이 도래한 작업을 다시 수집합니다.
+     *
+     * <p>일간 작업은 Sweep에서 바로, 수 분~수 시간이 걸리는 백필 작업은 백필 워커에서 BACKFILL 우선순위로 실행하도록
+     * 호출하는 쪽이 유형별로 나누어 호출합니다.</p>
+     *
+     * <ul>
+     *   <li>성공: 큐에서 제거</li>
+     *   <li>백필 대상 종목을 다른 실행이 점유 중: 시도 횟수 증가 없이 다음 Sweep 이후로 미룸</li>
+     *   <li>KIS/예상치 못한 오류: 시도 횟수 증가 후 백오프 재예약 (최대 횟수 초과 시 Dead Letter)</li>
+     *   <li>DB 오류: 같은 방식으로 재예약하여 반복되는 DB 오류도 최대 횟수 후 Dead Letter로 전환.
+     *       재예약 자체가 실패하면 큐 상태를 변경하지 않음 (다음 Sweep에서 그대로 재시도)</li>
+     *   <li>대상 종목이 관심종목에서 삭제된 경우: 큐에서 제거</li>
+     * </ul>
+     *
+     * @param taskType 재처리할 작업 유형
+     */
+    public void retryDeferredTasks(TaskType taskType) {
+        List<DeferredPriceTask> tasks = deferredPriceTaskService.findDueTasks(taskType);
+        if (tasks.isEmpty()) {
+            return;
+        }
+        BatchStatistics stats = new BatchStatistics();
+
+        for (DeferredPriceTask task : tasks) {
+            var stock = watchlistStockRepository.findById(task.getWatchlistStockId()).orElse(null);
+            if (stock == null) {
+                log.info("Dropping deferred task for removed stock: {}", task.getStockCode());
+                deferredPriceTaskService.complete(task);
+                continue;
+            }
+
+            stats.incrementTotal();
+            try {
+                if (!retryDeferredTask(task, stock)) {
+                    log.info("Postponing deferred {} task for stock: {}, claimed by another run",
+                            task.getTaskType(), stock.getStockCode());
+                    deferredPriceTaskService.postpone(task);
+                    continue;
+                }
+                deferredPriceTaskService.complete(task);
+                stats.incrementSuccess();
+            } catch (KisApiException e) {
+                stats.incrementRecoverableFailure();
+                log.warn("Deferred retry failed for stock: {} - {}", stock.getStockCode(), e.getMessage());
+                deferredPriceTaskService.reschedule(task, e.getMessage());
+            } catch (DataAccessException e) {
+                stats.incrementCriticalFailure();
+                log.error("Critical DB failure during deferred retry for stock: {}", stock.getStockCode(), e);
+                rescheduleAfterDbFailure(task, e);
+            } catch (Exception e) {
+                stats.incrementUnexpectedFailure();
+                log.error("Unexpected failure during deferred retry for stock: {}", stock.getStockCode(), e);
+                deferredPriceTaskService.reschedule(task, e.getMessage());
+            }
+        }
+
+        log.info("Deferred {} task retry completed. {}", taskType, stats.getSummary());
+    }
+
+    /**
+     * 작업 하나를 다시 수집합니다.
+     *
+     * @return 다른 실행이 백필 대상 종목을 점유 중이라 건너뛰었으면 false
+     */
+    private boolean retryDeferredTask(DeferredPriceTask task, WatchlistStock stock) {
+        return switch (task.getTaskType()) {
+            case DAILY -> {
+                collectDailyPriceByAssetType(stock, task.getStartDate(), task.getEndDate());
+                yield true;
+            }
+            case BACKFILL -> stock.isBackfillCompleted() || stockBackfillService.backfillSingleStock(
+                    stock, task.getStartDate(), LocalDate.now(DateFormatConstants.KST_ZONE_ID));
+        };
+    }
+
+    /**
+     * DB 오류로 실패한 작업을 재예약합니다.
+     *
+     * <p>DB 장애가 계속되면 재예약도 실패할 수 있으므로 로깅만 하고 다음 작업을 계속 처리합니다.</p>
+     */
+    private void rescheduleAfterDbFailure(DeferredPriceTask task, DataAccessException cause) {
+        try {
+            deferredPriceTaskService.reschedule(task, cause.getMessage());
+        } catch (DataAccessException e) {
+            log.error("Failed to reschedule deferred task for stock: {}", task.getStockCode(), e);
+        }
+    }
+
+    /**
+     * backfillCompleted 조건의 종목을 id 순서 Keyset 페이지로 순회합니다.
+     *
+     * <p>백필 중 처리한 종목이 backfillCompleted=true로 바뀌어도 이미 지나간 id 이후부터 조회하므로
+     * OFFSET 페이징처럼 남은 종목이 앞 페이지로 당겨져 누락되지 않습니다.</p>
+     */
+    private Iterator<List<WatchlistStockSummary>> pagesByBackfillCompleted(boolean backfillCompleted) {
+        return new KeysetPageIterator<>(PAGE_SIZE,
+                (lastId, limit) -> watchlistStockRepository.findSummariesByBackfillCompletedAfterId(
+                        backfillCompleted, lastId, Limit.of(limit)),
+                WatchlistStockSummary::getId);
+    }
+
+    /**
+     * 같은 실행에서 처음 보는 종목(instrument)인지 확인하고 기록합니다.
+     *
+     * <p>국내는 시장 구분 없이 종목 코드, 해외는 거래소와 종목 코드로 식별합니다 ({@link InstrumentRegistry#marketOf}).
+     * 자산 유형이 없는 행은 백필 단계에서 건너뛰므로 그대로 통과시킵니다.</p>
+     */
+    private static boolean firstOfInstrument(WatchlistStockRef stock, Set<String> instruments) {
+        if (stock.getAssetType() == null) {
+            return true;
+        }
+        boolean first = instruments.add(
+                stock.getAssetType() + ":" + InstrumentRegistry.marketOf(stock) + ":" + stock.getStockCode());
+        if (!first) {
+            log.debug("Skipping duplicate row of stock: {} (id {})", stock.getStockCode(), stock.getId());
+        }
+        return first;
+    }
+
+    /**
+     * 단일 종목 백필과 결과 집계.
+     *
+     * <p>복구 가능한 실패는 지연 재처리 큐에 등록하고, 그 외 실패는 로깅만 하여 다음 종목을 계속 처리합니다.</p>
+     */
+    private void backfillStock(WatchlistStockRef stock, BatchStatistics stats) {
+        stats.incrementTotal();
+        var endDate = LocalDate.now(DateFormatConstants.KST_ZONE_ID);
+        try {
+            stockBackfillService.backfillSingleStock(stock, DEFAULT_START_DATE, endDate);
+            stats.incrementSuccess();
+        } catch (KisApiException e) {
+            stats.incrementRecoverableFailure();
+            log.warn("Recoverable failure for stock: {} - {}", stock.getStockCode(), e.getMessage());
+            defer(stock, TaskType.BACKFILL, DEFAULT_START_DATE, endDate, e);
+        } catch (DataAccessException e) {
+            stats.incrementCriticalFailure();
+            log.error("Critical DB failure for stock: {}", stock.getStockCode(), e);
+        } catch (Exception e) {
+            stats.incrementUnexpectedFailure();
+            log.error("Unexpected failure for stock: {}", stock.getStockCode(), e);
+        }
+    }
+
+    /**
+     * 실패한 (종목, 기간)을 지연 재처리 큐에 등록합니다.
+     *
+     * <p>큐 저장 실패가 배치 전체를 중단시키지 않도록 DB 오류는 로깅만 합니다.</p>
+     */
+    private void defer(WatchlistStockRef stock, TaskType taskType, LocalDate startDate, LocalDate endDate,
+                       KisApiException cause) {
+        try {
+            deferredPriceTaskService.enqueue(stock, taskType, startDate, endDate, cause.getMessage());
+        } catch (DataAccessException e) {
+            log.error("Failed to defer {} task for stock: {}", taskType, stock.getStockCode(), e);
+        }
+    }
+
     /**
      * AssetType별 가격 수집 오케스트레이션.
      *
-     * <p>Strategy Pattern을 사용하여 AssetType에 맞는 처리 로직을 위임합니다.</p>
+     * <p>Strategy Pattern을 사용하여 AssetType에 맞는 처리 로직을 위임합니다.
+     * 최근 며칠만 저장하므로 거래일 인덱스에 없는 종목은 전체 이력 대신 범위 조회로 중복을 확인합니다
+     * ({@link TradeDateIndex#runBounded}).</p>
      *
      * @param stock 대상 종목
      * @param startDate 시작 날짜
      * @param endDate 종료 날짜
      */
-    private void collectDailyPriceByAssetType(WatchlistStock stock, LocalDate startDate, LocalDate endDate) {
+    private void collectDailyPriceByAssetType(WatchlistStockRef stock, LocalDate startDate, LocalDate endDate) {
         AssetType assetType = stock.getAssetType();
         if (assetType == null) {
             log.warn("AssetType is null for stock: {}, skipping", stock.getStockCode());
@@ -160,6 +348,6 @@ public class StockPriceCollectionService {
         }
 
         StockPriceStrategy strategy = strategyFactory.getStrategy(assetType);
-        strategy.collectDailyPrice(stock, startDate, endDate);
+        TradeDateIndex.runBounded(() -> strategy.collectDailyPrice(stock, startDate, endDate));
     }
 }
@@ -1,21 +1,29 @@
 package com.custom.trader.stockprice.service;
 
 import com.custom.trader.common.constant.DateFormatConstants;
+import com.custom.trader.common.enums.AssetType;
+import com.custom.trader.common.enums.MarketCode;
 import com.custom.trader.kis.dto.stockprice.DomesticIndexDailyPriceResponse;
 import com.custom.trader.kis.dto.stockprice.DomesticStockDailyPriceResponse;
 import com.custom.trader.kis.dto.stockprice.OverseasIndexDailyPriceResponse;
 import com.custom.trader.kis.dto.stockprice.OverseasStockDailyPriceResponse;
+import com.custom.trader.stockprice.adjustment.service.PriceAdjustmentService;
+import com.custom.trader.stockprice.adjustment.service.PriceObservation;
 import com.custom.trader.stockprice.domestic.entity.DomesticIndexDailyPrice;
 import com.custom.trader.stockprice.domestic.entity.DomesticStockDailyPrice;
 import com.custom.trader.stockprice.domestic.repository.DomesticIndexDailyPriceRepository;
 import com.custom.trader.stockprice.domestic.repository.DomesticStockDailyPriceRepository;
+import com.custom.trader.stockprice.indicator.service.TechnicalIndicatorService;
+import com.custom.trader.stockprice.instrument.entity.DailyPriceBar;
+import com.custom.trader.stockprice.instrument.service.InstrumentRegistry;
+import com.custom.trader.stockprice.instrument.service.TradeDateIndex;
 import com.custom.trader.stockprice.mapper.StockPriceMapper;
 import com.custom.trader.stockprice.overseas.entity.OverseasIndexDailyPrice;
 import com.custom.trader.stockprice.overseas.entity.OverseasStockDailyPrice;
 import com.custom.trader.stockprice.overseas.repository.OverseasIndexDailyPriceRepository;
 import com.custom.trader.stockprice.overseas.repository.OverseasStockDailyPriceRepository;
-import com.custom.trader.stockprice.util.QuadFunction;
-import com.custom.trader.stockprice.util.TriFunction;
+import com.custom.trader.stockprice.rollup.service.PriceRollupService;
+import com.custom.trader.stockprice.util.TradeDateBitmap;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -25,22 +33,30 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDate;
 import java.util.Comparator;
 import java.util.List;
-import java.util.Set;
+import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.ToIntFunction;
 
 /**
  * 주식 가격 데이터 저장을 담당하는 Persistence Layer 서비스.
  *
  * <p>책임:
  * <ul>
- *   <li>중복 체크: 기존 데이터와 비교하여 신규 데이터만 저장</li>
+ *   <li>중복 체크: 종목별 메모리 거래일 인덱스({@link TradeDateIndex})와 비교하여 신규 데이터만 저장</li>
+ *   <li>종목 식별: 코드 → {@code instrument_id} ({@link InstrumentRegistry} 캐시)</li>
  *   <li>Entity 변환: DTO → Entity (StockPriceMapper 활용)</li>
- *   <li>DB 저장: Repository를 통한 데이터 저장</li>
+ *   <li>DB 저장: Repository를 통한 데이터 저장, 주/월 롤업 증분 갱신 ({@link PriceRollupService}),
+ *       기술적 지표 증분 계산 ({@link TechnicalIndicatorService})</li>
+ *   <li>수정 계수: 이미 저장된 거래일과 겹치는 페이지로 분할/병합 탐지, 과거 일봉은 저장 기준으로 환산
+ *       ({@link PriceAdjustmentService})</li>
  *   <li>트랜잭션 관리: 종목별 독립 트랜잭션 ({@link Propagation#REQUIRES_NEW})</li>
  * </ul>
  * </p>
  *
+ * <p>대량 적재 세션({@link StockPriceBulkLoader#runInSession})이 열려 있으면 중복 체크/JPA 저장 대신
+ * 저장 기준으로 되돌린 일봉을 스풀 파일에 기록하고 스풀한 행 수를 반환합니다. 중복은 적재기의 병합 단계에서 PK로 제외됩니다.</p>
+ *
  * <p>트랜잭션 전파:
  * <ul>
  *   <li>{@link Propagation#REQUIRES_NEW}: 각 종목별로 독립적인 트랜잭션 생성</li>
@@ -58,58 +74,85 @@ public class StockPricePersistenceService {
     private final OverseasStockDailyPriceRepository overseasStockRepository;
     private final OverseasIndexDailyPriceRepository overseasIndexRepository;
     private final StockPriceMapper mapper;
+    private final StockPriceBulkLoader bulkLoader;
+    private final InstrumentRegistry instrumentRegistry;
+    private final TradeDateIndex tradeDateIndex;
+    private final PriceRollupService priceRollupService;
+    private final TechnicalIndicatorService technicalIndicatorService;
+    private final PriceAdjustmentService priceAdjustmentService;
 
     /**
      * Generic 저장 메서드.
      *
-     * <p>priceItems의 날짜 범위를 추출하여 해당 범위만 DB에서 조회합니다.
-     * 전체 거래일을 로드하지 않으므로 메모리 효율이 높습니다.</p>
+     * <p>중복 체크는 종목별 메모리 거래일 인덱스({@link TradeDateIndex})로 하므로 페이지마다 DB를 조회하지 않습니다.
+     * 인덱스는 종목을 처음 저장할 때 한 번 로드하고, 저장한 거래일은 커밋 후 인덱스에 반영합니다.
+     * 일간 수집({@link TradeDateIndex#runBounded})에서 인덱스에 없는 종목은 전체를 로드하지 않고
+     * 페이지 첫 거래일 이후(와 직전 마지막 거래일)만 조회합니다.</p>
+     *
+     * <p>저장한 일봉은 같은 트랜잭션에서 주/월 롤업({@link PriceRollupService#apply})에 병합하고,
+     * 저장 전 마지막 거래일을 기준으로 기술적 지표({@link TechnicalIndicatorService#apply})를 이어서 계산합니다.</p>
+     *
+     * <p>페이지가 이미 저장된 거래일과 겹치면 겹친 종가로 수정 계수 변화를 탐지하고({@link PriceAdjustmentService#detect}),
+     * 새 사건이 기록되면 종목의 지표를 무효화하고, 이전 기간의 계수가 모두 바뀌므로 주/월 롤업을 현재 계수로 다시 만듭니다. 마지막 거래일 이전 일봉은 저장 기준으로 환산한 뒤 저장합니다.</p>
      *
-     * @param code 종목/지수 코드
-     * @param exchange 거래소 코드 (국내는 null)
+     * @param assetType 자산 유형 (롤업/지표 계산 대상 테이블)
+     * @param instrumentId 종목 id
      * @param priceItems DTO 리스트
-     * @param rangeDatesFetcher 날짜 범위 기반 기존 날짜 조회 함수 (code, exchange, startDate, endDate)
+     * @param storedDatesLoader 종목의 저장된 거래일 전체 조회 함수 (인덱스 로드 시에만 호출)
+     * @param boundedDatesLoader 기준일 이후와 직전 마지막 거래일 조회 함수 (일간 수집에서 인덱스에 없을 때만 호출)
      * @param dateFieldExtractor DTO에서 날짜 필드 추출 함수
-     * @param mapper DTO -> Entity 변환 함수
+     * @param closeFieldExtractor DTO에서 종가 필드 추출 함수 (수정 계수 탐지용)
+     * @param mapper DTO -> Entity 변환 함수 (instrumentId, dto)
      * @param saver Entity 리스트 저장 Consumer
      * @param <D> DTO 타입
      * @param <E> Entity 타입
      * @return 저장된 데이터 개수
      */
-    private <D, E> int saveGeneric(
-            String code,
-            String exchange,
+    private <D, E extends DailyPriceBar> int saveGeneric(
+            AssetType assetType,
+            Integer instrumentId,
             List<D> priceItems,
-            QuadFunction<String, String, LocalDate, LocalDate, Set<LocalDate>> rangeDatesFetcher,
+            Function<Integer, List<LocalDate>> storedDatesLoader,
+            BiFunction<Integer, LocalDate, List<LocalDate>> boundedDatesLoader,
             Function<D, String> dateFieldExtractor,
-            TriFunction<String, String, D, E> mapper,
+            Function<D, String> closeFieldExtractor,
+            BiFunction<Integer, D, E> mapper,
             Consumer<List<E>> saver
     ) {
-        if (priceItems.isEmpty()) {
+        TradeDateBitmap storedDates = tradeDateIndex.get(instrumentId, storedDatesLoader,
+                () -> boundedDatesLoader.apply(instrumentId, priceItems.stream()
+                        .map(p -> DateFormatConstants.parseDate(dateFieldExtractor.apply(p)))
+                        .min(Comparator.naturalOrder())
+                        .orElseThrow()));
+
+        List<D> newItems = priceItems.stream()
+                .filter(p -> !storedDates.contains(DateFormatConstants.parseDate(dateFieldExtractor.apply(p))))
+                .toList();
+        if (newItems.size() < priceItems.size()) {
+            List<PriceObservation> observations = priceItems.stream()
+                    .map(p -> new PriceObservation(DateFormatConstants.parseDate(dateFieldExtractor.apply(p)),
+                            this.mapper.parseBigDecimal(closeFieldExtractor.apply(p))))
+                    .toList();
+            priceAdjustmentService.detect(assetType, instrumentId, observations, storedDates)
+                    .ifPresent(adjustment -> {
+                        technicalIndicatorService.invalidate(instrumentId);
+                        priceRollupService.rebuild(assetType, instrumentId);
+                    });
+        }
+        if (newItems.isEmpty()) {
             return 0;
         }
 
-        LocalDate minDate = priceItems.stream()
-                .map(p -> DateFormatConstants.parseDate(dateFieldExtractor.apply(p)))
-                .min(Comparator.naturalOrder())
-                .orElseThrow();
-        LocalDate maxDate = priceItems.stream()
+        List<E> entities = newItems.stream().map(p -> mapper.apply(instrumentId, p)).toList();
+        priceAdjustmentService.rebaseToStoredBasis(assetType, instrumentId, storedDates.last(), entities);
+        saver.accept(entities);
+        priceRollupService.apply(assetType, entities);
+        technicalIndicatorService.apply(assetType, instrumentId, storedDates.last(), entities);
+        tradeDateIndex.record(instrumentId, newItems.stream()
                 .map(p -> DateFormatConstants.parseDate(dateFieldExtractor.apply(p)))
-                .max(Comparator.naturalOrder())
-                .orElseThrow();
-
-        Set<LocalDate> existingDates = rangeDatesFetcher.apply(code, exchange, minDate, maxDate);
-
-        List<E> toSave = priceItems.stream()
-                .filter(p -> !existingDates.contains(DateFormatConstants.parseDate(dateFieldExtractor.apply(p))))
-                .map(p -> mapper.apply(code, exchange, p))
-                .toList();
-
-        if (!toSave.isEmpty()) {
-            saver.accept(toSave);
-        }
+                .toList());
 
-        return toSave.size();
+        return newItems.size();
     }
 
     /**
@@ -124,12 +167,21 @@ public class StockPricePersistenceService {
             String stockCode,
             List<DomesticStockDailyPriceResponse.PriceItem> priceItems
     ) {
+        if (priceItems.isEmpty()) {
+            return 0;
+        }
+        int instrumentId = instrumentRegistry.resolveId(AssetType.DOMESTIC_STOCK, MarketCode.KRX, stockCode);
+        if (bulkLoader.isSpooling()) {
+            return spool(AssetType.DOMESTIC_STOCK, instrumentId,
+                    priceItems.stream().map(p -> mapper.toDomesticStock(instrumentId, p)).toList(), bulkLoader::spoolDomesticStock);
+        }
         return saveGeneric(
-                stockCode, null, priceItems,
-                (code, exchange, start, end) -> domesticStockRepository
-                        .findTradeDatesByStockCodeAndTradeDateBetween(code, start, end),
+                AssetType.DOMESTIC_STOCK, instrumentId, priceItems,
+                domesticStockRepository::findTradeDatesByInstrumentId,
+                domesticStockRepository::findTradeDatesFromLastBefore,
                 p -> p.stckBsopDate(),
-                (code, exchange, p) -> mapper.toDomesticStock(code, p),
+                p -> p.stckClpr(),
+                mapper::toDomesticStock,
                 domesticStockRepository::saveAll
         );
     }
@@ -146,12 +198,21 @@ public class StockPricePersistenceService {
             String indexCode,
             List<DomesticIndexDailyPriceResponse.PriceItem> priceItems
     ) {
+        if (priceItems.isEmpty()) {
+            return 0;
+        }
+        int instrumentId = instrumentRegistry.resolveId(AssetType.DOMESTIC_INDEX, MarketCode.KRX, indexCode);
+        if (bulkLoader.isSpooling()) {
+            return spool(AssetType.DOMESTIC_INDEX, instrumentId,
+                    priceItems.stream().map(p -> mapper.toDomesticIndex(instrumentId, p)).toList(), bulkLoader::spoolDomesticIndex);
+        }
         return saveGeneric(
-                indexCode, null, priceItems,
-                (code, exchange, start, end) -> domesticIndexRepository
-                        .findTradeDatesByIndexCodeAndTradeDateBetween(code, start, end),
+                AssetType.DOMESTIC_INDEX, instrumentId, priceItems,
+                domesticIndexRepository::findTradeDatesByInstrumentId,
+                domesticIndexRepository::findTradeDatesFromLastBefore,
                 p -> p.stckBsopDate(),
-                (code, exchange, p) -> mapper.toDomesticIndex(code, p),
+                p -> p.bstpNmixPrpr(),
+                mapper::toDomesticIndex,
                 domesticIndexRepository::saveAll
         );
     }
@@ -170,12 +231,22 @@ public class StockPricePersistenceService {
             String exchangeCode,
             List<OverseasStockDailyPriceResponse.PriceItem> priceItems
     ) {
+        if (priceItems.isEmpty()) {
+            return 0;
+        }
+        int instrumentId = instrumentRegistry.resolveId(
+                AssetType.OVERSEAS_STOCK, MarketCode.fromExcd(exchangeCode), stockCode);
+        if (bulkLoader.isSpooling()) {
+            return spool(AssetType.OVERSEAS_STOCK, instrumentId,
+                    priceItems.stream().map(p -> mapper.toOverseasStock(instrumentId, p)).toList(), bulkLoader::spoolOverseasStock);
+        }
         return saveGeneric(
-                stockCode, exchangeCode, priceItems,
-                (code, exchange, start, end) -> overseasStockRepository
-                        .findTradeDatesByStockCodeAndExchangeCodeAndTradeDateBetween(code, exchange, start, end),
+                AssetType.OVERSEAS_STOCK, instrumentId, priceItems,
+                overseasStockRepository::findTradeDatesByInstrumentId,
+                overseasStockRepository::findTradeDatesFromLastBefore,
                 p -> p.xymd(),
-                (code, exchange, p) -> mapper.toOverseasStock(code, exchange, p),
+                p -> p.clos(),
+                mapper::toOverseasStock,
                 overseasStockRepository::saveAll
         );
     }
@@ -194,14 +265,58 @@ public class StockPricePersistenceService {
             String exchangeCode,
             List<OverseasIndexDailyPriceResponse.PriceItem> priceItems
     ) {
+        if (priceItems.isEmpty()) {
+            return 0;
+        }
+        int instrumentId = instrumentRegistry.resolveId(
+                AssetType.OVERSEAS_INDEX, MarketCode.fromExcd(exchangeCode), indexCode);
+        if (bulkLoader.isSpooling()) {
+            return spool(AssetType.OVERSEAS_INDEX, instrumentId,
+                    priceItems.stream().map(p -> mapper.toOverseasIndex(instrumentId, p)).toList(), bulkLoader::spoolOverseasIndex);
+        }
         return saveGeneric(
-                indexCode, exchangeCode, priceItems,
-                (code, exchange, start, end) -> overseasIndexRepository
-                        .findTradeDatesByIndexCodeAndExchangeCodeAndTradeDateBetween(code, exchange, start, end),
+                AssetType.OVERSEAS_INDEX, instrumentId, priceItems,
+                overseasIndexRepository::findTradeDatesByInstrumentId,
+                overseasIndexRepository::findTradeDatesFromLastBefore,
                 p -> p.stckBsopDate(),
-                (code, exchange, p) -> mapper.toOverseasIndex(code, exchange, p),
+                p -> p.ovrsNmixPrpr(),
+                mapper::toOverseasIndex,
                 overseasIndexRepository::saveAll
         );
     }
 
+    /**
+     * 대량 적재 세션의 스풀 경로.
+     *
+     * <p>중복 체크/수정 계수 탐지는 건너뛰지만, 사건이 이미 기록된 종목(예: 세션 밖에서 저장한 상장일 확인 페이지가 탐지)의
+     * 과거 일봉은 저장 기준으로 되돌린 뒤 스풀합니다. 되돌리지 않으면 조회 시 계수가 두 번 곱해집니다.</p>
+     */
+    private <E extends DailyPriceBar> int spool(AssetType assetType, Integer instrumentId, List<E> entities,
+                                                ToIntFunction<List<E>> spooler) {
+        // 적재 세션 종료 시 반영되므로 인덱스는 폐기 (다음 저장 시 재로드)
+        tradeDateIndex.invalidate(instrumentId);
+        priceAdjustmentService.rebaseToStoredBasis(assetType, instrumentId, entities);
+        return spooler.applyAsInt(entities);
+    }
+
+    /**
+     * 종목의 저장된 거래일 비트맵을 반환합니다 (메모리 인덱스, 없으면 로드).
+     *
+     * <p>로드한 인덱스가 저장 경로의 중복 체크에 그대로 쓰이므로, 복제 지연이 없도록 읽기 전용 트랜잭션이 아닌
+     * 일반 트랜잭션으로 primary에서 읽습니다 (ADR-0035).</p>
+     *
+     * @param assetType 자산 유형 (조회할 가격 테이블)
+     * @param instrumentId 종목 id
+     * @return 저장된 거래일 비트맵
+     */
+    @Transactional
+    public TradeDateBitmap getStoredTradeDates(AssetType assetType, Integer instrumentId) {
+        Function<Integer, List<LocalDate>> loader = switch (assetType) {
+            case DOMESTIC_STOCK -> domesticStockRepository::findTradeDatesByInstrumentId;
+            case DOMESTIC_INDEX -> domesticIndexRepository::findTradeDatesByInstrumentId;
+            case OVERSEAS_STOCK -> overseasStockRepository::findTradeDatesByInstrumentId;
+            case OVERSEAS_INDEX -> overseasIndexRepository::findTradeDatesByInstrumentId;
+        };
+        return tradeDateIndex.get(instrumentId, loader);
+    }
 }
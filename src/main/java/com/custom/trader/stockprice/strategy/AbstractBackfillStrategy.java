@@ -1,6 +1,6 @@
 package com.custom.trader.stockprice.strategy;
 
-import com.custom.trader.watchlist.entity.WatchlistStock;
+import com.custom.trader.watchlist.entity.WatchlistStockRef;
 import lombok.extern.slf4j.Slf4j;
 
 import java.time.LocalDate;
@@ -32,7 +32,7 @@ public abstract class AbstractBackfillStrategy<P> implements StockPriceStrategy
      * @return 저장된 데이터 개수
      */
     @Override
-    public int collectDailyPrice(WatchlistStock stock, LocalDate startDate, LocalDate endDate) {
+    public int collectDailyPrice(WatchlistStockRef stock, LocalDate startDate, LocalDate endDate) {
         List<P> prices = fetchPrices(stock, startDate, endDate);
         int saved = savePrices(stock, prices);
         log.debug("Saved {} {} prices for: {}", saved, getAssetTypeName(), stock.getStockCode());
@@ -50,7 +50,7 @@ public abstract class AbstractBackfillStrategy<P> implements StockPriceStrategy
      * @param endDate 종료 날짜
      */
     @Override
-    public void backfillHistoricalPrices(WatchlistStock stock, LocalDate startDate, LocalDate endDate) {
+    public void backfillHistoricalPrices(WatchlistStockRef stock, LocalDate startDate, LocalDate endDate) {
         String code = stock.getStockCode();
         LocalDate currentEndDate = endDate;
         int totalSaved = 0;
@@ -79,6 +79,23 @@ public abstract class AbstractBackfillStrategy<P> implements StockPriceStrategy
         log.debug("Total saved {} {} prices for: {}", totalSaved, getAssetTypeName(), code);
     }
 
+    /**
+     * 백필 첫 페이지: 종료일 이전(포함) 최근 가격 데이터를 저장하고 날짜를 반환합니다.
+     *
+     * @param stock 대상 종목
+     * @param startDate 시작 날짜
+     * @param endDate 종료 날짜
+     * @return 조회한 거래일 목록
+     */
+    @Override
+    public List<LocalDate> backfillLatestPage(WatchlistStockRef stock, LocalDate startDate, LocalDate endDate) {
+        List<P> prices = fetchPrices(stock, startDate, endDate);
+        savePrices(stock, prices);
+        return prices.stream()
+                .map(this::extractDate)
+                .toList();
+    }
+
     /**
      * API에서 가격 데이터를 조회합니다.
      *
@@ -87,7 +104,7 @@ public abstract class AbstractBackfillStrategy<P> implements StockPriceStrategy
      * @param endDate 종료 날짜
      * @return 가격 데이터 리스트
      */
-    protected abstract List<P> fetchPrices(WatchlistStock stock, LocalDate startDate, LocalDate endDate);
+    protected abstract List<P> fetchPrices(WatchlistStockRef stock, LocalDate startDate, LocalDate endDate);
 
     /**
      * 가격 데이터를 저장합니다.
@@ -96,7 +113,7 @@ public abstract class AbstractBackfillStrategy<P> implements StockPriceStrategy
      * @param prices 가격 데이터 리스트
      * @return 저장된 데이터 개수
      */
-    protected abstract int savePrices(WatchlistStock stock, List<P> prices);
+    protected abstract int savePrices(WatchlistStockRef stock, List<P> prices);
 
     /**
      * 가격 데이터에서 날짜를 추출합니다.
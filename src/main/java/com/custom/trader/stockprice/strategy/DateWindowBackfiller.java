@@ -0,0 +1,264 @@
+package com.custom.trader.stockprice.strategy;
+
+import com.custom.trader.config.KisFetchExecutorConfig;
+import com.custom.trader.kis.client.KisPriorityContext;
+import com.custom.trader.kis.client.KisRequestPriority;
+import com.custom.trader.kis.client.KisRetryBudget;
+import com.custom.trader.kis.client.KisRetryBudgetContext;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+import static com.custom.trader.stockprice.constant.StockPriceConstants.PAGE_SIZE;
+
+/**
+ * 시작일/종료일을 모두 받는 국내 엔드포인트의 백필 페이징 도우미.
+ *
+ * <p>기간이 짧으면 종료일부터 과거 방향으로 페이지를 이어서 조회하고, 직전 페이지의 최소 날짜로 다음 요청의 종료일을 정합니다.
+ * 이 방식은 페이지 수만큼 응답 대기 시간이 직렬로 쌓이므로, 기간이 길면 달력 구간(window)으로 나누어 동시에 조회합니다:
+ * <ul>
+ *   <li>구간 크기: 평일 수가 정확히 {@code PAGE_SIZE}일인 달력 일수. 휴장일만큼만 덜 차고 한 번의 응답을 넘지 않음</li>
+ *   <li>최신 구간부터 {@value #WINDOW_CONCURRENCY}개씩 동시 조회, 저장은 호출 스레드에서 최신 구간 순서대로</li>
+ *   <li>구간 응답이 가득 차면 해당 구간 안에서만 같은 방식으로 이어서 조회</li>
+ *   <li>구간 범위 밖 날짜와 중복 날짜는 제외</li>
+ *   <li>동시 조회한 구간이 모두 비어 있으면 남은 기간 전체로 한 페이지를 직렬 조회하여, 비어 있으면 상장 이전으로 보고 종료
+ *       (직렬 페이징의 빈 페이지 종료와 같은 역할). 장기 거래정지처럼 빈 구간 이전에 이력이 있으면 해당 페이지를 저장하고
+ *       페이지의 최소 날짜 이전부터 다시 구간으로 나누어 조회</li>
+ * </ul>
+ * </p>
+ *
+ * <p>구간 조회는 공용 KIS 조회 풀({@link KisFetchExecutorConfig})에서 실행되며, 초당 한도는 Rate Limiter가 지키므로
+ * 동시 조회는 응답 대기 시간을 겹치게 하는 효과만 있습니다.
+ * 작업 스레드에는 호출 스레드의 {@link KisPriorityContext} 우선순위와 {@link KisRetryBudgetContext} 재시도 예산을 전파합니다.</p>
+ */
+@Component
+class DateWindowBackfiller {
+
+    /**
+     * 동시에 조회할 구간 수.
+     */
+    static final int WINDOW_CONCURRENCY = 4;
+
+    private static final int TRADING_DAYS_PER_WEEK = 5;
+    private static final int CALENDAR_DAYS_PER_WEEK = 7;
+
+    /**
+     * 구간 크기 (달력 일수): PAGE_SIZE 평일 = 20주 = 140일.
+     */
+    static final int WINDOW_DAYS = PAGE_SIZE / TRADING_DAYS_PER_WEEK * CALENDAR_DAYS_PER_WEEK;
+
+    private final ExecutorService executor;
+
+    DateWindowBackfiller(@Qualifier(KisFetchExecutorConfig.KIS_FETCH_EXECUTOR) ExecutorService executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * 구간 동시 조회를 사용할 만큼 기간이 긴지 판단합니다.
+     *
+     * <p>동시 조회 한 번에 덮을 수 있는 기간 이하라면 직렬 페이징도 호출 수가 같으므로 사용하지 않습니다.</p>
+     *
+     * @param startDate 시작 날짜
+     * @param endDate 종료 날짜
+     * @return 구간 동시 조회 대상이면 true
+     */
+    static boolean isWindowed(LocalDate startDate, LocalDate endDate) {
+        return ChronoUnit.DAYS.between(startDate, endDate) + 1 > (long) WINDOW_DAYS * WINDOW_CONCURRENCY;
+    }
+
+    /**
+     * 기간의 가격을 조회하고 저장합니다. 기간이 길면 구간 동시 조회, 아니면 직렬 페이징을 사용합니다.
+     *
+     * @param startDate 시작 날짜
+     * @param endDate 종료 날짜
+     * @param fetcher (시작일, 종료일) → 종료일부터 과거 방향 최대 PAGE_SIZE건 조회
+     * @param saver 가격 데이터 저장 함수 (저장 건수 반환)
+     * @param dateExtractor 가격 데이터에서 날짜 추출
+     * @param <P> 가격 데이터 타입
+     * @return 저장된 데이터 개수
+     */
+    <P> int backfill(LocalDate startDate, LocalDate endDate,
+                     BiFunction<LocalDate, LocalDate, List<P>> fetcher,
+                     ToIntFunction<List<P>> saver,
+                     Function<P, LocalDate> dateExtractor) {
+        if (!isWindowed(startDate, endDate)) {
+            return paginate(startDate, endDate, fetcher, dateExtractor, saver);
+        }
+
+        List<Window> windows = windows(startDate, endDate);
+        KisRequestPriority priority = KisPriorityContext.current();
+        KisRetryBudget retryBudget = KisRetryBudgetContext.current();
+        int totalSaved = 0;
+        int from = 0;
+        while (from < windows.size()) {
+            List<Window> batch = windows.subList(from, Math.min(windows.size(), from + WINDOW_CONCURRENCY));
+            from += batch.size();
+            List<Future<List<P>>> futures = batch.stream()
+                    .map(window -> executor.submit(() -> KisRetryBudgetContext.call(retryBudget,
+                            () -> KisPriorityContext.call(priority, () -> fetchWindow(window, fetcher, dateExtractor)))))
+                    .toList();
+
+            boolean anyPrices = false;
+            try {
+                for (Future<List<P>> future : futures) {
+                    List<P> prices = await(future);
+                    if (!prices.isEmpty()) {
+                        anyPrices = true;
+                        totalSaved += saver.applyAsInt(prices);
+                    }
+                }
+            } finally {
+                futures.forEach(future -> future.cancel(true));
+            }
+            if (anyPrices) {
+                continue;
+            }
+
+            LocalDate gapEnd = batch.get(batch.size() - 1).startDate().minusDays(1);
+            if (gapEnd.isBefore(startDate)) {
+                break;
+            }
+            List<P> page = fetchPage(new Window(startDate, gapEnd), fetcher, dateExtractor);
+            if (page.isEmpty()) {
+                break;
+            }
+            totalSaved += saver.applyAsInt(page);
+            if (page.size() < PAGE_SIZE) {
+                break;
+            }
+            windows = windows(startDate, earliestDate(page, dateExtractor).minusDays(1));
+            from = 0;
+        }
+        return totalSaved;
+    }
+
+    /**
+     * 기간을 최신 구간부터 겹치지 않게 나눕니다.
+     */
+    static List<Window> windows(LocalDate startDate, LocalDate endDate) {
+        List<Window> windows = new ArrayList<>();
+        LocalDate windowEnd = endDate;
+        while (!windowEnd.isBefore(startDate)) {
+            LocalDate windowStart = windowEnd.minusDays(WINDOW_DAYS - 1L);
+            if (windowStart.isBefore(startDate)) {
+                windowStart = startDate;
+            }
+            windows.add(new Window(windowStart, windowEnd));
+            windowEnd = windowStart.minusDays(1);
+        }
+        return windows;
+    }
+
+    /**
+     * 한 구간을 조회합니다. 구간 밖 날짜와 중복 날짜는 제외합니다.
+     */
+    private static <P> List<P> fetchWindow(Window window,
+                                           BiFunction<LocalDate, LocalDate, List<P>> fetcher,
+                                           Function<P, LocalDate> dateExtractor) {
+        List<P> result = new ArrayList<>();
+        Set<LocalDate> seen = new HashSet<>();
+        paginate(window.startDate(), window.endDate(), fetcher, dateExtractor, prices -> {
+            int added = 0;
+            for (P price : prices) {
+                LocalDate date = dateExtractor.apply(price);
+                if (window.contains(date) && seen.add(date)) {
+                    result.add(price);
+                    added++;
+                }
+            }
+            return added;
+        });
+        return result;
+    }
+
+    /**
+     * 빈 구간 이전의 이력 유무를 확인하기 위해 구간 종료일부터 한 페이지만 조회합니다. 구간 밖 날짜와 중복 날짜는 제외합니다.
+     */
+    private static <P> List<P> fetchPage(Window window,
+                                         BiFunction<LocalDate, LocalDate, List<P>> fetcher,
+                                         Function<P, LocalDate> dateExtractor) {
+        Set<LocalDate> seen = new HashSet<>();
+        List<P> result = new ArrayList<>();
+        for (P price : fetcher.apply(window.startDate(), window.endDate())) {
+            LocalDate date = dateExtractor.apply(price);
+            if (window.contains(date) && seen.add(date)) {
+                result.add(price);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 종료일부터 과거 방향으로 페이지를 이어서 조회합니다.
+     *
+     * <p>빈 페이지나 가득 차지 않은 페이지를 받으면 종료하고, 그 외에는 페이지의 최소 날짜 전날을 다음 종료일로 사용합니다.</p>
+     *
+     * @return 페이지 처리 함수가 반환한 건수의 합
+     */
+    private static <P> int paginate(LocalDate startDate, LocalDate endDate,
+                                    BiFunction<LocalDate, LocalDate, List<P>> fetcher,
+                                    Function<P, LocalDate> dateExtractor,
+                                    ToIntFunction<List<P>> pageHandler) {
+        LocalDate currentEndDate = endDate;
+        int total = 0;
+        while (!currentEndDate.isBefore(startDate)) {
+            List<P> prices = fetcher.apply(startDate, currentEndDate);
+            if (prices.isEmpty()) {
+                break;
+            }
+
+            total += pageHandler.applyAsInt(prices);
+
+            if (prices.size() < PAGE_SIZE) {
+                break;
+            }
+
+            currentEndDate = earliestDate(prices, dateExtractor).minusDays(1);
+        }
+        return total;
+    }
+
+    private static <P> LocalDate earliestDate(List<P> prices, Function<P, LocalDate> dateExtractor) {
+        return prices.stream()
+                .map(dateExtractor)
+                .min(Comparator.naturalOrder())
+                .orElseThrow(() -> new IllegalStateException("Cannot extract date from empty price list"));
+    }
+
+    private static <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Backfill window fetch failed", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while fetching backfill windows", e);
+        }
+    }
+
+    /**
+     * 조회 구간 (양 끝 포함).
+     */
+    record Window(LocalDate startDate, LocalDate endDate) {
+
+        boolean contains(LocalDate date) {
+            return !date.isBefore(startDate) && !date.isAfter(endDate);
+        }
+    }
+}
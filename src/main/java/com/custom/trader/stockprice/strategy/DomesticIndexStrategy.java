@@ -3,15 +3,13 @@ package com.custom.trader.stockprice.strategy;
 import com.custom.trader.common.constant.DateFormatConstants;
 import com.custom.trader.kis.service.KisStockPriceService;
 import com.custom.trader.stockprice.service.StockPricePersistenceService;
-import com.custom.trader.watchlist.entity.WatchlistStock;
+import com.custom.trader.watchlist.entity.WatchlistStockRef;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
-import java.util.Comparator;
-
-import static com.custom.trader.stockprice.constant.StockPriceConstants.PAGE_SIZE;
+import java.util.List;
 
 /**
  * 국내 지수 가격 수집 전략 구현체.
@@ -23,9 +21,10 @@ public class DomesticIndexStrategy implements StockPriceStrategy {
 
     private final KisStockPriceService kisStockPriceService;
     private final StockPricePersistenceService persistenceService;
+    private final DateWindowBackfiller dateWindowBackfiller;
 
     @Override
-    public int collectDailyPrice(WatchlistStock stock, LocalDate startDate, LocalDate endDate) {
+    public int collectDailyPrice(WatchlistStockRef stock, LocalDate startDate, LocalDate endDate) {
         var prices = kisStockPriceService.getDomesticIndexDailyPrices(
                 stock.getStockCode(), startDate, endDate);
         int saved = persistenceService.saveDomesticIndexPrices(stock.getStockCode(), prices);
@@ -33,33 +32,27 @@ public class DomesticIndexStrategy implements StockPriceStrategy {
         return saved;
     }
 
+    /**
+     * 과거 가격 백필.
+     *
+     * <p>{@link DateWindowBackfiller}가 기간 길이에 따라 달력 구간 동시 조회 또는 직렬 페이징으로 조회합니다.</p>
+     */
     @Override
-    public void backfillHistoricalPrices(WatchlistStock stock, LocalDate startDate, LocalDate endDate) {
+    public void backfillHistoricalPrices(WatchlistStockRef stock, LocalDate startDate, LocalDate endDate) {
         String code = stock.getStockCode();
-        LocalDate currentEndDate = endDate;
-        int totalSaved = 0;
-
-        while (!currentEndDate.isBefore(startDate)) {
-            var prices = kisStockPriceService.getDomesticIndexDailyPrices(code, startDate, currentEndDate);
-
-            if (prices.isEmpty()) {
-                break;
-            }
-
-            int savedCount = persistenceService.saveDomesticIndexPrices(code, prices);
-            totalSaved += savedCount;
-
-            if (prices.size() < PAGE_SIZE) {
-                break;
-            }
-
-            LocalDate lastDate = prices.stream()
-                    .map(p -> DateFormatConstants.parseDate(p.stckBsopDate()))
-                    .min(Comparator.naturalOrder())
-                    .orElseThrow(() -> new IllegalStateException("Cannot extract date from empty price list"));
-            currentEndDate = lastDate.minusDays(1);
-        }
-
+        int totalSaved = dateWindowBackfiller.backfill(startDate, endDate,
+                (windowStart, windowEnd) -> kisStockPriceService.getDomesticIndexDailyPrices(code, windowStart, windowEnd),
+                prices -> persistenceService.saveDomesticIndexPrices(code, prices),
+                p -> DateFormatConstants.parseDate(p.stckBsopDate()));
         log.debug("Total saved {} domestic index prices for: {}", totalSaved, code);
     }
+
+    @Override
+    public List<LocalDate> backfillLatestPage(WatchlistStockRef stock, LocalDate startDate, LocalDate endDate) {
+        var prices = kisStockPriceService.getDomesticIndexDailyPrices(stock.getStockCode(), startDate, endDate);
+        persistenceService.saveDomesticIndexPrices(stock.getStockCode(), prices);
+        return prices.stream()
+                .map(p -> DateFormatConstants.parseDate(p.stckBsopDate()))
+                .toList();
+    }
 }
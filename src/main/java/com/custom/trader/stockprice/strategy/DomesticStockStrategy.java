@@ -3,15 +3,15 @@ package com.custom.trader.stockprice.strategy;
 import com.custom.trader.common.constant.DateFormatConstants;
 import com.custom.trader.kis.service.KisStockPriceService;
 import com.custom.trader.stockprice.service.StockPricePersistenceService;
-import com.custom.trader.watchlist.entity.WatchlistStock;
+import com.custom.trader.watchlist.entity.WatchlistStockRef;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
-import java.util.Comparator;
+import java.util.List;
 
-import static com.custom.trader.stockprice.constant.StockPriceConstants.PAGE_SIZE;
+import static com.custom.trader.stockprice.constant.StockPriceConstants.ADJUSTMENT_LOOKBACK_DAYS;
 
 /**
  * 국내 주식 가격 수집 전략 구현체.
@@ -23,43 +23,44 @@ public class DomesticStockStrategy implements StockPriceStrategy {
 
     private final KisStockPriceService kisStockPriceService;
     private final StockPricePersistenceService persistenceService;
+    private final DateWindowBackfiller dateWindowBackfiller;
 
+    /**
+     * 일간 가격 수집.
+     *
+     * <p>수정 계수 탐지를 위해 시작일보다 {@value com.custom.trader.stockprice.constant.StockPriceConstants#ADJUSTMENT_LOOKBACK_DAYS}일
+     * 앞부터 조회합니다. 이미 저장된 거래일은 저장 단계에서 제외되고 가격 비교에만 쓰입니다.</p>
+     */
     @Override
-    public int collectDailyPrice(WatchlistStock stock, LocalDate startDate, LocalDate endDate) {
+    public int collectDailyPrice(WatchlistStockRef stock, LocalDate startDate, LocalDate endDate) {
         var prices = kisStockPriceService.getDomesticStockDailyPrices(
-                stock.getStockCode(), startDate, endDate);
+                stock.getStockCode(), startDate.minusDays(ADJUSTMENT_LOOKBACK_DAYS), endDate);
         int saved = persistenceService.saveDomesticStockPrices(stock.getStockCode(), prices);
         log.debug("Saved {} domestic stock prices for: {}", saved, stock.getStockCode());
         return saved;
     }
 
+    /**
+     * 과거 가격 백필.
+     *
+     * <p>{@link DateWindowBackfiller}가 기간 길이에 따라 달력 구간 동시 조회 또는 직렬 페이징으로 조회합니다.</p>
+     */
     @Override
-    public void backfillHistoricalPrices(WatchlistStock stock, LocalDate startDate, LocalDate endDate) {
+    public void backfillHistoricalPrices(WatchlistStockRef stock, LocalDate startDate, LocalDate endDate) {
         String code = stock.getStockCode();
-        LocalDate currentEndDate = endDate;
-        int totalSaved = 0;
-
-        while (!currentEndDate.isBefore(startDate)) {
-            var prices = kisStockPriceService.getDomesticStockDailyPrices(code, startDate, currentEndDate);
-
-            if (prices.isEmpty()) {
-                break;
-            }
-
-            int savedCount = persistenceService.saveDomesticStockPrices(code, prices);
-            totalSaved += savedCount;
-
-            if (prices.size() < PAGE_SIZE) {
-                break;
-            }
-
-            LocalDate lastDate = prices.stream()
-                    .map(p -> DateFormatConstants.parseDate(p.stckBsopDate()))
-                    .min(Comparator.naturalOrder())
-                    .orElseThrow(() -> new IllegalStateException("Cannot extract date from empty price list"));
-            currentEndDate = lastDate.minusDays(1);
-        }
-
+        int totalSaved = dateWindowBackfiller.backfill(startDate, endDate,
+                (windowStart, windowEnd) -> kisStockPriceService.getDomesticStockDailyPrices(code, windowStart, windowEnd),
+                prices -> persistenceService.saveDomesticStockPrices(code, prices),
+                p -> DateFormatConstants.parseDate(p.stckBsopDate()));
         log.debug("Total saved {} domestic stock prices for: {}", totalSaved, code);
     }
+
+    @Override
+    public List<LocalDate> backfillLatestPage(WatchlistStockRef stock, LocalDate startDate, LocalDate endDate) {
+        var prices = kisStockPriceService.getDomesticStockDailyPrices(stock.getStockCode(), startDate, endDate);
+        persistenceService.saveDomesticStockPrices(stock.getStockCode(), prices);
+        return prices.stream()
+                .map(p -> DateFormatConstants.parseDate(p.stckBsopDate()))
+                .toList();
+    }
 }
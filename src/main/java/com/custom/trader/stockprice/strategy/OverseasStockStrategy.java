@@ -3,13 +3,14 @@ package com.custom.trader.stockprice.strategy;
 import com.custom.trader.common.constant.DateFormatConstants;
 import com.custom.trader.kis.service.KisStockPriceService;
 import com.custom.trader.stockprice.service.StockPricePersistenceService;
-import com.custom.trader.watchlist.entity.WatchlistStock;
+import com.custom.trader.watchlist.entity.WatchlistStockRef;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
 import java.util.Comparator;
+import java.util.List;
 
 import static com.custom.trader.stockprice.constant.StockPriceConstants.PAGE_SIZE;
 
@@ -25,7 +26,7 @@ public class OverseasStockStrategy implements StockPriceStrategy {
     private final StockPricePersistenceService persistenceService;
 
     @Override
-    public int collectDailyPrice(WatchlistStock stock, LocalDate startDate, LocalDate endDate) {
+    public int collectDailyPrice(WatchlistStockRef stock, LocalDate startDate, LocalDate endDate) {
         String exchangeCode = stock.getMarketCode().getExcd();
         var prices = kisStockPriceService.getOverseasStockDailyPrices(
                 stock.getStockCode(), exchangeCode, startDate, endDate);
@@ -36,7 +37,7 @@ public class OverseasStockStrategy implements StockPriceStrategy {
     }
 
     @Override
-    public void backfillHistoricalPrices(WatchlistStock stock, LocalDate startDate, LocalDate endDate) {
+    public void backfillHistoricalPrices(WatchlistStockRef stock, LocalDate startDate, LocalDate endDate) {
         String code = stock.getStockCode();
         String exchangeCode = stock.getMarketCode().getExcd();
         LocalDate currentEndDate = endDate;
@@ -66,4 +67,15 @@ public class OverseasStockStrategy implements StockPriceStrategy {
 
         log.debug("Total saved {} overseas stock prices for: {}", totalSaved, code);
     }
+
+    @Override
+    public List<LocalDate> backfillLatestPage(WatchlistStockRef stock, LocalDate startDate, LocalDate endDate) {
+        String exchangeCode = stock.getMarketCode().getExcd();
+        var prices = kisStockPriceService.getOverseasStockDailyPrices(
+                stock.getStockCode(), exchangeCode, startDate, endDate);
+        persistenceService.saveOverseasStockPrices(stock.getStockCode(), exchangeCode, prices);
+        return prices.stream()
+                .map(p -> DateFormatConstants.parseDate(p.xymd()))
+                .toList();
+    }
 }
@@ -1,8 +1,9 @@
 package com.custom.trader.stockprice.strategy;
 
-import com.custom.trader.watchlist.entity.WatchlistStock;
+import com.custom.trader.watchlist.entity.WatchlistStockRef;
 
 import java.time.LocalDate;
+import java.util.List;
 
 /**
  * AssetType별 주식 가격 수집 전략 인터페이스.
@@ -19,7 +20,7 @@ public interface StockPriceStrategy {
      * @param endDate 종료 날짜
      * @return 저장된 데이터 개수
      */
-    int collectDailyPrice(WatchlistStock stock, LocalDate startDate, LocalDate endDate);
+    int collectDailyPrice(WatchlistStockRef stock, LocalDate startDate, LocalDate endDate);
 
     /**
      * 과거 가격 백필.
@@ -28,5 +29,19 @@ public interface StockPriceStrategy {
      * @param startDate 시작 날짜
      * @param endDate 종료 날짜
      */
-    void backfillHistoricalPrices(WatchlistStock stock, LocalDate startDate, LocalDate endDate);
+    void backfillHistoricalPrices(WatchlistStockRef stock, LocalDate startDate, LocalDate endDate);
+
+    /**
+     * 종료일 이전(포함) 최근 가격 페이지(최대 {@code PAGE_SIZE}건)를 조회해 저장하고, 조회한 거래일을 반환합니다.
+     *
+     * <p>백필의 첫 페이지이자 상장일 확인({@code ListingDateResolver})의 탐침으로 사용합니다.
+     * 조회한 행은 저장되므로 백필은 반환된 가장 이른 날짜 이전만 이어서 조회하면 됩니다.
+     * 결과가 비어 있으면 기간 안에 거래가 없고, {@code PAGE_SIZE}개 미만이면 기간 안의 거래를 모두 조회한 것입니다.</p>
+     *
+     * @param stock 대상 종목
+     * @param startDate 시작 날짜
+     * @param endDate 종료 날짜
+     * @return 조회한 거래일 목록 (순서 무관)
+     */
+    List<LocalDate> backfillLatestPage(WatchlistStockRef stock, LocalDate startDate, LocalDate endDate);
 }
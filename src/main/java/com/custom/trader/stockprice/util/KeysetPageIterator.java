@@ -0,0 +1,71 @@
+package com.custom.trader.stockprice.util;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.BiFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Keyset(id &gt; lastId) 방식으로 페이지를 순회하는 Iterator.
+ *
+ * <p>OFFSET 페이징과 달리:
+ * <ul>
+ *   <li>페이지마다 인덱스 범위 조회만 하므로 뒤쪽 페이지도 비용이 일정</li>
+ *   <li>순회 중 앞쪽 행이 조건에서 빠지거나(예: backfillCompleted 변경) 추가되어도 다음 페이지가 밀리지 않음
+ *       (이미 지나간 id 이후부터 조회)</li>
+ * </ul>
+ * </p>
+ *
+ * <p>다음 페이지 존재 여부는 pageSize + 1건을 조회하여 판단하므로, 마지막 페이지에서 빈 조회를 한 번 더 하지 않습니다.
+ * 조회 함수는 id 오름차순으로 정렬된 결과를 반환해야 합니다.</p>
+ *
+ * @param <T> 행 타입
+ */
+public final class KeysetPageIterator<T> implements Iterator<List<T>> {
+
+    private final int pageSize;
+    private final BiFunction<Long, Integer, List<T>> fetchAfter;
+    private final ToLongFunction<T> idExtractor;
+
+    private long lastId;
+    private boolean hasMore = true;
+    private List<T> nextPage;
+
+    /**
+     * @param pageSize 페이지 크기
+     * @param fetchAfter (lastId, limit) → id &gt; lastId인 행을 id 오름차순으로 최대 limit건 조회
+     * @param idExtractor 행의 id 추출 함수
+     */
+    public KeysetPageIterator(int pageSize, BiFunction<Long, Integer, List<T>> fetchAfter, ToLongFunction<T> idExtractor) {
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("pageSize must be positive: " + pageSize);
+        }
+        this.pageSize = pageSize;
+        this.fetchAfter = fetchAfter;
+        this.idExtractor = idExtractor;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (nextPage == null && hasMore) {
+            List<T> rows = fetchAfter.apply(lastId, pageSize + 1);
+            hasMore = rows.size() > pageSize;
+            nextPage = hasMore ? rows.subList(0, pageSize) : rows;
+            if (!nextPage.isEmpty()) {
+                lastId = idExtractor.applyAsLong(nextPage.get(nextPage.size() - 1));
+            }
+        }
+        return nextPage != null && !nextPage.isEmpty();
+    }
+
+    @Override
+    public List<T> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        List<T> page = nextPage;
+        nextPage = null;
+        return page;
+    }
+}
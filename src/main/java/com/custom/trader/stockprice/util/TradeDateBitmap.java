@@ -0,0 +1,247 @@
+package com.custom.trader.stockprice.util;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * 종목 하나의 저장된 거래일 집합을 epoch-day 비트로 보관하는 청크 비트맵.
+ *
+ * <p>구조 (Roaring 비트맵과 같은 청크 방식):
+ * <ul>
+ *   <li>epoch-day를 {@value #CHUNK_DAYS}일 단위 청크로 나누고, 데이터가 있는 청크만 {@code long[16]}(128바이트)로 할당</li>
+ *   <li>상장 이후 구간만 청크가 생기므로 70년 이력도 약 25개 청크(수 KB)</li>
+ *   <li>조회/추가는 청크 탐색 + 비트 연산이며 {@link LocalDate} 박싱 집합을 만들지 않음</li>
+ * </ul>
+ * </p>
+ *
+ * <p>스레드 안전합니다 (메서드 단위 동기화).</p>
+ */
+public final class TradeDateBitmap {
+
+    /**
+     * 청크 하나가 담는 일 수.
+     */
+    static final int CHUNK_DAYS = 1024;
+
+    private static final int CHUNK_SHIFT = Integer.numberOfTrailingZeros(CHUNK_DAYS);
+    private static final int WORDS_PER_CHUNK = CHUNK_DAYS / Long.SIZE;
+
+    private final TreeMap<Long, long[]> chunks = new TreeMap<>();
+    private int cardinality;
+
+    public static TradeDateBitmap of(Collection<LocalDate> dates) {
+        TradeDateBitmap bitmap = new TradeDateBitmap();
+        bitmap.addAll(dates);
+        return bitmap;
+    }
+
+    /**
+     * 거래일을 추가합니다.
+     *
+     * @return 새로 추가되었으면 true
+     */
+    public synchronized boolean add(LocalDate date) {
+        long day = date.toEpochDay();
+        long[] words = chunks.computeIfAbsent(day >> CHUNK_SHIFT, key -> new long[WORDS_PER_CHUNK]);
+        int offset = (int) (day & (CHUNK_DAYS - 1));
+        long bit = 1L << offset;
+        int index = offset >>> 6;
+        if ((words[index] & bit) != 0) {
+            return false;
+        }
+        words[index] |= bit;
+        cardinality++;
+        return true;
+    }
+
+    public synchronized void addAll(Collection<LocalDate> dates) {
+        for (LocalDate date : dates) {
+            add(date);
+        }
+    }
+
+    /**
+     * 다른 비트맵의 거래일을 모두 추가합니다 (합집합, 워드 단위 OR).
+     */
+    public void addAll(TradeDateBitmap other) {
+        Map<Long, long[]> otherChunks = other.snapshot();
+        synchronized (this) {
+            otherChunks.forEach((key, words) -> {
+                long[] target = chunks.computeIfAbsent(key, k -> new long[WORDS_PER_CHUNK]);
+                for (int i = 0; i < WORDS_PER_CHUNK; i++) {
+                    cardinality += Long.bitCount(words[i] & ~target[i]);
+                    target[i] |= words[i];
+                }
+            });
+        }
+    }
+
+    /**
+     * 두 비트맵에 모두 있는 거래일을 추가합니다 (교집합을 합집합, 워드 단위 AND/OR).
+     */
+    public void addCommon(TradeDateBitmap left, TradeDateBitmap right) {
+        Map<Long, long[]> leftChunks = left.snapshot();
+        Map<Long, long[]> rightChunks = right.snapshot();
+        synchronized (this) {
+            leftChunks.forEach((key, leftWords) -> {
+                long[] rightWords = rightChunks.get(key);
+                if (rightWords == null) {
+                    return;
+                }
+                long[] target = null;
+                for (int i = 0; i < WORDS_PER_CHUNK; i++) {
+                    long common = leftWords[i] & rightWords[i];
+                    if (common == 0) {
+                        continue;
+                    }
+                    if (target == null) {
+                        target = chunks.computeIfAbsent(key, k -> new long[WORDS_PER_CHUNK]);
+                    }
+                    cardinality += Long.bitCount(common & ~target[i]);
+                    target[i] |= common;
+                }
+            });
+        }
+    }
+
+    public synchronized boolean contains(LocalDate date) {
+        long day = date.toEpochDay();
+        long[] words = chunks.get(day >> CHUNK_SHIFT);
+        if (words == null) {
+            return false;
+        }
+        int offset = (int) (day & (CHUNK_DAYS - 1));
+        return (words[offset >>> 6] & (1L << offset)) != 0;
+    }
+
+    /**
+     * 저장된 거래일 수.
+     */
+    public synchronized int size() {
+        return cardinality;
+    }
+
+    /**
+     * 기간(양 끝 포함) 안의 거래일 수를 반환합니다.
+     */
+    public synchronized int countBetween(LocalDate startDate, LocalDate endDate) {
+        long start = startDate.toEpochDay();
+        long end = endDate.toEpochDay();
+        if (start > end) {
+            return 0;
+        }
+        int count = 0;
+        for (Map.Entry<Long, long[]> chunk : chunks.subMap(start >> CHUNK_SHIFT, true, end >> CHUNK_SHIFT, true).entrySet()) {
+            long base = chunk.getKey() << CHUNK_SHIFT;
+            long[] words = chunk.getValue();
+            for (int i = 0; i < WORDS_PER_CHUNK; i++) {
+                long wordStart = base + (long) i * Long.SIZE;
+                long wordEnd = wordStart + Long.SIZE - 1;
+                if (wordEnd < start || wordStart > end) {
+                    continue;
+                }
+                long mask = -1L;
+                if (start > wordStart) {
+                    mask &= -1L << (start - wordStart);
+                }
+                if (end < wordEnd) {
+                    mask &= -1L >>> (wordEnd - end);
+                }
+                count += Long.bitCount(words[i] & mask);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 기간(양 끝 포함) 안의 거래일을 오름차순으로 반환합니다.
+     */
+    public synchronized List<LocalDate> datesBetween(LocalDate startDate, LocalDate endDate) {
+        long start = startDate.toEpochDay();
+        long end = endDate.toEpochDay();
+        List<LocalDate> dates = new ArrayList<>();
+        if (start > end) {
+            return dates;
+        }
+        for (Map.Entry<Long, long[]> chunk : chunks.subMap(start >> CHUNK_SHIFT, true, end >> CHUNK_SHIFT, true).entrySet()) {
+            long[] words = chunk.getValue();
+            for (int i = 0; i < WORDS_PER_CHUNK; i++) {
+                long word = words[i];
+                while (word != 0) {
+                    int bit = Long.numberOfTrailingZeros(word);
+                    word &= word - 1;
+                    LocalDate date = toDate(chunk.getKey(), i, bit);
+                    long day = date.toEpochDay();
+                    if (day >= start && day <= end) {
+                        dates.add(date);
+                    }
+                }
+            }
+        }
+        return dates;
+    }
+
+    /**
+     * 기대 거래일 중 저장되지 않은 날짜를 입력 순서대로 반환합니다.
+     *
+     * @param expectedDates 기대 거래일 (예: 시장 거래일 달력)
+     * @return 누락된 거래일
+     */
+    public synchronized List<LocalDate> missingFrom(Collection<LocalDate> expectedDates) {
+        List<LocalDate> missing = new ArrayList<>();
+        for (LocalDate date : expectedDates) {
+            if (!contains(date)) {
+                missing.add(date);
+            }
+        }
+        return missing;
+    }
+
+    /**
+     * 가장 이른 거래일.
+     */
+    public synchronized Optional<LocalDate> first() {
+        for (Map.Entry<Long, long[]> chunk : chunks.entrySet()) {
+            long[] words = chunk.getValue();
+            for (int i = 0; i < WORDS_PER_CHUNK; i++) {
+                if (words[i] != 0) {
+                    return Optional.of(toDate(chunk.getKey(), i, Long.numberOfTrailingZeros(words[i])));
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 가장 최근 거래일.
+     */
+    public synchronized Optional<LocalDate> last() {
+        for (Map.Entry<Long, long[]> chunk : chunks.descendingMap().entrySet()) {
+            long[] words = chunk.getValue();
+            for (int i = WORDS_PER_CHUNK - 1; i >= 0; i--) {
+                if (words[i] != 0) {
+                    return Optional.of(toDate(chunk.getKey(), i, Long.SIZE - 1 - Long.numberOfLeadingZeros(words[i])));
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 청크 복사본 (다른 비트맵과의 연산 시 두 잠금을 동시에 잡지 않도록).
+     */
+    private synchronized Map<Long, long[]> snapshot() {
+        Map<Long, long[]> copy = new TreeMap<>();
+        chunks.forEach((key, words) -> copy.put(key, words.clone()));
+        return copy;
+    }
+
+    private static LocalDate toDate(long chunkKey, int wordIndex, int bitIndex) {
+        return LocalDate.ofEpochDay((chunkKey << CHUNK_SHIFT) + (long) wordIndex * Long.SIZE + bitIndex);
+    }
+}
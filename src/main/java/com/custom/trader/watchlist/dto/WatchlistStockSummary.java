@@ -0,0 +1,21 @@
+package com.custom.trader.watchlist.dto;
+
+import com.custom.trader.common.enums.AssetType;
+import com.custom.trader.common.enums.MarketCode;
+import com.custom.trader.watchlist.entity.WatchlistStockRef;
+import lombok.Value;
+
+/**
+ * 가격 수집/백필 순회용 관심종목 Projection.
+ *
+ * <p>JPQL 생성자 표현식으로 필요한 컬럼만 조회하므로 영속성 컨텍스트에 등록되지 않고,
+ * 그룹 연관관계/감사 필드/스냅샷을 만들지 않습니다.</p>
+ */
+@Value
+public class WatchlistStockSummary implements WatchlistStockRef {
+
+    Long id;
+    String stockCode;
+    MarketCode marketCode;
+    AssetType assetType;
+}
@@ -6,6 +6,7 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -45,7 +46,26 @@ public class WatchlistGroup extends BaseEntity {
     @Column(length = 20)
     private String type;
 
+    /**
+     * 마지막으로 적용한 API 종목 목록의 SHA-256 지문 (hex).
+     *
+     * <p>동기화 시 API 종목 목록의 지문이 같으면 {@link #stocks} 컬렉션을 로딩하지 않고 건너뜁니다.
+     * null이면 아직 동기화되지 않은 그룹입니다.</p>
+     *
+     * @see com.custom.trader.watchlist.mapper.WatchlistMapper#fingerprint(java.util.Map)
+     */
+    @Column(name = "stocks_fingerprint", length = 64)
+    private String stocksFingerprint;
+
+    /**
+     * 그룹 소속 종목.
+     *
+     * <p>{@code @BatchSize}: 여러 그룹의 컬렉션을 차례로 접근하는 조회 경로에서
+     * 그룹별 SELECT 대신 IN 쿼리로 최대 100개 그룹의 종목을 한 번에 로딩합니다.
+     * 동기화는 {@code WatchlistGroupRepository#findWithStocksByIdIn}으로 변경된 그룹만 명시적으로 초기화합니다.</p>
+     */
     @OneToMany(mappedBy = "group", cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = 100)
     private List<WatchlistStock> stocks = new ArrayList<>();
 
     @Builder
@@ -60,6 +80,20 @@ public class WatchlistGroup extends BaseEntity {
         this.groupName = groupName;
     }
 
+    public void updateStocksFingerprint(String stocksFingerprint) {
+        this.stocksFingerprint = stocksFingerprint;
+    }
+
+    /**
+     * API 종목 목록이 마지막 동기화 이후 변경되지 않았는지 확인합니다.
+     *
+     * @param fingerprint 현재 API 종목 목록의 지문
+     * @return 저장된 지문과 같으면 true
+     */
+    public boolean hasSameStocksFingerprint(String fingerprint) {
+        return stocksFingerprint != null && stocksFingerprint.equals(fingerprint);
+    }
+
     public List<WatchlistStock> getStocks() {
         return Collections.unmodifiableList(stocks);
     }
@@ -18,12 +18,18 @@ import java.util.Objects;
  * 관심종목 그룹에 속한 개별 종목 정보를 저장한다.
  */
 @Entity
-@Table(name = "watchlist_stock", uniqueConstraints = {
-    @UniqueConstraint(columnNames = {"group_id", "stock_code"})
-})
+@Table(name = "watchlist_stock",
+    uniqueConstraints = {
+        @UniqueConstraint(columnNames = {"group_id", "stock_code"})
+    },
+    indexes = {
+        // Keyset 페이징: WHERE backfill_completed = ? AND id > ? ORDER BY id LIMIT ?
+        @Index(name = "idx_watchlist_stock_backfill_id", columnList = "backfill_completed, id")
+    }
+)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-public class WatchlistStock extends BaseEntity {
+public class WatchlistStock extends BaseEntity implements WatchlistStockRef {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -54,7 +60,8 @@ public class WatchlistStock extends BaseEntity {
      * <ul>
      *   <li><b>false (초기 상태)</b>: 종목이 처음 추가되었을 때, 히스토리 데이터 수집이 필요함</li>
      *   <li><b>true (백필 완료)</b>: {@link com.custom.trader.stockprice.service.StockPriceCollectionService#backfillHistoricalPrices()}에서
-     *       과거 데이터 수집이 완료되면 {@link #markBackfillCompleted()}를 통해 true로 변경됨</li>
+     *       과거 데이터 수집이 완료되면
+     *       {@link com.custom.trader.watchlist.repository.WatchlistStockRepository#markBackfillCompleted}(UPDATE 1문장)로 true로 변경됨</li>
      * </ul>
      * </p>
      *
@@ -0,0 +1,22 @@
+package com.custom.trader.watchlist.entity;
+
+import com.custom.trader.common.enums.AssetType;
+import com.custom.trader.common.enums.MarketCode;
+
+/**
+ * 가격 수집에 필요한 관심종목 식별 정보.
+ *
+ * <p>{@link WatchlistStock} 엔티티와 가벼운 조회 전용 Projection
+ * ({@link com.custom.trader.watchlist.dto.WatchlistStockSummary})이 함께 구현하여,
+ * 가격 수집/백필 경로가 관리 엔티티 없이도 동작하도록 합니다.</p>
+ */
+public interface WatchlistStockRef {
+
+    Long getId();
+
+    String getStockCode();
+
+    MarketCode getMarketCode();
+
+    AssetType getAssetType();
+}
@@ -0,0 +1,19 @@
+package com.custom.trader.watchlist.event;
+
+import java.util.List;
+
+/**
+ * 관심종목 동기화로 새 종목이 추가되었음을 알리는 이벤트.
+ *
+ * <p>동기화 트랜잭션 안에서 발행되며, 수신 측은 커밋 이후
+ * ({@code @TransactionalEventListener(phase = AFTER_COMMIT)}) 처리해야 추가된 행을 조회할 수 있습니다.</p>
+ *
+ * @param userId 사용자 ID
+ * @param stockCodes 추가된 종목 코드 (그룹 간 중복 제거)
+ */
+public record WatchlistStocksAddedEvent(String userId, List<String> stockCodes) {
+
+    public WatchlistStocksAddedEvent {
+        stockCodes = List.copyOf(stockCodes);
+    }
+}
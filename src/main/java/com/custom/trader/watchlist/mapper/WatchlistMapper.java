@@ -9,8 +9,13 @@ import com.custom.trader.watchlist.entity.WatchlistStock;
 import java.util.ArrayList;
 import lombok.extern.slf4j.Slf4j;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -23,6 +28,7 @@ import java.util.stream.Collectors;
  * <ul>
  *   <li>API 응답 → Entity 변환 (toWatchlistStock, toWatchlistGroup)</li>
  *   <li>List → Map 변환 (buildApiStockMap, buildDbStockMap)</li>
+ *   <li>API 종목 목록 변경 감지용 지문 계산 (fingerprint)</li>
  *   <li>방어적 데이터 처리 (null/blank 필터링, 중복 처리)</li>
  * </ul>
  */
@@ -129,4 +135,29 @@ public final class WatchlistMapper {
                         Function.identity()
                 ));
     }
+
+    /**
+     * 정규화된 API 종목 목록의 SHA-256 지문을 계산합니다.
+     *
+     * <p>{@link #buildApiStockMap}으로 null/중복이 정리된 Map을 종목 코드 순으로 정렬하여
+     * 저장 결과에 영향을 주는 모든 필드(시장 구분, 코드, 종목명, 거래소)를 해싱합니다.
+     * 따라서 API 응답 순서가 바뀌어도 지문은 같습니다.</p>
+     *
+     * @param apiStockMap buildApiStockMap 결과
+     * @return 64자 hex 문자열
+     */
+    public static String fingerprint(Map<String, WatchlistStockResponse.StockItem> apiStockMap) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 algorithm not available", e);
+        }
+        new TreeMap<>(apiStockMap).values().forEach(stock -> {
+            String line = stock.fidMrktClsCode() + '\u001F' + stock.jongCode() + '\u001F'
+                    + stock.htsKorIsnm() + '\u001F' + stock.exchCode() + '\n';
+            digest.update(line.getBytes(StandardCharsets.UTF_8));
+        });
+        return HexFormat.of().formatHex(digest.digest());
+    }
 }
@@ -1,8 +1,10 @@
 package com.custom.trader.watchlist.repository;
 
 import com.custom.trader.watchlist.entity.WatchlistGroup;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -47,6 +49,18 @@ public interface WatchlistGroupRepository extends JpaRepository<WatchlistGroup,
      */
     List<WatchlistGroup> findByUserIdAndGroupCodeIn(String userId, List<String> groupCodes);
 
+    /**
+     * 여러 그룹을 종목 컬렉션과 함께 한 번의 쿼리로 조회 (fetch join).
+     *
+     * <p><b>사용 사례:</b> 동기화 시 변경된 그룹들의 종목을 그룹별 LAZY 로딩(N+1) 없이 일괄 초기화.
+     * 이미 영속성 컨텍스트에 있는 그룹이면 같은 인스턴스의 {@code stocks}가 초기화됩니다.</p>
+     *
+     * @param ids 그룹 ID 목록
+     * @return 종목이 초기화된 그룹 목록
+     */
+    @EntityGraph(attributePaths = "stocks")
+    List<WatchlistGroup> findWithStocksByIdIn(Collection<Long> ids);
+
     /**
      * 사용자의 모든 그룹 삭제.
      *
@@ -0,0 +1,158 @@
+package com.custom.trader.watchlist.repository;
+
+import com.custom.trader.common.constant.DateFormatConstants;
+import com.custom.trader.common.enums.AssetType;
+import com.custom.trader.common.enums.MarketCode;
+import com.custom.trader.watchlist.entity.WatchlistStock;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 관심종목 대량 변경을 위한 JDBC 기반 집합 연산 Repository.
+ *
+ * <p>JPA 경로(cascade + orphanRemoval)는 종목 1건당 INSERT/DELETE 1문장을 실행합니다.
+ * 그룹 재구성처럼 변경이 많을 때는 이 Repository로 다음과 같이 적용합니다:
+ * <ul>
+ *   <li>추가: 다중 행 {@code INSERT ... VALUES (...), (...)} (청크당 1문장)</li>
+ *   <li>삭제: {@code DELETE ... WHERE id IN (...)} (청크당 1문장)</li>
+ *   <li>수정: 이름/시장/자산유형이 바뀐 종목만 JDBC 배치 UPDATE</li>
+ * </ul>
+ * </p>
+ *
+ * <p><b>주의:</b> 영속성 컨텍스트를 거치지 않으므로, 호출한 트랜잭션 안에서 이미 로딩된
+ * {@link WatchlistStock} 엔티티에는 변경이 반영되지 않습니다. 호출 이후 같은 트랜잭션에서
+ * 해당 그룹의 {@code stocks} 컬렉션을 다시 사용하지 않아야 합니다.</p>
+ *
+ * <p>{@code backfill_completed}는 INSERT 시 false로만 설정하고 UPDATE 대상에서 제외하여
+ * 기존 종목의 백필 상태를 보존합니다.</p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class WatchlistStockBulkRepository {
+
+    /**
+     * 문장당 최대 행 수 (MySQL placeholder/packet 크기 제한 대비).
+     */
+    static final int CHUNK_SIZE = 500;
+
+    private static final String INSERT_PREFIX = """
+            INSERT INTO watchlist_stock
+                (group_id, stock_code, stock_name, market_code, asset_type, backfill_completed, created_at, updated_at)
+            VALUES\s""";
+    private static final String INSERT_ROW = "(?, ?, ?, ?, ?, false, ?, ?)";
+    private static final String DELETE_PREFIX = "DELETE FROM watchlist_stock WHERE id IN (";
+    private static final String UPDATE_STOCK_INFO = """
+            UPDATE watchlist_stock
+               SET stock_name = ?, market_code = ?, asset_type = ?, updated_at = ?
+             WHERE id = ?""";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 종목 정보 변경 내역.
+     *
+     * @param id 종목 ID
+     * @param stockName 새 종목명
+     * @param marketCode 새 시장 코드
+     * @param assetType 새 자산 유형
+     */
+    public record StockInfoUpdate(Long id, String stockName, MarketCode marketCode, AssetType assetType) {
+    }
+
+    /**
+     * 그룹에 신규 종목을 다중 행 INSERT로 추가합니다 (backfill_completed=false).
+     *
+     * @param groupId 그룹 ID (이미 저장된 그룹이어야 함)
+     * @param stocks 추가할 종목 (저장되지 않은 엔티티를 값 전달용으로 사용)
+     * @return 추가된 행 수
+     */
+    public int insertAll(Long groupId, List<WatchlistStock> stocks) {
+        Timestamp now = now();
+        int inserted = 0;
+        for (List<WatchlistStock> chunk : chunks(stocks)) {
+            String sql = INSERT_PREFIX + String.join(", ", Collections.nCopies(chunk.size(), INSERT_ROW));
+            List<Object> args = new ArrayList<>(chunk.size() * 7);
+            for (WatchlistStock stock : chunk) {
+                args.add(groupId);
+                args.add(stock.getStockCode());
+                args.add(stock.getStockName());
+                args.add(codeOf(stock.getMarketCode()));
+                args.add(codeOf(stock.getAssetType()));
+                args.add(now);
+                args.add(now);
+            }
+            inserted += jdbcTemplate.update(sql, args.toArray());
+        }
+        return inserted;
+    }
+
+    /**
+     * ID 목록에 해당하는 종목을 {@code DELETE ... WHERE id IN (...)}으로 삭제합니다.
+     *
+     * @param ids 삭제할 종목 ID
+     * @return 삭제된 행 수
+     */
+    public int deleteAllByIdIn(List<Long> ids) {
+        int deleted = 0;
+        for (List<Long> chunk : chunks(ids)) {
+            String sql = DELETE_PREFIX + String.join(", ", Collections.nCopies(chunk.size(), "?")) + ")";
+            deleted += jdbcTemplate.update(sql, chunk.toArray());
+        }
+        return deleted;
+    }
+
+    /**
+     * 종목명/시장 코드/자산 유형을 JDBC 배치 UPDATE로 갱신합니다 (backfill_completed는 변경하지 않음).
+     *
+     * @param updates 변경 내역
+     * @return 갱신된 행 수
+     */
+    public int updateStockInfo(List<StockInfoUpdate> updates) {
+        if (updates.isEmpty()) {
+            return 0;
+        }
+        Timestamp now = now();
+        int[][] results = jdbcTemplate.batchUpdate(UPDATE_STOCK_INFO, updates, CHUNK_SIZE, (ps, update) -> {
+            ps.setString(1, update.stockName());
+            ps.setObject(2, codeOf(update.marketCode()));
+            ps.setObject(3, codeOf(update.assetType()));
+            ps.setTimestamp(4, now);
+            ps.setLong(5, update.id());
+        });
+        int updated = 0;
+        for (int[] batch : results) {
+            for (int count : batch) {
+                // 드라이버가 SUCCESS_NO_INFO(-2)를 반환하면 1건으로 집계
+                updated += count >= 0 ? count : 1;
+            }
+        }
+        return updated;
+    }
+
+    private static <T> List<List<T>> chunks(List<T> items) {
+        List<List<T>> chunks = new ArrayList<>();
+        for (int from = 0; from < items.size(); from += CHUNK_SIZE) {
+            chunks.add(items.subList(from, Math.min(items.size(), from + CHUNK_SIZE)));
+        }
+        return chunks;
+    }
+
+    private static Integer codeOf(MarketCode marketCode) {
+        return marketCode != null ? marketCode.getCode() : null;
+    }
+
+    private static Integer codeOf(AssetType assetType) {
+        return assetType != null ? assetType.getCode() : null;
+    }
+
+    private static Timestamp now() {
+        return Timestamp.valueOf(LocalDateTime.now(DateFormatConstants.KST_ZONE_ID));
+    }
+}
@@ -1,10 +1,18 @@
 package com.custom.trader.watchlist.repository;
 
+import com.custom.trader.common.enums.AssetType;
+import com.custom.trader.common.enums.MarketCode;
+import com.custom.trader.watchlist.dto.WatchlistStockSummary;
 import com.custom.trader.watchlist.entity.WatchlistStock;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface WatchlistStockRepository extends JpaRepository<WatchlistStock, Long> {
@@ -15,5 +23,83 @@ public interface WatchlistStockRepository extends JpaRepository<WatchlistStock,
 
     List<WatchlistStock> findByBackfillCompleted(boolean backfillCompleted);
 
-    Slice<WatchlistStock> findByBackfillCompleted(boolean backfillCompleted, Pageable pageable);
+    /**
+     * Keyset 페이징 조회: id가 {@code id}보다 큰 종목을 id 오름차순으로 최대 {@code limit}건 조회.
+     *
+     * <p>OFFSET 페이징과 달리 순회 중 backfillCompleted가 바뀌어도 다음 페이지가 밀리지 않습니다.
+     * 엔티티 대신 {@link WatchlistStockSummary} Projection을 반환하여 영속성 컨텍스트에 쌓이지 않습니다.</p>
+     *
+     * @param backfillCompleted 백필 완료 여부
+     * @param id 직전 페이지의 마지막 id (첫 페이지는 0)
+     * @param limit 최대 조회 건수
+     * @return 종목 Projection 목록 (id 오름차순)
+     */
+    @Query("SELECT new com.custom.trader.watchlist.dto.WatchlistStockSummary(s.id, s.stockCode, s.marketCode, s.assetType) "
+            + "FROM WatchlistStock s WHERE s.backfillCompleted = :backfillCompleted AND s.id > :id ORDER BY s.id")
+    List<WatchlistStockSummary> findSummariesByBackfillCompletedAfterId(@Param("backfillCompleted") boolean backfillCompleted, @Param("id") Long id, Limit limit);
+
+    /**
+     * 백필 완료 플래그를 UPDATE 1문장으로 설정합니다.
+     *
+     * <p>분리된 엔티티를 {@code save()}(merge)하면 SELECT 후 영속성 컨텍스트에 적재되므로,
+     * 플래그 하나만 갱신하는 백필 완료 처리는 이 메서드를 사용합니다.
+     * 벌크 UPDATE는 {@code @PreUpdate}를 거치지 않으므로 수정 시각을 직접 전달합니다.</p>
+     *
+     * @param id 종목 ID
+     * @param updatedAt 수정 시각
+     * @return 갱신된 행 수 (종목이 삭제된 경우 0)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE WatchlistStock s SET s.backfillCompleted = true, s.updatedAt = :updatedAt WHERE s.id = :id")
+    int markBackfillCompleted(@Param("id") Long id, @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * 같은 종목(instrument)의 다른 그룹 행도 백필 완료로 설정합니다.
+     *
+     * <p>같은 종목이 여러 그룹에 있으면 행마다 백필하지 않도록, 한 행의 백필이 끝나면 나머지 미완료 행을 함께 완료 처리합니다.</p>
+     *
+     * @param id 백필한 행 ID (제외)
+     * @param assetType 자산 유형
+     * @param marketCode 시장 코드 (null이면 시장 조건 없음 — 국내)
+     * @param stockCode 종목 코드
+     * @param updatedAt 수정 시각
+     * @return 갱신된 행 수
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE WatchlistStock s SET s.backfillCompleted = true, s.updatedAt = :updatedAt "
+            + "WHERE s.id <> :id AND s.assetType = :assetType AND s.stockCode = :stockCode "
+            + "AND (:marketCode IS NULL OR s.marketCode = :marketCode) AND s.backfillCompleted = false")
+    int markSiblingsBackfillCompleted(@Param("id") Long id, @Param("assetType") AssetType assetType,
+                                      @Param("marketCode") MarketCode marketCode, @Param("stockCode") String stockCode,
+                                      @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * 사용자의 백필 미완료 종목 중 주어진 코드의 행을 id 오름차순으로 조회합니다.
+     *
+     * <p>신규 종목 워커가 동기화 커밋 직후 호출하므로, 읽기 복제본 지연으로 방금 추가된 행을 놓치지 않도록
+     * 읽기 전용이 아닌 트랜잭션(primary)에서 조회합니다.</p>
+     *
+     * @param userId 사용자 ID
+     * @param stockCodes 종목 코드
+     * @return 종목 Projection 목록 (id 오름차순)
+     */
+    @Transactional
+    @Query("SELECT new com.custom.trader.watchlist.dto.WatchlistStockSummary(s.id, s.stockCode, s.marketCode, s.assetType) "
+            + "FROM WatchlistStock s WHERE s.group.userId = :userId AND s.stockCode IN :stockCodes "
+            + "AND s.backfillCompleted = false ORDER BY s.id")
+    List<WatchlistStockSummary> findBackfillPendingSummaries(@Param("userId") String userId,
+                                                             @Param("stockCodes") Collection<String> stockCodes);
+
+    /**
+     * 주어진 id 중 백필 미완료 행을 id 오름차순으로 조회합니다 (primary에서 조회).
+     *
+     * @param ids 종목 ID
+     * @return 종목 Projection 목록 (id 오름차순)
+     */
+    @Transactional
+    @Query("SELECT new com.custom.trader.watchlist.dto.WatchlistStockSummary(s.id, s.stockCode, s.marketCode, s.assetType) "
+            + "FROM WatchlistStock s WHERE s.id IN :ids AND s.backfillCompleted = false ORDER BY s.id")
+    List<WatchlistStockSummary> findBackfillPendingSummariesByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -1,5 +1,6 @@
 package com.custom.trader.watchlist.scheduler;
 
+import com.custom.trader.kis.client.KisRetryPolicy;
 import com.custom.trader.watchlist.service.WatchlistService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -27,6 +28,7 @@ import static com.custom.trader.common.constant.DateFormatConstants.KST_ZONE;
  *
  * <p><b>예외 처리:</b></p>
  * <ul>
+ *   <li>KIS API 일시적 오류: {@link KisRetryPolicy}에 따라 재시도 (실행마다 별도 재시도 예산)</li>
  *   <li>동기화 실패 시 예외를 로깅하고 계속 진행 (다음 스케줄 때 재시도)</li>
  *   <li>부분 실패: DB 트랜잭션 롤백으로 데이터 일관성 유지</li>
  * </ul>
@@ -40,13 +42,14 @@ import static com.custom.trader.common.constant.DateFormatConstants.KST_ZONE;
 public class WatchlistScheduler {
 
     private final WatchlistService watchlistService;
+    private final KisRetryPolicy kisRetryPolicy;
 
     @Scheduled(cron = "0 0 8,18 * * ?", zone = KST_ZONE)
     @SchedulerLock(name = "syncWatchlist", lockAtMostFor = "PT1H", lockAtLeastFor = "PT30M")
     public void syncWatchlist() {
         log.info("Starting scheduled watchlist sync");
         try {
-            watchlistService.syncWatchlist();
+            kisRetryPolicy.runWithBudget("syncWatchlist", watchlistService::syncWatchlist);
             log.info("Scheduled watchlist sync completed successfully");
         } catch (Exception e) {
             log.error("Scheduled watchlist sync failed", e);
@@ -3,22 +3,38 @@ package com.custom.trader.watchlist.service;
 import com.custom.trader.common.enums.AssetType;
 import com.custom.trader.common.enums.MarketCode;
 import com.custom.trader.common.util.LogMaskingUtil;
+import com.custom.trader.config.KisFetchExecutorConfig;
+import com.custom.trader.kis.client.KisPriorityContext;
+import com.custom.trader.kis.client.KisRequestPriority;
+import com.custom.trader.kis.client.KisRetryBudget;
+import com.custom.trader.kis.client.KisRetryBudgetContext;
 import com.custom.trader.kis.config.KisProperties;
 import com.custom.trader.kis.dto.watchlist.WatchlistGroupResponse;
 import com.custom.trader.kis.dto.watchlist.WatchlistStockResponse;
 import com.custom.trader.kis.service.KisWatchlistService;
 import com.custom.trader.watchlist.entity.WatchlistGroup;
 import com.custom.trader.watchlist.entity.WatchlistStock;
+import com.custom.trader.watchlist.event.WatchlistStocksAddedEvent;
 import com.custom.trader.watchlist.mapper.WatchlistMapper;
 import com.custom.trader.watchlist.repository.WatchlistGroupRepository;
-import lombok.RequiredArgsConstructor;
+import com.custom.trader.watchlist.repository.WatchlistStockBulkRepository;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionOperations;
 
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -36,14 +52,17 @@ import java.util.stream.Collectors;
  * <ol>
  *   <li>API에서 모든 그룹 조회 (getWatchlistGroups)</li>
  *   <li>API에서 각 그룹의 종목 조회 (getStocksByGroup)</li>
+ *   <li>그룹별 API 종목 목록 지문(SHA-256)이 저장된 값과 같으면 해당 그룹은 건너뜀</li>
  *   <li>DB의 기존 데이터와 비교 (diffDetection)</li>
- *   <li>변경사항 적용 (Upsert: Create/Update, Delete)</li>
+ *   <li>변경사항 적용 (Upsert: Create/Update, Delete) — 대량 변경은 JDBC 집합 연산</li>
  *   <li>백필 플래그 보존 (backfillCompleted 상태 유지)</li>
+ *   <li>신규 종목이 있으면 {@link WatchlistStocksAddedEvent} 발행 (커밋 후 즉시 백필)</li>
  * </ol>
  *
  * <p><b>트랜잭션 처리:</b></p>
  * <ul>
- *   <li>전체 동기화 작업이 하나의 트랜잭션으로 처리 (원자성 보장)</li>
+ *   <li>API 조회는 트랜잭션 밖에서 공용 KIS 조회 풀({@link KisFetchExecutorConfig})로 그룹별 동시 수행 (네트워크 대기 중 DB 커넥션 미점유)</li>
+ *   <li>DB 적용(diff/apply)만 하나의 트랜잭션으로 처리 (원자성 보장)</li>
  *   <li>부분 실패 시 전체 롤백 (데이터 일관성)</li>
  *   <li>Cascade 삭제: 그룹 삭제 시 포함된 모든 종목도 삭제</li>
  * </ul>
@@ -54,20 +73,58 @@ import java.util.stream.Collectors;
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class WatchlistService {
 
+    /**
+     * 그룹별 종목 조회 동시성.
+     *
+     * <p>초당 한도는 Rate Limiter가 지키므로, 이 값은 응답 대기 시간을 겹치게 하는 정도로만 둡니다.</p>
+     */
+    static final int FETCH_CONCURRENCY = 4;
+
+    /**
+     * 그룹 1개의 변경(추가+삭제+수정) 건수가 이 값 이상이면 JDBC 집합 연산으로 적용.
+     *
+     * <p>소량 변경은 엔티티 경로(dirty checking, orphanRemoval)가 단순하고 문장 수 차이도 작습니다.</p>
+     */
+    static final int BULK_APPLY_THRESHOLD = 50;
+
     private final KisWatchlistService kisWatchlistService;
     private final WatchlistGroupRepository watchlistGroupRepository;
+    private final WatchlistStockBulkRepository watchlistStockBulkRepository;
     private final KisProperties kisProperties;
+    private final TransactionOperations transactionOperations;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ExecutorService fetchExecutor;
+
+    public WatchlistService(KisWatchlistService kisWatchlistService,
+                            WatchlistGroupRepository watchlistGroupRepository,
+                            WatchlistStockBulkRepository watchlistStockBulkRepository,
+                            KisProperties kisProperties,
+                            TransactionOperations transactionOperations,
+                            ApplicationEventPublisher eventPublisher,
+                            @Qualifier(KisFetchExecutorConfig.KIS_FETCH_EXECUTOR) ExecutorService fetchExecutor) {
+        this.kisWatchlistService = kisWatchlistService;
+        this.watchlistGroupRepository = watchlistGroupRepository;
+        this.watchlistStockBulkRepository = watchlistStockBulkRepository;
+        this.kisProperties = kisProperties;
+        this.transactionOperations = transactionOperations;
+        this.eventPublisher = eventPublisher;
+        this.fetchExecutor = fetchExecutor;
+    }
 
     /**
      * 관심종목 3-way 동기화를 수행합니다.
      *
-     * <p><b>성능 노트:</b> KIS API가 그룹/종목 조회를 분리 제공하므로
-     * API 레벨에서 N+1 패턴이 불가피합니다. DB LAZY 로딩도 이를 반영한 설계입니다.</p>
+     * <p><b>2단계 처리:</b></p>
+     * <ol>
+     *   <li><b>Fetch (트랜잭션 밖)</b>: 그룹 목록 조회 후 그룹별 종목을 최대 {@value #FETCH_CONCURRENCY}개 동시 조회.
+     *       초당 한도는 {@code KisRestClient}의 Rate Limiter가 보장</li>
+     *   <li><b>Apply (짧은 트랜잭션)</b>: 조회 결과로 DB diff/적용만 수행</li>
+     * </ol>
+     *
+     * <p>API 조회 중 하나라도 실패하면 DB는 변경하지 않습니다.</p>
      */
-    @Transactional
     public void syncWatchlist() {
         String userId = kisProperties.userId();
         log.info("Starting watchlist sync for user: {}", LogMaskingUtil.maskUserId(userId));
@@ -76,38 +133,120 @@ public class WatchlistService {
         List<WatchlistGroupResponse.GroupItem> apiGroups = kisWatchlistService.getWatchlistGroups();
         log.info("Found {} groups from API", apiGroups.size());
 
-        // 2. API 그룹 코드 추출
+        if (apiGroups.isEmpty()) {
+            transactionOperations.executeWithoutResult(status -> watchlistGroupRepository.deleteByUserId(userId));
+            log.info("API returned empty groups, deleted all groups");
+            return;
+        }
+
+        // 2. 그룹별 종목 동시 조회 (트랜잭션 밖)
+        List<List<WatchlistStockResponse.StockItem>> apiStocksByGroup = fetchStocksConcurrently(apiGroups);
+
+        // 3. 조회 결과 적용 (짧은 트랜잭션)
+        transactionOperations.executeWithoutResult(status -> applySync(userId, apiGroups, apiStocksByGroup));
+        log.info("Watchlist sync completed for user: {}", LogMaskingUtil.maskUserId(userId));
+    }
+
+    /**
+     * 그룹별 종목을 {@value #FETCH_CONCURRENCY}개씩 동시에 조회합니다.
+     *
+     * <p>작업 스레드에는 호출 스레드의 {@link KisPriorityContext} 우선순위와 {@link KisRetryBudgetContext} 재시도 예산을
+     * 다시 지정합니다. 조회 하나가 실패하면 같은 묶음의 남은 조회는 취소합니다.</p>
+     *
+     * @param apiGroups API 그룹 목록
+     * @return {@code apiGroups}와 같은 순서의 그룹별 종목 목록
+     */
+    private List<List<WatchlistStockResponse.StockItem>> fetchStocksConcurrently(
+            List<WatchlistGroupResponse.GroupItem> apiGroups) {
+        KisRequestPriority priority = KisPriorityContext.current();
+        KisRetryBudget retryBudget = KisRetryBudgetContext.current();
+        List<List<WatchlistStockResponse.StockItem>> results = new ArrayList<>(apiGroups.size());
+        for (int from = 0; from < apiGroups.size(); from += FETCH_CONCURRENCY) {
+            List<Future<List<WatchlistStockResponse.StockItem>>> futures = apiGroups
+                    .subList(from, Math.min(apiGroups.size(), from + FETCH_CONCURRENCY))
+                    .stream()
+                    .map(apiGroup -> fetchExecutor.submit(() -> KisRetryBudgetContext.call(retryBudget,
+                            () -> KisPriorityContext.call(priority,
+                                    () -> kisWatchlistService.getStocksByGroup(apiGroup.interGrpCode())))))
+                    .toList();
+            try {
+                for (Future<List<WatchlistStockResponse.StockItem>> future : futures) {
+                    results.add(await(future));
+                }
+            } finally {
+                futures.forEach(future -> future.cancel(true));
+            }
+        }
+        return results;
+    }
+
+    private static <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Watchlist stock fetch failed", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while fetching watchlist stocks", e);
+        }
+    }
+
+    private void applySync(String userId,
+                           List<WatchlistGroupResponse.GroupItem> apiGroups,
+                           List<List<WatchlistStockResponse.StockItem>> apiStocksByGroup) {
+        // 1. API 그룹 코드 추출
         List<String> apiGroupCodes = apiGroups.stream()
                 .map(WatchlistGroupResponse.GroupItem::interGrpCode)
                 .toList();
 
-        // 3. API에 없는 그룹 삭제 (Cascade로 종목도 함께 삭제)
-        if (!apiGroupCodes.isEmpty()) {
-            watchlistGroupRepository.deleteByUserIdAndGroupCodeNotIn(userId, apiGroupCodes);
-            log.info("Deleted groups not in API response");
-        } else {
-            watchlistGroupRepository.deleteByUserId(userId);
-            log.info("API returned empty groups, deleted all groups");
-            return;
-        }
+        // 2. API에 없는 그룹 삭제 (Cascade로 종목도 함께 삭제)
+        watchlistGroupRepository.deleteByUserIdAndGroupCodeNotIn(userId, apiGroupCodes);
+        log.info("Deleted groups not in API response");
 
-        // 4. DB에서 API에 있는 그룹만 조회
+        // 3. DB에서 API에 있는 그룹만 조회
         Map<String, WatchlistGroup> existingGroups = watchlistGroupRepository
                 .findByUserIdAndGroupCodeIn(userId, apiGroupCodes)
                 .stream()
                 .collect(Collectors.toMap(WatchlistGroup::getGroupCode, Function.identity()));
 
-        // 5. 각 그룹별 동기화
-        // 의도된 순차 호출: KIS API는 그룹별 종목 조회 엔드포인트만 제공하므로 그룹 단위 순차 호출이 필수
+        // 4. 그룹 생성/이름 갱신 및 변경 감지
         List<WatchlistGroup> groupsToSave = new ArrayList<>();
-        for (WatchlistGroupResponse.GroupItem apiGroup : apiGroups) {
-            WatchlistGroup group = syncGroup(userId, apiGroup, existingGroups);
+        List<PendingStockSync> changedGroups = new ArrayList<>();
+        for (int i = 0; i < apiGroups.size(); i++) {
+            WatchlistGroup group = syncGroup(userId, apiGroups.get(i), existingGroups);
             groupsToSave.add(group);
+            detectStockChanges(group, apiStocksByGroup.get(i)).ifPresent(changedGroups::add);
+        }
+
+        // 5. 변경된 기존 그룹의 종목을 한 번의 쿼리로 초기화 (그룹별 LAZY 로딩 방지)
+        List<Long> changedGroupIds = changedGroups.stream()
+                .map(pending -> pending.group().getId())
+                .filter(Objects::nonNull)
+                .toList();
+        if (!changedGroupIds.isEmpty()) {
+            watchlistGroupRepository.findWithStocksByIdIn(changedGroupIds);
         }
 
-        // 6. 배치 저장
+        // 6. 변경된 그룹만 종목 3-way 동기화
+        Set<String> addedStockCodes = new LinkedHashSet<>();
+        for (PendingStockSync pending : changedGroups) {
+            addedStockCodes.addAll(syncStocks(pending.group(), pending.apiStockMap()));
+            pending.group().updateStocksFingerprint(pending.fingerprint());
+            log.info("Synced group '{}' with {} stocks", pending.group().getGroupName(), pending.apiStockMap().size());
+        }
+        log.info("Synced {} changed groups, skipped {} unchanged groups",
+                changedGroups.size(), apiGroups.size() - changedGroups.size());
+
+        // 7. 배치 저장
         watchlistGroupRepository.saveAll(groupsToSave);
-        log.info("Watchlist sync completed for user: {}", LogMaskingUtil.maskUserId(userId));
+
+        // 8. 신규 종목 알림 (수신 측은 커밋 이후 처리)
+        if (!addedStockCodes.isEmpty()) {
+            eventPublisher.publishEvent(new WatchlistStocksAddedEvent(userId, List.copyOf(addedStockCodes)));
+        }
     }
 
     private WatchlistGroup syncGroup(String userId,
@@ -126,17 +265,35 @@ public class WatchlistService {
 
         // 2. 그룹명 업데이트
         group.updateGroupName(groupItem.interGrpName());
+        return group;
+    }
 
-        // 3. API에서 종목 목록 조회
-        List<WatchlistStockResponse.StockItem> apiStocks =
-                kisWatchlistService.getStocksByGroup(groupItem.interGrpCode());
-
-        // 4. 종목 3-way 동기화 (핵심 개선)
-        int syncedCount = syncStocks(group, apiStocks);
+    /**
+     * 변경 감지: API 종목 목록 지문이 저장된 지문과 같으면 {@code stocks} 컬렉션을 로딩하지 않고 건너뜁니다.
+     *
+     * @param group 관심종목 그룹
+     * @param apiStocks API 원본 종목 목록
+     * @return 동기화가 필요하면 정규화된 종목 Map과 새 지문
+     */
+    private Optional<PendingStockSync> detectStockChanges(WatchlistGroup group,
+                                                          List<WatchlistStockResponse.StockItem> apiStocks) {
+        Map<String, WatchlistStockResponse.StockItem> apiStockMap =
+                WatchlistMapper.buildApiStockMap(apiStocks, group.getGroupCode());
+        String fingerprint = WatchlistMapper.fingerprint(apiStockMap);
+        if (group.hasSameStocksFingerprint(fingerprint)) {
+            log.info("Group '{}' unchanged ({} stocks), skipping stock sync",
+                    group.getGroupName(), apiStockMap.size());
+            return Optional.empty();
+        }
+        return Optional.of(new PendingStockSync(group, apiStockMap, fingerprint));
+    }
 
-        log.info("Synced group '{}' with {} stocks (from {} raw API items)",
-                groupItem.interGrpName(), syncedCount, apiStocks.size());
-        return group;
+    /**
+     * 종목 동기화가 필요한 그룹과 정규화된 API 종목 목록.
+     */
+    private record PendingStockSync(WatchlistGroup group,
+                                    Map<String, WatchlistStockResponse.StockItem> apiStockMap,
+                                    String fingerprint) {
     }
 
     /**
@@ -148,25 +305,113 @@ public class WatchlistService {
      *   <li>DB에만 있는 종목: removeStock() 호출 (orphanRemoval로 자동 삭제)</li>
      * </ul>
      *
+     * <p>변경 건수가 {@value #BULK_APPLY_THRESHOLD}건 이상이면 엔티티 단위 대신
+     * {@link #applyBulk}로 집합 연산을 수행합니다.</p>
+     *
      * <p><b>방어적 처리:</b> API가 null stockCode 또는 중복 stockCode를 반환할 경우
-     * 해당 데이터를 무시하고 경고 로그를 기록한다.</p>
+     * 해당 데이터를 무시하고 경고 로그를 기록한다 ({@link WatchlistMapper#buildApiStockMap}).</p>
      *
-     * @return 실제로 동기화된 종목 개수 (null/중복 제거 후)
+     * @param group 관심종목 그룹
+     * @param apiStockMap null/중복이 정리된 API 종목 Map
+     * @return 새로 추가된 종목 코드
      */
-    private int syncStocks(WatchlistGroup group, List<WatchlistStockResponse.StockItem> apiStocks) {
-        // 1. API/DB 종목을 Map으로 변환 (방어적 처리 포함)
-        Map<String, WatchlistStockResponse.StockItem> apiStockMap =
-                WatchlistMapper.buildApiStockMap(apiStocks, group.getGroupCode());
+    private List<String> syncStocks(WatchlistGroup group, Map<String, WatchlistStockResponse.StockItem> apiStockMap) {
+        // 1. DB 종목을 Map으로 변환
         Map<String, WatchlistStock> dbStockMap =
                 WatchlistMapper.buildDbStockMap(group.getStocks());
 
-        // 2. DB에만 있는 종목 삭제 (API에 없는 종목)
-        removeObsoleteStocks(group, apiStockMap, dbStockMap);
+        // 2. 대량 변경은 집합 연산으로 적용
+        StockDiff diff = diffStocks(apiStockMap, dbStockMap);
+        if (diff.size() >= BULK_APPLY_THRESHOLD) {
+            applyBulk(group, diff);
+        } else {
+            // 3. DB에만 있는 종목 삭제 (API에 없는 종목)
+            removeObsoleteStocks(group, apiStockMap, dbStockMap);
 
-        // 3. 추가/업데이트할 종목 처리 (API 기준)
-        upsertStocks(group, apiStockMap, dbStockMap);
+            // 4. 추가/업데이트할 종목 처리 (API 기준)
+            upsertStocks(group, apiStockMap, dbStockMap);
+        }
+        return diff.added().stream().map(WatchlistStock::getStockCode).toList();
+    }
+
+    /**
+     * API와 DB 종목을 비교하여 추가/삭제/실제 정보가 바뀐 종목을 분류합니다.
+     *
+     * @param apiStockMap API에서 조회한 종목 Map
+     * @param dbStockMap DB에 있는 종목 Map
+     * @return 변경 내역
+     */
+    private StockDiff diffStocks(Map<String, WatchlistStockResponse.StockItem> apiStockMap,
+                                 Map<String, WatchlistStock> dbStockMap) {
+        List<WatchlistStock> removed = dbStockMap.values().stream()
+                .filter(dbStock -> !apiStockMap.containsKey(dbStock.getStockCode()))
+                .toList();
+        List<WatchlistStock> added = new ArrayList<>();
+        List<WatchlistStockBulkRepository.StockInfoUpdate> updated = new ArrayList<>();
 
-        return apiStockMap.size();
+        for (WatchlistStockResponse.StockItem apiStock : apiStockMap.values()) {
+            MarketCode marketCode = MarketCode.fromExcdOrDefault(apiStock.exchCode(), MarketCode.KRX);
+            AssetType assetType = AssetType.fromFidMrktClsCode(apiStock.fidMrktClsCode());
+            WatchlistStock dbStock = dbStockMap.get(apiStock.jongCode());
+
+            if (dbStock == null) {
+                added.add(WatchlistStock.builder()
+                        .stockCode(apiStock.jongCode())
+                        .stockName(apiStock.htsKorIsnm())
+                        .marketCode(marketCode)
+                        .assetType(assetType)
+                        .build());
+            } else if (!Objects.equals(dbStock.getStockName(), apiStock.htsKorIsnm())
+                    || dbStock.getMarketCode() != marketCode
+                    || dbStock.getAssetType() != assetType) {
+                updated.add(new WatchlistStockBulkRepository.StockInfoUpdate(
+                        dbStock.getId(), apiStock.htsKorIsnm(), marketCode, assetType));
+            }
+        }
+        return new StockDiff(added, removed, updated);
+    }
+
+    /**
+     * 변경 내역을 JDBC 집합 연산으로 적용합니다.
+     *
+     * <p>다중 행 INSERT 1회, {@code DELETE ... IN} 1회, 바뀐 종목만 배치 UPDATE.
+     * backfill_completed는 UPDATE 대상이 아니므로 기존 종목의 백필 상태가 보존됩니다.
+     * 신규 그룹은 종목 INSERT 전에 그룹을 먼저 저장하여 ID를 확보합니다.</p>
+     *
+     * <p>영속성 컨텍스트를 거치지 않으므로 이후 이 그룹의 {@code stocks} 컬렉션은 갱신 전 상태로 남습니다.
+     * 동기화 트랜잭션은 적용 직후 종료되므로 컬렉션을 다시 사용하지 않습니다.</p>
+     *
+     * @param group 관심종목 그룹
+     * @param diff 변경 내역
+     */
+    private void applyBulk(WatchlistGroup group, StockDiff diff) {
+        if (group.getId() == null) {
+            watchlistGroupRepository.save(group);
+        }
+        if (!diff.removed().isEmpty()) {
+            watchlistStockBulkRepository.deleteAllByIdIn(
+                    diff.removed().stream().map(WatchlistStock::getId).toList());
+        }
+        if (!diff.added().isEmpty()) {
+            watchlistStockBulkRepository.insertAll(group.getId(), diff.added());
+        }
+        if (!diff.updated().isEmpty()) {
+            watchlistStockBulkRepository.updateStockInfo(diff.updated());
+        }
+        log.info("Bulk-applied group '{}': {} added, {} removed, {} updated",
+                group.getGroupName(), diff.added().size(), diff.removed().size(), diff.updated().size());
+    }
+
+    /**
+     * 그룹 1개의 종목 변경 내역.
+     */
+    private record StockDiff(List<WatchlistStock> added,
+                             List<WatchlistStock> removed,
+                             List<WatchlistStockBulkRepository.StockInfoUpdate> updated) {
+
+        int size() {
+            return added.size() + removed.size() + updated.size();
+        }
     }
 
     /**
@@ -0,0 +1,163 @@
+package com.custom.trader.common.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+import static com.custom.trader.common.datasource.ReplicaLagMonitor.REPLICA_STATUS_SQL;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * ReplicaLagMonitor 단위 테스트.
+ *
+ * <p>복제 상태 조회 결과에 따른 라우팅 가능 여부와 메트릭을 검증합니다.</p>
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReplicaLagMonitor 단위 테스트")
+class ReplicaLagMonitorTest {
+
+    private static final Duration MAX_LAG = Duration.ofSeconds(5);
+
+    @Mock
+    private JdbcTemplate replicaJdbcTemplate;
+
+    private ReplicaLagMonitor monitor;
+
+    @BeforeEach
+    void setUp() {
+        monitor = new ReplicaLagMonitor(replicaJdbcTemplate, MAX_LAG, false);
+    }
+
+    @Test
+    @DisplayName("첫 확인 전에는 사용 불가")
+    void unusableBeforeFirstCheck() {
+        assertThat(monitor.isReplicaUsable()).isFalse();
+        assertThat(monitor.getLagSeconds()).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("지연이 허용 범위 이내면 사용 가능")
+    void usableWithinMaxLag() {
+        // given
+        givenLags(List.of(3L));
+
+        // when
+        monitor.check();
+
+        // then
+        assertThat(monitor.isReplicaUsable()).isTrue();
+        assertThat(monitor.getLagSeconds()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("지연이 허용 범위를 넘으면 사용 불가로 전환")
+    void unusableBeyondMaxLag() {
+        // given
+        givenLags(List.of(1L));
+        monitor.check();
+        givenLags(List.of(30L));
+
+        // when
+        monitor.check();
+
+        // then
+        assertThat(monitor.isReplicaUsable()).isFalse();
+        assertThat(monitor.getLagSeconds()).isEqualTo(30);
+    }
+
+    @Test
+    @DisplayName("복제가 중단되면(지연 NULL) 사용 불가")
+    void unusableWhenReplicationStopped() {
+        // given
+        givenLags(Arrays.asList((Long) null));
+
+        // when
+        monitor.check();
+
+        // then
+        assertThat(monitor.isReplicaUsable()).isFalse();
+        assertThat(monitor.getLagSeconds()).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("복제 상태 결과가 없으면 사용 불가 (복제가 설정되지 않은 서버와 구분 불가)")
+    void unusableWithoutReplicationStatus() {
+        // given
+        givenLags(List.of(1L));
+        monitor.check();
+        givenLags(List.of());
+
+        // when
+        monitor.check();
+
+        // then
+        assertThat(monitor.isReplicaUsable()).isFalse();
+        assertThat(monitor.getLagSeconds()).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("assume-in-sync이면 복제 상태를 노출하지 않는 엔드포인트를 지연 0으로 사용 가능")
+    void usableWithoutReplicationStatusWhenAssumedInSync() {
+        // given
+        monitor = new ReplicaLagMonitor(replicaJdbcTemplate, MAX_LAG, true);
+        givenLags(List.of());
+
+        // when
+        monitor.check();
+
+        // then
+        assertThat(monitor.isReplicaUsable()).isTrue();
+        assertThat(monitor.getLagSeconds()).isZero();
+    }
+
+    @Test
+    @DisplayName("상태 조회가 실패하면 사용 불가")
+    void unusableWhenQueryFails() {
+        // given
+        givenLags(List.of(0L));
+        monitor.check();
+        given(replicaJdbcTemplate.query(eq(REPLICA_STATUS_SQL), any(RowMapper.class)))
+                .willThrow(new DataAccessResourceFailureException("connection refused"));
+
+        // when
+        monitor.check();
+
+        // then
+        assertThat(monitor.isReplicaUsable()).isFalse();
+    }
+
+    @Test
+    @DisplayName("지연/사용 가능 여부 게이지 등록")
+    void registersGauges() {
+        // given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        givenLags(List.of(2L));
+        monitor.check();
+
+        // when
+        monitor.bindTo(registry);
+
+        // then
+        assertThat(registry.get("datasource.replica.lag").gauge().value()).isEqualTo(2.0);
+        assertThat(registry.get("datasource.replica.usable").gauge().value()).isEqualTo(1.0);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenLags(List<Long> lags) {
+        given(replicaJdbcTemplate.query(eq(REPLICA_STATUS_SQL), any(RowMapper.class))).willReturn(lags);
+    }
+}
@@ -0,0 +1,121 @@
+package com.custom.trader.common.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * ReplicaRoutingDataSource 단위 테스트.
+ *
+ * <p>트랜잭션 읽기 전용 여부와 복제본 상태에 따른 라우팅을 검증합니다.</p>
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReplicaRoutingDataSource 단위 테스트")
+class ReplicaRoutingDataSourceTest {
+
+    @Mock
+    private DataSource primary;
+
+    @Mock
+    private DataSource replica;
+
+    @Mock
+    private ReplicaLagMonitor lagMonitor;
+
+    @Mock
+    private Connection replicaConnection;
+
+    private ReplicaRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() {
+        routingDataSource = new ReplicaRoutingDataSource(primary, replica, lagMonitor);
+        routingDataSource.afterPropertiesSet();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    @DisplayName("복제본 읽기를 표시한 읽기 전용 트랜잭션이고 복제본이 정상이면 복제본 연결")
+    void readOnlyToReplica() throws Exception {
+        // given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        given(lagMonitor.isReplicaUsable()).willReturn(true);
+        given(replica.getConnection()).willReturn(replicaConnection);
+
+        // when
+        Connection connection = ReplicaReadContext.call(() -> {
+            try {
+                return routingDataSource.getConnection();
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        // then
+        assertThat(connection).isSameAs(replicaConnection);
+        verify(primary, never()).getConnection();
+    }
+
+    @Test
+    @DisplayName("복제 지연이 허용 범위를 넘으면 읽기 전용 트랜잭션도 primary")
+    void laggingReplicaFallsBackToPrimary() {
+        // given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        given(lagMonitor.isReplicaUsable()).willReturn(false);
+
+        // when & then
+        assertThat(ReplicaReadContext.call(routingDataSource::determineCurrentLookupKey))
+                .isEqualTo(DataSourceRole.PRIMARY);
+    }
+
+    @Test
+    @DisplayName("복제본 읽기를 표시하지 않은 읽기 전용 트랜잭션은 primary (Spring Data 기본 읽기 전용 트랜잭션 포함)")
+    void unmarkedReadOnlyToPrimary() {
+        // given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // when & then
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo(DataSourceRole.PRIMARY);
+        verify(lagMonitor, never()).isReplicaUsable();
+    }
+
+    @Test
+    @DisplayName("표시는 실행이 끝나면 이전 상태로 복원")
+    void markRestoredAfterCall() {
+        // given
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        // when
+        ReplicaReadContext.call(() -> ReplicaReadContext.call(ReplicaReadContext::isAllowed));
+
+        // then
+        assertThat(ReplicaReadContext.isAllowed()).isFalse();
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo(DataSourceRole.PRIMARY);
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션은 복제본 상태와 무관하게 primary")
+    void writeToPrimary() {
+        // when & then
+        assertThat(routingDataSource.determineCurrentLookupKey()).isEqualTo(DataSourceRole.PRIMARY);
+        verify(lagMonitor, never()).isReplicaUsable();
+    }
+}
@@ -0,0 +1,156 @@
+package com.custom.trader.kis.client;
+
+import com.google.common.util.concurrent.RateLimiter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * KisAdaptiveRateLimiter 단위 테스트.
+ *
+ * <p>AIMD 속도 조절(감소/증가/쿨다운)과 메트릭 등록을 검증합니다.</p>
+ */
+@ExtendWith(MockitoExtension.class)
+@SuppressWarnings("UnstableApiUsage")
+@DisplayName("KisAdaptiveRateLimiter 단위 테스트")
+class KisAdaptiveRateLimiterTest {
+
+    private static final double MIN_RATE = 2.0;
+    private static final double MAX_RATE = 20.0;
+
+    @Mock
+    private RateLimiter delegate;
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private KisAdaptiveRateLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        limiter = new KisAdaptiveRateLimiter(delegate, MIN_RATE, MAX_RATE, clock::get);
+    }
+
+    @Nested
+    @DisplayName("Multiplicative Decrease")
+    class Decrease {
+
+        @Test
+        @DisplayName("Throttling 시 속도가 절반으로 감소")
+        void throttlingHalvesRate() {
+            limiter.onThrottled();
+
+            assertThat(limiter.getEffectiveRate()).isEqualTo(10.0);
+            verify(delegate).setRate(10.0);
+        }
+
+        @Test
+        @DisplayName("쿨다운 내 연속 Throttling은 한 번만 감소")
+        void throttlingWithinCooldownIsIgnored() {
+            limiter.onThrottled();
+            clock.addAndGet(KisAdaptiveRateLimiter.DECREASE_COOLDOWN.toNanos() / 2);
+            limiter.onThrottled();
+
+            assertThat(limiter.getEffectiveRate()).isEqualTo(10.0);
+            assertThat(limiter.getThrottledCount()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("쿨다운 이후 Throttling은 다시 감소하며 하한 아래로 내려가지 않음")
+        void throttlingAfterCooldownDecreasesToFloor() {
+            for (int i = 0; i < 10; i++) {
+                limiter.onThrottled();
+                clock.addAndGet(KisAdaptiveRateLimiter.DECREASE_COOLDOWN.toNanos());
+            }
+
+            assertThat(limiter.getEffectiveRate()).isEqualTo(MIN_RATE);
+        }
+    }
+
+    @Nested
+    @DisplayName("Additive Increase")
+    class Increase {
+
+        @Test
+        @DisplayName("상한에서는 성공해도 속도를 변경하지 않음")
+        void successAtMaxRateKeepsRate() {
+            limiter.onSuccess();
+
+            assertThat(limiter.getEffectiveRate()).isEqualTo(MAX_RATE);
+            verify(delegate, never()).setRate(anyDouble());
+        }
+
+        @Test
+        @DisplayName("현재 속도만큼 연속 성공하면 1 permit/s 증가")
+        void successWindowIncreasesRate() {
+            limiter.onThrottled(); // 20 -> 10
+
+            for (int i = 0; i < 9; i++) {
+                limiter.onSuccess();
+            }
+            assertThat(limiter.getEffectiveRate()).isEqualTo(10.0);
+
+            limiter.onSuccess();
+            assertThat(limiter.getEffectiveRate()).isEqualTo(11.0);
+            verify(delegate).setRate(11.0);
+        }
+
+        @Test
+        @DisplayName("반복 성공 시 상한까지만 복구")
+        void successRecoversUpToMaxRate() {
+            limiter.onThrottled();
+
+            for (int i = 0; i < 1_000; i++) {
+                limiter.onSuccess();
+            }
+
+            assertThat(limiter.getEffectiveRate()).isEqualTo(MAX_RATE);
+        }
+    }
+
+    @Nested
+    @DisplayName("설정 및 메트릭")
+    class ConfigurationAndMetrics {
+
+        @Test
+        @DisplayName("잘못된 속도 범위는 예외 발생")
+        void invalidBoundsThrow() {
+            assertThatThrownBy(() -> new KisAdaptiveRateLimiter(delegate, 0.0, MAX_RATE))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> new KisAdaptiveRateLimiter(delegate, MAX_RATE, MIN_RATE))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("유효 속도 게이지와 Throttling 카운터 등록")
+        void bindsGaugeAndCounter() {
+            var registry = new SimpleMeterRegistry();
+            limiter.bindTo(registry);
+
+            limiter.onThrottled();
+
+            assertThat(registry.get("kis.api.rate_limit.effective").gauge().value()).isEqualTo(10.0);
+            assertThat(registry.get("kis.api.rate_limit.throttled").functionCounter().count()).isEqualTo(1.0);
+        }
+
+        @Test
+        @DisplayName("acquire는 내부 RateLimiter에 위임")
+        void acquireDelegates() {
+            limiter.acquire();
+
+            verify(delegate).acquire();
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.custom.trader.kis.client;
+
+import com.custom.trader.kis.config.KisAccountProperties;
+import com.custom.trader.kis.config.KisApiEndpoint;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.health.Status;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * KisCircuitBreaker 단위 테스트.
+ *
+ * <p>CLOSED → OPEN → HALF_OPEN 상태 전이와 레지스트리/Health 노출을 검증합니다.</p>
+ */
+@DisplayName("KisCircuitBreaker 단위 테스트")
+class KisCircuitBreakerTest {
+
+    private static final int FAILURE_THRESHOLD = 3;
+    private static final Duration OPEN_DURATION = Duration.ofSeconds(60);
+
+    private final AtomicLong clock = new AtomicLong();
+    private final KisAccountProperties account = new KisAccountProperties("테스트", "12345678", "appKey", "appSecret");
+
+    private KisCircuitBreakerRegistry registry;
+    private KisCircuitBreaker breaker;
+
+    @BeforeEach
+    void setUp() {
+        registry = new KisCircuitBreakerRegistry(FAILURE_THRESHOLD, OPEN_DURATION, clock::get);
+        breaker = registry.get(KisApiEndpoint.DOMESTIC_STOCK_DAILY_PRICE, account);
+    }
+
+    private void tripOpen() {
+        for (int i = 0; i < FAILURE_THRESHOLD; i++) {
+            breaker.onFailure();
+        }
+    }
+
+    @Nested
+    @DisplayName("CLOSED")
+    class Closed {
+
+        @Test
+        @DisplayName("임계치 미만의 장애는 호출을 허용")
+        void failuresBelowThresholdKeepClosed() {
+            breaker.onFailure();
+            breaker.onFailure();
+
+            assertThat(breaker.getState()).isEqualTo(KisCircuitBreaker.State.CLOSED);
+            assertThat(breaker.tryAcquirePermission()).isTrue();
+        }
+
+        @Test
+        @DisplayName("성공이 끼면 연속 장애 횟수가 초기화")
+        void successResetsConsecutiveFailures() {
+            breaker.onFailure();
+            breaker.onFailure();
+            breaker.onSuccess();
+            breaker.onFailure();
+            breaker.onFailure();
+
+            assertThat(breaker.getState()).isEqualTo(KisCircuitBreaker.State.CLOSED);
+        }
+
+        @Test
+        @DisplayName("연속 장애가 임계치에 도달하면 OPEN")
+        void consecutiveFailuresOpen() {
+            tripOpen();
+
+            assertThat(breaker.getState()).isEqualTo(KisCircuitBreaker.State.OPEN);
+            assertThat(breaker.tryAcquirePermission()).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("OPEN / HALF_OPEN")
+    class OpenAndHalfOpen {
+
+        @Test
+        @DisplayName("대기 시간 경과 전에는 계속 거부")
+        void rejectsUntilOpenDurationElapses() {
+            tripOpen();
+            clock.addAndGet(OPEN_DURATION.toNanos() - 1);
+
+            assertThat(breaker.tryAcquirePermission()).isFalse();
+        }
+
+        @Test
+        @DisplayName("대기 시간 경과 후 탐색 요청은 1건만 허용")
+        void allowsSingleProbeAfterOpenDuration() {
+            tripOpen();
+            clock.addAndGet(OPEN_DURATION.toNanos());
+
+            assertThat(breaker.tryAcquirePermission()).isTrue();
+            assertThat(breaker.getState()).isEqualTo(KisCircuitBreaker.State.HALF_OPEN);
+            assertThat(breaker.tryAcquirePermission()).isFalse();
+        }
+
+        @Test
+        @DisplayName("탐색 요청 성공 시 CLOSED")
+        void probeSuccessCloses() {
+            tripOpen();
+            clock.addAndGet(OPEN_DURATION.toNanos());
+            breaker.tryAcquirePermission();
+
+            breaker.onSuccess();
+
+            assertThat(breaker.getState()).isEqualTo(KisCircuitBreaker.State.CLOSED);
+            assertThat(breaker.tryAcquirePermission()).isTrue();
+        }
+
+        @Test
+        @DisplayName("탐색 요청 실패 시 다시 OPEN되고 대기 시간이 재시작")
+        void probeFailureReopens() {
+            tripOpen();
+            clock.addAndGet(OPEN_DURATION.toNanos());
+            breaker.tryAcquirePermission();
+
+            breaker.onFailure();
+
+            assertThat(breaker.getState()).isEqualTo(KisCircuitBreaker.State.OPEN);
+            clock.addAndGet(OPEN_DURATION.toNanos() - 1);
+            assertThat(breaker.tryAcquirePermission()).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("레지스트리 및 Health")
+    class RegistryAndHealth {
+
+        @Test
+        @DisplayName("같은 엔드포인트/계정은 같은 Circuit, 다른 계정은 별도 Circuit")
+        void breakersAreKeyedByEndpointAndAccount() {
+            var other = new KisAccountProperties("다른계정", "87654321", "appKey2", "appSecret2");
+
+            assertThat(registry.get(KisApiEndpoint.DOMESTIC_STOCK_DAILY_PRICE, account)).isSameAs(breaker);
+            assertThat(registry.get(KisApiEndpoint.DOMESTIC_STOCK_DAILY_PRICE, other)).isNotSameAs(breaker);
+            assertThat(breaker.getName()).isEqualTo("DOMESTIC_STOCK_DAILY_PRICE:테스트");
+        }
+
+        @Test
+        @DisplayName("잘못된 임계치는 예외 발생")
+        void invalidThresholdThrows() {
+            assertThatThrownBy(() -> new KisCircuitBreakerRegistry(0, OPEN_DURATION))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("Circuit이 열려도 Health는 UP이며 details에 상태 노출")
+        @SuppressWarnings("unchecked")
+        void healthStaysUpWithCircuitDetails() {
+            tripOpen();
+            registry.get(KisApiEndpoint.WATCHLIST_GROUP, account);
+
+            var health = new KisCircuitBreakerHealthIndicator(registry).health();
+
+            assertThat(health.getStatus()).isEqualTo(Status.UP);
+            assertThat(health.getDetails()).containsEntry("openCircuits", 1L);
+            assertThat((Map<String, String>) health.getDetails().get("circuits"))
+                    .containsEntry("DOMESTIC_STOCK_DAILY_PRICE:테스트", "OPEN")
+                    .containsEntry("WATCHLIST_GROUP:테스트", "CLOSED");
+        }
+    }
+}
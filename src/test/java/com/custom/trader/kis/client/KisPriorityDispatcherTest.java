@@ -0,0 +1,185 @@
+package com.custom.trader.kis.client;
+
+import com.google.common.util.concurrent.RateLimiter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+/**
+ * KisPriorityDispatcher 단위 테스트.
+ *
+ * <p>첫 permit 획득을 붙잡아 둔 상태에서 대기자를 쌓은 뒤, 게이트가 열렸을 때의 발급 순서로
+ * 선점과 가중치 배분을 검증합니다.</p>
+ */
+@ExtendWith(MockitoExtension.class)
+@SuppressWarnings("UnstableApiUsage")
+@DisplayName("KisPriorityDispatcher 단위 테스트")
+class KisPriorityDispatcherTest {
+
+    private static final String HOLDER = "holder";
+
+    @Mock
+    private RateLimiter delegate;
+
+    private KisPriorityDispatcher dispatcher;
+
+    private final CountDownLatch holding = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final List<String> grantOrder = Collections.synchronizedList(new ArrayList<>());
+    private final List<Thread> threads = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        dispatcher = new KisPriorityDispatcher(new KisAdaptiveRateLimiter(delegate, 2.0, 20.0));
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        release.countDown();
+        for (Thread thread : threads) {
+            thread.join(TimeUnit.SECONDS.toMillis(5));
+        }
+    }
+
+    @Test
+    @DisplayName("대기자가 없으면 즉시 Rate Limiter에 위임하고 대기 시간을 기록")
+    void acquireDelegatesWhenIdle() {
+        var registry = new SimpleMeterRegistry();
+        dispatcher.bindTo(registry);
+
+        dispatcher.acquire(KisRequestPriority.DAILY);
+
+        verify(delegate).acquire();
+        assertThat(dispatcher.getAcquiredCount(KisRequestPriority.DAILY)).isEqualTo(1);
+        assertThat(registry.get("kis.api.dispatch.wait").tag("priority", "DAILY").functionTimer().count())
+                .isEqualTo(1.0);
+        assertThat(registry.get("kis.api.dispatch.queue_depth").tag("priority", "DAILY").gauge().value())
+                .isZero();
+    }
+
+    @Test
+    @DisplayName("우선순위를 지정하지 않으면 스레드 컨텍스트의 우선순위 사용")
+    void acquireUsesContextPriority() {
+        KisPriorityContext.run(KisRequestPriority.BACKFILL, dispatcher::acquire);
+        dispatcher.acquire();
+
+        assertThat(dispatcher.getAcquiredCount(KisRequestPriority.BACKFILL)).isEqualTo(1);
+        assertThat(dispatcher.getAcquiredCount(KisRequestPriority.WATCHLIST)).isEqualTo(1);
+    }
+
+    @Nested
+    @DisplayName("대기열 배분")
+    class Scheduling {
+
+        @BeforeEach
+        void holdGate() throws InterruptedException {
+            AtomicBoolean first = new AtomicBoolean(true);
+            given(delegate.acquire()).willAnswer(invocation -> {
+                if (first.getAndSet(false)) {
+                    holding.countDown();
+                    release.await(5, TimeUnit.SECONDS);
+                } else {
+                    grantOrder.add(Thread.currentThread().getName());
+                }
+                return 0.0;
+            });
+            start(HOLDER, KisRequestPriority.BACKFILL);
+            assertThat(holding.await(5, TimeUnit.SECONDS)).isTrue();
+        }
+
+        @Test
+        @DisplayName("나중에 도착한 상위 클래스 요청이 먼저 대기 중인 백필 요청을 앞지름")
+        void higherPriorityPreemptsQueuedBackfill() throws InterruptedException {
+            // given: 백필 3건 대기 후 일간 수집 1건 도착
+            for (int i = 0; i < 3; i++) {
+                start("BACKFILL-" + i, KisRequestPriority.BACKFILL);
+            }
+            awaitDepth(KisRequestPriority.BACKFILL, 3);
+            start("DAILY-0", KisRequestPriority.DAILY);
+            awaitDepth(KisRequestPriority.DAILY, 1);
+
+            // when
+            release.countDown();
+            joinAll();
+
+            // then
+            assertThat(grantOrder).hasSize(4);
+            assertThat(grantOrder.get(0)).isEqualTo("DAILY-0");
+        }
+
+        @Test
+        @DisplayName("모든 클래스가 대기 중이면 가중치 비율(8:4:2:1)로 배분")
+        void weightedFairShare() throws InterruptedException {
+            // given: 클래스별 15건 대기
+            for (KisRequestPriority priority : KisRequestPriority.values()) {
+                for (int i = 0; i < 15; i++) {
+                    start(priority.name() + "-" + i, priority);
+                }
+                awaitDepth(priority, 15);
+            }
+
+            // when
+            release.countDown();
+            joinAll();
+
+            // then: 처음 15건(가중치 합)은 가중치 비율대로 배분
+            Map<KisRequestPriority, Integer> firstRound = new EnumMap<>(KisRequestPriority.class);
+            for (String name : grantOrder.subList(0, 15)) {
+                KisRequestPriority priority = KisRequestPriority.valueOf(name.substring(0, name.indexOf('-')));
+                firstRound.merge(priority, 1, Integer::sum);
+            }
+            assertThat(firstRound).containsExactlyInAnyOrderEntriesOf(Map.of(
+                    KisRequestPriority.REALTIME, 8,
+                    KisRequestPriority.DAILY, 4,
+                    KisRequestPriority.WATCHLIST, 2,
+                    KisRequestPriority.BACKFILL, 1));
+            assertThat(grantOrder).hasSize(60);
+        }
+
+        private void awaitDepth(KisRequestPriority priority, int depth) throws InterruptedException {
+            awaitCondition(() -> dispatcher.getQueueDepth(priority) == depth);
+        }
+
+        private void joinAll() throws InterruptedException {
+            for (Thread thread : threads) {
+                thread.join(TimeUnit.SECONDS.toMillis(5));
+            }
+        }
+    }
+
+    private void start(String name, KisRequestPriority priority) {
+        Thread thread = new Thread(() -> dispatcher.acquire(priority), name);
+        threads.add(thread);
+        thread.start();
+    }
+
+    private static void awaitCondition(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("Condition not met within timeout");
+            }
+            Thread.sleep(5);
+        }
+    }
+}
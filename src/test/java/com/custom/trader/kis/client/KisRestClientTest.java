@@ -4,6 +4,8 @@ import com.custom.trader.kis.config.KisAccountProperties;
 import com.custom.trader.kis.config.KisApiEndpoint;
 import com.custom.trader.kis.dto.KisApiResponse;
 import com.custom.trader.kis.exception.KisApiException;
+import com.custom.trader.kis.exception.KisCircuitOpenException;
+import com.custom.trader.kis.exception.KisRateLimitExceededException;
 import com.google.common.util.concurrent.RateLimiter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -15,6 +17,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.web.client.RestClient;
 
 import java.net.URI;
+import java.time.Duration;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -43,6 +46,12 @@ class KisRestClientTest {
     @Mock
     private RestClient.ResponseSpec responseSpec;
 
+    private KisAdaptiveRateLimiter kisAdaptiveRateLimiter;
+
+    private KisRetryPolicy kisRetryPolicy;
+
+    private KisCircuitBreakerRegistry kisCircuitBreakerRegistry;
+
     private KisRestClient kisRestClient;
 
     private KisAccountProperties account;
@@ -50,7 +59,11 @@ class KisRestClientTest {
 
     @BeforeEach
     void setUp() {
-        kisRestClient = new KisRestClient(restClient, kisApiRateLimiter);
+        kisAdaptiveRateLimiter = new KisAdaptiveRateLimiter(kisApiRateLimiter, 2.0, 20.0);
+        kisRetryPolicy = new KisRetryPolicy(3, Duration.ZERO, Duration.ZERO, 100);
+        kisCircuitBreakerRegistry = new KisCircuitBreakerRegistry(5, Duration.ofMinutes(1));
+        kisRestClient = new KisRestClient(restClient, kisAdaptiveRateLimiter,
+                new KisPriorityDispatcher(kisAdaptiveRateLimiter), kisRetryPolicy, kisCircuitBreakerRegistry);
         account = new KisAccountProperties("테스트", "12345678", "appKey", "appSecret");
         given(kisApiRateLimiter.acquire()).willReturn(0.0);
     }
@@ -320,5 +333,328 @@ class KisRestClientTest {
         }
     }
 
+    @Nested
+    @DisplayName("Throttling 응답 처리")
+    class ThrottlingHandling {
+
+        @Test
+        @DisplayName("EGW00201 응답 후 재시도하여 성공하면 응답 반환 및 속도 감소")
+        void 초당_거래건수_초과_후_재시도_성공() {
+            // given
+            var throttled = new TestMsgCdResponse("1", "EGW00201", "초당 거래건수를 초과하였습니다.");
+            var success = new TestMsgCdResponse("0", "MCA00000", "정상처리 되었습니다");
+            setupMockRestClientSequence(throttled, success);
+
+            // when
+            var result = kisRestClient.get(
+                    KisApiEndpoint.WATCHLIST_GROUP,
+                    uriBuilder -> URI.create("/test"),
+                    ACCESS_TOKEN,
+                    account,
+                    TestMsgCdResponse.class
+            );
+
+            // then
+            assertThat(result.rtCd()).isEqualTo("0");
+            verify(kisApiRateLimiter, times(2)).acquire();
+            verify(kisApiRateLimiter).setRate(10.0);
+            assertThat(kisAdaptiveRateLimiter.getThrottledCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Throttling이 최대 시도 횟수 동안 지속되면 KisRateLimitExceededException 발생")
+        void Throttling_지속시_전용_예외_발생() {
+            // given
+            var throttled = new TestMsgCdResponse("1", "EGW00201", "초당 거래건수를 초과하였습니다.");
+            setupMockRestClientSequence(throttled, throttled, throttled);
+
+            // when & then
+            assertThatThrownBy(() -> kisRestClient.get(
+                    KisApiEndpoint.WATCHLIST_GROUP,
+                    uriBuilder -> URI.create("/test"),
+                    ACCESS_TOKEN,
+                    account,
+                    TestMsgCdResponse.class
+            ))
+                    .isInstanceOf(KisRateLimitExceededException.class)
+                    .isInstanceOf(KisApiException.class);
+            verify(kisApiRateLimiter, times(KisRestClient.MAX_THROTTLE_ATTEMPTS)).acquire();
+        }
+
+        @Test
+        @DisplayName("HTTP 500 본문에 EGW00201이 있으면 Throttling으로 분류하여 재시도")
+        void HTTP_500_본문의_Throttling_코드_분류() {
+            // given
+            var throttleBody = "{\"rt_cd\":\"1\",\"msg_cd\":\"EGW00201\",\"msg1\":\"초당 거래건수를 초과하였습니다.\"}";
+            var serverError = org.springframework.web.client.HttpServerErrorException.create(
+                    org.springframework.http.HttpStatus.INTERNAL_SERVER_ERROR,
+                    "Internal Server Error",
+                    org.springframework.http.HttpHeaders.EMPTY,
+                    throttleBody.getBytes(java.nio.charset.StandardCharsets.UTF_8),
+                    java.nio.charset.StandardCharsets.UTF_8
+            );
+            var success = new TestMsgCdResponse("0", "MCA00000", "정상처리 되었습니다");
+            setupMockRestClientBase();
+            given(responseSpec.body(any(Class.class))).willThrow(serverError).willReturn(success);
+
+            // when
+            var result = kisRestClient.get(
+                    KisApiEndpoint.WATCHLIST_GROUP,
+                    uriBuilder -> URI.create("/test"),
+                    ACCESS_TOKEN,
+                    account,
+                    TestMsgCdResponse.class
+            );
+
+            // then
+            assertThat(result.rtCd()).isEqualTo("0");
+            verify(kisApiRateLimiter, times(2)).acquire();
+        }
+
+        @Test
+        @DisplayName("비즈니스 오류는 Throttling으로 분류하지 않고 즉시 KisApiException 발생")
+        void 비즈니스_오류는_재시도하지_않음() {
+            // given
+            var businessError = new TestMsgCdResponse("1", "OPSQ0002", "없는 서비스 코드 입니다");
+            setupMockRestClientSequence(businessError);
+
+            // when & then
+            assertThatThrownBy(() -> kisRestClient.get(
+                    KisApiEndpoint.WATCHLIST_GROUP,
+                    uriBuilder -> URI.create("/test"),
+                    ACCESS_TOKEN,
+                    account,
+                    TestMsgCdResponse.class
+            ))
+                    .isInstanceOf(KisApiException.class)
+                    .isNotInstanceOf(KisRateLimitExceededException.class);
+            verify(kisApiRateLimiter, times(1)).acquire();
+            assertThat(kisAdaptiveRateLimiter.getThrottledCount()).isZero();
+        }
+
+        @SuppressWarnings("unchecked")
+        private void setupMockRestClientBase() {
+            given(restClient.get()).willReturn((RestClient.RequestHeadersUriSpec) requestHeadersUriSpec);
+            given(requestHeadersUriSpec.uri(any(java.util.function.Function.class))).willReturn(requestHeadersSpec);
+            doReturn(requestHeadersSpec).when(requestHeadersSpec).headers(any());
+            doReturn(requestHeadersSpec).when(requestHeadersSpec).accept(any());
+            given(requestHeadersSpec.retrieve()).willReturn(responseSpec);
+        }
+
+        @SuppressWarnings("unchecked")
+        private void setupMockRestClientSequence(TestMsgCdResponse first, TestMsgCdResponse... rest) {
+            setupMockRestClientBase();
+            given(responseSpec.body(any(Class.class))).willReturn(first, (Object[]) rest);
+        }
+    }
+
+    @Nested
+    @DisplayName("일시적 장애 재시도")
+    class TransientFailureRetry {
+
+        @Test
+        @DisplayName("5xx 후 재시도하여 성공하면 응답 반환 및 엔드포인트별 재시도 집계")
+        void 서버_오류_후_재시도_성공() {
+            // given
+            var success = new TestKisApiResponse("0", "정상처리 되었습니다");
+            setupMockRestClientBase();
+            given(responseSpec.body(any(Class.class)))
+                    .willThrow(new org.springframework.web.client.HttpServerErrorException(
+                            org.springframework.http.HttpStatus.BAD_GATEWAY, "Bad Gateway"))
+                    .willReturn(success);
+            var budget = new KisRetryBudget("test", 100);
+
+            // when
+            var result = KisRetryBudgetContext.call(budget, () -> kisRestClient.get(
+                    KisApiEndpoint.DOMESTIC_STOCK_DAILY_PRICE,
+                    uriBuilder -> URI.create("/test"),
+                    ACCESS_TOKEN,
+                    account,
+                    TestKisApiResponse.class
+            ));
+
+            // then
+            assertThat(result.rtCd()).isEqualTo("0");
+            verify(kisApiRateLimiter, times(2)).acquire();
+            assertThat(kisRetryPolicy.getRetryCount(KisApiEndpoint.DOMESTIC_STOCK_DAILY_PRICE)).isEqualTo(1);
+            assertThat(budget.getRemaining()).isEqualTo(99);
+        }
+
+        @Test
+        @DisplayName("I/O 오류가 지속되면 최대 시도 횟수 후 원래 예외 발생")
+        void IO_오류_지속시_최대_시도_후_예외() {
+            // given
+            setupMockRestClientBase();
+            given(responseSpec.body(any(Class.class)))
+                    .willThrow(new org.springframework.web.client.ResourceAccessException("Read timed out"));
+
+            // when & then
+            assertThatThrownBy(() -> kisRestClient.get(
+                    KisApiEndpoint.WATCHLIST_STOCK,
+                    uriBuilder -> URI.create("/test"),
+                    ACCESS_TOKEN,
+                    account,
+                    TestKisApiResponse.class
+            ))
+                    .isInstanceOf(org.springframework.web.client.ResourceAccessException.class);
+            verify(kisApiRateLimiter, times(3)).acquire();
+            assertThat(kisRetryPolicy.getRetryCount(KisApiEndpoint.WATCHLIST_STOCK)).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("4xx 응답은 재시도하지 않음")
+        void 클라이언트_오류는_재시도하지_않음() {
+            // given
+            setupMockRestClientBase();
+            given(responseSpec.body(any(Class.class)))
+                    .willThrow(new org.springframework.web.client.HttpClientErrorException(
+                            org.springframework.http.HttpStatus.BAD_REQUEST, "Bad Request"));
+
+            // when & then
+            assertThatThrownBy(() -> kisRestClient.get(
+                    KisApiEndpoint.WATCHLIST_GROUP,
+                    uriBuilder -> URI.create("/test"),
+                    ACCESS_TOKEN,
+                    account,
+                    TestKisApiResponse.class
+            ))
+                    .isInstanceOf(org.springframework.web.client.HttpClientErrorException.class);
+            verify(kisApiRateLimiter, times(1)).acquire();
+        }
+
+        @Test
+        @DisplayName("실행의 재시도 예산이 소진되면 즉시 실패")
+        void 재시도_예산_소진시_즉시_실패() {
+            // given
+            setupMockRestClientBase();
+            given(responseSpec.body(any(Class.class)))
+                    .willThrow(new org.springframework.web.client.ResourceAccessException("Connection refused"));
+            var exhausted = new KisRetryBudget("test", 0);
+
+            // when & then
+            assertThatThrownBy(() -> KisRetryBudgetContext.call(exhausted, () -> kisRestClient.get(
+                    KisApiEndpoint.WATCHLIST_GROUP,
+                    uriBuilder -> URI.create("/test"),
+                    ACCESS_TOKEN,
+                    account,
+                    TestKisApiResponse.class
+            )))
+                    .isInstanceOf(org.springframework.web.client.ResourceAccessException.class);
+            verify(kisApiRateLimiter, times(1)).acquire();
+        }
+
+        @SuppressWarnings("unchecked")
+        private void setupMockRestClientBase() {
+            given(restClient.get()).willReturn((RestClient.RequestHeadersUriSpec) requestHeadersUriSpec);
+            given(requestHeadersUriSpec.uri(any(java.util.function.Function.class))).willReturn(requestHeadersSpec);
+            doReturn(requestHeadersSpec).when(requestHeadersSpec).headers(any());
+            doReturn(requestHeadersSpec).when(requestHeadersSpec).accept(any());
+            given(requestHeadersSpec.retrieve()).willReturn(responseSpec);
+        }
+    }
+
+    @Nested
+    @DisplayName("Circuit Breaker")
+    class CircuitBreaking {
+
+        @BeforeEach
+        void setUpCircuitBreaker() {
+            kisCircuitBreakerRegistry = new KisCircuitBreakerRegistry(3, Duration.ofMinutes(1));
+            kisRestClient = new KisRestClient(restClient, kisAdaptiveRateLimiter,
+                    new KisPriorityDispatcher(kisAdaptiveRateLimiter), kisRetryPolicy, kisCircuitBreakerRegistry);
+        }
+
+        @Test
+        @DisplayName("연속 일시적 장애로 Circuit이 열리면 다음 호출은 네트워크 없이 즉시 실패")
+        void 연속_장애시_Circuit_Open_후_즉시_실패() {
+            // given
+            setupMockRestClientBase();
+            given(responseSpec.body(any(Class.class)))
+                    .willThrow(new org.springframework.web.client.ResourceAccessException("Connect timed out"));
+
+            assertThatThrownBy(() -> kisRestClient.get(
+                    KisApiEndpoint.DOMESTIC_STOCK_DAILY_PRICE,
+                    uriBuilder -> URI.create("/test"),
+                    ACCESS_TOKEN,
+                    account,
+                    TestKisApiResponse.class
+            ))
+                    .isInstanceOf(org.springframework.web.client.ResourceAccessException.class);
+
+            // when & then
+            assertThatThrownBy(() -> kisRestClient.get(
+                    KisApiEndpoint.DOMESTIC_STOCK_DAILY_PRICE,
+                    uriBuilder -> URI.create("/test"),
+                    ACCESS_TOKEN,
+                    account,
+                    TestKisApiResponse.class
+            ))
+                    .isInstanceOf(KisCircuitOpenException.class);
+            verify(kisApiRateLimiter, times(3)).acquire();
+        }
+
+        @Test
+        @DisplayName("Circuit은 엔드포인트별로 분리되어 다른 엔드포인트 호출은 영향받지 않음")
+        void 다른_엔드포인트는_영향받지_않음() {
+            // given
+            var breaker = kisCircuitBreakerRegistry.get(KisApiEndpoint.OVERSEAS_STOCK_DAILY_PRICE, account);
+            for (int i = 0; i < 3; i++) {
+                breaker.onFailure();
+            }
+            var expectedResponse = new TestKisApiResponse("0", "정상처리 되었습니다");
+            setupMockRestClientBase();
+            given(responseSpec.body(any(Class.class))).willReturn(expectedResponse);
+
+            // when
+            var result = kisRestClient.get(
+                    KisApiEndpoint.DOMESTIC_STOCK_DAILY_PRICE,
+                    uriBuilder -> URI.create("/test"),
+                    ACCESS_TOKEN,
+                    account,
+                    TestKisApiResponse.class
+            );
+
+            // then
+            assertThat(result.rtCd()).isEqualTo("0");
+            assertThat(breaker.getState()).isEqualTo(KisCircuitBreaker.State.OPEN);
+        }
+
+        @Test
+        @DisplayName("비즈니스 오류 응답은 장애로 집계하지 않음")
+        void 비즈니스_오류는_장애로_집계하지_않음() {
+            // given
+            setupMockRestClientBase();
+            given(responseSpec.body(any(Class.class))).willReturn(new TestKisApiResponse("1", "조회 오류"));
+
+            // when
+            for (int i = 0; i < 5; i++) {
+                assertThatThrownBy(() -> kisRestClient.get(
+                        KisApiEndpoint.WATCHLIST_GROUP,
+                        uriBuilder -> URI.create("/test"),
+                        ACCESS_TOKEN,
+                        account,
+                        TestKisApiResponse.class
+                ))
+                        .isInstanceOf(KisApiException.class)
+                        .isNotInstanceOf(KisCircuitOpenException.class);
+            }
+
+            // then
+            assertThat(kisCircuitBreakerRegistry.get(KisApiEndpoint.WATCHLIST_GROUP, account).getState())
+                    .isEqualTo(KisCircuitBreaker.State.CLOSED);
+        }
+
+        @SuppressWarnings("unchecked")
+        private void setupMockRestClientBase() {
+            given(restClient.get()).willReturn((RestClient.RequestHeadersUriSpec) requestHeadersUriSpec);
+            given(requestHeadersUriSpec.uri(any(java.util.function.Function.class))).willReturn(requestHeadersSpec);
+            doReturn(requestHeadersSpec).when(requestHeadersSpec).headers(any());
+            doReturn(requestHeadersSpec).when(requestHeadersSpec).accept(any());
+            given(requestHeadersSpec.retrieve()).willReturn(responseSpec);
+        }
+    }
+
     record TestKisApiResponse(String rtCd, String msg1) implements KisApiResponse {}
+
+    record TestMsgCdResponse(String rtCd, String msgCd, String msg1) implements KisApiResponse {}
 }
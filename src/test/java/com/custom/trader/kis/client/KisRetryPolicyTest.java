@@ -0,0 +1,164 @@
+package com.custom.trader.kis.client;
+
+import com.custom.trader.kis.config.KisApiEndpoint;
+import com.custom.trader.kis.exception.KisApiException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * KisRetryPolicy 단위 테스트.
+ *
+ * <p>재시도 대상 분류, 최대 시도 횟수, 실행당 재시도 예산, 지터 백오프 범위를 검증합니다.</p>
+ */
+@DisplayName("KisRetryPolicy 단위 테스트")
+class KisRetryPolicyTest {
+
+    private static final KisApiEndpoint ENDPOINT = KisApiEndpoint.DOMESTIC_STOCK_DAILY_PRICE;
+
+    @Nested
+    @DisplayName("재시도 대상 분류")
+    class Classification {
+
+        private final KisRetryPolicy policy = new KisRetryPolicy(3, Duration.ZERO, Duration.ZERO, 10);
+
+        @Test
+        @DisplayName("I/O 오류와 5xx는 재시도")
+        void transientFailuresAreRetried() {
+            assertThat(policy.shouldRetry(ENDPOINT, new ResourceAccessException("timeout"), 1)).isTrue();
+            assertThat(policy.shouldRetry(ENDPOINT,
+                    new HttpServerErrorException(HttpStatus.SERVICE_UNAVAILABLE), 1)).isTrue();
+        }
+
+        @Test
+        @DisplayName("4xx와 비즈니스 오류는 재시도하지 않음")
+        void nonTransientFailuresAreNotRetried() {
+            assertThat(policy.shouldRetry(ENDPOINT,
+                    new HttpClientErrorException(HttpStatus.BAD_REQUEST), 1)).isFalse();
+            assertThat(policy.shouldRetry(ENDPOINT, new KisApiException("잘못된 종목코드"), 1)).isFalse();
+        }
+
+        @Test
+        @DisplayName("최대 시도 횟수에 도달하면 재시도하지 않음")
+        void maxAttemptsStopsRetry() {
+            assertThat(policy.shouldRetry(ENDPOINT, new ResourceAccessException("timeout"), 3)).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("실행당 재시도 예산")
+    class Budget {
+
+        @Test
+        @DisplayName("실행 안에서 예산 소진 후 재시도 거부")
+        void budgetIsConsumedWithinRun() {
+            var policy = new KisRetryPolicy(3, Duration.ZERO, Duration.ZERO, 2);
+            var failure = new ResourceAccessException("timeout");
+
+            policy.runWithBudget("backfill", () -> {
+                assertThat(policy.shouldRetry(ENDPOINT, failure, 1)).isTrue();
+                assertThat(policy.shouldRetry(ENDPOINT, failure, 1)).isTrue();
+                assertThat(policy.shouldRetry(ENDPOINT, failure, 1)).isFalse();
+                assertThat(KisRetryBudgetContext.current().getRemaining()).isZero();
+            });
+
+            assertThat(policy.getRemainingBudget()).isZero();
+        }
+
+        @Test
+        @DisplayName("다른 실행이 시작되어도 진행 중인 실행의 예산은 다시 채워지지 않음")
+        void overlappingRunsHaveSeparateBudgets() {
+            var policy = new KisRetryPolicy(3, Duration.ZERO, Duration.ZERO, 1);
+            var failure = new ResourceAccessException("timeout");
+
+            policy.runWithBudget("backfill", () -> {
+                assertThat(policy.shouldRetry(ENDPOINT, failure, 1)).isTrue();
+
+                // 같은 스레드에서 겹친 실행 (다른 스레드의 스케줄과 같은 상황)
+                policy.runWithBudget("daily", () -> {
+                    assertThat(KisRetryBudgetContext.current().getRunName()).isEqualTo("daily");
+                    assertThat(policy.shouldRetry(ENDPOINT, failure, 1)).isTrue();
+                    assertThat(policy.getRemainingBudget()).isZero();
+                });
+
+                assertThat(KisRetryBudgetContext.current().getRunName()).isEqualTo("backfill");
+                assertThat(policy.shouldRetry(ENDPOINT, failure, 1)).isFalse();
+            });
+        }
+
+        @Test
+        @DisplayName("실행 밖의 호출은 시도 횟수 제한만 적용")
+        void unscopedCallsAreLimitedByAttemptsOnly() {
+            var policy = new KisRetryPolicy(3, Duration.ZERO, Duration.ZERO, 0);
+
+            assertThat(policy.shouldRetry(ENDPOINT, new ResourceAccessException("timeout"), 1)).isTrue();
+            assertThat(policy.shouldRetry(ENDPOINT, new ResourceAccessException("timeout"), 3)).isFalse();
+        }
+
+        @Test
+        @DisplayName("엔드포인트별 재시도 카운터 및 메트릭 등록")
+        void perEndpointCountersAreRegistered() {
+            var policy = new KisRetryPolicy(3, Duration.ZERO, Duration.ZERO, 1);
+            var registry = new SimpleMeterRegistry();
+            policy.bindTo(registry);
+            var failure = new ResourceAccessException("timeout");
+
+            policy.runWithBudget("backfill", () -> {
+                assertThat(registry.get("kis.api.retry_budget.remaining").gauge().value()).isEqualTo(1.0);
+                policy.shouldRetry(ENDPOINT, failure, 1);
+                policy.shouldRetry(ENDPOINT, failure, 1);
+            });
+
+            assertThat(registry.get("kis.api.retries").tag("endpoint", ENDPOINT.name())
+                    .functionCounter().count()).isEqualTo(1.0);
+            assertThat(registry.get("kis.api.retries").tag("endpoint", KisApiEndpoint.WATCHLIST_GROUP.name())
+                    .functionCounter().count()).isZero();
+            assertThat(registry.get("kis.api.retry_budget.exhausted").functionCounter().count()).isEqualTo(1.0);
+            assertThat(registry.get("kis.api.retry_budget.remaining").gauge().value()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("지터 지수 백오프")
+    class Backoff {
+
+        @Test
+        @DisplayName("대기 시간은 0 이상 min(maxDelay, baseDelay × 2^(attempt-1)) 이하")
+        void delayIsBoundedByExponentialCap() {
+            var policy = new KisRetryPolicy(5, Duration.ofMillis(100), Duration.ofMillis(300), 10);
+
+            for (int i = 0; i < 100; i++) {
+                assertThat(policy.computeDelay(1)).isBetween(Duration.ZERO, Duration.ofMillis(100));
+                assertThat(policy.computeDelay(2)).isBetween(Duration.ZERO, Duration.ofMillis(200));
+                assertThat(policy.computeDelay(4)).isBetween(Duration.ZERO, Duration.ofMillis(300));
+            }
+        }
+
+        @Test
+        @DisplayName("대기 시간 0이면 즉시 반환")
+        void zeroDelayReturnsImmediately() {
+            var policy = new KisRetryPolicy(3, Duration.ZERO, Duration.ZERO, 10);
+
+            assertThat(policy.backoff(1)).isTrue();
+        }
+
+        @Test
+        @DisplayName("잘못된 설정은 예외 발생")
+        void invalidConfigurationThrows() {
+            assertThatThrownBy(() -> new KisRetryPolicy(0, Duration.ZERO, Duration.ZERO, 10))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> new KisRetryPolicy(3, Duration.ZERO, Duration.ZERO, -1))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.custom.trader.kis.service;
+
+import com.custom.trader.kis.client.KisRestClient;
+import com.custom.trader.kis.config.KisAccountProperties;
+import com.custom.trader.kis.config.KisApiEndpoint;
+import com.custom.trader.kis.dto.calendar.DomesticHolidayResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class KisMarketCalendarServiceTest {
+
+    @Mock
+    private KisRestClient kisRestClient;
+
+    @Mock
+    private KisAuthService kisAuthService;
+
+    private KisMarketCalendarService kisMarketCalendarService;
+
+    private KisAccountProperties testAccount;
+
+    @BeforeEach
+    void setUp() {
+        kisMarketCalendarService = new KisMarketCalendarService(kisRestClient, kisAuthService);
+        testAccount = new KisAccountProperties("테스트계정", "12345678", "appKey123", "appSecret123");
+        given(kisAuthService.getDefaultAccount()).willReturn(testAccount);
+        given(kisAuthService.getAccessToken(testAccount.name())).willReturn("test-token");
+    }
+
+    @Test
+    @DisplayName("일자별 개장 여부 정상 반환")
+    void 일자별_개장_여부_정상_반환() {
+        // given
+        var days = List.of(
+                new DomesticHolidayResponse.DayItem("20240209", "06", "N", "N", "N", "N"),
+                new DomesticHolidayResponse.DayItem("20240213", "03", "Y", "Y", "Y", "Y")
+        );
+        var response = new DomesticHolidayResponse("0", "KIOK0500", "조회가 완료되었습니다", "", "", days);
+        given(kisRestClient.get(
+                eq(KisApiEndpoint.DOMESTIC_HOLIDAY),
+                any(),
+                eq("test-token"),
+                eq(testAccount),
+                eq(DomesticHolidayResponse.class)
+        )).willReturn(response);
+
+        // when
+        var result = kisMarketCalendarService.getDomesticMarketDays(LocalDate.of(2024, 2, 9));
+
+        // then
+        assertThat(result).hasSize(2);
+        assertThat(result.get(0).opndYn()).isEqualTo("N");
+        assertThat(result.get(1).bassDt()).isEqualTo("20240213");
+    }
+
+    @Test
+    @DisplayName("output이 null이면 빈 리스트 반환")
+    void output_null이면_빈_리스트_반환() {
+        // given
+        var response = new DomesticHolidayResponse("0", "KIOK0500", "조회가 완료되었습니다", "", "", null);
+        given(kisRestClient.get(
+                eq(KisApiEndpoint.DOMESTIC_HOLIDAY),
+                any(),
+                eq("test-token"),
+                eq(testAccount),
+                eq(DomesticHolidayResponse.class)
+        )).willReturn(response);
+
+        // when
+        var result = kisMarketCalendarService.getDomesticMarketDays(LocalDate.of(2024, 2, 9));
+
+        // then
+        assertThat(result).isEmpty();
+    }
+}
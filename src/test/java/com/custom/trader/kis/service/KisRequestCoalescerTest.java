@@ -0,0 +1,185 @@
+package com.custom.trader.kis.service;
+
+import com.custom.trader.kis.exception.KisApiException;
+import com.google.common.base.Ticker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * KisRequestCoalescer 단위 테스트.
+ *
+ * <p>In-flight 요청 합치기, 예외 전파, TTL 캐시 만료, 메트릭을 검증합니다.</p>
+ */
+@DisplayName("KisRequestCoalescer 단위 테스트")
+class KisRequestCoalescerTest {
+
+    private static final int CALLERS = 8;
+
+    @Nested
+    @DisplayName("In-flight 합치기")
+    class InFlight {
+
+        @Test
+        @DisplayName("동시에 들어온 같은 키의 요청은 한 번만 실행하고 결과를 공유")
+        void concurrentIdenticalRequestsShareOneCall() throws Exception {
+            var coalescer = new KisRequestCoalescer(Duration.ZERO, 0);
+            var calls = new AtomicInteger();
+            var started = new CountDownLatch(1);
+            var release = new CountDownLatch(1);
+
+            ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+            try {
+                var leader = executor.submit(() -> coalescer.execute("key", () -> {
+                    calls.incrementAndGet();
+                    started.countDown();
+                    await(release);
+                    return "result";
+                }));
+                started.await(5, TimeUnit.SECONDS);
+
+                List<Future<String>> followers = new ArrayList<>();
+                for (int i = 1; i < CALLERS; i++) {
+                    followers.add(executor.submit(() -> coalescer.execute("key", () -> {
+                        calls.incrementAndGet();
+                        return "duplicate";
+                    })));
+                }
+                while (coalescer.getInFlightSavedCount() < CALLERS - 1) {
+                    Thread.onSpinWait();
+                }
+                release.countDown();
+
+                assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("result");
+                for (Future<String> follower : followers) {
+                    assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("result");
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+
+            assertThat(calls.get()).isEqualTo(1);
+            assertThat(coalescer.getInFlightSavedCount()).isEqualTo(CALLERS - 1);
+        }
+
+        @Test
+        @DisplayName("진행 중 요청이 실패하면 합류한 요청에도 같은 예외 전파")
+        void failurePropagatesToJoinedCallers() throws Exception {
+            var coalescer = new KisRequestCoalescer(Duration.ZERO, 0);
+            var started = new CountDownLatch(1);
+            var release = new CountDownLatch(1);
+
+            ExecutorService executor = Executors.newFixedThreadPool(2);
+            try {
+                var leader = executor.submit(() -> coalescer.execute("key", () -> {
+                    started.countDown();
+                    await(release);
+                    throw new KisApiException("API 호출 실패");
+                }));
+                started.await(5, TimeUnit.SECONDS);
+                var follower = executor.submit(() -> coalescer.execute("key", () -> "unused"));
+                while (coalescer.getInFlightSavedCount() < 1) {
+                    Thread.onSpinWait();
+                }
+                release.countDown();
+
+                assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(KisApiException.class);
+                assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(KisApiException.class);
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+
+        @Test
+        @DisplayName("완료 후에는 같은 키도 다시 실행 (캐시 비활성화 시)")
+        void completedCallIsNotReusedWithoutCache() {
+            var coalescer = new KisRequestCoalescer(Duration.ZERO, 0);
+            var calls = new AtomicInteger();
+
+            coalescer.execute("key", calls::incrementAndGet);
+            coalescer.execute("key", calls::incrementAndGet);
+
+            assertThat(calls.get()).isEqualTo(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("TTL 캐시")
+    class TtlCache {
+
+        private final AtomicLong nanos = new AtomicLong();
+        private final Ticker ticker = new Ticker() {
+            @Override
+            public long read() {
+                return nanos.get();
+            }
+        };
+
+        @Test
+        @DisplayName("TTL 이내의 같은 요청은 캐시에서 반환하고 만료 후에는 다시 호출")
+        void cachedUntilTtlExpires() {
+            var coalescer = new KisRequestCoalescer(Duration.ofSeconds(30), 100, ticker);
+            var calls = new AtomicInteger();
+
+            coalescer.execute("key", calls::incrementAndGet);
+            coalescer.execute("key", calls::incrementAndGet);
+            assertThat(calls.get()).isEqualTo(1);
+
+            nanos.addAndGet(Duration.ofSeconds(31).toNanos());
+            coalescer.execute("key", calls::incrementAndGet);
+            assertThat(calls.get()).isEqualTo(2);
+            assertThat(coalescer.getCacheSavedCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("실패한 요청은 캐시하지 않음")
+        void failuresAreNotCached() {
+            var coalescer = new KisRequestCoalescer(Duration.ofSeconds(30), 100, ticker);
+
+            assertThatThrownBy(() -> coalescer.execute("key", () -> {
+                throw new KisApiException("API 호출 실패");
+            })).isInstanceOf(KisApiException.class);
+
+            assertThat(coalescer.execute("key", () -> "recovered")).isEqualTo("recovered");
+        }
+
+        @Test
+        @DisplayName("절약한 호출 수를 source 태그별 카운터로 노출")
+        void bindsCounters() {
+            var coalescer = new KisRequestCoalescer(Duration.ofSeconds(30), 100, ticker);
+            var registry = new SimpleMeterRegistry();
+            coalescer.bindTo(registry);
+
+            coalescer.execute("key", () -> "value");
+            coalescer.execute("key", () -> "value");
+
+            assertThat(registry.get("kis.api.coalesced").tag("source", "cache").functionCounter().count())
+                    .isEqualTo(1.0);
+            assertThat(registry.get("kis.api.coalesced").tag("source", "inflight").functionCounter().count())
+                    .isZero();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -17,6 +17,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.Collections;
 import java.util.List;
@@ -26,6 +27,8 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class KisStockPriceServiceTest {
@@ -45,7 +48,8 @@ class KisStockPriceServiceTest {
 
     @BeforeEach
     void setUp() {
-        kisStockPriceService = new KisStockPriceService(kisRestClient, kisAuthService, kisProperties);
+        kisStockPriceService = new KisStockPriceService(
+                kisRestClient, kisAuthService, kisProperties, new KisRequestCoalescer(Duration.ZERO, 0));
         testAccount = new KisAccountProperties("테스트계정", "12345678", "appKey123", "appSecret123");
     }
 
@@ -413,4 +417,64 @@ class KisStockPriceServiceTest {
                     .hasMessageContaining("Read timed out");
         }
     }
+
+    @Nested
+    @DisplayName("요청 합치기")
+    class RequestCoalescing {
+
+        @BeforeEach
+        void setUpCoalescer() {
+            kisStockPriceService = new KisStockPriceService(
+                    kisRestClient, kisAuthService, kisProperties,
+                    new KisRequestCoalescer(Duration.ofSeconds(30), 100));
+        }
+
+        @Test
+        @DisplayName("같은 종목/기간의 연속 요청은 KIS API를 한 번만 호출")
+        void 동일_요청은_한번만_호출() {
+            // given
+            var date = LocalDate.of(2024, 1, 5);
+            var response = new DomesticStockDailyPriceResponse("0", "00000000", "정상", null, List.of());
+            given(kisAuthService.getDefaultAccount()).willReturn(testAccount);
+            given(kisAuthService.getAccessToken(testAccount.name())).willReturn("test-token");
+            given(kisRestClient.get(
+                    eq(KisApiEndpoint.DOMESTIC_STOCK_DAILY_PRICE),
+                    any(),
+                    eq("test-token"),
+                    eq(testAccount),
+                    eq(DomesticStockDailyPriceResponse.class)
+            )).willReturn(response);
+
+            // when
+            kisStockPriceService.getDomesticStockDailyPrices("005930", date, date);
+            kisStockPriceService.getDomesticStockDailyPrices("005930", date, date);
+
+            // then
+            verify(kisRestClient, times(1)).get(any(), any(), any(), any(), eq(DomesticStockDailyPriceResponse.class));
+        }
+
+        @Test
+        @DisplayName("기간이 다르면 별도로 호출")
+        void 다른_기간은_별도_호출() {
+            // given
+            var date = LocalDate.of(2024, 1, 5);
+            var response = new DomesticStockDailyPriceResponse("0", "00000000", "정상", null, List.of());
+            given(kisAuthService.getDefaultAccount()).willReturn(testAccount);
+            given(kisAuthService.getAccessToken(testAccount.name())).willReturn("test-token");
+            given(kisRestClient.get(
+                    eq(KisApiEndpoint.DOMESTIC_STOCK_DAILY_PRICE),
+                    any(),
+                    eq("test-token"),
+                    eq(testAccount),
+                    eq(DomesticStockDailyPriceResponse.class)
+            )).willReturn(response);
+
+            // when
+            kisStockPriceService.getDomesticStockDailyPrices("005930", date, date);
+            kisStockPriceService.getDomesticStockDailyPrices("005930", date.minusDays(1), date);
+
+            // then
+            verify(kisRestClient, times(2)).get(any(), any(), any(), any(), eq(DomesticStockDailyPriceResponse.class));
+        }
+    }
 }
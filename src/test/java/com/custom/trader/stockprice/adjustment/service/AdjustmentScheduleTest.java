@@ -0,0 +1,55 @@
+package com.custom.trader.stockprice.adjustment.service;
+
+import com.custom.trader.stockprice.adjustment.entity.PriceAdjustment;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("AdjustmentSchedule 단위 테스트")
+class AdjustmentScheduleTest {
+
+    private static final LocalDate FIRST_EFFECTIVE = LocalDate.of(2024, 3, 1);
+    private static final LocalDate SECOND_EFFECTIVE = LocalDate.of(2024, 6, 1);
+
+    @Test
+    @DisplayName("사건이 없으면 모든 거래일의 계수가 1")
+    void none() {
+        // when
+        AdjustmentSchedule schedule = AdjustmentSchedule.of(List.of());
+
+        // then
+        assertThat(schedule.isEmpty()).isTrue();
+        assertThat(schedule.factorAt(LocalDate.of(2000, 1, 1))).isEqualByComparingTo(BigDecimal.ONE);
+    }
+
+    @Test
+    @DisplayName("거래일보다 늦게 시행된 사건의 계수를 모두 곱함")
+    void cumulativeFactors() {
+        // given: 1:5 분할 후 1:2 분할
+        AdjustmentSchedule schedule = AdjustmentSchedule.of(List.of(
+                adjustment(FIRST_EFFECTIVE, "0.2"),
+                adjustment(SECOND_EFFECTIVE, "0.5")));
+
+        // when & then
+        assertThat(schedule.factorAt(FIRST_EFFECTIVE.minusDays(1))).isEqualByComparingTo("0.1");
+        assertThat(schedule.factorAt(FIRST_EFFECTIVE)).isEqualByComparingTo("0.5");
+        assertThat(schedule.factorAt(SECOND_EFFECTIVE.minusDays(1))).isEqualByComparingTo("0.5");
+        assertThat(schedule.factorAt(SECOND_EFFECTIVE)).isEqualByComparingTo(BigDecimal.ONE);
+    }
+
+    private static PriceAdjustment adjustment(LocalDate effectiveDate, String factor) {
+        return PriceAdjustment.builder()
+                .instrumentId(1)
+                .effectiveDate(effectiveDate)
+                .factor(new BigDecimal(factor))
+                .referenceDate(effectiveDate.minusDays(1))
+                .expectedClose(BigDecimal.TEN)
+                .fetchedClose(BigDecimal.ONE)
+                .build();
+    }
+}
@@ -0,0 +1,241 @@
+package com.custom.trader.stockprice.adjustment.service;
+
+import com.custom.trader.common.enums.AssetType;
+import com.custom.trader.stockprice.adjustment.dto.AdjustedDailyPrice;
+import com.custom.trader.stockprice.adjustment.entity.PriceAdjustment;
+import com.custom.trader.stockprice.adjustment.repository.PriceAdjustmentRepository;
+import com.custom.trader.stockprice.domestic.entity.DomesticStockDailyPrice;
+import com.custom.trader.stockprice.domestic.repository.DomesticStockDailyPriceRepository;
+import com.custom.trader.stockprice.instrument.service.InstrumentRegistry;
+import com.custom.trader.stockprice.util.TradeDateBitmap;
+import com.custom.trader.testcontainers.MySQLTestcontainersConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+
+/**
+ * PriceAdjustmentService 통합 테스트 (탐지/저장 기준 환산/수정 일봉 조회).
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@Import({MySQLTestcontainersConfig.class, PriceAdjustmentService.class, InstrumentRegistry.class})
+@ActiveProfiles("test")
+@DisplayName("PriceAdjustmentService 통합 테스트")
+class PriceAdjustmentServiceTest {
+
+    private static final Integer INSTRUMENT_ID = 1;
+    private static final LocalDate START = LocalDate.of(2024, 1, 1);
+    private static final int STORED_DAYS = 10;
+
+    @Autowired
+    private PriceAdjustmentService adjustmentService;
+
+    @Autowired
+    private PriceAdjustmentRepository adjustmentRepository;
+
+    @Autowired
+    private DomesticStockDailyPriceRepository dailyRepository;
+
+    private TradeDateBitmap storedDates;
+
+    @BeforeEach
+    void setUp() {
+        // 종가 70,000 + 100 * i 인 일봉 10개 (2024-01-01 ~ 2024-01-10)
+        List<DomesticStockDailyPrice> stored = new ArrayList<>();
+        for (int i = 0; i < STORED_DAYS; i++) {
+            stored.add(bar(START.plusDays(i), storedClose(i)));
+        }
+        dailyRepository.saveAllAndFlush(stored);
+        storedDates = TradeDateBitmap.of(stored.stream().map(DomesticStockDailyPrice::getTradeDate).toList());
+    }
+
+    @Nested
+    @DisplayName("수정 계수 탐지")
+    class Detect {
+
+        @Test
+        @DisplayName("겹친 거래일 종가가 같은 비율로 바뀌면 사건을 기록")
+        void detectsSplit() {
+            // given: 1:5 분할 후 최근 5거래일 + 새 거래일 1개
+            List<PriceObservation> page = page(5, i -> storedClose(i).multiply(new BigDecimal("0.2")));
+
+            // when
+            Optional<PriceAdjustment> adjustment = adjustmentService.detect(
+                    AssetType.DOMESTIC_STOCK, INSTRUMENT_ID, page, storedDates);
+
+            // then
+            assertThat(adjustment).isPresent();
+            assertThat(adjustment.get().getFactor()).isEqualByComparingTo("0.2");
+            assertThat(adjustment.get().getReferenceDate()).isEqualTo(START.plusDays(STORED_DAYS - 1));
+            assertThat(adjustment.get().getEffectiveDate()).isEqualTo(START.plusDays(STORED_DAYS));
+            assertThat(adjustmentRepository.findByInstrumentIdOrderByEffectiveDateAsc(INSTRUMENT_ID)).hasSize(1);
+        }
+
+        @Test
+        @DisplayName("이미 기록한 사건은 다시 탐지하지 않음")
+        void ignoresKnownAdjustment() {
+            // given
+            List<PriceObservation> page = page(5, i -> storedClose(i).multiply(new BigDecimal("0.2")));
+            adjustmentService.detect(AssetType.DOMESTIC_STOCK, INSTRUMENT_ID, page, storedDates);
+
+            // when
+            Optional<PriceAdjustment> again = adjustmentService.detect(
+                    AssetType.DOMESTIC_STOCK, INSTRUMENT_ID, page, storedDates);
+
+            // then
+            assertThat(again).isEmpty();
+            assertThat(adjustmentRepository.findByInstrumentIdOrderByEffectiveDateAsc(INSTRUMENT_ID)).hasSize(1);
+        }
+
+        @Test
+        @DisplayName("허용 오차 이내 차이는 무시")
+        void ignoresNoiseWithinTolerance() {
+            // given: 0.3% 차이
+            List<PriceObservation> page = page(5, i -> storedClose(i).multiply(new BigDecimal("1.003")));
+
+            // when & then
+            assertThat(adjustmentService.detect(AssetType.DOMESTIC_STOCK, INSTRUMENT_ID, page, storedDates))
+                    .isEmpty();
+        }
+
+        @Test
+        @DisplayName("하루만 어긋나면 정정으로 보고 무시")
+        void ignoresSingleMismatch() {
+            // given
+            List<PriceObservation> page = page(5, i -> i == STORED_DAYS - 2
+                    ? storedClose(i).add(BigDecimal.valueOf(5_000))
+                    : storedClose(i));
+
+            // when & then
+            assertThat(adjustmentService.detect(AssetType.DOMESTIC_STOCK, INSTRUMENT_ID, page, storedDates))
+                    .isEmpty();
+        }
+
+        @Test
+        @DisplayName("어긋난 비율이 서로 다르면 기록하지 않음")
+        void ignoresInconsistentRatios() {
+            // given
+            List<PriceObservation> page = page(5, i -> i % 2 == 0
+                    ? storedClose(i).multiply(new BigDecimal("0.2"))
+                    : storedClose(i).multiply(new BigDecimal("0.5")));
+
+            // when & then
+            assertThat(adjustmentService.detect(AssetType.DOMESTIC_STOCK, INSTRUMENT_ID, page, storedDates))
+                    .isEmpty();
+            assertThat(adjustmentRepository.findByInstrumentIdOrderByEffectiveDateAsc(INSTRUMENT_ID)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("지수는 탐지하지 않음")
+        void skipsIndices() {
+            // given
+            List<PriceObservation> page = page(5, i -> storedClose(i).multiply(new BigDecimal("0.2")));
+
+            // when & then
+            assertThat(adjustmentService.detect(AssetType.DOMESTIC_INDEX, INSTRUMENT_ID, page, storedDates))
+                    .isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("사건 이후 내려온 과거 일봉은 저장 기준으로 환산")
+    void rebasesOlderBarsToStoredBasis() {
+        // given
+        adjustmentService.detect(AssetType.DOMESTIC_STOCK, INSTRUMENT_ID,
+                page(5, i -> storedClose(i).multiply(new BigDecimal("0.2"))), storedDates);
+        DomesticStockDailyPrice backfilled = bar(START.minusDays(1), new BigDecimal("13980"));
+
+        // when
+        int rebased = adjustmentService.rebaseToStoredBasis(AssetType.DOMESTIC_STOCK, INSTRUMENT_ID,
+                storedDates.last(), List.of(backfilled));
+
+        // then
+        assertThat(rebased).isEqualTo(1);
+        assertThat(backfilled.getClosePrice()).isEqualByComparingTo("69900");
+        assertThat(backfilled.getVolume()).isEqualTo(1_000L);
+    }
+
+    @Test
+    @DisplayName("저장 거래일 없이 환산하면(대량 적재 스풀) 시행일 이전 일봉만 저장 기준으로 환산")
+    void rebasesSpooledBarsByEffectiveDate() {
+        // given
+        adjustmentService.detect(AssetType.DOMESTIC_STOCK, INSTRUMENT_ID,
+                page(5, i -> storedClose(i).multiply(new BigDecimal("0.2"))), storedDates);
+        DomesticStockDailyPrice before = bar(START.minusDays(1), new BigDecimal("13980"));
+        DomesticStockDailyPrice after = bar(START.plusDays(STORED_DAYS + 1), new BigDecimal("14300"));
+
+        // when
+        int rebased = adjustmentService.rebaseToStoredBasis(AssetType.DOMESTIC_STOCK, INSTRUMENT_ID,
+                List.of(before, after));
+
+        // then
+        assertThat(rebased).isEqualTo(1);
+        assertThat(before.getClosePrice()).isEqualByComparingTo("69900");
+        assertThat(after.getClosePrice()).isEqualByComparingTo("14300");
+    }
+
+    @Test
+    @DisplayName("수정 일봉은 사건 이전 거래일에만 계수를 곱함")
+    void adjustedDailyPrices() {
+        // given
+        adjustmentService.detect(AssetType.DOMESTIC_STOCK, INSTRUMENT_ID,
+                page(5, i -> storedClose(i).multiply(new BigDecimal("0.2"))), storedDates);
+        dailyRepository.saveAndFlush(bar(START.plusDays(STORED_DAYS), new BigDecimal("14200")));
+
+        // when
+        List<AdjustedDailyPrice> prices = adjustmentService.getAdjustedDailyPrices(AssetType.DOMESTIC_STOCK,
+                INSTRUMENT_ID, START, START.plusDays(STORED_DAYS));
+
+        // then
+        assertThat(prices).hasSize(STORED_DAYS + 1);
+        assertThat(prices.get(0).closePrice()).isEqualByComparingTo("14000");
+        assertThat(prices.get(0).adjustmentFactor()).isEqualByComparingTo("0.2");
+        assertThat(prices.get(0).volume()).isEqualTo(1_000L);
+        assertThat(prices.get(STORED_DAYS).closePrice()).isEqualByComparingTo("14200");
+        assertThat(prices.get(STORED_DAYS).adjustmentFactor()).isEqualByComparingTo(BigDecimal.ONE);
+    }
+
+    /**
+     * 마지막 {@code overlapDays}개 저장 거래일과 새 거래일 1개로 이루어진 페이지.
+     */
+    private static List<PriceObservation> page(int overlapDays, IntFunction<BigDecimal> closeOf) {
+        List<PriceObservation> page = new ArrayList<>();
+        for (int i = STORED_DAYS - overlapDays; i < STORED_DAYS; i++) {
+            page.add(new PriceObservation(START.plusDays(i), closeOf.apply(i)));
+        }
+        page.add(new PriceObservation(START.plusDays(STORED_DAYS), new BigDecimal("14200")));
+        return page;
+    }
+
+    private static BigDecimal storedClose(int dayIndex) {
+        return BigDecimal.valueOf(70_000 + 100L * dayIndex);
+    }
+
+    private static DomesticStockDailyPrice bar(LocalDate tradeDate, BigDecimal close) {
+        return DomesticStockDailyPrice.builder()
+                .instrumentId(INSTRUMENT_ID)
+                .tradeDate(tradeDate)
+                .openPrice(close)
+                .highPrice(close)
+                .lowPrice(close)
+                .closePrice(close)
+                .volume(1_000L)
+                .build();
+    }
+}
@@ -0,0 +1,175 @@
+package com.custom.trader.stockprice.calendar.service;
+
+import com.custom.trader.common.enums.MarketCode;
+import com.custom.trader.kis.dto.calendar.DomesticHolidayResponse.DayItem;
+import com.custom.trader.kis.service.KisMarketCalendarService;
+import com.custom.trader.stockprice.calendar.entity.MarketCalendarDay;
+import com.custom.trader.stockprice.calendar.entity.MarketCalendarDay.Source;
+import com.custom.trader.stockprice.calendar.repository.MarketCalendarDayRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MarketCalendarService 단위 테스트")
+class MarketCalendarServiceTest {
+
+    @Mock
+    private KisMarketCalendarService kisMarketCalendarService;
+
+    @Mock
+    private MarketCalendarDayRepository marketCalendarDayRepository;
+
+    private MarketCalendarService marketCalendarService;
+
+    @BeforeEach
+    void setUp() {
+        marketCalendarService = new MarketCalendarService(kisMarketCalendarService, marketCalendarDayRepository);
+    }
+
+    @Nested
+    @DisplayName("syncDomesticCalendar 메소드")
+    class SyncDomesticCalendar {
+
+        @Test
+        @DisplayName("저장된 일자가 없으면 시작일부터 조회하고 응답 마지막 일자 다음 날부터 이어서 조회")
+        void syncsFromStartDate() {
+            // given
+            LocalDate startDate = LocalDate.of(2024, 2, 8);
+            LocalDate endDate = LocalDate.of(2024, 2, 13);
+            given(marketCalendarDayRepository.findTopByMarketCodeAndSourceOrderByTradeDateDesc(MarketCode.KRX, Source.KIS))
+                    .willReturn(Optional.empty());
+            given(kisMarketCalendarService.getDomesticMarketDays(startDate)).willReturn(List.of(
+                    day("20240208", "Y"), day("20240209", "N"), day("20240210", "N")));
+            given(kisMarketCalendarService.getDomesticMarketDays(LocalDate.of(2024, 2, 11))).willReturn(List.of(
+                    day("20240211", "N"), day("20240212", "N"), day("20240213", "Y"), day("20240214", "Y")));
+
+            // when
+            Optional<LocalDate> syncedThrough = marketCalendarService.syncDomesticCalendar(startDate, endDate);
+
+            // then
+            assertThat(syncedThrough).contains(LocalDate.of(2024, 2, 14));
+            ArgumentCaptor<MarketCalendarDay> captor = ArgumentCaptor.forClass(MarketCalendarDay.class);
+            verify(marketCalendarDayRepository, times(7)).save(captor.capture());
+            assertThat(captor.getAllValues())
+                    .filteredOn(day -> !day.isOpen())
+                    .extracting(MarketCalendarDay::getTradeDate)
+                    .containsExactly(LocalDate.of(2024, 2, 9), LocalDate.of(2024, 2, 10),
+                            LocalDate.of(2024, 2, 11), LocalDate.of(2024, 2, 12));
+            assertThat(captor.getAllValues()).allSatisfy(day -> {
+                assertThat(day.getMarketCode()).isEqualTo(MarketCode.KRX);
+                assertThat(day.getSource()).isEqualTo(Source.KIS);
+            });
+        }
+
+        @Test
+        @DisplayName("종료일까지 동기화되어 있으면 KIS를 호출하지 않음")
+        void skipsWhenSynced() {
+            // given
+            LocalDate endDate = LocalDate.of(2024, 2, 13);
+            given(marketCalendarDayRepository.findTopByMarketCodeAndSourceOrderByTradeDateDesc(MarketCode.KRX, Source.KIS))
+                    .willReturn(Optional.of(closed(MarketCode.KRX, endDate, Source.KIS)));
+
+            // when
+            Optional<LocalDate> syncedThrough = marketCalendarService.syncDomesticCalendar(
+                    LocalDate.of(2024, 1, 1), endDate);
+
+            // then
+            assertThat(syncedThrough).contains(endDate);
+            verify(kisMarketCalendarService, never()).getDomesticMarketDays(any());
+        }
+
+        @Test
+        @DisplayName("빈 응답이면 조회를 멈추고 저장된 마지막 일자를 반환")
+        void stopsOnEmptyResponse() {
+            // given
+            LocalDate syncedDate = LocalDate.of(2024, 2, 8);
+            given(marketCalendarDayRepository.findTopByMarketCodeAndSourceOrderByTradeDateDesc(MarketCode.KRX, Source.KIS))
+                    .willReturn(Optional.of(closed(MarketCode.KRX, syncedDate, Source.KIS)));
+            given(kisMarketCalendarService.getDomesticMarketDays(syncedDate.plusDays(1))).willReturn(List.of());
+
+            // when
+            Optional<LocalDate> syncedThrough = marketCalendarService.syncDomesticCalendar(
+                    LocalDate.of(2024, 1, 1), LocalDate.of(2024, 2, 13));
+
+            // then
+            assertThat(syncedThrough).contains(syncedDate);
+            verify(kisMarketCalendarService, times(1)).getDomesticMarketDays(any());
+            verify(marketCalendarDayRepository, never()).save(any());
+        }
+    }
+
+    @Test
+    @DisplayName("closedDays는 휴장일을 시장별로 묶음")
+    void closedDaysGroupsByMarket() {
+        // given
+        LocalDate startDate = LocalDate.of(2024, 1, 1);
+        LocalDate endDate = LocalDate.of(2024, 1, 31);
+        given(marketCalendarDayRepository.findByOpenFalseAndTradeDateBetween(startDate, endDate)).willReturn(List.of(
+                closed(MarketCode.KRX, LocalDate.of(2024, 1, 1), Source.KIS),
+                closed(MarketCode.NAS, LocalDate.of(2024, 1, 1), Source.OBSERVED),
+                closed(MarketCode.NAS, LocalDate.of(2024, 1, 15), Source.OBSERVED)));
+
+        // when
+        Map<MarketCode, Set<LocalDate>> closedDays = marketCalendarService.closedDays(startDate, endDate);
+
+        // then
+        assertThat(closedDays).containsOnlyKeys(MarketCode.KRX, MarketCode.NAS);
+        assertThat(closedDays.get(MarketCode.NAS))
+                .containsExactlyInAnyOrder(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 15));
+    }
+
+    @Test
+    @DisplayName("markObservedClosed는 이미 기록된 날을 제외하고 관찰 휴장일로 저장")
+    @SuppressWarnings("unchecked")
+    void markObservedClosedSkipsExisting() {
+        // given
+        LocalDate recorded = LocalDate.of(2024, 1, 1);
+        LocalDate observed = LocalDate.of(2024, 1, 15);
+        given(marketCalendarDayRepository.existsByMarketCodeAndTradeDate(MarketCode.NAS, recorded)).willReturn(true);
+        given(marketCalendarDayRepository.existsByMarketCodeAndTradeDate(MarketCode.NAS, observed)).willReturn(false);
+
+        // when
+        marketCalendarService.markObservedClosed(MarketCode.NAS, List.of(recorded, observed));
+
+        // then
+        ArgumentCaptor<List<MarketCalendarDay>> captor = ArgumentCaptor.forClass(List.class);
+        verify(marketCalendarDayRepository).saveAll(captor.capture());
+        assertThat(captor.getValue()).singleElement().satisfies(day -> {
+            assertThat(day.getTradeDate()).isEqualTo(observed);
+            assertThat(day.isOpen()).isFalse();
+            assertThat(day.getSource()).isEqualTo(Source.OBSERVED);
+        });
+    }
+
+    private static DayItem day(String bassDt, String opndYn) {
+        return new DayItem(bassDt, "01", opndYn, opndYn, opndYn, opndYn);
+    }
+
+    private static MarketCalendarDay closed(MarketCode marketCode, LocalDate tradeDate, Source source) {
+        return MarketCalendarDay.builder()
+                .marketCode(marketCode)
+                .tradeDate(tradeDate)
+                .open(false)
+                .source(source)
+                .build();
+    }
+}
@@ -27,8 +27,9 @@ class DomesticIndexDailyPriceRepositoryTest {
     @Autowired
     private DomesticIndexDailyPriceRepository repository;
 
-    private static final String INDEX_CODE_KOSPI = "0001";
-    private static final String INDEX_CODE_KOSDAQ = "1001";
+    private static final Integer INSTRUMENT_KOSPI = 1;
+    private static final Integer INSTRUMENT_KOSDAQ = 2;
+    private static final Integer INSTRUMENT_UNKNOWN = 999;
 
     @BeforeEach
     void setUp() {
@@ -39,16 +40,16 @@ class DomesticIndexDailyPriceRepositoryTest {
     @DisplayName("날짜 범위 조회 정합성 검증 - BETWEEN 경계값 포함")
     void 날짜_범위_조회_정합성_검증() {
         // Given: 2024-01-01 ~ 2024-01-05 데이터 5개 저장
-        repository.save(createIndexPrice(INDEX_CODE_KOSPI, LocalDate.of(2024, 1, 1)));
-        repository.save(createIndexPrice(INDEX_CODE_KOSPI, LocalDate.of(2024, 1, 2)));
-        repository.save(createIndexPrice(INDEX_CODE_KOSPI, LocalDate.of(2024, 1, 3)));
-        repository.save(createIndexPrice(INDEX_CODE_KOSPI, LocalDate.of(2024, 1, 4)));
-        repository.save(createIndexPrice(INDEX_CODE_KOSPI, LocalDate.of(2024, 1, 5)));
+        repository.save(createIndexPrice(INSTRUMENT_KOSPI, LocalDate.of(2024, 1, 1)));
+        repository.save(createIndexPrice(INSTRUMENT_KOSPI, LocalDate.of(2024, 1, 2)));
+        repository.save(createIndexPrice(INSTRUMENT_KOSPI, LocalDate.of(2024, 1, 3)));
+        repository.save(createIndexPrice(INSTRUMENT_KOSPI, LocalDate.of(2024, 1, 4)));
+        repository.save(createIndexPrice(INSTRUMENT_KOSPI, LocalDate.of(2024, 1, 5)));
         repository.flush();
 
         // When: 2024-01-02 ~ 2024-01-04 범위 조회
-        Set<LocalDate> tradeDates = repository.findTradeDatesByIndexCodeAndTradeDateBetween(
-                INDEX_CODE_KOSPI,
+        Set<LocalDate> tradeDates = repository.findTradeDatesByInstrumentIdAndTradeDateBetween(
+                INSTRUMENT_KOSPI,
                 LocalDate.of(2024, 1, 2),
                 LocalDate.of(2024, 1, 4)
         );
@@ -67,16 +68,16 @@ class DomesticIndexDailyPriceRepositoryTest {
     @DisplayName("BETWEEN 경계값 검증 - startDate와 endDate 정확히 포함")
     void BETWEEN_경계값_검증() {
         // Given: 2024-01-01 ~ 2024-01-05 데이터 5개 저장
-        repository.save(createIndexPrice(INDEX_CODE_KOSPI, LocalDate.of(2024, 1, 1)));
-        repository.save(createIndexPrice(INDEX_CODE_KOSPI, LocalDate.of(2024, 1, 2)));
-        repository.save(createIndexPrice(INDEX_CODE_KOSPI, LocalDate.of(2024, 1, 3)));
-        repository.save(createIndexPrice(INDEX_CODE_KOSPI, LocalDate.of(2024, 1, 4)));
-        repository.save(createIndexPrice(INDEX_CODE_KOSPI, LocalDate.of(2024, 1, 5)));
+        repository.save(createIndexPrice(INSTRUMENT_KOSPI, LocalDate.of(2024, 1, 1)));
+        repository.save(createIndexPrice(INSTRUMENT_KOSPI, LocalDate.of(2024, 1, 2)));
+        repository.save(createIndexPrice(INSTRUMENT_KOSPI, LocalDate.of(2024, 1, 3)));
+        repository.save(createIndexPrice(INSTRUMENT_KOSPI, LocalDate.of(2024, 1, 4)));
+        repository.save(createIndexPrice(INSTRUMENT_KOSPI, LocalDate.of(2024, 1, 5)));
         repository.flush();
 
         // When: 경계값 조회
-        Set<LocalDate> tradeDates = repository.findTradeDatesByIndexCodeAndTradeDateBetween(
-                INDEX_CODE_KOSPI,
+        Set<LocalDate> tradeDates = repository.findTradeDatesByInstrumentIdAndTradeDateBetween(
+                INSTRUMENT_KOSPI,
                 LocalDate.of(2024, 1, 2),
                 LocalDate.of(2024, 1, 4)
         );
@@ -91,12 +92,12 @@ class DomesticIndexDailyPriceRepositoryTest {
     @DisplayName("중복 제거 검증 - 동일 날짜 데이터 저장 시 Set으로 중복 제거")
     void 중복_제거_검증() {
         // Given: 동일 날짜 데이터 저장 (uniqueConstraint로 실제로는 1개만 저장됨)
-        repository.save(createIndexPrice(INDEX_CODE_KOSPI, LocalDate.of(2024, 1, 1)));
+        repository.save(createIndexPrice(INSTRUMENT_KOSPI, LocalDate.of(2024, 1, 1)));
         repository.flush();
 
         // When: 조회
-        Set<LocalDate> tradeDates = repository.findTradeDatesByIndexCodeAndTradeDateBetween(
-                INDEX_CODE_KOSPI,
+        Set<LocalDate> tradeDates = repository.findTradeDatesByInstrumentIdAndTradeDateBetween(
+                INSTRUMENT_KOSPI,
                 LocalDate.of(2024, 1, 1),
                 LocalDate.of(2024, 1, 1)
         );
@@ -112,8 +113,8 @@ class DomesticIndexDailyPriceRepositoryTest {
         // Given: 데이터 없음 (setUp에서 deleteAll 실행)
 
         // When: 존재하지 않는 날짜 범위 조회
-        Set<LocalDate> tradeDates = repository.findTradeDatesByIndexCodeAndTradeDateBetween(
-                INDEX_CODE_KOSPI,
+        Set<LocalDate> tradeDates = repository.findTradeDatesByInstrumentIdAndTradeDateBetween(
+                INSTRUMENT_KOSPI,
                 LocalDate.of(2024, 1, 1),
                 LocalDate.of(2024, 1, 31)
         );
@@ -126,16 +127,16 @@ class DomesticIndexDailyPriceRepositoryTest {
     @DisplayName("날짜 순서 검증 - 반환된 Set의 날짜들이 올바른지 확인")
     void 날짜_순서_검증() {
         // Given: 역순으로 데이터 저장
-        repository.save(createIndexPrice(INDEX_CODE_KOSPI, LocalDate.of(2024, 1, 5)));
-        repository.save(createIndexPrice(INDEX_CODE_KOSPI, LocalDate.of(2024, 1, 3)));
-        repository.save(createIndexPrice(INDEX_CODE_KOSPI, LocalDate.of(2024, 1, 1)));
-        repository.save(createIndexPrice(INDEX_CODE_KOSPI, LocalDate.of(2024, 1, 4)));
-        repository.save(createIndexPrice(INDEX_CODE_KOSPI, LocalDate.of(2024, 1, 2)));
+        repository.save(createIndexPrice(INSTRUMENT_KOSPI, LocalDate.of(2024, 1, 5)));
+        repository.save(createIndexPrice(INSTRUMENT_KOSPI, LocalDate.of(2024, 1, 3)));
+        repository.save(createIndexPrice(INSTRUMENT_KOSPI, LocalDate.of(2024, 1, 1)));
+        repository.save(createIndexPrice(INSTRUMENT_KOSPI, LocalDate.of(2024, 1, 4)));
+        repository.save(createIndexPrice(INSTRUMENT_KOSPI, LocalDate.of(2024, 1, 2)));
         repository.flush();
 
         // When: 전체 범위 조회
-        Set<LocalDate> tradeDates = repository.findTradeDatesByIndexCodeAndTradeDateBetween(
-                INDEX_CODE_KOSPI,
+        Set<LocalDate> tradeDates = repository.findTradeDatesByInstrumentIdAndTradeDateBetween(
+                INSTRUMENT_KOSPI,
                 LocalDate.of(2024, 1, 1),
                 LocalDate.of(2024, 1, 5)
         );
@@ -156,12 +157,12 @@ class DomesticIndexDailyPriceRepositoryTest {
     @DisplayName("존재하지 않는 지수 코드 조회 - 빈 Set 반환")
     void 존재하지_않는_지수_코드_조회() {
         // Given: KOSPI 데이터만 저장
-        repository.save(createIndexPrice(INDEX_CODE_KOSPI, LocalDate.of(2024, 1, 1)));
+        repository.save(createIndexPrice(INSTRUMENT_KOSPI, LocalDate.of(2024, 1, 1)));
         repository.flush();
 
         // When: 존재하지 않는 지수 코드로 조회
-        Set<LocalDate> tradeDates = repository.findTradeDatesByIndexCodeAndTradeDateBetween(
-                "9999",
+        Set<LocalDate> tradeDates = repository.findTradeDatesByInstrumentIdAndTradeDateBetween(
+                INSTRUMENT_UNKNOWN,
                 LocalDate.of(2024, 1, 1),
                 LocalDate.of(2024, 1, 31)
         );
@@ -174,12 +175,12 @@ class DomesticIndexDailyPriceRepositoryTest {
     @DisplayName("startDate > endDate 케이스 - 빈 Set 반환")
     void startDate_endDate_역순_조회() {
         // Given: 데이터 저장
-        repository.save(createIndexPrice(INDEX_CODE_KOSPI, LocalDate.of(2024, 1, 15)));
+        repository.save(createIndexPrice(INSTRUMENT_KOSPI, LocalDate.of(2024, 1, 15)));
         repository.flush();
 
         // When: startDate > endDate로 조회
-        Set<LocalDate> tradeDates = repository.findTradeDatesByIndexCodeAndTradeDateBetween(
-                INDEX_CODE_KOSPI,
+        Set<LocalDate> tradeDates = repository.findTradeDatesByInstrumentIdAndTradeDateBetween(
+                INSTRUMENT_KOSPI,
                 LocalDate.of(2024, 1, 31),
                 LocalDate.of(2024, 1, 1)
         );
@@ -192,15 +193,15 @@ class DomesticIndexDailyPriceRepositoryTest {
     @DisplayName("여러 지수 코드 데이터 중 특정 지수만 조회")
     void 여러_지수_중_특정_지수_조회() {
         // Given: KOSPI와 KOSDAQ 데이터 저장
-        repository.save(createIndexPrice(INDEX_CODE_KOSPI, LocalDate.of(2024, 1, 1)));
-        repository.save(createIndexPrice(INDEX_CODE_KOSPI, LocalDate.of(2024, 1, 2)));
-        repository.save(createIndexPrice(INDEX_CODE_KOSDAQ, LocalDate.of(2024, 1, 1)));
-        repository.save(createIndexPrice(INDEX_CODE_KOSDAQ, LocalDate.of(2024, 1, 2)));
+        repository.save(createIndexPrice(INSTRUMENT_KOSPI, LocalDate.of(2024, 1, 1)));
+        repository.save(createIndexPrice(INSTRUMENT_KOSPI, LocalDate.of(2024, 1, 2)));
+        repository.save(createIndexPrice(INSTRUMENT_KOSDAQ, LocalDate.of(2024, 1, 1)));
+        repository.save(createIndexPrice(INSTRUMENT_KOSDAQ, LocalDate.of(2024, 1, 2)));
         repository.flush();
 
         // When: KOSPI만 조회
-        Set<LocalDate> kospiDates = repository.findTradeDatesByIndexCodeAndTradeDateBetween(
-                INDEX_CODE_KOSPI,
+        Set<LocalDate> kospiDates = repository.findTradeDatesByInstrumentIdAndTradeDateBetween(
+                INSTRUMENT_KOSPI,
                 LocalDate.of(2024, 1, 1),
                 LocalDate.of(2024, 1, 2)
         );
@@ -212,9 +213,9 @@ class DomesticIndexDailyPriceRepositoryTest {
     /**
      * 테스트용 DomesticIndexDailyPrice 생성 헬퍼 메서드
      */
-    private DomesticIndexDailyPrice createIndexPrice(String indexCode, LocalDate tradeDate) {
+    private DomesticIndexDailyPrice createIndexPrice(Integer instrumentId, LocalDate tradeDate) {
         return DomesticIndexDailyPrice.builder()
-                .indexCode(indexCode)
+                .instrumentId(instrumentId)
                 .tradeDate(tradeDate)
                 .openPrice(new BigDecimal("2500.00"))
                 .highPrice(new BigDecimal("2520.00"))
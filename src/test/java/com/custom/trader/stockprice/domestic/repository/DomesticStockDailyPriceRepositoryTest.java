@@ -1,6 +1,7 @@
 package com.custom.trader.stockprice.domestic.repository;
 
 import com.custom.trader.stockprice.domestic.entity.DomesticStockDailyPrice;
+import com.custom.trader.stockprice.instrument.entity.DailyPriceId;
 import com.custom.trader.testcontainers.MySQLTestcontainersConfig;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -13,6 +14,7 @@ import org.springframework.test.context.ActiveProfiles;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -27,8 +29,9 @@ class DomesticStockDailyPriceRepositoryTest {
     @Autowired
     private DomesticStockDailyPriceRepository repository;
 
-    private static final String STOCK_CODE_SAMSUNG = "005930";
-    private static final String STOCK_CODE_SK_HYNIX = "000660";
+    private static final Integer INSTRUMENT_SAMSUNG = 1;
+    private static final Integer INSTRUMENT_SK_HYNIX = 2;
+    private static final Integer INSTRUMENT_UNKNOWN = 999;
 
     @BeforeEach
     void setUp() {
@@ -39,16 +42,16 @@ class DomesticStockDailyPriceRepositoryTest {
     @DisplayName("날짜 범위 조회 정합성 검증 - BETWEEN 경계값 포함")
     void 날짜_범위_조회_정합성_검증() {
         // Given: 2024-01-01 ~ 2024-01-05 데이터 5개 저장
-        repository.save(createStockPrice(STOCK_CODE_SAMSUNG, LocalDate.of(2024, 1, 1)));
-        repository.save(createStockPrice(STOCK_CODE_SAMSUNG, LocalDate.of(2024, 1, 2)));
-        repository.save(createStockPrice(STOCK_CODE_SAMSUNG, LocalDate.of(2024, 1, 3)));
-        repository.save(createStockPrice(STOCK_CODE_SAMSUNG, LocalDate.of(2024, 1, 4)));
-        repository.save(createStockPrice(STOCK_CODE_SAMSUNG, LocalDate.of(2024, 1, 5)));
+        repository.save(createStockPrice(INSTRUMENT_SAMSUNG, LocalDate.of(2024, 1, 1)));
+        repository.save(createStockPrice(INSTRUMENT_SAMSUNG, LocalDate.of(2024, 1, 2)));
+        repository.save(createStockPrice(INSTRUMENT_SAMSUNG, LocalDate.of(2024, 1, 3)));
+        repository.save(createStockPrice(INSTRUMENT_SAMSUNG, LocalDate.of(2024, 1, 4)));
+        repository.save(createStockPrice(INSTRUMENT_SAMSUNG, LocalDate.of(2024, 1, 5)));
         repository.flush();
 
         // When: 2024-01-02 ~ 2024-01-04 범위 조회
-        Set<LocalDate> tradeDates = repository.findTradeDatesByStockCodeAndTradeDateBetween(
-                STOCK_CODE_SAMSUNG,
+        Set<LocalDate> tradeDates = repository.findTradeDatesByInstrumentIdAndTradeDateBetween(
+                INSTRUMENT_SAMSUNG,
                 LocalDate.of(2024, 1, 2),
                 LocalDate.of(2024, 1, 4)
         );
@@ -63,20 +66,41 @@ class DomesticStockDailyPriceRepositoryTest {
                 );
     }
 
+    @Test
+    @DisplayName("기준일 이후 거래일과 직전 마지막 거래일만 조회")
+    void 기준일_이후와_직전_마지막_거래일_조회() {
+        // Given
+        repository.save(createStockPrice(INSTRUMENT_SAMSUNG, LocalDate.of(2024, 1, 2)));
+        repository.save(createStockPrice(INSTRUMENT_SAMSUNG, LocalDate.of(2024, 1, 3)));
+        repository.save(createStockPrice(INSTRUMENT_SAMSUNG, LocalDate.of(2024, 1, 8)));
+        repository.save(createStockPrice(INSTRUMENT_SK_HYNIX, LocalDate.of(2024, 1, 5)));
+        repository.flush();
+
+        // When
+        List<LocalDate> sinceGap = repository.findTradeDatesFromLastBefore(INSTRUMENT_SAMSUNG, LocalDate.of(2024, 1, 5));
+        List<LocalDate> afterLast = repository.findTradeDatesFromLastBefore(INSTRUMENT_SAMSUNG, LocalDate.of(2024, 1, 10));
+        List<LocalDate> noHistory = repository.findTradeDatesFromLastBefore(INSTRUMENT_UNKNOWN, LocalDate.of(2024, 1, 5));
+
+        // Then
+        assertThat(sinceGap).containsExactlyInAnyOrder(LocalDate.of(2024, 1, 3), LocalDate.of(2024, 1, 8));
+        assertThat(afterLast).containsExactly(LocalDate.of(2024, 1, 8));
+        assertThat(noHistory).isEmpty();
+    }
+
     @Test
     @DisplayName("BETWEEN 경계값 검증 - startDate와 endDate 정확히 포함")
     void BETWEEN_경계값_검증() {
         // Given: 2024-01-01 ~ 2024-01-05 데이터 5개 저장
-        repository.save(createStockPrice(STOCK_CODE_SAMSUNG, LocalDate.of(2024, 1, 1)));
-        repository.save(createStockPrice(STOCK_CODE_SAMSUNG, LocalDate.of(2024, 1, 2)));
-        repository.save(createStockPrice(STOCK_CODE_SAMSUNG, LocalDate.of(2024, 1, 3)));
-        repository.save(createStockPrice(STOCK_CODE_SAMSUNG, LocalDate.of(2024, 1, 4)));
-        repository.save(createStockPrice(STOCK_CODE_SAMSUNG, LocalDate.of(2024, 1, 5)));
+        repository.save(createStockPrice(INSTRUMENT_SAMSUNG, LocalDate.of(2024, 1, 1)));
+        repository.save(createStockPrice(INSTRUMENT_SAMSUNG, LocalDate.of(2024, 1, 2)));
+        repository.save(createStockPrice(INSTRUMENT_SAMSUNG, LocalDate.of(2024, 1, 3)));
+        repository.save(createStockPrice(INSTRUMENT_SAMSUNG, LocalDate.of(2024, 1, 4)));
+        repository.save(createStockPrice(INSTRUMENT_SAMSUNG, LocalDate.of(2024, 1, 5)));
         repository.flush();
 
         // When: 경계값 조회
-        Set<LocalDate> tradeDates = repository.findTradeDatesByStockCodeAndTradeDateBetween(
-                STOCK_CODE_SAMSUNG,
+        Set<LocalDate> tradeDates = repository.findTradeDatesByInstrumentIdAndTradeDateBetween(
+                INSTRUMENT_SAMSUNG,
                 LocalDate.of(2024, 1, 2),
                 LocalDate.of(2024, 1, 4)
         );
@@ -92,12 +116,12 @@ class DomesticStockDailyPriceRepositoryTest {
     void 중복_제거_검증() {
         // Given: 동일 날짜 데이터 2개 저장 (uniqueConstraint로 실제로는 불가하지만, 테스트 목적)
         // 실제로는 uniqueConstraint로 인해 2번째 저장이 실패하므로, 1개만 저장됨
-        repository.save(createStockPrice(STOCK_CODE_SAMSUNG, LocalDate.of(2024, 1, 1)));
+        repository.save(createStockPrice(INSTRUMENT_SAMSUNG, LocalDate.of(2024, 1, 1)));
         repository.flush();
 
         // When: 조회
-        Set<LocalDate> tradeDates = repository.findTradeDatesByStockCodeAndTradeDateBetween(
-                STOCK_CODE_SAMSUNG,
+        Set<LocalDate> tradeDates = repository.findTradeDatesByInstrumentIdAndTradeDateBetween(
+                INSTRUMENT_SAMSUNG,
                 LocalDate.of(2024, 1, 1),
                 LocalDate.of(2024, 1, 1)
         );
@@ -113,8 +137,8 @@ class DomesticStockDailyPriceRepositoryTest {
         // Given: 데이터 없음 (setUp에서 deleteAll 실행)
 
         // When: 존재하지 않는 날짜 범위 조회
-        Set<LocalDate> tradeDates = repository.findTradeDatesByStockCodeAndTradeDateBetween(
-                STOCK_CODE_SAMSUNG,
+        Set<LocalDate> tradeDates = repository.findTradeDatesByInstrumentIdAndTradeDateBetween(
+                INSTRUMENT_SAMSUNG,
                 LocalDate.of(2024, 1, 1),
                 LocalDate.of(2024, 1, 31)
         );
@@ -127,16 +151,16 @@ class DomesticStockDailyPriceRepositoryTest {
     @DisplayName("날짜 순서 검증 - 반환된 Set의 날짜들이 올바른지 확인")
     void 날짜_순서_검증() {
         // Given: 역순으로 데이터 저장
-        repository.save(createStockPrice(STOCK_CODE_SAMSUNG, LocalDate.of(2024, 1, 5)));
-        repository.save(createStockPrice(STOCK_CODE_SAMSUNG, LocalDate.of(2024, 1, 3)));
-        repository.save(createStockPrice(STOCK_CODE_SAMSUNG, LocalDate.of(2024, 1, 1)));
-        repository.save(createStockPrice(STOCK_CODE_SAMSUNG, LocalDate.of(2024, 1, 4)));
-        repository.save(createStockPrice(STOCK_CODE_SAMSUNG, LocalDate.of(2024, 1, 2)));
+        repository.save(createStockPrice(INSTRUMENT_SAMSUNG, LocalDate.of(2024, 1, 5)));
+        repository.save(createStockPrice(INSTRUMENT_SAMSUNG, LocalDate.of(2024, 1, 3)));
+        repository.save(createStockPrice(INSTRUMENT_SAMSUNG, LocalDate.of(2024, 1, 1)));
+        repository.save(createStockPrice(INSTRUMENT_SAMSUNG, LocalDate.of(2024, 1, 4)));
+        repository.save(createStockPrice(INSTRUMENT_SAMSUNG, LocalDate.of(2024, 1, 2)));
         repository.flush();
 
         // When: 전체 범위 조회
-        Set<LocalDate> tradeDates = repository.findTradeDatesByStockCodeAndTradeDateBetween(
-                STOCK_CODE_SAMSUNG,
+        Set<LocalDate> tradeDates = repository.findTradeDatesByInstrumentIdAndTradeDateBetween(
+                INSTRUMENT_SAMSUNG,
                 LocalDate.of(2024, 1, 1),
                 LocalDate.of(2024, 1, 5)
         );
@@ -157,12 +181,12 @@ class DomesticStockDailyPriceRepositoryTest {
     @DisplayName("존재하지 않는 종목 코드 조회 - 빈 Set 반환")
     void 존재하지_않는_종목_코드_조회() {
         // Given: 삼성전자 데이터만 저장
-        repository.save(createStockPrice(STOCK_CODE_SAMSUNG, LocalDate.of(2024, 1, 1)));
+        repository.save(createStockPrice(INSTRUMENT_SAMSUNG, LocalDate.of(2024, 1, 1)));
         repository.flush();
 
         // When: 존재하지 않는 종목 코드로 조회
-        Set<LocalDate> tradeDates = repository.findTradeDatesByStockCodeAndTradeDateBetween(
-                "999999",
+        Set<LocalDate> tradeDates = repository.findTradeDatesByInstrumentIdAndTradeDateBetween(
+                INSTRUMENT_UNKNOWN,
                 LocalDate.of(2024, 1, 1),
                 LocalDate.of(2024, 1, 31)
         );
@@ -175,12 +199,12 @@ class DomesticStockDailyPriceRepositoryTest {
     @DisplayName("startDate > endDate 케이스 - 빈 Set 반환")
     void startDate_endDate_역순_조회() {
         // Given: 데이터 저장
-        repository.save(createStockPrice(STOCK_CODE_SAMSUNG, LocalDate.of(2024, 1, 15)));
+        repository.save(createStockPrice(INSTRUMENT_SAMSUNG, LocalDate.of(2024, 1, 15)));
         repository.flush();
 
         // When: startDate > endDate로 조회
-        Set<LocalDate> tradeDates = repository.findTradeDatesByStockCodeAndTradeDateBetween(
-                STOCK_CODE_SAMSUNG,
+        Set<LocalDate> tradeDates = repository.findTradeDatesByInstrumentIdAndTradeDateBetween(
+                INSTRUMENT_SAMSUNG,
                 LocalDate.of(2024, 1, 31),
                 LocalDate.of(2024, 1, 1)
         );
@@ -193,15 +217,15 @@ class DomesticStockDailyPriceRepositoryTest {
     @DisplayName("여러 종목 코드 데이터 중 특정 종목만 조회")
     void 여러_종목_중_특정_종목_조회() {
         // Given: 삼성전자와 SK하이닉스 데이터 저장
-        repository.save(createStockPrice(STOCK_CODE_SAMSUNG, LocalDate.of(2024, 1, 1)));
-        repository.save(createStockPrice(STOCK_CODE_SAMSUNG, LocalDate.of(2024, 1, 2)));
-        repository.save(createStockPrice(STOCK_CODE_SK_HYNIX, LocalDate.of(2024, 1, 1)));
-        repository.save(createStockPrice(STOCK_CODE_SK_HYNIX, LocalDate.of(2024, 1, 2)));
+        repository.save(createStockPrice(INSTRUMENT_SAMSUNG, LocalDate.of(2024, 1, 1)));
+        repository.save(createStockPrice(INSTRUMENT_SAMSUNG, LocalDate.of(2024, 1, 2)));
+        repository.save(createStockPrice(INSTRUMENT_SK_HYNIX, LocalDate.of(2024, 1, 1)));
+        repository.save(createStockPrice(INSTRUMENT_SK_HYNIX, LocalDate.of(2024, 1, 2)));
         repository.flush();
 
         // When: 삼성전자만 조회
-        Set<LocalDate> samsungDates = repository.findTradeDatesByStockCodeAndTradeDateBetween(
-                STOCK_CODE_SAMSUNG,
+        Set<LocalDate> samsungDates = repository.findTradeDatesByInstrumentIdAndTradeDateBetween(
+                INSTRUMENT_SAMSUNG,
                 LocalDate.of(2024, 1, 1),
                 LocalDate.of(2024, 1, 2)
         );
@@ -210,12 +234,29 @@ class DomesticStockDailyPriceRepositoryTest {
         assertThat(samsungDates).hasSize(2);
     }
 
+    @Test
+    @DisplayName("복합 키(종목 코드, 거래일)로 조회하면 저장된 엔티티는 신규가 아님")
+    void 복합_키_조회() {
+        // Given
+        DomesticStockDailyPrice price = createStockPrice(INSTRUMENT_SAMSUNG, LocalDate.of(2024, 1, 2));
+        assertThat(price.isNew()).isTrue();
+        repository.saveAndFlush(price);
+
+        // When
+        var found = repository.findById(new DailyPriceId(INSTRUMENT_SAMSUNG, LocalDate.of(2024, 1, 2)));
+
+        // Then
+        assertThat(found).isPresent();
+        assertThat(found.get().isNew()).isFalse();
+        assertThat(found.get().getId()).isEqualTo(price.getId());
+    }
+
     /**
      * 테스트용 DomesticStockDailyPrice 생성 헬퍼 메서드
      */
-    private DomesticStockDailyPrice createStockPrice(String stockCode, LocalDate tradeDate) {
+    private DomesticStockDailyPrice createStockPrice(Integer instrumentId, LocalDate tradeDate) {
         return DomesticStockDailyPrice.builder()
-                .stockCode(stockCode)
+                .instrumentId(instrumentId)
                 .tradeDate(tradeDate)
                 .openPrice(new BigDecimal("70000"))
                 .highPrice(new BigDecimal("71000"))
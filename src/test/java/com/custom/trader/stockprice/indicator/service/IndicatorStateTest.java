@@ -0,0 +1,234 @@
+package com.custom.trader.stockprice.indicator.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static com.custom.trader.stockprice.indicator.service.IndicatorState.ATR_PERIOD;
+import static com.custom.trader.stockprice.indicator.service.IndicatorState.EMA_FAST;
+import static com.custom.trader.stockprice.indicator.service.IndicatorState.EMA_SLOW;
+import static com.custom.trader.stockprice.indicator.service.IndicatorState.RSI_PERIOD;
+import static com.custom.trader.stockprice.indicator.service.IndicatorState.SMA_LONG;
+import static com.custom.trader.stockprice.indicator.service.IndicatorState.SMA_SHORT;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * IndicatorState 단위 테스트.
+ *
+ * <p>증분 계산 결과를 창 전체를 다시 계산하는 기준 구현과 비교합니다.</p>
+ */
+@DisplayName("IndicatorState 단위 테스트")
+class IndicatorStateTest {
+
+    private static final Integer INSTRUMENT_ID = 1;
+    private static final LocalDate START = LocalDate.of(2024, 1, 1);
+    private static final int BARS = 200;
+    private static final double TOLERANCE = 1e-6;
+
+    private double[] highs;
+    private double[] lows;
+    private double[] closes;
+
+    @BeforeEach
+    void setUp() {
+        Random random = new Random(42);
+        highs = new double[BARS];
+        lows = new double[BARS];
+        closes = new double[BARS];
+        double close = 10_000;
+        for (int i = 0; i < BARS; i++) {
+            close = Math.max(100, close + random.nextGaussian() * 150);
+            closes[i] = close;
+            highs[i] = close + random.nextDouble() * 200;
+            lows[i] = close - random.nextDouble() * 200;
+        }
+    }
+
+    @Nested
+    @DisplayName("증분 계산")
+    class Next {
+
+        @Test
+        @DisplayName("SMA/EMA/RSI/ATR이 기준 구현과 일치")
+        void matchesReference() {
+            // when
+            List<IndicatorRow> rows = computeFresh();
+
+            // then
+            double[] emaFast = referenceEma(EMA_FAST);
+            double[] emaSlow = referenceEma(EMA_SLOW);
+            double[] rsi = referenceRsi();
+            double[] atr = referenceAtr();
+            for (int i = 0; i < BARS; i++) {
+                IndicatorRow row = rows.get(i);
+                assertThat(row.barCount()).isEqualTo(i + 1);
+                assertThat(row.tradeDate()).isEqualTo(START.plusDays(i));
+                assertSma(row.sma20(), i, SMA_SHORT);
+                assertSma(row.sma60(), i, SMA_LONG);
+                assertThat(row.ema12()).isCloseTo(emaFast[i], within(TOLERANCE));
+                assertThat(row.ema26()).isCloseTo(emaSlow[i], within(TOLERANCE));
+                if (i < RSI_PERIOD) {
+                    assertThat(row.rsi14()).isNull();
+                } else {
+                    assertThat(row.rsi14()).isCloseTo(rsi[i], within(TOLERANCE));
+                }
+                if (i >= ATR_PERIOD - 1) {
+                    assertThat(row.atr14()).isCloseTo(atr[i], within(TOLERANCE));
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("종가가 변하지 않으면 RSI 50, 오르기만 하면 RSI 100")
+        void rsiBoundaries() {
+            // given
+            IndicatorState flat = IndicatorState.fresh(INSTRUMENT_ID);
+            IndicatorState rising = IndicatorState.fresh(INSTRUMENT_ID);
+            IndicatorRow flatRow = null;
+            IndicatorRow risingRow = null;
+
+            // when
+            for (int i = 0; i <= RSI_PERIOD; i++) {
+                flatRow = flat.next(START.plusDays(i), 101, 99, 100);
+                risingRow = rising.next(START.plusDays(i), 101 + i, 99 + i, 100 + i);
+            }
+
+            // then
+            assertThat(flatRow.rsi14()).isEqualTo(50.0);
+            assertThat(flatRow.atr14()).isCloseTo(2.0, within(TOLERANCE));
+            assertThat(risingRow.rsi14()).isEqualTo(100.0);
+        }
+    }
+
+    @Nested
+    @DisplayName("상태 복원")
+    class Resume {
+
+        @ParameterizedTest(name = "{0}번째 일봉 이후 복원")
+        @ValueSource(ints = {1, 13, 20, 59, 60, 61, 150})
+        @DisplayName("마지막 지표 행과 최근 종가로 복원하면 처음부터 계산한 결과와 같음")
+        void resumeMatchesFresh(int resumeAfter) {
+            // given
+            List<IndicatorRow> fresh = computeFresh();
+            int from = Math.max(0, resumeAfter - SMA_LONG);
+            List<Double> recentCloses = Arrays.stream(closes, from, resumeAfter).boxed().toList();
+
+            // when
+            IndicatorState state = IndicatorState.resume(fresh.get(resumeAfter - 1), recentCloses);
+            List<IndicatorRow> resumed = new ArrayList<>();
+            for (int i = resumeAfter; i < BARS; i++) {
+                resumed.add(state.next(START.plusDays(i), highs[i], lows[i], closes[i]));
+            }
+
+            // then
+            for (int i = resumeAfter; i < BARS; i++) {
+                IndicatorRow expected = fresh.get(i);
+                IndicatorRow actual = resumed.get(i - resumeAfter);
+                assertThat(actual.barCount()).isEqualTo(expected.barCount());
+                assertNullableClose(actual.sma20(), expected.sma20());
+                assertNullableClose(actual.sma60(), expected.sma60());
+                assertThat(actual.ema12()).isCloseTo(expected.ema12(), within(TOLERANCE));
+                assertThat(actual.ema26()).isCloseTo(expected.ema26(), within(TOLERANCE));
+                assertNullableClose(actual.rsi14(), expected.rsi14());
+                assertThat(actual.atr14()).isCloseTo(expected.atr14(), within(TOLERANCE));
+            }
+        }
+
+        @Test
+        @DisplayName("종가 개수가 bar_count와 맞지 않으면 예외")
+        void inconsistentCloses() {
+            // given
+            IndicatorRow last = computeFresh().get(99);
+
+            // when & then
+            assertThatThrownBy(() -> IndicatorState.resume(last, List.of(1.0, 2.0)))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    private List<IndicatorRow> computeFresh() {
+        IndicatorState state = IndicatorState.fresh(INSTRUMENT_ID);
+        List<IndicatorRow> rows = new ArrayList<>();
+        for (int i = 0; i < BARS; i++) {
+            rows.add(state.next(START.plusDays(i), highs[i], lows[i], closes[i]));
+        }
+        return rows;
+    }
+
+    private void assertSma(Double actual, int index, int period) {
+        if (index < period - 1) {
+            assertThat(actual).isNull();
+            return;
+        }
+        double expected = Arrays.stream(closes, index - period + 1, index + 1).average().orElseThrow();
+        assertThat(actual).isCloseTo(expected, within(TOLERANCE));
+    }
+
+    private static void assertNullableClose(Double actual, Double expected) {
+        if (expected == null) {
+            assertThat(actual).isNull();
+        } else {
+            assertThat(actual).isCloseTo(expected, within(TOLERANCE));
+        }
+    }
+
+    /**
+     * 첫 기간의 단순 평균을 시드로 하는 EMA (시드 이전은 누적 평균).
+     */
+    private double[] referenceEma(int period) {
+        double[] ema = new double[BARS];
+        double k = 2.0 / (period + 1);
+        for (int i = 0; i < BARS; i++) {
+            ema[i] = i < period
+                    ? Arrays.stream(closes, 0, i + 1).average().orElseThrow()
+                    : ema[i - 1] + k * (closes[i] - ema[i - 1]);
+        }
+        return ema;
+    }
+
+    private double[] referenceRsi() {
+        double[] rsi = new double[BARS];
+        double avgGain = 0;
+        double avgLoss = 0;
+        for (int i = 1; i <= RSI_PERIOD; i++) {
+            double change = closes[i] - closes[i - 1];
+            avgGain += Math.max(change, 0) / RSI_PERIOD;
+            avgLoss += Math.max(-change, 0) / RSI_PERIOD;
+        }
+        rsi[RSI_PERIOD] = 100 - 100 / (1 + avgGain / avgLoss);
+        for (int i = RSI_PERIOD + 1; i < BARS; i++) {
+            double change = closes[i] - closes[i - 1];
+            avgGain = (avgGain * (RSI_PERIOD - 1) + Math.max(change, 0)) / RSI_PERIOD;
+            avgLoss = (avgLoss * (RSI_PERIOD - 1) + Math.max(-change, 0)) / RSI_PERIOD;
+            rsi[i] = 100 - 100 / (1 + avgGain / avgLoss);
+        }
+        return rsi;
+    }
+
+    private double[] referenceAtr() {
+        double[] trueRanges = new double[BARS];
+        for (int i = 0; i < BARS; i++) {
+            trueRanges[i] = i == 0
+                    ? highs[i] - lows[i]
+                    : Math.max(highs[i] - lows[i],
+                    Math.max(Math.abs(highs[i] - closes[i - 1]), Math.abs(lows[i] - closes[i - 1])));
+        }
+        double[] atr = new double[BARS];
+        atr[ATR_PERIOD - 1] = Arrays.stream(trueRanges, 0, ATR_PERIOD).average().orElseThrow();
+        for (int i = ATR_PERIOD; i < BARS; i++) {
+            atr[i] = (atr[i - 1] * (ATR_PERIOD - 1) + trueRanges[i]) / ATR_PERIOD;
+        }
+        return atr;
+    }
+}
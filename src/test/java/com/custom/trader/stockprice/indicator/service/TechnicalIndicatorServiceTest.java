@@ -0,0 +1,269 @@
+package com.custom.trader.stockprice.indicator.service;
+
+import com.custom.trader.common.enums.AssetType;
+import com.custom.trader.stockprice.adjustment.entity.PriceAdjustment;
+import com.custom.trader.stockprice.adjustment.repository.PriceAdjustmentRepository;
+import com.custom.trader.stockprice.adjustment.service.PriceAdjustmentService;
+import com.custom.trader.stockprice.domestic.entity.DomesticStockDailyPrice;
+import com.custom.trader.stockprice.domestic.repository.DomesticStockDailyPriceRepository;
+import com.custom.trader.stockprice.indicator.entity.DailyPriceIndicator;
+import com.custom.trader.stockprice.indicator.repository.DailyPriceIndicatorRepository;
+import com.custom.trader.stockprice.instrument.service.InstrumentRegistry;
+import com.custom.trader.testcontainers.MySQLTestcontainersConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+
+/**
+ * TechnicalIndicatorService 통합 테스트 (증분/무효화/재계산 경로 검증).
+ *
+ * <p>지표 값 자체는 {@link IndicatorStateTest}에서 검증하고, 여기서는 경로별 결과가 전체 재계산과 같은지 확인합니다.</p>
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@Import({MySQLTestcontainersConfig.class, TechnicalIndicatorService.class, PriceAdjustmentService.class,
+        InstrumentRegistry.class})
+@ActiveProfiles("test")
+@DisplayName("TechnicalIndicatorService 통합 테스트")
+class TechnicalIndicatorServiceTest {
+
+    private static final Integer INSTRUMENT_ID = 1;
+    private static final Integer OTHER_INSTRUMENT_ID = 2;
+    private static final LocalDate START = LocalDate.of(2024, 1, 1);
+    private static final LocalDate END = LocalDate.of(2024, 12, 31);
+
+    @Autowired
+    private TechnicalIndicatorService indicatorService;
+
+    @Autowired
+    private DomesticStockDailyPriceRepository dailyRepository;
+
+    @Autowired
+    private DailyPriceIndicatorRepository indicatorRepository;
+
+    @Autowired
+    private PriceAdjustmentRepository adjustmentRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Nested
+    @DisplayName("증분 계산")
+    class Apply {
+
+        @Test
+        @DisplayName("종목 첫 저장이면 첫 일봉부터 계산")
+        void firstSave() {
+            // given
+            List<DomesticStockDailyPrice> bars = bars(0, 30);
+            dailyRepository.saveAllAndFlush(bars);
+
+            // when
+            int saved = indicatorService.apply(AssetType.DOMESTIC_STOCK, INSTRUMENT_ID, Optional.empty(), bars);
+
+            // then
+            assertThat(saved).isEqualTo(30);
+            List<DailyPriceIndicator> indicators = indicators();
+            assertThat(indicators).extracting(DailyPriceIndicator::getBarCount)
+                    .containsExactlyElementsOf(rangeClosed(1, 30));
+            assertThat(indicators.get(18).getSma20()).isNull();
+            assertThat(indicators.get(19).getSma20()).isNotNull();
+        }
+
+        @Test
+        @DisplayName("마지막 거래일 이후 일봉은 이어서 계산하고 결과가 전체 재계산과 같음")
+        void appendsAfterLastStoredDate() {
+            // given
+            List<DomesticStockDailyPrice> history = bars(0, 70);
+            dailyRepository.saveAllAndFlush(history);
+            indicatorService.apply(AssetType.DOMESTIC_STOCK, INSTRUMENT_ID, Optional.empty(), history);
+            List<DomesticStockDailyPrice> newBars = bars(70, 3);
+            dailyRepository.saveAllAndFlush(newBars);
+
+            // when
+            int saved = indicatorService.apply(AssetType.DOMESTIC_STOCK, INSTRUMENT_ID,
+                    Optional.of(history.get(69).getTradeDate()), newBars.reversed());
+
+            // then
+            assertThat(saved).isEqualTo(3);
+            List<DailyPriceIndicator> incremental = indicators();
+            assertThat(incremental).hasSize(73);
+
+            indicatorService.recompute(AssetType.DOMESTIC_STOCK, INSTRUMENT_ID);
+            assertSameIndicators(incremental, indicators());
+        }
+
+        @Test
+        @DisplayName("마지막 거래일 이전 일봉이 들어오면 종목의 지표를 무효화")
+        void invalidatesOnOlderBars() {
+            // given
+            List<DomesticStockDailyPrice> recent = bars(10, 20);
+            dailyRepository.saveAllAndFlush(recent);
+            indicatorService.apply(AssetType.DOMESTIC_STOCK, INSTRUMENT_ID, Optional.empty(), recent);
+            List<DomesticStockDailyPrice> older = bars(0, 10);
+            dailyRepository.saveAllAndFlush(older);
+
+            // when
+            int saved = indicatorService.apply(AssetType.DOMESTIC_STOCK, INSTRUMENT_ID,
+                    Optional.of(recent.get(19).getTradeDate()), older);
+
+            // then
+            assertThat(saved).isZero();
+            assertThat(indicators()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("지표가 없는 종목에 새 일봉이 들어오면 저장된 이력부터 따라잡음")
+        void catchesUpWhenIndicatorsMissing() {
+            // given: 일별 가격만 있고 지표 없음
+            List<DomesticStockDailyPrice> history = bars(0, 40);
+            dailyRepository.saveAllAndFlush(history);
+            List<DomesticStockDailyPrice> newBars = bars(40, 2);
+
+            // when: 새 일봉은 아직 flush 전 (저장 경로와 같은 상태)
+            dailyRepository.saveAll(newBars);
+            int saved = indicatorService.apply(AssetType.DOMESTIC_STOCK, INSTRUMENT_ID,
+                    Optional.of(history.get(39).getTradeDate()), newBars);
+            entityManager.flush();
+
+            // then
+            assertThat(saved).isEqualTo(42);
+            List<DailyPriceIndicator> caughtUp = indicators();
+            assertThat(caughtUp).extracting(DailyPriceIndicator::getBarCount)
+                    .containsExactlyElementsOf(rangeClosed(1, 42));
+
+            indicatorService.recompute(AssetType.DOMESTIC_STOCK, INSTRUMENT_ID);
+            assertSameIndicators(caughtUp, indicators());
+        }
+    }
+
+    @Test
+    @DisplayName("재계산은 기존 지표를 대체")
+    void recomputeReplacesExisting() {
+        // given
+        List<DomesticStockDailyPrice> first = bars(5, 5);
+        dailyRepository.saveAllAndFlush(first);
+        indicatorService.apply(AssetType.DOMESTIC_STOCK, INSTRUMENT_ID, Optional.empty(), first);
+        dailyRepository.saveAllAndFlush(bars(0, 5));
+
+        // when
+        int saved = indicatorService.recompute(AssetType.DOMESTIC_STOCK, INSTRUMENT_ID);
+
+        // then
+        assertThat(saved).isEqualTo(10);
+        assertThat(indicators()).extracting(DailyPriceIndicator::getTradeDate)
+                .first().isEqualTo(START);
+    }
+
+    @Test
+    @DisplayName("수정 계수 사건 이전 일봉은 계수를 곱한 가격으로 계산")
+    void appliesAdjustmentFactors() {
+        // given: 종목 1은 40일째 1:5 분할 (저장 가격은 분할 전 기준), 종목 2는 처음부터 분할 후 기준
+        BigDecimal factor = new BigDecimal("0.2");
+        List<DomesticStockDailyPrice> raw = new ArrayList<>(bars(0, 40));
+        raw.addAll(scaled(bars(40, 30), INSTRUMENT_ID, factor));
+        dailyRepository.saveAllAndFlush(raw);
+        adjustmentRepository.saveAndFlush(PriceAdjustment.builder()
+                .instrumentId(INSTRUMENT_ID)
+                .effectiveDate(START.plusDays(40))
+                .factor(factor)
+                .referenceDate(START.plusDays(39))
+                .expectedClose(raw.get(39).getClosePrice())
+                .fetchedClose(raw.get(39).getClosePrice().multiply(factor))
+                .build());
+        dailyRepository.saveAllAndFlush(scaled(bars(0, 70), OTHER_INSTRUMENT_ID, factor));
+
+        // when
+        indicatorService.recompute(AssetType.DOMESTIC_STOCK, INSTRUMENT_ID);
+        indicatorService.recompute(AssetType.DOMESTIC_STOCK, OTHER_INSTRUMENT_ID);
+
+        // then
+        assertSameIndicators(indicators(), indicators(OTHER_INSTRUMENT_ID));
+    }
+
+    private List<DailyPriceIndicator> indicators() {
+        return indicators(INSTRUMENT_ID);
+    }
+
+    private List<DailyPriceIndicator> indicators(Integer instrumentId) {
+        entityManager.clear();
+        return indicatorRepository.findByInstrumentIdAndTradeDateBetweenOrderByTradeDateAsc(instrumentId, START, END);
+    }
+
+    private static List<DomesticStockDailyPrice> scaled(List<DomesticStockDailyPrice> bars, Integer instrumentId,
+                                                        BigDecimal factor) {
+        return bars.stream()
+                .map(bar -> DomesticStockDailyPrice.builder()
+                        .instrumentId(instrumentId)
+                        .tradeDate(bar.getTradeDate())
+                        .openPrice(bar.getOpenPrice().multiply(factor))
+                        .highPrice(bar.getHighPrice().multiply(factor))
+                        .lowPrice(bar.getLowPrice().multiply(factor))
+                        .closePrice(bar.getClosePrice().multiply(factor))
+                        .volume(bar.getVolume())
+                        .build())
+                .toList();
+    }
+
+    private static void assertSameIndicators(List<DailyPriceIndicator> actual, List<DailyPriceIndicator> expected) {
+        assertThat(actual).hasSameSizeAs(expected);
+        for (int i = 0; i < expected.size(); i++) {
+            DailyPriceIndicator a = actual.get(i);
+            DailyPriceIndicator e = expected.get(i);
+            assertThat(a.getTradeDate()).isEqualTo(e.getTradeDate());
+            assertThat(a.getBarCount()).isEqualTo(e.getBarCount());
+            assertThat(a.getEma26()).isCloseTo(e.getEma26(), within(1e-6));
+            assertThat(a.getAtr14()).isCloseTo(e.getAtr14(), within(1e-6));
+            if (e.getSma60() != null) {
+                assertThat(a.getSma60()).isCloseTo(e.getSma60(), within(1e-6));
+            }
+            if (e.getRsi14() != null) {
+                assertThat(a.getRsi14()).isCloseTo(e.getRsi14(), within(1e-6));
+            }
+        }
+    }
+
+    /**
+     * {@code START + offset}일부터 매일 일봉 {@code count}개 (종가는 톱니 모양으로 오르내림).
+     */
+    private static List<DomesticStockDailyPrice> bars(int offset, int count) {
+        List<DomesticStockDailyPrice> bars = new ArrayList<>();
+        for (int i = offset; i < offset + count; i++) {
+            BigDecimal close = BigDecimal.valueOf(10_000 + (i % 7) * 150 - (i % 3) * 90 + i * 10L);
+            bars.add(DomesticStockDailyPrice.builder()
+                    .instrumentId(INSTRUMENT_ID)
+                    .tradeDate(START.plusDays(i))
+                    .openPrice(close)
+                    .highPrice(close.add(BigDecimal.valueOf(120)))
+                    .lowPrice(close.subtract(BigDecimal.valueOf(80)))
+                    .closePrice(close)
+                    .volume(1_000L)
+                    .build());
+        }
+        return bars;
+    }
+
+    private static List<Integer> rangeClosed(int from, int to) {
+        List<Integer> values = new ArrayList<>();
+        for (int i = from; i <= to; i++) {
+            values.add(i);
+        }
+        return values;
+    }
+}
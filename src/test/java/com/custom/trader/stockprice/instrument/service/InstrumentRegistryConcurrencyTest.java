@@ -0,0 +1,97 @@
+package com.custom.trader.stockprice.instrument.service;
+
+import com.custom.trader.common.enums.AssetType;
+import com.custom.trader.common.enums.MarketCode;
+import com.custom.trader.stockprice.instrument.repository.InstrumentRepository;
+import com.custom.trader.testcontainers.MySQLTestcontainersConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+
+/**
+ * InstrumentRegistry 동시 등록 통합 테스트.
+ *
+ * <p>등록은 독립 트랜잭션에서 커밋되므로 테스트 트랜잭션을 쓰지 않고, 끝나면 등록한 행을 직접 삭제합니다.
+ * 각 스레드는 별도 레지스트리(빈 캐시)를 사용해 여러 인스턴스가 같은 종목을 처음 등록하는 상황을 재현합니다.</p>
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@Import(MySQLTestcontainersConfig.class)
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("InstrumentRegistry 동시 등록 통합 테스트")
+class InstrumentRegistryConcurrencyTest {
+
+    private static final String CODE_PREFIX = "RACE";
+    private static final int ROUNDS = 30;
+
+    @Autowired
+    private InstrumentRepository instrumentRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM instrument WHERE code LIKE ?", CODE_PREFIX + "%");
+    }
+
+    @Test
+    @DisplayName("두 레지스트리가 같은 종목을 동시에 처음 등록해도 예외 없이 같은 id를 받음")
+    void concurrentFirstRegistrationReturnsSameId() throws Exception {
+        // given
+        InstrumentRegistry first = new InstrumentRegistry(instrumentRepository, jdbcTemplate, transactionManager);
+        InstrumentRegistry second = new InstrumentRegistry(instrumentRepository, jdbcTemplate, transactionManager);
+        CyclicBarrier barrier = new CyclicBarrier(2);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            for (int round = 0; round < ROUNDS; round++) {
+                String code = CODE_PREFIX + round;
+
+                // when
+                Future<Integer> a = executor.submit(() -> {
+                    barrier.await(5, TimeUnit.SECONDS);
+                    return first.resolveId(AssetType.DOMESTIC_STOCK, MarketCode.KRX, code);
+                });
+                Future<Integer> b = executor.submit(() -> {
+                    barrier.await(5, TimeUnit.SECONDS);
+                    return second.resolveId(AssetType.DOMESTIC_STOCK, MarketCode.KRX, code);
+                });
+
+                // then
+                Integer idA = a.get(10, TimeUnit.SECONDS);
+                Integer idB = b.get(10, TimeUnit.SECONDS);
+                assertThat(idA).isNotNull().isEqualTo(idB);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        List<Integer> registered = jdbcTemplate.queryForList(
+                "SELECT id FROM instrument WHERE code LIKE ?", Integer.class, CODE_PREFIX + "%");
+        assertThat(registered).hasSize(ROUNDS);
+    }
+}
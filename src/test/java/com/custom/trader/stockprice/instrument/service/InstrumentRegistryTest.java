@@ -0,0 +1,140 @@
+package com.custom.trader.stockprice.instrument.service;
+
+import com.custom.trader.common.enums.AssetType;
+import com.custom.trader.common.enums.MarketCode;
+import com.custom.trader.stockprice.instrument.entity.Instrument;
+import com.custom.trader.stockprice.instrument.repository.InstrumentRepository;
+import com.custom.trader.watchlist.dto.WatchlistStockSummary;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("InstrumentRegistry 단위 테스트")
+class InstrumentRegistryTest {
+
+    @Mock
+    private InstrumentRepository instrumentRepository;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private InstrumentRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new InstrumentRegistry(instrumentRepository, jdbcTemplate, transactionManager);
+    }
+
+    @Test
+    @DisplayName("등록된 종목은 id를 조회하고 이후 호출은 캐시에서 반환")
+    void cachesExistingInstrument() {
+        // given
+        given(instrumentRepository.findByAssetTypeAndMarketCodeAndCode(AssetType.DOMESTIC_STOCK, MarketCode.KRX, "005930"))
+                .willReturn(Optional.of(instrument(AssetType.DOMESTIC_STOCK, MarketCode.KRX, "005930", 7)));
+
+        // when
+        int first = registry.resolveId(AssetType.DOMESTIC_STOCK, MarketCode.KRX, "005930");
+        int second = registry.resolveId(AssetType.DOMESTIC_STOCK, MarketCode.KRX, "005930");
+
+        // then
+        assertThat(first).isEqualTo(7);
+        assertThat(second).isEqualTo(7);
+        assertThat(registry.cacheSize()).isEqualTo(1);
+        verify(instrumentRepository, times(1)).findByAssetTypeAndMarketCodeAndCode(any(), any(), any());
+        verify(jdbcTemplate, never()).update(anyString(), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("미등록 종목은 등록 후 LAST_INSERT_ID로 id를 받음 (스냅숏 재조회 없음)")
+    void registersNewInstrument() {
+        // given
+        given(instrumentRepository.findByAssetTypeAndMarketCodeAndCode(AssetType.OVERSEAS_STOCK, MarketCode.NAS, "AAPL"))
+                .willReturn(Optional.empty());
+        given(jdbcTemplate.queryForObject("SELECT LAST_INSERT_ID()", Integer.class)).willReturn(42);
+
+        // when
+        int id = registry.resolveId(AssetType.OVERSEAS_STOCK, MarketCode.NAS, "AAPL");
+
+        // then
+        assertThat(id).isEqualTo(42);
+        verify(jdbcTemplate).update(anyString(),
+                eq(AssetType.OVERSEAS_STOCK.getCode()), eq(MarketCode.NAS.getCode()), eq("AAPL"), any(), any());
+        verify(instrumentRepository, times(1)).findByAssetTypeAndMarketCodeAndCode(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("같은 코드라도 시장이 다르면 별도 종목")
+    void distinguishesMarkets() {
+        // given
+        given(instrumentRepository.findByAssetTypeAndMarketCodeAndCode(AssetType.OVERSEAS_STOCK, MarketCode.NAS, "AAPL"))
+                .willReturn(Optional.of(instrument(AssetType.OVERSEAS_STOCK, MarketCode.NAS, "AAPL", 1)));
+        given(instrumentRepository.findByAssetTypeAndMarketCodeAndCode(AssetType.OVERSEAS_STOCK, MarketCode.NYS, "AAPL"))
+                .willReturn(Optional.of(instrument(AssetType.OVERSEAS_STOCK, MarketCode.NYS, "AAPL", 2)));
+
+        // when & then
+        assertThat(registry.resolveId(AssetType.OVERSEAS_STOCK, MarketCode.NAS, "AAPL")).isEqualTo(1);
+        assertThat(registry.resolveId(AssetType.OVERSEAS_STOCK, MarketCode.NYS, "AAPL")).isEqualTo(2);
+        assertThat(registry.cacheSize()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("관심종목은 국내면 KRX, 해외면 종목의 거래소로 식별")
+    void resolvesWatchlistStock() {
+        // given
+        given(instrumentRepository.findByAssetTypeAndMarketCodeAndCode(AssetType.DOMESTIC_INDEX, MarketCode.KRX, "0001"))
+                .willReturn(Optional.of(instrument(AssetType.DOMESTIC_INDEX, MarketCode.KRX, "0001", 3)));
+        given(instrumentRepository.findByAssetTypeAndMarketCodeAndCode(AssetType.OVERSEAS_STOCK, MarketCode.NYS, "KO"))
+                .willReturn(Optional.of(instrument(AssetType.OVERSEAS_STOCK, MarketCode.NYS, "KO", 4)));
+
+        // when & then
+        assertThat(registry.resolveId(new WatchlistStockSummary(1L, "0001", null, AssetType.DOMESTIC_INDEX)))
+                .isEqualTo(3);
+        assertThat(registry.resolveId(new WatchlistStockSummary(2L, "KO", MarketCode.NYS, AssetType.OVERSEAS_STOCK)))
+                .isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("등록 후 id를 받지 못하면 예외이며 캐시하지 않음")
+    void failsWhenNotRegistered() {
+        // given
+        given(instrumentRepository.findByAssetTypeAndMarketCodeAndCode(AssetType.DOMESTIC_INDEX, MarketCode.KRX, "0001"))
+                .willReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> registry.resolveId(AssetType.DOMESTIC_INDEX, MarketCode.KRX, "0001"))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(registry.cacheSize()).isZero();
+    }
+
+    private static Instrument instrument(AssetType assetType, MarketCode marketCode, String code, int id) {
+        Instrument instrument = Instrument.builder()
+                .assetType(assetType)
+                .marketCode(marketCode)
+                .code(code)
+                .build();
+        ReflectionTestUtils.setField(instrument, "id", id);
+        return instrument;
+    }
+}
@@ -0,0 +1,190 @@
+package com.custom.trader.stockprice.instrument.service;
+
+import com.custom.trader.stockprice.util.TradeDateBitmap;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TradeDateIndex 테스트")
+class TradeDateIndexTest {
+
+    private static final LocalDate JAN_2 = LocalDate.of(2024, 1, 2);
+    private static final LocalDate JAN_3 = LocalDate.of(2024, 1, 3);
+
+    private final AtomicLong nanoTime = new AtomicLong();
+    private final List<Integer> loads = new ArrayList<>();
+    private final Function<Integer, List<LocalDate>> loader = id -> {
+        loads.add(id);
+        return List.of(JAN_2);
+    };
+
+    private TradeDateIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TradeDateIndex(Duration.ofHours(1), nanoTime::get);
+    }
+
+    @Test
+    @DisplayName("종목별로 한 번만 로드하고 이후에는 캐시 사용")
+    void loadsOncePerInstrument() {
+        // when
+        index.get(1, loader);
+        index.get(1, loader);
+        index.get(2, loader);
+
+        // then
+        assertThat(loads).containsExactly(1, 2);
+        assertThat(index.get(1, loader).contains(JAN_2)).isTrue();
+    }
+
+    @Test
+    @DisplayName("TTL이 지나면 다시 로드")
+    void reloadsAfterTtl() {
+        // given
+        index.get(1, loader);
+
+        // when
+        nanoTime.addAndGet(Duration.ofHours(1).toNanos());
+        index.get(1, loader);
+
+        // then
+        assertThat(loads).containsExactly(1, 1);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서 기록하면 즉시 반영")
+    void recordsImmediatelyWithoutTransaction() {
+        // given
+        index.get(1, loader);
+
+        // when
+        index.record(1, List.of(JAN_3));
+
+        // then
+        assertThat(index.get(1, loader).contains(JAN_3)).isTrue();
+        assertThat(loads).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("로드되지 않은 종목의 기록은 무시 (다음 로드에서 DB 반영분을 읽음)")
+    void recordWithoutEntryIsIgnored() {
+        index.record(1, List.of(JAN_3));
+
+        assertThat(index.size()).isZero();
+    }
+
+    @Nested
+    @DisplayName("범위 조회 (일간 수집)")
+    class Bounded {
+
+        private final List<String> boundedLoads = new ArrayList<>();
+        private final Supplier<List<LocalDate>> boundedLoader = () -> {
+            boundedLoads.add("bounded");
+            return List.of(JAN_3);
+        };
+
+        @Test
+        @DisplayName("캐시에 없는 종목은 전체 로드 없이 범위 조회 결과를 캐시하지 않고 사용")
+        void usesBoundedLoaderWithoutCaching() {
+            // when
+            var bitmaps = new ArrayList<TradeDateBitmap>();
+            TradeDateIndex.runBounded(() -> {
+                bitmaps.add(index.get(1, loader, boundedLoader));
+                bitmaps.add(index.get(1, loader, boundedLoader));
+            });
+
+            // then
+            assertThat(loads).isEmpty();
+            assertThat(boundedLoads).hasSize(2);
+            assertThat(bitmaps).allSatisfy(bitmap -> assertThat(bitmap.contains(JAN_3)).isTrue());
+            assertThat(index.size()).isZero();
+        }
+
+        @Test
+        @DisplayName("캐시된 종목은 범위 조회 없이 캐시 사용")
+        void prefersCachedEntry() {
+            // given
+            index.get(1, loader);
+
+            // when
+            TradeDateIndex.runBounded(() -> index.get(1, loader, boundedLoader));
+
+            // then
+            assertThat(loads).containsExactly(1);
+            assertThat(boundedLoads).isEmpty();
+        }
+
+        @Test
+        @DisplayName("runBounded 밖에서는 전체를 로드해 캐시")
+        void loadsFullOutsideBoundedScope() {
+            // when
+            index.get(1, loader, boundedLoader);
+
+            // then
+            assertThat(loads).containsExactly(1);
+            assertThat(boundedLoads).isEmpty();
+            assertThat(index.size()).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("트랜잭션 안에서 기록")
+    class InTransaction {
+
+        @BeforeEach
+        void initSynchronization() {
+            TransactionSynchronizationManager.initSynchronization();
+            index.get(1, loader);
+        }
+
+        @AfterEach
+        void clearSynchronization() {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        @Test
+        @DisplayName("커밋 후에 반영")
+        void appliesAfterCommit() {
+            // when
+            index.record(1, List.of(JAN_3));
+
+            // then
+            assertThat(index.get(1, loader).contains(JAN_3)).isFalse();
+            complete(TransactionSynchronization.STATUS_COMMITTED);
+            assertThat(index.get(1, loader).contains(JAN_3)).isTrue();
+        }
+
+        @Test
+        @DisplayName("롤백되면 인덱스를 폐기")
+        void invalidatesOnRollback() {
+            // when
+            index.record(1, List.of(JAN_3));
+            complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+            // then
+            assertThat(index.size()).isZero();
+            assertThat(index.get(1, loader).contains(JAN_3)).isFalse();
+            assertThat(loads).containsExactly(1, 1);
+        }
+
+        private void complete(int status) {
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(synchronization -> synchronization.afterCompletion(status));
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package com.custom.trader.stockprice.listener;
+
+import com.custom.trader.common.enums.AssetType;
+import com.custom.trader.common.enums.MarketCode;
+import com.custom.trader.kis.client.KisPriorityContext;
+import com.custom.trader.kis.client.KisRequestPriority;
+import com.custom.trader.kis.client.KisRetryBudgetContext;
+import com.custom.trader.kis.client.KisRetryPolicy;
+import com.custom.trader.stockprice.deferred.entity.DeferredPriceTask.TaskType;
+import com.custom.trader.stockprice.service.StockPriceCollectionService;
+import com.custom.trader.watchlist.dto.WatchlistStockSummary;
+import com.custom.trader.watchlist.event.WatchlistStocksAddedEvent;
+import com.custom.trader.watchlist.repository.WatchlistStockRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * NewStockBackfillWorker 단위 테스트.
+ *
+ * <p>Executor를 목으로 대체하여 접수/중복 방지/실패 처리를 검증합니다.</p>
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NewStockBackfillWorker 단위 테스트")
+class NewStockBackfillWorkerTest {
+
+    private static final String USER_ID = "testUser";
+
+    @Mock
+    private StockPriceCollectionService stockPriceCollectionService;
+
+    @Mock
+    private WatchlistStockRepository watchlistStockRepository;
+
+    @Mock
+    private ExecutorService executor;
+
+    private NewStockBackfillWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        worker = new NewStockBackfillWorker(stockPriceCollectionService, watchlistStockRepository,
+                new KisRetryPolicy(3, Duration.ZERO, Duration.ZERO, 10), executor);
+    }
+
+    @Test
+    @DisplayName("이벤트 종목의 관심종목 행 id를 백그라운드 작업으로 접수하고 완료 후 대기 목록에서 제거")
+    void queuesBackfill() {
+        // given: 삼성전자는 두 그룹에 있음
+        stubPending(List.of("005930", "000660"), row(1L, "005930"), row(2L, "000660"), row(3L, "005930"));
+
+        // when
+        worker.onStocksAdded(new WatchlistStocksAddedEvent(USER_ID, List.of("005930", "000660")));
+
+        // then
+        Runnable task = captureTask();
+        assertThat(worker.getPendingCount()).isEqualTo(3);
+
+        task.run();
+        verify(stockPriceCollectionService).backfillNewStocks(List.of(1L, 2L, 3L));
+        assertThat(worker.getPendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("대기/진행 중인 행은 다시 접수하지 않음")
+    void skipsPendingStocks() {
+        // given
+        stubPending(List.of("005930"), row(1L, "005930"));
+        worker.onStocksAdded(new WatchlistStocksAddedEvent(USER_ID, List.of("005930")));
+        Runnable first = captureTask();
+        stubPending(List.of("005930", "000660"), row(1L, "005930"), row(2L, "000660"));
+
+        // when
+        worker.onStocksAdded(new WatchlistStocksAddedEvent(USER_ID, List.of("005930", "000660")));
+
+        // then
+        var captor = ArgumentCaptor.forClass(Runnable.class);
+        verify(executor, times(2)).execute(captor.capture());
+        first.run();
+        captor.getAllValues().get(1).run();
+        verify(stockPriceCollectionService).backfillNewStocks(List.of(1L));
+        verify(stockPriceCollectionService).backfillNewStocks(List.of(2L));
+    }
+
+    @Test
+    @DisplayName("모든 행이 대기 중이거나 이미 백필되었으면 작업을 추가하지 않음")
+    void ignoresFullyPendingEvent() {
+        // given
+        stubPending(List.of("005930"), row(1L, "005930"));
+        worker.onStocksAdded(new WatchlistStocksAddedEvent(USER_ID, List.of("005930")));
+        given(watchlistStockRepository.findBackfillPendingSummaries(USER_ID, List.of("000660"))).willReturn(List.of());
+
+        // when
+        worker.onStocksAdded(new WatchlistStocksAddedEvent(USER_ID, List.of("005930")));
+        worker.onStocksAdded(new WatchlistStocksAddedEvent(USER_ID, List.of("000660")));
+
+        // then
+        verify(executor).execute(any());
+    }
+
+    @Test
+    @DisplayName("행 조회가 실패하면 접수하지 않음 (정기 백필이 처리)")
+    void lookupFailureLeavesToScheduledBackfill() {
+        // given
+        given(watchlistStockRepository.findBackfillPendingSummaries(USER_ID, List.of("005930")))
+                .willThrow(new QueryTimeoutException("timeout"));
+
+        // when
+        worker.onStocksAdded(new WatchlistStocksAddedEvent(USER_ID, List.of("005930")));
+
+        // then
+        verifyNoInteractions(executor);
+        assertThat(worker.getPendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("백필 실패 시에도 대기 목록에서 제거 (정기 백필이 처리)")
+    void failureReleasesPendingStocks() {
+        // given
+        stubPending(List.of("005930"), row(1L, "005930"));
+        willThrow(new IllegalStateException("boom"))
+                .given(stockPriceCollectionService).backfillNewStocks(any());
+        worker.onStocksAdded(new WatchlistStocksAddedEvent(USER_ID, List.of("005930")));
+
+        // when
+        captureTask().run();
+
+        // then
+        assertThat(worker.getPendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Executor가 작업을 거부하면 대기 목록에서 제거")
+    void rejectionReleasesPendingStocks() {
+        // given
+        stubPending(List.of("005930"), row(1L, "005930"));
+        willThrow(new RejectedExecutionException("shutdown")).given(executor).execute(any());
+
+        // when
+        worker.onStocksAdded(new WatchlistStocksAddedEvent(USER_ID, List.of("005930")));
+
+        // then
+        assertThat(worker.getPendingCount()).isZero();
+        verify(stockPriceCollectionService, never()).backfillNewStocks(any());
+    }
+
+    @Test
+    @DisplayName("지연 재처리 백필 작업은 BACKFILL 우선순위와 별도 재시도 예산으로 실행")
+    void retriesDeferredBackfillsAtBackfillPriority() {
+        // given
+        AtomicReference<KisRequestPriority> priority = new AtomicReference<>();
+        AtomicReference<String> runName = new AtomicReference<>();
+        willAnswer(invocation -> {
+            priority.set(KisPriorityContext.current());
+            runName.set(KisRetryBudgetContext.current().getRunName());
+            return null;
+        }).given(stockPriceCollectionService).retryDeferredTasks(TaskType.BACKFILL);
+
+        // when
+        worker.submitDeferredBackfills();
+        captureTask().run();
+
+        // then
+        verify(stockPriceCollectionService).retryDeferredTasks(TaskType.BACKFILL);
+        assertThat(priority).hasValue(KisRequestPriority.BACKFILL);
+        assertThat(runName).hasValue("deferredBackfillRetry");
+    }
+
+    @Test
+    @DisplayName("지연 재처리 백필이 대기/진행 중이면 다시 접수하지 않고, 끝나면 다시 접수")
+    void deferredBackfillIsQueuedOnce() {
+        // given
+        worker.submitDeferredBackfills();
+
+        // when
+        worker.submitDeferredBackfills();
+
+        // then
+        Runnable task = captureTask();
+        task.run();
+        worker.submitDeferredBackfills();
+        verify(executor, times(2)).execute(any());
+    }
+
+    @Test
+    @DisplayName("지연 재처리 백필이 거부되면 다음 Sweep에서 다시 접수")
+    void deferredBackfillRejectionAllowsResubmit() {
+        // given
+        willThrow(new RejectedExecutionException("shutdown")).given(executor).execute(any());
+        worker.submitDeferredBackfills();
+
+        // when
+        worker.submitDeferredBackfills();
+
+        // then
+        verify(executor, times(2)).execute(any());
+        verifyNoInteractions(stockPriceCollectionService);
+    }
+
+    private void stubPending(List<String> stockCodes, WatchlistStockSummary... rows) {
+        given(watchlistStockRepository.findBackfillPendingSummaries(USER_ID, stockCodes)).willReturn(List.of(rows));
+    }
+
+    private static WatchlistStockSummary row(Long id, String stockCode) {
+        return new WatchlistStockSummary(id, stockCode, MarketCode.KRX, AssetType.DOMESTIC_STOCK);
+    }
+
+    private Runnable captureTask() {
+        var captor = ArgumentCaptor.forClass(Runnable.class);
+        verify(executor).execute(captor.capture());
+        return captor.getValue();
+    }
+}
@@ -72,10 +72,10 @@ class StockPriceMapperTest {
         );
 
         // when
-        var entity = mapper.toDomesticStock("005930", dto);
+        var entity = mapper.toDomesticStock(1, dto);
 
         // then
-        assertThat(entity.getStockCode()).isEqualTo("005930");
+        assertThat(entity.getInstrumentId()).isEqualTo(1);
         assertThat(entity.getOpenPrice()).isEqualTo(BigDecimal.ZERO);  // "N/A" → ZERO
         assertThat(entity.getLowPrice()).isEqualTo(BigDecimal.ZERO);   // "-" → ZERO
         assertThat(entity.getVolume()).isEqualTo(0L);  // "N/A" → 0
@@ -96,10 +96,10 @@ class StockPriceMapperTest {
         );
 
         // when
-        var entity = mapper.toDomesticIndex("0001", dto);
+        var entity = mapper.toDomesticIndex(2, dto);
 
         // then
-        assertThat(entity.getIndexCode()).isEqualTo("0001");
+        assertThat(entity.getInstrumentId()).isEqualTo(2);
         assertThat(entity.getTradeDate()).isEqualTo(LocalDate.of(2024, 1, 31));
         assertThat(entity.getOpenPrice()).isEqualByComparingTo("2490.00");
         assertThat(entity.getHighPrice()).isEqualByComparingTo("2510.00");
@@ -124,10 +124,10 @@ class StockPriceMapperTest {
         );
 
         // when
-        var entity = mapper.toDomesticIndex("0001", dto);
+        var entity = mapper.toDomesticIndex(2, dto);
 
         // then
-        assertThat(entity.getIndexCode()).isEqualTo("0001");
+        assertThat(entity.getInstrumentId()).isEqualTo(2);
         assertThat(entity.getOpenPrice()).isEqualTo(BigDecimal.ZERO);  // "N/A" → ZERO
         assertThat(entity.getLowPrice()).isEqualTo(BigDecimal.ZERO);   // "-" → ZERO
         assertThat(entity.getVolume()).isEqualTo(0L);  // "N/A" → 0
@@ -150,11 +150,10 @@ class StockPriceMapperTest {
         );
 
         // when
-        var entity = mapper.toOverseasStock("AAPL", "NAS", dto);
+        var entity = mapper.toOverseasStock(3, dto);
 
         // then
-        assertThat(entity.getStockCode()).isEqualTo("AAPL");
-        assertThat(entity.getExchangeCode()).isEqualTo("NAS");
+        assertThat(entity.getInstrumentId()).isEqualTo(3);
         assertThat(entity.getTradeDate()).isEqualTo(LocalDate.of(2024, 1, 31));
         assertThat(entity.getOpenPrice()).isEqualByComparingTo("183.00");
         assertThat(entity.getHighPrice()).isEqualByComparingTo("186.00");
@@ -181,11 +180,10 @@ class StockPriceMapperTest {
         );
 
         // when
-        var entity = mapper.toOverseasStock("AAPL", "NAS", dto);
+        var entity = mapper.toOverseasStock(3, dto);
 
         // then
-        assertThat(entity.getStockCode()).isEqualTo("AAPL");
-        assertThat(entity.getExchangeCode()).isEqualTo("NAS");
+        assertThat(entity.getInstrumentId()).isEqualTo(3);
         assertThat(entity.getOpenPrice()).isEqualTo(BigDecimal.ZERO);  // "N/A" → ZERO
         assertThat(entity.getLowPrice()).isEqualTo(BigDecimal.ZERO);   // "-" → ZERO
         assertThat(entity.getVolume()).isEqualTo(0L);  // "N/A" → 0
@@ -206,11 +204,10 @@ class StockPriceMapperTest {
         );
 
         // when
-        var entity = mapper.toOverseasIndex("COMP", "NAS", dto);
+        var entity = mapper.toOverseasIndex(4, dto);
 
         // then
-        assertThat(entity.getIndexCode()).isEqualTo("COMP");
-        assertThat(entity.getExchangeCode()).isEqualTo("NAS");
+        assertThat(entity.getInstrumentId()).isEqualTo(4);
         assertThat(entity.getTradeDate()).isEqualTo(LocalDate.of(2024, 1, 31));
         assertThat(entity.getOpenPrice()).isEqualByComparingTo("15450.00");
         assertThat(entity.getHighPrice()).isEqualByComparingTo("15520.00");
@@ -235,11 +232,10 @@ class StockPriceMapperTest {
         );
 
         // when
-        var entity = mapper.toOverseasIndex("COMP", "NAS", dto);
+        var entity = mapper.toOverseasIndex(4, dto);
 
         // then
-        assertThat(entity.getIndexCode()).isEqualTo("COMP");
-        assertThat(entity.getExchangeCode()).isEqualTo("NAS");
+        assertThat(entity.getInstrumentId()).isEqualTo(4);
         assertThat(entity.getOpenPrice()).isEqualTo(BigDecimal.ZERO);  // "N/A" → ZERO
         assertThat(entity.getLowPrice()).isEqualTo(BigDecimal.ZERO);   // "-" → ZERO
         assertThat(entity.getVolume()).isEqualTo(0L);  // "N/A" → 0
@@ -27,10 +27,10 @@ class OverseasIndexDailyPriceRepositoryTest {
     @Autowired
     private OverseasIndexDailyPriceRepository repository;
 
-    private static final String INDEX_CODE_COMP = "COMP";
-    private static final String INDEX_CODE_SPX = "SPX";
-    private static final String EXCHANGE_CODE_NAS = "NAS";
-    private static final String EXCHANGE_CODE_NYS = "NYS";
+    private static final Integer INSTRUMENT_COMP_NAS = 1;
+    private static final Integer INSTRUMENT_SPX_NYS = 2;
+    private static final Integer INSTRUMENT_COMP_NYS = 3;
+    private static final Integer INSTRUMENT_UNKNOWN = 999;
 
     @BeforeEach
     void setUp() {
@@ -41,17 +41,16 @@ class OverseasIndexDailyPriceRepositoryTest {
     @DisplayName("날짜 범위 조회 정합성 검증 - BETWEEN 경계값 포함")
     void 날짜_범위_조회_정합성_검증() {
         // Given: 2024-01-01 ~ 2024-01-05 데이터 5개 저장
-        repository.save(createIndexPrice(INDEX_CODE_COMP, EXCHANGE_CODE_NAS, LocalDate.of(2024, 1, 1)));
-        repository.save(createIndexPrice(INDEX_CODE_COMP, EXCHANGE_CODE_NAS, LocalDate.of(2024, 1, 2)));
-        repository.save(createIndexPrice(INDEX_CODE_COMP, EXCHANGE_CODE_NAS, LocalDate.of(2024, 1, 3)));
-        repository.save(createIndexPrice(INDEX_CODE_COMP, EXCHANGE_CODE_NAS, LocalDate.of(2024, 1, 4)));
-        repository.save(createIndexPrice(INDEX_CODE_COMP, EXCHANGE_CODE_NAS, LocalDate.of(2024, 1, 5)));
+        repository.save(createIndexPrice(INSTRUMENT_COMP_NAS, LocalDate.of(2024, 1, 1)));
+        repository.save(createIndexPrice(INSTRUMENT_COMP_NAS, LocalDate.of(2024, 1, 2)));
+        repository.save(createIndexPrice(INSTRUMENT_COMP_NAS, LocalDate.of(2024, 1, 3)));
+        repository.save(createIndexPrice(INSTRUMENT_COMP_NAS, LocalDate.of(2024, 1, 4)));
+        repository.save(createIndexPrice(INSTRUMENT_COMP_NAS, LocalDate.of(2024, 1, 5)));
         repository.flush();
 
         // When: 2024-01-02 ~ 2024-01-04 범위 조회
-        Set<LocalDate> tradeDates = repository.findTradeDatesByIndexCodeAndExchangeCodeAndTradeDateBetween(
-                INDEX_CODE_COMP,
-                EXCHANGE_CODE_NAS,
+        Set<LocalDate> tradeDates = repository.findTradeDatesByInstrumentIdAndTradeDateBetween(
+                INSTRUMENT_COMP_NAS,
                 LocalDate.of(2024, 1, 2),
                 LocalDate.of(2024, 1, 4)
         );
@@ -70,17 +69,16 @@ class OverseasIndexDailyPriceRepositoryTest {
     @DisplayName("BETWEEN 경계값 검증 - startDate와 endDate 정확히 포함")
     void BETWEEN_경계값_검증() {
         // Given: 2024-01-01 ~ 2024-01-05 데이터 5개 저장
-        repository.save(createIndexPrice(INDEX_CODE_COMP, EXCHANGE_CODE_NAS, LocalDate.of(2024, 1, 1)));
-        repository.save(createIndexPrice(INDEX_CODE_COMP, EXCHANGE_CODE_NAS, LocalDate.of(2024, 1, 2)));
-        repository.save(createIndexPrice(INDEX_CODE_COMP, EXCHANGE_CODE_NAS, LocalDate.of(2024, 1, 3)));
-        repository.save(createIndexPrice(INDEX_CODE_COMP, EXCHANGE_CODE_NAS, LocalDate.of(2024, 1, 4)));
-        repository.save(createIndexPrice(INDEX_CODE_COMP, EXCHANGE_CODE_NAS, LocalDate.of(2024, 1, 5)));
+        repository.save(createIndexPrice(INSTRUMENT_COMP_NAS, LocalDate.of(2024, 1, 1)));
+        repository.save(createIndexPrice(INSTRUMENT_COMP_NAS, LocalDate.of(2024, 1, 2)));
+        repository.save(createIndexPrice(INSTRUMENT_COMP_NAS, LocalDate.of(2024, 1, 3)));
+        repository.save(createIndexPrice(INSTRUMENT_COMP_NAS, LocalDate.of(2024, 1, 4)));
+        repository.save(createIndexPrice(INSTRUMENT_COMP_NAS, LocalDate.of(2024, 1, 5)));
         repository.flush();
 
         // When: 경계값 조회
-        Set<LocalDate> tradeDates = repository.findTradeDatesByIndexCodeAndExchangeCodeAndTradeDateBetween(
-                INDEX_CODE_COMP,
-                EXCHANGE_CODE_NAS,
+        Set<LocalDate> tradeDates = repository.findTradeDatesByInstrumentIdAndTradeDateBetween(
+                INSTRUMENT_COMP_NAS,
                 LocalDate.of(2024, 1, 2),
                 LocalDate.of(2024, 1, 4)
         );
@@ -95,13 +93,12 @@ class OverseasIndexDailyPriceRepositoryTest {
     @DisplayName("중복 제거 검증 - 동일 날짜 데이터 저장 시 Set으로 중복 제거")
     void 중복_제거_검증() {
         // Given: 동일 날짜 데이터 저장 (uniqueConstraint로 실제로는 1개만 저장됨)
-        repository.save(createIndexPrice(INDEX_CODE_COMP, EXCHANGE_CODE_NAS, LocalDate.of(2024, 1, 1)));
+        repository.save(createIndexPrice(INSTRUMENT_COMP_NAS, LocalDate.of(2024, 1, 1)));
         repository.flush();
 
         // When: 조회
-        Set<LocalDate> tradeDates = repository.findTradeDatesByIndexCodeAndExchangeCodeAndTradeDateBetween(
-                INDEX_CODE_COMP,
-                EXCHANGE_CODE_NAS,
+        Set<LocalDate> tradeDates = repository.findTradeDatesByInstrumentIdAndTradeDateBetween(
+                INSTRUMENT_COMP_NAS,
                 LocalDate.of(2024, 1, 1),
                 LocalDate.of(2024, 1, 1)
         );
@@ -117,9 +114,8 @@ class OverseasIndexDailyPriceRepositoryTest {
         // Given: 데이터 없음 (setUp에서 deleteAll 실행)
 
         // When: 존재하지 않는 날짜 범위 조회
-        Set<LocalDate> tradeDates = repository.findTradeDatesByIndexCodeAndExchangeCodeAndTradeDateBetween(
-                INDEX_CODE_COMP,
-                EXCHANGE_CODE_NAS,
+        Set<LocalDate> tradeDates = repository.findTradeDatesByInstrumentIdAndTradeDateBetween(
+                INSTRUMENT_COMP_NAS,
                 LocalDate.of(2024, 1, 1),
                 LocalDate.of(2024, 1, 31)
         );
@@ -132,17 +128,16 @@ class OverseasIndexDailyPriceRepositoryTest {
     @DisplayName("날짜 순서 검증 - 반환된 Set의 날짜들이 올바른지 확인")
     void 날짜_순서_검증() {
         // Given: 역순으로 데이터 저장
-        repository.save(createIndexPrice(INDEX_CODE_COMP, EXCHANGE_CODE_NAS, LocalDate.of(2024, 1, 5)));
-        repository.save(createIndexPrice(INDEX_CODE_COMP, EXCHANGE_CODE_NAS, LocalDate.of(2024, 1, 3)));
-        repository.save(createIndexPrice(INDEX_CODE_COMP, EXCHANGE_CODE_NAS, LocalDate.of(2024, 1, 1)));
-        repository.save(createIndexPrice(INDEX_CODE_COMP, EXCHANGE_CODE_NAS, LocalDate.of(2024, 1, 4)));
-        repository.save(createIndexPrice(INDEX_CODE_COMP, EXCHANGE_CODE_NAS, LocalDate.of(2024, 1, 2)));
+        repository.save(createIndexPrice(INSTRUMENT_COMP_NAS, LocalDate.of(2024, 1, 5)));
+        repository.save(createIndexPrice(INSTRUMENT_COMP_NAS, LocalDate.of(2024, 1, 3)));
+        repository.save(createIndexPrice(INSTRUMENT_COMP_NAS, LocalDate.of(2024, 1, 1)));
+        repository.save(createIndexPrice(INSTRUMENT_COMP_NAS, LocalDate.of(2024, 1, 4)));
+        repository.save(createIndexPrice(INSTRUMENT_COMP_NAS, LocalDate.of(2024, 1, 2)));
         repository.flush();
 
         // When: 전체 범위 조회
-        Set<LocalDate> tradeDates = repository.findTradeDatesByIndexCodeAndExchangeCodeAndTradeDateBetween(
-                INDEX_CODE_COMP,
-                EXCHANGE_CODE_NAS,
+        Set<LocalDate> tradeDates = repository.findTradeDatesByInstrumentIdAndTradeDateBetween(
+                INSTRUMENT_COMP_NAS,
                 LocalDate.of(2024, 1, 1),
                 LocalDate.of(2024, 1, 5)
         );
@@ -163,13 +158,12 @@ class OverseasIndexDailyPriceRepositoryTest {
     @DisplayName("존재하지 않는 지수 코드 조회 - 빈 Set 반환")
     void 존재하지_않는_지수_코드_조회() {
         // Given: COMP 데이터만 저장
-        repository.save(createIndexPrice(INDEX_CODE_COMP, EXCHANGE_CODE_NAS, LocalDate.of(2024, 1, 1)));
+        repository.save(createIndexPrice(INSTRUMENT_COMP_NAS, LocalDate.of(2024, 1, 1)));
         repository.flush();
 
         // When: 존재하지 않는 지수 코드로 조회
-        Set<LocalDate> tradeDates = repository.findTradeDatesByIndexCodeAndExchangeCodeAndTradeDateBetween(
-                "INVALID",
-                EXCHANGE_CODE_NAS,
+        Set<LocalDate> tradeDates = repository.findTradeDatesByInstrumentIdAndTradeDateBetween(
+                INSTRUMENT_UNKNOWN,
                 LocalDate.of(2024, 1, 1),
                 LocalDate.of(2024, 1, 31)
         );
@@ -182,13 +176,12 @@ class OverseasIndexDailyPriceRepositoryTest {
     @DisplayName("startDate > endDate 케이스 - 빈 Set 반환")
     void startDate_endDate_역순_조회() {
         // Given: 데이터 저장
-        repository.save(createIndexPrice(INDEX_CODE_COMP, EXCHANGE_CODE_NAS, LocalDate.of(2024, 1, 15)));
+        repository.save(createIndexPrice(INSTRUMENT_COMP_NAS, LocalDate.of(2024, 1, 15)));
         repository.flush();
 
         // When: startDate > endDate로 조회
-        Set<LocalDate> tradeDates = repository.findTradeDatesByIndexCodeAndExchangeCodeAndTradeDateBetween(
-                INDEX_CODE_COMP,
-                EXCHANGE_CODE_NAS,
+        Set<LocalDate> tradeDates = repository.findTradeDatesByInstrumentIdAndTradeDateBetween(
+                INSTRUMENT_COMP_NAS,
                 LocalDate.of(2024, 1, 31),
                 LocalDate.of(2024, 1, 1)
         );
@@ -201,16 +194,15 @@ class OverseasIndexDailyPriceRepositoryTest {
     @DisplayName("여러 지수 코드 데이터 중 특정 지수만 조회")
     void 여러_지수_중_특정_지수_조회() {
         // Given: COMP와 SPX 데이터 저장
-        repository.save(createIndexPrice(INDEX_CODE_COMP, EXCHANGE_CODE_NAS, LocalDate.of(2024, 1, 1)));
-        repository.save(createIndexPrice(INDEX_CODE_COMP, EXCHANGE_CODE_NAS, LocalDate.of(2024, 1, 2)));
-        repository.save(createIndexPrice(INDEX_CODE_SPX, EXCHANGE_CODE_NYS, LocalDate.of(2024, 1, 1)));
-        repository.save(createIndexPrice(INDEX_CODE_SPX, EXCHANGE_CODE_NYS, LocalDate.of(2024, 1, 2)));
+        repository.save(createIndexPrice(INSTRUMENT_COMP_NAS, LocalDate.of(2024, 1, 1)));
+        repository.save(createIndexPrice(INSTRUMENT_COMP_NAS, LocalDate.of(2024, 1, 2)));
+        repository.save(createIndexPrice(INSTRUMENT_SPX_NYS, LocalDate.of(2024, 1, 1)));
+        repository.save(createIndexPrice(INSTRUMENT_SPX_NYS, LocalDate.of(2024, 1, 2)));
         repository.flush();
 
         // When: COMP만 조회
-        Set<LocalDate> compDates = repository.findTradeDatesByIndexCodeAndExchangeCodeAndTradeDateBetween(
-                INDEX_CODE_COMP,
-                EXCHANGE_CODE_NAS,
+        Set<LocalDate> compDates = repository.findTradeDatesByInstrumentIdAndTradeDateBetween(
+                INSTRUMENT_COMP_NAS,
                 LocalDate.of(2024, 1, 1),
                 LocalDate.of(2024, 1, 2)
         );
@@ -223,22 +215,20 @@ class OverseasIndexDailyPriceRepositoryTest {
     @DisplayName("동일 지수 다른 거래소 데이터 조회 - 거래소 코드별 필터링")
     void 동일_지수_다른_거래소_조회() {
         // Given: COMP NAS와 NYS 데이터 저장 (테스트용)
-        repository.save(createIndexPrice(INDEX_CODE_COMP, EXCHANGE_CODE_NAS, LocalDate.of(2024, 1, 1)));
-        repository.save(createIndexPrice(INDEX_CODE_COMP, EXCHANGE_CODE_NYS, LocalDate.of(2024, 1, 1)));
+        repository.save(createIndexPrice(INSTRUMENT_COMP_NAS, LocalDate.of(2024, 1, 1)));
+        repository.save(createIndexPrice(INSTRUMENT_COMP_NYS, LocalDate.of(2024, 1, 1)));
         repository.flush();
 
         // When: NAS만 조회
-        Set<LocalDate> nasDates = repository.findTradeDatesByIndexCodeAndExchangeCodeAndTradeDateBetween(
-                INDEX_CODE_COMP,
-                EXCHANGE_CODE_NAS,
+        Set<LocalDate> nasDates = repository.findTradeDatesByInstrumentIdAndTradeDateBetween(
+                INSTRUMENT_COMP_NAS,
                 LocalDate.of(2024, 1, 1),
                 LocalDate.of(2024, 1, 1)
         );
 
         // When: NYS만 조회
-        Set<LocalDate> nysDates = repository.findTradeDatesByIndexCodeAndExchangeCodeAndTradeDateBetween(
-                INDEX_CODE_COMP,
-                EXCHANGE_CODE_NYS,
+        Set<LocalDate> nysDates = repository.findTradeDatesByInstrumentIdAndTradeDateBetween(
+                INSTRUMENT_COMP_NYS,
                 LocalDate.of(2024, 1, 1),
                 LocalDate.of(2024, 1, 1)
         );
@@ -251,10 +241,9 @@ class OverseasIndexDailyPriceRepositoryTest {
     /**
      * 테스트용 OverseasIndexDailyPrice 생성 헬퍼 메서드
      */
-    private OverseasIndexDailyPrice createIndexPrice(String indexCode, String exchangeCode, LocalDate tradeDate) {
+    private OverseasIndexDailyPrice createIndexPrice(Integer instrumentId, LocalDate tradeDate) {
         return OverseasIndexDailyPrice.builder()
-                .indexCode(indexCode)
-                .exchangeCode(exchangeCode)
+                .instrumentId(instrumentId)
                 .tradeDate(tradeDate)
                 .openPrice(new BigDecimal("15000.0000"))
                 .highPrice(new BigDecimal("15200.0000"))
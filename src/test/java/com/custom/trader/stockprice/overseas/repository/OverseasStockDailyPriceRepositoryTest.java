@@ -27,10 +27,10 @@ class OverseasStockDailyPriceRepositoryTest {
     @Autowired
     private OverseasStockDailyPriceRepository repository;
 
-    private static final String STOCK_CODE_AAPL = "AAPL";
-    private static final String STOCK_CODE_TSLA = "TSLA";
-    private static final String EXCHANGE_CODE_NAS = "NAS";
-    private static final String EXCHANGE_CODE_NYS = "NYS";
+    private static final Integer INSTRUMENT_AAPL_NAS = 1;
+    private static final Integer INSTRUMENT_TSLA_NAS = 2;
+    private static final Integer INSTRUMENT_AAPL_NYS = 3;
+    private static final Integer INSTRUMENT_UNKNOWN = 999;
 
     @BeforeEach
     void setUp() {
@@ -41,17 +41,16 @@ class OverseasStockDailyPriceRepositoryTest {
     @DisplayName("날짜 범위 조회 정합성 검증 - BETWEEN 경계값 포함")
     void 날짜_범위_조회_정합성_검증() {
         // Given: 2024-01-01 ~ 2024-01-05 데이터 5개 저장
-        repository.save(createStockPrice(STOCK_CODE_AAPL, EXCHANGE_CODE_NAS, LocalDate.of(2024, 1, 1)));
-        repository.save(createStockPrice(STOCK_CODE_AAPL, EXCHANGE_CODE_NAS, LocalDate.of(2024, 1, 2)));
-        repository.save(createStockPrice(STOCK_CODE_AAPL, EXCHANGE_CODE_NAS, LocalDate.of(2024, 1, 3)));
-        repository.save(createStockPrice(STOCK_CODE_AAPL, EXCHANGE_CODE_NAS, LocalDate.of(2024, 1, 4)));
-        repository.save(createStockPrice(STOCK_CODE_AAPL, EXCHANGE_CODE_NAS, LocalDate.of(2024, 1, 5)));
+        repository.save(createStockPrice(INSTRUMENT_AAPL_NAS, LocalDate.of(2024, 1, 1)));
+        repository.save(createStockPrice(INSTRUMENT_AAPL_NAS, LocalDate.of(2024, 1, 2)));
+        repository.save(createStockPrice(INSTRUMENT_AAPL_NAS, LocalDate.of(2024, 1, 3)));
+        repository.save(createStockPrice(INSTRUMENT_AAPL_NAS, LocalDate.of(2024, 1, 4)));
+        repository.save(createStockPrice(INSTRUMENT_AAPL_NAS, LocalDate.of(2024, 1, 5)));
         repository.flush();
 
         // When: 2024-01-02 ~ 2024-01-04 범위 조회
-        Set<LocalDate> tradeDates = repository.findTradeDatesByStockCodeAndExchangeCodeAndTradeDateBetween(
-                STOCK_CODE_AAPL,
-                EXCHANGE_CODE_NAS,
+        Set<LocalDate> tradeDates = repository.findTradeDatesByInstrumentIdAndTradeDateBetween(
+                INSTRUMENT_AAPL_NAS,
                 LocalDate.of(2024, 1, 2),
                 LocalDate.of(2024, 1, 4)
         );
@@ -70,17 +69,16 @@ class OverseasStockDailyPriceRepositoryTest {
     @DisplayName("BETWEEN 경계값 검증 - startDate와 endDate 정확히 포함")
     void BETWEEN_경계값_검증() {
         // Given: 2024-01-01 ~ 2024-01-05 데이터 5개 저장
-        repository.save(createStockPrice(STOCK_CODE_AAPL, EXCHANGE_CODE_NAS, LocalDate.of(2024, 1, 1)));
-        repository.save(createStockPrice(STOCK_CODE_AAPL, EXCHANGE_CODE_NAS, LocalDate.of(2024, 1, 2)));
-        repository.save(createStockPrice(STOCK_CODE_AAPL, EXCHANGE_CODE_NAS, LocalDate.of(2024, 1, 3)));
-        repository.save(createStockPrice(STOCK_CODE_AAPL, EXCHANGE_CODE_NAS, LocalDate.of(2024, 1, 4)));
-        repository.save(createStockPrice(STOCK_CODE_AAPL, EXCHANGE_CODE_NAS, LocalDate.of(2024, 1, 5)));
+        repository.save(createStockPrice(INSTRUMENT_AAPL_NAS, LocalDate.of(2024, 1, 1)));
+        repository.save(createStockPrice(INSTRUMENT_AAPL_NAS, LocalDate.of(2024, 1, 2)));
+        repository.save(createStockPrice(INSTRUMENT_AAPL_NAS, LocalDate.of(2024, 1, 3)));
+        repository.save(createStockPrice(INSTRUMENT_AAPL_NAS, LocalDate.of(2024, 1, 4)));
+        repository.save(createStockPrice(INSTRUMENT_AAPL_NAS, LocalDate.of(2024, 1, 5)));
         repository.flush();
 
         // When: 경계값 조회
-        Set<LocalDate> tradeDates = repository.findTradeDatesByStockCodeAndExchangeCodeAndTradeDateBetween(
-                STOCK_CODE_AAPL,
-                EXCHANGE_CODE_NAS,
+        Set<LocalDate> tradeDates = repository.findTradeDatesByInstrumentIdAndTradeDateBetween(
+                INSTRUMENT_AAPL_NAS,
                 LocalDate.of(2024, 1, 2),
                 LocalDate.of(2024, 1, 4)
         );
@@ -95,13 +93,12 @@ class OverseasStockDailyPriceRepositoryTest {
     @DisplayName("중복 제거 검증 - 동일 날짜 데이터 저장 시 Set으로 중복 제거")
     void 중복_제거_검증() {
         // Given: 동일 날짜 데이터 저장 (uniqueConstraint로 실제로는 1개만 저장됨)
-        repository.save(createStockPrice(STOCK_CODE_AAPL, EXCHANGE_CODE_NAS, LocalDate.of(2024, 1, 1)));
+        repository.save(createStockPrice(INSTRUMENT_AAPL_NAS, LocalDate.of(2024, 1, 1)));
         repository.flush();
 
         // When: 조회
-        Set<LocalDate> tradeDates = repository.findTradeDatesByStockCodeAndExchangeCodeAndTradeDateBetween(
-                STOCK_CODE_AAPL,
-                EXCHANGE_CODE_NAS,
+        Set<LocalDate> tradeDates = repository.findTradeDatesByInstrumentIdAndTradeDateBetween(
+                INSTRUMENT_AAPL_NAS,
                 LocalDate.of(2024, 1, 1),
                 LocalDate.of(2024, 1, 1)
         );
@@ -117,9 +114,8 @@ class OverseasStockDailyPriceRepositoryTest {
         // Given: 데이터 없음 (setUp에서 deleteAll 실행)
 
         // When: 존재하지 않는 날짜 범위 조회
-        Set<LocalDate> tradeDates = repository.findTradeDatesByStockCodeAndExchangeCodeAndTradeDateBetween(
-                STOCK_CODE_AAPL,
-                EXCHANGE_CODE_NAS,
+        Set<LocalDate> tradeDates = repository.findTradeDatesByInstrumentIdAndTradeDateBetween(
+                INSTRUMENT_AAPL_NAS,
                 LocalDate.of(2024, 1, 1),
                 LocalDate.of(2024, 1, 31)
         );
@@ -132,17 +128,16 @@ class OverseasStockDailyPriceRepositoryTest {
     @DisplayName("날짜 순서 검증 - 반환된 Set의 날짜들이 올바른지 확인")
     void 날짜_순서_검증() {
         // Given: 역순으로 데이터 저장
-        repository.save(createStockPrice(STOCK_CODE_AAPL, EXCHANGE_CODE_NAS, LocalDate.of(2024, 1, 5)));
-        repository.save(createStockPrice(STOCK_CODE_AAPL, EXCHANGE_CODE_NAS, LocalDate.of(2024, 1, 3)));
-        repository.save(createStockPrice(STOCK_CODE_AAPL, EXCHANGE_CODE_NAS, LocalDate.of(2024, 1, 1)));
-        repository.save(createStockPrice(STOCK_CODE_AAPL, EXCHANGE_CODE_NAS, LocalDate.of(2024, 1, 4)));
-        repository.save(createStockPrice(STOCK_CODE_AAPL, EXCHANGE_CODE_NAS, LocalDate.of(2024, 1, 2)));
+        repository.save(createStockPrice(INSTRUMENT_AAPL_NAS, LocalDate.of(2024, 1, 5)));
+        repository.save(createStockPrice(INSTRUMENT_AAPL_NAS, LocalDate.of(2024, 1, 3)));
+        repository.save(createStockPrice(INSTRUMENT_AAPL_NAS, LocalDate.of(2024, 1, 1)));
+        repository.save(createStockPrice(INSTRUMENT_AAPL_NAS, LocalDate.of(2024, 1, 4)));
+        repository.save(createStockPrice(INSTRUMENT_AAPL_NAS, LocalDate.of(2024, 1, 2)));
         repository.flush();
 
         // When: 전체 범위 조회
-        Set<LocalDate> tradeDates = repository.findTradeDatesByStockCodeAndExchangeCodeAndTradeDateBetween(
-                STOCK_CODE_AAPL,
-                EXCHANGE_CODE_NAS,
+        Set<LocalDate> tradeDates = repository.findTradeDatesByInstrumentIdAndTradeDateBetween(
+                INSTRUMENT_AAPL_NAS,
                 LocalDate.of(2024, 1, 1),
                 LocalDate.of(2024, 1, 5)
         );
@@ -163,13 +158,12 @@ class OverseasStockDailyPriceRepositoryTest {
     @DisplayName("존재하지 않는 종목 코드 조회 - 빈 Set 반환")
     void 존재하지_않는_종목_코드_조회() {
         // Given: AAPL 데이터만 저장
-        repository.save(createStockPrice(STOCK_CODE_AAPL, EXCHANGE_CODE_NAS, LocalDate.of(2024, 1, 1)));
+        repository.save(createStockPrice(INSTRUMENT_AAPL_NAS, LocalDate.of(2024, 1, 1)));
         repository.flush();
 
         // When: 존재하지 않는 종목 코드로 조회
-        Set<LocalDate> tradeDates = repository.findTradeDatesByStockCodeAndExchangeCodeAndTradeDateBetween(
-                "INVALID",
-                EXCHANGE_CODE_NAS,
+        Set<LocalDate> tradeDates = repository.findTradeDatesByInstrumentIdAndTradeDateBetween(
+                INSTRUMENT_UNKNOWN,
                 LocalDate.of(2024, 1, 1),
                 LocalDate.of(2024, 1, 31)
         );
@@ -182,13 +176,12 @@ class OverseasStockDailyPriceRepositoryTest {
     @DisplayName("startDate > endDate 케이스 - 빈 Set 반환")
     void startDate_endDate_역순_조회() {
         // Given: 데이터 저장
-        repository.save(createStockPrice(STOCK_CODE_AAPL, EXCHANGE_CODE_NAS, LocalDate.of(2024, 1, 15)));
+        repository.save(createStockPrice(INSTRUMENT_AAPL_NAS, LocalDate.of(2024, 1, 15)));
         repository.flush();
 
         // When: startDate > endDate로 조회
-        Set<LocalDate> tradeDates = repository.findTradeDatesByStockCodeAndExchangeCodeAndTradeDateBetween(
-                STOCK_CODE_AAPL,
-                EXCHANGE_CODE_NAS,
+        Set<LocalDate> tradeDates = repository.findTradeDatesByInstrumentIdAndTradeDateBetween(
+                INSTRUMENT_AAPL_NAS,
                 LocalDate.of(2024, 1, 31),
                 LocalDate.of(2024, 1, 1)
         );
@@ -201,16 +194,15 @@ class OverseasStockDailyPriceRepositoryTest {
     @DisplayName("여러 종목 코드 데이터 중 특정 종목만 조회")
     void 여러_종목_중_특정_종목_조회() {
         // Given: AAPL과 TSLA 데이터 저장
-        repository.save(createStockPrice(STOCK_CODE_AAPL, EXCHANGE_CODE_NAS, LocalDate.of(2024, 1, 1)));
-        repository.save(createStockPrice(STOCK_CODE_AAPL, EXCHANGE_CODE_NAS, LocalDate.of(2024, 1, 2)));
-        repository.save(createStockPrice(STOCK_CODE_TSLA, EXCHANGE_CODE_NAS, LocalDate.of(2024, 1, 1)));
-        repository.save(createStockPrice(STOCK_CODE_TSLA, EXCHANGE_CODE_NAS, LocalDate.of(2024, 1, 2)));
+        repository.save(createStockPrice(INSTRUMENT_AAPL_NAS, LocalDate.of(2024, 1, 1)));
+        repository.save(createStockPrice(INSTRUMENT_AAPL_NAS, LocalDate.of(2024, 1, 2)));
+        repository.save(createStockPrice(INSTRUMENT_TSLA_NAS, LocalDate.of(2024, 1, 1)));
+        repository.save(createStockPrice(INSTRUMENT_TSLA_NAS, LocalDate.of(2024, 1, 2)));
         repository.flush();
 
         // When: AAPL만 조회
-        Set<LocalDate> aaplDates = repository.findTradeDatesByStockCodeAndExchangeCodeAndTradeDateBetween(
-                STOCK_CODE_AAPL,
-                EXCHANGE_CODE_NAS,
+        Set<LocalDate> aaplDates = repository.findTradeDatesByInstrumentIdAndTradeDateBetween(
+                INSTRUMENT_AAPL_NAS,
                 LocalDate.of(2024, 1, 1),
                 LocalDate.of(2024, 1, 2)
         );
@@ -223,22 +215,20 @@ class OverseasStockDailyPriceRepositoryTest {
     @DisplayName("동일 종목 다른 거래소 데이터 조회 - 거래소 코드별 필터링")
     void 동일_종목_다른_거래소_조회() {
         // Given: AAPL NAS와 NYS 데이터 저장 (실제로는 AAPL은 NAS만 있지만 테스트용)
-        repository.save(createStockPrice(STOCK_CODE_AAPL, EXCHANGE_CODE_NAS, LocalDate.of(2024, 1, 1)));
-        repository.save(createStockPrice(STOCK_CODE_AAPL, EXCHANGE_CODE_NYS, LocalDate.of(2024, 1, 1)));
+        repository.save(createStockPrice(INSTRUMENT_AAPL_NAS, LocalDate.of(2024, 1, 1)));
+        repository.save(createStockPrice(INSTRUMENT_AAPL_NYS, LocalDate.of(2024, 1, 1)));
         repository.flush();
 
         // When: NAS만 조회
-        Set<LocalDate> nasDates = repository.findTradeDatesByStockCodeAndExchangeCodeAndTradeDateBetween(
-                STOCK_CODE_AAPL,
-                EXCHANGE_CODE_NAS,
+        Set<LocalDate> nasDates = repository.findTradeDatesByInstrumentIdAndTradeDateBetween(
+                INSTRUMENT_AAPL_NAS,
                 LocalDate.of(2024, 1, 1),
                 LocalDate.of(2024, 1, 1)
         );
 
         // When: NYS만 조회
-        Set<LocalDate> nysDates = repository.findTradeDatesByStockCodeAndExchangeCodeAndTradeDateBetween(
-                STOCK_CODE_AAPL,
-                EXCHANGE_CODE_NYS,
+        Set<LocalDate> nysDates = repository.findTradeDatesByInstrumentIdAndTradeDateBetween(
+                INSTRUMENT_AAPL_NYS,
                 LocalDate.of(2024, 1, 1),
                 LocalDate.of(2024, 1, 1)
         );
@@ -251,10 +241,9 @@ class OverseasStockDailyPriceRepositoryTest {
     /**
      * 테스트용 OverseasStockDailyPrice 생성 헬퍼 메서드
      */
-    private OverseasStockDailyPrice createStockPrice(String stockCode, String exchangeCode, LocalDate tradeDate) {
+    private OverseasStockDailyPrice createStockPrice(Integer instrumentId, LocalDate tradeDate) {
         return OverseasStockDailyPrice.builder()
-                .stockCode(stockCode)
-                .exchangeCode(exchangeCode)
+                .instrumentId(instrumentId)
                 .tradeDate(tradeDate)
                 .openPrice(new BigDecimal("185.5000"))
                 .highPrice(new BigDecimal("186.0000"))
@@ -0,0 +1,293 @@
+package com.custom.trader.stockprice.rollup.service;
+
+import com.custom.trader.common.enums.AssetType;
+import com.custom.trader.stockprice.adjustment.entity.PriceAdjustment;
+import com.custom.trader.stockprice.adjustment.repository.PriceAdjustmentRepository;
+import com.custom.trader.stockprice.adjustment.service.PriceAdjustmentService;
+import com.custom.trader.stockprice.domestic.entity.DomesticStockDailyPrice;
+import com.custom.trader.stockprice.domestic.entity.DomesticStockPriceRollup;
+import com.custom.trader.stockprice.domestic.repository.DomesticStockDailyPriceRepository;
+import com.custom.trader.stockprice.domestic.repository.DomesticStockPriceRollupRepository;
+import com.custom.trader.stockprice.instrument.service.InstrumentRegistry;
+import com.custom.trader.stockprice.overseas.entity.OverseasStockDailyPrice;
+import com.custom.trader.stockprice.overseas.entity.OverseasStockPriceRollup;
+import com.custom.trader.stockprice.overseas.repository.OverseasStockPriceRollupRepository;
+import com.custom.trader.stockprice.rollup.entity.RollupPeriod;
+import com.custom.trader.testcontainers.MySQLTestcontainersConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+
+/**
+ * PriceRollupService 통합 테스트 (MySQL upsert 병합 규칙 검증).
+ *
+ * <p>2024-01-01은 월요일이므로 1/2 ~ 1/5는 같은 주(1/1 시작)입니다.</p>
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@Import({MySQLTestcontainersConfig.class, PriceRollupService.class, PriceAdjustmentService.class,
+        InstrumentRegistry.class})
+@ActiveProfiles("test")
+@DisplayName("PriceRollupService 통합 테스트")
+class PriceRollupServiceTest {
+
+    private static final Integer INSTRUMENT_SAMSUNG = 1;
+    private static final Integer INSTRUMENT_AAPL = 3;
+    private static final LocalDate WEEK_START = LocalDate.of(2024, 1, 1);
+    private static final LocalDate MONTH_START = LocalDate.of(2024, 1, 1);
+
+    @Autowired
+    private PriceRollupService priceRollupService;
+
+    @Autowired
+    private DomesticStockDailyPriceRepository dailyRepository;
+
+    @Autowired
+    private DomesticStockPriceRollupRepository rollupRepository;
+
+    @Autowired
+    private OverseasStockPriceRollupRepository overseasRollupRepository;
+
+    @Autowired
+    private PriceAdjustmentRepository adjustmentRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Nested
+    @DisplayName("증분 병합")
+    class Apply {
+
+        @Test
+        @DisplayName("더 이른 일봉은 시가, 더 늦은 일봉은 종가를 교체하고 고가/저가/거래량은 누적")
+        void mergesEarlierAndLaterBars() {
+            // given: 수/목 먼저 반영
+            priceRollupService.apply(AssetType.DOMESTIC_STOCK, List.of(
+                    bar(LocalDate.of(2024, 1, 3), "100", "110", "95", "105", 1_000),
+                    bar(LocalDate.of(2024, 1, 4), "105", "120", "100", "115", 2_000)));
+
+            // when: 화(백필 방향), 금(일간 수집 방향) 추가
+            priceRollupService.apply(AssetType.DOMESTIC_STOCK, List.of(bar(LocalDate.of(2024, 1, 2), "90", "101", "85", "99", 500)));
+            priceRollupService.apply(AssetType.DOMESTIC_STOCK, List.of(bar(LocalDate.of(2024, 1, 5), "116", "118", "112", "117", 700)));
+
+            // then
+            DomesticStockPriceRollup week = single(RollupPeriod.WEEK, WEEK_START);
+            assertThat(week.getFirstTradeDate()).isEqualTo(LocalDate.of(2024, 1, 2));
+            assertThat(week.getLastTradeDate()).isEqualTo(LocalDate.of(2024, 1, 5));
+            assertThat(week.getOpenPrice()).isEqualByComparingTo("90");
+            assertThat(week.getHighPrice()).isEqualByComparingTo("120");
+            assertThat(week.getLowPrice()).isEqualByComparingTo("85");
+            assertThat(week.getClosePrice()).isEqualByComparingTo("117");
+            assertThat(week.getVolume()).isEqualTo(4_200L);
+            assertThat(week.getTradingValue()).isEqualByComparingTo("4200000");
+            assertThat(week.getTradeDays()).isEqualTo(4);
+
+            DomesticStockPriceRollup month = single(RollupPeriod.MONTH, MONTH_START);
+            assertThat(month.getOpenPrice()).isEqualByComparingTo("90");
+            assertThat(month.getClosePrice()).isEqualByComparingTo("117");
+            assertThat(month.getTradeDays()).isEqualTo(4);
+        }
+
+        @Test
+        @DisplayName("사이에 끼는 일봉은 시가/종가를 바꾸지 않음")
+        void gapFillKeepsOpenAndClose() {
+            // given
+            priceRollupService.apply(AssetType.DOMESTIC_STOCK, List.of(
+                    bar(LocalDate.of(2024, 1, 2), "100", "110", "95", "105", 1_000),
+                    bar(LocalDate.of(2024, 1, 5), "105", "112", "100", "111", 1_000)));
+
+            // when
+            priceRollupService.apply(AssetType.DOMESTIC_STOCK, List.of(bar(LocalDate.of(2024, 1, 3), "50", "200", "40", "60", 1_000)));
+
+            // then
+            DomesticStockPriceRollup week = single(RollupPeriod.WEEK, WEEK_START);
+            assertThat(week.getOpenPrice()).isEqualByComparingTo("100");
+            assertThat(week.getClosePrice()).isEqualByComparingTo("111");
+            assertThat(week.getHighPrice()).isEqualByComparingTo("200");
+            assertThat(week.getLowPrice()).isEqualByComparingTo("40");
+            assertThat(week.getTradeDays()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("주가 두 달에 걸치면 주봉 1개, 월봉 2개")
+        void weekSpanningMonths() {
+            // when: 2024-01-31(수), 2024-02-01(목)
+            int periods = priceRollupService.apply(AssetType.DOMESTIC_STOCK, List.of(
+                    bar(LocalDate.of(2024, 1, 31), "100", "110", "95", "105", 1_000),
+                    bar(LocalDate.of(2024, 2, 1), "105", "120", "100", "115", 1_000)));
+
+            // then
+            assertThat(periods).isEqualTo(3);
+            entityManager.clear();
+            assertThat(rollupRepository.findByInstrumentIdAndPeriodTypeAndPeriodStartBetweenOrderByPeriodStartAsc(
+                    INSTRUMENT_SAMSUNG, RollupPeriod.WEEK, LocalDate.of(2024, 1, 1), LocalDate.of(2024, 2, 29)))
+                    .extracting(DomesticStockPriceRollup::getPeriodStart)
+                    .containsExactly(LocalDate.of(2024, 1, 29));
+            assertThat(rollupRepository.findByInstrumentIdAndPeriodTypeAndPeriodStartBetweenOrderByPeriodStartAsc(
+                    INSTRUMENT_SAMSUNG, RollupPeriod.MONTH, LocalDate.of(2024, 1, 1), LocalDate.of(2024, 2, 29)))
+                    .extracting(DomesticStockPriceRollup::getPeriodStart)
+                    .containsExactly(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 2, 1));
+        }
+
+        @Test
+        @DisplayName("거래대금이 없는 일봉은 합계에서 제외")
+        void nullTradingValue() {
+            // when
+            priceRollupService.apply(AssetType.OVERSEAS_STOCK, List.of(overseasBar(LocalDate.of(2024, 1, 2), null)));
+            priceRollupService.apply(AssetType.OVERSEAS_STOCK, List.of(overseasBar(LocalDate.of(2024, 1, 3), "1000")));
+            priceRollupService.apply(AssetType.OVERSEAS_STOCK, List.of(overseasBar(LocalDate.of(2024, 1, 4), null)));
+
+            // then
+            entityManager.clear();
+            OverseasStockPriceRollup week = overseasRollupRepository
+                    .findByInstrumentIdAndPeriodTypeAndPeriodStartBetweenOrderByPeriodStartAsc(
+                            INSTRUMENT_AAPL, RollupPeriod.WEEK, WEEK_START, WEEK_START)
+                    .get(0);
+            assertThat(week.getTradingValue()).isEqualByComparingTo("1000");
+            assertThat(week.getTradeDays()).isEqualTo(3);
+        }
+    }
+
+    @Nested
+    @DisplayName("재구성")
+    class Rebuild {
+
+        @Test
+        @DisplayName("일별 이력으로 다시 만든 결과가 증분 병합 결과와 같고 기존 롤업을 대체")
+        void rebuildMatchesIncremental() {
+            // given: 증분으로 일부만 반영된 상태에서 일별 테이블에는 전체 저장
+            List<DomesticStockDailyPrice> bars = List.of(
+                    bar(LocalDate.of(2024, 1, 2), "90", "101", "85", "99", 500),
+                    bar(LocalDate.of(2024, 1, 3), "100", "110", "95", "105", 1_000),
+                    bar(LocalDate.of(2024, 1, 4), "105", "120", "100", "115", 2_000),
+                    bar(LocalDate.of(2024, 1, 8), "116", "118", "112", "117", 700));
+            priceRollupService.apply(AssetType.DOMESTIC_STOCK, bars.subList(0, 1));
+            dailyRepository.saveAllAndFlush(bars);
+
+            // when
+            int periods = priceRollupService.rebuild(AssetType.DOMESTIC_STOCK, INSTRUMENT_SAMSUNG);
+
+            // then: 주 2개 + 월 1개
+            assertThat(periods).isEqualTo(3);
+            DomesticStockPriceRollup firstWeek = single(RollupPeriod.WEEK, WEEK_START);
+            assertThat(firstWeek.getOpenPrice()).isEqualByComparingTo("90");
+            assertThat(firstWeek.getClosePrice()).isEqualByComparingTo("115");
+            assertThat(firstWeek.getVolume()).isEqualTo(3_500L);
+            assertThat(firstWeek.getTradeDays()).isEqualTo(3);
+            DomesticStockPriceRollup month = single(RollupPeriod.MONTH, MONTH_START);
+            assertThat(month.getClosePrice()).isEqualByComparingTo("117");
+            assertThat(month.getTradeDays()).isEqualTo(4);
+        }
+    }
+
+    @Nested
+    @DisplayName("수정 계수")
+    class Adjusted {
+
+        private static final LocalDate SPLIT_DATE = LocalDate.of(2024, 1, 4);
+
+        @Test
+        @DisplayName("재구성 시 사건 이전 일봉은 계수를 곱해 현재 기준으로 집계하고 거래량은 그대로 합산")
+        void rebuildAppliesFactorBeforeEffectiveDate() {
+            // given: 1/4 시행 1:5 분할, 화/수는 분할 전 가격으로 저장
+            dailyRepository.saveAllAndFlush(List.of(
+                    bar(LocalDate.of(2024, 1, 2), "70000", "71000", "69000", "70500", 1_000),
+                    bar(LocalDate.of(2024, 1, 3), "70500", "72000", "70000", "71500", 1_000),
+                    bar(SPLIT_DATE, "14300", "14500", "14200", "14400", 5_000),
+                    bar(LocalDate.of(2024, 1, 5), "14400", "14600", "14300", "14500", 5_000)));
+            recordSplit();
+
+            // when
+            priceRollupService.rebuild(AssetType.DOMESTIC_STOCK, INSTRUMENT_SAMSUNG);
+
+            // then
+            DomesticStockPriceRollup week = single(RollupPeriod.WEEK, WEEK_START);
+            assertThat(week.getOpenPrice()).isEqualByComparingTo("14000");
+            assertThat(week.getHighPrice()).isEqualByComparingTo("14600");
+            assertThat(week.getLowPrice()).isEqualByComparingTo("13800");
+            assertThat(week.getClosePrice()).isEqualByComparingTo("14500");
+            assertThat(week.getVolume()).isEqualTo(12_000L);
+            assertThat(week.getTradeDays()).isEqualTo(4);
+        }
+
+        @Test
+        @DisplayName("증분 병합 시 저장 기준 일봉에도 계수를 곱해 기존 롤업과 같은 기준으로 병합")
+        void applyAppliesFactorToStoredBasisBar() {
+            // given: 사건 이후 일봉이 먼저 반영된 주에 백필로 사건 이전 일봉이 들어옴
+            recordSplit();
+            priceRollupService.apply(AssetType.DOMESTIC_STOCK, List.of(
+                    bar(SPLIT_DATE, "14300", "14500", "14200", "14400", 5_000)));
+
+            // when
+            priceRollupService.apply(AssetType.DOMESTIC_STOCK, List.of(
+                    bar(LocalDate.of(2024, 1, 3), "70500", "72000", "69000", "71500", 1_000)));
+
+            // then
+            DomesticStockPriceRollup week = single(RollupPeriod.WEEK, WEEK_START);
+            assertThat(week.getOpenPrice()).isEqualByComparingTo("14100");
+            assertThat(week.getHighPrice()).isEqualByComparingTo("14500");
+            assertThat(week.getLowPrice()).isEqualByComparingTo("13800");
+            assertThat(week.getClosePrice()).isEqualByComparingTo("14400");
+        }
+
+        private void recordSplit() {
+            adjustmentRepository.saveAndFlush(PriceAdjustment.builder()
+                    .instrumentId(INSTRUMENT_SAMSUNG)
+                    .effectiveDate(SPLIT_DATE)
+                    .factor(new BigDecimal("0.2"))
+                    .referenceDate(LocalDate.of(2024, 1, 3))
+                    .expectedClose(new BigDecimal("71500"))
+                    .fetchedClose(new BigDecimal("14300"))
+                    .build());
+        }
+    }
+
+    private DomesticStockPriceRollup single(RollupPeriod period, LocalDate periodStart) {
+        entityManager.clear();
+        List<DomesticStockPriceRollup> rollups = rollupRepository
+                .findByInstrumentIdAndPeriodTypeAndPeriodStartBetweenOrderByPeriodStartAsc(
+                        INSTRUMENT_SAMSUNG, period, periodStart, periodStart);
+        assertThat(rollups).hasSize(1);
+        return rollups.get(0);
+    }
+
+    private static DomesticStockDailyPrice bar(LocalDate tradeDate, String open, String high, String low,
+                                               String close, long volume) {
+        return DomesticStockDailyPrice.builder()
+                .instrumentId(INSTRUMENT_SAMSUNG)
+                .tradeDate(tradeDate)
+                .openPrice(new BigDecimal(open))
+                .highPrice(new BigDecimal(high))
+                .lowPrice(new BigDecimal(low))
+                .closePrice(new BigDecimal(close))
+                .volume(volume)
+                .tradingValue(BigDecimal.valueOf(volume * 1_000))
+                .build();
+    }
+
+    private static OverseasStockDailyPrice overseasBar(LocalDate tradeDate, String tradingValue) {
+        return OverseasStockDailyPrice.builder()
+                .instrumentId(INSTRUMENT_AAPL)
+                .tradeDate(tradeDate)
+                .openPrice(new BigDecimal("185.5"))
+                .highPrice(new BigDecimal("186.1"))
+                .lowPrice(new BigDecimal("184.2"))
+                .closePrice(new BigDecimal("185.9"))
+                .volume(10L)
+                .tradingValue(tradingValue == null ? null : new BigDecimal(tradingValue))
+                .build();
+    }
+}
@@ -1,5 +1,11 @@
 package com.custom.trader.stockprice.scheduler;
 
+import com.custom.trader.kis.client.KisRetryBudgetContext;
+import com.custom.trader.kis.client.KisPriorityContext;
+import com.custom.trader.kis.client.KisRequestPriority;
+import com.custom.trader.kis.client.KisRetryPolicy;
+import com.custom.trader.stockprice.deferred.entity.DeferredPriceTask.TaskType;
+import com.custom.trader.stockprice.listener.NewStockBackfillWorker;
 import com.custom.trader.stockprice.service.StockPriceCollectionService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -9,9 +15,15 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.BDDMockito.willAnswer;
 import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -20,11 +32,16 @@ class StockPriceSchedulerTest {
     @Mock
     private StockPriceCollectionService stockPriceCollectionService;
 
+    @Mock
+    private NewStockBackfillWorker newStockBackfillWorker;
+
+    private final KisRetryPolicy kisRetryPolicy = new KisRetryPolicy(3, Duration.ZERO, Duration.ZERO, 10);
+
     private StockPriceScheduler stockPriceScheduler;
 
     @BeforeEach
     void setUp() {
-        stockPriceScheduler = new StockPriceScheduler(stockPriceCollectionService);
+        stockPriceScheduler = new StockPriceScheduler(stockPriceCollectionService, kisRetryPolicy, newStockBackfillWorker);
     }
 
     @Nested
@@ -35,13 +52,18 @@ class StockPriceSchedulerTest {
         @DisplayName("백필 스케줄 정상 실행")
         void 백필_스케줄_정상_실행() {
             // given
-            doNothing().when(stockPriceCollectionService).backfillHistoricalPrices();
+            AtomicReference<String> runName = new AtomicReference<>();
+            willAnswer(invocation -> {
+                runName.set(KisRetryBudgetContext.current().getRunName());
+                return null;
+            }).given(stockPriceCollectionService).backfillHistoricalPrices();
 
             // when
             stockPriceScheduler.backfillHistoricalPrices();
 
             // then
             verify(stockPriceCollectionService).backfillHistoricalPrices();
+            assertThat(runName).hasValue("backfillHistoricalPrices");
         }
 
         @Test
@@ -140,6 +162,48 @@ class StockPriceSchedulerTest {
         }
     }
 
+    @Nested
+    @DisplayName("retryDeferredPriceTasks 메소드")
+    class RetryDeferredPriceTasks {
+
+        @Test
+        @DisplayName("지연 재처리 Sweep은 일간 작업만 자체 재시도 예산과 DAILY 우선순위로 실행하고 백필 작업은 워커에 넘김")
+        void 지연_재처리_실행() {
+            // given
+            AtomicReference<String> runName = new AtomicReference<>();
+            AtomicReference<KisRequestPriority> priority = new AtomicReference<>();
+            willAnswer(invocation -> {
+                runName.set(KisRetryBudgetContext.current().getRunName());
+                priority.set(KisPriorityContext.current());
+                return null;
+            }).given(stockPriceCollectionService).retryDeferredTasks(TaskType.DAILY);
+
+            // when
+            stockPriceScheduler.retryDeferredPriceTasks();
+
+            // then
+            verify(stockPriceCollectionService).retryDeferredTasks(TaskType.DAILY);
+            verify(stockPriceCollectionService, never()).retryDeferredTasks(TaskType.BACKFILL);
+            verify(newStockBackfillWorker).submitDeferredBackfills();
+            assertThat(runName).hasValue("retryDeferredPriceTasks");
+            assertThat(priority).hasValue(KisRequestPriority.DAILY);
+            assertThat(kisRetryPolicy.getRemainingBudget()).isZero();
+        }
+
+        @Test
+        @DisplayName("예외 발생시 로깅 후 백필 작업은 그대로 워커에 넘김")
+        void 예외_발생시_로깅_후_계속_실행() {
+            // given
+            willThrow(new RuntimeException("재처리 실패")).given(stockPriceCollectionService)
+                    .retryDeferredTasks(TaskType.DAILY);
+
+            // when & then
+            assertThatCode(() -> stockPriceScheduler.retryDeferredPriceTasks())
+                    .doesNotThrowAnyException();
+            verify(newStockBackfillWorker).submitDeferredBackfills();
+        }
+    }
+
     @Nested
     @DisplayName("어노테이션 검증")
     class AnnotationVerification {
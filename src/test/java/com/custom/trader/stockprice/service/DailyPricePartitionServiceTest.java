@@ -0,0 +1,99 @@
+package com.custom.trader.stockprice.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DailyPricePartitionService 단위 테스트")
+class DailyPricePartitionServiceTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private DailyPricePartitionService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new DailyPricePartitionService(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("파티셔닝하지 않은 테이블은 건너뜀")
+    void skipsUnpartitionedTables() {
+        // given
+        stubPartitions(List.of());
+
+        // when
+        int created = service.ensureFuturePartitions(2026);
+
+        // then
+        assertThat(created).isZero();
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+
+    @Test
+    @DisplayName("현재 연도 + 2년까지 없는 파티션을 p_max 분할 1문장으로 추가")
+    void addsMissingYearsBySplittingMaxPartition() {
+        // given
+        stubPartitions(List.of("p_legacy", "p2024", "p2025", "p_max"));
+
+        // when
+        int created = service.ensureFuturePartitions(2026);
+
+        // then
+        assertThat(created).isEqualTo(3 * DailyPricePartitionService.PARTITIONED_TABLES.size());
+        verify(jdbcTemplate).execute("ALTER TABLE domestic_stock_daily_price REORGANIZE PARTITION p_max INTO ("
+                + "PARTITION p2026 VALUES LESS THAN ('2027-01-01'), "
+                + "PARTITION p2027 VALUES LESS THAN ('2028-01-01'), "
+                + "PARTITION p2028 VALUES LESS THAN ('2029-01-01'), "
+                + "PARTITION p_max VALUES LESS THAN (MAXVALUE))");
+    }
+
+    @Test
+    @DisplayName("이미 앞선 파티션이 있으면 변경 없음")
+    void noChangeWhenAhead() {
+        // given
+        stubPartitions(List.of("p_legacy", "p2027", "p2028", "p_max"));
+
+        // when
+        int created = service.ensureFuturePartitions(2026);
+
+        // then
+        assertThat(created).isZero();
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+
+    @Test
+    @DisplayName("p_max 파티션이 없으면 분할하지 않음")
+    void skipsWithoutMaxPartition() {
+        // given
+        stubPartitions(List.of("p2024", "p2025"));
+
+        // when
+        int created = service.ensureFuturePartitions(2026);
+
+        // then
+        assertThat(created).isZero();
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+
+    private void stubPartitions(List<String> partitionNames) {
+        for (String table : DailyPricePartitionService.PARTITIONED_TABLES) {
+            given(jdbcTemplate.queryForList(anyString(), eq(String.class), eq(table))).willReturn(partitionNames);
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.custom.trader.stockprice.service;
+
+import com.custom.trader.common.constant.DateFormatConstants;
+import com.custom.trader.common.enums.AssetType;
+import com.custom.trader.common.enums.MarketCode;
+import com.custom.trader.stockprice.deferred.entity.DeferredPriceTask;
+import com.custom.trader.stockprice.deferred.entity.DeferredPriceTask.Status;
+import com.custom.trader.stockprice.deferred.entity.DeferredPriceTask.TaskType;
+import com.custom.trader.stockprice.deferred.repository.DeferredPriceTaskRepository;
+import com.custom.trader.watchlist.entity.WatchlistStock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DeferredPriceTaskService 단위 테스트")
+class DeferredPriceTaskServiceTest {
+
+    private static final LocalDate DAY = LocalDate.of(2026, 10, 19);
+
+    @Mock
+    private DeferredPriceTaskRepository deferredPriceTaskRepository;
+
+    private DeferredPriceTaskService deferredPriceTaskService;
+
+    private WatchlistStock stock;
+
+    @BeforeEach
+    void setUp() {
+        deferredPriceTaskService = new DeferredPriceTaskService(deferredPriceTaskRepository);
+        stock = WatchlistStock.builder()
+                .stockCode("005930")
+                .stockName("삼성전자")
+                .marketCode(MarketCode.KRX)
+                .assetType(AssetType.DOMESTIC_STOCK)
+                .build();
+    }
+
+    private DeferredPriceTask pendingTask() {
+        return DeferredPriceTask.builder()
+                .watchlistStockId(1L)
+                .stockCode("005930")
+                .taskType(TaskType.DAILY)
+                .startDate(DAY)
+                .endDate(DAY)
+                .nextAttemptAt(DAY.atStartOfDay())
+                .lastError("최초 실패")
+                .build();
+    }
+
+    @Nested
+    @DisplayName("enqueue")
+    class Enqueue {
+
+        @Test
+        @DisplayName("기존 작업이 없으면 PENDING 작업 생성")
+        void createsPendingTask() {
+            // given
+            given(deferredPriceTaskRepository.findByWatchlistStockIdAndTaskType(any(), any()))
+                    .willReturn(Optional.empty());
+
+            // when
+            deferredPriceTaskService.enqueue(stock, TaskType.DAILY, DAY, DAY, "API 호출 실패");
+
+            // then
+            var captor = ArgumentCaptor.forClass(DeferredPriceTask.class);
+            verify(deferredPriceTaskRepository).save(captor.capture());
+            var saved = captor.getValue();
+            assertThat(saved.getStatus()).isEqualTo(Status.PENDING);
+            assertThat(saved.getAttempts()).isZero();
+            assertThat(saved.getStockCode()).isEqualTo("005930");
+            assertThat(saved.getNextAttemptAt()).isAfter(LocalDateTime.now(DateFormatConstants.KST_ZONE_ID));
+        }
+
+        @Test
+        @DisplayName("기존 작업이 있으면 기간을 병합")
+        void mergesDateRange() {
+            // given
+            var existing = pendingTask();
+            given(deferredPriceTaskRepository.findByWatchlistStockIdAndTaskType(any(), any()))
+                    .willReturn(Optional.of(existing));
+
+            // when
+            deferredPriceTaskService.enqueue(stock, TaskType.DAILY, DAY.minusDays(1), DAY.plusDays(1), "다시 실패");
+
+            // then
+            assertThat(existing.getStartDate()).isEqualTo(DAY.minusDays(1));
+            assertThat(existing.getEndDate()).isEqualTo(DAY.plusDays(1));
+            assertThat(existing.getLastError()).isEqualTo("다시 실패");
+            verify(deferredPriceTaskRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("Dead Letter 작업은 새 실패가 들어오면 PENDING으로 복귀")
+        void revivesDeadTask() {
+            // given
+            var existing = pendingTask();
+            existing.markDead();
+            given(deferredPriceTaskRepository.findByWatchlistStockIdAndTaskType(any(), any()))
+                    .willReturn(Optional.of(existing));
+
+            // when
+            deferredPriceTaskService.enqueue(stock, TaskType.DAILY, DAY, DAY, "다음 날 실패");
+
+            // then
+            assertThat(existing.getStatus()).isEqualTo(Status.PENDING);
+            assertThat(existing.getAttempts()).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("reschedule")
+    class Reschedule {
+
+        @Test
+        @DisplayName("최대 시도 횟수 미만이면 시도 횟수 증가 후 PENDING 유지")
+        void incrementsAttempts() {
+            // given
+            var task = pendingTask();
+
+            // when
+            deferredPriceTaskService.reschedule(task, "재처리 실패");
+
+            // then
+            assertThat(task.getAttempts()).isEqualTo(1);
+            assertThat(task.getStatus()).isEqualTo(Status.PENDING);
+            assertThat(task.getNextAttemptAt()).isAfter(DAY.atStartOfDay());
+            verify(deferredPriceTaskRepository).save(task);
+        }
+
+        @Test
+        @DisplayName("최대 시도 횟수에 도달하면 Dead Letter로 전환")
+        void deadLettersAfterMaxAttempts() {
+            // given
+            var task = pendingTask();
+
+            // when
+            for (int i = 0; i < DeferredPriceTaskService.MAX_ATTEMPTS; i++) {
+                deferredPriceTaskService.reschedule(task, "재처리 실패");
+            }
+
+            // then
+            assertThat(task.getAttempts()).isEqualTo(DeferredPriceTaskService.MAX_ATTEMPTS);
+            assertThat(task.getStatus()).isEqualTo(Status.DEAD);
+        }
+
+        @Test
+        @DisplayName("백오프는 지수적으로 증가하며 상한을 넘지 않음")
+        void backoffGrowsAndCaps() {
+            assertThat(DeferredPriceTaskService.backoff(1)).isEqualTo(Duration.ofMinutes(10));
+            assertThat(DeferredPriceTaskService.backoff(2)).isEqualTo(Duration.ofMinutes(20));
+            assertThat(DeferredPriceTaskService.backoff(10)).isEqualTo(DeferredPriceTaskService.MAX_BACKOFF);
+        }
+    }
+
+    @Nested
+    @DisplayName("postpone")
+    class Postpone {
+
+        @Test
+        @DisplayName("시도 횟수는 그대로 두고 다음 시도 시각만 미룸")
+        void keepsAttempts() {
+            // given
+            var task = pendingTask();
+            LocalDateTime before = LocalDateTime.now(DateFormatConstants.KST_ZONE_ID);
+
+            // when
+            deferredPriceTaskService.postpone(task);
+
+            // then
+            assertThat(task.getAttempts()).isZero();
+            assertThat(task.getStatus()).isEqualTo(Status.PENDING);
+            assertThat(task.getNextAttemptAt()).isAfterOrEqualTo(before.plus(DeferredPriceTaskService.BASE_BACKOFF));
+            verify(deferredPriceTaskRepository).save(task);
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package com.custom.trader.stockprice.service;
+
+import com.custom.trader.common.enums.AssetType;
+import com.custom.trader.common.enums.MarketCode;
+import com.custom.trader.stockprice.strategy.StockPriceStrategy;
+import com.custom.trader.watchlist.dto.WatchlistStockSummary;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.custom.trader.common.constant.DateFormatConstants.DEFAULT_START_DATE;
+import static com.custom.trader.stockprice.constant.StockPriceConstants.PAGE_SIZE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * ListingDateResolver 단위 테스트.
+ *
+ * <p>첫 페이지 조회는 상장일부터 평일을 거래일로 하는 가상 달력에서 종료일 이전 최근 PAGE_SIZE개를 돌려줍니다.</p>
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ListingDateResolver 단위 테스트")
+class ListingDateResolverTest {
+
+    private static final String CACHE_KEY = "stockprice:listing-date:DOMESTIC_STOCK:KRX:005930";
+    private static final LocalDate AS_OF = LocalDate.of(2024, 6, 28);
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private StockPriceStrategy strategy;
+
+    private final WatchlistStockSummary stock =
+            new WatchlistStockSummary(1L, "005930", MarketCode.KRX, AssetType.DOMESTIC_STOCK);
+
+    private ListingDateResolver resolver;
+
+    @BeforeEach
+    void setUp() {
+        resolver = new ListingDateResolver(redisTemplate);
+    }
+
+    @Nested
+    @DisplayName("첫 페이지 확인")
+    class Probe {
+
+        @BeforeEach
+        void setUp() {
+            given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        }
+
+        @Test
+        @DisplayName("첫 응답이 PAGE_SIZE 미만이면 가장 이른 날짜가 상장일이며 백필할 구간이 남지 않음")
+        void partialFirstPageResolvesListingDate() {
+            // given: 상장 후 20거래일
+            LocalDate listingDate = LocalDate.of(2024, 6, 3);
+            List<Integer> probes = stubCalendar(listingDate);
+
+            // when
+            ListingDateResolver.Resolution result = resolver.resolve(stock, strategy, DEFAULT_START_DATE, AS_OF);
+
+            // then
+            assertThat(result.listingDate()).isEqualTo(listingDate);
+            assertThat(result.fetchedFrom()).isEqualTo(listingDate);
+            assertThat(probes).hasSize(1);
+            verify(valueOperations).set(CACHE_KEY, "2024-06-03", Duration.ofDays(30));
+        }
+
+        @Test
+        @DisplayName("첫 응답이 가득 차면 과거 방향 탐색 없이 저장한 구간만 반환하고 캐시하지 않음")
+        void fullFirstPageDoesNotSearch() {
+            // given
+            List<Integer> probes = stubCalendar(LocalDate.of(1975, 6, 11));
+
+            // when
+            ListingDateResolver.Resolution result = resolver.resolve(stock, strategy, DEFAULT_START_DATE, AS_OF);
+
+            // then
+            assertThat(result.hasHistory()).isTrue();
+            assertThat(result.listingDate()).isNull();
+            assertThat(result.fetchedFrom()).isBefore(AS_OF);
+            assertThat(probes).containsExactly(PAGE_SIZE);
+            verify(valueOperations, never()).set(any(), any(), any(Duration.class));
+        }
+
+        @Test
+        @DisplayName("첫 응답이 비어도 더 이른 종료일에 이력이 있으면 이력 있음 (거래정지 등)")
+        void emptyPageIsConfirmedBeforeTruncating() {
+            // given
+            LocalDate confirmEndDate = AS_OF.minusDays(ListingDateResolver.CONFIRM_STEP_DAYS);
+            given(strategy.backfillLatestPage(stock, DEFAULT_START_DATE, AS_OF)).willReturn(List.of());
+            given(strategy.backfillLatestPage(stock, DEFAULT_START_DATE, confirmEndDate))
+                    .willReturn(List.of(confirmEndDate.minusDays(1), confirmEndDate.minusDays(2)));
+
+            // when
+            ListingDateResolver.Resolution result = resolver.resolve(stock, strategy, DEFAULT_START_DATE, AS_OF);
+
+            // then
+            assertThat(result.hasHistory()).isTrue();
+            assertThat(result.listingDate()).isEqualTo(confirmEndDate.minusDays(2));
+            verify(valueOperations, never()).set(CACHE_KEY, "NONE", Duration.ofDays(1));
+        }
+
+        @Test
+        @DisplayName("두 번 연속 비어 있으면 이력 없음으로 보고 짧은 TTL로 캐시")
+        void noHistory() {
+            // given
+            given(strategy.backfillLatestPage(any(), any(), any())).willReturn(List.of());
+
+            // when
+            ListingDateResolver.Resolution result = resolver.resolve(stock, strategy, DEFAULT_START_DATE, AS_OF);
+
+            // then
+            assertThat(result.hasHistory()).isFalse();
+            verify(strategy, times(2)).backfillLatestPage(any(), any(), any());
+            verify(valueOperations).set(CACHE_KEY, "NONE", Duration.ofDays(1));
+        }
+
+        @Test
+        @DisplayName("시작일이 지정된 조회는 최소 날짜가 상장일이 아니므로 캐시하지 않음")
+        void boundedRangeIsNotCached() {
+            // given
+            stubCalendar(LocalDate.of(1975, 6, 11));
+
+            // when
+            ListingDateResolver.Resolution result = resolver.resolve(stock, strategy, LocalDate.of(2024, 6, 3), AS_OF);
+
+            // then
+            assertThat(result.listingDate()).isEqualTo(LocalDate.of(2024, 6, 3));
+            verify(valueOperations, never()).set(any(), any(), any(Duration.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("캐시")
+    class Cache {
+
+        @Test
+        @DisplayName("캐시된 상장일이 있으면 조회하지 않음")
+        void cacheHitSkipsProbing() {
+            // given
+            given(redisTemplate.opsForValue()).willReturn(valueOperations);
+            given(valueOperations.get(CACHE_KEY)).willReturn("1975-06-11");
+
+            // when
+            ListingDateResolver.Resolution result = resolver.resolve(stock, strategy, DEFAULT_START_DATE, AS_OF);
+
+            // then
+            assertThat(result.listingDate()).isEqualTo(LocalDate.of(1975, 6, 11));
+            assertThat(result.fetchedFrom()).isNull();
+            verify(strategy, never()).backfillLatestPage(any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("캐시된 상장일이 종료일 이후면 이력 없음")
+        void cachedListingDateAfterAsOf() {
+            // given
+            given(redisTemplate.opsForValue()).willReturn(valueOperations);
+            given(valueOperations.get(CACHE_KEY)).willReturn("2024-07-01");
+
+            // when
+            ListingDateResolver.Resolution result = resolver.resolve(stock, strategy, DEFAULT_START_DATE, AS_OF);
+
+            // then
+            assertThat(result.hasHistory()).isFalse();
+        }
+
+        @Test
+        @DisplayName("Redis 장애 시 캐시 없이 조회")
+        void redisFailureFallsBackToProbing() {
+            // given
+            given(redisTemplate.opsForValue()).willThrow(new RedisConnectionFailureException("down"));
+            LocalDate listingDate = LocalDate.of(2024, 5, 2);
+            stubCalendar(listingDate);
+
+            // when
+            ListingDateResolver.Resolution result = resolver.resolve(stock, strategy, DEFAULT_START_DATE, AS_OF);
+
+            // then
+            assertThat(result.listingDate()).isEqualTo(listingDate);
+        }
+    }
+
+    /**
+     * 상장일부터 평일을 거래일로 하는 첫 페이지 응답을 설정하고, 응답 건수 기록을 반환합니다.
+     */
+    private List<Integer> stubCalendar(LocalDate listingDate) {
+        List<Integer> probes = new ArrayList<>();
+        given(strategy.backfillLatestPage(any(), any(), any())).willAnswer(invocation -> {
+            LocalDate startDate = invocation.getArgument(1);
+            LocalDate endDate = invocation.getArgument(2);
+            List<LocalDate> dates = new ArrayList<>();
+            for (LocalDate date = endDate; !date.isBefore(listingDate) && !date.isBefore(startDate)
+                    && dates.size() < PAGE_SIZE; date = date.minusDays(1)) {
+                if (date.getDayOfWeek() != DayOfWeek.SATURDAY && date.getDayOfWeek() != DayOfWeek.SUNDAY) {
+                    dates.add(date);
+                }
+            }
+            probes.add(dates.size());
+            return dates;
+        });
+        return probes;
+    }
+}
@@ -0,0 +1,400 @@
+package com.custom.trader.stockprice.service;
+
+import com.custom.trader.common.enums.AssetType;
+import com.custom.trader.common.enums.MarketCode;
+import com.custom.trader.kis.exception.KisApiException;
+import com.custom.trader.stockprice.calendar.service.MarketCalendarService;
+import com.custom.trader.stockprice.gap.entity.PriceGapEmptyRange;
+import com.custom.trader.stockprice.gap.repository.PriceGapEmptyRangeRepository;
+import com.custom.trader.stockprice.instrument.service.InstrumentRegistry;
+import com.custom.trader.stockprice.service.PriceGapReport.RepairWindow;
+import com.custom.trader.stockprice.strategy.StockPriceStrategy;
+import com.custom.trader.stockprice.strategy.StockPriceStrategyFactory;
+import com.custom.trader.stockprice.util.TradeDateBitmap;
+import com.custom.trader.watchlist.dto.WatchlistStockSummary;
+import com.custom.trader.watchlist.repository.WatchlistStockRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * PriceGapRepairService 단위 테스트.
+ *
+ * <p>2024년 1월 평일(22일)을 KRX 거래일로 하는 저장 데이터로 달력과 누락 구간을 검증합니다.
+ * KRX 휴장일 동기화를 설정하지 않은 테스트는 저장 거래일을 합친 달력을 사용합니다.</p>
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PriceGapRepairService 단위 테스트")
+class PriceGapRepairServiceTest {
+
+    private static final LocalDate AS_OF = LocalDate.of(2024, 1, 31);
+    private static final LocalDate FIRST_DAY = LocalDate.of(2024, 1, 2);
+
+    @Mock
+    private WatchlistStockRepository watchlistStockRepository;
+
+    @Mock
+    private InstrumentRegistry instrumentRegistry;
+
+    @Mock
+    private StockPricePersistenceService persistenceService;
+
+    @Mock
+    private StockPriceStrategyFactory strategyFactory;
+
+    @Mock
+    private StockPriceStrategy strategy;
+
+    @Mock
+    private MarketCalendarService marketCalendarService;
+
+    @Mock
+    private PriceGapEmptyRangeRepository emptyRangeRepository;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private final WatchlistStockSummary samsung = domestic(1L, "005930");
+    private final WatchlistStockSummary hynix = domestic(2L, "000660");
+    private final WatchlistStockSummary naver = domestic(3L, "035420");
+
+    @Nested
+    @DisplayName("누락 탐지와 복구")
+    class RepairGaps {
+
+        @BeforeEach
+        void setUp() {
+            given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        }
+
+        @Test
+        @DisplayName("누락 거래일만 한 구간으로 다시 수집하고 종목별 완전성을 보고")
+        void repairsMissingWindow() {
+            // given: 삼성전자는 1/10~1/11 누락, 네이버는 토요일(1/13) 잘못된 행 보유. KRX 휴장일 미동기화 → 합의 달력
+            List<LocalDate> weekdays = weekdays(FIRST_DAY, AS_OF);
+            List<LocalDate> samsungDates = new ArrayList<>(weekdays);
+            samsungDates.removeAll(List.of(LocalDate.of(2024, 1, 10), LocalDate.of(2024, 1, 11)));
+            List<LocalDate> naverDates = new ArrayList<>(weekdays);
+            naverDates.add(LocalDate.of(2024, 1, 13));
+            stubUniverse(List.of(samsung, hynix, naver), List.of(samsungDates, weekdays, naverDates));
+            given(strategyFactory.getStrategy(AssetType.DOMESTIC_STOCK)).willReturn(strategy);
+            given(strategy.backfillLatestPage(samsung, LocalDate.of(2024, 1, 10), LocalDate.of(2024, 1, 11)))
+                    .willReturn(List.of(LocalDate.of(2024, 1, 11), LocalDate.of(2024, 1, 10)));
+
+            // when
+            List<PriceGapReport> reports = service(200).repairGaps(AS_OF);
+
+            // then
+            assertThat(reports).hasSize(3);
+            PriceGapReport samsungReport = reports.get(0);
+            assertThat(samsungReport.marketCode()).isEqualTo(MarketCode.KRX);
+            assertThat(samsungReport.expectedDays()).isEqualTo(22);
+            assertThat(samsungReport.missingDays()).isEqualTo(2);
+            assertThat(samsungReport.windows()).containsExactly(
+                    new RepairWindow(LocalDate.of(2024, 1, 10), LocalDate.of(2024, 1, 11), 2));
+            assertThat(samsungReport.completenessPercent()).isEqualTo(20.0 / 22 * 100);
+
+            // 한 종목에만 있는 토요일은 거래일로 보지 않음
+            assertThat(reports.get(2).expectedDays()).isEqualTo(22);
+            assertThat(reports.get(1).completenessPercent()).isEqualTo(100.0);
+            assertThat(reports.get(2).completenessPercent()).isEqualTo(100.0);
+
+            verify(strategy, times(1)).backfillLatestPage(any(), any(), any());
+            verify(emptyRangeRepository, never()).save(any());
+            verify(valueOperations).set(PriceGapRepairService.CURSOR_KEY, "1");
+        }
+
+        @Test
+        @DisplayName("휴장일이 동기화된 기간은 평일 달력으로 시장 전 종목이 놓친 날도 탐지하고 휴장일은 제외")
+        void weekdayCalendarDetectsMarketWideMiss() {
+            // given: 세 종목 모두 1/10(수집 실패)과 1/22(휴장일 가정) 없음
+            LocalDate missedDay = LocalDate.of(2024, 1, 10);
+            LocalDate holiday = LocalDate.of(2024, 1, 22);
+            List<LocalDate> dates = new ArrayList<>(weekdays(FIRST_DAY, AS_OF));
+            dates.removeAll(List.of(missedDay, holiday));
+            stubUniverse(List.of(samsung, hynix, naver), List.of(dates, dates, dates));
+            given(marketCalendarService.syncDomesticCalendar(any(), eq(AS_OF))).willReturn(Optional.of(AS_OF));
+            given(marketCalendarService.closedDays(any(), eq(AS_OF))).willReturn(Map.of(MarketCode.KRX, Set.of(holiday)));
+            given(strategyFactory.getStrategy(AssetType.DOMESTIC_STOCK)).willReturn(strategy);
+            given(strategy.backfillLatestPage(any(), eq(missedDay), eq(missedDay))).willReturn(List.of(missedDay));
+
+            // when
+            List<PriceGapReport> reports = service(200).repairGaps(AS_OF);
+
+            // then
+            assertThat(reports).allSatisfy(report -> {
+                assertThat(report.expectedDays()).isEqualTo(21);
+                assertThat(report.windows()).containsExactly(new RepairWindow(missedDay, missedDay, 1));
+            });
+            verify(strategy, times(3)).backfillLatestPage(any(), eq(missedDay), eq(missedDay));
+        }
+
+        @Test
+        @DisplayName("휴장일 동기화가 실패하면 저장된 동기화 범위로 달력을 만듦")
+        void fallsBackWhenHolidaySyncFails() {
+            // given
+            List<LocalDate> weekdays = weekdays(FIRST_DAY, AS_OF);
+            stubUniverse(List.of(samsung, hynix), List.of(weekdays, weekdays));
+            given(marketCalendarService.syncDomesticCalendar(any(), eq(AS_OF)))
+                    .willThrow(new KisApiException("API 호출 실패"));
+            given(marketCalendarService.syncedThrough(MarketCode.KRX)).willReturn(Optional.empty());
+
+            // when
+            List<PriceGapReport> reports = service(200).repairGaps(AS_OF);
+
+            // then
+            assertThat(reports).extracting(PriceGapReport::missingDays).containsExactly(0, 0);
+            verify(strategyFactory, never()).getStrategy(any());
+        }
+
+        @Test
+        @DisplayName("복구 후에도 빈 날은 종목의 빈 기간으로 저장")
+        void recordsEmptyRange() {
+            // given: 삼성전자 1/10~1/11 거래정지
+            List<LocalDate> weekdays = weekdays(FIRST_DAY, AS_OF);
+            List<LocalDate> samsungDates = new ArrayList<>(weekdays);
+            samsungDates.removeAll(List.of(LocalDate.of(2024, 1, 10), LocalDate.of(2024, 1, 11)));
+            stubUniverse(List.of(samsung, hynix, naver), List.of(samsungDates, weekdays, weekdays));
+            given(strategyFactory.getStrategy(AssetType.DOMESTIC_STOCK)).willReturn(strategy);
+            given(strategy.backfillLatestPage(samsung, LocalDate.of(2024, 1, 10), LocalDate.of(2024, 1, 11)))
+                    .willReturn(List.of());
+
+            // when
+            service(200).repairGaps(AS_OF);
+
+            // then
+            ArgumentCaptor<PriceGapEmptyRange> captor = ArgumentCaptor.forClass(PriceGapEmptyRange.class);
+            verify(emptyRangeRepository).save(captor.capture());
+            assertThat(captor.getValue().getInstrumentId()).isEqualTo(1);
+            assertThat(captor.getValue().getStartDate()).isEqualTo(LocalDate.of(2024, 1, 10));
+            assertThat(captor.getValue().getEndDate()).isEqualTo(LocalDate.of(2024, 1, 11));
+            verify(marketCalendarService, never()).markObservedClosed(any(), any());
+        }
+
+        @Test
+        @DisplayName("기록된 빈 기간은 기대 거래일에서 빼고 다시 요청하지 않음")
+        void skipsRecordedEmptyRange() {
+            // given
+            List<LocalDate> weekdays = weekdays(FIRST_DAY, AS_OF);
+            List<LocalDate> samsungDates = new ArrayList<>(weekdays);
+            samsungDates.removeAll(List.of(LocalDate.of(2024, 1, 10), LocalDate.of(2024, 1, 11)));
+            stubUniverse(List.of(samsung, hynix, naver), List.of(samsungDates, weekdays, weekdays));
+            given(emptyRangeRepository.findAll()).willReturn(List.of(PriceGapEmptyRange.builder()
+                    .instrumentId(1)
+                    .startDate(LocalDate.of(2024, 1, 10))
+                    .endDate(LocalDate.of(2024, 1, 11))
+                    .build()));
+
+            // when
+            List<PriceGapReport> reports = service(200).repairGaps(AS_OF);
+
+            // then
+            assertThat(reports.get(0).expectedDays()).isEqualTo(20);
+            assertThat(reports.get(0).windows()).isEmpty();
+            verify(strategyFactory, never()).getStrategy(any());
+            verify(valueOperations, never()).set(any(), any());
+        }
+
+        @Test
+        @DisplayName("해외 시장은 평일 달력을 쓰고, 두 종목의 복구에서 빈 평일은 휴장일로 기록해 남은 종목은 건너뜀")
+        void observesOverseasHoliday() {
+            // given: 2024-01-15(마틴 루서 킹 데이) 세 종목 모두 없음
+            LocalDate holiday = LocalDate.of(2024, 1, 15);
+            List<LocalDate> dates = new ArrayList<>(weekdays(FIRST_DAY, AS_OF));
+            dates.remove(holiday);
+            var apple = new WatchlistStockSummary(4L, "AAPL", MarketCode.NAS, AssetType.OVERSEAS_STOCK);
+            var microsoft = new WatchlistStockSummary(5L, "MSFT", MarketCode.NAS, AssetType.OVERSEAS_STOCK);
+            var google = new WatchlistStockSummary(6L, "GOOGL", MarketCode.NAS, AssetType.OVERSEAS_STOCK);
+            stubUniverse(List.of(apple, microsoft, google), List.of(dates, dates, dates));
+            given(strategyFactory.getStrategy(AssetType.OVERSEAS_STOCK)).willReturn(strategy);
+            given(strategy.backfillLatestPage(any(), eq(holiday), eq(holiday))).willReturn(List.of());
+
+            // when
+            List<PriceGapReport> reports = service(200).repairGaps(AS_OF);
+
+            // then
+            verify(strategy).backfillLatestPage(apple, holiday, holiday);
+            verify(strategy).backfillLatestPage(microsoft, holiday, holiday);
+            verify(strategy, never()).backfillLatestPage(eq(google), any(), any());
+            verify(marketCalendarService).markObservedClosed(MarketCode.NAS, List.of(holiday));
+            verify(emptyRangeRepository, times(2)).save(any());
+            assertThat(reports.get(2).missingDays()).isZero();
+        }
+
+        @Test
+        @DisplayName("구간 예산을 넘으면 나머지 구간은 다음 실행으로 미룸")
+        void respectsWindowBudget() {
+            // given: 두 종목 모두 누락 구간 보유
+            List<LocalDate> weekdays = weekdays(FIRST_DAY, AS_OF);
+            List<LocalDate> samsungDates = new ArrayList<>(weekdays);
+            samsungDates.remove(LocalDate.of(2024, 1, 10));
+            List<LocalDate> hynixDates = new ArrayList<>(weekdays);
+            hynixDates.remove(LocalDate.of(2024, 1, 17));
+            stubUniverse(List.of(samsung, hynix, naver), List.of(samsungDates, hynixDates, weekdays));
+            given(strategyFactory.getStrategy(AssetType.DOMESTIC_STOCK)).willReturn(strategy);
+            given(strategy.backfillLatestPage(any(), any(), any())).willAnswer(invocation -> List.of(invocation.getArgument(1)));
+
+            // when
+            List<PriceGapReport> reports = service(1).repairGaps(AS_OF);
+
+            // then
+            assertThat(reports).extracting(PriceGapReport::missingDays).containsExactly(1, 1, 0);
+            verify(strategy).backfillLatestPage(samsung, LocalDate.of(2024, 1, 10), LocalDate.of(2024, 1, 10));
+            verify(strategy, never()).backfillLatestPage(eq(hynix), any(), any());
+            verify(valueOperations).set(PriceGapRepairService.CURSOR_KEY, "1");
+        }
+
+        @Test
+        @DisplayName("지난 실행에서 마지막으로 복구한 종목 다음부터 예산을 씀")
+        void rotatesStartingInstrument() {
+            // given: 지난 실행은 삼성전자(id 1)에서 예산 소진
+            List<LocalDate> weekdays = weekdays(FIRST_DAY, AS_OF);
+            List<LocalDate> samsungDates = new ArrayList<>(weekdays);
+            samsungDates.remove(LocalDate.of(2024, 1, 10));
+            List<LocalDate> hynixDates = new ArrayList<>(weekdays);
+            hynixDates.remove(LocalDate.of(2024, 1, 17));
+            stubUniverse(List.of(samsung, hynix, naver), List.of(samsungDates, hynixDates, weekdays));
+            given(valueOperations.get(PriceGapRepairService.CURSOR_KEY)).willReturn("1");
+            given(strategyFactory.getStrategy(AssetType.DOMESTIC_STOCK)).willReturn(strategy);
+            given(strategy.backfillLatestPage(any(), any(), any())).willAnswer(invocation -> List.of(invocation.getArgument(1)));
+
+            // when
+            List<PriceGapReport> reports = service(1).repairGaps(AS_OF);
+
+            // then
+            assertThat(reports).extracting(PriceGapReport::stockCode).containsExactly("000660", "035420", "005930");
+            verify(strategy).backfillLatestPage(hynix, LocalDate.of(2024, 1, 17), LocalDate.of(2024, 1, 17));
+            verify(strategy, never()).backfillLatestPage(eq(samsung), any(), any());
+            verify(valueOperations).set(PriceGapRepairService.CURSOR_KEY, "2");
+        }
+
+        @Test
+        @DisplayName("구간 복구가 KIS 오류로 실패해도 나머지 종목을 계속 처리하고 빈 기간으로 기록하지 않음")
+        void continuesAfterKisFailure() {
+            // given
+            List<LocalDate> weekdays = weekdays(FIRST_DAY, AS_OF);
+            List<LocalDate> samsungDates = new ArrayList<>(weekdays);
+            samsungDates.remove(LocalDate.of(2024, 1, 10));
+            List<LocalDate> hynixDates = new ArrayList<>(weekdays);
+            hynixDates.remove(LocalDate.of(2024, 1, 17));
+            stubUniverse(List.of(samsung, hynix, naver), List.of(samsungDates, hynixDates, weekdays));
+            given(strategyFactory.getStrategy(AssetType.DOMESTIC_STOCK)).willReturn(strategy);
+            given(strategy.backfillLatestPage(eq(samsung), any(), any())).willThrow(new KisApiException("API 호출 실패"));
+            given(strategy.backfillLatestPage(eq(hynix), any(), any())).willReturn(List.of(LocalDate.of(2024, 1, 17)));
+
+            // when
+            service(200).repairGaps(AS_OF);
+
+            // then
+            verify(strategy).backfillLatestPage(hynix, LocalDate.of(2024, 1, 17), LocalDate.of(2024, 1, 17));
+            verify(emptyRangeRepository, never()).save(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("구간 병합")
+    class Coalesce {
+
+        private final TradeDateBitmap calendar = TradeDateBitmap.of(weekdays(FIRST_DAY, AS_OF));
+
+        @Test
+        @DisplayName("요청 1회 거래일 수 안에 들어가는 누락일은 한 구간으로 묶음")
+        void mergesWithinRequestSize() {
+            // given: 1/2, 1/4, 1/8 → 1/2 ~ 1/8은 5거래일
+            List<LocalDate> missing = List.of(
+                    LocalDate.of(2024, 1, 2), LocalDate.of(2024, 1, 4), LocalDate.of(2024, 1, 8));
+
+            // when
+            List<RepairWindow> windows = PriceGapRepairService.coalesce(missing, calendar, 5);
+
+            // then
+            assertThat(windows).containsExactly(new RepairWindow(LocalDate.of(2024, 1, 2), LocalDate.of(2024, 1, 8), 3));
+        }
+
+        @Test
+        @DisplayName("요청 1회 거래일 수를 넘으면 새 구간 시작")
+        void splitsBeyondRequestSize() {
+            // given: 1/2 ~ 1/9는 6거래일
+            List<LocalDate> missing = List.of(
+                    LocalDate.of(2024, 1, 2), LocalDate.of(2024, 1, 9), LocalDate.of(2024, 1, 10));
+
+            // when
+            List<RepairWindow> windows = PriceGapRepairService.coalesce(missing, calendar, 5);
+
+            // then
+            assertThat(windows).containsExactly(
+                    new RepairWindow(LocalDate.of(2024, 1, 2), LocalDate.of(2024, 1, 2), 1),
+                    new RepairWindow(LocalDate.of(2024, 1, 9), LocalDate.of(2024, 1, 10), 2));
+        }
+
+        @Test
+        @DisplayName("누락이 없으면 구간 없음, 기대 거래일이 없으면 완전성 100%")
+        void empty() {
+            assertThat(PriceGapRepairService.coalesce(List.of(), calendar, 5)).isEmpty();
+            assertThat(new PriceGapReport("005930", AssetType.DOMESTIC_STOCK, MarketCode.KRX, 0, 0, List.of())
+                    .completenessPercent()).isEqualTo(100.0);
+        }
+    }
+
+    private PriceGapRepairService service(int maxWindowsPerRun) {
+        return new PriceGapRepairService(watchlistStockRepository, instrumentRegistry, persistenceService,
+                strategyFactory, marketCalendarService, emptyRangeRepository, redisTemplate, maxWindowsPerRun,
+                Period.ofYears(1));
+    }
+
+    /**
+     * 백필 완료 종목 1페이지와 종목별 저장 거래일을 설정합니다. instrument_id는 관심종목 id와 같게 둡니다.
+     */
+    private void stubUniverse(List<WatchlistStockSummary> stocks, List<List<LocalDate>> storedDates) {
+        given(watchlistStockRepository.findSummariesByBackfillCompletedAfterId(eq(true), any(), any()))
+                .willReturn(stocks);
+        for (int i = 0; i < stocks.size(); i++) {
+            WatchlistStockSummary stock = stocks.get(i);
+            int instrumentId = stock.getId().intValue();
+            given(instrumentRegistry.resolveId(stock)).willReturn(instrumentId);
+            given(persistenceService.getStoredTradeDates(stock.getAssetType(), instrumentId))
+                    .willReturn(TradeDateBitmap.of(storedDates.get(i)));
+        }
+    }
+
+    private static WatchlistStockSummary domestic(Long id, String stockCode) {
+        return new WatchlistStockSummary(id, stockCode, MarketCode.KRX, AssetType.DOMESTIC_STOCK);
+    }
+
+    private static List<LocalDate> weekdays(LocalDate startDate, LocalDate endDate) {
+        List<LocalDate> dates = new ArrayList<>();
+        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
+            if (date.getDayOfWeek() != DayOfWeek.SATURDAY && date.getDayOfWeek() != DayOfWeek.SUNDAY) {
+                dates.add(date);
+            }
+        }
+        return dates;
+    }
+}
@@ -0,0 +1,118 @@
+package com.custom.trader.stockprice.service;
+
+import com.custom.trader.common.enums.AssetType;
+import com.custom.trader.common.enums.MarketCode;
+import com.custom.trader.watchlist.dto.WatchlistStockSummary;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StockBackfillClaims 단위 테스트")
+class StockBackfillClaimsTest {
+
+    private static final Duration TTL = Duration.ofHours(2);
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private StockBackfillClaims claims;
+
+    private final WatchlistStockSummary samsung =
+            new WatchlistStockSummary(1L, "005930", MarketCode.KRX, AssetType.DOMESTIC_STOCK);
+
+    @BeforeEach
+    void setUp() {
+        claims = new StockBackfillClaims(redisTemplate, TTL);
+    }
+
+    @Test
+    @DisplayName("점유에 성공하면 토큰을 반환")
+    void claimsStock() {
+        // given
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.setIfAbsent(eq(StockBackfillClaims.key(samsung)), anyString(), eq(TTL))).willReturn(true);
+
+        // when
+        Optional<String> token = claims.tryClaim(samsung);
+
+        // then
+        assertThat(token).isPresent().get().isNotEqualTo(StockBackfillClaims.UNCLAIMED);
+    }
+
+    @Test
+    @DisplayName("다른 실행이 점유 중이면 empty")
+    void claimedByAnotherRun() {
+        // given
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.setIfAbsent(eq(StockBackfillClaims.key(samsung)), anyString(), eq(TTL))).willReturn(false);
+
+        // when
+        Optional<String> token = claims.tryClaim(samsung);
+
+        // then
+        assertThat(token).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Redis 오류 시 점유 없이 진행하고 해제하지 않음")
+    void redisFailureProceedsUnclaimed() {
+        // given
+        given(redisTemplate.opsForValue()).willThrow(new RedisConnectionFailureException("down"));
+
+        // when
+        Optional<String> token = claims.tryClaim(samsung);
+        claims.release(samsung, token.orElseThrow());
+
+        // then
+        assertThat(token).contains(StockBackfillClaims.UNCLAIMED);
+        verify(redisTemplate, never()).delete(anyString());
+    }
+
+    @Test
+    @DisplayName("자신의 토큰일 때만 점유를 해제")
+    void releasesOwnClaimOnly() {
+        // given
+        String key = StockBackfillClaims.key(samsung);
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.get(key)).willReturn("other-run");
+
+        // when
+        claims.release(samsung, "mine");
+
+        // then
+        verify(redisTemplate, never()).delete(anyString());
+    }
+
+    @Test
+    @DisplayName("국내 종목은 시장 코드와 무관하게, 해외 종목은 거래소별로 같은 키를 사용")
+    void keyIdentifiesInstrument() {
+        var noMarket = new WatchlistStockSummary(2L, "005930", null, AssetType.DOMESTIC_STOCK);
+        var nasdaq = new WatchlistStockSummary(3L, "ABC", MarketCode.NAS, AssetType.OVERSEAS_STOCK);
+        var nyse = new WatchlistStockSummary(4L, "ABC", MarketCode.NYS, AssetType.OVERSEAS_STOCK);
+
+        assertThat(StockBackfillClaims.key(noMarket)).isEqualTo(StockBackfillClaims.key(samsung));
+        assertThat(StockBackfillClaims.key(nasdaq)).isNotEqualTo(StockBackfillClaims.key(nyse));
+        verifyNoInteractions(redisTemplate);
+    }
+}
@@ -2,28 +2,43 @@ package com.custom.trader.stockprice.service;
 
 import com.custom.trader.common.enums.AssetType;
 import com.custom.trader.common.enums.MarketCode;
+import com.custom.trader.kis.exception.KisApiException;
+import com.custom.trader.stockprice.indicator.service.TechnicalIndicatorService;
+import com.custom.trader.stockprice.rollup.service.PriceRollupService;
 import com.custom.trader.stockprice.strategy.StockPriceStrategy;
 import com.custom.trader.stockprice.strategy.StockPriceStrategyFactory;
+import com.custom.trader.watchlist.dto.WatchlistStockSummary;
 import com.custom.trader.watchlist.entity.WatchlistStock;
+import com.custom.trader.watchlist.entity.WatchlistStockRef;
 import com.custom.trader.watchlist.repository.WatchlistStockRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.nio.file.Path;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class StockBackfillServiceTest {
 
+    private static final String TOKEN = "token";
+
     @Mock
     private StockPriceStrategyFactory strategyFactory;
 
@@ -33,31 +48,56 @@ class StockBackfillServiceTest {
     @Mock
     private WatchlistStockRepository watchlistStockRepository;
 
+    @Mock
+    private ListingDateResolver listingDateResolver;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PriceRollupService priceRollupService;
+
+    @Mock
+    private TechnicalIndicatorService technicalIndicatorService;
+
+    @Mock
+    private StockBackfillClaims backfillClaims;
+
     private StockBackfillService stockBackfillService;
 
     @BeforeEach
     void setUp() {
-        stockBackfillService = new StockBackfillService(strategyFactory, watchlistStockRepository);
+        stockBackfillService = new StockBackfillService(strategyFactory, watchlistStockRepository, listingDateResolver,
+                new StockPriceBulkLoader(jdbcTemplate, false, Path.of("stockprice-bulk")), priceRollupService, technicalIndicatorService,
+                backfillClaims);
     }
 
     @Test
-    @DisplayName("국내 주식 백필")
+    @DisplayName("국내 주식 백필 - 조회 Projection으로 백필, 롤업/지표 재계산 후 완료 플래그 UPDATE")
     void 국내_주식_백필() {
         // given
-        var stock = createDomesticStock("005930", "삼성전자", AssetType.DOMESTIC_STOCK);
+        var stock = new WatchlistStockSummary(1L, "005930", MarketCode.KRX, AssetType.DOMESTIC_STOCK);
         var startDate = LocalDate.of(2024, 1, 1);
         var endDate = LocalDate.of(2024, 1, 31);
 
+        given(backfillClaims.tryClaim(stock)).willReturn(Optional.of(TOKEN));
         given(strategyFactory.getStrategy(AssetType.DOMESTIC_STOCK)).willReturn(strategy);
+        given(listingDateResolver.resolve(stock, strategy, startDate, endDate))
+                .willReturn(new ListingDateResolver.Resolution(LocalDate.of(1975, 6, 11), null));
 
         // when
         stockBackfillService.backfillSingleStock(stock, startDate, endDate);
 
         // then
         verify(strategyFactory).getStrategy(AssetType.DOMESTIC_STOCK);
-        verify(strategy).backfillHistoricalPrices(eq(stock), eq(startDate), eq(endDate));
-        verify(watchlistStockRepository).save(stock);
-        assertThat(stock.isBackfillCompleted()).isTrue();
+        InOrder inOrder = inOrder(strategy, priceRollupService, technicalIndicatorService, watchlistStockRepository);
+        inOrder.verify(strategy).backfillHistoricalPrices(stock, startDate, endDate);
+        inOrder.verify(priceRollupService).rebuild(stock);
+        inOrder.verify(technicalIndicatorService).recompute(stock);
+        inOrder.verify(watchlistStockRepository).markBackfillCompleted(eq(stock.getId()), any(LocalDateTime.class));
+        verify(watchlistStockRepository).markSiblingsBackfillCompleted(eq(1L), eq(AssetType.DOMESTIC_STOCK), isNull(),
+                eq("005930"), any(LocalDateTime.class));
+        verify(backfillClaims).release(stock, TOKEN);
     }
 
     @Test
@@ -68,7 +108,10 @@ class StockBackfillServiceTest {
         var startDate = LocalDate.of(2024, 1, 1);
         var endDate = LocalDate.of(2024, 1, 31);
 
+        given(backfillClaims.tryClaim(stock)).willReturn(Optional.of(TOKEN));
         given(strategyFactory.getStrategy(AssetType.OVERSEAS_STOCK)).willReturn(strategy);
+        given(listingDateResolver.resolve(stock, strategy, startDate, endDate))
+                .willReturn(new ListingDateResolver.Resolution(LocalDate.of(1980, 12, 12), null));
 
         // when
         stockBackfillService.backfillSingleStock(stock, startDate, endDate);
@@ -76,8 +119,137 @@ class StockBackfillServiceTest {
         // then
         verify(strategyFactory).getStrategy(AssetType.OVERSEAS_STOCK);
         verify(strategy).backfillHistoricalPrices(eq(stock), eq(startDate), eq(endDate));
-        verify(watchlistStockRepository).save(stock);
-        assertThat(stock.isBackfillCompleted()).isTrue();
+        verify(watchlistStockRepository).markBackfillCompleted(eq(stock.getId()), any(LocalDateTime.class));
+        verify(watchlistStockRepository).markSiblingsBackfillCompleted(eq(2L), eq(AssetType.OVERSEAS_STOCK),
+                eq(MarketCode.NAS), eq("AAPL"), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("상장일이 시작일보다 늦으면 상장일부터 백필")
+    void 상장일부터_백필() {
+        // given
+        var stock = new WatchlistStockSummary(3L, "373220", MarketCode.KRX, AssetType.DOMESTIC_STOCK);
+        var startDate = LocalDate.of(1900, 1, 1);
+        var endDate = LocalDate.of(2024, 1, 31);
+        var listingDate = LocalDate.of(2022, 1, 27);
+
+        given(backfillClaims.tryClaim(stock)).willReturn(Optional.of(TOKEN));
+        given(strategyFactory.getStrategy(AssetType.DOMESTIC_STOCK)).willReturn(strategy);
+        given(listingDateResolver.resolve(stock, strategy, startDate, endDate))
+                .willReturn(new ListingDateResolver.Resolution(listingDate, null));
+
+        // when
+        stockBackfillService.backfillSingleStock(stock, startDate, endDate);
+
+        // then
+        verify(strategy).backfillHistoricalPrices(stock, listingDate, endDate);
+        verify(watchlistStockRepository).markBackfillCompleted(eq(3L), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("상장일 확인 중 저장한 첫 페이지 이전 구간만 이어서 백필")
+    void 첫_페이지_이전_구간만_백필() {
+        // given
+        var stock = new WatchlistStockSummary(5L, "005930", MarketCode.KRX, AssetType.DOMESTIC_STOCK);
+        var startDate = LocalDate.of(1900, 1, 1);
+        var endDate = LocalDate.of(2024, 1, 31);
+        var fetchedFrom = LocalDate.of(2023, 9, 1);
+
+        given(backfillClaims.tryClaim(stock)).willReturn(Optional.of(TOKEN));
+        given(strategyFactory.getStrategy(AssetType.DOMESTIC_STOCK)).willReturn(strategy);
+        given(listingDateResolver.resolve(stock, strategy, startDate, endDate))
+                .willReturn(new ListingDateResolver.Resolution(null, fetchedFrom));
+
+        // when
+        stockBackfillService.backfillSingleStock(stock, startDate, endDate);
+
+        // then
+        verify(strategy).backfillHistoricalPrices(stock, startDate, fetchedFrom.minusDays(1));
+        verify(priceRollupService).rebuild(stock);
+        verify(watchlistStockRepository).markBackfillCompleted(eq(5L), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("첫 페이지에 기간 전체가 들어오면 추가 조회 없이 롤업/지표만 재계산")
+    void 첫_페이지로_백필_완료() {
+        // given
+        var stock = new WatchlistStockSummary(6L, "0001", MarketCode.KRX, AssetType.DOMESTIC_INDEX);
+        var startDate = LocalDate.of(1900, 1, 1);
+        var endDate = LocalDate.of(2024, 1, 31);
+        var listingDate = LocalDate.of(2023, 11, 1);
+
+        given(backfillClaims.tryClaim(stock)).willReturn(Optional.of(TOKEN));
+        given(strategyFactory.getStrategy(AssetType.DOMESTIC_INDEX)).willReturn(strategy);
+        given(listingDateResolver.resolve(stock, strategy, startDate, endDate))
+                .willReturn(new ListingDateResolver.Resolution(listingDate, listingDate));
+
+        // when
+        stockBackfillService.backfillSingleStock(stock, startDate, endDate);
+
+        // then
+        verify(strategy, never()).backfillHistoricalPrices(any(), any(), any());
+        verify(priceRollupService).rebuild(stock);
+        verify(technicalIndicatorService).recompute(stock);
+        verify(watchlistStockRepository).markBackfillCompleted(eq(6L), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("거래 이력이 없으면 가격 조회 없이 백필 완료 처리")
+    void 거래_이력_없음() {
+        // given
+        var stock = new WatchlistStockSummary(4L, "999999", MarketCode.KRX, AssetType.DOMESTIC_STOCK);
+        var startDate = LocalDate.of(1900, 1, 1);
+        var endDate = LocalDate.of(2024, 1, 31);
+
+        given(backfillClaims.tryClaim(stock)).willReturn(Optional.of(TOKEN));
+        given(strategyFactory.getStrategy(AssetType.DOMESTIC_STOCK)).willReturn(strategy);
+        given(listingDateResolver.resolve(stock, strategy, startDate, endDate))
+                .willReturn(new ListingDateResolver.Resolution(null, null));
+
+        // when
+        stockBackfillService.backfillSingleStock(stock, startDate, endDate);
+
+        // then
+        verify(strategy, never()).backfillHistoricalPrices(any(), any(), any());
+        verify(priceRollupService, never()).rebuild(any(WatchlistStockRef.class));
+        verify(technicalIndicatorService, never()).recompute(any(WatchlistStockRef.class));
+        verify(watchlistStockRepository).markBackfillCompleted(eq(4L), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("다른 실행이 점유 중인 종목은 백필하지 않고 건너뛰었음을 반환")
+    void 점유된_종목_스킵() {
+        // given
+        var stock = new WatchlistStockSummary(7L, "005930", MarketCode.KRX, AssetType.DOMESTIC_STOCK);
+        given(backfillClaims.tryClaim(stock)).willReturn(Optional.empty());
+
+        // when
+        boolean backfilled = stockBackfillService.backfillSingleStock(
+                stock, LocalDate.of(1900, 1, 1), LocalDate.of(2024, 1, 31));
+
+        // then
+        assertThat(backfilled).isFalse();
+        verifyNoInteractions(strategyFactory, listingDateResolver, watchlistStockRepository);
+        verify(backfillClaims, never()).release(any(), any());
+    }
+
+    @Test
+    @DisplayName("백필이 실패해도 점유를 해제")
+    void 실패_시_점유_해제() {
+        // given
+        var stock = new WatchlistStockSummary(8L, "005930", MarketCode.KRX, AssetType.DOMESTIC_STOCK);
+        var startDate = LocalDate.of(1900, 1, 1);
+        var endDate = LocalDate.of(2024, 1, 31);
+        given(backfillClaims.tryClaim(stock)).willReturn(Optional.of(TOKEN));
+        given(strategyFactory.getStrategy(AssetType.DOMESTIC_STOCK)).willReturn(strategy);
+        given(listingDateResolver.resolve(stock, strategy, startDate, endDate))
+                .willThrow(new KisApiException("API 호출 실패"));
+
+        // when & then
+        assertThatThrownBy(() -> stockBackfillService.backfillSingleStock(stock, startDate, endDate))
+                .isInstanceOf(KisApiException.class);
+        verify(backfillClaims).release(stock, TOKEN);
+        verify(watchlistStockRepository, never()).markBackfillCompleted(any(), any());
     }
 
     @Test
@@ -99,26 +271,19 @@ class StockBackfillServiceTest {
         // then
         verify(strategyFactory, never()).getStrategy(any());
         verify(strategy, never()).backfillHistoricalPrices(any(), any(), any());
-        verify(watchlistStockRepository, never()).save(any());
-        assertThat(stock.isBackfillCompleted()).isFalse();
-    }
-
-    private WatchlistStock createDomesticStock(String stockCode, String stockName, AssetType assetType) {
-        return WatchlistStock.builder()
-                .stockCode(stockCode)
-                .stockName(stockName)
-                .marketCode(MarketCode.KRX)
-                .assetType(assetType)
-                .build();
+        verify(watchlistStockRepository, never()).markBackfillCompleted(any(), any());
+        verifyNoInteractions(backfillClaims);
     }
 
     private WatchlistStock createOverseasStock(String stockCode, String stockName,
                                                 MarketCode marketCode, AssetType assetType) {
-        return WatchlistStock.builder()
+        var stock = WatchlistStock.builder()
                 .stockCode(stockCode)
                 .stockName(stockName)
                 .marketCode(marketCode)
                 .assetType(assetType)
                 .build();
+        ReflectionTestUtils.setField(stock, "id", 2L);
+        return stock;
     }
 }
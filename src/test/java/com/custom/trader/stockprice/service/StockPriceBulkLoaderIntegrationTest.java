@@ -0,0 +1,140 @@
+package com.custom.trader.stockprice.service;
+
+import com.custom.trader.stockprice.domestic.entity.DomesticStockDailyPrice;
+import com.custom.trader.stockprice.domestic.repository.DomesticStockDailyPriceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+
+/**
+ * StockPriceBulkLoader 통합 테스트.
+ *
+ * <p>{@code local_infile=ON} MySQL 컨테이너에 {@code allowLoadLocalInfileInPath=<스풀 디렉터리>}로 접속해
+ * 실제 {@code LOAD DATA LOCAL INFILE} → 스테이징 테이블 → 병합을 검증합니다.
+ * 공통 컨테이너({@code MySQLTestcontainersConfig})와 서버/URL 설정이 달라 전용 컨테이너를 사용합니다.</p>
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@Import(StockPriceBulkLoaderIntegrationTest.LocalInfileMySQLConfig.class)
+@ActiveProfiles("test")
+@DisplayName("StockPriceBulkLoader 통합 테스트")
+class StockPriceBulkLoaderIntegrationTest {
+
+    private static final Path SPOOL_DIR = createSpoolDir();
+    private static final String STAGING_TABLE = "tmp_bulk_domestic_stock_daily_price";
+
+    @TestConfiguration(proxyBeanMethods = false)
+    static class LocalInfileMySQLConfig {
+
+        @Bean
+        @ServiceConnection
+        MySQLContainer<?> mysqlContainer() {
+            return new MySQLContainer<>(DockerImageName.parse("mysql:8.0"))
+                    .withCommand("--character-set-server=utf8mb4", "--collation-server=utf8mb4_unicode_ci",
+                            "--local-infile=1")
+                    .withUrlParam("allowLoadLocalInfileInPath", SPOOL_DIR.toString());
+        }
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DomesticStockDailyPriceRepository domesticStockDailyPriceRepository;
+
+    private StockPriceBulkLoader loader;
+
+    @BeforeEach
+    void setUp() {
+        loader = new StockPriceBulkLoader(jdbcTemplate, true, SPOOL_DIR);
+    }
+
+    @Test
+    @DisplayName("스풀 파일을 스테이징 테이블에 적재하고 병합 - 이미 있는 거래일은 유지하고 새 거래일만 추가")
+    void loadsThroughStagingAndMerges() {
+        // given
+        domesticStockDailyPriceRepository.saveAndFlush(price(LocalDate.of(2024, 1, 2), "70000"));
+
+        // when
+        loader.runInSession(() -> loader.spoolDomesticStock(List.of(
+                price(LocalDate.of(2024, 1, 2), "99999"),
+                price(LocalDate.of(2024, 1, 3), "71000"))));
+
+        // then
+        List<BigDecimal> closePrices = jdbcTemplate.queryForList(
+                "SELECT close_price FROM domestic_stock_daily_price WHERE instrument_id = 1 ORDER BY trade_date",
+                BigDecimal.class);
+        assertThat(closePrices).usingElementComparator(BigDecimal::compareTo)
+                .containsExactly(new BigDecimal("70000"), new BigDecimal("71000"));
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT trading_value IS NULL FROM domestic_stock_daily_price WHERE instrument_id = 1 AND trade_date = ?",
+                Boolean.class, LocalDate.of(2024, 1, 3))).isTrue();
+        assertThatThrownBy(() -> jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + STAGING_TABLE, Integer.class))
+                .as("스테이징 임시 테이블은 병합 후 삭제")
+                .isInstanceOf(DataAccessException.class);
+        assertThat(SPOOL_DIR).isEmptyDirectory();
+    }
+
+    @Test
+    @DisplayName("스풀 디렉터리 밖의 파일은 드라이버가 LOCAL INFILE로 읽지 않음")
+    void rejectsFilesOutsideSpoolDir() throws IOException {
+        // given
+        Path outside = Files.createTempFile("stockprice-bulk-outside-", ".tsv");
+        try {
+            Files.writeString(outside, "1\t2024-01-04\t1\t1\t1\t1\t1\t\\N\t2024-01-04 00:00:00\t2024-01-04 00:00:00\n");
+
+            // when & then
+            assertThatThrownBy(() -> jdbcTemplate.execute("LOAD DATA LOCAL INFILE '"
+                    + outside.toAbsolutePath().toString().replace('\\', '/')
+                    + "' INTO TABLE domestic_stock_daily_price"))
+                    .isInstanceOf(DataAccessException.class);
+        } finally {
+            Files.deleteIfExists(outside);
+        }
+    }
+
+    private static DomesticStockDailyPrice price(LocalDate tradeDate, String closePrice) {
+        return DomesticStockDailyPrice.builder()
+                .instrumentId(1)
+                .tradeDate(tradeDate)
+                .openPrice(new BigDecimal(closePrice))
+                .highPrice(new BigDecimal(closePrice))
+                .lowPrice(new BigDecimal(closePrice))
+                .closePrice(new BigDecimal(closePrice))
+                .volume(1_000L)
+                .build();
+    }
+
+    private static Path createSpoolDir() {
+        try {
+            // 드라이버는 실제 경로로 비교하므로 심볼릭 링크(예: macOS /var)를 풀어 둠
+            return Files.createTempDirectory("stockprice-bulk-it-").toRealPath();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package com.custom.trader.stockprice.service;
+
+import com.custom.trader.stockprice.domestic.entity.DomesticStockDailyPrice;
+import com.custom.trader.stockprice.overseas.entity.OverseasStockDailyPrice;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StockPriceBulkLoader 단위 테스트")
+class StockPriceBulkLoaderTest {
+
+    private static final Pattern INFILE_PATH = Pattern.compile("LOAD DATA LOCAL INFILE '([^']+)'");
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @TempDir
+    Path tempDir;
+
+    private Path spoolDir;
+
+    @BeforeEach
+    void setUpSpoolDir() {
+        spoolDir = tempDir.resolve("spool");
+    }
+
+    @Test
+    @DisplayName("비활성화 상태면 세션 없이 작업만 실행")
+    void disabledRunsTaskDirectly() {
+        // given
+        var loader = new StockPriceBulkLoader(jdbcTemplate, false, spoolDir);
+        AtomicBoolean spooling = new AtomicBoolean(true);
+
+        // when
+        loader.runInSession(() -> spooling.set(loader.isSpooling()));
+
+        // then
+        assertThat(spooling).isFalse();
+        verify(jdbcTemplate, never()).execute(any(ConnectionCallback.class));
+    }
+
+    @Test
+    @DisplayName("세션 밖에서 스풀하면 예외")
+    void spoolOutsideSession() {
+        var loader = new StockPriceBulkLoader(jdbcTemplate, true, spoolDir);
+
+        assertThatThrownBy(() -> loader.spoolDomesticStock(List.of(domesticPrice(LocalDate.of(2024, 1, 2)))))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("스풀한 행이 없으면 DB 호출 없음")
+    void noRowsNoFlush() {
+        var loader = new StockPriceBulkLoader(jdbcTemplate, true, spoolDir);
+
+        loader.runInSession(() -> loader.spoolDomesticStock(List.of()));
+
+        verify(jdbcTemplate, never()).execute(any(ConnectionCallback.class));
+    }
+
+    @Nested
+    @DisplayName("활성화 상태")
+    class Enabled {
+
+        private final List<String> executedSql = new ArrayList<>();
+        private final List<List<String>> loadedFiles = new ArrayList<>();
+        private final List<Path> loadedPaths = new ArrayList<>();
+        private StockPriceBulkLoader loader;
+
+        @BeforeEach
+        void setUp() throws Exception {
+            loader = new StockPriceBulkLoader(jdbcTemplate, true, spoolDir);
+
+            Statement statement = mock(Statement.class);
+            given(statement.execute(anyString())).willAnswer(invocation -> {
+                String sql = invocation.getArgument(0);
+                executedSql.add(sql);
+                Matcher matcher = INFILE_PATH.matcher(sql);
+                if (matcher.find()) {
+                    loadedPaths.add(Path.of(matcher.group(1)));
+                    loadedFiles.add(Files.readAllLines(Path.of(matcher.group(1))));
+                }
+                return false;
+            });
+            given(statement.executeUpdate(anyString())).willAnswer(invocation -> {
+                executedSql.add(invocation.getArgument(0));
+                return 2;
+            });
+            Connection connection = mock(Connection.class);
+            given(connection.createStatement()).willReturn(statement);
+            given(jdbcTemplate.execute(any(ConnectionCallback.class)))
+                    .willAnswer(invocation -> invocation.<ConnectionCallback<?>>getArgument(0).doInConnection(connection));
+        }
+
+        @Test
+        @DisplayName("세션 종료 시 스테이징 테이블에 적재 후 대상 테이블로 병합")
+        void flushesOnSessionEnd() {
+            // when
+            loader.runInSession(() -> {
+                assertThat(loader.isSpooling()).isTrue();
+                int spooled = loader.spoolDomesticStock(List.of(
+                        domesticPrice(LocalDate.of(2024, 1, 2)),
+                        domesticPrice(LocalDate.of(2024, 1, 3))));
+                assertThat(spooled).isEqualTo(2);
+            });
+
+            // then
+            assertThat(loader.isSpooling()).isFalse();
+            assertThat(executedSql).hasSize(4);
+            assertThat(executedSql.get(0)).startsWith("CREATE TEMPORARY TABLE tmp_bulk_domestic_stock_daily_price");
+            assertThat(executedSql.get(1)).contains("INTO TABLE tmp_bulk_domestic_stock_daily_price");
+            assertThat(executedSql.get(2))
+                    .startsWith("INSERT INTO domestic_stock_daily_price (instrument_id, trade_date,")
+                    .contains("ON DUPLICATE KEY UPDATE");
+            assertThat(executedSql.get(3)).isEqualTo("DROP TEMPORARY TABLE IF EXISTS tmp_bulk_domestic_stock_daily_price");
+
+            assertThat(loadedFiles).hasSize(1);
+            assertThat(loadedPaths).singleElement().satisfies(path -> assertThat(path.getParent()).isEqualTo(spoolDir));
+            assertThat(spoolDir).isEmptyDirectory();
+            assertThat(loadedFiles.get(0)).hasSize(2);
+            assertThat(loadedFiles.get(0).get(0))
+                    .startsWith("1\t2024-01-02\t70000\t71000\t69000\t70500\t1000000\t\\N\t");
+        }
+
+        @Test
+        @DisplayName("BigDecimal은 지수 표기 없이 기록")
+        void writesPlainDecimals() {
+            // when
+            loader.runInSession(() -> loader.spoolOverseasStock(List.of(OverseasStockDailyPrice.builder()
+                    .instrumentId(3)
+                    .tradeDate(LocalDate.of(2024, 1, 2))
+                    .openPrice(new BigDecimal("1E+3"))
+                    .highPrice(new BigDecimal("1000"))
+                    .lowPrice(new BigDecimal("990"))
+                    .closePrice(new BigDecimal("995"))
+                    .volume(10L)
+                    .tradingValue(new BigDecimal("9950"))
+                    .build())));
+
+            // then
+            assertThat(loadedFiles.get(0).get(0)).startsWith("3\t2024-01-02\t1000\t1000\t990\t995\t10\t9950\t");
+        }
+
+        @Test
+        @DisplayName("작업이 실패해도 그 전까지 스풀한 행은 반영하고 예외 전파")
+        void flushesBeforeRethrowing() {
+            // when & then
+            assertThatThrownBy(() -> loader.runInSession(() -> {
+                loader.spoolDomesticStock(List.of(domesticPrice(LocalDate.of(2024, 1, 2))));
+                throw new IllegalStateException("KIS 실패");
+            })).isInstanceOf(IllegalStateException.class).hasMessage("KIS 실패");
+
+            assertThat(loadedFiles).hasSize(1);
+        }
+    }
+
+    private static DomesticStockDailyPrice domesticPrice(LocalDate tradeDate) {
+        return DomesticStockDailyPrice.builder()
+                .instrumentId(1)
+                .tradeDate(tradeDate)
+                .openPrice(new BigDecimal("70000"))
+                .highPrice(new BigDecimal("71000"))
+                .lowPrice(new BigDecimal("69000"))
+                .closePrice(new BigDecimal("70500"))
+                .volume(1_000_000L)
+                .build();
+    }
+}
@@ -0,0 +1,100 @@
+package com.custom.trader.stockprice.service;
+
+import com.custom.trader.common.enums.AssetType;
+import com.custom.trader.common.enums.MarketCode;
+import com.custom.trader.stockprice.strategy.StockPriceStrategyFactory;
+import com.custom.trader.watchlist.dto.WatchlistStockSummary;
+import com.custom.trader.watchlist.entity.WatchlistStockRef;
+import com.custom.trader.watchlist.repository.WatchlistStockRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.data.domain.Limit;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static com.custom.trader.stockprice.constant.StockPriceConstants.PAGE_SIZE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * 백필 순회의 메모리 사용량 테스트.
+ *
+ * <p>힙 크기 측정은 다른 테스트와 JVM을 공유하여 흔들리므로, 발급한 종목 Projection을 WeakReference로 추적하여
+ * GC 후에도 도달 가능한 종목 수(= 순회가 붙잡고 있는 종목 수)가 종목 수와 무관하게 일정한지 검증합니다.</p>
+ *
+ * <p>Mockito 기본 Mock은 호출 인자를 모두 기록하므로, 인자를 보관하지 않는 {@code stubOnly} Mock을 사용합니다.</p>
+ */
+@DisplayName("StockPriceCollectionService 메모리 사용 테스트")
+class StockPriceCollectionServiceMemoryTest {
+
+    private static final int SAMPLE_INTERVAL = PAGE_SIZE * 5;
+    private static final int MAX_RETAINED = PAGE_SIZE * 2 + 1;
+
+    private WatchlistStockRepository watchlistStockRepository;
+    private StockBackfillService stockBackfillService;
+    private StockPriceCollectionService stockPriceCollectionService;
+
+    private final List<WeakReference<WatchlistStockSummary>> issued = new ArrayList<>();
+    private int maxRetained;
+
+    @BeforeEach
+    void setUp() {
+        watchlistStockRepository = mock(WatchlistStockRepository.class, withSettings().stubOnly());
+        stockBackfillService = mock(StockBackfillService.class, withSettings().stubOnly());
+        stockPriceCollectionService = new StockPriceCollectionService(
+                watchlistStockRepository,
+                stockBackfillService,
+                mock(StockPriceStrategyFactory.class, withSettings().stubOnly()),
+                mock(DeferredPriceTaskService.class, withSettings().stubOnly())
+        );
+    }
+
+    @ParameterizedTest(name = "종목 {0}개")
+    @ValueSource(ints = {1_000, 5_000})
+    @DisplayName("종목 수가 늘어도 백필 중 참조되는 종목은 한 페이지 분량 이내 (힙 사용량 평탄)")
+    void retainedStocksStayBoundedAsSymbolCountGrows(int symbolCount) {
+        // given: 요청된 Keyset 범위의 Projection을 매번 새로 생성
+        given(watchlistStockRepository.findSummariesByBackfillCompletedAfterId(eq(false), anyLong(), any(Limit.class)))
+                .willAnswer(invocation -> {
+                    long lastId = invocation.getArgument(1);
+                    Limit limit = invocation.<Limit>getArgument(2);
+                    List<WatchlistStockSummary> rows = LongStream
+                            .rangeClosed(lastId + 1, Math.min(symbolCount, lastId + limit.max()))
+                            .mapToObj(id -> new WatchlistStockSummary(
+                                    id, String.format("%06d", id), MarketCode.KRX, AssetType.DOMESTIC_STOCK))
+                            .toList();
+                    rows.forEach(row -> issued.add(new WeakReference<>(row)));
+                    return rows;
+                });
+        willAnswer(invocation -> {
+            if (invocation.<WatchlistStockRef>getArgument(0).getId() % SAMPLE_INTERVAL == 0) {
+                maxRetained = Math.max(maxRetained, countReachable());
+            }
+            return true;
+        }).given(stockBackfillService).backfillSingleStock(any(), any(), any());
+
+        // when
+        stockPriceCollectionService.backfillHistoricalPrices();
+
+        // then
+        assertThat(maxRetained).isPositive().isLessThanOrEqualTo(MAX_RETAINED);
+    }
+
+    private int countReachable() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return (int) issued.stream().filter(ref -> ref.get() != null).count();
+    }
+}
@@ -4,9 +4,13 @@ import com.custom.trader.common.enums.AssetType;
 import com.custom.trader.common.enums.MarketCode;
 import com.custom.trader.kis.exception.KisApiException;
 import com.custom.trader.stockprice.constant.StockPriceConstants;
+import com.custom.trader.stockprice.deferred.entity.DeferredPriceTask;
+import com.custom.trader.stockprice.deferred.entity.DeferredPriceTask.TaskType;
 import com.custom.trader.stockprice.strategy.StockPriceStrategy;
 import com.custom.trader.stockprice.strategy.StockPriceStrategyFactory;
+import com.custom.trader.watchlist.dto.WatchlistStockSummary;
 import com.custom.trader.watchlist.entity.WatchlistStock;
+import com.custom.trader.watchlist.entity.WatchlistStockRef;
 import com.custom.trader.watchlist.repository.WatchlistStockRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -18,19 +22,23 @@ import org.junit.jupiter.params.provider.CsvSource;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.dao.DataAccessException;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Slice;
-import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Limit;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.IntStream;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
 import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.*;
 
@@ -49,14 +57,20 @@ class StockPriceCollectionServiceTest {
     @Mock
     private StockPriceStrategy strategy;
 
+    @Mock
+    private DeferredPriceTaskService deferredPriceTaskService;
+
     private StockPriceCollectionService stockPriceCollectionService;
 
+    private final Set<Long> completedIds = new HashSet<>();
+
     @BeforeEach
     void setUp() {
         stockPriceCollectionService = new StockPriceCollectionService(
                 watchlistStockRepository,
                 stockBackfillService,
-                strategyFactory
+                strategyFactory,
+                deferredPriceTaskService
         );
     }
 
@@ -64,16 +78,9 @@ class StockPriceCollectionServiceTest {
     @DisplayName("일간 가격 수집")
     void collectDailyPrices() {
         // given
-        var stock = WatchlistStock.builder()
-                .stockCode("005930")
-                .stockName("삼성전자")
-                .marketCode(MarketCode.KRX)
-                .assetType(AssetType.DOMESTIC_STOCK)
-                .build();
-        stock.markBackfillCompleted();
-
-        Slice<WatchlistStock> slice = new SliceImpl<>(List.of(stock), PageRequest.of(0, 100), false);
-        given(watchlistStockRepository.findByBackfillCompleted(eq(true), any())).willReturn(slice);
+        var stock = createStock(1L, "005930");
+
+        stubKeysetPages(true, List.of(stock));
         given(strategyFactory.getStrategy(AssetType.DOMESTIC_STOCK)).willReturn(strategy);
         given(strategy.collectDailyPrice(eq(stock), any(LocalDate.class), any(LocalDate.class))).willReturn(1);
 
@@ -89,15 +96,9 @@ class StockPriceCollectionServiceTest {
     @DisplayName("백필")
     void backfillHistoricalPrices() {
         // given
-        var stock = WatchlistStock.builder()
-                .stockCode("005930")
-                .stockName("삼성전자")
-                .marketCode(MarketCode.KRX)
-                .assetType(AssetType.DOMESTIC_STOCK)
-                .build();
+        var stock = createStock(1L, "005930");
 
-        Slice<WatchlistStock> slice = new SliceImpl<>(List.of(stock), PageRequest.of(0, 100), false);
-        given(watchlistStockRepository.findByBackfillCompleted(eq(false), any())).willReturn(slice);
+        stubKeysetPages(false, List.of(stock));
 
         // when
         stockPriceCollectionService.backfillHistoricalPrices();
@@ -111,41 +112,11 @@ class StockPriceCollectionServiceTest {
     class CollectDailyPricesEdgeCases {
 
         @Test
-        @DisplayName("멀티 페이지 수집 - 2페이지 이상 데이터 순회")
+        @DisplayName("멀티 페이지 수집 - 직전 페이지 마지막 id 이후부터 조회")
         void collectDailyPrices_withMultiplePages() {
             // given
-            var stock1 = WatchlistStock.builder()
-                    .stockCode("005930")
-                    .stockName("삼성전자")
-                    .marketCode(MarketCode.KRX)
-                    .assetType(AssetType.DOMESTIC_STOCK)
-                    .build();
-            stock1.markBackfillCompleted();
-
-            var stock2 = WatchlistStock.builder()
-                    .stockCode("000660")
-                    .stockName("SK하이닉스")
-                    .marketCode(MarketCode.KRX)
-                    .assetType(AssetType.DOMESTIC_STOCK)
-                    .build();
-            stock2.markBackfillCompleted();
-
-            // 첫 번째 페이지: hasNext = true
-            Slice<WatchlistStock> firstSlice = new SliceImpl<>(
-                    List.of(stock1),
-                    PageRequest.of(0, StockPriceConstants.PAGE_SIZE),
-                    true
-            );
-
-            // 두 번째 페이지: hasNext = false
-            Slice<WatchlistStock> secondSlice = new SliceImpl<>(
-                    List.of(stock2),
-                    PageRequest.of(1, StockPriceConstants.PAGE_SIZE),
-                    false
-            );
-
-            given(watchlistStockRepository.findByBackfillCompleted(eq(true), any()))
-                    .willReturn(firstSlice, secondSlice);
+            var stocks = createStocks(StockPriceConstants.PAGE_SIZE + 1);
+            stubKeysetPages(true, stocks);
             given(strategyFactory.getStrategy(AssetType.DOMESTIC_STOCK)).willReturn(strategy);
             given(strategy.collectDailyPrice(any(), any(LocalDate.class), any(LocalDate.class))).willReturn(1);
 
@@ -153,26 +124,26 @@ class StockPriceCollectionServiceTest {
             stockPriceCollectionService.collectDailyPrices();
 
             // then
-            verify(watchlistStockRepository, times(2)).findByBackfillCompleted(eq(true), any());
-            verify(strategy, times(2)).collectDailyPrice(any(), any(LocalDate.class), any(LocalDate.class));
+            verify(watchlistStockRepository).findSummariesByBackfillCompletedAfterId(
+                    true, 0L, Limit.of(StockPriceConstants.PAGE_SIZE + 1));
+            verify(watchlistStockRepository).findSummariesByBackfillCompletedAfterId(
+                    true, (long) StockPriceConstants.PAGE_SIZE, Limit.of(StockPriceConstants.PAGE_SIZE + 1));
+            verify(strategy, times(StockPriceConstants.PAGE_SIZE + 1))
+                    .collectDailyPrice(any(), any(LocalDate.class), any(LocalDate.class));
         }
 
         @Test
         @DisplayName("빈 결과 - 백필 완료 종목이 없을 때 정상 종료")
         void collectDailyPrices_withEmptyResult() {
             // given
-            Slice<WatchlistStock> emptySlice = new SliceImpl<>(
-                    Collections.emptyList(),
-                    PageRequest.of(0, StockPriceConstants.PAGE_SIZE),
-                    false
-            );
-            given(watchlistStockRepository.findByBackfillCompleted(eq(true), any())).willReturn(emptySlice);
+            stubKeysetPages(true, Collections.emptyList());
 
             // when
             stockPriceCollectionService.collectDailyPrices();
 
             // then
-            verify(watchlistStockRepository, times(1)).findByBackfillCompleted(eq(true), any());
+            verify(watchlistStockRepository, times(1))
+                    .findSummariesByBackfillCompletedAfterId(eq(true), any(), any());
             verify(strategyFactory, never()).getStrategy(any());
             verify(strategy, never()).collectDailyPrice(any(), any(LocalDate.class), any(LocalDate.class));
         }
@@ -181,29 +152,10 @@ class StockPriceCollectionServiceTest {
         @DisplayName("KisApiException 발생 시 - 해당 종목 실패, 나머지 계속 처리")
         void collectDailyPrices_withKisApiException() {
             // given
-            var stock1 = WatchlistStock.builder()
-                    .stockCode("005930")
-                    .stockName("삼성전자")
-                    .marketCode(MarketCode.KRX)
-                    .assetType(AssetType.DOMESTIC_STOCK)
-                    .build();
-            stock1.markBackfillCompleted();
-
-            var stock2 = WatchlistStock.builder()
-                    .stockCode("000660")
-                    .stockName("SK하이닉스")
-                    .marketCode(MarketCode.KRX)
-                    .assetType(AssetType.DOMESTIC_STOCK)
-                    .build();
-            stock2.markBackfillCompleted();
-
-            Slice<WatchlistStock> slice = new SliceImpl<>(
-                    List.of(stock1, stock2),
-                    PageRequest.of(0, StockPriceConstants.PAGE_SIZE),
-                    false
-            );
+            var stock1 = createStock(1L, "005930");
+            var stock2 = createStock(2L, "000660");
 
-            given(watchlistStockRepository.findByBackfillCompleted(eq(true), any())).willReturn(slice);
+            stubKeysetPages(true, List.of(stock1, stock2));
             given(strategyFactory.getStrategy(AssetType.DOMESTIC_STOCK)).willReturn(strategy);
 
             // stock1 처리 시 KisApiException 발생
@@ -218,27 +170,18 @@ class StockPriceCollectionServiceTest {
 
             // then
             verify(strategy, times(2)).collectDailyPrice(any(), any(LocalDate.class), any(LocalDate.class));
+            verify(deferredPriceTaskService).enqueue(eq(stock1), eq(TaskType.DAILY),
+                    any(LocalDate.class), any(LocalDate.class), eq("API 호출 실패"));
+            verify(deferredPriceTaskService, never()).enqueue(eq(stock2), any(), any(), any(), any());
         }
 
         @Test
         @DisplayName("DataAccessException 발생 시 - Critical 실패 로깅")
         void collectDailyPrices_withDataAccessException() {
             // given
-            var stock = WatchlistStock.builder()
-                    .stockCode("005930")
-                    .stockName("삼성전자")
-                    .marketCode(MarketCode.KRX)
-                    .assetType(AssetType.DOMESTIC_STOCK)
-                    .build();
-            stock.markBackfillCompleted();
+            var stock = createStock(1L, "005930");
 
-            Slice<WatchlistStock> slice = new SliceImpl<>(
-                    List.of(stock),
-                    PageRequest.of(0, StockPriceConstants.PAGE_SIZE),
-                    false
-            );
-
-            given(watchlistStockRepository.findByBackfillCompleted(eq(true), any())).willReturn(slice);
+            stubKeysetPages(true, List.of(stock));
             given(strategyFactory.getStrategy(AssetType.DOMESTIC_STOCK)).willReturn(strategy);
             given(strategy.collectDailyPrice(any(), any(LocalDate.class), any(LocalDate.class)))
                     .willThrow(new DataAccessException("DB 연결 실패") {});
@@ -261,14 +204,7 @@ class StockPriceCollectionServiceTest {
         @DisplayName("페이징 경계값 테스트 - 종목 개수별 Repository 호출 횟수 검증")
         void shouldCallRepositoryCorrectNumberOfTimesBasedOnStockCount(int stockCount, int expectedRepositoryCalls) {
             // given
-            List<WatchlistStock> allStocks = createStocks(stockCount);
-            List<Slice<WatchlistStock>> slices = createSlices(allStocks, StockPriceConstants.PAGE_SIZE);
-
-            given(watchlistStockRepository.findByBackfillCompleted(eq(true), any()))
-                    .willAnswer(invocation -> slices.get(0))  // 첫 번째 슬라이스
-                    .willAnswer(invocation -> slices.size() > 1 ? slices.get(1) : new SliceImpl<>(Collections.emptyList(), PageRequest.of(1, StockPriceConstants.PAGE_SIZE), false))  // 두 번째 슬라이스
-                    .willAnswer(invocation -> slices.size() > 2 ? slices.get(2) : new SliceImpl<>(Collections.emptyList(), PageRequest.of(2, StockPriceConstants.PAGE_SIZE), false));  // 세 번째 슬라이스
-
+            stubKeysetPages(true, createStocks(stockCount));
             given(strategyFactory.getStrategy(any())).willReturn(strategy);
             given(strategy.collectDailyPrice(any(), any(LocalDate.class), any(LocalDate.class))).willReturn(1);
 
@@ -276,106 +212,378 @@ class StockPriceCollectionServiceTest {
             stockPriceCollectionService.collectDailyPrices();
 
             // then
-            verify(watchlistStockRepository, times(expectedRepositoryCalls)).findByBackfillCompleted(eq(true), any());
+            verify(watchlistStockRepository, times(expectedRepositoryCalls))
+                    .findSummariesByBackfillCompletedAfterId(eq(true), any(), any());
             verify(strategy, times(stockCount)).collectDailyPrice(any(), any(LocalDate.class), any(LocalDate.class));
         }
+    }
+
+    @Nested
+    @DisplayName("backfillHistoricalPrices 멀티 페이지 및 예외 처리")
+    class BackfillHistoricalPricesEdgeCases {
+
+        @Test
+        @DisplayName("멀티 페이지 백필 - 2페이지 이상 순회")
+        void backfillHistoricalPrices_withMultiplePages() {
+            // given
+            var stocks = createStocks(StockPriceConstants.PAGE_SIZE + 1);
+            stubKeysetPages(false, stocks);
+
+            // when
+            stockPriceCollectionService.backfillHistoricalPrices();
+
+            // then
+            verify(watchlistStockRepository, times(2))
+                    .findSummariesByBackfillCompletedAfterId(eq(false), any(), any());
+            verify(stockBackfillService, times(StockPriceConstants.PAGE_SIZE + 1))
+                    .backfillSingleStock(any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("백필 중 backfillCompleted가 바뀌어도 뒤 페이지 종목을 누락하지 않음")
+        void backfillHistoricalPrices_flagChangeDoesNotSkipStocks() {
+            // given: 백필 성공 시 실제처럼 backfillCompleted=true로 변경
+            var stocks = createStocks(StockPriceConstants.PAGE_SIZE * 2 + 50);
+            stubKeysetPages(false, stocks);
+            willAnswer(invocation -> {
+                completedIds.add(invocation.<WatchlistStockRef>getArgument(0).getId());
+                return true;
+            }).given(stockBackfillService).backfillSingleStock(any(), any(), any());
+
+            // when
+            stockPriceCollectionService.backfillHistoricalPrices();
 
-        private List<WatchlistStock> createStocks(int count) {
-            return IntStream.range(0, count)
-                    .mapToObj(i -> {
-                        var stock = WatchlistStock.builder()
-                                .stockCode(String.format("%06d", i))
-                                .stockName("종목" + i)
-                                .marketCode(MarketCode.KRX)
-                                .assetType(AssetType.DOMESTIC_STOCK)
-                                .build();
-                        stock.markBackfillCompleted();
-                        return stock;
-                    })
-                    .toList();
+            // then
+            verify(stockBackfillService, times(stocks.size())).backfillSingleStock(any(), any(), any());
+            assertThat(completedIds).hasSize(stocks.size());
         }
 
-        private List<Slice<WatchlistStock>> createSlices(List<WatchlistStock> allStocks, int pageSize) {
-            List<Slice<WatchlistStock>> slices = new ArrayList<>();
-            int totalPages = (int) Math.ceil((double) allStocks.size() / pageSize);
+        @Test
+        @DisplayName("같은 종목의 행이 다른 페이지에 있어도 실행 안에서 한 번만 백필")
+        void backfillHistoricalPrices_deduplicatesAcrossPages() {
+            // given: 마지막 행은 첫 행과 같은 종목
+            var stocks = new ArrayList<>(createStocks(StockPriceConstants.PAGE_SIZE + 1));
+            var duplicate = createStock((long) StockPriceConstants.PAGE_SIZE + 2, stocks.get(0).getStockCode());
+            stocks.add(duplicate);
+            stubKeysetPages(false, stocks);
+
+            // when
+            stockPriceCollectionService.backfillHistoricalPrices();
+
+            // then
+            verify(stockBackfillService, times(StockPriceConstants.PAGE_SIZE + 1))
+                    .backfillSingleStock(any(), any(), any());
+            verify(stockBackfillService, never()).backfillSingleStock(eq(duplicate), any(), any());
+        }
 
-            for (int page = 0; page < totalPages; page++) {
-                int fromIndex = page * pageSize;
-                int toIndex = Math.min(fromIndex + pageSize, allStocks.size());
-                List<WatchlistStock> pageStocks = allStocks.subList(fromIndex, toIndex);
-                boolean hasNext = page < totalPages - 1;
+        @Test
+        @DisplayName("빈 결과 - 백필 미완료 종목이 없을 때 정상 종료")
+        void backfillHistoricalPrices_withEmptyResult() {
+            // given
+            stubKeysetPages(false, Collections.emptyList());
 
-                slices.add(new SliceImpl<>(pageStocks, PageRequest.of(page, pageSize), hasNext));
-            }
+            // when
+            stockPriceCollectionService.backfillHistoricalPrices();
 
-            return slices;
+            // then
+            verify(watchlistStockRepository, times(1))
+                    .findSummariesByBackfillCompletedAfterId(eq(false), any(), any());
+            verify(stockBackfillService, never()).backfillSingleStock(any(), any(), any());
         }
     }
 
+    /**
+     * 실제 Keyset 쿼리처럼 동작하는 Repository 응답 스텁.
+     *
+     * <p>stocks는 처음에 모두 backfillCompleted 상태이며, 순회 중 {@link #completedIds}에 추가된 종목은
+     * 백필 완료로 바뀐 것으로 보고 호출 시점에 다시 필터링합니다.</p>
+     */
+    private void stubKeysetPages(boolean backfillCompleted, List<WatchlistStockSummary> stocks) {
+        given(watchlistStockRepository.findSummariesByBackfillCompletedAfterId(
+                eq(backfillCompleted), any(), any()))
+                .willAnswer(invocation -> {
+                    Long lastId = invocation.getArgument(1);
+                    Limit limit = invocation.getArgument(2);
+                    return stocks.stream()
+                            .filter(stock -> (backfillCompleted || completedIds.contains(stock.getId())) == backfillCompleted)
+                            .filter(stock -> stock.getId() > lastId)
+                            .sorted(Comparator.comparing(WatchlistStockSummary::getId))
+                            .limit(limit.max())
+                            .toList();
+                });
+    }
+
+    private WatchlistStockSummary createStock(Long id, String stockCode) {
+        return new WatchlistStockSummary(id, stockCode, MarketCode.KRX, AssetType.DOMESTIC_STOCK);
+    }
+
+    private List<WatchlistStockSummary> createStocks(int count) {
+        return IntStream.rangeClosed(1, count)
+                .mapToObj(i -> createStock((long) i, String.format("%06d", i)))
+                .toList();
+    }
+
     @Nested
-    @DisplayName("backfillHistoricalPrices 멀티 페이지 및 예외 처리")
-    class BackfillHistoricalPricesEdgeCases {
+    @DisplayName("backfillNewStocks 신규 종목 즉시 백필")
+    class BackfillNewStocks {
 
         @Test
-        @DisplayName("멀티 페이지 백필 - 2페이지 이상 순회")
-        void backfillHistoricalPrices_withMultiplePages() {
+        @DisplayName("이미 백필이 끝난 행만 있으면 아무것도 하지 않음")
+        void noPendingStocks() {
+            // given
+            given(watchlistStockRepository.findBackfillPendingSummariesByIdIn(List.of(1L)))
+                    .willReturn(List.of());
+
+            // when
+            stockPriceCollectionService.backfillNewStocks(List.of(1L));
+
+            // then
+            verifyNoInteractions(stockBackfillService);
+        }
+
+        @Test
+        @DisplayName("KIS 오류 종목은 지연 재처리 큐에 등록하고 나머지는 계속 백필")
+        void kisFailureIsDeferred() {
+            // given
+            var stock1 = createStock(1L, "005930");
+            var stock2 = createStock(2L, "000660");
+            given(watchlistStockRepository.findBackfillPendingSummariesByIdIn(List.of(1L, 2L)))
+                    .willReturn(List.of(stock1, stock2));
+            willThrow(new KisApiException("API 호출 실패"))
+                    .given(stockBackfillService).backfillSingleStock(eq(stock1), any(), any());
+
+            // when
+            stockPriceCollectionService.backfillNewStocks(List.of(1L, 2L));
+
+            // then
+            verify(deferredPriceTaskService).enqueue(eq(stock1), eq(TaskType.BACKFILL), any(), any(), any());
+            verify(stockBackfillService).backfillSingleStock(eq(stock2), any(), any());
+        }
+
+        @Test
+        @DisplayName("같은 종목이 여러 그룹에 있으면 첫 행만 백필")
+        void sameStockInSeveralGroupsIsBackfilledOnce() {
             // given
-            var stock1 = WatchlistStock.builder()
+            var first = createStock(1L, "005930");
+            var sibling = createStock(2L, "005930");
+            var other = createStock(3L, "000660");
+            given(watchlistStockRepository.findBackfillPendingSummariesByIdIn(List.of(1L, 2L, 3L)))
+                    .willReturn(List.of(first, sibling, other));
+
+            // when
+            stockPriceCollectionService.backfillNewStocks(List.of(1L, 2L, 3L));
+
+            // then
+            verify(stockBackfillService).backfillSingleStock(eq(first), any(), any());
+            verify(stockBackfillService).backfillSingleStock(eq(other), any(), any());
+            verify(stockBackfillService, never()).backfillSingleStock(eq(sibling), any(), any());
+        }
+
+        @Test
+        @DisplayName("해외 종목은 거래소가 다르면 다른 종목으로 백필")
+        void overseasStocksAreKeyedByExchange() {
+            // given
+            var nasdaq = new WatchlistStockSummary(1L, "ABC", MarketCode.NAS, AssetType.OVERSEAS_STOCK);
+            var nyse = new WatchlistStockSummary(2L, "ABC", MarketCode.NYS, AssetType.OVERSEAS_STOCK);
+            given(watchlistStockRepository.findBackfillPendingSummariesByIdIn(List.of(1L, 2L)))
+                    .willReturn(List.of(nasdaq, nyse));
+
+            // when
+            stockPriceCollectionService.backfillNewStocks(List.of(1L, 2L));
+
+            // then
+            verify(stockBackfillService).backfillSingleStock(eq(nasdaq), any(), any());
+            verify(stockBackfillService).backfillSingleStock(eq(nyse), any(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("retryDeferredTasks 지연 재처리")
+    class RetryDeferredTasks {
+
+        private WatchlistStock stock;
+
+        @BeforeEach
+        void setUp() {
+            stock = WatchlistStock.builder()
                     .stockCode("005930")
                     .stockName("삼성전자")
                     .marketCode(MarketCode.KRX)
                     .assetType(AssetType.DOMESTIC_STOCK)
                     .build();
+        }
 
-            var stock2 = WatchlistStock.builder()
-                    .stockCode("000660")
-                    .stockName("SK하이닉스")
-                    .marketCode(MarketCode.KRX)
-                    .assetType(AssetType.DOMESTIC_STOCK)
+        private DeferredPriceTask task(TaskType taskType) {
+            var today = LocalDate.now();
+            return DeferredPriceTask.builder()
+                    .watchlistStockId(1L)
+                    .stockCode("005930")
+                    .taskType(taskType)
+                    .startDate(today)
+                    .endDate(today)
+                    .nextAttemptAt(today.atStartOfDay())
                     .build();
+        }
+
+        @Test
+        @DisplayName("도래한 작업이 없으면 아무것도 하지 않음")
+        void noDueTasks() {
+            // given
+            given(deferredPriceTaskService.findDueTasks(TaskType.DAILY)).willReturn(List.of());
 
-            // 첫 번째 페이지: hasNext = true
-            Slice<WatchlistStock> firstSlice = new SliceImpl<>(
-                    List.of(stock1),
-                    PageRequest.of(0, StockPriceConstants.PAGE_SIZE),
-                    true
-            );
+            // when
+            stockPriceCollectionService.retryDeferredTasks(TaskType.DAILY);
 
-            // 두 번째 페이지: hasNext = false
-            Slice<WatchlistStock> secondSlice = new SliceImpl<>(
-                    List.of(stock2),
-                    PageRequest.of(1, StockPriceConstants.PAGE_SIZE),
-                    false
-            );
+            // then
+            verifyNoInteractions(watchlistStockRepository, strategyFactory, stockBackfillService);
+        }
 
-            given(watchlistStockRepository.findByBackfillCompleted(eq(false), any()))
-                    .willReturn(firstSlice, secondSlice);
+        @Test
+        @DisplayName("일간 작업 재수집 성공 시 큐에서 제거")
+        void dailyTaskSuccessCompletes() {
+            // given
+            var task = task(TaskType.DAILY);
+            stock.markBackfillCompleted();
+            given(deferredPriceTaskService.findDueTasks(TaskType.DAILY)).willReturn(List.of(task));
+            given(watchlistStockRepository.findById(1L)).willReturn(Optional.of(stock));
+            given(strategyFactory.getStrategy(AssetType.DOMESTIC_STOCK)).willReturn(strategy);
+            given(strategy.collectDailyPrice(stock, task.getStartDate(), task.getEndDate())).willReturn(1);
 
             // when
-            stockPriceCollectionService.backfillHistoricalPrices();
+            stockPriceCollectionService.retryDeferredTasks(TaskType.DAILY);
 
             // then
-            verify(watchlistStockRepository, times(2)).findByBackfillCompleted(eq(false), any());
-            verify(stockBackfillService, times(2)).backfillSingleStock(any(), any(), any());
+            verify(deferredPriceTaskService).complete(task);
+            verify(deferredPriceTaskService, never()).reschedule(any(), any());
         }
 
         @Test
-        @DisplayName("빈 결과 - 백필 미완료 종목이 없을 때 정상 종료")
-        void backfillHistoricalPrices_withEmptyResult() {
+        @DisplayName("백필 작업은 StockBackfillService로 재수집")
+        void backfillTaskDelegatesToBackfillService() {
             // given
-            Slice<WatchlistStock> emptySlice = new SliceImpl<>(
-                    Collections.emptyList(),
-                    PageRequest.of(0, StockPriceConstants.PAGE_SIZE),
-                    false
-            );
-            given(watchlistStockRepository.findByBackfillCompleted(eq(false), any())).willReturn(emptySlice);
+            var task = task(TaskType.BACKFILL);
+            given(deferredPriceTaskService.findDueTasks(TaskType.BACKFILL)).willReturn(List.of(task));
+            given(watchlistStockRepository.findById(1L)).willReturn(Optional.of(stock));
+            given(stockBackfillService.backfillSingleStock(eq(stock), eq(task.getStartDate()), any(LocalDate.class)))
+                    .willReturn(true);
 
             // when
-            stockPriceCollectionService.backfillHistoricalPrices();
+            stockPriceCollectionService.retryDeferredTasks(TaskType.BACKFILL);
 
             // then
-            verify(watchlistStockRepository, times(1)).findByBackfillCompleted(eq(false), any());
-            verify(stockBackfillService, never()).backfillSingleStock(any(), any(), any());
+            verify(deferredPriceTaskService).complete(task);
+        }
+
+        @Test
+        @DisplayName("다른 실행이 점유 중인 백필 작업은 제거하지 않고 미룸")
+        void claimedBackfillTaskIsPostponed() {
+            // given
+            var task = task(TaskType.BACKFILL);
+            given(deferredPriceTaskService.findDueTasks(TaskType.BACKFILL)).willReturn(List.of(task));
+            given(watchlistStockRepository.findById(1L)).willReturn(Optional.of(stock));
+            given(stockBackfillService.backfillSingleStock(eq(stock), eq(task.getStartDate()), any(LocalDate.class)))
+                    .willReturn(false);
+
+            // when
+            stockPriceCollectionService.retryDeferredTasks(TaskType.BACKFILL);
+
+            // then
+            verify(deferredPriceTaskService).postpone(task);
+            verify(deferredPriceTaskService, never()).complete(any());
+            verify(deferredPriceTaskService, never()).reschedule(any(), any());
+        }
+
+        @Test
+        @DisplayName("이미 백필이 끝난 종목의 백필 작업은 재수집 없이 제거")
+        void completedStockBackfillTaskIsDropped() {
+            // given
+            var task = task(TaskType.BACKFILL);
+            stock.markBackfillCompleted();
+            given(deferredPriceTaskService.findDueTasks(TaskType.BACKFILL)).willReturn(List.of(task));
+            given(watchlistStockRepository.findById(1L)).willReturn(Optional.of(stock));
+
+            // when
+            stockPriceCollectionService.retryDeferredTasks(TaskType.BACKFILL);
+
+            // then
+            verify(deferredPriceTaskService).complete(task);
+            verifyNoInteractions(stockBackfillService);
+        }
+
+        @Test
+        @DisplayName("KisApiException 재발생 시 재예약")
+        void kisFailureReschedules() {
+            // given
+            var task = task(TaskType.DAILY);
+            given(deferredPriceTaskService.findDueTasks(TaskType.DAILY)).willReturn(List.of(task));
+            given(watchlistStockRepository.findById(1L)).willReturn(Optional.of(stock));
+            given(strategyFactory.getStrategy(AssetType.DOMESTIC_STOCK)).willReturn(strategy);
+            given(strategy.collectDailyPrice(any(), any(LocalDate.class), any(LocalDate.class)))
+                    .willThrow(new KisApiException("여전히 장애"));
+
+            // when
+            stockPriceCollectionService.retryDeferredTasks(TaskType.DAILY);
+
+            // then
+            verify(deferredPriceTaskService).reschedule(task, "여전히 장애");
+            verify(deferredPriceTaskService, never()).complete(any());
+        }
+
+        @Test
+        @DisplayName("DB 오류도 시도 횟수에 포함되도록 재예약")
+        void dbFailureReschedules() {
+            // given
+            var task = task(TaskType.DAILY);
+            given(deferredPriceTaskService.findDueTasks(TaskType.DAILY)).willReturn(List.of(task));
+            given(watchlistStockRepository.findById(1L)).willReturn(Optional.of(stock));
+            given(strategyFactory.getStrategy(AssetType.DOMESTIC_STOCK)).willReturn(strategy);
+            given(strategy.collectDailyPrice(any(), any(LocalDate.class), any(LocalDate.class)))
+                    .willThrow(new DataAccessException("DB 연결 실패") {});
+
+            // when
+            stockPriceCollectionService.retryDeferredTasks(TaskType.DAILY);
+
+            // then
+            verify(deferredPriceTaskService).reschedule(task, "DB 연결 실패");
+            verify(deferredPriceTaskService, never()).complete(any());
+        }
+
+        @Test
+        @DisplayName("재예약도 DB 오류로 실패하면 로깅하고 다음 작업 계속 처리")
+        void rescheduleFailureContinues() {
+            // given
+            var failing = task(TaskType.DAILY);
+            var next = task(TaskType.DAILY);
+            DataAccessException dbFailure = new DataAccessException("DB 연결 실패") {};
+            given(deferredPriceTaskService.findDueTasks(TaskType.DAILY)).willReturn(List.of(failing, next));
+            given(watchlistStockRepository.findById(1L)).willReturn(Optional.of(stock));
+            given(strategyFactory.getStrategy(AssetType.DOMESTIC_STOCK)).willReturn(strategy);
+            given(strategy.collectDailyPrice(any(), any(LocalDate.class), any(LocalDate.class)))
+                    .willThrow(dbFailure)
+                    .willReturn(1);
+            willThrow(dbFailure).given(deferredPriceTaskService).reschedule(failing, "DB 연결 실패");
+
+            // when
+            stockPriceCollectionService.retryDeferredTasks(TaskType.DAILY);
+
+            // then
+            verify(deferredPriceTaskService).complete(next);
+        }
+
+        @Test
+        @DisplayName("관심종목에서 삭제된 종목의 작업은 제거")
+        void removedStockTaskIsDropped() {
+            // given
+            var task = task(TaskType.DAILY);
+            given(deferredPriceTaskService.findDueTasks(TaskType.DAILY)).willReturn(List.of(task));
+            given(watchlistStockRepository.findById(1L)).willReturn(Optional.empty());
+
+            // when
+            stockPriceCollectionService.retryDeferredTasks(TaskType.DAILY);
+
+            // then
+            verify(deferredPriceTaskService).complete(task);
+            verifyNoInteractions(strategyFactory);
         }
     }
 }
@@ -1,18 +1,26 @@
 package com.custom.trader.stockprice.service;
 
+import com.custom.trader.common.enums.AssetType;
+import com.custom.trader.common.enums.MarketCode;
 import com.custom.trader.kis.dto.stockprice.DomesticIndexDailyPriceResponse;
 import com.custom.trader.kis.dto.stockprice.DomesticStockDailyPriceResponse;
 import com.custom.trader.kis.dto.stockprice.OverseasIndexDailyPriceResponse;
 import com.custom.trader.kis.dto.stockprice.OverseasStockDailyPriceResponse;
+import com.custom.trader.stockprice.adjustment.entity.PriceAdjustment;
+import com.custom.trader.stockprice.adjustment.service.PriceAdjustmentService;
 import com.custom.trader.stockprice.domestic.entity.DomesticIndexDailyPrice;
 import com.custom.trader.stockprice.domestic.entity.DomesticStockDailyPrice;
 import com.custom.trader.stockprice.domestic.repository.DomesticIndexDailyPriceRepository;
 import com.custom.trader.stockprice.domestic.repository.DomesticStockDailyPriceRepository;
+import com.custom.trader.stockprice.indicator.service.TechnicalIndicatorService;
+import com.custom.trader.stockprice.instrument.service.InstrumentRegistry;
+import com.custom.trader.stockprice.instrument.service.TradeDateIndex;
 import com.custom.trader.stockprice.mapper.StockPriceMapper;
 import com.custom.trader.stockprice.overseas.entity.OverseasIndexDailyPrice;
 import com.custom.trader.stockprice.overseas.entity.OverseasStockDailyPrice;
 import com.custom.trader.stockprice.overseas.repository.OverseasIndexDailyPriceRepository;
 import com.custom.trader.stockprice.overseas.repository.OverseasStockDailyPriceRepository;
+import com.custom.trader.stockprice.rollup.service.PriceRollupService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -21,9 +29,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.List;
-import java.util.Set;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
@@ -48,6 +58,21 @@ class StockPricePersistenceServiceTest {
     @Mock
     private StockPriceMapper mapper;
 
+    @Mock
+    private StockPriceBulkLoader bulkLoader;
+
+    @Mock
+    private InstrumentRegistry instrumentRegistry;
+
+    @Mock
+    private PriceRollupService priceRollupService;
+
+    @Mock
+    private TechnicalIndicatorService technicalIndicatorService;
+
+    @Mock
+    private PriceAdjustmentService priceAdjustmentService;
+
     private StockPricePersistenceService persistenceService;
 
     @BeforeEach
@@ -57,7 +82,13 @@ class StockPricePersistenceServiceTest {
                 domesticIndexRepository,
                 overseasStockRepository,
                 overseasIndexRepository,
-                mapper
+                mapper,
+                bulkLoader,
+                instrumentRegistry,
+                new TradeDateIndex(Duration.ofHours(6)),
+                priceRollupService,
+                technicalIndicatorService,
+                priceAdjustmentService
         );
     }
 
@@ -78,15 +109,16 @@ class StockPricePersistenceServiceTest {
                     )
             );
 
-            given(domesticStockRepository.findTradeDatesByStockCodeAndTradeDateBetween(eq("005930"), any(LocalDate.class), any(LocalDate.class)))
-                    .willReturn(Set.of(LocalDate.of(2024, 1, 31)));
+            given(instrumentRegistry.resolveId(AssetType.DOMESTIC_STOCK, MarketCode.KRX, "005930")).willReturn(1);
+            given(domesticStockRepository.findTradeDatesByInstrumentId(1))
+                    .willReturn(List.of(LocalDate.of(2024, 1, 31)));
 
             var mockEntity = DomesticStockDailyPrice.builder()
-                    .stockCode("005930")
+                    .instrumentId(1)
                     .tradeDate(LocalDate.of(2024, 1, 30))
                     .build();
 
-            given(mapper.toDomesticStock(eq("005930"), any())).willReturn(mockEntity);
+            given(mapper.toDomesticStock(eq(1), any())).willReturn(mockEntity);
 
             // when
             int savedCount = persistenceService.saveDomesticStockPrices("005930", priceItems);
@@ -94,11 +126,62 @@ class StockPricePersistenceServiceTest {
             // then
             assertThat(savedCount).isEqualTo(1);
             verify(domesticStockRepository, times(1)).saveAll(anyList());
-            verify(mapper, times(1)).toDomesticStock(eq("005930"), any());
+            verify(mapper, times(1)).toDomesticStock(eq(1), any());
+            verify(priceRollupService).apply(AssetType.DOMESTIC_STOCK, List.of(mockEntity));
+            verify(technicalIndicatorService).apply(AssetType.DOMESTIC_STOCK, 1,
+                    Optional.of(LocalDate.of(2024, 1, 31)), List.of(mockEntity));
+            verify(priceAdjustmentService).rebaseToStoredBasis(AssetType.DOMESTIC_STOCK, 1,
+                    Optional.of(LocalDate.of(2024, 1, 31)), List.of(mockEntity));
+        }
+
+        @Test
+        @DisplayName("겹친 거래일로 수정 계수 변화가 탐지되면 지표를 무효화하고 롤업을 재구성")
+        void 수정_계수_탐지시_지표_무효화() {
+            // given
+            var priceItems = List.of(
+                    new DomesticStockDailyPriceResponse.PriceItem(
+                            "20240201", "14400", "14500", "14200", "14300", "5000000", "71500000000"
+                    ),
+                    new DomesticStockDailyPriceResponse.PriceItem(
+                            "20240131", "14200", "14400", "14000", "14300", "5000000", "71500000000"
+                    ),
+                    new DomesticStockDailyPriceResponse.PriceItem(
+                            "20240130", "14000", "14200", "13800", "14100", "4500000", "63450000000"
+                    )
+            );
+
+            given(instrumentRegistry.resolveId(AssetType.DOMESTIC_STOCK, MarketCode.KRX, "005930")).willReturn(1);
+            given(domesticStockRepository.findTradeDatesByInstrumentId(1))
+                    .willReturn(List.of(LocalDate.of(2024, 1, 30), LocalDate.of(2024, 1, 31)));
+            given(priceAdjustmentService.detect(eq(AssetType.DOMESTIC_STOCK), eq(1), anyList(), any()))
+                    .willReturn(Optional.of(PriceAdjustment.builder()
+                            .instrumentId(1)
+                            .effectiveDate(LocalDate.of(2024, 2, 1))
+                            .factor(new BigDecimal("0.2"))
+                            .referenceDate(LocalDate.of(2024, 1, 31))
+                            .expectedClose(new BigDecimal("71500"))
+                            .fetchedClose(new BigDecimal("14300"))
+                            .build()));
+
+            var mockEntity = DomesticStockDailyPrice.builder()
+                    .instrumentId(1)
+                    .tradeDate(LocalDate.of(2024, 2, 1))
+                    .build();
+            given(mapper.toDomesticStock(eq(1), any())).willReturn(mockEntity);
+
+            // when
+            int savedCount = persistenceService.saveDomesticStockPrices("005930", priceItems);
+
+            // then
+            assertThat(savedCount).isEqualTo(1);
+            verify(technicalIndicatorService).invalidate(1);
+            verify(priceRollupService).rebuild(AssetType.DOMESTIC_STOCK, 1);
+            verify(technicalIndicatorService).apply(AssetType.DOMESTIC_STOCK, 1,
+                    Optional.of(LocalDate.of(2024, 1, 31)), List.of(mockEntity));
         }
 
         @Test
-        @DisplayName("모든 데이터가 중복이면 저장하지 않음")
+        @DisplayName("모든 데이터가 중복이면 저장하지 않음 (수정 계수 탐지는 수행)")
         void 모든_데이터_중복() {
             // given
             var priceItems = List.of(
@@ -107,8 +190,9 @@ class StockPricePersistenceServiceTest {
                     )
             );
 
-            given(domesticStockRepository.findTradeDatesByStockCodeAndTradeDateBetween(eq("005930"), any(LocalDate.class), any(LocalDate.class)))
-                    .willReturn(Set.of(LocalDate.of(2024, 1, 31)));
+            given(instrumentRegistry.resolveId(AssetType.DOMESTIC_STOCK, MarketCode.KRX, "005930")).willReturn(1);
+            given(domesticStockRepository.findTradeDatesByInstrumentId(1))
+                    .willReturn(List.of(LocalDate.of(2024, 1, 31)));
 
             // when
             int savedCount = persistenceService.saveDomesticStockPrices("005930", priceItems);
@@ -117,6 +201,45 @@ class StockPricePersistenceServiceTest {
             assertThat(savedCount).isEqualTo(0);
             verify(domesticStockRepository, never()).saveAll(any());
             verify(mapper, never()).toDomesticStock(any(), any());
+            verify(priceRollupService, never()).apply(any(), any());
+            verify(technicalIndicatorService, never()).apply(any(), any(), any(), any());
+            verify(priceAdjustmentService).detect(eq(AssetType.DOMESTIC_STOCK), eq(1), anyList(), any());
+            verify(technicalIndicatorService, never()).invalidate(any());
+            verify(priceRollupService, never()).rebuild(any(AssetType.class), anyInt());
+        }
+
+        @Test
+        @DisplayName("일간 수집에서 인덱스에 없는 종목은 전체 이력 대신 페이지 첫 거래일 기준 범위만 조회")
+        void 일간_수집_범위_조회() {
+            // given
+            var priceItems = List.of(
+                    new DomesticStockDailyPriceResponse.PriceItem(
+                            "20240131", "71000", "72000", "70000", "71500", "1000000", "71000000000"
+                    ),
+                    new DomesticStockDailyPriceResponse.PriceItem(
+                            "20240130", "70000", "71000", "69000", "70500", "900000", "63000000000"
+                    )
+            );
+
+            given(instrumentRegistry.resolveId(AssetType.DOMESTIC_STOCK, MarketCode.KRX, "005930")).willReturn(1);
+            given(domesticStockRepository.findTradeDatesFromLastBefore(1, LocalDate.of(2024, 1, 30)))
+                    .willReturn(List.of(LocalDate.of(2024, 1, 29), LocalDate.of(2024, 1, 30)));
+
+            var mockEntity = DomesticStockDailyPrice.builder()
+                    .instrumentId(1)
+                    .tradeDate(LocalDate.of(2024, 1, 31))
+                    .build();
+            given(mapper.toDomesticStock(eq(1), any())).willReturn(mockEntity);
+
+            // when
+            int[] savedCount = new int[1];
+            TradeDateIndex.runBounded(() -> savedCount[0] = persistenceService.saveDomesticStockPrices("005930", priceItems));
+
+            // then
+            assertThat(savedCount[0]).isEqualTo(1);
+            verify(domesticStockRepository, never()).findTradeDatesByInstrumentId(any());
+            verify(technicalIndicatorService).apply(AssetType.DOMESTIC_STOCK, 1,
+                    Optional.of(LocalDate.of(2024, 1, 30)), List.of(mockEntity));
         }
 
         @Test
@@ -132,14 +255,15 @@ class StockPricePersistenceServiceTest {
                     )
             );
 
-            given(domesticStockRepository.findTradeDatesByStockCodeAndTradeDateBetween(eq("005930"), any(LocalDate.class), any(LocalDate.class)))
-                    .willReturn(Set.of());
+            given(instrumentRegistry.resolveId(AssetType.DOMESTIC_STOCK, MarketCode.KRX, "005930")).willReturn(1);
+            given(domesticStockRepository.findTradeDatesByInstrumentId(1))
+                    .willReturn(List.of());
 
             var mockEntity = DomesticStockDailyPrice.builder()
-                    .stockCode("005930")
+                    .instrumentId(1)
                     .build();
 
-            given(mapper.toDomesticStock(eq("005930"), any())).willReturn(mockEntity);
+            given(mapper.toDomesticStock(eq(1), any())).willReturn(mockEntity);
 
             // when
             int savedCount = persistenceService.saveDomesticStockPrices("005930", priceItems);
@@ -147,7 +271,35 @@ class StockPricePersistenceServiceTest {
             // then
             assertThat(savedCount).isEqualTo(2);
             verify(domesticStockRepository, times(1)).saveAll(anyList());
-            verify(mapper, times(2)).toDomesticStock(eq("005930"), any());
+            verify(mapper, times(2)).toDomesticStock(eq(1), any());
+        }
+
+        @Test
+        @DisplayName("저장한 거래일은 인덱스에 반영되어 이후 저장은 DB 조회 없이 중복 체크")
+        void 인덱스_재사용() {
+            // given
+            var priceItems = List.of(
+                    new DomesticStockDailyPriceResponse.PriceItem(
+                            "20240131", "71000", "72000", "70000", "71500", "1000000", "71000000000"
+                    )
+            );
+
+            given(instrumentRegistry.resolveId(AssetType.DOMESTIC_STOCK, MarketCode.KRX, "005930")).willReturn(1);
+            given(domesticStockRepository.findTradeDatesByInstrumentId(1)).willReturn(List.of());
+            given(mapper.toDomesticStock(eq(1), any())).willReturn(DomesticStockDailyPrice.builder()
+                    .instrumentId(1)
+                    .tradeDate(LocalDate.of(2024, 1, 31))
+                    .build());
+
+            // when
+            int first = persistenceService.saveDomesticStockPrices("005930", priceItems);
+            int second = persistenceService.saveDomesticStockPrices("005930", priceItems);
+
+            // then
+            assertThat(first).isEqualTo(1);
+            assertThat(second).isZero();
+            verify(domesticStockRepository, times(1)).findTradeDatesByInstrumentId(1);
+            verify(domesticStockRepository, times(1)).saveAll(anyList());
         }
 
         @Test
@@ -161,7 +313,8 @@ class StockPricePersistenceServiceTest {
 
             // then
             assertThat(savedCount).isEqualTo(0);
-            verify(domesticStockRepository, never()).findTradeDatesByStockCodeAndTradeDateBetween(any(), any(), any());
+            verify(instrumentRegistry, never()).resolveId(any(), any(), any());
+            verify(domesticStockRepository, never()).findTradeDatesByInstrumentId(any());
             verify(domesticStockRepository, never()).saveAll(any());
             verify(mapper, never()).toDomesticStock(any(), any());
         }
@@ -184,15 +337,16 @@ class StockPricePersistenceServiceTest {
                     )
             );
 
-            given(domesticIndexRepository.findTradeDatesByIndexCodeAndTradeDateBetween(eq("0001"), any(LocalDate.class), any(LocalDate.class)))
-                    .willReturn(Set.of(LocalDate.of(2024, 1, 31)));
+            given(instrumentRegistry.resolveId(AssetType.DOMESTIC_INDEX, MarketCode.KRX, "0001")).willReturn(2);
+            given(domesticIndexRepository.findTradeDatesByInstrumentId(2))
+                    .willReturn(List.of(LocalDate.of(2024, 1, 31)));
 
             var mockEntity = DomesticIndexDailyPrice.builder()
-                    .indexCode("0001")
+                    .instrumentId(2)
                     .tradeDate(LocalDate.of(2024, 1, 30))
                     .build();
 
-            given(mapper.toDomesticIndex(eq("0001"), any())).willReturn(mockEntity);
+            given(mapper.toDomesticIndex(eq(2), any())).willReturn(mockEntity);
 
             // when
             int savedCount = persistenceService.saveDomesticIndexPrices("0001", priceItems);
@@ -222,16 +376,16 @@ class StockPricePersistenceServiceTest {
                     )
             );
 
-            given(overseasStockRepository.findTradeDatesByStockCodeAndExchangeCodeAndTradeDateBetween(eq("AAPL"), eq("NAS"), any(LocalDate.class), any(LocalDate.class)))
-                    .willReturn(Set.of(LocalDate.of(2024, 1, 31)));
+            given(instrumentRegistry.resolveId(AssetType.OVERSEAS_STOCK, MarketCode.NAS, "AAPL")).willReturn(3);
+            given(overseasStockRepository.findTradeDatesByInstrumentId(3))
+                    .willReturn(List.of(LocalDate.of(2024, 1, 31)));
 
             var mockEntity = OverseasStockDailyPrice.builder()
-                    .stockCode("AAPL")
-                    .exchangeCode("NAS")
+                    .instrumentId(3)
                     .tradeDate(LocalDate.of(2024, 1, 30))
                     .build();
 
-            given(mapper.toOverseasStock(eq("AAPL"), eq("NAS"), any())).willReturn(mockEntity);
+            given(mapper.toOverseasStock(eq(3), any())).willReturn(mockEntity);
 
             // when
             int savedCount = persistenceService.saveOverseasStockPrices("AAPL", "NAS", priceItems);
@@ -259,16 +413,16 @@ class StockPricePersistenceServiceTest {
                     )
             );
 
-            given(overseasIndexRepository.findTradeDatesByIndexCodeAndExchangeCodeAndTradeDateBetween(eq("COMP"), eq("NAS"), any(LocalDate.class), any(LocalDate.class)))
-                    .willReturn(Set.of(LocalDate.of(2024, 1, 31)));
+            given(instrumentRegistry.resolveId(AssetType.OVERSEAS_INDEX, MarketCode.NAS, "COMP")).willReturn(4);
+            given(overseasIndexRepository.findTradeDatesByInstrumentId(4))
+                    .willReturn(List.of(LocalDate.of(2024, 1, 31)));
 
             var mockEntity = OverseasIndexDailyPrice.builder()
-                    .indexCode("COMP")
-                    .exchangeCode("NAS")
+                    .instrumentId(4)
                     .tradeDate(LocalDate.of(2024, 1, 30))
                     .build();
 
-            given(mapper.toOverseasIndex(eq("COMP"), eq("NAS"), any())).willReturn(mockEntity);
+            given(mapper.toOverseasIndex(eq(4), any())).willReturn(mockEntity);
 
             // when
             int savedCount = persistenceService.saveOverseasIndexPrices("COMP", "NAS", priceItems);
@@ -278,4 +432,89 @@ class StockPricePersistenceServiceTest {
             verify(overseasIndexRepository, times(1)).saveAll(anyList());
         }
     }
+
+    @Nested
+    @DisplayName("저장된 거래일 조회")
+    class GetStoredTradeDates {
+
+        @Test
+        @DisplayName("자산 유형의 테이블에서 로드하고 이후 조회는 인덱스에서 반환")
+        void 유형별_테이블_로드() {
+            // given
+            given(overseasStockRepository.findTradeDatesByInstrumentId(3))
+                    .willReturn(List.of(LocalDate.of(2024, 1, 30), LocalDate.of(2024, 1, 31)));
+
+            // when
+            var first = persistenceService.getStoredTradeDates(AssetType.OVERSEAS_STOCK, 3);
+            var second = persistenceService.getStoredTradeDates(AssetType.OVERSEAS_STOCK, 3);
+
+            // then
+            assertThat(first.size()).isEqualTo(2);
+            assertThat(second).isSameAs(first);
+            verify(overseasStockRepository, times(1)).findTradeDatesByInstrumentId(3);
+            verify(domesticStockRepository, never()).findTradeDatesByInstrumentId(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("대량 적재 세션")
+    class BulkLoadSession {
+
+        @Test
+        @DisplayName("세션이 열려 있으면 중복 체크/JPA 저장 없이 스풀")
+        void 세션_중_스풀() {
+            // given
+            var priceItems = List.of(
+                    new DomesticStockDailyPriceResponse.PriceItem(
+                            "20240131", "71000", "72000", "70000", "71500", "1000000", "71000000000"
+                    )
+            );
+            var entity = DomesticStockDailyPrice.builder()
+                    .instrumentId(1)
+                    .tradeDate(LocalDate.of(2024, 1, 31))
+                    .build();
+
+            given(instrumentRegistry.resolveId(AssetType.DOMESTIC_STOCK, MarketCode.KRX, "005930")).willReturn(1);
+            given(bulkLoader.isSpooling()).willReturn(true);
+            given(mapper.toDomesticStock(eq(1), any())).willReturn(entity);
+            given(bulkLoader.spoolDomesticStock(List.of(entity))).willReturn(1);
+
+            // when
+            int savedCount = persistenceService.saveDomesticStockPrices("005930", priceItems);
+
+            // then
+            assertThat(savedCount).isEqualTo(1);
+            verify(domesticStockRepository, never()).findTradeDatesByInstrumentId(any());
+            verify(domesticStockRepository, never()).saveAll(anyList());
+            verify(priceRollupService, never()).apply(any(), any());
+            verify(technicalIndicatorService, never()).apply(any(), any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("스풀 전에 기록된 수정 계수로 일봉을 저장 기준으로 환산")
+        void 스풀_전_저장_기준_환산() {
+            // given
+            var priceItems = List.of(
+                    new DomesticStockDailyPriceResponse.PriceItem(
+                            "20240131", "14200", "14400", "14000", "14300", "5000000", "71500000000"
+                    )
+            );
+            var entity = DomesticStockDailyPrice.builder()
+                    .instrumentId(1)
+                    .tradeDate(LocalDate.of(2024, 1, 31))
+                    .build();
+
+            given(instrumentRegistry.resolveId(AssetType.DOMESTIC_STOCK, MarketCode.KRX, "005930")).willReturn(1);
+            given(bulkLoader.isSpooling()).willReturn(true);
+            given(mapper.toDomesticStock(eq(1), any())).willReturn(entity);
+
+            // when
+            persistenceService.saveDomesticStockPrices("005930", priceItems);
+
+            // then: 환산 후 스풀
+            var inOrder = inOrder(priceAdjustmentService, bulkLoader);
+            inOrder.verify(priceAdjustmentService).rebaseToStoredBasis(AssetType.DOMESTIC_STOCK, 1, List.of(entity));
+            inOrder.verify(bulkLoader).spoolDomesticStock(List.of(entity));
+        }
+    }
 }
@@ -3,6 +3,7 @@ package com.custom.trader.stockprice.strategy;
 import com.custom.trader.common.enums.AssetType;
 import com.custom.trader.common.enums.MarketCode;
 import com.custom.trader.watchlist.entity.WatchlistStock;
+import com.custom.trader.watchlist.entity.WatchlistStockRef;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -284,12 +285,12 @@ class AbstractBackfillStrategyTest {
         }
 
         @Override
-        public int collectDailyPrice(WatchlistStock stock, LocalDate startDate, LocalDate endDate) {
+        public int collectDailyPrice(WatchlistStockRef stock, LocalDate startDate, LocalDate endDate) {
             return 0; // 백필 로직만 테스트
         }
 
         @Override
-        protected List<TestPriceItem> fetchPrices(WatchlistStock stock, LocalDate startDate, LocalDate endDate) {
+        protected List<TestPriceItem> fetchPrices(WatchlistStockRef stock, LocalDate startDate, LocalDate endDate) {
             fetchPricesCalled = true;
             totalFetchCount++;
             if (currentPageIndex < testDataPages.size()) {
@@ -299,7 +300,7 @@ class AbstractBackfillStrategyTest {
         }
 
         @Override
-        protected int savePrices(WatchlistStock stock, List<TestPriceItem> prices) {
+        protected int savePrices(WatchlistStockRef stock, List<TestPriceItem> prices) {
             savePricesCalled = true;
             int saved = prices.size();
             totalSavedCount += saved;
@@ -0,0 +1,322 @@
+package com.custom.trader.stockprice.strategy;
+
+import com.custom.trader.config.KisFetchExecutorConfig;
+import com.custom.trader.kis.client.KisPriorityContext;
+import com.custom.trader.kis.client.KisRequestPriority;
+import com.custom.trader.kis.exception.KisApiException;
+import com.custom.trader.stockprice.strategy.DateWindowBackfiller.Window;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.custom.trader.stockprice.constant.StockPriceConstants.PAGE_SIZE;
+import static com.custom.trader.stockprice.strategy.DateWindowBackfiller.WINDOW_CONCURRENCY;
+import static com.custom.trader.stockprice.strategy.DateWindowBackfiller.WINDOW_DAYS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("DateWindowBackfiller 테스트")
+class DateWindowBackfillerTest {
+
+    private static final LocalDate END_DATE = LocalDate.of(2024, 12, 31);
+
+    private ExecutorService executor;
+    private DateWindowBackfiller backfiller;
+
+    @BeforeEach
+    void setUp() {
+        executor = new KisFetchExecutorConfig().kisFetchExecutor();
+        backfiller = new DateWindowBackfiller(executor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Nested
+    @DisplayName("구간 분할")
+    class Windows {
+
+        @Test
+        @DisplayName("최신 구간부터 겹치지 않고 빈틈없이 기간을 덮음")
+        void 구간_분할() {
+            // given
+            LocalDate startDate = END_DATE.minusYears(3);
+
+            // when
+            List<Window> windows = DateWindowBackfiller.windows(startDate, END_DATE);
+
+            // then
+            assertThat(windows.get(0).endDate()).isEqualTo(END_DATE);
+            assertThat(windows.get(windows.size() - 1).startDate()).isEqualTo(startDate);
+            for (int i = 1; i < windows.size(); i++) {
+                assertThat(windows.get(i).endDate()).isEqualTo(windows.get(i - 1).startDate().minusDays(1));
+            }
+            assertThat(windows).allMatch(window ->
+                    !window.startDate().plusDays(WINDOW_DAYS).isBefore(window.endDate().plusDays(1)));
+        }
+
+        @Test
+        @DisplayName("구간의 평일 수는 한 페이지 크기와 같아 휴장일이 없으면 응답 1회를 가득 채움")
+        void 구간_크기는_페이지를_채움() {
+            // when
+            List<Window> windows = DateWindowBackfiller.windows(END_DATE.minusYears(3), END_DATE);
+
+            // then: 기간 시작에서 잘린 마지막 구간 제외
+            assertThat(windows.subList(0, windows.size() - 1)).allSatisfy(window ->
+                    assertThat(weekdays(window.startDate(), window.endDate())).hasSize(PAGE_SIZE));
+        }
+
+        @Test
+        @DisplayName("동시 조회 한 번에 덮을 수 있는 기간이면 구간 모드를 사용하지 않음")
+        void 짧은_기간은_직렬() {
+            LocalDate boundary = END_DATE.minusDays((long) WINDOW_DAYS * WINDOW_CONCURRENCY - 1);
+
+            assertThat(DateWindowBackfiller.isWindowed(boundary, END_DATE)).isFalse();
+            assertThat(DateWindowBackfiller.isWindowed(boundary.minusDays(1), END_DATE)).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("동시 조회")
+    class Backfill {
+
+        @Test
+        @DisplayName("구간을 동시에 조회하고 최신 구간 순서대로 저장")
+        void 구간_동시_조회() throws InterruptedException {
+            // given: 첫 배치의 구간 조회가 모두 동시에 진행 중이어야 풀리는 래치
+            LocalDate startDate = END_DATE.minusYears(2);
+            CountDownLatch allInFlight = new CountDownLatch(WINDOW_CONCURRENCY);
+            List<List<LocalDate>> saved = Collections.synchronizedList(new ArrayList<>());
+
+            // when
+            int totalSaved = backfiller.backfill(startDate, END_DATE,
+                    (windowStart, windowEnd) -> {
+                        allInFlight.countDown();
+                        await(allInFlight);
+                        return weekdays(windowStart, windowEnd);
+                    },
+                    prices -> {
+                        saved.add(prices);
+                        return prices.size();
+                    },
+                    date -> date);
+
+            // then
+            List<LocalDate> stitched = saved.stream().flatMap(List::stream).toList();
+            assertThat(stitched).doesNotHaveDuplicates()
+                    .containsExactlyInAnyOrderElementsOf(weekdays(startDate, END_DATE));
+            assertThat(totalSaved).isEqualTo(stitched.size());
+            assertThat(saved.get(0)).contains(END_DATE.minusDays(1));
+            for (int i = 1; i < saved.size(); i++) {
+                assertThat(saved.get(i).get(0)).isBefore(saved.get(i - 1).get(saved.get(i - 1).size() - 1));
+            }
+        }
+
+        @Test
+        @DisplayName("응답이 가득 찬 구간은 구간 안에서만 이어서 조회하고 범위 밖 날짜는 제외")
+        void 가득_찬_구간_이어서_조회() {
+            // given: 모든 날짜에 데이터가 있고, API는 종료일부터 과거로 최대 PAGE_SIZE건 (구간 밖 날짜 포함) 반환
+            LocalDate startDate = END_DATE.minusYears(2);
+            List<LocalDate> saved = Collections.synchronizedList(new ArrayList<>());
+            AtomicInteger calls = new AtomicInteger();
+
+            // when
+            backfiller.backfill(startDate, END_DATE,
+                    (windowStart, windowEnd) -> {
+                        calls.incrementAndGet();
+                        return everyDay(windowEnd.minusDays(PAGE_SIZE - 1L), windowEnd);
+                    },
+                    prices -> {
+                        saved.addAll(prices);
+                        return prices.size();
+                    },
+                    date -> date);
+
+            // then
+            assertThat(saved).doesNotHaveDuplicates()
+                    .containsExactlyInAnyOrderElementsOf(everyDay(startDate, END_DATE));
+            assertThat(calls.get()).isGreaterThan(DateWindowBackfiller.windows(startDate, END_DATE).size());
+        }
+
+        @Test
+        @DisplayName("동시 조회한 구간이 모두 비어 있으면 상장 이전으로 보고 종료")
+        void 상장_이전_종료() {
+            // given: 1900년부터 백필하지만 2023년 이후에만 데이터 존재
+            LocalDate listingDate = LocalDate.of(2023, 1, 1);
+            AtomicInteger calls = new AtomicInteger();
+
+            // when
+            int totalSaved = backfiller.<LocalDate>backfill(LocalDate.of(1900, 1, 1), END_DATE,
+                    (windowStart, windowEnd) -> {
+                        calls.incrementAndGet();
+                        return windowEnd.isBefore(listingDate)
+                                ? List.<LocalDate>of()
+                                : weekdays(windowStart.isBefore(listingDate) ? listingDate : windowStart, windowEnd);
+                    },
+                    List::size,
+                    date -> date);
+
+            // then
+            assertThat(totalSaved).isEqualTo(weekdays(listingDate, END_DATE).size());
+            // 3개 배치 이내에 종료. 휴장일 없는 테스트 데이터는 구간이 가득 차서 구간마다 이어서 조회가 1회씩 추가될 수 있음
+            assertThat(calls.get()).isLessThanOrEqualTo(WINDOW_CONCURRENCY * 3 * 2);
+        }
+
+        @Test
+        @DisplayName("동시 조회한 구간보다 긴 거래정지 이전 이력은 직렬 조회 1회로 찾아 이어서 조회")
+        void 장기_거래정지_이전_이력() {
+            // given: 2019~2021년 거래정지 (동시 조회 한 번에 덮는 기간보다 김), API는 종료일부터 과거로 최대 PAGE_SIZE건 반환
+            LocalDate startDate = LocalDate.of(2015, 1, 1);
+            LocalDate haltStart = LocalDate.of(2019, 1, 1);
+            LocalDate haltEnd = LocalDate.of(2021, 12, 31);
+            List<LocalDate> saved = Collections.synchronizedList(new ArrayList<>());
+
+            // when
+            int totalSaved = backfiller.backfill(startDate, END_DATE,
+                    (windowStart, windowEnd) -> weekdays(windowStart, windowEnd).stream()
+                            .filter(date -> date.isBefore(haltStart) || date.isAfter(haltEnd))
+                            .limit(PAGE_SIZE)
+                            .toList(),
+                    prices -> {
+                        saved.addAll(prices);
+                        return prices.size();
+                    },
+                    date -> date);
+
+            // then
+            List<LocalDate> expected = weekdays(startDate, END_DATE).stream()
+                    .filter(date -> date.isBefore(haltStart) || date.isAfter(haltEnd))
+                    .toList();
+            assertThat(saved).doesNotHaveDuplicates().containsExactlyInAnyOrderElementsOf(expected);
+            assertThat(totalSaved).isEqualTo(expected.size());
+        }
+
+        @Test
+        @DisplayName("작업 스레드에 호출 스레드의 KIS 우선순위 전파")
+        void 우선순위_전파() {
+            // given
+            Set<KisRequestPriority> observed = ConcurrentHashMap.newKeySet();
+
+            // when
+            KisPriorityContext.run(KisRequestPriority.BACKFILL, () -> backfiller.backfill(
+                    END_DATE.minusYears(2), END_DATE,
+                    (windowStart, windowEnd) -> {
+                        observed.add(KisPriorityContext.current());
+                        return weekdays(windowStart, windowEnd);
+                    },
+                    List::size,
+                    date -> date));
+
+            // then
+            assertThat(observed).containsExactly(KisRequestPriority.BACKFILL);
+        }
+
+        @Test
+        @DisplayName("구간 조회 실패 시 원래 예외 전파")
+        void 예외_전파() {
+            assertThatThrownBy(() -> backfiller.<LocalDate>backfill(END_DATE.minusYears(2), END_DATE,
+                    (windowStart, windowEnd) -> {
+                        throw new KisApiException("API 호출 실패");
+                    },
+                    List::size,
+                    date -> date))
+                    .isInstanceOf(KisApiException.class)
+                    .hasMessage("API 호출 실패");
+        }
+
+        @Test
+        @DisplayName("작업은 공용 KIS 조회 풀의 스레드에서 실행")
+        void 공용_풀에서_조회() {
+            // given
+            Set<String> threadNames = ConcurrentHashMap.newKeySet();
+
+            // when
+            backfiller.backfill(END_DATE.minusYears(2), END_DATE,
+                    (windowStart, windowEnd) -> {
+                        threadNames.add(Thread.currentThread().getName());
+                        return weekdays(windowStart, windowEnd);
+                    },
+                    List::size,
+                    date -> date);
+
+            // then
+            assertThat(threadNames).isNotEmpty().allMatch(name -> name.startsWith("kis-fetch-"));
+        }
+    }
+
+    @Nested
+    @DisplayName("직렬 페이징")
+    class Serial {
+
+        @Test
+        @DisplayName("짧은 기간은 호출 스레드에서 페이지마다 저장하며 최소 날짜 전날부터 이어서 조회")
+        void 페이지_이어서_조회() {
+            // given: 모든 날짜에 데이터가 있고 API는 종료일부터 과거로 최대 PAGE_SIZE건 반환
+            LocalDate startDate = END_DATE.minusDays(PAGE_SIZE + 49L);
+            List<LocalDate> requestedEndDates = new ArrayList<>();
+            List<Integer> savedPageSizes = new ArrayList<>();
+            Thread caller = Thread.currentThread();
+
+            // when
+            int totalSaved = backfiller.backfill(startDate, END_DATE,
+                    (windowStart, windowEnd) -> {
+                        assertThat(Thread.currentThread()).isSameAs(caller);
+                        requestedEndDates.add(windowEnd);
+                        List<LocalDate> page = everyDay(windowStart, windowEnd);
+                        return page.subList(0, Math.min(PAGE_SIZE, page.size()));
+                    },
+                    prices -> {
+                        savedPageSizes.add(prices.size());
+                        return prices.size();
+                    },
+                    date -> date);
+
+            // then
+            assertThat(DateWindowBackfiller.isWindowed(startDate, END_DATE)).isFalse();
+            assertThat(requestedEndDates).containsExactly(END_DATE, END_DATE.minusDays(PAGE_SIZE));
+            assertThat(savedPageSizes).containsExactly(PAGE_SIZE, 50);
+            assertThat(totalSaved).isEqualTo(PAGE_SIZE + 50);
+        }
+    }
+
+    /**
+     * 종료일부터 과거 방향으로 평일 날짜를 반환합니다 (구간 하나는 최대 PAGE_SIZE건).
+     */
+    private static List<LocalDate> weekdays(LocalDate startDate, LocalDate endDate) {
+        return everyDay(startDate, endDate).stream()
+                .filter(date -> date.getDayOfWeek().getValue() <= 5)
+                .toList();
+    }
+
+    private static List<LocalDate> everyDay(LocalDate startDate, LocalDate endDate) {
+        List<LocalDate> dates = new ArrayList<>();
+        for (LocalDate date = endDate; !date.isBefore(startDate); date = date.minusDays(1)) {
+            dates.add(date);
+        }
+        return dates;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
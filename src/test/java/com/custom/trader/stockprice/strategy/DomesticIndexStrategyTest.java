@@ -7,12 +7,12 @@ import com.custom.trader.kis.exception.KisApiException;
 import com.custom.trader.kis.service.KisStockPriceService;
 import com.custom.trader.stockprice.service.StockPricePersistenceService;
 import com.custom.trader.watchlist.entity.WatchlistStock;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -20,6 +20,8 @@ import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static com.custom.trader.stockprice.constant.StockPriceConstants.PAGE_SIZE;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -38,7 +40,8 @@ class DomesticIndexStrategyTest {
     @Mock
     private StockPricePersistenceService persistenceService;
 
-    @InjectMocks
+    private ExecutorService executor;
+
     private DomesticIndexStrategy strategy;
 
     private WatchlistStock domesticIndex;
@@ -47,6 +50,9 @@ class DomesticIndexStrategyTest {
 
     @BeforeEach
     void setUp() {
+        executor = Executors.newFixedThreadPool(DateWindowBackfiller.WINDOW_CONCURRENCY);
+        strategy = new DomesticIndexStrategy(kisStockPriceService, persistenceService, new DateWindowBackfiller(executor));
+
         domesticIndex = WatchlistStock.builder()
                 .stockCode("0001")
                 .stockName("코스피")
@@ -58,6 +64,11 @@ class DomesticIndexStrategyTest {
         endDate = LocalDate.of(2024, 1, 31);
     }
 
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
     @Nested
     @DisplayName("collectDailyPrice 메소드")
     class CollectDailyPrice {
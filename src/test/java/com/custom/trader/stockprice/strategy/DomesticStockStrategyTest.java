@@ -7,12 +7,12 @@ import com.custom.trader.kis.exception.KisApiException;
 import com.custom.trader.kis.service.KisStockPriceService;
 import com.custom.trader.stockprice.service.StockPricePersistenceService;
 import com.custom.trader.watchlist.entity.WatchlistStock;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -20,13 +20,17 @@ import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
+import static com.custom.trader.stockprice.constant.StockPriceConstants.ADJUSTMENT_LOOKBACK_DAYS;
 import static com.custom.trader.stockprice.constant.StockPriceConstants.PAGE_SIZE;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -38,7 +42,8 @@ class DomesticStockStrategyTest {
     @Mock
     private StockPricePersistenceService persistenceService;
 
-    @InjectMocks
+    private ExecutorService executor;
+
     private DomesticStockStrategy strategy;
 
     private WatchlistStock domesticStock;
@@ -47,6 +52,9 @@ class DomesticStockStrategyTest {
 
     @BeforeEach
     void setUp() {
+        executor = Executors.newFixedThreadPool(DateWindowBackfiller.WINDOW_CONCURRENCY);
+        strategy = new DomesticStockStrategy(kisStockPriceService, persistenceService, new DateWindowBackfiller(executor));
+
         domesticStock = WatchlistStock.builder()
                 .stockCode("005930")
                 .stockName("삼성전자")
@@ -58,12 +66,17 @@ class DomesticStockStrategyTest {
         endDate = LocalDate.of(2024, 1, 31);
     }
 
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
     @Nested
     @DisplayName("collectDailyPrice 메소드")
     class CollectDailyPrice {
 
         @Test
-        @DisplayName("정상적으로 일간 가격을 수집하고 저장")
+        @DisplayName("수정 계수 탐지를 위해 시작일 이전 거래일까지 함께 조회하여 저장")
         void 정상적으로_일간_가격을_수집하고_저장() {
             // given
             var priceItems = List.of(
@@ -72,7 +85,7 @@ class DomesticStockStrategyTest {
                     )
             );
             given(kisStockPriceService.getDomesticStockDailyPrices(
-                    eq("005930"), eq(startDate), eq(endDate))
+                    eq("005930"), eq(startDate.minusDays(ADJUSTMENT_LOOKBACK_DAYS)), eq(endDate))
             ).willReturn(priceItems);
             given(persistenceService.saveDomesticStockPrices(eq("005930"), eq(priceItems)))
                     .willReturn(1);
@@ -82,7 +95,8 @@ class DomesticStockStrategyTest {
 
             // then
             assertThat(saved).isEqualTo(1);
-            verify(kisStockPriceService).getDomesticStockDailyPrices("005930", startDate, endDate);
+            verify(kisStockPriceService).getDomesticStockDailyPrices(
+                    "005930", startDate.minusDays(ADJUSTMENT_LOOKBACK_DAYS), endDate);
             verify(persistenceService).saveDomesticStockPrices("005930", priceItems);
         }
 
@@ -133,7 +147,7 @@ class DomesticStockStrategyTest {
                     )
             );
             given(kisStockPriceService.getDomesticStockDailyPrices(
-                    eq("005930"), eq(startDate), eq(endDate))
+                    eq("005930"), eq(startDate.minusDays(ADJUSTMENT_LOOKBACK_DAYS)), eq(endDate))
             ).willReturn(priceItems);
             given(persistenceService.saveDomesticStockPrices(eq("005930"), eq(priceItems)))
                     .willReturn(3);
@@ -370,6 +384,29 @@ class DomesticStockStrategyTest {
             verify(kisStockPriceService).getDomesticStockDailyPrices("005930", backfillStart, backfillEnd);
         }
 
+        @Test
+        @DisplayName("긴 기간은 달력 구간별로 나누어 조회하고 구간마다 저장")
+        void 긴_기간_구간_조회() {
+            // given: 3년 기간, 각 구간은 종료일 하루치 데이터만 반환
+            LocalDate backfillStart = LocalDate.of(2021, 1, 1);
+            LocalDate backfillEnd = LocalDate.of(2023, 12, 31);
+            var windows = DateWindowBackfiller.windows(backfillStart, backfillEnd);
+
+            given(kisStockPriceService.getDomesticStockDailyPrices(eq("005930"), any(LocalDate.class), any(LocalDate.class)))
+                    .willAnswer(invocation -> createPriceItems(
+                            invocation.<LocalDate>getArgument(2).format(java.time.format.DateTimeFormatter.ofPattern("yyyyMMdd")), 1));
+            given(persistenceService.saveDomesticStockPrices(eq("005930"), any())).willReturn(1);
+
+            // when
+            strategy.backfillHistoricalPrices(domesticStock, backfillStart, backfillEnd);
+
+            // then
+            for (var window : windows) {
+                verify(kisStockPriceService).getDomesticStockDailyPrices("005930", window.startDate(), window.endDate());
+            }
+            verify(persistenceService, times(windows.size())).saveDomesticStockPrices(eq("005930"), any());
+        }
+
         /**
          * 테스트용 가격 데이터 생성 헬퍼 메서드.
          * 주어진 시작 날짜부터 count개만큼 과거로 이동하며 데이터를 생성합니다.
@@ -394,6 +431,31 @@ class DomesticStockStrategyTest {
         }
     }
 
+    @Nested
+    @DisplayName("backfillLatestPage 메소드")
+    class BackfillLatestPage {
+
+        @Test
+        @DisplayName("첫 페이지를 저장하고 조회한 거래일을 반환")
+        void 첫_페이지_저장_후_거래일_반환() {
+            // given
+            var priceItems = List.of(
+                    new DomesticStockDailyPriceResponse.PriceItem(
+                            "20240131", "75000", "76000", "74000", "75500", "1000000", "75000000000"),
+                    new DomesticStockDailyPriceResponse.PriceItem(
+                            "20240130", "74000", "75000", "73000", "74500", "900000", "66000000000")
+            );
+            given(kisStockPriceService.getDomesticStockDailyPrices("005930", startDate, endDate)).willReturn(priceItems);
+
+            // when
+            List<LocalDate> dates = strategy.backfillLatestPage(domesticStock, startDate, endDate);
+
+            // then
+            assertThat(dates).containsExactly(LocalDate.of(2024, 1, 31), LocalDate.of(2024, 1, 30));
+            verify(persistenceService).saveDomesticStockPrices("005930", priceItems);
+        }
+    }
+
     @Nested
     @DisplayName("Strategy 어노테이션 검증")
     class AnnotationVerification {
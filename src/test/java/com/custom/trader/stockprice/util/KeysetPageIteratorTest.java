@@ -0,0 +1,79 @@
+package com.custom.trader.stockprice.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("KeysetPageIterator 테스트")
+class KeysetPageIteratorTest {
+
+    private final List<Long> requestedAfterIds = new ArrayList<>();
+
+    @Test
+    @DisplayName("직전 페이지의 마지막 id 이후부터 조회")
+    void fetchesAfterLastId() {
+        // given
+        var iterator = iteratorOver(LongStream.rangeClosed(1, 5).boxed().toList(), 2);
+
+        // when
+        List<List<Long>> pages = drain(iterator);
+
+        // then
+        assertThat(pages).containsExactly(List.of(1L, 2L), List.of(3L, 4L), List.of(5L));
+        assertThat(requestedAfterIds).containsExactly(0L, 2L, 4L);
+    }
+
+    @Test
+    @DisplayName("행 수가 페이지 크기의 배수여도 빈 조회를 추가로 하지 않음")
+    void noTrailingEmptyFetch() {
+        // given
+        var iterator = iteratorOver(LongStream.rangeClosed(1, 4).boxed().toList(), 2);
+
+        // when
+        List<List<Long>> pages = drain(iterator);
+
+        // then
+        assertThat(pages).hasSize(2);
+        assertThat(requestedAfterIds).containsExactly(0L, 2L);
+    }
+
+    @Test
+    @DisplayName("결과가 없으면 hasNext false, next는 예외")
+    void emptyResult() {
+        // given
+        var iterator = iteratorOver(List.of(), 2);
+
+        // when & then
+        assertThat(iterator.hasNext()).isFalse();
+        assertThatThrownBy(iterator::next).isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    @DisplayName("페이지 크기가 1 미만이면 예외")
+    void invalidPageSize() {
+        assertThatThrownBy(() -> iteratorOver(List.of(), 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private KeysetPageIterator<Long> iteratorOver(List<Long> ids, int pageSize) {
+        return new KeysetPageIterator<>(pageSize, (lastId, limit) -> {
+            requestedAfterIds.add(lastId);
+            return ids.stream().filter(id -> id > lastId).limit(limit).toList();
+        }, Long::longValue);
+    }
+
+    private static List<List<Long>> drain(KeysetPageIterator<Long> iterator) {
+        List<List<Long>> pages = new ArrayList<>();
+        while (iterator.hasNext()) {
+            pages.add(iterator.next());
+        }
+        return pages;
+    }
+}
@@ -0,0 +1,143 @@
+package com.custom.trader.stockprice.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TradeDateBitmap 테스트")
+class TradeDateBitmapTest {
+
+    @Test
+    @DisplayName("추가한 날짜만 포함하고 중복 추가는 무시")
+    void addAndContains() {
+        // given
+        var bitmap = new TradeDateBitmap();
+
+        // when
+        boolean added = bitmap.add(LocalDate.of(2024, 1, 2));
+        boolean duplicated = bitmap.add(LocalDate.of(2024, 1, 2));
+
+        // then
+        assertThat(added).isTrue();
+        assertThat(duplicated).isFalse();
+        assertThat(bitmap.size()).isEqualTo(1);
+        assertThat(bitmap.contains(LocalDate.of(2024, 1, 2))).isTrue();
+        assertThat(bitmap.contains(LocalDate.of(2024, 1, 3))).isFalse();
+    }
+
+    @Test
+    @DisplayName("1970년 이전(음수 epoch-day)과 청크 경계 날짜도 정확히 처리")
+    void negativeEpochDaysAndChunkBoundaries() {
+        // given
+        LocalDate beforeEpoch = LocalDate.of(1956, 3, 5);
+        LocalDate lastDayBeforeEpoch = LocalDate.ofEpochDay(-1);
+        LocalDate chunkEnd = LocalDate.ofEpochDay(TradeDateBitmap.CHUNK_DAYS - 1L);
+        LocalDate chunkStart = LocalDate.ofEpochDay(TradeDateBitmap.CHUNK_DAYS);
+        var bitmap = TradeDateBitmap.of(List.of(beforeEpoch, lastDayBeforeEpoch, chunkEnd, chunkStart));
+
+        // then
+        assertThat(bitmap.contains(beforeEpoch)).isTrue();
+        assertThat(bitmap.contains(lastDayBeforeEpoch)).isTrue();
+        assertThat(bitmap.contains(LocalDate.ofEpochDay(0))).isFalse();
+        assertThat(bitmap.contains(chunkEnd)).isTrue();
+        assertThat(bitmap.contains(chunkStart)).isTrue();
+        assertThat(bitmap.first()).contains(beforeEpoch);
+        assertThat(bitmap.last()).contains(chunkStart);
+    }
+
+    @Test
+    @DisplayName("기간 개수는 양 끝을 포함하며 HashSet 기준과 일치")
+    void countBetweenMatchesReference() {
+        // given: 2000 ~ 2024년 중 임의 날짜
+        Random random = new Random(42);
+        long start = LocalDate.of(2000, 1, 1).toEpochDay();
+        long end = LocalDate.of(2024, 12, 31).toEpochDay();
+        Set<LocalDate> reference = new HashSet<>();
+        for (int i = 0; i < 3000; i++) {
+            reference.add(LocalDate.ofEpochDay(start + random.nextInt((int) (end - start + 1))));
+        }
+        var bitmap = TradeDateBitmap.of(reference);
+
+        // when & then
+        for (int i = 0; i < 200; i++) {
+            LocalDate from = LocalDate.ofEpochDay(start + random.nextInt((int) (end - start + 1)));
+            LocalDate to = from.plusDays(random.nextInt(4000));
+            long expected = reference.stream().filter(d -> !d.isBefore(from) && !d.isAfter(to)).count();
+            assertThat(bitmap.countBetween(from, to)).as("%s ~ %s", from, to).isEqualTo((int) expected);
+        }
+        assertThat(bitmap.size()).isEqualTo(reference.size());
+    }
+
+    @Test
+    @DisplayName("기대 거래일 중 누락된 날짜를 입력 순서대로 반환")
+    void missingFrom() {
+        // given
+        var bitmap = TradeDateBitmap.of(List.of(LocalDate.of(2024, 1, 2), LocalDate.of(2024, 1, 4)));
+
+        // when
+        List<LocalDate> missing = bitmap.missingFrom(List.of(
+                LocalDate.of(2024, 1, 2), LocalDate.of(2024, 1, 3),
+                LocalDate.of(2024, 1, 4), LocalDate.of(2024, 1, 5)));
+
+        // then
+        assertThat(missing).containsExactly(LocalDate.of(2024, 1, 3), LocalDate.of(2024, 1, 5));
+    }
+
+    @Test
+    @DisplayName("합집합과 교집합은 청크가 다른 날짜도 정확히 계산")
+    void unionAndIntersection() {
+        // given
+        LocalDate shared = LocalDate.of(2024, 1, 2);
+        LocalDate leftOnly = LocalDate.of(1990, 5, 2);
+        LocalDate rightOnly = LocalDate.of(2024, 1, 3);
+        var left = TradeDateBitmap.of(List.of(shared, leftOnly));
+        var right = TradeDateBitmap.of(List.of(shared, rightOnly));
+
+        // when
+        var union = TradeDateBitmap.of(List.of(shared));
+        union.addAll(left);
+        union.addAll(right);
+        var common = new TradeDateBitmap();
+        common.addCommon(left, right);
+
+        // then
+        assertThat(union.size()).isEqualTo(3);
+        assertThat(union.datesBetween(leftOnly, rightOnly)).containsExactly(leftOnly, shared, rightOnly);
+        assertThat(common.size()).isEqualTo(1);
+        assertThat(common.contains(shared)).isTrue();
+    }
+
+    @Test
+    @DisplayName("기간 안의 날짜를 양 끝 포함 오름차순으로 반환")
+    void datesBetween() {
+        // given
+        var bitmap = TradeDateBitmap.of(List.of(
+                LocalDate.of(2024, 1, 5), LocalDate.of(2023, 12, 29),
+                LocalDate.of(2024, 1, 2), LocalDate.of(2024, 1, 8)));
+
+        // when
+        List<LocalDate> dates = bitmap.datesBetween(LocalDate.of(2023, 12, 29), LocalDate.of(2024, 1, 5));
+
+        // then
+        assertThat(dates).containsExactly(
+                LocalDate.of(2023, 12, 29), LocalDate.of(2024, 1, 2), LocalDate.of(2024, 1, 5));
+        assertThat(bitmap.datesBetween(LocalDate.of(2024, 1, 8), LocalDate.of(2024, 1, 1))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("비어 있으면 first/last는 empty, 역순 기간 개수는 0")
+    void empty() {
+        var bitmap = new TradeDateBitmap();
+
+        assertThat(bitmap.first()).isEmpty();
+        assertThat(bitmap.last()).isEmpty();
+        assertThat(bitmap.countBetween(LocalDate.of(2024, 1, 31), LocalDate.of(2024, 1, 1))).isZero();
+    }
+}
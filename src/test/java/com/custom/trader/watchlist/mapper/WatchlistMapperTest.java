@@ -364,6 +364,52 @@ class WatchlistMapperTest {
         }
     }
 
+    @Nested
+    @DisplayName("fingerprint 메소드")
+    class Fingerprint {
+
+        private final WatchlistStockResponse.StockItem samsung =
+                new WatchlistStockResponse.StockItem("J", "005930", "삼성전자", "KRX");
+        private final WatchlistStockResponse.StockItem hynix =
+                new WatchlistStockResponse.StockItem("J", "000660", "SK하이닉스", "KRX");
+
+        @Test
+        @DisplayName("API 응답 순서가 달라도 같은 지문")
+        void 순서_무관_동일_지문() {
+            // given
+            var map1 = WatchlistMapper.buildApiStockMap(List.of(samsung, hynix), "001");
+            var map2 = WatchlistMapper.buildApiStockMap(List.of(hynix, samsung), "001");
+
+            // when & then
+            assertThat(WatchlistMapper.fingerprint(map1)).isEqualTo(WatchlistMapper.fingerprint(map2));
+            assertThat(WatchlistMapper.fingerprint(map1)).hasSize(64);
+        }
+
+        @Test
+        @DisplayName("종목명이 바뀌면 다른 지문")
+        void 종목명_변경시_다른_지문() {
+            // given
+            var renamed = new WatchlistStockResponse.StockItem("J", "005930", "삼성전자우", "KRX");
+            var before = WatchlistMapper.buildApiStockMap(List.of(samsung, hynix), "001");
+            var after = WatchlistMapper.buildApiStockMap(List.of(renamed, hynix), "001");
+
+            // when & then
+            assertThat(WatchlistMapper.fingerprint(before)).isNotEqualTo(WatchlistMapper.fingerprint(after));
+        }
+
+        @Test
+        @DisplayName("종목이 추가/삭제되면 다른 지문")
+        void 종목_추가_삭제시_다른_지문() {
+            // given
+            var one = WatchlistMapper.buildApiStockMap(List.of(samsung), "001");
+            var two = WatchlistMapper.buildApiStockMap(List.of(samsung, hynix), "001");
+
+            // when & then
+            assertThat(WatchlistMapper.fingerprint(one)).isNotEqualTo(WatchlistMapper.fingerprint(two));
+            assertThat(WatchlistMapper.fingerprint(Map.of())).isNotEqualTo(WatchlistMapper.fingerprint(one));
+        }
+    }
+
     @Nested
     @DisplayName("Utility 클래스 보안 테스트")
     class UtilityClassSecurity {
@@ -0,0 +1,148 @@
+package com.custom.trader.watchlist.repository;
+
+import com.custom.trader.common.constant.DateFormatConstants;
+import com.custom.trader.common.enums.AssetType;
+import com.custom.trader.common.enums.MarketCode;
+import com.custom.trader.testcontainers.MySQLTestcontainersConfig;
+import com.custom.trader.watchlist.dto.WatchlistStockSummary;
+import com.custom.trader.watchlist.entity.WatchlistGroup;
+import com.custom.trader.watchlist.entity.WatchlistStock;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@Import(MySQLTestcontainersConfig.class)
+@ActiveProfiles("test")
+class WatchlistStockRepositoryTest {
+
+    @Autowired
+    private WatchlistStockRepository watchlistStockRepository;
+
+    @Autowired
+    private WatchlistGroupRepository watchlistGroupRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private List<WatchlistStock> stocks;
+
+    @BeforeEach
+    void setUp() {
+        WatchlistGroup group = WatchlistGroup.builder()
+                .userId("testUser")
+                .groupCode("001")
+                .groupName("그룹")
+                .type("1")
+                .build();
+        for (String stockCode : List.of("005930", "000660", "035420")) {
+            group.addStock(WatchlistStock.builder()
+                    .stockCode(stockCode)
+                    .stockName("종목" + stockCode)
+                    .marketCode(MarketCode.KRX)
+                    .assetType(AssetType.DOMESTIC_STOCK)
+                    .build());
+        }
+        stocks = watchlistGroupRepository.saveAndFlush(group).getStocks();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("Keyset 조회는 id 이후 종목을 Projection으로 반환하고 영속성 컨텍스트에 적재하지 않음")
+    void 키셋_Projection_조회() {
+        // when
+        List<WatchlistStockSummary> page = watchlistStockRepository.findSummariesByBackfillCompletedAfterId(
+                false, stocks.get(0).getId(), Limit.of(10));
+
+        // then
+        assertThat(page).extracting(WatchlistStockSummary::getStockCode).containsExactly("000660", "035420");
+        assertThat(page.get(0).getMarketCode()).isEqualTo(MarketCode.KRX);
+        assertThat(page.get(0).getAssetType()).isEqualTo(AssetType.DOMESTIC_STOCK);
+        assertThat(entityManager.unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("백필 완료 UPDATE 후 해당 종목은 미완료 Keyset 조회에서 제외")
+    void 백필_완료_UPDATE() {
+        // given
+        Long targetId = stocks.get(1).getId();
+
+        // when
+        int updated = watchlistStockRepository.markBackfillCompleted(
+                targetId, LocalDateTime.now(DateFormatConstants.KST_ZONE_ID));
+
+        // then
+        assertThat(updated).isEqualTo(1);
+        assertThat(watchlistStockRepository.findSummariesByBackfillCompletedAfterId(false, 0L, Limit.of(10)))
+                .extracting(WatchlistStockSummary::getId)
+                .doesNotContain(targetId)
+                .hasSize(2);
+        assertThat(watchlistStockRepository.findSummariesByBackfillCompletedAfterId(true, 0L, Limit.of(10)))
+                .extracting(WatchlistStockSummary::getId)
+                .containsExactly(targetId);
+    }
+
+    @Test
+    @DisplayName("같은 종목의 다른 그룹 행도 백필 완료로 설정")
+    void 같은_종목_다른_그룹_완료() {
+        // given
+        WatchlistGroup other = WatchlistGroup.builder()
+                .userId("testUser")
+                .groupCode("002")
+                .groupName("다른 그룹")
+                .type("1")
+                .build();
+        other.addStock(WatchlistStock.builder()
+                .stockCode("005930")
+                .stockName("삼성전자")
+                .marketCode(MarketCode.KRX)
+                .assetType(AssetType.DOMESTIC_STOCK)
+                .build());
+        Long siblingId = watchlistGroupRepository.saveAndFlush(other).getStocks().get(0).getId();
+        Long backfilledId = stocks.get(0).getId();
+
+        // when
+        int updated = watchlistStockRepository.markSiblingsBackfillCompleted(backfilledId, AssetType.DOMESTIC_STOCK,
+                null, "005930", LocalDateTime.now(DateFormatConstants.KST_ZONE_ID));
+
+        // then
+        assertThat(updated).isEqualTo(1);
+        assertThat(watchlistStockRepository.findSummariesByBackfillCompletedAfterId(true, 0L, Limit.of(10)))
+                .extracting(WatchlistStockSummary::getId)
+                .containsExactly(siblingId);
+    }
+
+    @Test
+    @DisplayName("사용자의 백필 미완료 행을 종목 코드로 조회")
+    void 사용자_백필_미완료_조회() {
+        // given
+        watchlistStockRepository.markBackfillCompleted(stocks.get(1).getId(), LocalDateTime.now(DateFormatConstants.KST_ZONE_ID));
+
+        // when
+        List<WatchlistStockSummary> pending = watchlistStockRepository.findBackfillPendingSummaries(
+                "testUser", List.of("005930", "000660"));
+
+        // then
+        assertThat(pending).extracting(WatchlistStockSummary::getId).containsExactly(stocks.get(0).getId());
+        assertThat(watchlistStockRepository.findBackfillPendingSummaries("otherUser", List.of("005930"))).isEmpty();
+        assertThat(watchlistStockRepository.findBackfillPendingSummariesByIdIn(
+                List.of(stocks.get(0).getId(), stocks.get(1).getId())))
+                .extracting(WatchlistStockSummary::getStockCode)
+                .containsExactly("005930");
+    }
+}
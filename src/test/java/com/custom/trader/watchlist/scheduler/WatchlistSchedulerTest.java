@@ -1,5 +1,7 @@
 package com.custom.trader.watchlist.scheduler;
 
+import com.custom.trader.kis.client.KisRetryBudgetContext;
+import com.custom.trader.kis.client.KisRetryPolicy;
 import com.custom.trader.kis.exception.KisApiException;
 import com.custom.trader.watchlist.service.WatchlistService;
 import org.junit.jupiter.api.BeforeEach;
@@ -11,7 +13,12 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.dao.DataIntegrityViolationException;
 
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.BDDMockito.willAnswer;
 import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.verify;
@@ -22,11 +29,13 @@ class WatchlistSchedulerTest {
     @Mock
     private WatchlistService watchlistService;
 
+    private final KisRetryPolicy kisRetryPolicy = new KisRetryPolicy(3, Duration.ZERO, Duration.ZERO, 10);
+
     private WatchlistScheduler watchlistScheduler;
 
     @BeforeEach
     void setUp() {
-        watchlistScheduler = new WatchlistScheduler(watchlistService);
+        watchlistScheduler = new WatchlistScheduler(watchlistService, kisRetryPolicy);
     }
 
     @Nested
@@ -37,13 +46,18 @@ class WatchlistSchedulerTest {
         @DisplayName("스케줄 동기화 정상 실행")
         void 스케줄_동기화_정상_실행() {
             // given
-            doNothing().when(watchlistService).syncWatchlist();
+            AtomicReference<String> runName = new AtomicReference<>();
+            willAnswer(invocation -> {
+                runName.set(KisRetryBudgetContext.current().getRunName());
+                return null;
+            }).given(watchlistService).syncWatchlist();
 
             // when
             watchlistScheduler.syncWatchlist();
 
             // then
             verify(watchlistService).syncWatchlist();
+            assertThat(runName).hasValue("syncWatchlist");
         }
 
         @Test
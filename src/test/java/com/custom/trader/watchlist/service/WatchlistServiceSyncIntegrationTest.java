@@ -23,6 +23,7 @@ import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -849,6 +850,53 @@ class WatchlistServiceSyncIntegrationTest {
         }
     }
 
+    @Nested
+    @DisplayName("대량 변경 집합 연산 적용")
+    class BulkApply {
+
+        @Test
+        @DisplayName("대량 추가/수정/삭제 후 백필 플래그 보존")
+        void 대량_변경_적용_및_백필_플래그_보존() {
+            // given: 종목 65개 (000000은 백필 완료)
+            var group = createAndSaveGroup("001", "대량그룹");
+            for (int i = 0; i < 65; i++) {
+                createAndAddStock(group, String.format("%06d", i), "종목" + i);
+            }
+            group.getStocks().get(0).markBackfillCompleted();
+            entityManager.flush();
+            entityManager.clear();
+
+            // API: 0~29 유지, 30~59 이름 변경, 60~64 삭제, 100~129 추가 (변경 65건)
+            List<WatchlistStockResponse.StockItem> apiStocks = new ArrayList<>();
+            for (int i = 0; i < 60; i++) {
+                String name = i < 30 ? "종목" + i : "신종목" + i;
+                apiStocks.add(new WatchlistStockResponse.StockItem("J", String.format("%06d", i), name, "KRX"));
+            }
+            for (int i = 100; i < 130; i++) {
+                apiStocks.add(new WatchlistStockResponse.StockItem("J", String.format("%06d", i), "추가" + i, "KRX"));
+            }
+            given(kisWatchlistService.getWatchlistGroups())
+                    .willReturn(List.of(new WatchlistGroupResponse.GroupItem("001", "대량그룹")));
+            given(kisWatchlistService.getStocksByGroup("001")).willReturn(apiStocks);
+
+            // when
+            watchlistService.syncWatchlist();
+            entityManager.flush();
+            entityManager.clear(); // JDBC로 적용된 결과를 DB에서 다시 조회
+
+            // then
+            var stocks = watchlistStockRepository.findAll();
+            assertThat(stocks).hasSize(90);
+            assertThat(stocks).extracting(WatchlistStock::getStockCode)
+                    .doesNotContain("000060", "000064")
+                    .contains("000100", "000129");
+            assertThat(stocks).filteredOn(s -> "000045".equals(s.getStockCode()))
+                    .extracting(WatchlistStock::getStockName).containsExactly("신종목45");
+            assertThat(stocks).filteredOn(WatchlistStock::isBackfillCompleted)
+                    .extracting(WatchlistStock::getStockCode).containsExactly("000000");
+        }
+    }
+
     // === 헬퍼 메서드 ===
 
     /**
@@ -1,12 +1,22 @@
 package com.custom.trader.watchlist.service;
 
+import com.custom.trader.common.enums.AssetType;
+import com.custom.trader.common.enums.MarketCode;
+import com.custom.trader.config.KisFetchExecutorConfig;
+import com.custom.trader.kis.client.KisPriorityContext;
+import com.custom.trader.kis.client.KisRequestPriority;
 import com.custom.trader.kis.config.KisProperties;
 import com.custom.trader.kis.dto.watchlist.WatchlistGroupResponse;
 import com.custom.trader.kis.dto.watchlist.WatchlistStockResponse;
 import com.custom.trader.kis.exception.KisApiException;
 import com.custom.trader.kis.service.KisWatchlistService;
 import com.custom.trader.watchlist.entity.WatchlistGroup;
+import com.custom.trader.watchlist.entity.WatchlistStock;
+import com.custom.trader.watchlist.event.WatchlistStocksAddedEvent;
+import com.custom.trader.watchlist.mapper.WatchlistMapper;
 import com.custom.trader.watchlist.repository.WatchlistGroupRepository;
+import com.custom.trader.watchlist.repository.WatchlistStockBulkRepository;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -16,10 +26,21 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionOperations;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -38,19 +59,41 @@ class WatchlistServiceTest {
     @Mock
     private WatchlistGroupRepository watchlistGroupRepository;
 
+    @Mock
+    private WatchlistStockBulkRepository watchlistStockBulkRepository;
+
     @Mock
     private KisProperties kisProperties;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @Captor
     private ArgumentCaptor<List<WatchlistGroup>> groupListCaptor;
 
+    @Captor
+    private ArgumentCaptor<List<WatchlistStock>> stockListCaptor;
+
+    @Captor
+    private ArgumentCaptor<List<WatchlistStockBulkRepository.StockInfoUpdate>> updateListCaptor;
+
+    private ExecutorService fetchExecutor;
+
     private WatchlistService watchlistService;
 
     private static final String TEST_USER_ID = "testUser";
 
     @BeforeEach
     void setUp() {
-        watchlistService = new WatchlistService(kisWatchlistService, watchlistGroupRepository, kisProperties);
+        fetchExecutor = new KisFetchExecutorConfig().kisFetchExecutor();
+        watchlistService = new WatchlistService(kisWatchlistService, watchlistGroupRepository,
+                watchlistStockBulkRepository, kisProperties, TransactionOperations.withoutTransaction(), eventPublisher,
+                fetchExecutor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        fetchExecutor.shutdownNow();
     }
 
     @Nested
@@ -103,6 +146,68 @@ class WatchlistServiceTest {
             assertThat(group2.getStocks()).hasSize(1);
         }
 
+        @Test
+        @DisplayName("그룹별 종목 조회는 동시에 수행")
+        void 그룹별_종목_조회_동시_수행() {
+            // given
+            var groupItems = List.of(
+                    new WatchlistGroupResponse.GroupItem("001", "관심그룹1"),
+                    new WatchlistGroupResponse.GroupItem("002", "관심그룹2")
+            );
+            var bothInFlight = new CountDownLatch(2);
+            var overlapped = new AtomicBoolean(true);
+
+            given(kisProperties.userId()).willReturn(TEST_USER_ID);
+            given(kisWatchlistService.getWatchlistGroups()).willReturn(groupItems);
+            given(watchlistGroupRepository.findByUserIdAndGroupCodeIn(eq(TEST_USER_ID), any()))
+                    .willReturn(Collections.emptyList());
+            given(kisWatchlistService.getStocksByGroup(any())).willAnswer(invocation -> {
+                bothInFlight.countDown();
+                if (!bothInFlight.await(5, TimeUnit.SECONDS)) {
+                    overlapped.set(false);
+                }
+                return List.of();
+            });
+
+            // when
+            watchlistService.syncWatchlist();
+
+            // then
+            assertThat(overlapped).isTrue();
+            verify(watchlistGroupRepository).saveAll(groupListCaptor.capture());
+            assertThat(groupListCaptor.getValue()).extracting(WatchlistGroup::getGroupCode)
+                    .containsExactly("001", "002");
+        }
+
+        @Test
+        @DisplayName("그룹별 종목 조회는 공용 KIS 조회 풀에서 호출 스레드의 우선순위로 수행")
+        void 그룹별_종목_조회_우선순위_전파() {
+            // given
+            var groupItems = List.of(
+                    new WatchlistGroupResponse.GroupItem("001", "관심그룹1"),
+                    new WatchlistGroupResponse.GroupItem("002", "관심그룹2")
+            );
+            Set<KisRequestPriority> observedPriorities = ConcurrentHashMap.newKeySet();
+            Set<String> threadNames = ConcurrentHashMap.newKeySet();
+
+            given(kisProperties.userId()).willReturn(TEST_USER_ID);
+            given(kisWatchlistService.getWatchlistGroups()).willReturn(groupItems);
+            given(watchlistGroupRepository.findByUserIdAndGroupCodeIn(eq(TEST_USER_ID), any()))
+                    .willReturn(Collections.emptyList());
+            given(kisWatchlistService.getStocksByGroup(any())).willAnswer(invocation -> {
+                observedPriorities.add(KisPriorityContext.current());
+                threadNames.add(Thread.currentThread().getName());
+                return List.of();
+            });
+
+            // when
+            KisPriorityContext.run(KisRequestPriority.DAILY, watchlistService::syncWatchlist);
+
+            // then
+            assertThat(observedPriorities).containsExactly(KisRequestPriority.DAILY);
+            assertThat(threadNames).isNotEmpty().allMatch(name -> name.startsWith("kis-fetch-"));
+        }
+
         @Test
         @DisplayName("빈 그룹 목록이면 모든 그룹 삭제 후 종료")
         void 빈_그룹목록이면_모든_그룹_삭제() {
@@ -238,6 +343,307 @@ class WatchlistServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("변경 감지 (종목 목록 지문)")
+    class FingerprintChangeDetection {
+
+        @Test
+        @DisplayName("지문이 같으면 종목 동기화를 건너뜀")
+        void 지문_동일시_종목_동기화_생략() {
+            // given
+            var apiStocks = List.of(new WatchlistStockResponse.StockItem("J", "005930", "삼성전자", "KRX"));
+            var group = WatchlistGroup.builder()
+                    .userId(TEST_USER_ID)
+                    .groupCode("001")
+                    .groupName("관심그룹1")
+                    .type("1")
+                    .build();
+            // DB에만 있는 종목: 동기화가 수행되면 삭제되어야 함
+            group.addStock(WatchlistStock.builder().stockCode("000660").stockName("SK하이닉스").build());
+            group.updateStocksFingerprint(
+                    WatchlistMapper.fingerprint(WatchlistMapper.buildApiStockMap(apiStocks, "001")));
+
+            given(kisProperties.userId()).willReturn(TEST_USER_ID);
+            given(kisWatchlistService.getWatchlistGroups())
+                    .willReturn(List.of(new WatchlistGroupResponse.GroupItem("001", "관심그룹1")));
+            given(kisWatchlistService.getStocksByGroup("001")).willReturn(apiStocks);
+            given(watchlistGroupRepository.findByUserIdAndGroupCodeIn(eq(TEST_USER_ID), any()))
+                    .willReturn(List.of(group));
+
+            // when
+            watchlistService.syncWatchlist();
+
+            // then
+            assertThat(group.getStocks()).extracting(WatchlistStock::getStockCode).containsExactly("000660");
+        }
+
+        @Test
+        @DisplayName("지문이 다르면 동기화 후 새 지문 저장")
+        void 지문_변경시_동기화_후_지문_저장() {
+            // given
+            var apiStocks = List.of(new WatchlistStockResponse.StockItem("J", "005930", "삼성전자", "KRX"));
+            var group = WatchlistGroup.builder()
+                    .userId(TEST_USER_ID)
+                    .groupCode("001")
+                    .groupName("관심그룹1")
+                    .type("1")
+                    .build();
+            group.addStock(WatchlistStock.builder().stockCode("000660").stockName("SK하이닉스").build());
+            group.updateStocksFingerprint("stale");
+
+            given(kisProperties.userId()).willReturn(TEST_USER_ID);
+            given(kisWatchlistService.getWatchlistGroups())
+                    .willReturn(List.of(new WatchlistGroupResponse.GroupItem("001", "관심그룹1")));
+            given(kisWatchlistService.getStocksByGroup("001")).willReturn(apiStocks);
+            given(watchlistGroupRepository.findByUserIdAndGroupCodeIn(eq(TEST_USER_ID), any()))
+                    .willReturn(List.of(group));
+
+            // when
+            watchlistService.syncWatchlist();
+
+            // then
+            assertThat(group.getStocks()).extracting(WatchlistStock::getStockCode).containsExactly("005930");
+            assertThat(group.getStocksFingerprint()).isEqualTo(
+                    WatchlistMapper.fingerprint(WatchlistMapper.buildApiStockMap(apiStocks, "001")));
+        }
+
+        @Test
+        @DisplayName("변경된 기존 그룹만 한 번의 쿼리로 종목 초기화")
+        void 변경된_그룹만_종목_일괄_초기화() {
+            // given
+            var apiStocks = List.of(new WatchlistStockResponse.StockItem("J", "005930", "삼성전자", "KRX"));
+            var unchanged = WatchlistGroup.builder()
+                    .userId(TEST_USER_ID)
+                    .groupCode("001")
+                    .groupName("관심그룹1")
+                    .type("1")
+                    .build();
+            ReflectionTestUtils.setField(unchanged, "id", 1L);
+            unchanged.updateStocksFingerprint(
+                    WatchlistMapper.fingerprint(WatchlistMapper.buildApiStockMap(apiStocks, "001")));
+            var changed = WatchlistGroup.builder()
+                    .userId(TEST_USER_ID)
+                    .groupCode("002")
+                    .groupName("관심그룹2")
+                    .type("1")
+                    .build();
+            ReflectionTestUtils.setField(changed, "id", 2L);
+            changed.updateStocksFingerprint("stale");
+
+            given(kisProperties.userId()).willReturn(TEST_USER_ID);
+            given(kisWatchlistService.getWatchlistGroups()).willReturn(List.of(
+                    new WatchlistGroupResponse.GroupItem("001", "관심그룹1"),
+                    new WatchlistGroupResponse.GroupItem("002", "관심그룹2"),
+                    new WatchlistGroupResponse.GroupItem("003", "신규그룹")
+            ));
+            given(kisWatchlistService.getStocksByGroup(any())).willReturn(apiStocks);
+            given(watchlistGroupRepository.findByUserIdAndGroupCodeIn(eq(TEST_USER_ID), any()))
+                    .willReturn(List.of(unchanged, changed));
+
+            // when
+            watchlistService.syncWatchlist();
+
+            // then: 신규 그룹(ID 없음)과 변경 없는 그룹은 조회 대상에서 제외
+            verify(watchlistGroupRepository).findWithStocksByIdIn(List.of(2L));
+            assertThat(changed.getStocks()).extracting(WatchlistStock::getStockCode).containsExactly("005930");
+        }
+    }
+
+    @Nested
+    @DisplayName("대량 변경 집합 연산 적용")
+    class BulkApply {
+
+        private static final int LARGE_DIFF = WatchlistService.BULK_APPLY_THRESHOLD + 10;
+
+        @Test
+        @DisplayName("변경이 임계값 미만이면 엔티티 경로로 적용")
+        void 소량_변경은_엔티티_경로() {
+            // given
+            var group = existingGroup(1L);
+            given(kisProperties.userId()).willReturn(TEST_USER_ID);
+            given(kisWatchlistService.getWatchlistGroups())
+                    .willReturn(List.of(new WatchlistGroupResponse.GroupItem("001", "관심그룹1")));
+            given(kisWatchlistService.getStocksByGroup("001")).willReturn(apiStocks(0, 3, "종목"));
+            given(watchlistGroupRepository.findByUserIdAndGroupCodeIn(eq(TEST_USER_ID), any()))
+                    .willReturn(List.of(group));
+
+            // when
+            watchlistService.syncWatchlist();
+
+            // then
+            assertThat(group.getStocks()).hasSize(3);
+            verifyNoInteractions(watchlistStockBulkRepository);
+        }
+
+        @Test
+        @DisplayName("대량 추가는 다중 행 INSERT로 적용")
+        void 대량_추가는_다중행_INSERT() {
+            // given
+            var group = existingGroup(1L);
+            given(kisProperties.userId()).willReturn(TEST_USER_ID);
+            given(kisWatchlistService.getWatchlistGroups())
+                    .willReturn(List.of(new WatchlistGroupResponse.GroupItem("001", "관심그룹1")));
+            given(kisWatchlistService.getStocksByGroup("001")).willReturn(apiStocks(0, LARGE_DIFF, "종목"));
+            given(watchlistGroupRepository.findByUserIdAndGroupCodeIn(eq(TEST_USER_ID), any()))
+                    .willReturn(List.of(group));
+
+            // when
+            watchlistService.syncWatchlist();
+
+            // then
+            verify(watchlistStockBulkRepository).insertAll(eq(1L), stockListCaptor.capture());
+            assertThat(stockListCaptor.getValue()).hasSize(LARGE_DIFF)
+                    .noneMatch(WatchlistStock::isBackfillCompleted);
+            verify(watchlistStockBulkRepository, never()).deleteAllByIdIn(any());
+            verify(watchlistStockBulkRepository, never()).updateStockInfo(any());
+            // 엔티티 컬렉션에는 추가하지 않음 (cascade INSERT 방지)
+            assertThat(group.getStocks()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("대량 삭제/수정은 IN 삭제와 변경된 종목만 배치 UPDATE")
+        void 대량_삭제와_변경분_UPDATE() {
+            // given: DB 종목 LARGE_DIFF개 (0번은 백필 완료)
+            var group = existingGroup(1L);
+            for (int i = 0; i < LARGE_DIFF; i++) {
+                var stock = WatchlistStock.builder()
+                        .stockCode(String.format("%06d", i))
+                        .stockName("종목" + i)
+                        .marketCode(MarketCode.KRX)
+                        .assetType(AssetType.DOMESTIC_STOCK)
+                        .build();
+                ReflectionTestUtils.setField(stock, "id", 100L + i);
+                group.addStock(stock);
+            }
+            group.getStocks().get(0).markBackfillCompleted();
+
+            // API: 0~9번은 이름 유지, 10~(LARGE_DIFF-2)번은 이름 변경, 마지막 종목은 삭제
+            var apiStocks = new ArrayList<>(apiStocks(0, 10, "종목"));
+            apiStocks.addAll(apiStocks(10, LARGE_DIFF - 1, "신종목"));
+
+            given(kisProperties.userId()).willReturn(TEST_USER_ID);
+            given(kisWatchlistService.getWatchlistGroups())
+                    .willReturn(List.of(new WatchlistGroupResponse.GroupItem("001", "관심그룹1")));
+            given(kisWatchlistService.getStocksByGroup("001")).willReturn(apiStocks);
+            given(watchlistGroupRepository.findByUserIdAndGroupCodeIn(eq(TEST_USER_ID), any()))
+                    .willReturn(List.of(group));
+
+            // when
+            watchlistService.syncWatchlist();
+
+            // then
+            verify(watchlistStockBulkRepository).deleteAllByIdIn(List.of(100L + LARGE_DIFF - 1));
+            verify(watchlistStockBulkRepository).updateStockInfo(updateListCaptor.capture());
+            assertThat(updateListCaptor.getValue())
+                    .extracting(WatchlistStockBulkRepository.StockInfoUpdate::id)
+                    .hasSize(LARGE_DIFF - 11)
+                    .doesNotContain(100L);
+            verify(watchlistStockBulkRepository, never()).insertAll(any(), any());
+            assertThat(group.getStocks().get(0).isBackfillCompleted()).isTrue();
+        }
+
+        @Test
+        @DisplayName("신규 그룹은 그룹을 먼저 저장한 뒤 종목 INSERT")
+        void 신규_그룹은_먼저_저장() {
+            // given
+            given(kisProperties.userId()).willReturn(TEST_USER_ID);
+            given(kisWatchlistService.getWatchlistGroups())
+                    .willReturn(List.of(new WatchlistGroupResponse.GroupItem("001", "신규그룹")));
+            given(kisWatchlistService.getStocksByGroup("001")).willReturn(apiStocks(0, LARGE_DIFF, "종목"));
+
+            // when
+            watchlistService.syncWatchlist();
+
+            // then
+            var inOrder = inOrder(watchlistGroupRepository, watchlistStockBulkRepository);
+            inOrder.verify(watchlistGroupRepository).save(any(WatchlistGroup.class));
+            inOrder.verify(watchlistStockBulkRepository).insertAll(any(), stockListCaptor.capture());
+            assertThat(stockListCaptor.getValue()).hasSize(LARGE_DIFF);
+        }
+
+        private WatchlistGroup existingGroup(Long id) {
+            var group = WatchlistGroup.builder()
+                    .userId(TEST_USER_ID)
+                    .groupCode("001")
+                    .groupName("관심그룹1")
+                    .type("1")
+                    .build();
+            ReflectionTestUtils.setField(group, "id", id);
+            return group;
+        }
+
+        private List<WatchlistStockResponse.StockItem> apiStocks(int from, int to, String namePrefix) {
+            return IntStream.range(from, to)
+                    .mapToObj(i -> new WatchlistStockResponse.StockItem(
+                            "J", String.format("%06d", i), namePrefix + i, "KRX"))
+                    .toList();
+        }
+    }
+
+    @Nested
+    @DisplayName("신규 종목 이벤트 발행")
+    class StocksAddedEvent {
+
+        @Test
+        @DisplayName("신규 종목은 그룹 간 중복 없이 한 번의 이벤트로 발행")
+        void 신규_종목_이벤트_발행() {
+            // given
+            given(kisProperties.userId()).willReturn(TEST_USER_ID);
+            given(kisWatchlistService.getWatchlistGroups()).willReturn(List.of(
+                    new WatchlistGroupResponse.GroupItem("001", "관심그룹1"),
+                    new WatchlistGroupResponse.GroupItem("002", "관심그룹2")
+            ));
+            given(kisWatchlistService.getStocksByGroup("001")).willReturn(List.of(
+                    new WatchlistStockResponse.StockItem("J", "005930", "삼성전자", "KRX"),
+                    new WatchlistStockResponse.StockItem("J", "000660", "SK하이닉스", "KRX")
+            ));
+            given(kisWatchlistService.getStocksByGroup("002")).willReturn(List.of(
+                    new WatchlistStockResponse.StockItem("J", "005930", "삼성전자", "KRX")
+            ));
+
+            // when
+            watchlistService.syncWatchlist();
+
+            // then
+            var eventCaptor = ArgumentCaptor.forClass(WatchlistStocksAddedEvent.class);
+            verify(eventPublisher).publishEvent(eventCaptor.capture());
+            assertThat(eventCaptor.getValue().userId()).isEqualTo(TEST_USER_ID);
+            assertThat(eventCaptor.getValue().stockCodes()).containsExactly("005930", "000660");
+        }
+
+        @Test
+        @DisplayName("추가된 종목이 없으면 이벤트를 발행하지 않음")
+        void 신규_종목_없으면_이벤트_미발행() {
+            // given
+            var group = WatchlistGroup.builder()
+                    .userId(TEST_USER_ID)
+                    .groupCode("001")
+                    .groupName("관심그룹1")
+                    .type("1")
+                    .build();
+            group.addStock(WatchlistStock.builder()
+                    .stockCode("005930")
+                    .stockName("삼성전자")
+                    .marketCode(MarketCode.KRX)
+                    .assetType(AssetType.DOMESTIC_STOCK)
+                    .build());
+
+            given(kisProperties.userId()).willReturn(TEST_USER_ID);
+            given(kisWatchlistService.getWatchlistGroups())
+                    .willReturn(List.of(new WatchlistGroupResponse.GroupItem("001", "관심그룹1")));
+            given(kisWatchlistService.getStocksByGroup("001")).willReturn(List.of(
+                    new WatchlistStockResponse.StockItem("J", "005930", "삼성전자", "KRX")));
+            given(watchlistGroupRepository.findByUserIdAndGroupCodeIn(eq(TEST_USER_ID), any()))
+                    .willReturn(List.of(group));
+
+            // when
+            watchlistService.syncWatchlist();
+
+            // then
+            verifyNoInteractions(eventPublisher);
+        }
+    }
+
     @Nested
     @DisplayName("getWatchlistGroups 메소드")
     class GetWatchlistGroups {
@@ -615,7 +1021,7 @@ class WatchlistServiceTest {
         }
 
         @Test
-        @DisplayName("종목조회 예외시 예외 전파")
+        @DisplayName("종목조회 예외시 예외 전파 및 DB 미변경")
         void 종목조회_예외시_예외_전파() {
             // given
             var groupItems = List.of(
@@ -625,8 +1031,6 @@ class WatchlistServiceTest {
 
             given(kisProperties.userId()).willReturn(TEST_USER_ID);
             given(kisWatchlistService.getWatchlistGroups()).willReturn(groupItems);
-            given(watchlistGroupRepository.findByUserIdAndGroupCodeIn(eq(TEST_USER_ID), any()))
-                    .willReturn(Collections.emptyList());
             willThrow(new KisApiException("종목 조회 실패"))
                     .given(kisWatchlistService).getStocksByGroup("001");
 
@@ -634,6 +1038,7 @@ class WatchlistServiceTest {
             assertThatThrownBy(() -> watchlistService.syncWatchlist())
                     .isInstanceOf(KisApiException.class)
                     .hasMessageContaining("종목 조회 실패");
+            verifyNoInteractions(watchlistGroupRepository);
         }
 
         @Test
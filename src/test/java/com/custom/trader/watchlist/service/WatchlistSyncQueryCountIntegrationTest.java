@@ -0,0 +1,130 @@
+package com.custom.trader.watchlist.service;
+
+import com.custom.trader.common.enums.AssetType;
+import com.custom.trader.common.enums.MarketCode;
+import com.custom.trader.kis.config.KisProperties;
+import com.custom.trader.kis.dto.watchlist.WatchlistGroupResponse;
+import com.custom.trader.kis.dto.watchlist.WatchlistStockResponse;
+import com.custom.trader.kis.service.KisWatchlistService;
+import com.custom.trader.testcontainers.MySQLTestcontainersConfig;
+import com.custom.trader.watchlist.entity.WatchlistGroup;
+import com.custom.trader.watchlist.entity.WatchlistStock;
+import com.custom.trader.watchlist.repository.WatchlistGroupRepository;
+import com.custom.trader.watchlist.repository.WatchlistStockRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * 관심종목 동기화의 쿼리 수 통합 테스트.
+ *
+ * <p>목적: 변경된 그룹의 {@code stocks} 컬렉션이 그룹별 LAZY 로딩(N+1) 없이
+ * {@link WatchlistGroupRepository#findWithStocksByIdIn} 한 번으로 초기화되는지 검증합니다.</p>
+ *
+ * <p>테스트 메서드에 트랜잭션을 걸지 않아 syncWatchlist()가 자체 트랜잭션에서
+ * 빈 영속성 컨텍스트로 시작합니다 (운영 스케줄러 실행과 동일).</p>
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(MySQLTestcontainersConfig.class)
+@DisplayName("관심종목 동기화 쿼리 수 통합 테스트")
+class WatchlistSyncQueryCountIntegrationTest {
+
+    private static final String TEST_USER_ID = "testUser";
+    private static final int GROUP_COUNT = 20;
+    private static final int STOCKS_PER_GROUP = 25;
+
+    @Autowired
+    private WatchlistService watchlistService;
+
+    @Autowired
+    private WatchlistGroupRepository watchlistGroupRepository;
+
+    @Autowired
+    private WatchlistStockRepository watchlistStockRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockBean
+    private KisWatchlistService kisWatchlistService;
+
+    @MockBean
+    private KisProperties kisProperties;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        watchlistStockRepository.deleteAll();
+        watchlistGroupRepository.deleteAll();
+        given(kisProperties.userId()).willReturn(TEST_USER_ID);
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        statistics.setStatisticsEnabled(false);
+        watchlistStockRepository.deleteAll();
+        watchlistGroupRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("20개 그룹 × 25개 종목 동기화 시 종목 컬렉션을 그룹별로 로딩하지 않음")
+    void 변경된_그룹의_종목을_단일_쿼리로_로딩() {
+        // given: 지문이 없는(최초 동기화 이전 상태) 그룹 20개 × 종목 25개 저장
+        List<WatchlistGroupResponse.GroupItem> apiGroups = new ArrayList<>();
+        for (int g = 0; g < GROUP_COUNT; g++) {
+            String groupCode = String.format("%03d", g);
+            WatchlistGroup group = WatchlistGroup.builder()
+                    .userId(TEST_USER_ID)
+                    .groupCode(groupCode)
+                    .groupName("그룹" + g)
+                    .type("1")
+                    .build();
+            List<WatchlistStockResponse.StockItem> apiStocks = new ArrayList<>();
+            for (int s = 0; s < STOCKS_PER_GROUP; s++) {
+                String stockCode = String.format("%06d", g * STOCKS_PER_GROUP + s);
+                group.addStock(WatchlistStock.builder()
+                        .stockCode(stockCode)
+                        .stockName("종목" + stockCode)
+                        .marketCode(MarketCode.KRX)
+                        .assetType(AssetType.DOMESTIC_STOCK)
+                        .build());
+                apiStocks.add(new WatchlistStockResponse.StockItem("J", stockCode, "종목" + stockCode, "KRX"));
+            }
+            watchlistGroupRepository.save(group);
+            apiGroups.add(new WatchlistGroupResponse.GroupItem(groupCode, "그룹" + g + "(변경)"));
+            given(kisWatchlistService.getStocksByGroup(groupCode)).willReturn(apiStocks);
+        }
+        given(kisWatchlistService.getWatchlistGroups()).willReturn(apiGroups);
+        statistics.clear();
+
+        // when
+        watchlistService.syncWatchlist();
+
+        // then: 삭제 대상 조회 + 그룹 조회 + 종목 fetch join 조회 = 3 쿼리, 컬렉션 개별 로딩 없음
+        assertThat(statistics.getCollectionFetchCount()).isZero();
+        assertThat(statistics.getQueryExecutionCount()).isEqualTo(3);
+        // 그룹명/지문 UPDATE(그룹당 1건)를 제외한 SELECT는 종목 수와 무관
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(3 + GROUP_COUNT);
+        assertThat(watchlistStockRepository.count()).isEqualTo((long) GROUP_COUNT * STOCKS_PER_GROUP);
+    }
+}